@@ -0,0 +1,80 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Synthetic payloads shared by the benchmarks, generated from a seeded random so every run measures the same data.
+ */
+@UtilityClass
+public class BenchmarkData {
+
+    /**
+     * Rows of double features, as search hits are loaded into a data frame.
+     * @param random random
+     * @param rows number of rows
+     * @param columns number of columns
+     * @return rows
+     */
+    public List<Map<String, Object>> rows(Random random, int rows, int columns) {
+        List<Map<String, Object>> input = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            Map<String, Object> row = new HashMap<>();
+            for (int j = 0; j < columns; j++) {
+                row.put("f" + j, random.nextDouble());
+            }
+            input.add(row);
+        }
+        return input;
+    }
+
+    /**
+     * Text docs of a few sentences, with quotes and new lines which have to be escaped in request bodies.
+     * @param random random
+     * @param docs number of docs
+     * @return docs
+     */
+    public List<String> docs(Random random, int docs) {
+        List<String> input = new ArrayList<>(docs);
+        for (int i = 0; i < docs; i++) {
+            input.add(String.format(Locale.ROOT, "Doc %d: the \"quick\" brown fox %d\njumps over the lazy dog.", i, random.nextInt()));
+        }
+        return input;
+    }
+
+    /**
+     * OpenAI embedding API response.
+     * @param random random
+     * @param docs number of embeddings
+     * @param dimensions dimensions of every embedding
+     * @return response body
+     */
+    public String openAIEmbeddingResponse(Random random, int docs, int dimensions) {
+        StringBuilder response = new StringBuilder("{\"object\":\"list\",\"data\":[");
+        for (int i = 0; i < docs; i++) {
+            if (i > 0) {
+                response.append(',');
+            }
+            response.append("{\"object\":\"embedding\",\"index\":").append(i).append(",\"embedding\":[");
+            for (int j = 0; j < dimensions; j++) {
+                if (j > 0) {
+                    response.append(',');
+                }
+                response.append(random.nextFloat() - 0.5f);
+            }
+            response.append("]}");
+        }
+        return response.append("],\"model\":\"text-embedding-ada-002\",\"usage\":{\"prompt_tokens\":8,\"total_tokens\":8}}").toString();
+    }
+}
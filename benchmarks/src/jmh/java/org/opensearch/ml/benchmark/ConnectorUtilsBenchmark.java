@@ -0,0 +1,106 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.benchmark;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.connector.Connector;
+import org.opensearch.ml.common.connector.ConnectorAction;
+import org.opensearch.ml.common.connector.HttpConnector;
+import org.opensearch.ml.common.connector.MLPostProcessFunction;
+import org.opensearch.ml.common.connector.MLPreProcessFunction;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
+import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.engine.algorithms.remote.ConnectorUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Pre and post processing of a remote text embedding model with the built-in OpenAI functions: docs into request
+ * parameters, and the response body into model tensors.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ConnectorUtilsBenchmark {
+
+    static Connector openAIConnector() {
+        ConnectorAction predictAction = ConnectorAction
+            .builder()
+            .actionType(ConnectorAction.ActionType.PREDICT)
+            .method("POST")
+            .url("https://api.openai.com/v1/embeddings")
+            .requestBody("{ \"input\": ${parameters.input}, \"model\": \"${parameters.model}\", \"user\": \"${parameters.user:-null}\" }")
+            .preProcessFunction(MLPreProcessFunction.TEXT_DOCS_TO_OPENAI_EMBEDDING_INPUT)
+            .postProcessFunction(MLPostProcessFunction.OPENAI_EMBEDDING)
+            .build();
+        return HttpConnector
+            .builder()
+            .name("openai embedding")
+            .version("1")
+            .protocol("http")
+            .parameters(Map.of("model", "text-embedding-ada-002"))
+            .actions(List.of(predictAction))
+            .build();
+    }
+
+    @State(Scope.Benchmark)
+    public static class InputState {
+        @Param({ "1", "32", "256" })
+        public int docs;
+
+        private Connector connector;
+        private MLInput mlInput;
+
+        @Setup
+        public void setup() {
+            connector = openAIConnector();
+            TextDocsInputDataSet dataSet = TextDocsInputDataSet.builder().docs(BenchmarkData.docs(new Random(42), docs)).build();
+            mlInput = MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(dataSet).build();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class OutputState {
+        @Param({ "1", "32", "256" })
+        public int docs;
+
+        @Param({ "384", "1536" })
+        public int dimensions;
+
+        private Connector connector;
+        private String response;
+
+        @Setup
+        public void setup() {
+            connector = openAIConnector();
+            response = BenchmarkData.openAIEmbeddingResponse(new Random(42), docs, dimensions);
+        }
+    }
+
+    @Benchmark
+    public RemoteInferenceInputDataSet processInput(InputState state) {
+        return ConnectorUtils.processInput(state.mlInput, state.connector, new HashMap<>(), null);
+    }
+
+    @Benchmark
+    public ModelTensors processOutput(OutputState state) throws IOException {
+        return ConnectorUtils.processOutput(state.response, state.connector, null, new HashMap<>());
+    }
+}
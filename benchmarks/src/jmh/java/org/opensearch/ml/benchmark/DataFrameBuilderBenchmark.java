@@ -0,0 +1,61 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.benchmark;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.ml.common.dataframe.DataFrame;
+import org.opensearch.ml.common.dataframe.DataFrameBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Building a data frame from search hits, and reading it back from the transport layer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DataFrameBuilderBenchmark {
+    @Param({ "100", "10000" })
+    public int rows;
+
+    @Param({ "2", "32" })
+    public int columns;
+
+    private List<Map<String, Object>> input;
+    private BytesReference serialized;
+
+    @Setup
+    public void setup() throws IOException {
+        input = BenchmarkData.rows(new Random(42), rows, columns);
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            DataFrameBuilder.load(input).writeTo(out);
+            serialized = out.bytes();
+        }
+    }
+
+    @Benchmark
+    public DataFrame load() {
+        return DataFrameBuilder.load(input);
+    }
+
+    @Benchmark
+    public DataFrame loadFromStream() throws IOException {
+        return DataFrameBuilder.load(serialized.streamInput());
+    }
+}
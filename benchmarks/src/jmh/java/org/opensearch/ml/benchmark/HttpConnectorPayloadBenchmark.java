@@ -0,0 +1,49 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.opensearch.ml.common.connector.HttpConnector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.google.gson.Gson;
+
+/**
+ * Substitution of the request parameters into the request body template of the predict action.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HttpConnectorPayloadBenchmark {
+    @Param({ "1", "32", "256" })
+    public int docs;
+
+    private HttpConnector connector;
+    private Map<String, String> parameters;
+
+    @Setup
+    public void setup() {
+        connector = (HttpConnector) ConnectorUtilsBenchmark.openAIConnector();
+        parameters = new HashMap<>(connector.getParameters());
+        parameters.put("input", new Gson().toJson(BenchmarkData.docs(new Random(42), docs)));
+    }
+
+    @Benchmark
+    public String createPredictPayload() {
+        return connector.createPredictPayload(parameters);
+    }
+}
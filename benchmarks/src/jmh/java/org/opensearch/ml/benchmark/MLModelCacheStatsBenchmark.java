@@ -0,0 +1,80 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.opensearch.ml.common.profile.MLPredictStage;
+import org.opensearch.ml.model.MLModelCache;
+import org.opensearch.ml.profile.MLPredictRequestStats;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Latency recording of a deployed model on the predict path, alone and concurrently with the profile API reading the
+ * stats, for the configured monitoring window.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MLModelCacheStatsBenchmark {
+    @Param({ "100", "10000" })
+    public long maxRequestCount;
+
+    private MLModelCache modelCache;
+
+    @Setup
+    public void setup() {
+        modelCache = new MLModelCache();
+        for (int i = 0; i < maxRequestCount; i++) {
+            record();
+        }
+    }
+
+    private void record() {
+        double duration = ThreadLocalRandom.current().nextDouble(100);
+        modelCache.addPredictRequestDuration(duration, maxRequestCount);
+        modelCache.addModelInferenceDuration(duration, maxRequestCount);
+        modelCache.addPredictStageDuration(MLPredictStage.FORWARD, duration, maxRequestCount);
+    }
+
+    @Benchmark
+    public void record_SingleThread() {
+        record();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void record_Contended() {
+        record();
+    }
+
+    @Benchmark
+    @Group("recordWhileReading")
+    @GroupThreads(7)
+    public void recordWhileReading_Record() {
+        record();
+    }
+
+    @Benchmark
+    @Group("recordWhileReading")
+    @GroupThreads(1)
+    public Map<String, MLPredictRequestStats> recordWhileReading_Read() {
+        modelCache.getInferenceStats(true);
+        return modelCache.getPredictStageStats();
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.benchmark;
+
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_EXCLUDE_NODE_NAMES;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_LOCAL_MODEL_ELIGIBLE_NODE_ROLES;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_ML_TASK_PER_NODE;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_ONLY_RUN_ON_ML_NODE;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_PREFER_LOCAL_WORKER;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_REMOTE_MODEL_ELIGIBLE_NODE_ROLES;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_TASK_DISPATCH_POLICY;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.opensearch.Version;
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionType;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.node.DiscoveryNodeRole;
+import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.action.ActionResponse;
+import org.opensearch.core.common.transport.TransportAddress;
+import org.opensearch.ml.action.stats.MLStatsNodeResponse;
+import org.opensearch.ml.action.stats.MLStatsNodesResponse;
+import org.opensearch.ml.cluster.DiscoveryNodeHelper;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.stats.MLNodeLevelStat;
+import org.opensearch.ml.task.MLTaskDispatcher;
+import org.opensearch.test.ClusterServiceUtils;
+import org.opensearch.test.client.NoOpNodeClient;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Worker node selection of the task dispatcher, by dispatch policy and cluster size. The stats action of the least load
+ * policy is answered in place with a fixed response, so the benchmark measures the selection and not the transport.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MLTaskDispatcherBenchmark {
+    @Param({ "3", "30", "300" })
+    public int nodes;
+
+    @Param({ "round_robin", "least_load" })
+    public String policy;
+
+    private ThreadPool threadPool;
+    private ClusterService clusterService;
+    private NoOpNodeClient client;
+    private MLTaskDispatcher dispatcher;
+    private String[] nodeIds;
+
+    @Setup
+    public void setup() {
+        Settings settings = Settings
+            .builder()
+            .put(ML_COMMONS_TASK_DISPATCH_POLICY.getKey(), policy)
+            .put(ML_COMMONS_ONLY_RUN_ON_ML_NODE.getKey(), false)
+            .put(ML_COMMONS_PREDICT_PREFER_LOCAL_WORKER.getKey(), false)
+            .build();
+        Set<Setting<?>> settingsSet = new HashSet<>(ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        settingsSet
+            .addAll(
+                List
+                    .of(
+                        ML_COMMONS_TASK_DISPATCH_POLICY,
+                        ML_COMMONS_MAX_ML_TASK_PER_NODE,
+                        ML_COMMONS_PREDICT_PREFER_LOCAL_WORKER,
+                        ML_COMMONS_ONLY_RUN_ON_ML_NODE,
+                        ML_COMMONS_EXCLUDE_NODE_NAMES,
+                        ML_COMMONS_REMOTE_MODEL_ELIGIBLE_NODE_ROLES,
+                        ML_COMMONS_LOCAL_MODEL_ELIGIBLE_NODE_ROLES
+                    )
+            );
+        ClusterSettings clusterSettings = new ClusterSettings(settings, settingsSet);
+
+        Random random = new Random(42);
+        DiscoveryNodes.Builder discoveryNodes = DiscoveryNodes.builder();
+        List<MLStatsNodeResponse> stats = new ArrayList<>(nodes);
+        nodeIds = new String[nodes];
+        for (int i = 0; i < nodes; i++) {
+            DiscoveryNode node = new DiscoveryNode(
+                "node" + i,
+                "node" + i,
+                new TransportAddress(TransportAddress.META_ADDRESS, 9300 + i),
+                Map.of(),
+                Set.of(DiscoveryNodeRole.DATA_ROLE),
+                Version.CURRENT
+            );
+            discoveryNodes.add(node);
+            nodeIds[i] = node.getId();
+            Map<MLNodeLevelStat, Object> nodeStats = Map
+                .of(
+                    MLNodeLevelStat.ML_EXECUTING_TASK_COUNT,
+                    (long) random.nextInt(10),
+                    MLNodeLevelStat.ML_JVM_HEAP_USAGE,
+                    (long) random.nextInt(85)
+                );
+            stats.add(new MLStatsNodeResponse(node, nodeStats));
+        }
+        discoveryNodes.localNodeId(nodeIds[0]).clusterManagerNodeId(nodeIds[0]);
+        MLStatsNodesResponse statsResponse = new MLStatsNodesResponse(new ClusterName("benchmark"), stats, List.of());
+
+        threadPool = new TestThreadPool(getClass().getSimpleName());
+        clusterService = ClusterServiceUtils.createClusterService(threadPool, discoveryNodes.get(nodeIds[0]), clusterSettings);
+        ClusterServiceUtils
+            .setState(clusterService, ClusterState.builder(new ClusterName("benchmark")).nodes(discoveryNodes).build());
+        client = new NoOpNodeClient(getClass().getSimpleName()) {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <Request extends ActionRequest, Response extends ActionResponse> void doExecute(
+                ActionType<Response> action,
+                Request request,
+                ActionListener<Response> listener
+            ) {
+                listener.onResponse((Response) statsResponse);
+            }
+        };
+        dispatcher = new MLTaskDispatcher(clusterService, client, settings, new DiscoveryNodeHelper(clusterService, settings));
+    }
+
+    @TearDown
+    public void tearDown() {
+        clusterService.close();
+        client.close();
+        ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    public void dispatch(Blackhole blackhole) {
+        dispatcher.dispatch(FunctionName.REMOTE, ActionListener.wrap(blackhole::consume, blackhole::consume));
+    }
+
+    @Benchmark
+    public void dispatchPredictTask(Blackhole blackhole) {
+        dispatcher.dispatchPredictTask(nodeIds, ActionListener.wrap(blackhole::consume, blackhole::consume));
+    }
+}
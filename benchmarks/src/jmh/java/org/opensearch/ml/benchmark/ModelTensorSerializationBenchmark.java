@@ -0,0 +1,91 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.ml.common.output.MLOutput;
+import org.opensearch.ml.common.output.model.MLResultDataType;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Transport and REST serialization of text embedding outputs: one {@link ModelTensors} per doc, each holding a float
+ * embedding of the given dimensions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ModelTensorSerializationBenchmark {
+    @Param({ "1", "32", "256" })
+    public int docs;
+
+    @Param({ "384", "768", "1536" })
+    public int dimensions;
+
+    private ModelTensorOutput output;
+    private BytesReference serialized;
+
+    @Setup
+    public void setup() throws IOException {
+        Random random = new Random(42);
+        List<ModelTensors> outputs = new ArrayList<>(docs);
+        for (int i = 0; i < docs; i++) {
+            Number[] data = new Number[dimensions];
+            for (int j = 0; j < dimensions; j++) {
+                data[j] = random.nextFloat();
+            }
+            ModelTensor tensor = ModelTensor
+                .builder()
+                .name("sentence_embedding")
+                .dataType(MLResultDataType.FLOAT32)
+                .shape(new long[] { dimensions })
+                .data(data)
+                .build();
+            outputs.add(ModelTensors.builder().mlModelTensors(List.of(tensor)).build());
+        }
+        output = ModelTensorOutput.builder().mlModelOutputs(outputs).build();
+        serialized = writeTo();
+    }
+
+    @Benchmark
+    public BytesReference writeTo() throws IOException {
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            output.writeTo(out);
+            return out.bytes();
+        }
+    }
+
+    @Benchmark
+    public MLOutput readFrom() throws IOException {
+        return MLOutput.fromStream(serialized.streamInput());
+    }
+
+    @Benchmark
+    public BytesReference toXContent() throws IOException {
+        XContentBuilder builder = XContentFactory.jsonBuilder();
+        output.toXContent(builder, ToXContent.EMPTY_PARAMS);
+        return BytesReference.bytes(builder);
+    }
+}
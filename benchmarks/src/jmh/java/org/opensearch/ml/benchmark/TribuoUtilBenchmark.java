@@ -0,0 +1,53 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.opensearch.ml.common.dataframe.DataFrame;
+import org.opensearch.ml.common.dataframe.DataFrameBuilder;
+import org.opensearch.ml.engine.contants.TribuoOutputType;
+import org.opensearch.ml.engine.utils.TribuoUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.tribuo.MutableDataset;
+import org.tribuo.clustering.ClusterID;
+import org.tribuo.clustering.ClusteringFactory;
+
+/**
+ * Conversion of a data frame into the Tribuo dataset which the built-in algorithms train and predict on.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TribuoUtilBenchmark {
+    @Param({ "100", "10000" })
+    public int rows;
+
+    @Param({ "2", "32" })
+    public int columns;
+
+    private DataFrame dataFrame;
+    private ClusteringFactory outputFactory;
+
+    @Setup
+    public void setup() {
+        dataFrame = DataFrameBuilder.load(BenchmarkData.rows(new Random(42), rows, columns));
+        outputFactory = new ClusteringFactory();
+    }
+
+    @Benchmark
+    public MutableDataset<ClusterID> generateDataset() {
+        return TribuoUtil.generateDataset(dataFrame, outputFactory, "benchmark", TribuoOutputType.CLUSTERID);
+    }
+}
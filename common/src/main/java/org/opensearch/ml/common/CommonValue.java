@@ -55,10 +55,10 @@ public class CommonValue {
         public static final String ML_MODEL_GROUP_INDEX = ".plugins-ml-model-group";
         public static final String ML_MODEL_INDEX = ".plugins-ml-model";
         public static final String ML_TASK_INDEX = ".plugins-ml-task";
-        public static final Integer ML_MODEL_GROUP_INDEX_SCHEMA_VERSION = 2;
-        public static final Integer ML_MODEL_INDEX_SCHEMA_VERSION = 9;
+        public static final Integer ML_MODEL_GROUP_INDEX_SCHEMA_VERSION = 3;
+        public static final Integer ML_MODEL_INDEX_SCHEMA_VERSION = 10;
         public static final String ML_CONNECTOR_INDEX = ".plugins-ml-connector";
-        public static final Integer ML_TASK_INDEX_SCHEMA_VERSION = 2;
+        public static final Integer ML_TASK_INDEX_SCHEMA_VERSION = 3;
         public static final Integer ML_CONNECTOR_SCHEMA_VERSION = 2;
         public static final String ML_CONFIG_INDEX = ".plugins-ml-config";
         public static final Integer ML_CONFIG_INDEX_SCHEMA_VERSION = 2;
@@ -132,7 +132,10 @@ public class CommonValue {
                         "     \"" + MLModelGroup.CREATED_TIME_FIELD + "\": {\n" +
                         "      \"type\": \"date\", \"format\": \"strict_date_time||epoch_millis\"},\n" +
                         "    \"" + MLModelGroup.LAST_UPDATED_TIME_FIELD + "\": {\n" +
-                        "      \"type\": \"date\", \"format\": \"strict_date_time||epoch_millis\"}\n" +
+                        "      \"type\": \"date\", \"format\": \"strict_date_time||epoch_millis\"},\n" +
+                        "    \"" + MLModelGroup.SERVING_MODEL_ID_FIELD + "\": {\n" +
+                        "      \"type\": \"keyword\"\n" +
+                        "    }\n" +
                         "  }\n" +
                         "}";
 
@@ -238,6 +241,9 @@ public class CommonValue {
                         + MLModel.RATE_LIMITER_FIELD
                         + "\" : {\"type\": \"flat_object\"},\n"
                         + "      \""
+                        + MLModel.IDLE_TTL_IN_MINUTES_FIELD
+                        + "\" : {\"type\": \"integer\"},\n"
+                        + "      \""
                         + MLModel.MODEL_CONTENT_HASH_VALUE_FIELD
                         + "\" : {\"type\": \"keyword\"},\n"
                         + "      \""
@@ -306,6 +312,9 @@ public class CommonValue {
                         + "      \""
                         + MLTask.IS_ASYNC_TASK_FIELD
                         + "\" : {\"type\" : \"boolean\"}, \n"
+                        + "      \""
+                        + MLTask.CHECKPOINT_FIELD
+                        + "\" : {\"type\" : \"object\", \"enabled\": false}, \n"
                         + USER_FIELD_MAPPING
                         + "    }\n"
                         + "}";
@@ -8,6 +8,7 @@ package org.opensearch.ml.common;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
+import org.opensearch.Version;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.commons.authuser.User;
@@ -26,6 +27,7 @@ import org.opensearch.ml.common.model.MetricsCorrelationModelConfig;
 import java.io.IOException;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 import java.util.Locale;
 
@@ -58,6 +60,8 @@ public class MLModel implements ToXContentObject {
     public static final String IS_ENABLED_FIELD = "is_enabled";
     public static final String RATE_LIMITER_FIELD = "rate_limiter";
     public static final String IS_CONTROLLER_ENABLED_FIELD = "is_controller_enabled";
+    // Minutes without predict request after which a deployed model is evicted from memory of a node, 0 means never.
+    public static final String IDLE_TTL_IN_MINUTES_FIELD = "idle_ttl_in_minutes";
     public static final String MODEL_CONFIG_FIELD = "model_config";
     public static final String CREATED_TIME_FIELD = "created_time";
     public static final String LAST_UPDATED_TIME_FIELD = "last_updated_time";
@@ -84,12 +88,17 @@ public class MLModel implements ToXContentObject {
     public static final String IS_HIDDEN_FIELD = "is_hidden";
     public static final String CONNECTOR_FIELD = "connector";
     public static final String CONNECTOR_ID_FIELD = "connector_id";
+    public static final Version MINIMAL_SUPPORTED_VERSION_FOR_BINARY_CHUNK_CONTENT = Version.V_2_13_0;
+    public static final Version MINIMAL_SUPPORTED_VERSION_FOR_IDLE_TTL = Version.V_2_13_0;
 
     private String name;
     private String modelGroupId;
     private FunctionName algorithm;
     private String version;
     private String content;
+    // Content of model chunk doc stored as binary. Chunks registered before binary chunk content is supported have
+    // base64 encoded content instead, use getChunkContent to read both.
+    private byte[] binaryContent;
     private User user;
 
     @Setter
@@ -102,6 +111,8 @@ public class MLModel implements ToXContentObject {
     private Boolean isEnabled;
     private Boolean isControllerEnabled;
     private MLRateLimiter rateLimiter;
+    // null to use the cluster default idle TTL
+    private Integer idleTtlInMinutes;
     private Instant createdTime;
     private Instant lastUpdateTime;
     private Instant lastRegisteredTime;
@@ -134,6 +145,7 @@ public class MLModel implements ToXContentObject {
             FunctionName algorithm,
             String version,
             String content,
+            byte[] binaryContent,
             User user,
             String description,
             MLModelFormat modelFormat,
@@ -143,6 +155,7 @@ public class MLModel implements ToXContentObject {
             Boolean isEnabled,
             Boolean isControllerEnabled,
             MLRateLimiter rateLimiter,
+            Integer idleTtlInMinutes,
             MLModelConfig modelConfig,
             Instant createdTime,
             Instant lastUpdateTime,
@@ -164,6 +177,7 @@ public class MLModel implements ToXContentObject {
         this.algorithm = algorithm;
         this.version = version;
         this.content = content;
+        this.binaryContent = binaryContent;
         this.user = user;
         this.description = description;
         this.modelFormat = modelFormat;
@@ -173,6 +187,7 @@ public class MLModel implements ToXContentObject {
         this.isEnabled = isEnabled;
         this.isControllerEnabled = isControllerEnabled;
         this.rateLimiter = rateLimiter;
+        this.idleTtlInMinutes = idleTtlInMinutes;
         this.modelConfig = modelConfig;
         this.createdTime = createdTime;
         this.lastUpdateTime = lastUpdateTime;
@@ -243,6 +258,12 @@ public class MLModel implements ToXContentObject {
                 connector = Connector.fromStream(input);
             }
             connectorId = input.readOptionalString();
+            if (input.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_BINARY_CHUNK_CONTENT) && input.readBoolean()) {
+                binaryContent = input.readByteArray();
+            }
+            if (input.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_IDLE_TTL)) {
+                idleTtlInMinutes = input.readOptionalInt();
+            }
         }
     }
 
@@ -308,6 +329,28 @@ public class MLModel implements ToXContentObject {
             out.writeBoolean(false);
         }
         out.writeOptionalString(connectorId);
+        if (out.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_BINARY_CHUNK_CONTENT)) {
+            if (binaryContent != null) {
+                out.writeBoolean(true);
+                out.writeByteArray(binaryContent);
+            } else {
+                out.writeBoolean(false);
+            }
+        }
+        if (out.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_IDLE_TTL)) {
+            out.writeOptionalInt(idleTtlInMinutes);
+        }
+    }
+
+    /**
+     * Get the content of a model chunk doc, either stored as binary or as base64 encoded string.
+     * @return chunk content, or null if there is no content
+     */
+    public byte[] getChunkContent() {
+        if (binaryContent != null) {
+            return binaryContent;
+        }
+        return content == null ? null : Base64.getDecoder().decode(content);
     }
 
     @Override
@@ -327,6 +370,9 @@ public class MLModel implements ToXContentObject {
         }
         if (content != null) {
             builder.field(MODEL_CONTENT_FIELD, content);
+        } else if (binaryContent != null) {
+            // written as raw bytes by binary formats like SMILE, as base64 string by JSON
+            builder.field(MODEL_CONTENT_FIELD, binaryContent);
         }
         if (user != null) {
             builder.field(USER, user);
@@ -358,6 +404,9 @@ public class MLModel implements ToXContentObject {
         if (rateLimiter != null) {
             builder.field(RATE_LIMITER_FIELD, rateLimiter);
         }
+        if (idleTtlInMinutes != null) {
+            builder.field(IDLE_TTL_IN_MINUTES_FIELD, idleTtlInMinutes);
+        }
         if (createdTime != null) {
             builder.field(CREATED_TIME_FIELD, createdTime.toEpochMilli());
         }
@@ -417,6 +466,7 @@ public class MLModel implements ToXContentObject {
         String version = null;
         Integer oldVersion = null;
         String content = null;
+        byte[] binaryContent = null;
         String oldContent = null;
         User user = null;
 
@@ -429,6 +479,7 @@ public class MLModel implements ToXContentObject {
         Boolean isEnabled = null;
         Boolean isControllerEnabled = null;
         MLRateLimiter rateLimiter = null;
+        Integer idleTtlInMinutes = null;
         Instant createdTime = null;
         Instant lastUpdateTime = null;
         Instant lastUploadedTime = null;
@@ -462,7 +513,11 @@ public class MLModel implements ToXContentObject {
                     modelGroupId = parser.text();
                     break;
                 case MODEL_CONTENT_FIELD:
-                    content = parser.text();
+                    if (parser.currentToken() == XContentParser.Token.VALUE_EMBEDDED_OBJECT) {
+                        binaryContent = parser.binaryValue();
+                    } else {
+                        content = parser.text();
+                    }
                     break;
                 case OLD_MODEL_CONTENT_FIELD:
                     oldContent = parser.text();
@@ -523,6 +578,9 @@ public class MLModel implements ToXContentObject {
                 case RATE_LIMITER_FIELD:
                     rateLimiter = MLRateLimiter.parse(parser);
                     break;
+                case IDLE_TTL_IN_MINUTES_FIELD:
+                    idleTtlInMinutes = parser.intValue();
+                    break;
                 case PLANNING_WORKER_NODE_COUNT_FIELD:
                     planningWorkerNodeCount = parser.intValue();
                     break;
@@ -582,6 +640,7 @@ public class MLModel implements ToXContentObject {
                 .algorithm(algorithm)
                 .version(version == null ? oldVersion + "" : version)
                 .content(content == null ? oldContent : content)
+                .binaryContent(binaryContent)
                 .user(user)
                 .description(description)
                 .modelFormat(modelFormat)
@@ -592,6 +651,7 @@ public class MLModel implements ToXContentObject {
                 .isEnabled(isEnabled)
                 .isControllerEnabled(isControllerEnabled)
                 .rateLimiter(rateLimiter)
+                .idleTtlInMinutes(idleTtlInMinutes)
                 .createdTime(createdTime)
                 .lastUpdateTime(lastUpdateTime)
                 .lastRegisteredTime(lastRegisteredTime == null ? lastUploadedTime : lastRegisteredTime)
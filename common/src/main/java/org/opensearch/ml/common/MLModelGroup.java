@@ -8,6 +8,7 @@ package org.opensearch.ml.common;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
+import org.opensearch.Version;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.commons.authuser.User;
@@ -36,6 +37,9 @@ public class MLModelGroup implements ToXContentObject {
     public static final String MODEL_GROUP_ID_FIELD = "model_group_id"; //unique ID assigned to each model group
     public static final String CREATED_TIME_FIELD = "created_time"; //model group created time stamp
     public static final String LAST_UPDATED_TIME_FIELD = "last_updated_time"; //updated whenever a new model version is created
+    public static final String SERVING_MODEL_ID_FIELD = "serving_model_id"; //model version predict requests to the model group go to
+
+    public static final Version MINIMAL_SUPPORTED_VERSION_FOR_SERVING_MODEL = Version.V_2_13_0;
 
 
     @Setter
@@ -51,6 +55,7 @@ public class MLModelGroup implements ToXContentObject {
 
     private Instant createdTime;
     private Instant lastUpdatedTime;
+    private String servingModelId;
 
 
     @Builder(toBuilder = true)
@@ -58,7 +63,8 @@ public class MLModelGroup implements ToXContentObject {
                         List<String> backendRoles, User owner, String access,
                         String modelGroupId,
                         Instant createdTime,
-                        Instant lastUpdatedTime) {
+                        Instant lastUpdatedTime,
+                        String servingModelId) {
         this.name = Objects.requireNonNull(name, "model group name must not be null");
         this.description = description;
         this.latestVersion = latestVersion;
@@ -68,6 +74,7 @@ public class MLModelGroup implements ToXContentObject {
         this.modelGroupId = modelGroupId;
         this.createdTime = createdTime;
         this.lastUpdatedTime = lastUpdatedTime;
+        this.servingModelId = servingModelId;
     }
 
 
@@ -87,6 +94,9 @@ public class MLModelGroup implements ToXContentObject {
         modelGroupId = input.readOptionalString();
         createdTime = input.readOptionalInstant();
         lastUpdatedTime = input.readOptionalInstant();
+        if (input.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_SERVING_MODEL)) {
+            servingModelId = input.readOptionalString();
+        }
     }
 
     public void writeTo(StreamOutput out) throws IOException {
@@ -109,6 +119,9 @@ public class MLModelGroup implements ToXContentObject {
         out.writeOptionalString(modelGroupId);
         out.writeOptionalInstant(createdTime);
         out.writeOptionalInstant(lastUpdatedTime);
+        if (out.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_SERVING_MODEL)) {
+            out.writeOptionalString(servingModelId);
+        }
     }
 
     @Override
@@ -137,6 +150,9 @@ public class MLModelGroup implements ToXContentObject {
         if (lastUpdatedTime != null) {
             builder.field(LAST_UPDATED_TIME_FIELD, lastUpdatedTime.toEpochMilli());
         }
+        if (servingModelId != null) {
+            builder.field(SERVING_MODEL_ID_FIELD, servingModelId);
+        }
         builder.endObject();
         return builder;
     }
@@ -151,6 +167,7 @@ public class MLModelGroup implements ToXContentObject {
         String modelGroupId = null;
         Instant createdTime = null;
         Instant lastUpdateTime = null;
+        String servingModelId = null;
 
         ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
         while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
@@ -189,6 +206,9 @@ public class MLModelGroup implements ToXContentObject {
                 case LAST_UPDATED_TIME_FIELD:
                     lastUpdateTime = Instant.ofEpochMilli(parser.longValue());
                     break;
+                case SERVING_MODEL_ID_FIELD:
+                    servingModelId = parser.text();
+                    break;
                 default:
                     parser.skipChildren();
                     break;
@@ -204,6 +224,7 @@ public class MLModelGroup implements ToXContentObject {
                 .modelGroupId(modelGroupId)
                 .createdTime(createdTime)
                 .lastUpdatedTime(lastUpdateTime)
+                .servingModelId(servingModelId)
                 .build();
     }
 
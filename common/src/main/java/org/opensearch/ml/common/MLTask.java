@@ -44,6 +44,8 @@ public class MLTask implements ToXContentObject, Writeable {
     public static final String LAST_UPDATE_TIME_FIELD = "last_update_time";
     public static final String ERROR_FIELD = "error";
     public static final String IS_ASYNC_TASK_FIELD = "is_async";
+    // Resume point of long-running tasks like batch prediction, not part of the task model.
+    public static final String CHECKPOINT_FIELD = "checkpoint";
 
     @Setter
     private String taskId;
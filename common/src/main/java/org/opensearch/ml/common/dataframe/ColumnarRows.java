@@ -0,0 +1,171 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.dataframe;
+
+import lombok.experimental.UtilityClass;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.ml.common.utils.ColumnarCodec;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes rows of a data frame column by column. A column whose values all match the column type is written as
+ * one packed block, other columns (for example with null values) fall back to one column value per cell.
+ */
+@UtilityClass
+class ColumnarRows {
+    private static final byte PACKED = 0;
+    private static final byte CELLS = 1;
+
+    void write(StreamOutput out, ColumnMeta[] columnMetas, List<Row> rows) throws IOException {
+        out.writeVInt(rows.size());
+        for (int col = 0; col < columnMetas.length; col++) {
+            ColumnType columnType = columnMetas[col].getColumnType();
+            if (isPackable(columnType, rows, col)) {
+                out.writeByte(PACKED);
+                if (columnType != ColumnType.NULL) {
+                    ColumnarCodec.writeBlock(out, pack(columnType, rows, col));
+                }
+            } else {
+                out.writeByte(CELLS);
+                for (Row row : rows) {
+                    row.getValue(col).writeTo(out);
+                }
+            }
+        }
+    }
+
+    List<Row> read(StreamInput in, ColumnMeta[] columnMetas) throws IOException {
+        int size = in.readVInt();
+        ColumnValue[][] values = new ColumnValue[size][columnMetas.length];
+        ColumnValueReader reader = new ColumnValueReader();
+        for (int col = 0; col < columnMetas.length; col++) {
+            byte encoding = in.readByte();
+            if (encoding == CELLS) {
+                for (int row = 0; row < size; row++) {
+                    values[row][col] = reader.read(in);
+                }
+            } else if (encoding == PACKED) {
+                ColumnType columnType = columnMetas[col].getColumnType();
+                byte[] bytes = columnType == ColumnType.NULL ? new byte[0] : ColumnarCodec.readBlock(in);
+                unpack(columnType, bytes, values, col);
+            } else {
+                throw new IllegalArgumentException("unknown column encoding: " + encoding);
+            }
+        }
+        List<Row> rows = new ArrayList<>(size);
+        for (ColumnValue[] rowValues : values) {
+            rows.add(new Row(rowValues));
+        }
+        return rows;
+    }
+
+    private boolean isPackable(ColumnType columnType, List<Row> rows, int col) {
+        for (Row row : rows) {
+            if (row.getValue(col).columnType() != columnType) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private byte[] pack(ColumnType columnType, List<Row> rows, int col) throws IOException {
+        int size = rows.size();
+        ByteBuffer buffer;
+        switch (columnType) {
+            case SHORT:
+                buffer = ColumnarCodec.allocate(size * Short.BYTES);
+                for (Row row : rows) {
+                    buffer.putShort(row.getValue(col).shortValue());
+                }
+                return buffer.array();
+            case INTEGER:
+                buffer = ColumnarCodec.allocate(size * Integer.BYTES);
+                for (Row row : rows) {
+                    buffer.putInt(row.getValue(col).intValue());
+                }
+                return buffer.array();
+            case LONG:
+                buffer = ColumnarCodec.allocate(size * Long.BYTES);
+                for (Row row : rows) {
+                    buffer.putLong(row.getValue(col).longValue());
+                }
+                return buffer.array();
+            case FLOAT:
+                buffer = ColumnarCodec.allocate(size * Float.BYTES);
+                for (Row row : rows) {
+                    buffer.putFloat(row.getValue(col).floatValue());
+                }
+                return buffer.array();
+            case DOUBLE:
+                buffer = ColumnarCodec.allocate(size * Double.BYTES);
+                for (Row row : rows) {
+                    buffer.putDouble(row.getValue(col).doubleValue());
+                }
+                return buffer.array();
+            case BOOLEAN:
+                byte[] booleans = new byte[size];
+                for (int i = 0; i < size; i++) {
+                    booleans[i] = (byte) (rows.get(i).getValue(col).booleanValue() ? 1 : 0);
+                }
+                return booleans;
+            case STRING:
+                try (BytesStreamOutput strings = new BytesStreamOutput()) {
+                    for (Row row : rows) {
+                        strings.writeString(row.getValue(col).stringValue());
+                    }
+                    return BytesReference.toBytes(strings.bytes());
+                }
+            default:
+                throw new IllegalArgumentException("unknown type:" + columnType);
+        }
+    }
+
+    private void unpack(ColumnType columnType, byte[] bytes, ColumnValue[][] values, int col) throws IOException {
+        if (columnType == ColumnType.STRING) {
+            try (StreamInput strings = StreamInput.wrap(bytes)) {
+                for (int row = 0; row < values.length; row++) {
+                    values[row][col] = new StringValue(strings.readString());
+                }
+            }
+            return;
+        }
+        ByteBuffer buffer = ColumnarCodec.wrap(bytes);
+        for (int row = 0; row < values.length; row++) {
+            switch (columnType) {
+                case SHORT:
+                    values[row][col] = new ShortValue(buffer.getShort());
+                    break;
+                case INTEGER:
+                    values[row][col] = new IntValue(buffer.getInt());
+                    break;
+                case LONG:
+                    values[row][col] = new LongValue(buffer.getLong());
+                    break;
+                case FLOAT:
+                    values[row][col] = new FloatValue(buffer.getFloat());
+                    break;
+                case DOUBLE:
+                    values[row][col] = new DoubleValue(buffer.getDouble());
+                    break;
+                case BOOLEAN:
+                    values[row][col] = new BooleanValue(buffer.get() != 0);
+                    break;
+                case NULL:
+                    values[row][col] = new NullValue();
+                    break;
+                default:
+                    throw new IllegalArgumentException("unknown type:" + columnType);
+            }
+        }
+    }
+}
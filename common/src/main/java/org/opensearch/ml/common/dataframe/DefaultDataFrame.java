@@ -21,6 +21,7 @@ import lombok.experimental.FieldDefaults;
 import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.ml.common.utils.ColumnarCodec;
 
 import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
 
@@ -47,7 +48,11 @@ public class DefaultDataFrame extends AbstractDataFrame{
     public DefaultDataFrame(StreamInput streamInput) throws IOException {
         super(DataFrameType.DEFAULT);
         this.columnMetas = streamInput.readArray(ColumnMeta::new, ColumnMeta[]::new);
-        this.rows = streamInput.readList(Row::new);
+        if (ColumnarCodec.isColumnarFormatSupported(streamInput.getVersion())) {
+            this.rows = ColumnarRows.read(streamInput, columnMetas);
+        } else {
+            this.rows = streamInput.readList(Row::new);
+        }
     }
 
     @Override
@@ -160,7 +165,11 @@ public class DefaultDataFrame extends AbstractDataFrame{
     public void writeTo(StreamOutput out) throws IOException {
         super.writeTo(out);
         out.writeArray(columnMetas);
-        out.writeList(rows);
+        if (ColumnarCodec.isColumnarFormatSupported(out.getVersion())) {
+            ColumnarRows.write(out, columnMetas, rows);
+        } else {
+            out.writeList(rows);
+        }
     }
 
     public static DefaultDataFrame parse(XContentParser parser) throws IOException {
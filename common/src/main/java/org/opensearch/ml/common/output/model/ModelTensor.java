@@ -14,6 +14,7 @@ import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.ToXContentObject;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.ml.common.utils.ColumnarCodec;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
@@ -194,18 +195,10 @@ public class ModelTensor implements Writeable, ToXContentObject {
             this.shape = in.readLongArray();
         }
         if (in.readBoolean()) {
-            int size = in.readInt();
-            data = new Number[size];
-            if (dataType.isFloating()) {
-                for (int i = 0; i < size; i++) {
-                    data[i] = in.readFloat();
-                }
-            } else if (dataType.isInteger() || dataType.isBoolean()) {
-                for (int i = 0; i < size; i++) {
-                    data[i] = in.readInt();
-                }
+            if (ColumnarCodec.isColumnarFormatSupported(in.getVersion())) {
+                this.data = readPackedData(in, dataType);
             } else {
-                data = null;
+                this.data = readData(in, dataType);
             }
         }
         if (in.readBoolean()) {
@@ -246,15 +239,10 @@ public class ModelTensor implements Writeable, ToXContentObject {
         }
         if (data != null && dataType != null && dataType != MLResultDataType.UNKNOWN) {
             out.writeBoolean(true);
-            out.writeInt(data.length);
-            if (dataType.isFloating()) {
-                for (Number n : data) {
-                    out.writeFloat(n.floatValue());
-                }
-            } else if (dataType.isInteger() || dataType.isBoolean()) {
-                for (Number n : data) {
-                    out.writeInt(n.intValue());
-                }
+            if (ColumnarCodec.isColumnarFormatSupported(out.getVersion())) {
+                writePackedData(out, data, dataType);
+            } else {
+                writeData(out, data, dataType);
             }
         } else {
             out.writeBoolean(false);
@@ -281,4 +269,56 @@ public class ModelTensor implements Writeable, ToXContentObject {
             out.writeBoolean(false);
         }
     }
+
+    private static Number[] readData(StreamInput in, MLResultDataType dataType) throws IOException {
+        int size = in.readInt();
+        Number[] data = new Number[size];
+        if (dataType.isFloating()) {
+            for (int i = 0; i < size; i++) {
+                data[i] = in.readFloat();
+            }
+        } else if (dataType.isInteger() || dataType.isBoolean()) {
+            for (int i = 0; i < size; i++) {
+                data[i] = in.readInt();
+            }
+        } else {
+            data = null;
+        }
+        return data;
+    }
+
+    private static void writeData(StreamOutput out, Number[] data, MLResultDataType dataType) throws IOException {
+        out.writeInt(data.length);
+        if (dataType.isFloating()) {
+            for (Number n : data) {
+                out.writeFloat(n.floatValue());
+            }
+        } else if (dataType.isInteger() || dataType.isBoolean()) {
+            for (Number n : data) {
+                out.writeInt(n.intValue());
+            }
+        }
+    }
+
+    /**
+     * Read data written in the columnar format. Values keep the same types as in the row based format:
+     * floating data is read as Float and integer or boolean data as Integer.
+     */
+    private static Number[] readPackedData(StreamInput in, MLResultDataType dataType) throws IOException {
+        if (dataType.isFloating()) {
+            return ColumnarCodec.unpackFloats(ColumnarCodec.readBlock(in));
+        }
+        if (dataType.isInteger() || dataType.isBoolean()) {
+            return ColumnarCodec.unpackInts(ColumnarCodec.readBlock(in));
+        }
+        return null;
+    }
+
+    private static void writePackedData(StreamOutput out, Number[] data, MLResultDataType dataType) throws IOException {
+        if (dataType.isFloating()) {
+            ColumnarCodec.writeBlock(out, ColumnarCodec.packFloats(data));
+        } else if (dataType.isInteger() || dataType.isBoolean()) {
+            ColumnarCodec.writeBlock(out, ColumnarCodec.packInts(data));
+        }
+    }
 }
@@ -0,0 +1,151 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.profile;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.opensearch.Version;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Latency breakdown of one predict request by stage, in nanoseconds. It's filled by the thread running the request,
+ * see {@link MLPredictStageTimer}, and returned with the predict response. The total time is the time of the request
+ * on the worker node, or the end to end time once the response is back on the coordinating node. The profile also
+ * carries the resources the request used on the worker node: CPU time and heap allocated by the predictor call, and
+ * bytes exchanged with the remote model.
+ */
+public class MLPredictProfile implements ToXContentObject, Writeable {
+    public static final Version MINIMAL_SUPPORTED_VERSION_FOR_PREDICT_PROFILE = Version.V_2_13_0;
+    public static final String PROFILE_FIELD = "profile";
+    public static final String TIME_IN_NANOS_FIELD = "time_in_nanos";
+    public static final String BREAKDOWN_FIELD = "breakdown";
+    public static final String RESOURCES_FIELD = "resources";
+    public static final String CPU_TIME_IN_NANOS_FIELD = "cpu_time_in_nanos";
+    public static final String ALLOCATED_BYTES_FIELD = "allocated_bytes";
+    public static final String REMOTE_BYTES_SENT_FIELD = "remote_bytes_sent";
+    public static final String REMOTE_BYTES_RECEIVED_FIELD = "remote_bytes_received";
+    public static final String INPUT_TOKENS_FIELD = "input_tokens";
+
+    @Getter
+    @Setter
+    private long timeInNanos;
+    private final Map<MLPredictStage, Long> stages = new EnumMap<>(MLPredictStage.class);
+    // thread CPU time of the predictor call
+    @Getter
+    @Setter
+    private long cpuTimeInNanos;
+    // heap allocated by the thread during the predictor call
+    @Getter
+    @Setter
+    private long allocatedBytes;
+    @Getter
+    private long remoteBytesSent;
+    @Getter
+    private long remoteBytesReceived;
+    // tokens produced by the tokenizer of a local model
+    @Getter
+    private long inputTokens;
+
+    public MLPredictProfile() {}
+
+    public MLPredictProfile(StreamInput in) throws IOException {
+        this.timeInNanos = in.readVLong();
+        Map<String, Long> breakdown = in.readMap(StreamInput::readString, StreamInput::readVLong);
+        for (Map.Entry<String, Long> entry : breakdown.entrySet()) {
+            try {
+                stages.put(MLPredictStage.from(entry.getKey()), entry.getValue());
+            } catch (IllegalArgumentException e) {
+                // stage added by a newer node, it's not known here
+            }
+        }
+        this.cpuTimeInNanos = in.readVLong();
+        this.allocatedBytes = in.readVLong();
+        this.remoteBytesSent = in.readVLong();
+        this.remoteBytesReceived = in.readVLong();
+        this.inputTokens = in.readVLong();
+    }
+
+    public void add(MLPredictStage stage, long nanos) {
+        stages.merge(stage, Math.max(0, nanos), Long::sum);
+    }
+
+    public void addRemoteBytes(long sent, long received) {
+        remoteBytesSent += sent;
+        remoteBytesReceived += received;
+    }
+
+    public void addInputTokens(long tokens) {
+        inputTokens += tokens;
+    }
+
+    /**
+     * Check if resource usage was recorded, it's not on nodes which can't measure it and for requests failing early.
+     */
+    public boolean hasResources() {
+        return cpuTimeInNanos > 0 || allocatedBytes > 0 || remoteBytesSent > 0 || remoteBytesReceived > 0;
+    }
+
+    public long getStageNanos(MLPredictStage stage) {
+        return stages.getOrDefault(stage, 0L);
+    }
+
+    /**
+     * Get the time of the recorded stages.
+     *
+     * @return stage to time in nanoseconds, in stage order
+     */
+    public Map<MLPredictStage, Long> getStages() {
+        return Collections.unmodifiableMap(stages);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVLong(timeInNanos);
+        out.writeVInt(stages.size());
+        for (Map.Entry<MLPredictStage, Long> entry : stages.entrySet()) {
+            out.writeString(entry.getKey().getName());
+            out.writeVLong(entry.getValue());
+        }
+        out.writeVLong(cpuTimeInNanos);
+        out.writeVLong(allocatedBytes);
+        out.writeVLong(remoteBytesSent);
+        out.writeVLong(remoteBytesReceived);
+        out.writeVLong(inputTokens);
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        builder.field(TIME_IN_NANOS_FIELD, timeInNanos);
+        builder.startObject(BREAKDOWN_FIELD);
+        for (Map.Entry<MLPredictStage, Long> entry : stages.entrySet()) {
+            builder.field(entry.getKey().getName(), entry.getValue());
+        }
+        builder.endObject();
+        if (inputTokens > 0) {
+            builder.field(INPUT_TOKENS_FIELD, inputTokens);
+        }
+        if (hasResources()) {
+            builder.startObject(RESOURCES_FIELD);
+            builder.field(CPU_TIME_IN_NANOS_FIELD, cpuTimeInNanos);
+            builder.field(ALLOCATED_BYTES_FIELD, allocatedBytes);
+            builder.field(REMOTE_BYTES_SENT_FIELD, remoteBytesSent);
+            builder.field(REMOTE_BYTES_RECEIVED_FIELD, remoteBytesReceived);
+            builder.endObject();
+        }
+        builder.endObject();
+        return builder;
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.profile;
+
+import java.util.Locale;
+
+/**
+ * Stages of a predict request, timed separately to tell where the latency of a request goes.
+ * <ul>
+ * <li><code>DISPATCH</code>: picking the worker node and the hop to it and back, measured on the coordinating node
+ * <li><code>QUEUE</code>: waiting for a thread of the predict thread pool on the worker node
+ * <li><code>PRE_PROCESS</code>: pre-process function of a remote model connector
+ * <li><code>TOKENIZE</code>: translator input processing of a local model, mostly tokenization
+ * <li><code>FORWARD</code>: forward pass of a local model, the predictor time not taken by the other stages
+ * <li><code>REMOTE_HTTP</code>: waiting for the HTTP response of a remote model
+ * <li><code>POST_PROCESS</code>: translator output processing of a local model or post-process function of a connector
+ * <li><code>SERIALIZE</code>: serializing the output on the worker node to send it to the coordinating node
+ * </ul>
+ */
+public enum MLPredictStage {
+    DISPATCH,
+    QUEUE,
+    PRE_PROCESS,
+    TOKENIZE,
+    FORWARD,
+    REMOTE_HTTP,
+    POST_PROCESS,
+    SERIALIZE;
+
+    public String getName() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    public static MLPredictStage from(String name) {
+        try {
+            return MLPredictStage.valueOf(name.toUpperCase(Locale.ROOT));
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Wrong predict stage: " + name);
+        }
+    }
+}
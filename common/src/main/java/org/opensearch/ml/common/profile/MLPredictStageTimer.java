@@ -0,0 +1,88 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.profile;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Times predict stages into the profile attached to the current thread. Stages run deep in connectors and translators
+ * which don't know the request, so the profile is passed through a thread local, which works because a predictor runs
+ * synchronously on the thread calling it. Timing is a no-op on threads without a profile, like model warm up.
+ * <pre>
+ * long startNanos = MLPredictStageTimer.start();
+ * ...
+ * MLPredictStageTimer.stop(MLPredictStage.TOKENIZE, startNanos);
+ * </pre>
+ */
+@UtilityClass
+public class MLPredictStageTimer {
+    private static final ThreadLocal<MLPredictProfile> CURRENT_PROFILE = new ThreadLocal<>();
+
+    public static void attach(MLPredictProfile profile) {
+        CURRENT_PROFILE.set(profile);
+    }
+
+    public static void detach() {
+        CURRENT_PROFILE.remove();
+    }
+
+    /**
+     * Start timing a stage.
+     *
+     * @return start time in nanoseconds, 0 if no profile is attached to the current thread
+     */
+    public static long start() {
+        return CURRENT_PROFILE.get() == null ? 0 : System.nanoTime();
+    }
+
+    /**
+     * Stop timing a stage and add its time to the profile attached to the current thread.
+     *
+     * @param stage predict stage
+     * @param startNanos start time returned by {@link #start()}
+     */
+    public static void stop(MLPredictStage stage, long startNanos) {
+        if (startNanos == 0) {
+            return;
+        }
+        MLPredictProfile profile = CURRENT_PROFILE.get();
+        if (profile != null) {
+            profile.add(stage, System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Check if a profile is attached to the current thread, so callers can skip measuring what nobody records.
+     */
+    public static boolean isProfiling() {
+        return CURRENT_PROFILE.get() != null;
+    }
+
+    /**
+     * Add bytes exchanged with a remote model to the profile attached to the current thread.
+     *
+     * @param sent bytes of the request body
+     * @param received bytes of the response body
+     */
+    public static void addRemoteBytes(long sent, long received) {
+        MLPredictProfile profile = CURRENT_PROFILE.get();
+        if (profile != null) {
+            profile.addRemoteBytes(sent, received);
+        }
+    }
+
+    /**
+     * Add tokens of the model input to the profile attached to the current thread.
+     *
+     * @param tokens number of tokens
+     */
+    public static void addInputTokens(long tokens) {
+        MLPredictProfile profile = CURRENT_PROFILE.get();
+        if (profile != null) {
+            profile.addInputTokens(tokens);
+        }
+    }
+}
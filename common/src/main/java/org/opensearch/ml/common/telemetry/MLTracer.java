@@ -0,0 +1,174 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.telemetry;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.telemetry.tracing.Span;
+import org.opensearch.telemetry.tracing.SpanCreationContext;
+import org.opensearch.telemetry.tracing.SpanScope;
+import org.opensearch.telemetry.tracing.Tracer;
+import org.opensearch.telemetry.tracing.attributes.Attributes;
+import org.opensearch.telemetry.tracing.noop.NoopTracer;
+
+/**
+ * Creates the spans of ML requests with the OpenSearch telemetry tracer, which exports them when tracing is enabled on the
+ * node. The tracer is only known after the components of the plugin are created, spans are no-ops until it's bound.
+ * The current span is kept in the thread context, so it follows requests across thread pools and transport hops, and
+ * it's sent to remote models as the W3C "traceparent" header the telemetry would send to another node.
+ */
+public class MLTracer {
+    public static final String TRACEPARENT_HEADER = "traceparent";
+
+    public static final String PREDICT_SPAN = "ml.predict";
+    public static final String DISPATCH_SPAN = "ml.predict.dispatch";
+    public static final String TRANSPORT_SPAN = "ml.predict.transport";
+    public static final String TASK_SPAN = "ml.predict.task";
+    public static final String CONNECTOR_HTTP_SPAN = "ml.connector.http";
+
+    public static final String MODEL_ID_ATTRIBUTE = "ml.model_id";
+    public static final String FUNCTION_NAME_ATTRIBUTE = "ml.function_name";
+    public static final String NODE_ID_ATTRIBUTE = "ml.node_id";
+    public static final String TARGET_NODE_ID_ATTRIBUTE = "ml.target_node_id";
+    public static final String DISPATCH_PATH_ATTRIBUTE = "ml.dispatch_path";
+    public static final String CONNECTOR_PROTOCOL_ATTRIBUTE = "ml.connector.protocol";
+    public static final String HTTP_METHOD_ATTRIBUTE = "http.method";
+    public static final String HTTP_HOST_ATTRIBUTE = "http.host";
+    public static final String HTTP_STATUS_CODE_ATTRIBUTE = "http.status_code";
+
+    // tracer of the connectors created without one, never bound
+    public static final MLTracer NOOP = new MLTracer();
+
+    private static final Pattern TRACE_ID_PATTERN = Pattern.compile("[0-9a-f]{32}");
+    private static final Pattern SPAN_ID_PATTERN = Pattern.compile("[0-9a-f]{16}");
+
+    private volatile Tracer tracer = NoopTracer.INSTANCE;
+    private volatile ThreadContext threadContext;
+
+    /**
+     * Create the spans with the tracer of the node.
+     *
+     * @param tracer        telemetry tracer
+     * @param threadContext thread context of the node, which propagates the current span
+     */
+    public void bind(Tracer tracer, ThreadContext threadContext) {
+        this.tracer = tracer;
+        this.threadContext = threadContext;
+    }
+
+    /**
+     * Start a span of work done by this node, child of the current span.
+     *
+     * @param name       span name
+     * @param attributes span attribute names and values, in pairs, null values are skipped
+     * @return span to end once the work is done
+     */
+    public Span startSpan(String name, String... attributes) {
+        return tracer.startSpan(SpanCreationContext.internal().name(name).attributes(toAttributes(attributes)));
+    }
+
+    /**
+     * Start a span of a call to another node or to a remote service, child of the current span.
+     *
+     * @param name       span name
+     * @param attributes span attribute names and values, in pairs, null values are skipped
+     * @return span to end once the response is received
+     */
+    public Span startClientSpan(String name, String... attributes) {
+        return tracer.startSpan(SpanCreationContext.client().name(name).attributes(toAttributes(attributes)));
+    }
+
+    /**
+     * Make a span the current span of the thread context until the scope is closed, so the spans started meanwhile, on
+     * this thread or on the threads and nodes the thread context is passed to, are its children.
+     *
+     * @param span span
+     * @return scope to close
+     */
+    public SpanScope withSpanInScope(Span span) {
+        return tracer.withSpanInScope(span);
+    }
+
+    /**
+     * Wrap a listener to end a span when it completes, before calling the listener. Failures are recorded on the span.
+     *
+     * @param span     span
+     * @param listener listener
+     * @return wrapped listener
+     */
+    public <T> ActionListener<T> endSpanOnCompletion(Span span, ActionListener<T> listener) {
+        return new ActionListener<>() {
+            @Override
+            public void onResponse(T response) {
+                span.endSpan();
+                listener.onResponse(response);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                span.setError(e);
+                span.endSpan();
+                listener.onFailure(e);
+            }
+        };
+    }
+
+    /**
+     * Build the W3C trace context header of a span, to make it the parent of the spans of a remote service. The span
+     * doesn't expose whether it's sampled, so the header is taken from the headers the thread context propagates to
+     * other nodes while the span is current, whose trace flags carry the sampling decision of the telemetry.
+     *
+     * @param span span
+     * @return "traceparent" header value, null if the span isn't recorded or the tracer isn't bound
+     */
+    public String traceparent(Span span) {
+        ThreadContext threadContext = this.threadContext;
+        String traceId = span.getTraceId();
+        String spanId = span.getSpanId();
+        // no-op spans don't have valid ids
+        if (threadContext == null
+            || traceId == null
+            || spanId == null
+            || !TRACE_ID_PATTERN.matcher(traceId).matches()
+            || !SPAN_ID_PATTERN.matcher(spanId).matches()) {
+            return null;
+        }
+        try (SpanScope scope = tracer.withSpanInScope(span); BytesStreamOutput out = new BytesStreamOutput()) {
+            threadContext.writeTo(out);
+            return ThreadContext.readHeadersFromStream(out.bytes().streamInput()).v1().get(TRACEPARENT_HEADER);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Check if headers, like the headers of a connector, already have a "traceparent" header, which is sent as is.
+     *
+     * @param headers headers, can be null
+     * @return true if there is a "traceparent" header, in any case
+     */
+    public static boolean hasTraceparent(Map<String, ?> headers) {
+        return headers != null && headers.keySet().stream().anyMatch(TRACEPARENT_HEADER::equalsIgnoreCase);
+    }
+
+    private static Attributes toAttributes(String... attributes) {
+        if (attributes.length % 2 != 0) {
+            throw new IllegalArgumentException("Span attributes must be pairs of names and values");
+        }
+        Attributes spanAttributes = Attributes.create();
+        for (int i = 0; i < attributes.length; i += 2) {
+            if (attributes[i + 1] != null) {
+                spanAttributes.addAttribute(attributes[i], attributes[i + 1]);
+            }
+        }
+        return spanAttributes;
+    }
+}
@@ -7,8 +7,13 @@ package org.opensearch.ml.common.transport;
 
 import lombok.Builder;
 import lombok.Getter;
+import lombok.Setter;
 import lombok.ToString;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.action.ActionResponse;
+import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.io.stream.InputStreamStreamInput;
 import org.opensearch.core.common.io.stream.OutputStreamStreamOutput;
 import org.opensearch.core.common.io.stream.StreamInput;
@@ -16,31 +21,59 @@ import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.xcontent.ToXContentObject;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.ml.common.output.MLOutput;
+import org.opensearch.ml.common.profile.MLPredictProfile;
+import org.opensearch.ml.common.profile.MLPredictStage;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.Map;
+
+import static org.opensearch.ml.common.profile.MLPredictProfile.MINIMAL_SUPPORTED_VERSION_FOR_PREDICT_PROFILE;
+import static org.opensearch.ml.common.profile.MLPredictProfile.PROFILE_FIELD;
 
 @Getter
 @ToString
 public class MLTaskResponse extends ActionResponse implements ToXContentObject {
 
     MLOutput output;
+    // latency breakdown of a predict request, returned to the coordinating node and to the user if asked for
+    @Setter
+    MLPredictProfile profile;
 
-    @Builder
     public MLTaskResponse(MLOutput output) {
+        this(output, null);
+    }
+
+    @Builder
+    public MLTaskResponse(MLOutput output, MLPredictProfile profile) {
         this.output = output;
+        this.profile = profile;
     }
 
     public MLTaskResponse(StreamInput in) throws IOException {
         super(in);
         output = MLOutput.fromStream(in);
+        if (in.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_PREDICT_PROFILE) && in.readBoolean()) {
+            profile = new MLPredictProfile(in);
+        }
     }
 
     @Override
     public void writeTo(StreamOutput out) throws IOException {
+        long startNanos = System.nanoTime();
         output.writeTo(out);
+        if (out.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_PREDICT_PROFILE)) {
+            if (profile != null) {
+                // the output is written first, so the profile can carry the time it took
+                profile.add(MLPredictStage.SERIALIZE, System.nanoTime() - startNanos);
+                out.writeBoolean(true);
+                profile.writeTo(out);
+            } else {
+                out.writeBoolean(false);
+            }
+        }
     }
 
     public static MLTaskResponse fromActionResponse(ActionResponse actionResponse) {
@@ -61,6 +94,19 @@ public class MLTaskResponse extends ActionResponse implements ToXContentObject {
 
     @Override
     public XContentBuilder toXContent(final XContentBuilder builder, final Params params) throws IOException {
-        return output.toXContent(builder, params);
+        if (profile == null) {
+            return output.toXContent(builder, params);
+        }
+        // The output renders a whole object, so its fields are copied into the response object next to the profile.
+        // Only predict requests asking for the profile pay for the copy.
+        BytesReference outputBytes = BytesReference.bytes(output.toXContent(XContentFactory.jsonBuilder(), params));
+        Map<String, Object> outputMap = XContentHelper.convertToMap(outputBytes, true, XContentType.JSON).v2();
+        builder.startObject();
+        for (Map.Entry<String, Object> entry : outputMap.entrySet()) {
+            builder.field(entry.getKey(), entry.getValue());
+        }
+        builder.field(PROFILE_FIELD, profile);
+        builder.endObject();
+        return builder;
     }
 }
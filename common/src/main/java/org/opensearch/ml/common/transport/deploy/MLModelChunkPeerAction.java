@@ -0,0 +1,20 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.deploy;
+
+import org.opensearch.action.ActionType;
+
+/**
+ * Node to node action to read a model chunk from a peer node which is deploying or has deployed the same model.
+ */
+public class MLModelChunkPeerAction extends ActionType<MLModelChunkPeerResponse> {
+    public static final MLModelChunkPeerAction INSTANCE = new MLModelChunkPeerAction();
+    public static final String NAME = "cluster:admin/opensearch/mlinternal/model_chunk";
+
+    private MLModelChunkPeerAction() {
+        super(NAME, MLModelChunkPeerResponse::new);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.deploy;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.core.common.io.stream.InputStreamStreamInput;
+import org.opensearch.core.common.io.stream.OutputStreamStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import static org.opensearch.action.ValidateActions.addValidationError;
+
+@Getter
+@ToString
+public class MLModelChunkPeerRequest extends ActionRequest {
+
+    private final String modelId;
+    private final String modelContentHash;
+    private final int chunkNumber;
+
+    @Builder
+    public MLModelChunkPeerRequest(String modelId, String modelContentHash, int chunkNumber) {
+        this.modelId = modelId;
+        this.modelContentHash = modelContentHash;
+        this.chunkNumber = chunkNumber;
+    }
+
+    public MLModelChunkPeerRequest(StreamInput in) throws IOException {
+        super(in);
+        this.modelId = in.readString();
+        this.modelContentHash = in.readString();
+        this.chunkNumber = in.readVInt();
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        ActionRequestValidationException exception = null;
+        if (modelId == null) {
+            exception = addValidationError("Model id can't be null", exception);
+        }
+        if (modelContentHash == null) {
+            exception = addValidationError("Model content hash can't be null", exception);
+        }
+        if (chunkNumber < 0) {
+            exception = addValidationError("Chunk number can't be negative", exception);
+        }
+        return exception;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeString(modelId);
+        out.writeString(modelContentHash);
+        out.writeVInt(chunkNumber);
+    }
+
+    public static MLModelChunkPeerRequest fromActionRequest(ActionRequest actionRequest) {
+        if (actionRequest instanceof MLModelChunkPeerRequest) {
+            return (MLModelChunkPeerRequest) actionRequest;
+        }
+
+        try (ByteArrayOutputStream baos = new ByteArrayOutputStream();
+             OutputStreamStreamOutput osso = new OutputStreamStreamOutput(baos)) {
+            actionRequest.writeTo(osso);
+            try (StreamInput input = new InputStreamStreamInput(new ByteArrayInputStream(baos.toByteArray()))) {
+                return new MLModelChunkPeerRequest(input);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to parse ActionRequest into MLModelChunkPeerRequest", e);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.deploy;
+
+import lombok.Getter;
+import org.opensearch.core.action.ActionResponse;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+import java.io.IOException;
+
+@Getter
+public class MLModelChunkPeerResponse extends ActionResponse {
+
+    private final BytesReference content;
+
+    public MLModelChunkPeerResponse(byte[] content) {
+        this.content = new BytesArray(content);
+    }
+
+    public MLModelChunkPeerResponse(StreamInput in) throws IOException {
+        super(in);
+        this.content = in.readBytesReference();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeBytesReference(content);
+    }
+}
@@ -14,6 +14,7 @@ import org.opensearch.core.common.io.stream.Writeable;
 import org.opensearch.core.xcontent.ToXContentObject;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.connector.Connector;
 import org.opensearch.ml.common.model.MLModelConfig;
 import org.opensearch.ml.common.controller.MLRateLimiter;
@@ -36,6 +37,7 @@ public class MLUpdateModelInput implements ToXContentObject, Writeable {
     public static final String MODEL_GROUP_ID_FIELD = "model_group_id"; // optional
     public static final String IS_ENABLED_FIELD = "is_enabled"; // optional
     public static final String RATE_LIMITER_FIELD = "rate_limiter"; // optional
+    public static final String IDLE_TTL_IN_MINUTES_FIELD = "idle_ttl_in_minutes"; // optional
     public static final String MODEL_CONFIG_FIELD = "model_config"; // optional
     public static final String UPDATED_CONNECTOR_FIELD = "updated_connector"; // passively set when updating the
                                                                               // internal connector
@@ -52,6 +54,7 @@ public class MLUpdateModelInput implements ToXContentObject, Writeable {
     private String modelGroupId;
     private Boolean isEnabled;
     private MLRateLimiter rateLimiter;
+    private Integer idleTtlInMinutes;
     private MLModelConfig modelConfig;
     private Connector updatedConnector;
     private String connectorId;
@@ -60,7 +63,7 @@ public class MLUpdateModelInput implements ToXContentObject, Writeable {
 
     @Builder(toBuilder = true)
     public MLUpdateModelInput(String modelId, String description, String version, String name, String modelGroupId,
-            Boolean isEnabled, MLRateLimiter rateLimiter, MLModelConfig modelConfig,
+            Boolean isEnabled, MLRateLimiter rateLimiter, Integer idleTtlInMinutes, MLModelConfig modelConfig,
             Connector updatedConnector, String connectorId, MLCreateConnectorInput connector, Instant lastUpdateTime) {
         this.modelId = modelId;
         this.description = description;
@@ -69,6 +72,7 @@ public class MLUpdateModelInput implements ToXContentObject, Writeable {
         this.modelGroupId = modelGroupId;
         this.isEnabled = isEnabled;
         this.rateLimiter = rateLimiter;
+        this.idleTtlInMinutes = idleTtlInMinutes;
         this.modelConfig = modelConfig;
         this.updatedConnector = updatedConnector;
         this.connectorId = connectorId;
@@ -97,6 +101,9 @@ public class MLUpdateModelInput implements ToXContentObject, Writeable {
             connector = new MLCreateConnectorInput(in);
         }
         lastUpdateTime = in.readOptionalInstant();
+        if (in.getVersion().onOrAfter(MLModel.MINIMAL_SUPPORTED_VERSION_FOR_IDLE_TTL)) {
+            idleTtlInMinutes = in.readOptionalInt();
+        }
     }
 
     @Override
@@ -121,6 +128,9 @@ public class MLUpdateModelInput implements ToXContentObject, Writeable {
         if (rateLimiter != null) {
             builder.field(RATE_LIMITER_FIELD, rateLimiter);
         }
+        if (idleTtlInMinutes != null) {
+            builder.field(IDLE_TTL_IN_MINUTES_FIELD, idleTtlInMinutes);
+        }
         if (modelConfig != null) {
             builder.field(MODEL_CONFIG_FIELD, modelConfig);
         }
@@ -161,6 +171,9 @@ public class MLUpdateModelInput implements ToXContentObject, Writeable {
         if (rateLimiter != null) {
             builder.field(RATE_LIMITER_FIELD, rateLimiter);
         }
+        if (idleTtlInMinutes != null) {
+            builder.field(IDLE_TTL_IN_MINUTES_FIELD, idleTtlInMinutes);
+        }
         if (modelConfig != null) {
             builder.field(MODEL_CONFIG_FIELD, modelConfig);
         }
@@ -212,6 +225,9 @@ public class MLUpdateModelInput implements ToXContentObject, Writeable {
             out.writeBoolean(false);
         }
         out.writeOptionalInstant(lastUpdateTime);
+        if (out.getVersion().onOrAfter(MLModel.MINIMAL_SUPPORTED_VERSION_FOR_IDLE_TTL)) {
+            out.writeOptionalInt(idleTtlInMinutes);
+        }
     }
 
     public static MLUpdateModelInput parse(XContentParser parser) throws IOException {
@@ -222,6 +238,7 @@ public class MLUpdateModelInput implements ToXContentObject, Writeable {
         String modelGroupId = null;
         Boolean isEnabled = null;
         MLRateLimiter rateLimiter = null;
+        Integer idleTtlInMinutes = null;
         MLModelConfig modelConfig = null;
         Connector updatedConnector = null;
         String connectorId = null;
@@ -248,6 +265,12 @@ public class MLUpdateModelInput implements ToXContentObject, Writeable {
                 case RATE_LIMITER_FIELD:
                     rateLimiter = MLRateLimiter.parse(parser);
                     break;
+                case IDLE_TTL_IN_MINUTES_FIELD:
+                    idleTtlInMinutes = parser.intValue();
+                    if (idleTtlInMinutes < 0) {
+                        throw new IllegalArgumentException(IDLE_TTL_IN_MINUTES_FIELD + " must not be negative");
+                    }
+                    break;
                 case MODEL_CONFIG_FIELD:
                     modelConfig = TextEmbeddingModelConfig.parse(parser);
                     break;
@@ -265,6 +288,6 @@ public class MLUpdateModelInput implements ToXContentObject, Writeable {
         // Model ID can only be set through RestRequest. Model version can only be set
         // automatically.
         return new MLUpdateModelInput(modelId, description, version, name, modelGroupId, isEnabled, rateLimiter,
-                modelConfig, updatedConnector, connectorId, connector, lastUpdateTime);
+                idleTtlInMinutes, modelConfig, updatedConnector, connectorId, connector, lastUpdateTime);
     }
 }
\ No newline at end of file
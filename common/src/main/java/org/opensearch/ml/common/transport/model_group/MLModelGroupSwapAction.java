@@ -0,0 +1,17 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.model_group;
+
+import org.opensearch.action.ActionType;
+
+public class MLModelGroupSwapAction extends ActionType<MLModelGroupSwapResponse> {
+    public static final MLModelGroupSwapAction INSTANCE = new MLModelGroupSwapAction();
+    public static final String NAME = "cluster:admin/opensearch/ml/model_groups/swap";
+
+    private MLModelGroupSwapAction() {
+        super(NAME, MLModelGroupSwapResponse::new);
+    }
+}
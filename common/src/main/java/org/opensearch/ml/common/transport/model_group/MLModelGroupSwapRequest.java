@@ -0,0 +1,164 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.model_group;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.core.common.io.stream.InputStreamStreamInput;
+import org.opensearch.core.common.io.stream.OutputStreamStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.xcontent.XContentParser;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.opensearch.action.ValidateActions.addValidationError;
+import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+
+/**
+ * Request to move predict traffic of a model group to another model version. The new version is deployed next to the
+ * serving one and warmed up with the warm up docs before the model group starts serving it, then the previous version
+ * is undeployed once its in-flight requests are done.
+ */
+@Getter
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@ToString
+public class MLModelGroupSwapRequest extends ActionRequest {
+    public static final String MODEL_ID_FIELD = "model_id";
+    public static final String WARM_UP_DOCS_FIELD = "warm_up_docs";
+    public static final String WARM_UP_BATCH_SIZE_FIELD = "warm_up_batch_size";
+    public static final String WARM_UP_ROUNDS_FIELD = "warm_up_rounds";
+
+    public static final int DEFAULT_WARM_UP_BATCH_SIZE = 32;
+    public static final int MAX_WARM_UP_BATCH_SIZE = 1000;
+    public static final int MAX_WARM_UP_DOCS = 10000;
+    public static final int MAX_WARM_UP_ROUNDS = 100;
+
+    String modelGroupId;
+    // Model version to serve, must belong to the model group.
+    String modelId;
+    // Text docs predicted by each worker node of the new model version before it serves, empty means no warm up.
+    List<String> warmUpDocs;
+    int warmUpBatchSize;
+    int warmUpRounds;
+
+    @Builder(toBuilder = true)
+    public MLModelGroupSwapRequest(
+        String modelGroupId,
+        String modelId,
+        List<String> warmUpDocs,
+        Integer warmUpBatchSize,
+        Integer warmUpRounds
+    ) {
+        this.modelGroupId = modelGroupId;
+        this.modelId = modelId;
+        this.warmUpDocs = warmUpDocs == null ? List.of() : warmUpDocs;
+        this.warmUpBatchSize = warmUpBatchSize == null ? DEFAULT_WARM_UP_BATCH_SIZE : warmUpBatchSize;
+        this.warmUpRounds = warmUpRounds == null ? 1 : warmUpRounds;
+    }
+
+    public MLModelGroupSwapRequest(StreamInput in) throws IOException {
+        super(in);
+        this.modelGroupId = in.readString();
+        this.modelId = in.readString();
+        this.warmUpDocs = in.readStringList();
+        this.warmUpBatchSize = in.readInt();
+        this.warmUpRounds = in.readInt();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeString(modelGroupId);
+        out.writeString(modelId);
+        out.writeStringCollection(warmUpDocs);
+        out.writeInt(warmUpBatchSize);
+        out.writeInt(warmUpRounds);
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        ActionRequestValidationException exception = null;
+        if (modelGroupId == null) {
+            exception = addValidationError("model group id can't be null", exception);
+        }
+        if (modelId == null) {
+            exception = addValidationError("ML model id can't be null", exception);
+        }
+        if (warmUpDocs.size() > MAX_WARM_UP_DOCS) {
+            exception = addValidationError("at most " + MAX_WARM_UP_DOCS + " warm up docs are allowed", exception);
+        }
+        if (warmUpBatchSize <= 0 || warmUpBatchSize > MAX_WARM_UP_BATCH_SIZE) {
+            exception = addValidationError("warm up batch size must be between 1 and " + MAX_WARM_UP_BATCH_SIZE, exception);
+        }
+        if (warmUpRounds <= 0 || warmUpRounds > MAX_WARM_UP_ROUNDS) {
+            exception = addValidationError("warm up rounds must be between 1 and " + MAX_WARM_UP_ROUNDS, exception);
+        }
+        return exception;
+    }
+
+    public static MLModelGroupSwapRequest parse(XContentParser parser, String modelGroupId) throws IOException {
+        String modelId = null;
+        List<String> warmUpDocs = null;
+        Integer warmUpBatchSize = null;
+        Integer warmUpRounds = null;
+
+        ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
+        while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
+            String fieldName = parser.currentName();
+            parser.nextToken();
+
+            switch (fieldName) {
+                case MODEL_ID_FIELD:
+                    modelId = parser.text();
+                    break;
+                case WARM_UP_DOCS_FIELD:
+                    warmUpDocs = new ArrayList<>();
+                    ensureExpectedToken(XContentParser.Token.START_ARRAY, parser.currentToken(), parser);
+                    while (parser.nextToken() != XContentParser.Token.END_ARRAY) {
+                        warmUpDocs.add(parser.text());
+                    }
+                    break;
+                case WARM_UP_BATCH_SIZE_FIELD:
+                    warmUpBatchSize = parser.intValue(false);
+                    break;
+                case WARM_UP_ROUNDS_FIELD:
+                    warmUpRounds = parser.intValue(false);
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+            }
+        }
+        return new MLModelGroupSwapRequest(modelGroupId, modelId, warmUpDocs, warmUpBatchSize, warmUpRounds);
+    }
+
+    public static MLModelGroupSwapRequest fromActionRequest(ActionRequest actionRequest) {
+        if (actionRequest instanceof MLModelGroupSwapRequest) {
+            return (MLModelGroupSwapRequest) actionRequest;
+        }
+
+        try (ByteArrayOutputStream baos = new ByteArrayOutputStream();
+             OutputStreamStreamOutput osso = new OutputStreamStreamOutput(baos)) {
+            actionRequest.writeTo(osso);
+            try (StreamInput input = new InputStreamStreamInput(new ByteArrayInputStream(baos.toByteArray()))) {
+                return new MLModelGroupSwapRequest(input);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to parse ActionRequest into MLModelGroupSwapRequest", e);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.prediction;
+
+import org.opensearch.action.ActionType;
+
+public class MLBatchPredictionAction extends ActionType<MLBatchPredictionResponse> {
+    public static final MLBatchPredictionAction INSTANCE = new MLBatchPredictionAction();
+    public static final String NAME = "cluster:admin/opensearch/ml/batch_predict";
+
+    private MLBatchPredictionAction() {
+        super(NAME, MLBatchPredictionResponse::new);
+    }
+}
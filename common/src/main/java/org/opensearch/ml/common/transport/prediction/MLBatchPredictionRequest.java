@@ -0,0 +1,230 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.prediction;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.core.common.io.stream.InputStreamStreamInput;
+import org.opensearch.core.common.io.stream.OutputStreamStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.index.query.QueryBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import static org.opensearch.action.ValidateActions.addValidationError;
+import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+import static org.opensearch.index.query.AbstractQueryBuilder.parseInnerQueryBuilder;
+
+/**
+ * Request to run a deployed model over documents of an index and write the model output back to documents.
+ * Documents are read in pages sorted by id, so a failed job can be resumed from the checkpoint of its task.
+ */
+@Getter
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@ToString
+public class MLBatchPredictionRequest extends ActionRequest {
+    public static final String SOURCE_INDEX_FIELD = "source_index";
+    public static final String QUERY_FIELD = "query";
+    public static final String INPUT_FIELD_FIELD = "input_field";
+    public static final String TARGET_INDEX_FIELD = "target_index";
+    public static final String OUTPUT_FIELD_FIELD = "output_field";
+    public static final String BATCH_SIZE_FIELD = "batch_size";
+    public static final String CONCURRENCY_FIELD = "concurrency";
+    public static final String MAX_DOCS_PER_SECOND_FIELD = "max_docs_per_second";
+    public static final String RESUME_TASK_ID_FIELD = "resume_task_id";
+
+    public static final int DEFAULT_BATCH_SIZE = 32;
+    public static final int MAX_BATCH_SIZE = 1000;
+
+    String modelId;
+    String sourceIndex;
+    QueryBuilder query;
+    String inputField;
+    // Index to write output to, null means write back to the source index.
+    String targetIndex;
+    String outputField;
+    int batchSize;
+    // Number of batches predicted at the same time, null means one per worker node of the model.
+    Integer concurrency;
+    // Null means no throttling.
+    Integer maxDocsPerSecond;
+    String resumeTaskId;
+
+    @Builder(toBuilder = true)
+    public MLBatchPredictionRequest(
+        String modelId,
+        String sourceIndex,
+        QueryBuilder query,
+        String inputField,
+        String targetIndex,
+        String outputField,
+        Integer batchSize,
+        Integer concurrency,
+        Integer maxDocsPerSecond,
+        String resumeTaskId
+    ) {
+        this.modelId = modelId;
+        this.sourceIndex = sourceIndex;
+        this.query = query;
+        this.inputField = inputField;
+        this.targetIndex = targetIndex;
+        this.outputField = outputField;
+        this.batchSize = batchSize == null ? DEFAULT_BATCH_SIZE : batchSize;
+        this.concurrency = concurrency;
+        this.maxDocsPerSecond = maxDocsPerSecond;
+        this.resumeTaskId = resumeTaskId;
+    }
+
+    public MLBatchPredictionRequest(StreamInput in) throws IOException {
+        super(in);
+        this.modelId = in.readString();
+        this.sourceIndex = in.readString();
+        this.query = in.readOptionalNamedWriteable(QueryBuilder.class);
+        this.inputField = in.readString();
+        this.targetIndex = in.readOptionalString();
+        this.outputField = in.readString();
+        this.batchSize = in.readInt();
+        this.concurrency = in.readOptionalInt();
+        this.maxDocsPerSecond = in.readOptionalInt();
+        this.resumeTaskId = in.readOptionalString();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeString(modelId);
+        out.writeString(sourceIndex);
+        out.writeOptionalNamedWriteable(query);
+        out.writeString(inputField);
+        out.writeOptionalString(targetIndex);
+        out.writeString(outputField);
+        out.writeInt(batchSize);
+        out.writeOptionalInt(concurrency);
+        out.writeOptionalInt(maxDocsPerSecond);
+        out.writeOptionalString(resumeTaskId);
+    }
+
+    public String getTargetIndex() {
+        return targetIndex == null ? sourceIndex : targetIndex;
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        ActionRequestValidationException exception = null;
+        if (modelId == null) {
+            exception = addValidationError("ML model id can't be null", exception);
+        }
+        if (sourceIndex == null) {
+            exception = addValidationError("source index can't be null", exception);
+        }
+        if (inputField == null) {
+            exception = addValidationError("input field can't be null", exception);
+        }
+        if (outputField == null) {
+            exception = addValidationError("output field can't be null", exception);
+        }
+        if (batchSize <= 0 || batchSize > MAX_BATCH_SIZE) {
+            exception = addValidationError("batch size must be between 1 and " + MAX_BATCH_SIZE, exception);
+        }
+        if (concurrency != null && concurrency <= 0) {
+            exception = addValidationError("concurrency must be positive", exception);
+        }
+        if (maxDocsPerSecond != null && maxDocsPerSecond <= 0) {
+            exception = addValidationError("max docs per second must be positive", exception);
+        }
+        return exception;
+    }
+
+    public static MLBatchPredictionRequest parse(XContentParser parser, String modelId) throws IOException {
+        String sourceIndex = null;
+        QueryBuilder query = null;
+        String inputField = null;
+        String targetIndex = null;
+        String outputField = null;
+        Integer batchSize = null;
+        Integer concurrency = null;
+        Integer maxDocsPerSecond = null;
+        String resumeTaskId = null;
+
+        ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
+        while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
+            String fieldName = parser.currentName();
+            parser.nextToken();
+
+            switch (fieldName) {
+                case SOURCE_INDEX_FIELD:
+                    sourceIndex = parser.text();
+                    break;
+                case QUERY_FIELD:
+                    ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
+                    query = parseInnerQueryBuilder(parser);
+                    break;
+                case INPUT_FIELD_FIELD:
+                    inputField = parser.text();
+                    break;
+                case TARGET_INDEX_FIELD:
+                    targetIndex = parser.text();
+                    break;
+                case OUTPUT_FIELD_FIELD:
+                    outputField = parser.text();
+                    break;
+                case BATCH_SIZE_FIELD:
+                    batchSize = parser.intValue(false);
+                    break;
+                case CONCURRENCY_FIELD:
+                    concurrency = parser.intValue(false);
+                    break;
+                case MAX_DOCS_PER_SECOND_FIELD:
+                    maxDocsPerSecond = parser.intValue(false);
+                    break;
+                case RESUME_TASK_ID_FIELD:
+                    resumeTaskId = parser.text();
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+            }
+        }
+        return new MLBatchPredictionRequest(
+            modelId,
+            sourceIndex,
+            query,
+            inputField,
+            targetIndex,
+            outputField,
+            batchSize,
+            concurrency,
+            maxDocsPerSecond,
+            resumeTaskId
+        );
+    }
+
+    public static MLBatchPredictionRequest fromActionRequest(ActionRequest actionRequest) {
+        if (actionRequest instanceof MLBatchPredictionRequest) {
+            return (MLBatchPredictionRequest) actionRequest;
+        }
+
+        try (ByteArrayOutputStream baos = new ByteArrayOutputStream();
+             OutputStreamStreamOutput osso = new OutputStreamStreamOutput(baos)) {
+            actionRequest.writeTo(osso);
+            try (StreamInput input = new InputStreamStreamInput(new ByteArrayInputStream(baos.toByteArray()))) {
+                return new MLBatchPredictionRequest(input);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to parse ActionRequest into MLBatchPredictionRequest", e);
+        }
+    }
+}
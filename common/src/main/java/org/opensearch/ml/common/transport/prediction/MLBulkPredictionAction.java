@@ -0,0 +1,17 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.prediction;
+
+import org.opensearch.action.ActionType;
+
+public class MLBulkPredictionAction extends ActionType<MLBulkPredictionResponse> {
+    public static final MLBulkPredictionAction INSTANCE = new MLBulkPredictionAction();
+    public static final String NAME = "cluster:admin/opensearch/ml/bulk_predict";
+
+    private MLBulkPredictionAction() {
+        super(NAME, MLBulkPredictionResponse::new);
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.prediction;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.core.common.io.stream.InputStreamStreamInput;
+import org.opensearch.core.common.io.stream.OutputStreamStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.transport.MLTaskRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+import static org.opensearch.action.ValidateActions.addValidationError;
+
+/**
+ * Request to run many predict inputs against one model. Each input is predicted independently
+ * and results are returned in input order. The coordinating node splits the inputs into one chunk per worker node of
+ * the model, and sends each chunk to its node as a request which isn't dispatched again.
+ */
+@Getter
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@ToString
+public class MLBulkPredictionRequest extends MLTaskRequest {
+
+    String modelId;
+    List<MLInput> mlInputs;
+    // Max in flight predict requests, null means use the default derived from the model's worker nodes.
+    // For a chunk sent to a worker node, max in flight predict requests on that node.
+    Integer maxConcurrency;
+
+    @Builder
+    public MLBulkPredictionRequest(String modelId, List<MLInput> mlInputs, Integer maxConcurrency) {
+        super(true);
+        this.modelId = modelId;
+        this.mlInputs = mlInputs;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    public MLBulkPredictionRequest(StreamInput in) throws IOException {
+        super(in);
+        this.modelId = in.readString();
+        this.mlInputs = in.readList(MLInput::new);
+        this.maxConcurrency = in.readOptionalInt();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeString(modelId);
+        out.writeList(mlInputs);
+        out.writeOptionalInt(maxConcurrency);
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        ActionRequestValidationException exception = null;
+        if (this.modelId == null) {
+            exception = addValidationError("ML model id can't be null", exception);
+        }
+        if (this.mlInputs == null || this.mlInputs.isEmpty()) {
+            exception = addValidationError("ML inputs can't be null or empty", exception);
+        }
+        if (this.maxConcurrency != null && this.maxConcurrency <= 0) {
+            exception = addValidationError("max concurrency must be positive", exception);
+        }
+        return exception;
+    }
+
+    public static MLBulkPredictionRequest fromActionRequest(ActionRequest actionRequest) {
+        if (actionRequest instanceof MLBulkPredictionRequest) {
+            return (MLBulkPredictionRequest) actionRequest;
+        }
+
+        try (ByteArrayOutputStream baos = new ByteArrayOutputStream();
+             OutputStreamStreamOutput osso = new OutputStreamStreamOutput(baos)) {
+            actionRequest.writeTo(osso);
+            try (StreamInput input = new InputStreamStreamInput(new ByteArrayInputStream(baos.toByteArray()))) {
+                return new MLBulkPredictionRequest(input);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to parse ActionRequest into MLBulkPredictionRequest", e);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.prediction;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import org.opensearch.core.action.ActionResponse;
+import org.opensearch.core.common.io.stream.InputStreamStreamInput;
+import org.opensearch.core.common.io.stream.OutputStreamStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.ml.common.output.MLOutput;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Bulk predict response. Items are in the same order as the inputs of {@link MLBulkPredictionRequest},
+ * each item has either a prediction output or an error.
+ */
+@Getter
+@ToString
+public class MLBulkPredictionResponse extends ActionResponse {
+
+    List<Item> items;
+    long tookInMillis;
+
+    @Builder
+    public MLBulkPredictionResponse(List<Item> items, long tookInMillis) {
+        this.items = items;
+        this.tookInMillis = tookInMillis;
+    }
+
+    public MLBulkPredictionResponse(StreamInput in) throws IOException {
+        super(in);
+        this.items = in.readList(Item::new);
+        this.tookInMillis = in.readVLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeList(items);
+        out.writeVLong(tookInMillis);
+    }
+
+    public boolean hasFailures() {
+        return items.stream().anyMatch(Item::isFailed);
+    }
+
+    public static MLBulkPredictionResponse fromActionResponse(ActionResponse actionResponse) {
+        if (actionResponse instanceof MLBulkPredictionResponse) {
+            return (MLBulkPredictionResponse) actionResponse;
+        }
+
+        try (ByteArrayOutputStream baos = new ByteArrayOutputStream();
+             OutputStreamStreamOutput osso = new OutputStreamStreamOutput(baos)) {
+            actionResponse.writeTo(osso);
+            try (StreamInput input = new InputStreamStreamInput(new ByteArrayInputStream(baos.toByteArray()))) {
+                return new MLBulkPredictionResponse(input);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to parse ActionResponse into MLBulkPredictionResponse", e);
+        }
+    }
+
+    /**
+     * Result of one bulk predict input.
+     */
+    @Getter
+    @ToString
+    public static class Item implements ToXContentObject, Writeable {
+        public static final String STATUS_FIELD = "status";
+        public static final String OUTPUT_FIELD = "output";
+        public static final String ERROR_FIELD = "error";
+
+        MLOutput output;
+        RestStatus status;
+        String error;
+
+        public Item(MLOutput output) {
+            this.output = output;
+            this.status = RestStatus.OK;
+        }
+
+        public Item(RestStatus status, String error) {
+            this.status = status;
+            this.error = error;
+        }
+
+        public Item(StreamInput in) throws IOException {
+            if (in.readBoolean()) {
+                this.output = MLOutput.fromStream(in);
+            }
+            this.status = RestStatus.readFrom(in);
+            this.error = in.readOptionalString();
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            if (output != null) {
+                out.writeBoolean(true);
+                output.writeTo(out);
+            } else {
+                out.writeBoolean(false);
+            }
+            RestStatus.writeTo(out, status);
+            out.writeOptionalString(error);
+        }
+
+        public boolean isFailed() {
+            return error != null;
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            builder.startObject();
+            builder.field(STATUS_FIELD, status.getStatus());
+            if (output != null) {
+                builder.field(OUTPUT_FIELD);
+                output.toXContent(builder, params);
+            }
+            if (error != null) {
+                builder.field(ERROR_FIELD, error);
+            }
+            builder.endObject();
+            return builder;
+        }
+    }
+}
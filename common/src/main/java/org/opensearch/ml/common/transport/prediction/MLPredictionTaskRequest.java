@@ -19,6 +19,7 @@ import org.opensearch.core.common.io.stream.OutputStreamStreamOutput;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.profile.MLPredictProfile;
 
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -38,6 +39,9 @@ public class MLPredictionTaskRequest extends MLTaskRequest {
     MLInput mlInput;
     @Setter
     User user;
+    // return the latency breakdown of the request with the response
+    @Setter
+    boolean profile;
 
     @Builder
     public MLPredictionTaskRequest(String modelId, MLInput mlInput, boolean dispatchTask, User user) {
@@ -62,6 +66,9 @@ public class MLPredictionTaskRequest extends MLTaskRequest {
         if (in.readBoolean()) {
             this.user = new User(in);
         }
+        if (in.getVersion().onOrAfter(MLPredictProfile.MINIMAL_SUPPORTED_VERSION_FOR_PREDICT_PROFILE)) {
+            this.profile = in.readBoolean();
+        }
     }
 
     @Override
@@ -75,6 +82,9 @@ public class MLPredictionTaskRequest extends MLTaskRequest {
         } else {
             out.writeBoolean(false);
         }
+        if (out.getVersion().onOrAfter(MLPredictProfile.MINIMAL_SUPPORTED_VERSION_FOR_PREDICT_PROFILE)) {
+            out.writeBoolean(profile);
+        }
     }
 
     @Override
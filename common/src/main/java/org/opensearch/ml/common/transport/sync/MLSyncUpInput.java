@@ -7,6 +7,7 @@ package org.opensearch.ml.common.transport.sync;
 
 import lombok.Builder;
 import lombok.Data;
+import org.opensearch.Version;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
@@ -35,6 +36,21 @@ public class MLSyncUpInput implements Writeable {
     // profile API has consistent data with model index.
     private Map<String, Boolean> deployToAllNodes;
 
+    // key is model group id, value is id of the model serving predict requests to the model group
+    private Map<String, String> modelGroupServingModels;
+
+    // key is node id, value is the generation of deployed models and deploy tasks last reported by the node. A node whose
+    // generation is unchanged skips reporting its model lists.
+    private Map<String, Long> nodeGenerations;
+    // id and version of the routing table after applying this sync up, the id changes when another node runs sync up cron
+    private String routingTableId;
+    private long routingTableVersion = -1;
+    // model routing table only has changed models, empty worker node set means the model is not deployed on any node
+    private boolean routingTableDelta;
+
+    public static final Version MINIMAL_SUPPORTED_VERSION_FOR_SERVING_MODEL = Version.V_2_13_0;
+    public static final Version MINIMAL_SUPPORTED_VERSION_FOR_DELTA_SYNC_UP = Version.V_2_13_0;
+
     @Builder
     public MLSyncUpInput(boolean getDeployedModels,
                          Map<String, String[]> addedWorkerNodes,
@@ -42,6 +58,11 @@ public class MLSyncUpInput implements Writeable {
                          Map<String, Set<String>> modelRoutingTable,
                          Map<String, Set<String>> runningDeployModelTasks,
                          Map<String, Boolean> deployToAllNodes,
+                         Map<String, String> modelGroupServingModels,
+                         Map<String, Long> nodeGenerations,
+                         String routingTableId,
+                         Long routingTableVersion,
+                         boolean routingTableDelta,
                          boolean clearRoutingTable,
                          boolean syncRunningDeployModelTasks) {
         this.getDeployedModels = getDeployedModels;
@@ -50,6 +71,11 @@ public class MLSyncUpInput implements Writeable {
         this.modelRoutingTable = modelRoutingTable;
         this.runningDeployModelTasks = runningDeployModelTasks;
         this.deployToAllNodes = deployToAllNodes;
+        this.modelGroupServingModels = modelGroupServingModels;
+        this.nodeGenerations = nodeGenerations;
+        this.routingTableId = routingTableId;
+        this.routingTableVersion = routingTableVersion == null ? -1 : routingTableVersion;
+        this.routingTableDelta = routingTableDelta;
         this.clearRoutingTable = clearRoutingTable;
         this.syncRunningDeployModelTasks = syncRunningDeployModelTasks;
     }
@@ -75,6 +101,17 @@ public class MLSyncUpInput implements Writeable {
         }
         this.clearRoutingTable = in.readBoolean();
         this.syncRunningDeployModelTasks = in.readBoolean();
+        if (in.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_SERVING_MODEL) && in.readBoolean()) {
+            modelGroupServingModels = in.readMap(StreamInput::readString, StreamInput::readString);
+        }
+        if (in.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_DELTA_SYNC_UP)) {
+            if (in.readBoolean()) {
+                nodeGenerations = in.readMap(StreamInput::readString, StreamInput::readLong);
+            }
+            this.routingTableId = in.readOptionalString();
+            this.routingTableVersion = in.readLong();
+            this.routingTableDelta = in.readBoolean();
+        }
     }
 
     @Override
@@ -112,6 +149,25 @@ public class MLSyncUpInput implements Writeable {
         }
         out.writeBoolean(clearRoutingTable);
         out.writeBoolean(syncRunningDeployModelTasks);
+        if (out.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_SERVING_MODEL)) {
+            if (modelGroupServingModels != null && modelGroupServingModels.size() > 0) {
+                out.writeBoolean(true);
+                out.writeMap(modelGroupServingModels, StreamOutput::writeString, StreamOutput::writeString);
+            } else {
+                out.writeBoolean(false);
+            }
+        }
+        if (out.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_DELTA_SYNC_UP)) {
+            if (nodeGenerations != null && nodeGenerations.size() > 0) {
+                out.writeBoolean(true);
+                out.writeMap(nodeGenerations, StreamOutput::writeString, StreamOutput::writeLong);
+            } else {
+                out.writeBoolean(false);
+            }
+            out.writeOptionalString(routingTableId);
+            out.writeLong(routingTableVersion);
+            out.writeBoolean(routingTableDelta);
+        }
     }
 
 }
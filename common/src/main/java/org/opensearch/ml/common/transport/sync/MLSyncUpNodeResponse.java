@@ -22,6 +22,13 @@ public class MLSyncUpNodeResponse extends BaseNodeResponse  {
     private String[] deployedModelIds;
     private String[] runningDeployModelIds; // model ids which have deploying model task running
     private String[] runningDeployModelTaskIds; // deploy model task ids which is running
+    // generation of deployed models and deploy tasks on the node, -1 means the node doesn't track generations
+    private long generation = -1;
+    // true if the generation is the one known by the sync up cron, then the model and task ids above are not reported
+    private boolean unchanged;
+    // id and version of the routing table last applied on the node
+    private String routingTableId;
+    private long routingTableVersion = -1;
 
     public MLSyncUpNodeResponse(DiscoveryNode node, String modelStatus, String[] deployedModelIds, String[] runningDeployModelIds,
                                 String[] runningDeployModelTaskIds) {
@@ -32,12 +39,28 @@ public class MLSyncUpNodeResponse extends BaseNodeResponse  {
         this.runningDeployModelTaskIds = runningDeployModelTaskIds;
     }
 
+    public MLSyncUpNodeResponse(DiscoveryNode node, String modelStatus, String[] deployedModelIds, String[] runningDeployModelIds,
+                                String[] runningDeployModelTaskIds, long generation, boolean unchanged, String routingTableId,
+                                long routingTableVersion) {
+        this(node, modelStatus, deployedModelIds, runningDeployModelIds, runningDeployModelTaskIds);
+        this.generation = generation;
+        this.unchanged = unchanged;
+        this.routingTableId = routingTableId;
+        this.routingTableVersion = routingTableVersion;
+    }
+
     public MLSyncUpNodeResponse(StreamInput in) throws IOException {
         super(in);
         this.modelStatus = in.readOptionalString();
         this.deployedModelIds = in.readOptionalStringArray();
         this.runningDeployModelIds = in.readOptionalStringArray();
         this.runningDeployModelTaskIds = in.readOptionalStringArray();
+        if (in.getVersion().onOrAfter(MLSyncUpInput.MINIMAL_SUPPORTED_VERSION_FOR_DELTA_SYNC_UP)) {
+            this.generation = in.readLong();
+            this.unchanged = in.readBoolean();
+            this.routingTableId = in.readOptionalString();
+            this.routingTableVersion = in.readLong();
+        }
     }
 
     public static MLSyncUpNodeResponse readStats(StreamInput in) throws IOException {
@@ -51,6 +74,12 @@ public class MLSyncUpNodeResponse extends BaseNodeResponse  {
         out.writeOptionalStringArray(deployedModelIds);
         out.writeOptionalStringArray(runningDeployModelIds);
         out.writeOptionalStringArray(runningDeployModelTaskIds);
+        if (out.getVersion().onOrAfter(MLSyncUpInput.MINIMAL_SUPPORTED_VERSION_FOR_DELTA_SYNC_UP)) {
+            out.writeLong(generation);
+            out.writeBoolean(unchanged);
+            out.writeOptionalString(routingTableId);
+            out.writeLong(routingTableVersion);
+        }
     }
 
 }
@@ -0,0 +1,144 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.utils;
+
+import lombok.experimental.UtilityClass;
+import org.apache.lucene.store.ByteArrayDataInput;
+import org.apache.lucene.store.ByteArrayDataOutput;
+import org.apache.lucene.util.compress.LZ4;
+import org.opensearch.Version;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Helpers of the columnar transport format used by data frames and model tensors. Values of a column are packed
+ * into one little endian primitive array instead of being written one boxed value at a time, and the packed
+ * block is compressed with LZ4 when it's big enough and compression pays off.
+ *
+ * Block layout: format version (byte), codec (byte), raw length (vint), then the raw bytes for codec NONE or
+ * compressed length (vint) and the compressed bytes for codec LZ4.
+ */
+@UtilityClass
+public class ColumnarCodec {
+    /**
+     * Nodes before this version only understand the row based format, so the columnar format is only
+     * used when the stream version, which is negotiated per transport connection, is on or after it.
+     */
+    public static final Version MINIMAL_SUPPORTED_VERSION_FOR_COLUMNAR_FORMAT = Version.V_2_13_0;
+    public static final byte FORMAT_VERSION = 1;
+    public static final int COMPRESSION_THRESHOLD_IN_BYTES = 16 * 1024;
+
+    static final byte CODEC_NONE = 0;
+    static final byte CODEC_LZ4 = 1;
+
+    public static boolean isColumnarFormatSupported(Version version) {
+        return version.onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_COLUMNAR_FORMAT);
+    }
+
+    /**
+     * Write a packed block, compressed if it's bigger than the compression threshold and LZ4 makes it smaller.
+     * @param out stream output
+     * @param bytes packed bytes
+     * @throws IOException
+     */
+    public static void writeBlock(StreamOutput out, byte[] bytes) throws IOException {
+        out.writeByte(FORMAT_VERSION);
+        if (bytes.length >= COMPRESSION_THRESHOLD_IN_BYTES) {
+            byte[] compressed = new byte[maxCompressedLength(bytes.length)];
+            ByteArrayDataOutput compressedOutput = new ByteArrayDataOutput(compressed);
+            LZ4.compress(bytes, 0, bytes.length, compressedOutput, new LZ4.FastCompressionHashTable());
+            int compressedLength = compressedOutput.getPosition();
+            if (compressedLength < bytes.length) {
+                out.writeByte(CODEC_LZ4);
+                out.writeVInt(bytes.length);
+                out.writeVInt(compressedLength);
+                out.writeBytes(compressed, 0, compressedLength);
+                return;
+            }
+        }
+        out.writeByte(CODEC_NONE);
+        out.writeVInt(bytes.length);
+        out.writeBytes(bytes);
+    }
+
+    /**
+     * Read a packed block written by {@link #writeBlock(StreamOutput, byte[])}.
+     * @param in stream input
+     * @return packed bytes
+     * @throws IOException
+     */
+    public static byte[] readBlock(StreamInput in) throws IOException {
+        byte formatVersion = in.readByte();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IllegalArgumentException("unsupported columnar format version: " + formatVersion);
+        }
+        byte codec = in.readByte();
+        int length = in.readVInt();
+        byte[] bytes = new byte[length];
+        switch (codec) {
+            case CODEC_NONE:
+                in.readBytes(bytes, 0, length);
+                return bytes;
+            case CODEC_LZ4:
+                byte[] compressed = new byte[in.readVInt()];
+                in.readBytes(compressed, 0, compressed.length);
+                LZ4.decompress(new ByteArrayDataInput(compressed), length, bytes, 0);
+                return bytes;
+            default:
+                throw new IllegalArgumentException("unknown columnar block codec: " + codec);
+        }
+    }
+
+    public static byte[] packFloats(Number[] values) {
+        ByteBuffer buffer = allocate(values.length * Float.BYTES);
+        for (Number value : values) {
+            buffer.putFloat(value.floatValue());
+        }
+        return buffer.array();
+    }
+
+    public static Float[] unpackFloats(byte[] bytes) {
+        ByteBuffer buffer = wrap(bytes);
+        Float[] values = new Float[bytes.length / Float.BYTES];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = buffer.getFloat();
+        }
+        return values;
+    }
+
+    public static byte[] packInts(Number[] values) {
+        ByteBuffer buffer = allocate(values.length * Integer.BYTES);
+        for (Number value : values) {
+            buffer.putInt(value.intValue());
+        }
+        return buffer.array();
+    }
+
+    public static Integer[] unpackInts(byte[] bytes) {
+        ByteBuffer buffer = wrap(bytes);
+        Integer[] values = new Integer[bytes.length / Integer.BYTES];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = buffer.getInt();
+        }
+        return values;
+    }
+
+    public static ByteBuffer allocate(int capacity) {
+        return ByteBuffer.allocate(capacity).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    public static ByteBuffer wrap(byte[] bytes) {
+        return ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static int maxCompressedLength(int length) {
+        return length + length / 255 + 16;
+    }
+}
@@ -9,10 +9,12 @@ import org.junit.Assert;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.commons.authuser.User;
+import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentBuilder;
@@ -129,4 +131,28 @@ public class MLModelGroupTest {
         Assert.assertNull(modelGroup.getAccess());
         Assert.assertNull(modelGroup.getOwner());
     }
+
+    @Test
+    public void servingModelId() throws IOException {
+        MLModelGroup originalModelGroup = MLModelGroup.builder().name("test").servingModelId("model_v2").build();
+        XContentBuilder builder = XContentBuilder.builder(XContentType.JSON.xContent());
+        originalModelGroup.toXContent(builder, ToXContent.EMPTY_PARAMS);
+        String content = TestHelper.xContentBuilderToString(builder);
+        Assert.assertEquals("{\"name\":\"test\",\"latest_version\":0,\"serving_model_id\":\"model_v2\"}", content);
+
+        XContentParser parser = XContentType.JSON.xContent().createParser(NamedXContentRegistry.EMPTY, null, content);
+        parser.nextToken();
+        Assert.assertEquals("model_v2", MLModelGroup.parse(parser).getServingModelId());
+
+        BytesStreamOutput output = new BytesStreamOutput();
+        originalModelGroup.writeTo(output);
+        Assert.assertEquals("model_v2", new MLModelGroup(output.bytes().streamInput()).getServingModelId());
+
+        output = new BytesStreamOutput();
+        output.setVersion(Version.V_2_12_0);
+        originalModelGroup.writeTo(output);
+        StreamInput input = output.bytes().streamInput();
+        input.setVersion(Version.V_2_12_0);
+        Assert.assertNull(new MLModelGroup(input).getServingModelId());
+    }
 }
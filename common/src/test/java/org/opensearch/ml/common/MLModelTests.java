@@ -13,15 +13,22 @@ import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.commons.authuser.User;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.common.xcontent.LoggingDeprecationHandler;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.ml.common.model.MLModelFormat;
 import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.common.model.TextEmbeddingModelConfig;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.Base64;
 import java.util.function.Function;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.opensearch.core.xcontent.ToXContent.EMPTY_PARAMS;
 
 public class MLModelTests {
@@ -96,6 +103,39 @@ public class MLModelTests {
         TestHelper.testParseFromString(config, mlModelContent, function);
     }
 
+    @Test
+    public void parse_BinaryChunkContent() throws IOException {
+        byte[] chunk = "test chunk".getBytes(StandardCharsets.UTF_8);
+        MLModel chunkModel = MLModel.builder().algorithm(FunctionName.TEXT_EMBEDDING).modelId("model_id").chunkNumber(0).binaryContent(chunk).build();
+        XContentBuilder builder = XContentBuilder.builder(XContentType.SMILE.xContent());
+        chunkModel.toXContent(builder, EMPTY_PARAMS);
+
+        try (XContentParser parser = XContentType.SMILE.xContent().createParser(NamedXContentRegistry.EMPTY, LoggingDeprecationHandler.INSTANCE, BytesReference.toBytes(BytesReference.bytes(builder)))) {
+            parser.nextToken();
+            MLModel parsedModel = MLModel.parse(parser, FunctionName.TEXT_EMBEDDING.name());
+            assertNull(parsedModel.getContent());
+            assertArrayEquals(chunk, parsedModel.getChunkContent());
+        }
+    }
+
+    @Test
+    public void getChunkContent_Base64() {
+        byte[] chunk = "test chunk".getBytes(StandardCharsets.UTF_8);
+        MLModel chunkModel = MLModel.builder().content(Base64.getEncoder().encodeToString(chunk)).build();
+        assertArrayEquals(chunk, chunkModel.getChunkContent());
+        assertNull(MLModel.builder().build().getChunkContent());
+    }
+
+    @Test
+    public void readInputStream_BinaryChunkContent() throws IOException {
+        byte[] chunk = "test chunk".getBytes(StandardCharsets.UTF_8);
+        MLModel chunkModel = mlModel.toBuilder().content(null).binaryContent(chunk).build();
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        chunkModel.writeTo(bytesStreamOutput);
+        MLModel parsedMLModel = new MLModel(bytesStreamOutput.bytes().streamInput());
+        assertArrayEquals(chunk, parsedMLModel.getBinaryContent());
+    }
+
     @Test
     public void readInputStream_Success() throws IOException {
         readInputStream(mlModel);
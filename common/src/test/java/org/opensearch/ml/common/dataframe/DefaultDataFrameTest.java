@@ -14,6 +14,7 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.common.xcontent.XContentType;
@@ -85,6 +86,42 @@ public class DefaultDataFrameTest {
         assertEquals(4, defaultDataFrame.iterator().next().size());
     }
 
+    @Test
+    public void writeTo_Success_RowBasedFormatForOldVersion() throws IOException {
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        bytesStreamOutput.setVersion(Version.V_2_12_0);
+        defaultDataFrame.writeTo(bytesStreamOutput);
+        StreamInput streamInput = bytesStreamOutput.bytes().streamInput();
+        streamInput.setVersion(Version.V_2_12_0);
+        assertEquals(DataFrameType.DEFAULT, streamInput.readEnum(DataFrameType.class));
+        DefaultDataFrame dataFrame = new DefaultDataFrame(streamInput);
+        assertEquals(defaultDataFrame.getRow(0), dataFrame.getRow(0));
+    }
+
+    @Test
+    public void writeTo_Success_ColumnarFormatWithNullValue() throws IOException {
+        Row row = new Row(4);
+        row.setValue(0, new StringValue("string2"));
+        row.setValue(2, new DoubleValue(3.0D));
+        row.setValue(3, new BooleanValue(false));
+        defaultDataFrame.appendRow(new Object[] { "string3", 3, 4.0D, true });
+        List<Row> rows = new ArrayList<>();
+        defaultDataFrame.forEach(rows::add);
+        rows.add(row);
+        DefaultDataFrame dataFrame = new DefaultDataFrame(defaultDataFrame.columnMetas(), rows);
+
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        dataFrame.writeTo(bytesStreamOutput);
+        StreamInput streamInput = bytesStreamOutput.bytes().streamInput();
+        assertEquals(DataFrameType.DEFAULT, streamInput.readEnum(DataFrameType.class));
+        DefaultDataFrame parsedDataFrame = new DefaultDataFrame(streamInput);
+        assertEquals(3, parsedDataFrame.size());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(dataFrame.getRow(i), parsedDataFrame.getRow(i));
+        }
+        assertEquals(ColumnType.NULL, parsedDataFrame.getRow(2).getValue(1).columnType());
+    }
+
     @Test
     public void readInputStream_Success() throws IOException {
         BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
@@ -9,6 +9,7 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.common.xcontent.XContentType;
@@ -21,6 +22,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.opensearch.core.xcontent.ToXContent.EMPTY_PARAMS;
 
 public class ModelTensorTest {
@@ -56,6 +58,33 @@ public class ModelTensorTest {
         assertEquals(modelTensor, parsedTensor);
     }
 
+    @Test
+    public void test_StreamInAndOut_RowBasedFormatForOldVersion() throws IOException {
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        bytesStreamOutput.setVersion(Version.V_2_12_0);
+        modelTensor.writeTo(bytesStreamOutput);
+
+        StreamInput streamInput = bytesStreamOutput.bytes().streamInput();
+        streamInput.setVersion(Version.V_2_12_0);
+        ModelTensor parsedTensor = new ModelTensor(streamInput);
+        assertEquals(modelTensor, parsedTensor);
+    }
+
+    @Test
+    public void test_StreamInAndOut_CompressedFloatData() throws IOException {
+        Float[] data = new Float[10_000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = i % 100 == 0 ? i * 0.5f : 0f;
+        }
+        ModelTensor tensor = ModelTensor.builder().name("sparse").data(data).dataType(MLResultDataType.FLOAT32).build();
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        tensor.writeTo(bytesStreamOutput);
+        assertTrue(bytesStreamOutput.size() < data.length * Float.BYTES);
+
+        ModelTensor parsedTensor = new ModelTensor(bytesStreamOutput.bytes().streamInput());
+        assertEquals(tensor, parsedTensor);
+    }
+
     @Test
     public void test_ModelTensorSuccess() throws IOException {
         XContentBuilder builder = XContentBuilder.builder(XContentType.JSON.xContent());
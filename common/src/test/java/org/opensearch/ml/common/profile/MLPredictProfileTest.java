@@ -0,0 +1,142 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.profile;
+
+import org.junit.After;
+import org.junit.Test;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.ml.common.TestHelper;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class MLPredictProfileTest {
+
+    @After
+    public void tearDown() {
+        MLPredictStageTimer.detach();
+    }
+
+    @Test
+    public void add() {
+        MLPredictProfile profile = new MLPredictProfile();
+        profile.add(MLPredictStage.TOKENIZE, 10);
+        profile.add(MLPredictStage.QUEUE, 5);
+        profile.add(MLPredictStage.TOKENIZE, 20);
+        profile.add(MLPredictStage.FORWARD, -1);
+        assertEquals(30, profile.getStageNanos(MLPredictStage.TOKENIZE));
+        assertEquals(0, profile.getStageNanos(MLPredictStage.FORWARD));
+        assertEquals(0, profile.getStageNanos(MLPredictStage.REMOTE_HTTP));
+        // stages are in stage order
+        assertEquals("[QUEUE, TOKENIZE, FORWARD]", profile.getStages().keySet().toString());
+    }
+
+    @Test
+    public void writeTo() throws IOException {
+        MLPredictProfile profile = new MLPredictProfile();
+        profile.setTimeInNanos(1000);
+        profile.add(MLPredictStage.QUEUE, 100);
+        profile.add(MLPredictStage.REMOTE_HTTP, 800);
+        BytesStreamOutput output = new BytesStreamOutput();
+        profile.writeTo(output);
+        MLPredictProfile parsedProfile = new MLPredictProfile(output.bytes().streamInput());
+        assertEquals(1000, parsedProfile.getTimeInNanos());
+        assertEquals(profile.getStages(), parsedProfile.getStages());
+        assertFalse(parsedProfile.hasResources());
+    }
+
+    @Test
+    public void writeTo_Resources() throws IOException {
+        MLPredictProfile profile = new MLPredictProfile();
+        profile.setCpuTimeInNanos(500);
+        profile.setAllocatedBytes(2048);
+        profile.addRemoteBytes(10, 20);
+        profile.addRemoteBytes(1, 2);
+        BytesStreamOutput output = new BytesStreamOutput();
+        profile.writeTo(output);
+        MLPredictProfile parsedProfile = new MLPredictProfile(output.bytes().streamInput());
+        assertEquals(500, parsedProfile.getCpuTimeInNanos());
+        assertEquals(2048, parsedProfile.getAllocatedBytes());
+        assertEquals(11, parsedProfile.getRemoteBytesSent());
+        assertEquals(22, parsedProfile.getRemoteBytesReceived());
+    }
+
+    @Test
+    public void writeTo_InputTokens() throws IOException {
+        MLPredictProfile profile = new MLPredictProfile();
+        profile.addInputTokens(7);
+        profile.addInputTokens(5);
+        BytesStreamOutput output = new BytesStreamOutput();
+        profile.writeTo(output);
+        MLPredictProfile parsedProfile = new MLPredictProfile(output.bytes().streamInput());
+        assertEquals(12, parsedProfile.getInputTokens());
+        assertEquals("{\"time_in_nanos\":0,\"breakdown\":{},\"input_tokens\":12}", TestHelper.contentObjectToString(parsedProfile));
+    }
+
+    @Test
+    public void toXContent() throws IOException {
+        MLPredictProfile profile = new MLPredictProfile();
+        profile.setTimeInNanos(1000);
+        profile.add(MLPredictStage.QUEUE, 100);
+        profile.add(MLPredictStage.POST_PROCESS, 200);
+        assertEquals(
+            "{\"time_in_nanos\":1000,\"breakdown\":{\"queue\":100,\"post_process\":200}}",
+            TestHelper.contentObjectToString(profile)
+        );
+
+        profile.setCpuTimeInNanos(50);
+        profile.addRemoteBytes(10, 20);
+        assertEquals(
+            "{\"time_in_nanos\":1000,\"breakdown\":{\"queue\":100,\"post_process\":200},\"resources\":"
+                + "{\"cpu_time_in_nanos\":50,\"allocated_bytes\":0,\"remote_bytes_sent\":10,\"remote_bytes_received\":20}}",
+            TestHelper.contentObjectToString(profile)
+        );
+    }
+
+    @Test
+    public void stageTimer() {
+        long startNanos = MLPredictStageTimer.start();
+        assertEquals(0, startNanos);
+        MLPredictStageTimer.stop(MLPredictStage.TOKENIZE, startNanos);
+
+        MLPredictProfile profile = new MLPredictProfile();
+        MLPredictStageTimer.attach(profile);
+        startNanos = MLPredictStageTimer.start();
+        assertTrue(startNanos != 0);
+        MLPredictStageTimer.stop(MLPredictStage.TOKENIZE, startNanos);
+        assertTrue(profile.getStages().containsKey(MLPredictStage.TOKENIZE));
+
+        assertTrue(MLPredictStageTimer.isProfiling());
+        MLPredictStageTimer.addRemoteBytes(3, 4);
+        assertEquals(3, profile.getRemoteBytesSent());
+        MLPredictStageTimer.addInputTokens(12);
+        assertEquals(12, profile.getInputTokens());
+
+        MLPredictStageTimer.detach();
+        MLPredictStageTimer.addInputTokens(12);
+        assertEquals(12, profile.getInputTokens());
+        assertFalse(MLPredictStageTimer.isProfiling());
+        MLPredictStageTimer.addRemoteBytes(3, 4);
+        assertEquals(4, profile.getRemoteBytesReceived());
+        assertEquals(0, MLPredictStageTimer.start());
+        MLPredictStageTimer.stop(MLPredictStage.POST_PROCESS, startNanos);
+        assertFalse(profile.getStages().containsKey(MLPredictStage.POST_PROCESS));
+    }
+
+    @Test
+    public void stageFromName() {
+        assertEquals(MLPredictStage.REMOTE_HTTP, MLPredictStage.from("remote_http"));
+        assertEquals("remote_http", MLPredictStage.REMOTE_HTTP.getName());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void stageFromName_Wrong() {
+        MLPredictStage.from("wrong_stage");
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.telemetry;
+
+import java.util.Map;
+
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.telemetry.tracing.Span;
+import org.opensearch.telemetry.tracing.SpanCreationContext;
+import org.opensearch.telemetry.tracing.SpanScope;
+import org.opensearch.telemetry.tracing.Tracer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class MLTracerTest {
+
+    @Test
+    public void traceparent() {
+        String traceparent = "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
+        assertEquals(traceparent, boundTracer(traceparent).traceparent(span("4bf92f3577b34da6a3ce929d0e0e4736")));
+    }
+
+    @Test
+    public void traceparent_NotSampled() {
+        // the trace flags of the propagated header are kept
+        String traceparent = "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-00";
+        assertEquals(traceparent, boundTracer(traceparent).traceparent(span("4bf92f3577b34da6a3ce929d0e0e4736")));
+    }
+
+    @Test
+    public void traceparent_NotRecorded() {
+        assertNull(MLTracer.NOOP.traceparent(MLTracer.NOOP.startSpan(MLTracer.PREDICT_SPAN)));
+        assertNull(MLTracer.NOOP.traceparent(span("4bf92f3577b34da6a3ce929d0e0e4736")));
+        assertNull(boundTracer("00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01").traceparent(span("trace")));
+    }
+
+    @Test
+    public void hasTraceparent() {
+        assertTrue(MLTracer.hasTraceparent(Map.of("Traceparent", "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01")));
+        assertFalse(MLTracer.hasTraceparent(Map.of("Content-Type", "application/json")));
+        assertFalse(MLTracer.hasTraceparent(null));
+    }
+
+    @Test
+    public void startSpan() {
+        Tracer tracer = mock(Tracer.class);
+        Span span = mock(Span.class);
+        when(tracer.startSpan(any(SpanCreationContext.class))).thenReturn(span);
+        MLTracer mlTracer = new MLTracer();
+        mlTracer.bind(tracer, new ThreadContext(Settings.EMPTY));
+
+        assertEquals(span, mlTracer.startSpan(MLTracer.TASK_SPAN, MLTracer.MODEL_ID_ATTRIBUTE, "model1", MLTracer.NODE_ID_ATTRIBUTE, null));
+        assertEquals(span, mlTracer.startClientSpan(MLTracer.TRANSPORT_SPAN, MLTracer.TARGET_NODE_ID_ATTRIBUTE, "node2"));
+        mlTracer.withSpanInScope(span);
+        verify(tracer).withSpanInScope(span);
+    }
+
+    @Test
+    public void startSpan_WrongAttributes() {
+        assertThrows(IllegalArgumentException.class, () -> new MLTracer().startSpan(MLTracer.TASK_SPAN, MLTracer.MODEL_ID_ATTRIBUTE));
+    }
+
+    @Test
+    public void endSpanOnCompletion() {
+        Span span = mock(Span.class);
+        ActionListener<String> listener = mock(ActionListener.class);
+        new MLTracer().endSpanOnCompletion(span, listener).onResponse("response");
+        verify(span).endSpan();
+        verify(listener).onResponse("response");
+    }
+
+    @Test
+    public void endSpanOnCompletion_Failure() {
+        Span span = mock(Span.class);
+        ActionListener<String> listener = mock(ActionListener.class);
+        RuntimeException exception = new RuntimeException("test");
+        new MLTracer().endSpanOnCompletion(span, listener).onFailure(exception);
+        InOrder inOrder = inOrder(span, listener);
+        inOrder.verify(span).setError(exception);
+        inOrder.verify(span).endSpan();
+        inOrder.verify(listener).onFailure(exception);
+    }
+
+    private static Span span(String traceId) {
+        Span span = mock(Span.class);
+        when(span.getTraceId()).thenReturn(traceId);
+        when(span.getSpanId()).thenReturn("00f067aa0ba902b7");
+        return span;
+    }
+
+    /**
+     * Tracer bound to a thread context which propagates the given header while a span is in scope, like the telemetry.
+     */
+    private static MLTracer boundTracer(String traceparent) {
+        ThreadContext threadContext = new ThreadContext(Settings.EMPTY);
+        Tracer tracer = mock(Tracer.class);
+        when(tracer.withSpanInScope(any())).thenAnswer(invocation -> {
+            ThreadContext.StoredContext storedContext = threadContext.stashContext();
+            threadContext.putHeader(MLTracer.TRACEPARENT_HEADER, traceparent);
+            SpanScope scope = mock(SpanScope.class);
+            doAnswer(it -> {
+                storedContext.restore();
+                return null;
+            }).when(scope).close();
+            return scope;
+        });
+        MLTracer mlTracer = new MLTracer();
+        mlTracer.bind(tracer, threadContext);
+        return mlTracer;
+    }
+}
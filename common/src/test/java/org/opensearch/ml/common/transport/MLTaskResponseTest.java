@@ -0,0 +1,88 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.Version;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.ml.common.TestHelper;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.common.profile.MLPredictProfile;
+import org.opensearch.ml.common.profile.MLPredictStage;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class MLTaskResponseTest {
+
+    private ModelTensorOutput output;
+    private MLPredictProfile profile;
+
+    @Before
+    public void setUp() {
+        ModelTensor tensor = ModelTensor.builder().name("response").result("test result").build();
+        output = ModelTensorOutput.builder().mlModelOutputs(List.of(new ModelTensors(List.of(tensor)))).build();
+        profile = new MLPredictProfile();
+        profile.setTimeInNanos(1000);
+        profile.add(MLPredictStage.QUEUE, 100);
+    }
+
+    @Test
+    public void writeTo_Profile() throws IOException {
+        MLTaskResponse response = MLTaskResponse.builder().output(output).profile(profile).build();
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        response.writeTo(bytesStreamOutput);
+        MLTaskResponse parsedResponse = new MLTaskResponse(bytesStreamOutput.bytes().streamInput());
+        assertEquals(1, ((ModelTensorOutput) parsedResponse.getOutput()).getMlModelOutputs().size());
+        MLPredictProfile parsedProfile = parsedResponse.getProfile();
+        assertEquals(1000, parsedProfile.getTimeInNanos());
+        assertEquals(100, parsedProfile.getStageNanos(MLPredictStage.QUEUE));
+        // serializing the output is profiled too
+        assertTrue(parsedProfile.getStages().containsKey(MLPredictStage.SERIALIZE));
+    }
+
+    @Test
+    public void writeTo_NoProfile() throws IOException {
+        MLTaskResponse response = new MLTaskResponse(output);
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        response.writeTo(bytesStreamOutput);
+        assertNull(new MLTaskResponse(bytesStreamOutput.bytes().streamInput()).getProfile());
+    }
+
+    @Test
+    public void writeTo_OldVersion() throws IOException {
+        MLTaskResponse response = MLTaskResponse.builder().output(output).profile(profile).build();
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        bytesStreamOutput.setVersion(Version.V_2_12_0);
+        response.writeTo(bytesStreamOutput);
+        StreamInput in = bytesStreamOutput.bytes().streamInput();
+        in.setVersion(Version.V_2_12_0);
+        MLTaskResponse parsedResponse = new MLTaskResponse(in);
+        assertNull(parsedResponse.getProfile());
+        assertEquals(1, ((ModelTensorOutput) parsedResponse.getOutput()).getMlModelOutputs().size());
+    }
+
+    @Test
+    public void toXContent() throws IOException {
+        String outputContent = TestHelper.contentObjectToString(new MLTaskResponse(output));
+        assertEquals("{\"inference_results\":[{\"output\":[{\"name\":\"response\",\"result\":\"test result\"}]}]}", outputContent);
+
+        String content = TestHelper.contentObjectToString(MLTaskResponse.builder().output(output).profile(profile).build());
+        assertEquals(
+            "{\"inference_results\":[{\"output\":[{\"name\":\"response\",\"result\":\"test result\"}]}],"
+                + "\"profile\":{\"time_in_nanos\":1000,\"breakdown\":{\"queue\":100}}}",
+            content
+        );
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.deploy;
+
+import org.junit.Test;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.bytes.BytesReference;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class MLModelChunkPeerRequestTest {
+
+    @Test
+    public void writeToAndReadFrom() throws IOException {
+        MLModelChunkPeerRequest request = MLModelChunkPeerRequest.builder().modelId("test_model").modelContentHash("hash").chunkNumber(3).build();
+        BytesStreamOutput out = new BytesStreamOutput();
+        request.writeTo(out);
+        MLModelChunkPeerRequest parsed = new MLModelChunkPeerRequest(out.bytes().streamInput());
+        assertEquals("test_model", parsed.getModelId());
+        assertEquals("hash", parsed.getModelContentHash());
+        assertEquals(3, parsed.getChunkNumber());
+        assertSame(request, MLModelChunkPeerRequest.fromActionRequest(request));
+    }
+
+    @Test
+    public void validate() {
+        assertNull(MLModelChunkPeerRequest.builder().modelId("test_model").modelContentHash("hash").chunkNumber(0).build().validate());
+        assertNotNull(MLModelChunkPeerRequest.builder().modelId("test_model").chunkNumber(-1).build().validate());
+    }
+
+    @Test
+    public void responseWriteToAndReadFrom() throws IOException {
+        byte[] content = new byte[] { 1, 2, 3 };
+        BytesStreamOutput out = new BytesStreamOutput();
+        new MLModelChunkPeerResponse(content).writeTo(out);
+        MLModelChunkPeerResponse parsed = new MLModelChunkPeerResponse(out.bytes().streamInput());
+        assertArrayEquals(content, BytesReference.toBytes(parsed.getContent()));
+    }
+}
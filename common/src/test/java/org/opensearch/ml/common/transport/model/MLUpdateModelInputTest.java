@@ -247,6 +247,33 @@ public class MLUpdateModelInputTest {
         });
     }
 
+    @Test
+    public void parseIdleTtl() throws Exception {
+        testParseFromJsonString("{\"idle_ttl_in_minutes\":30}", parsedInput -> {
+            assertEquals(Integer.valueOf(30), parsedInput.getIdleTtlInMinutes());
+            try {
+                assertEquals("{\"model_id\":null,\"idle_ttl_in_minutes\":30}", serializationWithToXContentForUpdateRequestDoc(parsedInput));
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    @Test
+    public void parseNegativeIdleTtl() throws Exception {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("idle_ttl_in_minutes must not be negative");
+        testParseFromJsonString("{\"idle_ttl_in_minutes\":-1}", parsedInput -> {});
+    }
+
+    @Test
+    public void readInputStreamIdleTtl() throws IOException {
+        updateModelInput.setIdleTtlInMinutes(30);
+        readInputStream(updateModelInput, parsedInput -> {
+            assertEquals(Integer.valueOf(30), parsedInput.getIdleTtlInMinutes());
+        });
+    }
+
     private void testParseFromJsonString(String expectedInputStr, Consumer<MLUpdateModelInput> verify) throws Exception {
         XContentParser parser = XContentType.JSON.xContent().createParser(new NamedXContentRegistry(new SearchModule(Settings.EMPTY,
                 Collections.emptyList()).getNamedXContents()), LoggingDeprecationHandler.INSTANCE, expectedInputStr);
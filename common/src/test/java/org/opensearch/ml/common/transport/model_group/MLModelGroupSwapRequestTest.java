@@ -0,0 +1,72 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.model_group;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.Test;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.XContentParser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class MLModelGroupSwapRequestTest {
+
+    @Test
+    public void writeTo_Success() throws IOException {
+        MLModelGroupSwapRequest request = MLModelGroupSwapRequest.builder()
+                .modelGroupId("test_group")
+                .modelId("test_model")
+                .warmUpDocs(List.of("hello", "world"))
+                .warmUpRounds(3)
+                .build();
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        request.writeTo(bytesStreamOutput);
+        request = new MLModelGroupSwapRequest(bytesStreamOutput.bytes().streamInput());
+        assertEquals("test_group", request.getModelGroupId());
+        assertEquals("test_model", request.getModelId());
+        assertEquals(List.of("hello", "world"), request.getWarmUpDocs());
+        assertEquals(MLModelGroupSwapRequest.DEFAULT_WARM_UP_BATCH_SIZE, request.getWarmUpBatchSize());
+        assertEquals(3, request.getWarmUpRounds());
+    }
+
+    @Test
+    public void parse_Success() throws IOException {
+        String json = "{\"model_id\":\"test_model\",\"warm_up_docs\":[\"hello\"],\"warm_up_batch_size\":8,\"unknown\":{\"a\":1}}";
+        XContentParser parser = XContentType.JSON.xContent().createParser(NamedXContentRegistry.EMPTY, null, json);
+        parser.nextToken();
+        MLModelGroupSwapRequest request = MLModelGroupSwapRequest.parse(parser, "test_group");
+        assertEquals("test_group", request.getModelGroupId());
+        assertEquals("test_model", request.getModelId());
+        assertEquals(List.of("hello"), request.getWarmUpDocs());
+        assertEquals(8, request.getWarmUpBatchSize());
+        assertEquals(1, request.getWarmUpRounds());
+        assertNull(request.validate());
+    }
+
+    @Test
+    public void validate_Exception() {
+        MLModelGroupSwapRequest request = MLModelGroupSwapRequest.builder().warmUpBatchSize(0).warmUpRounds(1000).build();
+        ActionRequestValidationException exception = request.validate();
+        assertEquals(4, exception.validationErrors().size());
+        assertTrue(exception.getMessage().contains("model group id can't be null"));
+        assertTrue(exception.getMessage().contains("warm up batch size must be between 1 and 1000"));
+        assertTrue(exception.getMessage().contains("warm up rounds must be between 1 and 100"));
+    }
+
+    @Test
+    public void fromActionRequest_Success() {
+        MLModelGroupSwapRequest request = MLModelGroupSwapRequest.builder().modelGroupId("test_group").modelId("test_model").build();
+        assertSame(request, MLModelGroupSwapRequest.fromActionRequest(request));
+    }
+}
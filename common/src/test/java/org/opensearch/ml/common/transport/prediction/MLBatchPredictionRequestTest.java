@@ -0,0 +1,103 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.prediction;
+
+import java.io.IOException;
+import java.util.Collections;
+
+import org.junit.Test;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.io.stream.NamedWriteableAwareStreamInput;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.index.query.MatchAllQueryBuilder;
+import org.opensearch.index.query.TermQueryBuilder;
+import org.opensearch.search.SearchModule;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class MLBatchPredictionRequestTest {
+
+    @Test
+    public void writeTo_Success() throws IOException {
+        MLBatchPredictionRequest request = MLBatchPredictionRequest.builder()
+                .modelId("test_model")
+                .sourceIndex("source")
+                .query(new TermQueryBuilder("category", "news"))
+                .inputField("text")
+                .outputField("embedding")
+                .concurrency(4)
+                .maxDocsPerSecond(100)
+                .resumeTaskId("task_id")
+                .build();
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        request.writeTo(bytesStreamOutput);
+        NamedWriteableRegistry registry = new NamedWriteableRegistry(new SearchModule(Settings.EMPTY, Collections.emptyList()).getNamedWriteables());
+        request = new MLBatchPredictionRequest(new NamedWriteableAwareStreamInput(bytesStreamOutput.bytes().streamInput(), registry));
+        assertEquals("test_model", request.getModelId());
+        assertEquals("source", request.getSourceIndex());
+        assertEquals(new TermQueryBuilder("category", "news"), request.getQuery());
+        assertEquals("text", request.getInputField());
+        assertEquals("source", request.getTargetIndex());
+        assertEquals("embedding", request.getOutputField());
+        assertEquals(MLBatchPredictionRequest.DEFAULT_BATCH_SIZE, request.getBatchSize());
+        assertEquals(4, request.getConcurrency().intValue());
+        assertEquals(100, request.getMaxDocsPerSecond().intValue());
+        assertEquals("task_id", request.getResumeTaskId());
+    }
+
+    @Test
+    public void parse_Success() throws IOException {
+        String jsonStr = "{\"source_index\":\"source\",\"query\":{\"match_all\":{}},\"input_field\":\"text\","
+                + "\"target_index\":\"target\",\"output_field\":\"embedding\",\"batch_size\":64,\"unknown\":{\"a\":1}}";
+        XContentParser parser = XContentType.JSON.xContent().createParser(new NamedXContentRegistry(new SearchModule(Settings.EMPTY,
+                Collections.emptyList()).getNamedXContents()), null, jsonStr);
+        parser.nextToken();
+        MLBatchPredictionRequest request = MLBatchPredictionRequest.parse(parser, "test_model");
+        assertEquals("test_model", request.getModelId());
+        assertEquals("source", request.getSourceIndex());
+        assertTrue(request.getQuery() instanceof MatchAllQueryBuilder);
+        assertEquals("target", request.getTargetIndex());
+        assertEquals(64, request.getBatchSize());
+        assertNull(request.getConcurrency());
+        assertNull(request.getResumeTaskId());
+        assertNull(request.validate());
+    }
+
+    @Test
+    public void validate_Exception() {
+        MLBatchPredictionRequest request = MLBatchPredictionRequest.builder()
+                .batchSize(MLBatchPredictionRequest.MAX_BATCH_SIZE + 1)
+                .concurrency(0)
+                .maxDocsPerSecond(0)
+                .build();
+        ActionRequestValidationException exception = request.validate();
+        assertEquals(
+                "Validation Failed: 1: ML model id can't be null;2: source index can't be null;3: input field can't be null;"
+                        + "4: output field can't be null;5: batch size must be between 1 and 1000;6: concurrency must be positive;"
+                        + "7: max docs per second must be positive;",
+                exception.getMessage()
+        );
+    }
+
+    @Test
+    public void fromActionRequest_Success_WithMLBatchPredictionRequest() {
+        MLBatchPredictionRequest request = MLBatchPredictionRequest.builder()
+                .modelId("test_model")
+                .sourceIndex("source")
+                .inputField("text")
+                .outputField("embedding")
+                .build();
+        assertSame(MLBatchPredictionRequest.fromActionRequest(request), request);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.prediction;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
+import org.opensearch.ml.common.input.MLInput;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class MLBulkPredictionRequestTest {
+
+    private MLInput mlInput;
+
+    @Before
+    public void setUp() {
+        mlInput = MLInput.builder()
+                .algorithm(FunctionName.TEXT_EMBEDDING)
+                .inputDataset(TextDocsInputDataSet.builder().docs(Arrays.asList("doc1", "doc2")).build())
+                .build();
+    }
+
+    @Test
+    public void writeTo_Success() throws IOException {
+        MLBulkPredictionRequest request = MLBulkPredictionRequest.builder()
+                .modelId("test_model")
+                .mlInputs(Arrays.asList(mlInput, mlInput))
+                .maxConcurrency(8)
+                .build();
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        request.writeTo(bytesStreamOutput);
+        request = new MLBulkPredictionRequest(bytesStreamOutput.bytes().streamInput());
+        assertEquals("test_model", request.getModelId());
+        assertEquals(2, request.getMlInputs().size());
+        assertEquals(FunctionName.TEXT_EMBEDDING, request.getMlInputs().get(1).getAlgorithm());
+        assertEquals(Arrays.asList("doc1", "doc2"), ((TextDocsInputDataSet) request.getMlInputs().get(1).getInputDataset()).getDocs());
+        assertEquals(8, request.getMaxConcurrency().intValue());
+    }
+
+    @Test
+    public void writeTo_Chunk() throws IOException {
+        MLBulkPredictionRequest request = new MLBulkPredictionRequest("test_model", Collections.singletonList(mlInput), 2);
+        assertTrue(request.isDispatchTask());
+        request.setDispatchTask(false);
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        request.writeTo(bytesStreamOutput);
+        request = new MLBulkPredictionRequest(bytesStreamOutput.bytes().streamInput());
+        assertFalse(request.isDispatchTask());
+        assertEquals(1, request.getMlInputs().size());
+        assertEquals(2, request.getMaxConcurrency().intValue());
+    }
+
+    @Test
+    public void validate_Success() {
+        MLBulkPredictionRequest request = new MLBulkPredictionRequest("test_model", Collections.singletonList(mlInput), null);
+        assertNull(request.validate());
+    }
+
+    @Test
+    public void validate_Exception() {
+        MLBulkPredictionRequest request = new MLBulkPredictionRequest(null, Collections.emptyList(), 0);
+        ActionRequestValidationException exception = request.validate();
+        assertEquals(
+                "Validation Failed: 1: ML model id can't be null;2: ML inputs can't be null or empty;3: max concurrency must be positive;",
+                exception.getMessage()
+        );
+    }
+
+    @Test
+    public void fromActionRequest_Success_WithMLBulkPredictionRequest() {
+        MLBulkPredictionRequest request = new MLBulkPredictionRequest("test_model", Collections.singletonList(mlInput), null);
+        assertSame(MLBulkPredictionRequest.fromActionRequest(request), request);
+    }
+
+    @Test
+    public void fromActionRequest_Success_WithNonMLBulkPredictionRequest() {
+        MLBulkPredictionRequest request = new MLBulkPredictionRequest("test_model", Collections.singletonList(mlInput), 2);
+        ActionRequest actionRequest = new ActionRequest() {
+            @Override
+            public ActionRequestValidationException validate() {
+                return null;
+            }
+
+            @Override
+            public void writeTo(StreamOutput out) throws IOException {
+                request.writeTo(out);
+            }
+        };
+        MLBulkPredictionRequest result = MLBulkPredictionRequest.fromActionRequest(actionRequest);
+        assertNotSame(result, request);
+        assertEquals(request.getModelId(), result.getModelId());
+        assertEquals(1, result.getMlInputs().size());
+        assertEquals(2, result.getMaxConcurrency().intValue());
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.prediction;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.ml.common.TestHelper;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class MLBulkPredictionResponseTest {
+
+    private MLBulkPredictionResponse response;
+
+    @Before
+    public void setUp() {
+        ModelTensor tensor = ModelTensor.builder().name("response").result("test result").build();
+        ModelTensorOutput output = ModelTensorOutput.builder()
+                .mlModelOutputs(Collections.singletonList(ModelTensors.builder().mlModelTensors(Collections.singletonList(tensor)).build()))
+                .build();
+        response = MLBulkPredictionResponse.builder()
+                .items(Arrays.asList(
+                        new MLBulkPredictionResponse.Item(output),
+                        new MLBulkPredictionResponse.Item(RestStatus.TOO_MANY_REQUESTS, "Request is throttled at model level.")))
+                .tookInMillis(10)
+                .build();
+    }
+
+    @Test
+    public void writeTo_Success() throws IOException {
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        response.writeTo(bytesStreamOutput);
+        MLBulkPredictionResponse parsed = new MLBulkPredictionResponse(bytesStreamOutput.bytes().streamInput());
+        assertEquals(2, parsed.getItems().size());
+        assertEquals(10, parsed.getTookInMillis());
+        assertTrue(parsed.hasFailures());
+
+        MLBulkPredictionResponse.Item success = parsed.getItems().get(0);
+        assertFalse(success.isFailed());
+        assertEquals(RestStatus.OK, success.getStatus());
+        assertNull(success.getError());
+        ModelTensorOutput output = (ModelTensorOutput) success.getOutput();
+        assertEquals("test result", output.getMlModelOutputs().get(0).getMlModelTensors().get(0).getResult());
+
+        MLBulkPredictionResponse.Item failure = parsed.getItems().get(1);
+        assertTrue(failure.isFailed());
+        assertEquals(RestStatus.TOO_MANY_REQUESTS, failure.getStatus());
+        assertNull(failure.getOutput());
+    }
+
+    @Test
+    public void fromActionResponse_Success() {
+        assertEquals(response, MLBulkPredictionResponse.fromActionResponse(response));
+    }
+
+    @Test
+    public void itemToXContent() throws IOException {
+        XContentBuilder builder = XContentFactory.jsonBuilder();
+        response.getItems().get(0).toXContent(builder, ToXContent.EMPTY_PARAMS);
+        assertEquals(
+                "{\"status\":200,\"output\":{\"inference_results\":[{\"output\":[{\"name\":\"response\",\"result\":\"test result\"}]}]}}",
+                TestHelper.xContentBuilderToString(builder)
+        );
+
+        builder = XContentFactory.jsonBuilder();
+        response.getItems().get(1).toXContent(builder, ToXContent.EMPTY_PARAMS);
+        assertEquals(
+                "{\"status\":429,\"error\":\"Request is throttled at model level.\"}",
+                TestHelper.xContentBuilderToString(builder)
+        );
+    }
+}
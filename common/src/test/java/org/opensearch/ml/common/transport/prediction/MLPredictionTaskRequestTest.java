@@ -13,10 +13,12 @@ import java.util.HashMap;
 import lombok.NonNull;
 import org.junit.Before;
 import org.junit.Test;
+import org.opensearch.Version;
 import org.opensearch.action.ActionRequest;
 import org.opensearch.action.ActionRequestValidationException;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.commons.authuser.User;
+import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.index.query.MatchAllQueryBuilder;
 import org.opensearch.ml.common.dataframe.ColumnType;
@@ -32,9 +34,11 @@ import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.search.builder.SearchSourceBuilder;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 public class MLPredictionTaskRequestTest {
 
@@ -82,6 +86,22 @@ public class MLPredictionTaskRequestTest {
         assertNull(request.getModelId());
     }
 
+    @Test
+    public void writeTo_Profile() throws IOException {
+        MLPredictionTaskRequest request = MLPredictionTaskRequest.builder().mlInput(mlInput).build();
+        request.setProfile(true);
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        request.writeTo(bytesStreamOutput);
+        assertTrue(new MLPredictionTaskRequest(bytesStreamOutput.bytes().streamInput()).isProfile());
+
+        bytesStreamOutput = new BytesStreamOutput();
+        bytesStreamOutput.setVersion(Version.V_2_12_0);
+        request.writeTo(bytesStreamOutput);
+        StreamInput in = bytesStreamOutput.bytes().streamInput();
+        in.setVersion(Version.V_2_12_0);
+        assertFalse(new MLPredictionTaskRequest(in).isProfile());
+    }
+
     @Test
     public void validate_Success() {
         User user = User.parse("admin|role-1|all_access");
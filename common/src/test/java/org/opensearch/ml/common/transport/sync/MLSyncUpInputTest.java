@@ -1,6 +1,7 @@
 package org.opensearch.ml.common.transport.sync;
 
 import org.junit.Test;
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.core.common.io.stream.StreamInput;
 
@@ -71,4 +72,52 @@ public class MLSyncUpInputTest {
         assertEquals(syncUpInput.getRunningDeployModelTasks().get("runningDeployModelTaskKey1"), parsedInput.getRunningDeployModelTasks().get("runningDeployModelTaskKey1"));
 
     }
+
+    @Test
+    public void testConstructorSerialization_ModelGroupServingModels() throws IOException {
+        MLSyncUpInput syncUpInput = MLSyncUpInput.builder()
+                .modelGroupServingModels(Map.of("modelGroup1", "model2"))
+                .build();
+
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        syncUpInput.writeTo(bytesStreamOutput);
+        MLSyncUpInput parsedInput = new MLSyncUpInput(bytesStreamOutput.bytes().streamInput());
+        assertEquals(Map.of("modelGroup1", "model2"), parsedInput.getModelGroupServingModels());
+
+        bytesStreamOutput = new BytesStreamOutput();
+        bytesStreamOutput.setVersion(Version.V_2_12_0);
+        syncUpInput.writeTo(bytesStreamOutput);
+        StreamInput streamInput = bytesStreamOutput.bytes().streamInput();
+        streamInput.setVersion(Version.V_2_12_0);
+        assertNull(new MLSyncUpInput(streamInput).getModelGroupServingModels());
+    }
+
+    @Test
+    public void testConstructorSerialization_DeltaSyncUp() throws IOException {
+        MLSyncUpInput syncUpInput = MLSyncUpInput.builder()
+                .nodeGenerations(Map.of("node1", 3L))
+                .routingTableId("table1")
+                .routingTableVersion(5L)
+                .routingTableDelta(true)
+                .build();
+
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        syncUpInput.writeTo(bytesStreamOutput);
+        MLSyncUpInput parsedInput = new MLSyncUpInput(bytesStreamOutput.bytes().streamInput());
+        assertEquals(Map.of("node1", 3L), parsedInput.getNodeGenerations());
+        assertEquals("table1", parsedInput.getRoutingTableId());
+        assertEquals(5L, parsedInput.getRoutingTableVersion());
+        assertTrue(parsedInput.isRoutingTableDelta());
+
+        bytesStreamOutput = new BytesStreamOutput();
+        bytesStreamOutput.setVersion(Version.V_2_12_0);
+        syncUpInput.writeTo(bytesStreamOutput);
+        StreamInput streamInput = bytesStreamOutput.bytes().streamInput();
+        streamInput.setVersion(Version.V_2_12_0);
+        parsedInput = new MLSyncUpInput(streamInput);
+        assertNull(parsedInput.getNodeGenerations());
+        assertNull(parsedInput.getRoutingTableId());
+        assertEquals(-1L, parsedInput.getRoutingTableVersion());
+        assertFalse(parsedInput.isRoutingTableDelta());
+    }
 }
@@ -7,6 +7,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 import org.opensearch.Version;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.transport.TransportAddress;
 
 import java.io.IOException;
@@ -62,4 +63,27 @@ public class MLSyncUpNodeResponseTest {
         assertArrayEquals(newResponse.getRunningDeployModelTaskIds(), response.getRunningDeployModelTaskIds());
 
     }
+
+    @Test
+    public void testSerializationDeserialization_Generation() throws IOException {
+        MLSyncUpNodeResponse response = new MLSyncUpNodeResponse(localNode, modelStatus, null, null, null, 3L, true, "table1", 5L);
+        BytesStreamOutput output = new BytesStreamOutput();
+        response.writeTo(output);
+        MLSyncUpNodeResponse newResponse = new MLSyncUpNodeResponse(output.bytes().streamInput());
+        assertEquals(3L, newResponse.getGeneration());
+        assertTrue(newResponse.isUnchanged());
+        assertEquals("table1", newResponse.getRoutingTableId());
+        assertEquals(5L, newResponse.getRoutingTableVersion());
+        assertNull(newResponse.getDeployedModelIds());
+
+        output = new BytesStreamOutput();
+        output.setVersion(Version.V_2_12_0);
+        response.writeTo(output);
+        StreamInput streamInput = output.bytes().streamInput();
+        streamInput.setVersion(Version.V_2_12_0);
+        newResponse = new MLSyncUpNodeResponse(streamInput);
+        assertEquals(-1L, newResponse.getGeneration());
+        assertFalse(newResponse.isUnchanged());
+        assertNull(newResponse.getRoutingTableId());
+    }
 }
@@ -0,0 +1,77 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.utils;
+
+import java.io.IOException;
+import java.util.Random;
+
+import org.junit.Test;
+import org.opensearch.Version;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ColumnarCodecTest {
+
+    @Test
+    public void isColumnarFormatSupported() {
+        assertTrue(ColumnarCodec.isColumnarFormatSupported(Version.CURRENT));
+        assertFalse(ColumnarCodec.isColumnarFormatSupported(Version.V_2_12_0));
+    }
+
+    @Test
+    public void writeBlock_SmallBlockNotCompressed() throws IOException {
+        byte[] bytes = new byte[] { 1, 2, 3, 4 };
+        BytesStreamOutput out = new BytesStreamOutput();
+        ColumnarCodec.writeBlock(out, bytes);
+        StreamInput in = out.bytes().streamInput();
+        assertEquals(ColumnarCodec.FORMAT_VERSION, in.readByte());
+        assertEquals(ColumnarCodec.CODEC_NONE, in.readByte());
+
+        assertArrayEquals(bytes, ColumnarCodec.readBlock(out.bytes().streamInput()));
+    }
+
+    @Test
+    public void writeBlock_LargeBlockCompressed() throws IOException {
+        byte[] bytes = new byte[ColumnarCodec.COMPRESSION_THRESHOLD_IN_BYTES * 4];
+        for (int i = 0; i < bytes.length; i += 64) {
+            bytes[i] = (byte) i;
+        }
+        BytesStreamOutput out = new BytesStreamOutput();
+        ColumnarCodec.writeBlock(out, bytes);
+        assertTrue(out.size() < bytes.length);
+        StreamInput in = out.bytes().streamInput();
+        in.readByte();
+        assertEquals(ColumnarCodec.CODEC_LZ4, in.readByte());
+
+        assertArrayEquals(bytes, ColumnarCodec.readBlock(out.bytes().streamInput()));
+    }
+
+    @Test
+    public void writeBlock_IncompressibleBlockNotCompressed() throws IOException {
+        byte[] bytes = new byte[ColumnarCodec.COMPRESSION_THRESHOLD_IN_BYTES];
+        new Random(42).nextBytes(bytes);
+        BytesStreamOutput out = new BytesStreamOutput();
+        ColumnarCodec.writeBlock(out, bytes);
+        StreamInput in = out.bytes().streamInput();
+        in.readByte();
+        assertEquals(ColumnarCodec.CODEC_NONE, in.readByte());
+
+        assertArrayEquals(bytes, ColumnarCodec.readBlock(out.bytes().streamInput()));
+    }
+
+    @Test
+    public void packAndUnpack() {
+        Number[] floats = new Number[] { 1.5f, -2.25f, 0f };
+        assertArrayEquals(floats, ColumnarCodec.unpackFloats(ColumnarCodec.packFloats(floats)));
+        Number[] ints = new Number[] { 1, -2, Integer.MAX_VALUE };
+        assertArrayEquals(ints, ColumnarCodec.unpackInts(ColumnarCodec.packInts(ints)));
+    }
+}
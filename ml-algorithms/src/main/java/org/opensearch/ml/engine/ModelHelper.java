@@ -6,17 +6,16 @@
 package org.opensearch.ml.engine;
 
 import static org.opensearch.ml.common.utils.StringUtils.gson;
-import static org.opensearch.ml.engine.utils.FileUtils.calculateFileHash;
 import static org.opensearch.ml.engine.utils.FileUtils.deleteFileQuietly;
-import static org.opensearch.ml.engine.utils.FileUtils.splitFileIntoChunks;
 
-import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Path;
 import java.security.AccessController;
 import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
+import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.List;
@@ -31,6 +30,8 @@ import org.opensearch.ml.common.model.MLModelConfig;
 import org.opensearch.ml.common.model.MLModelFormat;
 import org.opensearch.ml.common.model.TextEmbeddingModelConfig;
 import org.opensearch.ml.common.transport.register.MLRegisterModelInput;
+import org.opensearch.ml.engine.utils.ModelChunkSplitter;
+import org.opensearch.ml.engine.utils.ResumableUrlInputStream;
 
 import com.google.gson.stream.JsonReader;
 
@@ -40,10 +41,11 @@ import lombok.extern.log4j.Log4j2;
 
 @Log4j2
 public class ModelHelper {
-    public static final String CHUNK_FILES = "chunk_files";
+    public static final String TOTAL_CHUNKS = "total_chunks";
     public static final String MODEL_SIZE_IN_BYTES = "model_size_in_bytes";
     public static final String MODEL_FILE_HASH = "model_file_hash";
     public static final int CHUNK_SIZE = 10_000_000; // 10MB
+    public static final int DOWNLOAD_MAX_RETRIES = 3;
     public static final String PYTORCH_FILE_EXTENSION = ".pt";
     public static final String ONNX_FILE_EXTENSION = ".onnx";
     public static final String TOKENIZER_FILE_NAME = "tokenizer.json";
@@ -200,13 +202,17 @@ public class ModelHelper {
     }
 
     /**
-     * Download model from URL and split it into smaller chunks.
+     * Download model from URL and split it into chunks in a single streaming pass. The model content is hashed and its
+     * zip entries are verified while it's downloaded, the model file is never written to local disk.
      * @param modelFormat model format
      * @param taskId task id
      * @param modelName model name
      * @param version model version
      * @param url model file URL
      * @param modelContentHash model content hash value
+     * @param functionName function name
+     * @param maxModelSizeInBytes max model file size in bytes, the download fails as soon as it's exceeded
+     * @param chunkConsumer receives chunks in order, can block to limit how many chunks are in flight
      * @param listener action listener
      */
     public void downloadAndSplit(
@@ -217,57 +223,70 @@ public class ModelHelper {
         String url,
         String modelContentHash,
         FunctionName functionName,
+        long maxModelSizeInBytes,
+        ModelChunkSplitter.ChunkConsumer chunkConsumer,
         ActionListener<Map<String, Object>> listener
     ) {
+        Map<String, Object> result;
         try {
-            AccessController.doPrivileged((PrivilegedExceptionAction<Void>) () -> {
-                Path registerModelPath = mlEngine.getRegisterModelPath(taskId, modelName, version);
-                String modelPath = registerModelPath + ".zip";
-                Path modelPartsPath = registerModelPath.resolve("chunks");
-                File modelZipFile = new File(modelPath);
-                log.debug("download model to file {}", modelZipFile.getAbsolutePath());
-                DownloadUtils.download(url, modelPath, new ProgressBar());
-                verifyModelZipFile(modelFormat, modelPath, modelName, functionName);
-                String hash = calculateFileHash(modelZipFile);
-                if (modelContentHash == null) {
-                    log.error("Hash code need to be provided when register via url.");
-                    throw (new IllegalArgumentException(
-                        "Model content Hash code need to be provided when register via url. Please calculate sha 256 Hash code."
-                    ));
-                } else if (hash.equals(modelContentHash)) {
-                    List<String> chunkFiles = splitFileIntoChunks(modelZipFile, modelPartsPath, CHUNK_SIZE);
-                    Map<String, Object> result = new HashMap<>();
-                    result.put(CHUNK_FILES, chunkFiles);
-                    result.put(MODEL_SIZE_IN_BYTES, modelZipFile.length());
-
-                    result.put(MODEL_FILE_HASH, calculateFileHash(modelZipFile));
-                    deleteFileQuietly(modelZipFile);
-                    listener.onResponse(result);
-                    return null;
-                } else {
+            if (modelContentHash == null) {
+                log.error("Hash code need to be provided when register via url.");
+                throw (new IllegalArgumentException(
+                    "Model content Hash code need to be provided when register via url. Please calculate sha 256 Hash code."
+                ));
+            }
+            result = AccessController.doPrivileged((PrivilegedExceptionAction<Map<String, Object>>) () -> {
+                log.debug("download and split model {} of task {}", modelName, taskId);
+                ModelChunkSplitter.Result splitResult;
+                try (InputStream source = new ResumableUrlInputStream(url, DOWNLOAD_MAX_RETRIES)) {
+                    splitResult = ModelChunkSplitter.split(source, CHUNK_SIZE, maxModelSizeInBytes, chunkConsumer);
+                }
+                verifyModelZipEntries(modelFormat, splitResult.getEntryNames(), modelName, functionName);
+                if (!splitResult.getHash().equals(modelContentHash)) {
                     log.error("Model content hash can't match original hash value when registering");
                     throw (new IllegalArgumentException("model content changed"));
                 }
+                Map<String, Object> splitInfo = new HashMap<>();
+                splitInfo.put(TOTAL_CHUNKS, splitResult.getTotalChunks());
+                splitInfo.put(MODEL_SIZE_IN_BYTES, splitResult.getSizeInBytes());
+                splitInfo.put(MODEL_FILE_HASH, splitResult.getHash());
+                return splitInfo;
             });
         } catch (Exception e) {
             listener.onFailure(e);
+            return;
         }
+        listener.onResponse(result);
     }
 
     public void verifyModelZipFile(MLModelFormat modelFormat, String modelZipFilePath, String modelName, FunctionName functionName)
         throws IOException {
-        boolean hasPtFile = false;
-        boolean hasOnnxFile = false;
-        boolean hasTokenizerFile = false;
+        List<String> fileNames = new ArrayList<>();
         try (ZipFile zipFile = new ZipFile(modelZipFilePath)) {
             Enumeration zipEntries = zipFile.entries();
             while (zipEntries.hasMoreElements()) {
-                String fileName = ((ZipEntry) zipEntries.nextElement()).getName();
-                hasPtFile = hasModelFile(modelFormat, MLModelFormat.TORCH_SCRIPT, PYTORCH_FILE_EXTENSION, hasPtFile, fileName);
-                hasOnnxFile = hasModelFile(modelFormat, MLModelFormat.ONNX, ONNX_FILE_EXTENSION, hasOnnxFile, fileName);
-                if (fileName.equals(TOKENIZER_FILE_NAME)) {
-                    hasTokenizerFile = true;
-                }
+                fileNames.add(((ZipEntry) zipEntries.nextElement()).getName());
+            }
+        }
+        verifyModelZipEntries(modelFormat, fileNames, modelName, functionName);
+    }
+
+    /**
+     * Verify the entries of a model zip file contain exactly one model file of the model format and a tokenizer file.
+     * @param modelFormat model format
+     * @param fileNames names of the zip entries
+     * @param modelName model name
+     * @param functionName function name
+     */
+    public void verifyModelZipEntries(MLModelFormat modelFormat, List<String> fileNames, String modelName, FunctionName functionName) {
+        boolean hasPtFile = false;
+        boolean hasOnnxFile = false;
+        boolean hasTokenizerFile = false;
+        for (String fileName : fileNames) {
+            hasPtFile = hasModelFile(modelFormat, MLModelFormat.TORCH_SCRIPT, PYTORCH_FILE_EXTENSION, hasPtFile, fileName);
+            hasOnnxFile = hasModelFile(modelFormat, MLModelFormat.ONNX, ONNX_FILE_EXTENSION, hasOnnxFile, fileName);
+            if (fileName.equals(TOKENIZER_FILE_NAME)) {
+                hasTokenizerFile = true;
             }
         }
         if (!hasPtFile && !hasOnnxFile && functionName != FunctionName.SPARSE_TOKENIZE) { // sparse tokenizer model doesn't need model file.
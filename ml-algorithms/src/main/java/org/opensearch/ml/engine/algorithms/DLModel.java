@@ -58,6 +58,7 @@ public abstract class DLModel implements Predictable {
     public static final String MODEL_ZIP_FILE = "model_zip_file";
     public static final String MODEL_HELPER = "model_helper";
     public static final String ML_ENGINE = "ml_engine";
+    public static final String MODEL_EXTRACTED_PATH = "model_extracted_path";
     protected ModelHelper modelHelper;
     protected MLEngine mlEngine;
     protected String modelId;
@@ -118,6 +119,7 @@ public abstract class DLModel implements Predictable {
         }
 
         File modelZipFile = (File) params.get(MODEL_ZIP_FILE);
+        Path extractedModelPath = (Path) params.get(MODEL_EXTRACTED_PATH);
         modelHelper = (ModelHelper) params.get(MODEL_HELPER);
         mlEngine = (MLEngine) params.get(ML_ENGINE);
         if (modelZipFile == null) {
@@ -136,7 +138,7 @@ public abstract class DLModel implements Predictable {
         if (!FunctionName.isDLModel(model.getAlgorithm())) {
             throw new IllegalArgumentException("wrong function name");
         }
-        loadModel(modelZipFile, modelId, model.getName(), model.getVersion(), model.getModelConfig(), engine);
+        loadModel(modelZipFile, extractedModelPath, modelId, model.getName(), model.getVersion(), model.getModelConfig(), engine);
     }
 
     @Override
@@ -194,6 +196,15 @@ public abstract class DLModel implements Predictable {
                 .optEngine(engine)
                 .optDevice(devices[i])
                 .optModelPath(modelPath);
+            String modelFileName = findModelFileName(modelPath);
+            if (modelFileName != null) {
+                // Load the model file as it is named in the zip file, the model folder can be shared and is never modified.
+                criteriaBuilder.optModelName(modelFileName);
+            }
+            if (PYTORCH_ENGINE.equals(engine)) {
+                // Load weights directly to the target device instead of staging a copy in host memory first.
+                criteriaBuilder.optOption("mapLocation", "true");
+            }
             Translator translator = getTranslator(engine, modelConfig);
             TranslatorFactory translatorFactory = getTranslatorFactory(engine, modelConfig);
             if (translatorFactory != null) {
@@ -232,6 +243,7 @@ public abstract class DLModel implements Predictable {
 
     protected void loadModel(
         File modelZipFile,
+        Path extractedModelPath,
         String modelId,
         String modelName,
         String version,
@@ -255,28 +267,23 @@ public abstract class DLModel implements Predictable {
                     System.setProperty("ai.djl.pytorch.num_interop_threads", "1");
                     System.setProperty("ai.djl.pytorch.num_threads", "1");
                     Thread.currentThread().setContextClassLoader(ai.djl.Model.class.getClassLoader());
-                    Path modelPath = mlEngine.getModelCachePath(modelId, modelName, version);
-                    File pathFile = new File(modelPath.toUri());
-                    if (pathFile.exists()) {
-                        FileUtils.deleteDirectory(pathFile);
-                    }
-                    ZipUtils.unzip(modelZipFile, modelPath);
-                    boolean findModelFile = false;
-                    for (File file : pathFile.listFiles()) {
-                        String name = file.getName();
-                        if (name.endsWith(PYTORCH_FILE_EXTENSION) || name.endsWith(ONNX_FILE_EXTENSION)) {
-                            if (findModelFile) {
-                                throw new IllegalArgumentException("found multiple models");
-                            }
-                            findModelFile = true;
-                            int dotIndex = name.lastIndexOf(".");
-                            String suffix = name.substring(dotIndex);
-                            String targetModelFileName = modelPath.getFileName().toString();
-                            if (!targetModelFileName.equals(name.substring(0, dotIndex))) {
-                                file.renameTo(new File(modelPath.resolve(targetModelFileName + suffix).toUri()));
-                            }
+                    Path modelPath;
+                    if (extractedModelPath != null) {
+                        // Shared by all deployments of the same model content on this node, only extracted once.
+                        modelPath = extractedModelPath;
+                        if (!ZipUtils.unzipOnce(modelZipFile, modelPath)) {
+                            log.debug("Reuse extracted model files of model {} at {}", modelId, modelPath);
                         }
+                    } else {
+                        modelPath = mlEngine.getModelCachePath(modelId, modelName, version);
+                        File pathFile = new File(modelPath.toUri());
+                        if (pathFile.exists()) {
+                            FileUtils.deleteDirectory(pathFile);
+                        }
+                        ZipUtils.unzip(modelZipFile, modelPath);
                     }
+                    // fail early if the zip file contains multiple model files
+                    findModelFileName(modelPath);
                     doLoadModel(predictorList, modelList, engine, modelPath, modelConfig);
                     return null;
                 } catch (Throwable e) {
@@ -304,6 +311,29 @@ public abstract class DLModel implements Predictable {
         }
     }
 
+    /**
+     * Find the model file in the extracted model folder.
+     * @param modelPath extracted model folder
+     * @return model file name without extension, or null if there is no model file
+     */
+    protected String findModelFileName(Path modelPath) {
+        File[] files = new File(modelPath.toUri()).listFiles();
+        if (files == null) {
+            return null;
+        }
+        String modelFileName = null;
+        for (File file : files) {
+            String name = file.getName();
+            if (name.endsWith(PYTORCH_FILE_EXTENSION) || name.endsWith(ONNX_FILE_EXTENSION)) {
+                if (modelFileName != null) {
+                    throw new IllegalArgumentException("found multiple models");
+                }
+                modelFileName = name.substring(0, name.lastIndexOf("."));
+            }
+        }
+        return modelFileName;
+    }
+
     protected void closePredictors(Predictor[] predictors) {
         log.debug("will close {} predictor for model {}", predictors.length, modelId);
         for (Predictor<Input, Output> predictor : predictors) {
@@ -4,6 +4,9 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Map;
 
+import org.opensearch.ml.common.profile.MLPredictStage;
+import org.opensearch.ml.common.profile.MLPredictStageTimer;
+
 import ai.djl.huggingface.tokenizers.Encoding;
 import ai.djl.huggingface.tokenizers.HuggingFaceTokenizer;
 import ai.djl.modality.Input;
@@ -30,11 +33,13 @@ public abstract class SentenceTransformerTranslator implements ServingTranslator
 
     @Override
     public NDList processInput(TranslatorContext ctx, Input input) {
+        long startNanos = MLPredictStageTimer.start();
         String sentence = input.getAsString(0);
         NDManager manager = ctx.getNDManager();
         NDList ndList = new NDList();
         Encoding encodings = tokenizer.encode(sentence);
         long[] indices = encodings.getIds();
+        MLPredictStageTimer.addInputTokens(indices.length);
         long[] attentionMask = encodings.getAttentionMask();
 
         NDArray indicesArray = manager.create(indices);
@@ -45,6 +50,7 @@ public abstract class SentenceTransformerTranslator implements ServingTranslator
 
         ndList.add(indicesArray);
         ndList.add(attentionMaskArray);
+        MLPredictStageTimer.stop(MLPredictStage.TOKENIZE, startNanos);
         return ndList;
     }
 
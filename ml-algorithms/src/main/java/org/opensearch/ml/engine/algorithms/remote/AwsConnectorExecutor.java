@@ -7,6 +7,12 @@ package org.opensearch.ml.engine.algorithms.remote;
 
 import static org.opensearch.ml.common.CommonValue.REMOTE_SERVICE_ERROR;
 import static org.opensearch.ml.common.connector.ConnectorProtocols.AWS_SIGV4;
+import static org.opensearch.ml.common.telemetry.MLTracer.CONNECTOR_HTTP_SPAN;
+import static org.opensearch.ml.common.telemetry.MLTracer.CONNECTOR_PROTOCOL_ATTRIBUTE;
+import static org.opensearch.ml.common.telemetry.MLTracer.HTTP_HOST_ATTRIBUTE;
+import static org.opensearch.ml.common.telemetry.MLTracer.HTTP_METHOD_ATTRIBUTE;
+import static org.opensearch.ml.common.telemetry.MLTracer.HTTP_STATUS_CODE_ATTRIBUTE;
+import static org.opensearch.ml.common.telemetry.MLTracer.TRACEPARENT_HEADER;
 import static org.opensearch.ml.engine.algorithms.remote.ConnectorUtils.processOutput;
 import static software.amazon.awssdk.http.SdkHttpMethod.POST;
 
@@ -28,8 +34,12 @@ import org.opensearch.ml.common.connector.Connector;
 import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.common.profile.MLPredictStage;
+import org.opensearch.ml.common.profile.MLPredictStageTimer;
+import org.opensearch.ml.common.telemetry.MLTracer;
 import org.opensearch.ml.engine.annotation.ConnectorExecutor;
 import org.opensearch.script.ScriptService;
+import org.opensearch.telemetry.tracing.Span;
 
 import lombok.Getter;
 import lombok.Setter;
@@ -61,6 +71,9 @@ public class AwsConnectorExecutor implements RemoteConnectorExecutor {
     @Setter
     @Getter
     private Client client;
+    @Setter
+    @Getter
+    private MLTracer tracer = MLTracer.NOOP;
 
     public AwsConnectorExecutor(Connector connector, SdkHttpClient httpClient) {
         this.connector = (AwsConnector) connector;
@@ -73,6 +86,8 @@ public class AwsConnectorExecutor implements RemoteConnectorExecutor {
 
     @Override
     public void invokeRemoteModel(MLInput mlInput, Map<String, String> parameters, String payload, List<ModelTensors> tensorOutputs) {
+        Span span = tracer
+            .startClientSpan(CONNECTOR_HTTP_SPAN, CONNECTOR_PROTOCOL_ATTRIBUTE, AWS_SIGV4, HTTP_METHOD_ATTRIBUTE, POST.name());
         try {
             String endpoint = connector.getPredictEndpoint(parameters);
             RequestBody requestBody = RequestBody.fromString(payload);
@@ -88,6 +103,13 @@ public class AwsConnectorExecutor implements RemoteConnectorExecutor {
                     builder.putHeader(key, headers.get(key));
                 }
             }
+            // the span of the call is the parent of the spans of the remote service, unless the connector sets the header;
+            // the header is signed with the others
+            String traceparent = MLTracer.hasTraceparent(headers) ? null : tracer.traceparent(span);
+            if (traceparent != null) {
+                builder.putHeader(TRACEPARENT_HEADER, traceparent);
+            }
+            span.addAttribute(HTTP_HOST_ATTRIBUTE, builder.host());
             SdkHttpFullRequest request = builder.build();
             HttpExecuteRequest executeRequest = HttpExecuteRequest
                 .builder()
@@ -95,10 +117,12 @@ public class AwsConnectorExecutor implements RemoteConnectorExecutor {
                 .contentStreamProvider(request.contentStreamProvider().orElse(null))
                 .build();
 
+            long startNanos = MLPredictStageTimer.start();
             HttpExecuteResponse response = AccessController.doPrivileged((PrivilegedExceptionAction<HttpExecuteResponse>) () -> {
                 return httpClient.prepareRequest(executeRequest).call();
             });
             int statusCode = response.httpResponse().statusCode();
+            span.addAttribute(HTTP_STATUS_CODE_ATTRIBUTE, (long) statusCode);
 
             AbortableInputStream body = null;
             if (response.responseBody().isPresent()) {
@@ -116,7 +140,9 @@ public class AwsConnectorExecutor implements RemoteConnectorExecutor {
             } else {
                 throw new OpenSearchStatusException("No response from model", RestStatus.BAD_REQUEST);
             }
+            MLPredictStageTimer.stop(MLPredictStage.REMOTE_HTTP, startNanos);
             String modelResponse = responseBuilder.toString();
+            recordRemoteBytes(payload, modelResponse);
             if (statusCode < 200 || statusCode >= 300) {
                 throw new OpenSearchStatusException(REMOTE_SERVICE_ERROR + modelResponse, RestStatus.fromCode(statusCode));
             }
@@ -126,10 +152,15 @@ public class AwsConnectorExecutor implements RemoteConnectorExecutor {
             tensorOutputs.add(tensors);
         } catch (RuntimeException exception) {
             log.error("Failed to execute predict in aws connector: " + exception.getMessage(), exception);
+            span.setError(exception);
             throw exception;
         } catch (Throwable e) {
             log.error("Failed to execute predict in aws connector", e);
-            throw new MLException("Fail to execute predict in aws connector", e);
+            MLException exception = new MLException("Fail to execute predict in aws connector", e);
+            span.setError(exception);
+            throw exception;
+        } finally {
+            span.endSpan();
         }
     }
 
@@ -36,6 +36,8 @@ import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.common.profile.MLPredictStage;
+import org.opensearch.ml.common.profile.MLPredictStageTimer;
 import org.opensearch.script.ScriptService;
 
 import com.jayway.jsonpath.JsonPath;
@@ -70,8 +72,10 @@ public class ConnectorUtils {
         if (predictAction.isEmpty()) {
             throw new IllegalArgumentException("no predict action found");
         }
+        long startNanos = MLPredictStageTimer.start();
         RemoteInferenceInputDataSet inputData = processMLInput(mlInput, connector, parameters, scriptService);
         escapeRemoteInferenceInputData(inputData);
+        MLPredictStageTimer.stop(MLPredictStage.PRE_PROCESS, startNanos);
         return inputData;
     }
 
@@ -184,6 +188,18 @@ public class ConnectorUtils {
         if (modelResponse == null) {
             throw new IllegalArgumentException("model response is null");
         }
+        long startNanos = MLPredictStageTimer.start();
+        ModelTensors modelTensors = processModelResponse(modelResponse, connector, scriptService, parameters);
+        MLPredictStageTimer.stop(MLPredictStage.POST_PROCESS, startNanos);
+        return modelTensors;
+    }
+
+    private static ModelTensors processModelResponse(
+        String modelResponse,
+        Connector connector,
+        ScriptService scriptService,
+        Map<String, String> parameters
+    ) throws IOException {
         List<ModelTensor> modelTensors = new ArrayList<>();
         Optional<ConnectorAction> predictAction = connector.findPredictAction();
         if (predictAction.isEmpty()) {
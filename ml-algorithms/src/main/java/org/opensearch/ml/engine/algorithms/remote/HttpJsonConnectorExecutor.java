@@ -7,6 +7,12 @@ package org.opensearch.ml.engine.algorithms.remote;
 
 import static org.opensearch.ml.common.CommonValue.REMOTE_SERVICE_ERROR;
 import static org.opensearch.ml.common.connector.ConnectorProtocols.HTTP;
+import static org.opensearch.ml.common.telemetry.MLTracer.CONNECTOR_HTTP_SPAN;
+import static org.opensearch.ml.common.telemetry.MLTracer.CONNECTOR_PROTOCOL_ATTRIBUTE;
+import static org.opensearch.ml.common.telemetry.MLTracer.HTTP_HOST_ATTRIBUTE;
+import static org.opensearch.ml.common.telemetry.MLTracer.HTTP_METHOD_ATTRIBUTE;
+import static org.opensearch.ml.common.telemetry.MLTracer.HTTP_STATUS_CODE_ATTRIBUTE;
+import static org.opensearch.ml.common.telemetry.MLTracer.TRACEPARENT_HEADER;
 import static org.opensearch.ml.engine.algorithms.remote.ConnectorUtils.processOutput;
 
 import java.security.AccessController;
@@ -14,6 +20,7 @@ import java.security.PrivilegedExceptionAction;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.http.HttpEntity;
@@ -33,9 +40,13 @@ import org.opensearch.ml.common.connector.HttpConnector;
 import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.common.profile.MLPredictStage;
+import org.opensearch.ml.common.profile.MLPredictStageTimer;
+import org.opensearch.ml.common.telemetry.MLTracer;
 import org.opensearch.ml.engine.annotation.ConnectorExecutor;
 import org.opensearch.ml.engine.httpclient.MLHttpClientFactory;
 import org.opensearch.script.ScriptService;
+import org.opensearch.telemetry.tracing.Span;
 
 import lombok.Getter;
 import lombok.Setter;
@@ -60,6 +71,12 @@ public class HttpJsonConnectorExecutor implements RemoteConnectorExecutor {
     @Setter
     @Getter
     private Client client;
+    @Setter
+    @Getter
+    private AtomicBoolean connectorPrivateIpEnabled;
+    @Setter
+    @Getter
+    private MLTracer tracer = MLTracer.NOOP;
 
     public HttpJsonConnectorExecutor(Connector connector) {
         this.connector = (HttpConnector) connector;
@@ -67,12 +84,14 @@ public class HttpJsonConnectorExecutor implements RemoteConnectorExecutor {
 
     @Override
     public void invokeRemoteModel(MLInput mlInput, Map<String, String> parameters, String payload, List<ModelTensors> tensorOutputs) {
+        String method = connector.getPredictHttpMethod();
+        Span span = tracer.startClientSpan(CONNECTOR_HTTP_SPAN, CONNECTOR_PROTOCOL_ATTRIBUTE, HTTP, HTTP_METHOD_ATTRIBUTE, method);
         try {
             AtomicReference<String> responseRef = new AtomicReference<>("");
             AtomicReference<Integer> statusCodeRef = new AtomicReference<>();
 
             HttpUriRequest request;
-            switch (connector.getPredictHttpMethod().toUpperCase(Locale.ROOT)) {
+            switch (method.toUpperCase(Locale.ROOT)) {
                 case "POST":
                     try {
                         String predictEndpoint = connector.getPredictEndpoint(parameters);
@@ -108,7 +127,14 @@ public class HttpJsonConnectorExecutor implements RemoteConnectorExecutor {
             if (!hasContentTypeHeader) {
                 request.addHeader("Content-Type", "application/json");
             }
+            // the span of the call is the parent of the spans of the remote service, unless the connector sets the header
+            String traceparent = MLTracer.hasTraceparent(headers) ? null : tracer.traceparent(span);
+            if (traceparent != null) {
+                request.setHeader(TRACEPARENT_HEADER, traceparent);
+            }
+            span.addAttribute(HTTP_HOST_ATTRIBUTE, request.getURI().getHost());
 
+            long startNanos = MLPredictStageTimer.start();
             AccessController.doPrivileged((PrivilegedExceptionAction<Void>) () -> {
                 try (CloseableHttpClient httpClient = getHttpClient(); CloseableHttpResponse response = httpClient.execute(request)) {
                     HttpEntity responseEntity = response.getEntity();
@@ -119,8 +145,11 @@ public class HttpJsonConnectorExecutor implements RemoteConnectorExecutor {
                 }
                 return null;
             });
+            MLPredictStageTimer.stop(MLPredictStage.REMOTE_HTTP, startNanos);
             String modelResponse = responseRef.get();
             Integer statusCode = statusCodeRef.get();
+            span.addAttribute(HTTP_STATUS_CODE_ATTRIBUTE, statusCode.longValue());
+            recordRemoteBytes(payload, modelResponse);
             if (statusCode < 200 || statusCode >= 300) {
                 throw new OpenSearchStatusException(REMOTE_SERVICE_ERROR + modelResponse, RestStatus.fromCode(statusCode));
             }
@@ -130,14 +159,19 @@ public class HttpJsonConnectorExecutor implements RemoteConnectorExecutor {
             tensorOutputs.add(tensors);
         } catch (RuntimeException e) {
             log.error("Fail to execute http connector", e);
+            span.setError(e);
             throw e;
         } catch (Throwable e) {
             log.error("Fail to execute http connector", e);
-            throw new MLException("Fail to execute http connector", e);
+            MLException exception = new MLException("Fail to execute http connector", e);
+            span.setError(exception);
+            throw exception;
+        } finally {
+            span.endSpan();
         }
     }
 
     public CloseableHttpClient getHttpClient() {
-        return MLHttpClientFactory.getCloseableHttpClient();
+        return MLHttpClientFactory.getCloseableHttpClient(connectorPrivateIpEnabled != null && connectorPrivateIpEnabled.get());
     }
 }
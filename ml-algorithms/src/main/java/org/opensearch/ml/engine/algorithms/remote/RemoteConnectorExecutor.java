@@ -12,6 +12,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.opensearch.OpenSearchStatusException;
 import org.opensearch.client.Client;
@@ -29,8 +30,12 @@ import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.common.profile.MLPredictStageTimer;
+import org.opensearch.ml.common.telemetry.MLTracer;
 import org.opensearch.script.ScriptService;
 
+import com.google.common.base.Utf8;
+
 public interface RemoteConnectorExecutor {
 
     default ModelTensorOutput executePredict(MLInput mlInput) {
@@ -99,6 +104,10 @@ public interface RemoteConnectorExecutor {
 
     default void setUserRateLimiterMap(Map<String, TokenBucket> userRateLimiterMap) {}
 
+    default void setConnectorPrivateIpEnabled(AtomicBoolean connectorPrivateIpEnabled) {}
+
+    default void setTracer(MLTracer tracer) {}
+
     default void preparePayloadAndInvokeRemoteModel(MLInput mlInput, List<ModelTensors> tensorOutputs) {
         Connector connector = getConnector();
 
@@ -143,4 +152,18 @@ public interface RemoteConnectorExecutor {
 
     void invokeRemoteModel(MLInput mlInput, Map<String, String> parameters, String payload, List<ModelTensors> tensorOutputs);
 
+    /**
+     * Record the bytes exchanged with the remote model into the profile of the predict request. Bytes are the UTF-8
+     * length of the bodies, computed without encoding them again.
+     *
+     * @param payload request body
+     * @param response response body
+     */
+    default void recordRemoteBytes(String payload, String response) {
+        if (MLPredictStageTimer.isProfiling()) {
+            MLPredictStageTimer
+                .addRemoteBytes(payload == null ? 0 : Utf8.encodedLength(payload), response == null ? 0 : Utf8.encodedLength(response));
+        }
+    }
+
 }
@@ -6,6 +6,7 @@
 package org.opensearch.ml.engine.algorithms.remote;
 
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.opensearch.client.Client;
 import org.opensearch.cluster.service.ClusterService;
@@ -17,6 +18,7 @@ import org.opensearch.ml.common.connector.Connector;
 import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.output.MLOutput;
+import org.opensearch.ml.common.telemetry.MLTracer;
 import org.opensearch.ml.engine.MLEngineClassLoader;
 import org.opensearch.ml.engine.Predictable;
 import org.opensearch.ml.engine.annotation.Function;
@@ -37,6 +39,8 @@ public class RemoteModel implements Predictable {
     public static final String XCONTENT_REGISTRY = "xcontent_registry";
     public static final String RATE_LIMITER = "rate_limiter";
     public static final String USER_RATE_LIMITER_MAP = "user_rate_limiter_map";
+    public static final String CONNECTOR_PRIVATE_IP_ENABLED = "connector_private_ip_enabled";
+    public static final String TRACER = "tracer";
 
     private RemoteConnectorExecutor connectorExecutor;
 
@@ -90,6 +94,9 @@ public class RemoteModel implements Predictable {
             this.connectorExecutor.setXContentRegistry((NamedXContentRegistry) params.get(XCONTENT_REGISTRY));
             this.connectorExecutor.setRateLimiter((TokenBucket) params.get(RATE_LIMITER));
             this.connectorExecutor.setUserRateLimiterMap((Map<String, TokenBucket>) params.get(USER_RATE_LIMITER_MAP));
+            this.connectorExecutor.setConnectorPrivateIpEnabled((AtomicBoolean) params.get(CONNECTOR_PRIVATE_IP_ENABLED));
+            MLTracer tracer = (MLTracer) params.get(TRACER);
+            this.connectorExecutor.setTracer(tracer == null ? MLTracer.NOOP : tracer);
         } catch (RuntimeException e) {
             log.error("Failed to init remote model.", e);
             throw e;
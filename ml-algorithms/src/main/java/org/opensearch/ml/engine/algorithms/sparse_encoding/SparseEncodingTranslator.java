@@ -16,6 +16,8 @@ import java.util.Map;
 
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.common.profile.MLPredictStage;
+import org.opensearch.ml.common.profile.MLPredictStageTimer;
 import org.opensearch.ml.engine.algorithms.SentenceTransformerTranslator;
 
 import ai.djl.modality.Output;
@@ -26,6 +28,7 @@ import ai.djl.translate.TranslatorContext;
 public class SparseEncodingTranslator extends SentenceTransformerTranslator {
     @Override
     public Output processOutput(TranslatorContext ctx, NDList list) {
+        long startNanos = MLPredictStageTimer.start();
         Output output = new Output(200, "OK");
 
         List<ModelTensor> outputs = new ArrayList<>();
@@ -41,6 +44,7 @@ public class SparseEncodingTranslator extends SentenceTransformerTranslator {
 
         ModelTensors modelTensorOutput = new ModelTensors(outputs);
         output.add(modelTensorOutput.toBytes());
+        MLPredictStageTimer.stop(MLPredictStage.POST_PROCESS, startNanos);
         return output;
     }
 
@@ -13,6 +13,8 @@ import java.util.List;
 import org.opensearch.ml.common.output.model.MLResultDataType;
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.common.profile.MLPredictStage;
+import org.opensearch.ml.common.profile.MLPredictStageTimer;
 
 import ai.djl.modality.Input;
 import ai.djl.modality.Output;
@@ -44,8 +46,13 @@ public class HuggingfaceTextEmbeddingServingTranslator implements Translator<Inp
      */
     @Override
     public NDList processInput(TranslatorContext ctx, Input input) throws Exception {
+        long startNanos = MLPredictStageTimer.start();
         String text = input.getData().getAsString();
-        return translator.processInput(ctx, text);
+        NDList ndList = translator.processInput(ctx, text);
+        // the first array holds the input ids
+        MLPredictStageTimer.addInputTokens(ndList.head().size());
+        MLPredictStageTimer.stop(MLPredictStage.TOKENIZE, startNanos);
+        return ndList;
     }
 
     /**
@@ -53,6 +60,7 @@ public class HuggingfaceTextEmbeddingServingTranslator implements Translator<Inp
      */
     @Override
     public Output processOutput(TranslatorContext ctx, NDList list) throws Exception {
+        long startNanos = MLPredictStageTimer.start();
         float[] ret = translator.processOutput(ctx, list);
         Number[] data = new Float[ret.length];
         for (int i = 0; i < ret.length; i++) {
@@ -71,6 +79,7 @@ public class HuggingfaceTextEmbeddingServingTranslator implements Translator<Inp
         Output output = new Output();
         ModelTensors modelTensorOutput = new ModelTensors(outputs);
         output.add(modelTensorOutput.toBytes());
+        MLPredictStageTimer.stop(MLPredictStage.POST_PROCESS, startNanos);
         return output;
     }
 
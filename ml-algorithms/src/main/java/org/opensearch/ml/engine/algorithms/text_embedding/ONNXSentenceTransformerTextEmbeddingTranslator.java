@@ -17,6 +17,8 @@ import org.opensearch.ml.common.model.TextEmbeddingModelConfig;
 import org.opensearch.ml.common.output.model.MLResultDataType;
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.common.profile.MLPredictStage;
+import org.opensearch.ml.common.profile.MLPredictStageTimer;
 
 import ai.djl.huggingface.tokenizers.Encoding;
 import ai.djl.huggingface.tokenizers.HuggingFaceTokenizer;
@@ -60,6 +62,7 @@ public class ONNXSentenceTransformerTextEmbeddingTranslator implements ServingTr
 
     @Override
     public NDList processInput(TranslatorContext ctx, Input input) {
+        long startNanos = MLPredictStageTimer.start();
         NDManager manager = ctx.getNDManager();
         String sentence = input.getAsString(0);
         NDList ndList = new NDList();
@@ -67,6 +70,7 @@ public class ONNXSentenceTransformerTextEmbeddingTranslator implements ServingTr
         Encoding encode = tokenizer.encode(sentence);
         ctx.setAttachment("encoding", encode);
         long[] indices = encode.getIds();
+        MLPredictStageTimer.addInputTokens(indices.length);
         long[] attentionMask = encode.getAttentionMask();
 
         NDArray indicesArray = manager.create(indices).expandDims(0);
@@ -81,12 +85,14 @@ public class ONNXSentenceTransformerTextEmbeddingTranslator implements ServingTr
             tokenTypeIdsArray.setName("token_type_ids");
             ndList.add(tokenTypeIdsArray);
         }
+        MLPredictStageTimer.stop(MLPredictStage.TOKENIZE, startNanos);
         return ndList;
     }
 
     /** {@inheritDoc} */
     @Override
     public Output processOutput(TranslatorContext ctx, NDList list) {
+        long startNanos = MLPredictStageTimer.start();
         NDArray embeddings = list.get(0);
         int shapeLength = embeddings.getShape().getShape().length;
         if (shapeLength == 3) {
@@ -135,6 +141,7 @@ public class ONNXSentenceTransformerTextEmbeddingTranslator implements ServingTr
         Output output = new Output();
         ModelTensors modelTensorOutput = new ModelTensors(outputs);
         output.add(modelTensorOutput.toBytes());
+        MLPredictStageTimer.stop(MLPredictStage.POST_PROCESS, startNanos);
         return output;
     }
 
@@ -13,6 +13,8 @@ import java.util.List;
 import org.opensearch.ml.common.output.model.MLResultDataType;
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.common.profile.MLPredictStage;
+import org.opensearch.ml.common.profile.MLPredictStageTimer;
 import org.opensearch.ml.engine.algorithms.SentenceTransformerTranslator;
 
 import ai.djl.modality.Output;
@@ -24,6 +26,7 @@ import ai.djl.translate.TranslatorContext;
 public class SentenceTransformerTextEmbeddingTranslator extends SentenceTransformerTranslator {
     @Override
     public Output processOutput(TranslatorContext ctx, NDList list) {
+        long startNanos = MLPredictStageTimer.start();
         Output output = new Output(200, "OK");
 
         List<ModelTensor> outputs = new ArrayList<>();
@@ -49,6 +52,7 @@ public class SentenceTransformerTextEmbeddingTranslator extends SentenceTransfor
 
         ModelTensors modelTensorOutput = new ModelTensors(outputs);
         output.add(modelTensorOutput.toBytes());
+        MLPredictStageTimer.stop(MLPredictStage.POST_PROCESS, startNanos);
         return output;
     }
 }
@@ -25,6 +25,8 @@ import java.util.List;
 import org.opensearch.ml.common.output.model.MLResultDataType;
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.common.profile.MLPredictStage;
+import org.opensearch.ml.common.profile.MLPredictStageTimer;
 import org.opensearch.ml.engine.algorithms.SentenceTransformerTranslator;
 
 import ai.djl.huggingface.tokenizers.Encoding;
@@ -41,12 +43,14 @@ public class TextSimilarityTranslator extends SentenceTransformerTranslator {
 
     @Override
     public NDList processInput(TranslatorContext ctx, Input input) {
+        long startNanos = MLPredictStageTimer.start();
         String sentence = input.getAsString(0);
         String context = input.getAsString(1);
         NDManager manager = ctx.getNDManager();
         NDList ndList = new NDList();
         Encoding encodings = tokenizer.encode(sentence, context);
         long[] indices = encodings.getIds();
+        MLPredictStageTimer.addInputTokens(indices.length);
         long[] attentionMask = encodings.getAttentionMask();
         long[] tokenTypes = encodings.getTypeIds();
 
@@ -62,11 +66,13 @@ public class TextSimilarityTranslator extends SentenceTransformerTranslator {
         ndList.add(indicesArray);
         ndList.add(attentionMaskArray);
         ndList.add(tokenTypeArray);
+        MLPredictStageTimer.stop(MLPredictStage.TOKENIZE, startNanos);
         return ndList;
     }
 
     @Override
     public Output processOutput(TranslatorContext ctx, NDList list) {
+        long startNanos = MLPredictStageTimer.start();
         Output output = new Output(200, "OK");
 
         List<ModelTensor> outputs = new ArrayList<>();
@@ -92,6 +98,7 @@ public class TextSimilarityTranslator extends SentenceTransformerTranslator {
 
         ModelTensors modelTensorOutput = new ModelTensors(outputs);
         output.add(modelTensorOutput.toBytes());
+        MLPredictStageTimer.stop(MLPredictStage.POST_PROCESS, startNanos);
         return output;
     }
 
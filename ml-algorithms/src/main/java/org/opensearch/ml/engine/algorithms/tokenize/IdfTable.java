@@ -0,0 +1,179 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.tokenize;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.opensearch.ml.engine.utils.FileUtils.deleteFileQuietly;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import com.google.gson.stream.JsonReader;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * IDF weights of tokens, read from a memory-mapped binary file. A large vocabulary then lives in the page cache, shared
+ * by all deployments of the same model files, instead of as boxed map entries on heap. The binary file is converted
+ * from the idf.json of the model once and kept next to it.
+ *
+ * Binary layout, big endian: magic, version, token count n, n + 1 offsets into the token area, n weights, then the
+ * UTF-8 bytes of all tokens sorted in unsigned byte order, so a token is looked up with a binary search.
+ */
+@Log4j2
+public class IdfTable {
+    static final int MAGIC = 0x4d4c4944;
+    static final int VERSION = 1;
+    private static final int HEADER_SIZE = 3 * Integer.BYTES;
+
+    private final ByteBuffer buffer;
+    private final int size;
+    private final int weightsStart;
+    private final int tokensStart;
+
+    IdfTable(ByteBuffer buffer) {
+        if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(Integer.BYTES) != VERSION) {
+            throw new IllegalArgumentException("Unsupported IDF file format");
+        }
+        this.buffer = buffer;
+        this.size = buffer.getInt(2 * Integer.BYTES);
+        long weightsStart = HEADER_SIZE + (size + 1L) * Integer.BYTES;
+        long tokensStart = weightsStart + (long) size * Float.BYTES;
+        if (size < 0 || tokensStart > buffer.limit() || tokensStart + getOffset(size) != buffer.limit()) {
+            throw new IllegalArgumentException("Corrupted IDF file");
+        }
+        this.weightsStart = (int) weightsStart;
+        this.tokensStart = (int) tokensStart;
+    }
+
+    /**
+     * Load the IDF table of a model. The binary file is used if it exists, otherwise it is converted from the json file,
+     * which maps each token to its weight.
+     * @param jsonFile IDF json file
+     * @param binaryFile IDF binary file
+     * @return IDF table
+     * @throws IOException if reading or converting the IDF file fails
+     */
+    public static IdfTable load(Path jsonFile, Path binaryFile) throws IOException {
+        if (!Files.exists(binaryFile)) {
+            convert(jsonFile, binaryFile);
+        }
+        try (FileChannel channel = FileChannel.open(binaryFile, StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed.
+            return new IdfTable(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Convert an IDF json file to the binary format. The binary file is written to a temporary file first and moved in
+     * place, so concurrent deployments of the same model never see a partial file.
+     * @param jsonFile IDF json file
+     * @param binaryFile IDF binary file
+     * @throws IOException if reading the json file or writing the binary file fails
+     */
+    static void convert(Path jsonFile, Path binaryFile) throws IOException {
+        List<byte[]> tokens = new ArrayList<>();
+        List<Float> weights = new ArrayList<>();
+        try (Reader reader = Files.newBufferedReader(jsonFile, UTF_8); JsonReader jsonReader = new JsonReader(reader)) {
+            jsonReader.beginObject();
+            while (jsonReader.hasNext()) {
+                tokens.add(jsonReader.nextName().getBytes(UTF_8));
+                weights.add((float) jsonReader.nextDouble());
+            }
+            jsonReader.endObject();
+        }
+        Integer[] order = new Integer[tokens.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Arrays.compareUnsigned(tokens.get(a), tokens.get(b)));
+
+        Path tempFile = binaryFile.resolveSibling(binaryFile.getFileName() + ".tmp-" + UUID.randomUUID());
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(order.length);
+                int offset = 0;
+                out.writeInt(offset);
+                for (int i = 0; i < order.length; i++) {
+                    if (i > 0 && Arrays.equals(tokens.get(order[i - 1]), tokens.get(order[i]))) {
+                        throw new IllegalArgumentException("Duplicate token in IDF file: " + new String(tokens.get(order[i]), UTF_8));
+                    }
+                    offset += tokens.get(order[i]).length;
+                    out.writeInt(offset);
+                }
+                for (Integer index : order) {
+                    out.writeFloat(weights.get(index));
+                }
+                for (Integer index : order) {
+                    out.write(tokens.get(index));
+                }
+            }
+            Files.move(tempFile, binaryFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            log.debug("Converted IDF file {} with {} tokens to {}", jsonFile, order.length, binaryFile);
+        } finally {
+            deleteFileQuietly(tempFile);
+        }
+    }
+
+    /**
+     * @param token token
+     * @param defaultValue weight of tokens not in the table
+     * @return IDF weight of the token
+     */
+    public float getOrDefault(String token, float defaultValue) {
+        byte[] key = token.getBytes(UTF_8);
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compareToken(mid, key);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return buffer.getFloat(weightsStart + mid * Float.BYTES);
+            }
+        }
+        return defaultValue;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private int getOffset(int index) {
+        return buffer.getInt(HEADER_SIZE + index * Integer.BYTES);
+    }
+
+    // Only absolute reads are used, so the buffer can be shared by concurrent predict requests.
+    private int compareToken(int index, byte[] key) {
+        int start = tokensStart + getOffset(index);
+        int length = tokensStart + getOffset(index + 1) - start;
+        int common = Math.min(length, key.length);
+        for (int i = 0; i < common; i++) {
+            int cmp = Byte.toUnsignedInt(buffer.get(start + i)) - Byte.toUnsignedInt(key[i]);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return length - key.length;
+    }
+}
@@ -6,17 +6,13 @@
 package org.opensearch.ml.engine.algorithms.tokenize;
 
 import static org.opensearch.ml.common.CommonValue.ML_MAP_RESPONSE_KEY;
-import static org.opensearch.ml.common.utils.StringUtils.gson;
 
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.lang.reflect.Type;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -33,8 +29,6 @@ import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.engine.algorithms.DLModel;
 import org.opensearch.ml.engine.annotation.Function;
 
-import com.google.gson.reflect.TypeToken;
-
 import ai.djl.MalformedModelException;
 import ai.djl.huggingface.tokenizers.Encoding;
 import ai.djl.huggingface.tokenizers.HuggingFaceTokenizer;
@@ -55,6 +49,7 @@ import lombok.extern.log4j.Log4j2;
  * IDF introduces global token information, boost search relevance.
  * In our pretrained Tokenizer model, we will provide a general IDF from MSMARCO. Customer could recalculate a IDF in their own dataset.
  * If without IDF, the weight of each token in the result will be set to 1.0.
+ * The IDF file is converted to a memory-mapped binary file when the model is deployed, see {@link IdfTable}.
  * Since we regard tokenizer as a model. Cusotmer needs to keep the consistency between tokenizer/model by themselves.
  */
 @Log4j2
@@ -62,10 +57,12 @@ import lombok.extern.log4j.Log4j2;
 public class SparseTokenizerModel extends DLModel {
     private HuggingFaceTokenizer tokenizer;
 
-    private Map<String, Float> idf;
+    private IdfTable idf;
 
     public String IDF_FILE_NAME = "idf.json";
 
+    public String IDF_BINARY_FILE_NAME = "idf.bin";
+
     @Override
     public ModelTensorOutput predict(String modelId, MLInput mlInput) throws TranslateException {
         MLInputDataset inputDataSet = mlInput.getInputDataset();
@@ -86,7 +83,7 @@ public class SparseTokenizerModel extends DLModel {
                 .toArray(String[]::new);
             Map<String, Float> tokenWeights = Arrays
                 .stream(tokens)
-                .collect(Collectors.toMap(token -> token, token -> idf.getOrDefault(token, 1.0f)));
+                .collect(Collectors.toMap(token -> token, this::getIdf));
             Map<String, ?> wrappedMap = Map.of(ML_MAP_RESPONSE_KEY, Collections.singletonList(tokenWeights));
             ModelTensor tensor = ModelTensor.builder().dataAsMap(wrappedMap).build();
             outputs.add(tensor);
@@ -108,15 +105,17 @@ public class SparseTokenizerModel extends DLModel {
         IOException,
         TranslateException {
         tokenizer = HuggingFaceTokenizer.builder().optPadding(true).optTokenizerPath(modelPath.resolve("tokenizer.json")).build();
-        idf = new HashMap<>();
-        if (Files.exists(modelPath.resolve(IDF_FILE_NAME))) {
-            Type mapType = new TypeToken<Map<String, Float>>() {
-            }.getType();
-            idf = gson.fromJson(new InputStreamReader(Files.newInputStream(modelPath.resolve(IDF_FILE_NAME))), mapType);
+        idf = null;
+        if (Files.exists(modelPath.resolve(IDF_BINARY_FILE_NAME)) || Files.exists(modelPath.resolve(IDF_FILE_NAME))) {
+            idf = IdfTable.load(modelPath.resolve(IDF_FILE_NAME), modelPath.resolve(IDF_BINARY_FILE_NAME));
         }
         log.info("sparse tokenize Model {} is successfully deployed", modelId);
     }
 
+    private float getIdf(String token) {
+        return idf == null ? 1.0f : idf.getOrDefault(token, 1.0f);
+    }
+
     @Override
     public boolean isModelReady() {
         if (modelHelper == null || modelId == null || tokenizer == null) {
@@ -29,10 +29,20 @@ import lombok.extern.log4j.Log4j2;
 public class MLHttpClientFactory {
 
     public static CloseableHttpClient getCloseableHttpClient() {
-        return createHttpClient();
+        return createHttpClient(false);
     }
 
-    private static CloseableHttpClient createHttpClient() {
+    /**
+     * Create http client for remote inference.
+     * @param privateIpEnabled whether endpoints on private and loopback addresses are allowed, only for test clusters as it
+     *                         turns off the SSRF protection of the client
+     * @return http client
+     */
+    public static CloseableHttpClient getCloseableHttpClient(boolean privateIpEnabled) {
+        return createHttpClient(privateIpEnabled);
+    }
+
+    private static CloseableHttpClient createHttpClient(boolean privateIpEnabled) {
         HttpClientBuilder builder = HttpClientBuilder.create();
 
         // Only allow HTTP and HTTPS schemes
@@ -44,7 +54,7 @@ public class MLHttpClientFactory {
             }
         });
 
-        builder.setDnsResolver(MLHttpClientFactory::validateIp);
+        builder.setDnsResolver(hostName -> validateIp(hostName, privateIpEnabled));
 
         builder.setRedirectStrategy(new LaxRedirectStrategy() {
             @Override
@@ -75,8 +85,12 @@ public class MLHttpClientFactory {
     }
 
     protected static InetAddress[] validateIp(String hostName) throws UnknownHostException {
+        return validateIp(hostName, false);
+    }
+
+    protected static InetAddress[] validateIp(String hostName, boolean privateIpEnabled) throws UnknownHostException {
         InetAddress[] addresses = InetAddress.getAllByName(hostName);
-        if (hasPrivateIpAddress(addresses)) {
+        if (!privateIpEnabled && hasPrivateIpAddress(addresses)) {
             log.error("Remote inference host name has private ip address: " + hostName);
             throw new IllegalArgumentException(hostName);
         }
@@ -14,7 +14,6 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.file.Path;
-import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Queue;
@@ -34,40 +33,6 @@ import lombok.extern.log4j.Log4j2;
 @Log4j2
 public class FileUtils {
 
-    /**
-     * Split file into smaller chunks evenly.
-     * @param file file to be split
-     * @param outputPath output path
-     * @param chunkSize chunk size
-     * @return a list of chunk file names
-     * @throws IOException
-     */
-    public static List<String> splitFileIntoChunks(File file, Path outputPath, int chunkSize) throws IOException {
-        int fileSize = (int) file.length();
-        ArrayList<String> nameList = new ArrayList<>();
-        try (InputStream inStream = new BufferedInputStream(new FileInputStream(file))) {
-            int numberOfChunk = 0;
-            int totalBytesRead = 0;
-            while (totalBytesRead < fileSize) {
-                String partName = numberOfChunk + "";
-                int bytesRemaining = fileSize - totalBytesRead;
-                if (bytesRemaining < chunkSize) {
-                    chunkSize = bytesRemaining;
-                }
-                byte[] temporary = new byte[chunkSize];
-                int bytesRead = inStream.read(temporary, 0, chunkSize);
-                if (bytesRead > 0) {
-                    totalBytesRead += bytesRead;
-                    numberOfChunk++;
-                }
-                Path partFileName = outputPath.resolve(partName + "");
-                write(temporary, partFileName.toString());
-                nameList.add(partFileName.toString());
-            }
-        }
-        return nameList;
-    }
-
     /**
      * Write bytes to a file.
      * @param data bytes data
@@ -157,6 +122,24 @@ public class FileUtils {
         }
     }
 
+    /**
+     * Get size of a file, or of all files in a folder.
+     * @param path file or folder path
+     * @return size in bytes, 0 if the path doesn't exist or can't be read
+     */
+    public static long sizeOfQuietly(Path path) {
+        File file = new File(path.toUri());
+        if (!file.exists()) {
+            return 0;
+        }
+        try {
+            return org.apache.commons.io.FileUtils.sizeOf(file);
+        } catch (RuntimeException e) {
+            log.debug("Failed to get size of " + path, e);
+            return 0;
+        }
+    }
+
     /**
      * Get all direct file names under list of paths, won't search recursively.
      * For example, we have "/tmp/subfolder1/1.txt", "/tmp/subfolder2/2.txt" and "/tmp/subfolder2/subfolder2-1/3.txt",
@@ -0,0 +1,180 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.utils;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import com.google.common.hash.HashCode;
+
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Splits a model zip into chunks in a single streaming pass. Every byte read from the source is hashed with SHA-256
+ * and cut into chunks as it passes through, while a {@link ZipInputStream} reading the same bytes collects the zip
+ * entry names, so the model file is never written to local disk or read twice. Sizes are tracked as long, the model
+ * size limit is checked as bytes arrive, so an oversized model fails before the rest of it is downloaded.
+ */
+@Log4j2
+public class ModelChunkSplitter extends FilterInputStream {
+
+    /**
+     * Receives chunks in order. Can block to limit how many chunks are held in memory.
+     */
+    @FunctionalInterface
+    public interface ChunkConsumer {
+        void accept(int chunkNumber, byte[] content) throws Exception;
+    }
+
+    private final int chunkSize;
+    private final long maxSizeInBytes;
+    private final ChunkConsumer chunkConsumer;
+    private final MessageDigest digest;
+    private byte[] chunk;
+    private int chunkPosition;
+    private int totalChunks;
+    private long sizeInBytes;
+
+    private ModelChunkSplitter(InputStream source, int chunkSize, long maxSizeInBytes, ChunkConsumer chunkConsumer)
+        throws NoSuchAlgorithmException {
+        super(source);
+        this.chunkSize = chunkSize;
+        this.maxSizeInBytes = maxSizeInBytes;
+        this.chunkConsumer = chunkConsumer;
+        this.digest = MessageDigest.getInstance("SHA-256");
+    }
+
+    /**
+     * Read the model zip from the source, hand its chunks to the chunk consumer and collect the zip entry names.
+     * @param source model zip content
+     * @param chunkSize chunk size in bytes
+     * @param maxSizeInBytes max size of the model zip in bytes
+     * @param chunkConsumer receives chunks in order
+     * @return size, hash, chunk count and entry names of the model zip
+     * @throws Exception if reading the source fails, the content is not a zip file, the content exceeds the max size or
+     * the chunk consumer fails
+     */
+    public static Result split(InputStream source, int chunkSize, long maxSizeInBytes, ChunkConsumer chunkConsumer) throws Exception {
+        ModelChunkSplitter splitter = new ModelChunkSplitter(source, chunkSize, maxSizeInBytes, chunkConsumer);
+        List<String> entryNames = new ArrayList<>();
+        // Not closed on purpose, closing the zip stream would close the source before the rest of it is read.
+        ZipInputStream zipInputStream = new ZipInputStream(splitter);
+        ZipEntry entry;
+        while ((entry = zipInputStream.getNextEntry()) != null) {
+            entryNames.add(entry.getName());
+        }
+        // The central directory at the end of the zip file is not read by the zip stream.
+        byte[] buffer = new byte[8192];
+        while (splitter.read(buffer, 0, buffer.length) >= 0) {
+            // keep reading until the end of source
+        }
+        splitter.flushChunk();
+        if (entryNames.isEmpty()) {
+            throw new IllegalArgumentException("Model content is not a zip file or the zip file is empty");
+        }
+        String hash = HashCode.fromBytes(splitter.digest.digest()).toString();
+        log.debug("Split model content of {} bytes into {} chunks", splitter.sizeInBytes, splitter.totalChunks);
+        return new Result(splitter.sizeInBytes, splitter.totalChunks, hash, entryNames);
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] single = new byte[1];
+        int read = read(single, 0, 1);
+        return read < 0 ? -1 : single[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        int read = in.read(buffer, offset, length);
+        if (read > 0) {
+            consume(buffer, offset, read);
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        // skipped bytes still belong to the model content, read them through this stream
+        byte[] buffer = new byte[(int) Math.min(8192, Math.max(0, n))];
+        long skipped = 0;
+        while (skipped < n) {
+            int read = read(buffer, 0, (int) Math.min(buffer.length, n - skipped));
+            if (read < 0) {
+                break;
+            }
+            skipped += read;
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    private void consume(byte[] buffer, int offset, int length) throws IOException {
+        if (sizeInBytes + length > maxSizeInBytes) {
+            throw new IllegalArgumentException("Model file size exceeds the limit of " + maxSizeInBytes + " bytes");
+        }
+        digest.update(buffer, offset, length);
+        sizeInBytes += length;
+        while (length > 0) {
+            if (chunk == null) {
+                chunk = new byte[chunkSize];
+                chunkPosition = 0;
+            }
+            int copied = Math.min(length, chunkSize - chunkPosition);
+            System.arraycopy(buffer, offset, chunk, chunkPosition, copied);
+            chunkPosition += copied;
+            offset += copied;
+            length -= copied;
+            if (chunkPosition == chunkSize) {
+                flushChunk();
+            }
+        }
+    }
+
+    private void flushChunk() throws IOException {
+        if (chunk == null || chunkPosition == 0) {
+            return;
+        }
+        byte[] content = chunkPosition == chunkSize ? chunk : Arrays.copyOf(chunk, chunkPosition);
+        chunk = null;
+        chunkPosition = 0;
+        try {
+            chunkConsumer.accept(totalChunks++, content);
+        } catch (IOException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException("Failed to process model chunk " + (totalChunks - 1), e);
+        }
+    }
+
+    @Getter
+    public static class Result {
+        private final long sizeInBytes;
+        private final int totalChunks;
+        private final String hash;
+        private final List<String> entryNames;
+
+        public Result(long sizeInBytes, int totalChunks, String hash, List<String> entryNames) {
+            this.sizeInBytes = sizeInBytes;
+            this.totalChunks = totalChunks;
+            this.hash = hash;
+            this.entryNames = entryNames;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.Locale;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Reads the content of a URL. If reading from an HTTP server fails in the middle, the download is resumed from the
+ * current position with a range request, up to a maximum number of retries, so a dropped connection doesn't restart a
+ * multi-GB model download from scratch.
+ */
+@Log4j2
+public class ResumableUrlInputStream extends InputStream {
+    private static final int CONNECT_TIMEOUT_IN_MILLIS = 30_000;
+    private static final int READ_TIMEOUT_IN_MILLIS = 60_000;
+
+    private final URL url;
+    private final int maxRetries;
+    private InputStream current;
+    private long position;
+    private long contentLength = -1;
+    private int retries;
+
+    public ResumableUrlInputStream(String url, int maxRetries) throws IOException {
+        this.url = new URL(url);
+        this.maxRetries = maxRetries;
+        this.current = open(0);
+    }
+
+    /**
+     * @return content length of the URL, or -1 if the server didn't send it
+     */
+    public long getContentLength() {
+        return contentLength;
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] single = new byte[1];
+        int read = read(single, 0, 1);
+        return read < 0 ? -1 : single[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        while (true) {
+            try {
+                int read = current.read(buffer, offset, length);
+                if (read > 0) {
+                    position += read;
+                }
+                return read;
+            } catch (IOException e) {
+                if (!isHttp() || retries >= maxRetries) {
+                    throw e;
+                }
+                retries++;
+                log.warn("Failed to read {} at position {}, resuming download, retry {} of {}", url, position, retries, maxRetries, e);
+                closeQuietly();
+                current = open(position);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        current.close();
+    }
+
+    private InputStream open(long start) throws IOException {
+        URLConnection connection = url.openConnection();
+        connection.setConnectTimeout(CONNECT_TIMEOUT_IN_MILLIS);
+        connection.setReadTimeout(READ_TIMEOUT_IN_MILLIS);
+        if (start > 0) {
+            connection.setRequestProperty("Range", String.format(Locale.ROOT, "bytes=%d-", start));
+        }
+        if (connection instanceof HttpURLConnection) {
+            int status = ((HttpURLConnection) connection).getResponseCode();
+            if (start > 0 && status != HttpURLConnection.HTTP_PARTIAL) {
+                ((HttpURLConnection) connection).disconnect();
+                throw new IOException("Can't resume download of " + url + ", server responded with status " + status);
+            }
+            if (status >= HttpURLConnection.HTTP_BAD_REQUEST) {
+                ((HttpURLConnection) connection).disconnect();
+                throw new IOException("Failed to download " + url + ", server responded with status " + status);
+            }
+        }
+        if (start == 0) {
+            contentLength = connection.getContentLengthLong();
+        }
+        return connection.getInputStream();
+    }
+
+    private boolean isHttp() {
+        String protocol = url.getProtocol();
+        return "http".equalsIgnoreCase(protocol) || "https".equalsIgnoreCase(protocol);
+    }
+
+    private void closeQuietly() {
+        try {
+            current.close();
+        } catch (IOException e) {
+            log.debug("Failed to close connection of " + url, e);
+        }
+    }
+}
@@ -12,9 +12,11 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.util.Enumeration;
+import java.util.UUID;
 
 import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
 import org.apache.commons.compress.archivers.zip.ZipFile;
+import org.opensearch.ml.common.exception.MLException;
 
 import lombok.extern.log4j.Log4j2;
 
@@ -23,6 +25,7 @@ import lombok.extern.log4j.Log4j2;
  */
 @Log4j2
 public class ZipUtils {
+    private static final String TEMP_FOLDER_SUFFIX = ".tmp-";
 
     /**
      * Uncompressed a zip file.
@@ -58,4 +61,33 @@ public class ZipUtils {
             throw new IllegalArgumentException("Wrong input file", e);
         }
     }
+
+    /**
+     * Uncompress a zip file to a destination which is shared by everyone using the same zip content, for example a
+     * folder keyed by the content hash. Nothing is extracted if the destination already exists. The zip file is
+     * extracted to a temporary folder which is then moved to the destination, so an existing destination is always
+     * complete, also when the same content is extracted concurrently.
+     * @param zipFile zip file to be uncompressed
+     * @param dest the destination path of this uncompress
+     * @return true if the zip file is extracted, false if the destination already exists
+     */
+    public static boolean unzipOnce(File zipFile, Path dest) {
+        if (Files.isDirectory(dest)) {
+            return false;
+        }
+        Path tempFolder = dest.resolveSibling(dest.getFileName() + TEMP_FOLDER_SUFFIX + UUID.randomUUID());
+        try {
+            unzip(zipFile, tempFolder);
+            Files.move(tempFolder, dest, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } catch (IOException e) {
+            if (Files.isDirectory(dest)) {
+                log.debug("Zip file {} is already extracted to {}", zipFile, dest);
+                return false;
+            }
+            throw new MLException("Failed to extract zip file to " + dest, e);
+        } finally {
+            FileUtils.deleteFileQuietly(tempFolder);
+        }
+    }
 }
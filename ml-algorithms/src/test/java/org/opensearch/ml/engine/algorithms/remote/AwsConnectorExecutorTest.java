@@ -6,8 +6,10 @@
 package org.opensearch.ml.engine.algorithms.remote;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.ml.common.connector.AbstractConnector.ACCESS_KEY_FIELD;
 import static org.opensearch.ml.common.connector.AbstractConnector.SECRET_KEY_FIELD;
@@ -18,6 +20,7 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -26,6 +29,7 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.opensearch.OpenSearchStatusException;
@@ -42,9 +46,14 @@ import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
 import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.telemetry.MLTracer;
 import org.opensearch.ml.engine.encryptor.Encryptor;
 import org.opensearch.ml.engine.encryptor.EncryptorImpl;
 import org.opensearch.script.ScriptService;
+import org.opensearch.telemetry.tracing.Span;
+import org.opensearch.telemetry.tracing.SpanCreationContext;
+import org.opensearch.telemetry.tracing.SpanScope;
+import org.opensearch.telemetry.tracing.Tracer;
 import org.opensearch.threadpool.ThreadPool;
 
 import com.google.common.collect.ImmutableList;
@@ -52,11 +61,14 @@ import com.google.common.collect.ImmutableMap;
 
 import software.amazon.awssdk.http.AbortableInputStream;
 import software.amazon.awssdk.http.ExecutableHttpRequest;
+import software.amazon.awssdk.http.HttpExecuteRequest;
 import software.amazon.awssdk.http.HttpExecuteResponse;
 import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.http.SdkHttpResponse;
 
 public class AwsConnectorExecutorTest {
+    private static final String TRACEPARENT = "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
 
     @Rule
     public ExpectedException exceptionRule = ExpectedException.none();
@@ -247,6 +259,38 @@ public class AwsConnectorExecutorTest {
         Assert.assertEquals("value", modelTensorOutput.getMlModelOutputs().get(0).getMlModelTensors().get(0).getDataAsMap().get("key"));
     }
 
+    @Test
+    public void executePredict_Traceparent() throws IOException {
+        AwsConnectorExecutor executor = spy(new AwsConnectorExecutor(connectorWithHeaders(Map.of()), httpClient));
+        Span span = mockExecutor(executor);
+
+        executor.executePredict(MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(remoteInputDataSet()).build());
+
+        ArgumentCaptor<HttpExecuteRequest> requestCaptor = ArgumentCaptor.forClass(HttpExecuteRequest.class);
+        verify(httpClient).prepareRequest(requestCaptor.capture());
+        SdkHttpRequest request = requestCaptor.getValue().httpRequest();
+        Assert.assertEquals(List.of(TRACEPARENT), request.headers().get(MLTracer.TRACEPARENT_HEADER));
+        // the header is signed with the others
+        Assert.assertTrue(request.firstMatchingHeader("Authorization").get().contains(MLTracer.TRACEPARENT_HEADER));
+        verify(span).addAttribute(MLTracer.HTTP_STATUS_CODE_ATTRIBUTE, 200L);
+        verify(span).endSpan();
+    }
+
+    @Test
+    public void executePredict_Traceparent_KeepConnectorHeader() throws IOException {
+        String connectorTraceparent = "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01";
+        Connector connector = connectorWithHeaders(Map.of(MLTracer.TRACEPARENT_HEADER, connectorTraceparent));
+        AwsConnectorExecutor executor = spy(new AwsConnectorExecutor(connector, httpClient));
+        mockExecutor(executor);
+
+        executor.executePredict(MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(remoteInputDataSet()).build());
+
+        ArgumentCaptor<HttpExecuteRequest> requestCaptor = ArgumentCaptor.forClass(HttpExecuteRequest.class);
+        verify(httpClient).prepareRequest(requestCaptor.capture());
+        SdkHttpRequest request = requestCaptor.getValue().httpRequest();
+        Assert.assertEquals(List.of(connectorTraceparent), request.headers().get(MLTracer.TRACEPARENT_HEADER));
+    }
+
     @Test
     public void executePredict_TextDocsInferenceInput() throws IOException {
         String jsonString = "{\"key\":\"value\"}";
@@ -296,4 +340,71 @@ public class AwsConnectorExecutorTest {
         Assert.assertEquals(1, modelTensorOutput.getMlModelOutputs().get(0).getMlModelTensors().get(0).getDataAsMap().size());
         Assert.assertEquals("value", modelTensorOutput.getMlModelOutputs().get(0).getMlModelTensors().get(0).getDataAsMap().get("key"));
     }
+
+    private Connector connectorWithHeaders(Map<String, String> headers) {
+        ConnectorAction predictAction = ConnectorAction
+            .builder()
+            .actionType(ConnectorAction.ActionType.PREDICT)
+            .method("POST")
+            .url("http://test.com/mock")
+            .headers(headers)
+            .requestBody("{\"input\": \"${parameters.input}\"}")
+            .build();
+        Map<String, String> credential = ImmutableMap
+            .of(ACCESS_KEY_FIELD, encryptor.encrypt("test_key"), SECRET_KEY_FIELD, encryptor.encrypt("test_secret_key"));
+        Map<String, String> parameters = ImmutableMap.of(REGION_FIELD, "us-west-2", SERVICE_NAME_FIELD, "sagemaker");
+        Connector connector = AwsConnector
+            .awsConnectorBuilder()
+            .name("test connector")
+            .version("1")
+            .protocol("http")
+            .parameters(parameters)
+            .credential(credential)
+            .actions(Arrays.asList(predictAction))
+            .build();
+        connector.decrypt((c) -> encryptor.decrypt(c));
+        return connector;
+    }
+
+    private MLInputDataset remoteInputDataSet() {
+        return RemoteInferenceInputDataSet.builder().parameters(ImmutableMap.of("input", "test input data")).build();
+    }
+
+    /**
+     * Mock the http client of the executor and bind its tracer to a mock telemetry, which propagates TRACEPARENT while a
+     * span is in scope.
+     */
+    private Span mockExecutor(AwsConnectorExecutor executor) throws IOException {
+        InputStream inputStream = new ByteArrayInputStream("{\"key\":\"value\"}".getBytes());
+        when(response.responseBody()).thenReturn(Optional.of(AbortableInputStream.create(inputStream)));
+        SdkHttpResponse httpResponse = mock(SdkHttpResponse.class);
+        when(httpResponse.statusCode()).thenReturn(200);
+        when(response.httpResponse()).thenReturn(httpResponse);
+        when(httpRequest.call()).thenReturn(response);
+        when(httpClient.prepareRequest(any())).thenReturn(httpRequest);
+        threadContext = new ThreadContext(Settings.EMPTY);
+        when(executor.getClient()).thenReturn(client);
+        when(client.threadPool()).thenReturn(threadPool);
+        when(threadPool.getThreadContext()).thenReturn(threadContext);
+
+        Span span = mock(Span.class);
+        when(span.getTraceId()).thenReturn("4bf92f3577b34da6a3ce929d0e0e4736");
+        when(span.getSpanId()).thenReturn("00f067aa0ba902b7");
+        Tracer tracer = mock(Tracer.class);
+        when(tracer.startSpan(any(SpanCreationContext.class))).thenReturn(span);
+        when(tracer.withSpanInScope(span)).thenAnswer(invocation -> {
+            ThreadContext.StoredContext storedContext = threadContext.stashContext();
+            threadContext.putHeader(MLTracer.TRACEPARENT_HEADER, TRACEPARENT);
+            SpanScope scope = mock(SpanScope.class);
+            doAnswer(it -> {
+                storedContext.restore();
+                return null;
+            }).when(scope).close();
+            return scope;
+        });
+        MLTracer mlTracer = new MLTracer();
+        mlTracer.bind(tracer, threadContext);
+        executor.setTracer(mlTracer);
+        return span;
+    }
 }
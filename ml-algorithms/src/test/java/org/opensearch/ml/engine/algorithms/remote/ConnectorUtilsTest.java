@@ -35,6 +35,9 @@ import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
 import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.common.profile.MLPredictProfile;
+import org.opensearch.ml.common.profile.MLPredictStage;
+import org.opensearch.ml.common.profile.MLPredictStageTimer;
 import org.opensearch.script.ScriptService;
 
 import com.google.common.collect.ImmutableMap;
@@ -198,6 +201,33 @@ public class ConnectorUtilsTest {
         Assert.assertEquals(4, tensors.getMlModelTensors().get(0).getDataAsMap().size());
     }
 
+    @Test
+    public void processOutput_Profile() throws IOException {
+        ConnectorAction predictAction = ConnectorAction
+            .builder()
+            .actionType(ConnectorAction.ActionType.PREDICT)
+            .method("POST")
+            .url("http://test.com/mock")
+            .requestBody("{\"input\": \"${parameters.input}\"}")
+            .build();
+        Connector connector = HttpConnector
+            .builder()
+            .name("test connector")
+            .version("1")
+            .protocol("http")
+            .actions(Arrays.asList(predictAction))
+            .build();
+        MLPredictProfile profile = new MLPredictProfile();
+        MLPredictStageTimer.attach(profile);
+        try {
+            ConnectorUtils.processOutput("{\"result\":\"test\"}", connector, scriptService, ImmutableMap.of());
+        } finally {
+            MLPredictStageTimer.detach();
+        }
+        Assert.assertTrue(profile.getStages().containsKey(MLPredictStage.POST_PROCESS));
+        Assert.assertFalse(profile.getStages().containsKey(MLPredictStage.PRE_PROCESS));
+    }
+
     @Test
     public void processOutput_PostprocessFunction() throws IOException {
         String postprocessResult =
@@ -6,17 +6,22 @@
 package org.opensearch.ml.engine.algorithms.remote;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Map;
 
+import org.apache.http.Header;
 import org.apache.http.HttpEntity;
 import org.apache.http.ProtocolVersion;
 import org.apache.http.StatusLine;
 import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.message.BasicStatusLine;
@@ -25,6 +30,7 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.opensearch.OpenSearchStatusException;
@@ -43,12 +49,19 @@ import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
 import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.telemetry.MLTracer;
 import org.opensearch.script.ScriptService;
+import org.opensearch.telemetry.tracing.Span;
+import org.opensearch.telemetry.tracing.SpanCreationContext;
+import org.opensearch.telemetry.tracing.SpanScope;
+import org.opensearch.telemetry.tracing.Tracer;
 import org.opensearch.threadpool.ThreadPool;
 
 import com.google.common.collect.ImmutableMap;
 
 public class HttpJsonConnectorExecutorTest {
+    private static final String TRACEPARENT = "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
+
     @Rule
     public ExpectedException exceptionRule = ExpectedException.none();
 
@@ -139,6 +152,36 @@ public class HttpJsonConnectorExecutorTest {
             );
     }
 
+    @Test
+    public void executePredict_Traceparent() throws IOException {
+        HttpJsonConnectorExecutor executor = spy(new HttpJsonConnectorExecutor(connectorWithHeaders(Map.of())));
+        Span span = mockExecutor(executor);
+
+        executor.executePredict(MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(remoteInputDataSet()).build());
+
+        ArgumentCaptor<HttpUriRequest> requestCaptor = ArgumentCaptor.forClass(HttpUriRequest.class);
+        verify(httpClient).execute(requestCaptor.capture());
+        Assert.assertEquals(TRACEPARENT, requestCaptor.getValue().getFirstHeader(MLTracer.TRACEPARENT_HEADER).getValue());
+        verify(span).addAttribute(MLTracer.HTTP_STATUS_CODE_ATTRIBUTE, 200L);
+        verify(span).endSpan();
+    }
+
+    @Test
+    public void executePredict_Traceparent_KeepConnectorHeader() throws IOException {
+        String connectorTraceparent = "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01";
+        Connector connector = connectorWithHeaders(Map.of("Traceparent", connectorTraceparent));
+        HttpJsonConnectorExecutor executor = spy(new HttpJsonConnectorExecutor(connector));
+        mockExecutor(executor);
+
+        executor.executePredict(MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(remoteInputDataSet()).build());
+
+        ArgumentCaptor<HttpUriRequest> requestCaptor = ArgumentCaptor.forClass(HttpUriRequest.class);
+        verify(httpClient).execute(requestCaptor.capture());
+        Header[] traceparentHeaders = requestCaptor.getValue().getHeaders(MLTracer.TRACEPARENT_HEADER);
+        Assert.assertEquals(1, traceparentHeaders.length);
+        Assert.assertEquals(connectorTraceparent, traceparentHeaders[0].getValue());
+    }
+
     @Test
     public void executePredict_TextDocsInput_NoPreprocessFunction() throws IOException {
         ConnectorAction predictAction = ConnectorAction
@@ -436,4 +479,64 @@ public class HttpJsonConnectorExecutorTest {
         ModelTensorOutput modelTensorOutput = executor
             .executePredict(MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(inputDataSet).build());
     }
+
+    private Connector connectorWithHeaders(Map<String, String> headers) {
+        ConnectorAction predictAction = ConnectorAction
+            .builder()
+            .actionType(ConnectorAction.ActionType.PREDICT)
+            .method("POST")
+            .url("http://test.com/mock")
+            .headers(headers)
+            .requestBody("{\"input\": \"${parameters.input}\"}")
+            .build();
+        Connector connector = HttpConnector
+            .builder()
+            .name("test connector")
+            .version("1")
+            .protocol("http")
+            .credential(Map.of())
+            .actions(Arrays.asList(predictAction))
+            .build();
+        connector.decrypt(credential -> credential);
+        return connector;
+    }
+
+    private MLInputDataset remoteInputDataSet() {
+        return RemoteInferenceInputDataSet.builder().parameters(ImmutableMap.of("input", "test input data")).build();
+    }
+
+    /**
+     * Mock the http client of the executor and bind its tracer to a mock telemetry, which propagates TRACEPARENT while a
+     * span is in scope.
+     */
+    private Span mockExecutor(HttpJsonConnectorExecutor executor) throws IOException {
+        threadContext = new ThreadContext(Settings.EMPTY);
+        when(executor.getClient()).thenReturn(client);
+        when(client.threadPool()).thenReturn(threadPool);
+        when(threadPool.getThreadContext()).thenReturn(threadContext);
+        when(httpClient.execute(any())).thenReturn(response);
+        when(response.getEntity()).thenReturn(new StringEntity("{\"response\": \"test result\"}"));
+        when(response.getStatusLine()).thenReturn(new BasicStatusLine(new ProtocolVersion("HTTP", 1, 1), 200, "OK"));
+        when(executor.getHttpClient()).thenReturn(httpClient);
+
+        Span span = mock(Span.class);
+        when(span.getTraceId()).thenReturn("4bf92f3577b34da6a3ce929d0e0e4736");
+        when(span.getSpanId()).thenReturn("00f067aa0ba902b7");
+        Tracer tracer = mock(Tracer.class);
+        when(tracer.startSpan(any(SpanCreationContext.class))).thenReturn(span);
+        when(tracer.withSpanInScope(span)).thenAnswer(invocation -> {
+            ThreadContext.StoredContext storedContext = threadContext.stashContext();
+            threadContext.putHeader(MLTracer.TRACEPARENT_HEADER, TRACEPARENT);
+            SpanScope scope = mock(SpanScope.class);
+            doAnswer(it -> {
+                storedContext.restore();
+                return null;
+            }).when(scope).close();
+            return scope;
+        });
+        MLTracer mlTracer = new MLTracer();
+        mlTracer.bind(tracer, threadContext);
+        executor.setTracer(mlTracer);
+        return span;
+    }
 }
@@ -12,10 +12,12 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.verify;
 
+import java.io.File;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.nio.file.Path;
 import java.security.PrivilegedActionException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -35,6 +37,7 @@ import org.opensearch.ml.engine.MLEngine;
 import org.opensearch.ml.engine.ModelHelper;
 import org.opensearch.ml.engine.encryptor.Encryptor;
 import org.opensearch.ml.engine.encryptor.EncryptorImpl;
+import org.opensearch.ml.engine.utils.ModelChunkSplitter;
 
 public class ModelHelperTest {
     @Rule
@@ -54,6 +57,9 @@ public class ModelHelperTest {
 
     Encryptor encryptor;
 
+    private List<byte[]> chunks;
+    private ModelChunkSplitter.ChunkConsumer chunkConsumer;
+
     @Before
     public void setup() throws URISyntaxException {
         MockitoAnnotations.openMocks(this);
@@ -62,13 +68,26 @@ public class ModelHelperTest {
         encryptor = new EncryptorImpl("m+dWmfmnNRiNlOdej/QelEkvMTyH//frS2TBeS2BP4w=");
         mlEngine = new MLEngine(Path.of("/tmp/test" + modelId), encryptor);
         modelHelper = new ModelHelper(mlEngine);
+        chunks = new ArrayList<>();
+        chunkConsumer = (chunkNumber, content) -> chunks.add(content);
     }
 
     @Test
     public void testDownloadAndSplit_UrlFailure() {
         modelId = "url_failure_model_id";
         modelHelper
-            .downloadAndSplit(modelFormat, modelId, "model_name", "1", "http://testurl", null, FunctionName.TEXT_EMBEDDING, actionListener);
+            .downloadAndSplit(
+                modelFormat,
+                modelId,
+                "model_name",
+                "1",
+                "http://testurl",
+                hashValue,
+                FunctionName.TEXT_EMBEDDING,
+                Long.MAX_VALUE,
+                chunkConsumer,
+                actionListener
+            );
         ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
         verify(actionListener).onFailure(argumentCaptor.capture());
         assertEquals(PrivilegedActionException.class, argumentCaptor.getValue().getClass());
@@ -78,22 +97,69 @@ public class ModelHelperTest {
     public void testDownloadAndSplit() throws URISyntaxException {
         String modelUrl = getClass().getResource("traced_small_model.zip").toURI().toString();
         modelHelper
-            .downloadAndSplit(modelFormat, modelId, "model_name", "1", modelUrl, hashValue, FunctionName.TEXT_EMBEDDING, actionListener);
+            .downloadAndSplit(
+                modelFormat,
+                modelId,
+                "model_name",
+                "1",
+                modelUrl,
+                hashValue,
+                FunctionName.TEXT_EMBEDDING,
+                Long.MAX_VALUE,
+                chunkConsumer,
+                actionListener
+            );
         ArgumentCaptor<Map> argumentCaptor = ArgumentCaptor.forClass(Map.class);
         verify(actionListener).onResponse(argumentCaptor.capture());
         assertNotNull(argumentCaptor.getValue());
-        assertNotEquals(0, argumentCaptor.getValue().size());
+        assertEquals(chunks.size(), argumentCaptor.getValue().get(ModelHelper.TOTAL_CHUNKS));
+        assertEquals(new File(modelUrl.substring(5)).length(), argumentCaptor.getValue().get(ModelHelper.MODEL_SIZE_IN_BYTES));
+        assertEquals(hashValue, argumentCaptor.getValue().get(ModelHelper.MODEL_FILE_HASH));
     }
 
     @Test
     public void testDownloadAndSplit_nullHashCode() throws URISyntaxException {
         String modelUrl = getClass().getResource("traced_small_model.zip").toURI().toString();
-        modelHelper.downloadAndSplit(modelFormat, modelId, "model_name", "1", modelUrl, null, FunctionName.TEXT_EMBEDDING, actionListener);
+        modelHelper
+            .downloadAndSplit(
+                modelFormat,
+                modelId,
+                "model_name",
+                "1",
+                modelUrl,
+                null,
+                FunctionName.TEXT_EMBEDDING,
+                Long.MAX_VALUE,
+                chunkConsumer,
+                actionListener
+            );
         ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
         verify(actionListener).onFailure(argumentCaptor.capture());
         assertEquals(IllegalArgumentException.class, argumentCaptor.getValue().getClass());
     }
 
+    @Test
+    public void testDownloadAndSplit_ExceedSizeLimit() throws URISyntaxException {
+        String modelUrl = getClass().getResource("traced_small_model.zip").toURI().toString();
+        modelHelper
+            .downloadAndSplit(
+                modelFormat,
+                modelId,
+                "model_name",
+                "1",
+                modelUrl,
+                hashValue,
+                FunctionName.TEXT_EMBEDDING,
+                1000,
+                chunkConsumer,
+                actionListener
+            );
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(actionListener).onFailure(argumentCaptor.capture());
+        assertEquals(IllegalArgumentException.class, argumentCaptor.getValue().getClass());
+        assertTrue(chunks.isEmpty());
+    }
+
     @Test
     public void testDownloadAndSplit_HashFailure() throws URISyntaxException {
         String modelUrl = getClass().getResource("traced_small_model.zip").toURI().toString();
@@ -106,6 +172,8 @@ public class ModelHelperTest {
                 modelUrl,
                 "wrong_hash_value",
                 FunctionName.TEXT_EMBEDDING,
+                Long.MAX_VALUE,
+                chunkConsumer,
                 actionListener
             );
         ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
@@ -117,7 +185,18 @@ public class ModelHelperTest {
     public void testDownloadAndSplit_Hash() throws URISyntaxException {
         String modelUrl = getClass().getResource("traced_small_model.zip").toURI().toString();
         modelHelper
-            .downloadAndSplit(modelFormat, modelId, "model_name", "1", modelUrl, hashValue, FunctionName.TEXT_EMBEDDING, actionListener);
+            .downloadAndSplit(
+                modelFormat,
+                modelId,
+                "model_name",
+                "1",
+                modelUrl,
+                hashValue,
+                FunctionName.TEXT_EMBEDDING,
+                Long.MAX_VALUE,
+                chunkConsumer,
+                actionListener
+            );
         ArgumentCaptor<Map> argumentCaptor = ArgumentCaptor.forClass(Map.class);
         verify(actionListener).onResponse(argumentCaptor.capture());
         assertNotNull(argumentCaptor.getValue());
@@ -0,0 +1,96 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.tokenize;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class IdfTableTest {
+    @Rule
+    public ExpectedException exceptionRule = ExpectedException.none();
+
+    private Path jsonFile;
+    private Path binaryFile;
+
+    @Before
+    public void setUp() throws IOException {
+        Path folder = Files.createTempDirectory("idf_table");
+        jsonFile = folder.resolve("idf.json");
+        binaryFile = folder.resolve("idf.bin");
+    }
+
+    @Test
+    public void testLoad() throws IOException {
+        Files.write(jsonFile, "{\"hello\": 2.5, \"world\": 0.75, \"a\": 1.25, \"ä\": 3.0, \"\": 4.0}".getBytes(UTF_8));
+        IdfTable idf = IdfTable.load(jsonFile, binaryFile);
+
+        Assert.assertTrue(Files.exists(binaryFile));
+        Assert.assertEquals(5, idf.size());
+        Assert.assertEquals(2.5f, idf.getOrDefault("hello", 1.0f), 0.0f);
+        Assert.assertEquals(0.75f, idf.getOrDefault("world", 1.0f), 0.0f);
+        Assert.assertEquals(1.25f, idf.getOrDefault("a", 1.0f), 0.0f);
+        Assert.assertEquals(3.0f, idf.getOrDefault("ä", 1.0f), 0.0f);
+        Assert.assertEquals(4.0f, idf.getOrDefault("", 1.0f), 0.0f);
+        Assert.assertEquals(1.0f, idf.getOrDefault("hell", 1.0f), 0.0f);
+        Assert.assertEquals(1.0f, idf.getOrDefault("zzz", 1.0f), 0.0f);
+    }
+
+    @Test
+    public void testLoad_ReuseBinaryFile() throws IOException {
+        Files.write(jsonFile, "{\"hello\": 2.5}".getBytes(UTF_8));
+        IdfTable.load(jsonFile, binaryFile);
+        Files.delete(jsonFile);
+
+        IdfTable idf = IdfTable.load(jsonFile, binaryFile);
+        Assert.assertEquals(2.5f, idf.getOrDefault("hello", 1.0f), 0.0f);
+    }
+
+    @Test
+    public void testLoad_Empty() throws IOException {
+        Files.write(jsonFile, "{}".getBytes(UTF_8));
+        IdfTable idf = IdfTable.load(jsonFile, binaryFile);
+        Assert.assertEquals(0, idf.size());
+        Assert.assertEquals(1.0f, idf.getOrDefault("hello", 1.0f), 0.0f);
+    }
+
+    @Test
+    public void testLoad_DuplicateToken() throws IOException {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("Duplicate token in IDF file: hello");
+        Files.write(jsonFile, "{\"hello\": 2.5, \"hello\": 1.5}".getBytes(UTF_8));
+        try {
+            IdfTable.load(jsonFile, binaryFile);
+        } finally {
+            Assert.assertFalse(Files.exists(binaryFile));
+        }
+    }
+
+    @Test
+    public void testWrongFormat() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("Unsupported IDF file format");
+        new IdfTable(ByteBuffer.wrap("not an idf table".getBytes(UTF_8)));
+    }
+
+    @Test
+    public void testCorruptedFile() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("Corrupted IDF file");
+        ByteBuffer buffer = ByteBuffer.allocate(20);
+        buffer.putInt(IdfTable.MAGIC).putInt(IdfTable.VERSION).putInt(100);
+        new IdfTable(buffer);
+    }
+}
@@ -43,6 +43,11 @@ public class MLHttpClientFactoryTests {
         MLHttpClientFactory.validateIp("localhost");
     }
 
+    @Test
+    public void test_validateIp_privateIp_enabled_noException() throws UnknownHostException {
+        assertNotNull(MLHttpClientFactory.validateIp("localhost", true));
+    }
+
     @Test
     public void test_validateIp_rarePrivateIp_throwException() throws UnknownHostException {
         try {
@@ -0,0 +1,99 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.utils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import com.google.common.hash.Hashing;
+
+public class ModelChunkSplitterTest {
+    @Rule
+    public ExpectedException exceptionRule = ExpectedException.none();
+
+    @Test
+    public void testSplit() throws Exception {
+        byte[] zip = createZip("model.pt", "tokenizer.json");
+        List<Integer> chunkNumbers = new ArrayList<>();
+        ByteArrayOutputStream chunks = new ByteArrayOutputStream();
+
+        ModelChunkSplitter.ChunkConsumer chunkConsumer = (chunkNumber, content) -> {
+            Assert.assertTrue(content.length <= 1000);
+            chunkNumbers.add(chunkNumber);
+            chunks.write(content);
+        };
+        ModelChunkSplitter.Result result = ModelChunkSplitter.split(new ByteArrayInputStream(zip), 1000, Long.MAX_VALUE, chunkConsumer);
+
+        Assert.assertArrayEquals(zip, chunks.toByteArray());
+        Assert.assertEquals(zip.length, result.getSizeInBytes());
+        Assert.assertEquals((zip.length + 999) / 1000, result.getTotalChunks());
+        Assert.assertEquals(result.getTotalChunks(), chunkNumbers.size());
+        for (int i = 0; i < chunkNumbers.size(); i++) {
+            Assert.assertEquals(i, chunkNumbers.get(i).intValue());
+        }
+        Assert.assertEquals(Hashing.sha256().hashBytes(zip).toString(), result.getHash());
+        Assert.assertEquals(List.of("model.pt", "tokenizer.json"), result.getEntryNames());
+    }
+
+    @Test
+    public void testSplit_NotZipFile() throws Exception {
+        exceptionRule.expect(IllegalArgumentException.class);
+        byte[] content = "not a zip file".getBytes(StandardCharsets.UTF_8);
+        ModelChunkSplitter.split(new ByteArrayInputStream(content), 1000, Long.MAX_VALUE, (chunkNumber, chunk) -> {});
+    }
+
+    @Test
+    public void testSplit_ChunkConsumerFailure() throws Exception {
+        exceptionRule.expect(IOException.class);
+        exceptionRule.expectMessage("Failed to process model chunk 0");
+        ModelChunkSplitter.split(new ByteArrayInputStream(createZip("model.pt")), 1000, Long.MAX_VALUE, (chunkNumber, content) -> {
+            throw new InterruptedException();
+        });
+    }
+
+    @Test
+    public void testSplit_ExceedSizeLimit() throws Exception {
+        byte[] zip = createZip("model.pt", "tokenizer.json");
+        List<Integer> chunkNumbers = new ArrayList<>();
+
+        IllegalArgumentException exception = Assert
+            .assertThrows(
+                IllegalArgumentException.class,
+                () -> ModelChunkSplitter
+                    .split(new ByteArrayInputStream(zip), 1000, 3000, (chunkNumber, content) -> chunkNumbers.add(chunkNumber))
+            );
+        Assert.assertEquals("Model file size exceeds the limit of 3000 bytes", exception.getMessage());
+        // the download stops at the limit, only chunks within it are handed over
+        Assert.assertTrue(chunkNumbers.size() <= 3);
+    }
+
+    private byte[] createZip(String... entryNames) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Random random = new Random(42);
+        try (ZipOutputStream zipOutputStream = new ZipOutputStream(out)) {
+            for (String entryName : entryNames) {
+                byte[] content = new byte[5000];
+                random.nextBytes(content);
+                zipOutputStream.putNextEntry(new ZipEntry(entryName));
+                zipOutputStream.write(content);
+                zipOutputStream.closeEntry();
+            }
+        }
+        return out.toByteArray();
+    }
+}
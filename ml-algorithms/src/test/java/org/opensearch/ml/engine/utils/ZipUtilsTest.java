@@ -7,6 +7,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
+import java.util.stream.Stream;
 
 import org.junit.Assert;
 import org.junit.Rule;
@@ -36,4 +37,19 @@ public class ZipUtilsTest {
         Path testOutputPath = Paths.get("build/output/foo");
         Assert.assertTrue(Files.exists(testOutputPath));
     }
+
+    @Test
+    public void testUnzipOnce() throws IOException, URISyntaxException {
+        File testZipFile = new File(Objects.requireNonNull(getClass().getResource("foo.zip")).toURI());
+        Path output = Files.createTempDirectory("unzip_once").resolve("model");
+        Assert.assertTrue(ZipUtils.unzipOnce(testZipFile, output));
+        Assert.assertTrue(Files.exists(output.resolve("foo")));
+
+        Files.write(output.resolve("converted"), new byte[1]);
+        Assert.assertFalse(ZipUtils.unzipOnce(testZipFile, output));
+        Assert.assertTrue(Files.exists(output.resolve("converted")));
+        try (Stream<Path> files = Files.list(output.getParent())) {
+            Assert.assertEquals(1, files.count());
+        }
+    }
 }
@@ -0,0 +1,51 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.deploy;
+
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.common.transport.deploy.MLModelChunkPeerAction;
+import org.opensearch.ml.common.transport.deploy.MLModelChunkPeerRequest;
+import org.opensearch.ml.common.transport.deploy.MLModelChunkPeerResponse;
+import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.tasks.Task;
+import org.opensearch.transport.TransportService;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Serves model chunks to peer nodes deploying the same model, see {@link MLModelManager#readModelChunkForPeer}.
+ */
+@Log4j2
+public class TransportModelChunkPeerAction extends HandledTransportAction<ActionRequest, MLModelChunkPeerResponse> {
+    private final MLModelManager mlModelManager;
+
+    @Inject
+    public TransportModelChunkPeerAction(TransportService transportService, ActionFilters actionFilters, MLModelManager mlModelManager) {
+        super(MLModelChunkPeerAction.NAME, transportService, actionFilters, MLModelChunkPeerRequest::new);
+        this.mlModelManager = mlModelManager;
+    }
+
+    @Override
+    protected void doExecute(Task task, ActionRequest request, ActionListener<MLModelChunkPeerResponse> listener) {
+        MLModelChunkPeerRequest chunkRequest = MLModelChunkPeerRequest.fromActionRequest(request);
+        try {
+            mlModelManager
+                .readModelChunkForPeer(
+                    chunkRequest.getModelId(),
+                    chunkRequest.getModelContentHash(),
+                    chunkRequest.getChunkNumber(),
+                    ActionListener.wrap(content -> listener.onResponse(new MLModelChunkPeerResponse(content)), listener::onFailure)
+                );
+        } catch (Exception e) {
+            log.error("Failed to read chunk " + chunkRequest.getChunkNumber() + " of model " + chunkRequest.getModelId(), e);
+            listener.onFailure(e);
+        }
+    }
+}
@@ -144,7 +144,9 @@ public class TransportForwardAction extends HandledTransportAction<ActionRequest
                             currentWorkerNodeCount = mlTaskCache.getWorkerNodeSize() - mlTaskCache.getErrors().size();
                             builder.put(MLTask.ERROR_FIELD, toJsonString(mlTaskCache.getErrors()));
                         }
-                        boolean clearAutoReDeployRetryTimes = triggerNextModelDeployAndCheckIfRestRetryTimes(workNodes, taskId);
+                        boolean clearAutoReDeployRetryTimes = checkIfResetAutoRedeployRetryTimes(workNodes, taskId);
+                        // free the auto redeploy slot of the model, successful or not, and redeploy the next models
+                        mlModelAutoReDeployer.onModelDeployDone(modelId);
                         mlTaskManager.updateMLTask(taskId, builder.build(), TASK_SEMAPHORE_TIMEOUT, true);
 
                         MLModelState modelState;
@@ -180,15 +182,13 @@ public class TransportForwardAction extends HandledTransportAction<ActionRequest
         }
     }
 
-    private boolean triggerNextModelDeployAndCheckIfRestRetryTimes(Set<String> workNodes, String taskId) {
+    private boolean checkIfResetAutoRedeployRetryTimes(Set<String> workNodes, String taskId) {
         if (enableAutoReDeployModel && workNodes != null && mlTaskManager.getMLTaskCache(taskId) != null) {
             MLTaskCache mlTaskCache = mlTaskManager.getMLTaskCache(taskId);
             int expectedWorkerNodeCount = mlTaskCache.getWorkerNodeSize();
             int receivedWorkerNodesCount = expectedWorkerNodeCount - workNodes.size();
             int successWorkerNodesCount = receivedWorkerNodesCount - mlTaskCache.errorNodesCount();
             if ((float) successWorkerNodesCount / expectedWorkerNodeCount >= modelAutoRedeploySuccessRatio) {
-                // Trigger next model auto redeploy.
-                mlModelAutoReDeployer.redeployAModel();
                 // clear the auto reload retry time by setting the times value to 0.
                 return true;
             }
@@ -0,0 +1,21 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.metrics;
+
+import org.opensearch.action.ActionType;
+import org.opensearch.ml.constant.CommonValue;
+
+public class MLMetricsAction extends ActionType<MLMetricsResponse> {
+    public static final String NAME = CommonValue.ACTION_PREFIX + "metrics";
+    public static final MLMetricsAction INSTANCE = new MLMetricsAction();
+
+    /**
+     * Constructor
+     */
+    private MLMetricsAction() {
+        super(NAME, MLMetricsResponse::new);
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.metrics;
+
+import java.io.IOException;
+
+import org.opensearch.core.action.ActionResponse;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+import lombok.Getter;
+
+public class MLMetricsResponse extends ActionResponse {
+    // ML metrics in OpenMetrics text format
+    @Getter
+    private final String openMetrics;
+
+    /**
+     * Constructor
+     *
+     * @param openMetrics ML metrics in OpenMetrics text format
+     */
+    public MLMetricsResponse(String openMetrics) {
+        this.openMetrics = openMetrics;
+    }
+
+    public MLMetricsResponse(StreamInput in) throws IOException {
+        super(in);
+        this.openMetrics = in.readString();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeString(openMetrics);
+    }
+}
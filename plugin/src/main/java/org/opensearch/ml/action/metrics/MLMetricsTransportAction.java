@@ -0,0 +1,53 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.metrics;
+
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.stats.metrics.MLMetricsRegistry;
+import org.opensearch.tasks.Task;
+import org.opensearch.transport.TransportService;
+
+/**
+ * Exports the ML metrics of the node the request is sent to. It's a transport action, so the security plugin authorizes
+ * reading metrics by its action name.
+ */
+public class MLMetricsTransportAction extends HandledTransportAction<MLMetricsRequest, MLMetricsResponse> {
+    private final MLMetricsRegistry mlMetrics;
+    private final ClusterService clusterService;
+
+    /**
+     * Constructor
+     *
+     * @param transportService transport service
+     * @param actionFilters action filters
+     * @param mlMetrics ML metrics registry
+     * @param clusterService cluster service
+     */
+    @Inject
+    public MLMetricsTransportAction(
+        TransportService transportService,
+        ActionFilters actionFilters,
+        MLMetricsRegistry mlMetrics,
+        ClusterService clusterService
+    ) {
+        super(MLMetricsAction.NAME, transportService, actionFilters, MLMetricsRequest::new);
+        this.mlMetrics = mlMetrics;
+        this.clusterService = clusterService;
+    }
+
+    @Override
+    protected void doExecute(Task task, MLMetricsRequest request, ActionListener<MLMetricsResponse> listener) {
+        try {
+            listener.onResponse(new MLMetricsResponse(mlMetrics.toOpenMetrics(clusterService.localNode().getId())));
+        } catch (Exception e) {
+            listener.onFailure(e);
+        }
+    }
+}
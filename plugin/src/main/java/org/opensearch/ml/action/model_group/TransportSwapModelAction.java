@@ -0,0 +1,244 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.model_group;
+
+import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+import static org.opensearch.ml.common.CommonValue.ML_MODEL_GROUP_INDEX;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.get.GetRequest;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.client.Client;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.commons.authuser.User;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.index.IndexNotFoundException;
+import org.opensearch.ml.cluster.DiscoveryNodeHelper;
+import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.MLModelGroup;
+import org.opensearch.ml.common.MLTask;
+import org.opensearch.ml.common.MLTaskState;
+import org.opensearch.ml.common.MLTaskType;
+import org.opensearch.ml.common.dataset.MLInputDataType;
+import org.opensearch.ml.common.exception.MLResourceNotFoundException;
+import org.opensearch.ml.common.exception.MLValidationException;
+import org.opensearch.ml.common.transport.model_group.MLModelGroupSwapAction;
+import org.opensearch.ml.common.transport.model_group.MLModelGroupSwapRequest;
+import org.opensearch.ml.common.transport.model_group.MLModelGroupSwapResponse;
+import org.opensearch.ml.helper.ModelAccessControlHelper;
+import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.ml.task.MLModelSwapJob;
+import org.opensearch.ml.task.MLTaskManager;
+import org.opensearch.ml.utils.MLNodeUtils;
+import org.opensearch.ml.utils.RestActionUtils;
+import org.opensearch.tasks.Task;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+import com.google.common.collect.ImmutableList;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Creates an async model swap task and runs the model swap job on the local node. A model group has at most one swap
+ * running on each node. Swaps of the same model group started on different nodes are serialized by the versioned
+ * update of the serving model id, see {@link MLModelSwapJob}.
+ */
+@Log4j2
+public class TransportSwapModelAction extends HandledTransportAction<ActionRequest, MLModelGroupSwapResponse> {
+    private final TransportService transportService;
+    private final Client client;
+    private final ThreadPool threadPool;
+    private final ClusterService clusterService;
+    private final MLTaskManager mlTaskManager;
+    private final MLModelManager mlModelManager;
+    private final DiscoveryNodeHelper nodeHelper;
+    private final ModelAccessControlHelper modelAccessControlHelper;
+    // Model groups with a swap running on this node
+    private final Set<String> swappingModelGroups = ConcurrentHashMap.newKeySet();
+
+    @Inject
+    public TransportSwapModelAction(
+        TransportService transportService,
+        ActionFilters actionFilters,
+        Client client,
+        ThreadPool threadPool,
+        ClusterService clusterService,
+        MLTaskManager mlTaskManager,
+        MLModelManager mlModelManager,
+        DiscoveryNodeHelper nodeHelper,
+        ModelAccessControlHelper modelAccessControlHelper
+    ) {
+        super(MLModelGroupSwapAction.NAME, transportService, actionFilters, MLModelGroupSwapRequest::new);
+        this.transportService = transportService;
+        this.client = client;
+        this.threadPool = threadPool;
+        this.clusterService = clusterService;
+        this.mlTaskManager = mlTaskManager;
+        this.mlModelManager = mlModelManager;
+        this.nodeHelper = nodeHelper;
+        this.modelAccessControlHelper = modelAccessControlHelper;
+    }
+
+    @Override
+    protected void doExecute(Task task, ActionRequest request, ActionListener<MLModelGroupSwapResponse> listener) {
+        MLModelGroupSwapRequest swapRequest = MLModelGroupSwapRequest.fromActionRequest(request);
+        String modelGroupId = swapRequest.getModelGroupId();
+        User user = RestActionUtils.getUserContext(client);
+        modelAccessControlHelper.validateModelGroupAccess(user, modelGroupId, client, ActionListener.wrap(access -> {
+            if (!access) {
+                listener
+                    .onFailure(
+                        new OpenSearchStatusException(
+                            "User doesn't have privilege to perform this operation on this model group",
+                            RestStatus.FORBIDDEN
+                        )
+                    );
+            } else if (!swappingModelGroups.add(modelGroupId)) {
+                listener.onFailure(new MLValidationException("Model group " + modelGroupId + " has a model swap in progress"));
+            } else {
+                // The job releases the model group once it's done.
+                getServingModelId(swapRequest, ActionListener.wrap(listener::onResponse, e -> {
+                    swappingModelGroups.remove(modelGroupId);
+                    listener.onFailure(e);
+                }));
+            }
+        }, e -> {
+            log.error("Failed to validate access for model group " + modelGroupId, e);
+            listener.onFailure(e);
+        }));
+    }
+
+    private void getServingModelId(MLModelGroupSwapRequest swapRequest, ActionListener<MLModelGroupSwapResponse> listener) {
+        String modelGroupId = swapRequest.getModelGroupId();
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            ActionListener<MLModelGroupSwapResponse> wrappedListener = ActionListener.runBefore(listener, context::restore);
+            client.get(new GetRequest(ML_MODEL_GROUP_INDEX).id(modelGroupId), ActionListener.wrap(r -> {
+                if (r == null || !r.isExists()) {
+                    wrappedListener.onFailure(new MLResourceNotFoundException("Failed to find model group with ID: " + modelGroupId));
+                    return;
+                }
+                try (
+                    XContentParser parser = MLNodeUtils
+                        .createXContentParserFromRegistry(NamedXContentRegistry.EMPTY, r.getSourceAsBytesRef())
+                ) {
+                    ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
+                    MLModelGroup mlModelGroup = MLModelGroup.parse(parser);
+                    getModel(swapRequest, mlModelGroup.getServingModelId(), r.getSeqNo(), r.getPrimaryTerm(), wrappedListener);
+                }
+            }, e -> {
+                if (e instanceof IndexNotFoundException) {
+                    wrappedListener.onFailure(new MLResourceNotFoundException("Failed to find model group with ID: " + modelGroupId));
+                } else {
+                    log.error("Failed to get model group " + modelGroupId, e);
+                    wrappedListener.onFailure(e);
+                }
+            }));
+        } catch (Exception e) {
+            log.error("Failed to swap model of model group " + modelGroupId, e);
+            listener.onFailure(e);
+        }
+    }
+
+    private void getModel(
+        MLModelGroupSwapRequest swapRequest,
+        String previousModelId,
+        long modelGroupSeqNo,
+        long modelGroupPrimaryTerm,
+        ActionListener<MLModelGroupSwapResponse> listener
+    ) {
+        String modelId = swapRequest.getModelId();
+        if (modelId.equals(previousModelId)) {
+            listener
+                .onFailure(
+                    new MLValidationException("Model " + modelId + " is already serving model group " + swapRequest.getModelGroupId())
+                );
+            return;
+        }
+        mlModelManager.getModel(modelId, ActionListener.wrap(mlModel -> {
+            if (!swapRequest.getModelGroupId().equals(mlModel.getModelGroupId())) {
+                listener
+                    .onFailure(
+                        new MLValidationException("Model " + modelId + " doesn't belong to model group " + swapRequest.getModelGroupId())
+                    );
+                return;
+            }
+            createTask(swapRequest, mlModel, previousModelId, modelGroupSeqNo, modelGroupPrimaryTerm, listener);
+        }, e -> {
+            log.error("Failed to find model " + modelId, e);
+            listener.onFailure(e);
+        }));
+    }
+
+    private void createTask(
+        MLModelGroupSwapRequest swapRequest,
+        MLModel mlModel,
+        String previousModelId,
+        long modelGroupSeqNo,
+        long modelGroupPrimaryTerm,
+        ActionListener<MLModelGroupSwapResponse> listener
+    ) {
+        Instant now = Instant.now();
+        MLTask mlTask = MLTask
+            .builder()
+            .modelId(swapRequest.getModelId())
+            .taskType(MLTaskType.SWAP_MODEL)
+            .functionName(mlModel.getAlgorithm())
+            .state(MLTaskState.CREATED)
+            .inputType(MLInputDataType.TEXT_DOCS)
+            .workerNodes(ImmutableList.of(clusterService.localNode().getId()))
+            .createTime(now)
+            .lastUpdateTime(now)
+            .async(true)
+            .build();
+        mlTaskManager.createMLTask(mlTask, ActionListener.wrap(response -> {
+            String taskId = response.getId();
+            listener.onResponse(new MLModelGroupSwapResponse(taskId, MLTaskState.CREATED.name()));
+            MLModelSwapJob job = new MLModelSwapJob(
+                client,
+                threadPool,
+                clusterService,
+                transportService,
+                mlTaskManager,
+                mlModelManager,
+                nodeHelper,
+                swapRequest,
+                mlModel,
+                previousModelId,
+                modelGroupSeqNo,
+                modelGroupPrimaryTerm,
+                taskId,
+                () -> swappingModelGroups.remove(swapRequest.getModelGroupId())
+            );
+            try {
+                job.start();
+            } catch (Exception e) {
+                log.error("Failed to start model swap task " + taskId, e);
+                swappingModelGroups.remove(swapRequest.getModelGroupId());
+                mlTaskManager
+                    .updateMLTaskDirectly(
+                        taskId,
+                        Map.of(MLTask.STATE_FIELD, MLTaskState.FAILED, MLTask.ERROR_FIELD, String.valueOf(e.getMessage()))
+                    );
+            }
+        }, e -> {
+            log.error("Failed to create model swap task for model group " + swapRequest.getModelGroupId(), e);
+            listener.onFailure(e);
+        }));
+    }
+}
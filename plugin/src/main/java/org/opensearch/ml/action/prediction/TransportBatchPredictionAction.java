@@ -0,0 +1,295 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.prediction;
+
+import static org.opensearch.ml.common.CommonValue.ML_TASK_INDEX;
+import static org.opensearch.ml.common.MLTask.CHECKPOINT_FIELD;
+import static org.opensearch.ml.common.MLTask.LAST_UPDATE_TIME_FIELD;
+import static org.opensearch.ml.common.MLTask.MODEL_ID_FIELD;
+import static org.opensearch.ml.common.MLTask.OUTPUT_INDEX_FIELD;
+import static org.opensearch.ml.common.MLTask.STATE_FIELD;
+import static org.opensearch.ml.common.MLTask.TASK_TYPE_FIELD;
+import static org.opensearch.ml.common.MLTask.WORKER_NODE_FIELD;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.get.GetRequest;
+import org.opensearch.action.get.GetResponse;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.action.update.UpdateRequest;
+import org.opensearch.action.update.UpdateResponse;
+import org.opensearch.client.Client;
+import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.index.engine.VersionConflictEngineException;
+import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.MLTask;
+import org.opensearch.ml.common.MLTaskState;
+import org.opensearch.ml.common.MLTaskType;
+import org.opensearch.ml.common.dataset.MLInputDataType;
+import org.opensearch.ml.common.exception.MLResourceNotFoundException;
+import org.opensearch.ml.common.exception.MLValidationException;
+import org.opensearch.ml.common.transport.prediction.MLBatchPredictionAction;
+import org.opensearch.ml.common.transport.prediction.MLBatchPredictionRequest;
+import org.opensearch.ml.common.transport.prediction.MLBatchPredictionResponse;
+import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.ml.task.MLBatchPredictionJob;
+import org.opensearch.ml.task.MLTaskManager;
+import org.opensearch.tasks.Task;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Creates (or resumes) an async batch prediction task and runs the batch prediction job on the local node.
+ */
+@Log4j2
+public class TransportBatchPredictionAction extends HandledTransportAction<ActionRequest, MLBatchPredictionResponse> {
+    private final Client client;
+    private final ThreadPool threadPool;
+    private final ClusterService clusterService;
+    private final MLTaskManager mlTaskManager;
+    private final MLModelManager mlModelManager;
+
+    @Inject
+    public TransportBatchPredictionAction(
+        TransportService transportService,
+        ActionFilters actionFilters,
+        Client client,
+        ThreadPool threadPool,
+        ClusterService clusterService,
+        MLTaskManager mlTaskManager,
+        MLModelManager mlModelManager
+    ) {
+        super(MLBatchPredictionAction.NAME, transportService, actionFilters, MLBatchPredictionRequest::new);
+        this.client = client;
+        this.threadPool = threadPool;
+        this.clusterService = clusterService;
+        this.mlTaskManager = mlTaskManager;
+        this.mlModelManager = mlModelManager;
+    }
+
+    @Override
+    protected void doExecute(Task task, ActionRequest request, ActionListener<MLBatchPredictionResponse> listener) {
+        MLBatchPredictionRequest batchRequest = MLBatchPredictionRequest.fromActionRequest(request);
+        String modelId = batchRequest.getModelId();
+        ActionListener<MLModel> modelListener = ActionListener.wrap(mlModel -> {
+            if (!MLBatchPredictionJob.SUPPORTED_FUNCTION_NAMES.contains(mlModel.getAlgorithm())) {
+                listener
+                    .onFailure(
+                        new MLValidationException(
+                            "Batch prediction doesn't support " + mlModel.getAlgorithm() + " models, supported: "
+                                + MLBatchPredictionJob.SUPPORTED_FUNCTION_NAMES
+                        )
+                    );
+                return;
+            }
+            if (batchRequest.getResumeTaskId() != null) {
+                resumeTask(batchRequest, mlModel, listener);
+            } else {
+                createTask(batchRequest, mlModel, listener);
+            }
+        }, e -> {
+            log.error("Failed to find model " + modelId, e);
+            listener.onFailure(e);
+        });
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            mlModelManager.getModel(modelId, ActionListener.runBefore(modelListener, () -> context.restore()));
+        } catch (Exception e) {
+            log.error("Failed to run batch prediction for model " + modelId, e);
+            listener.onFailure(e);
+        }
+    }
+
+    private void createTask(MLBatchPredictionRequest batchRequest, MLModel mlModel, ActionListener<MLBatchPredictionResponse> listener) {
+        Instant now = Instant.now();
+        MLTask mlTask = MLTask
+            .builder()
+            .modelId(batchRequest.getModelId())
+            .taskType(MLTaskType.BATCH_PREDICTION)
+            .functionName(mlModel.getAlgorithm())
+            .state(MLTaskState.CREATED)
+            .inputType(MLInputDataType.SEARCH_QUERY)
+            .outputIndex(batchRequest.getTargetIndex())
+            .workerNodes(ImmutableList.of(clusterService.localNode().getId()))
+            .createTime(now)
+            .lastUpdateTime(now)
+            .async(true)
+            .build();
+        mlTaskManager.createMLTask(mlTask, ActionListener.wrap(response -> {
+            String taskId = response.getId();
+            mlTask.setTaskId(taskId);
+            listener.onResponse(new MLBatchPredictionResponse(taskId, MLTaskState.CREATED.name()));
+            startJob(batchRequest, mlTask, null);
+        }, e -> {
+            log.error("Failed to create batch prediction task for model " + batchRequest.getModelId(), e);
+            listener.onFailure(e);
+        }));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void resumeTask(MLBatchPredictionRequest batchRequest, MLModel mlModel, ActionListener<MLBatchPredictionResponse> listener) {
+        String taskId = batchRequest.getResumeTaskId();
+        if (mlTaskManager.contains(taskId)) {
+            listener.onFailure(new MLValidationException("Batch prediction task is still running on this node: " + taskId));
+            return;
+        }
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            client.get(new GetRequest(ML_TASK_INDEX, taskId), ActionListener.runBefore(ActionListener.wrap(getResponse -> {
+                if (!getResponse.isExists()) {
+                    listener.onFailure(new MLResourceNotFoundException("Fail to find task " + taskId));
+                    return;
+                }
+                Map<String, Object> source = getResponse.getSourceAsMap();
+                String validationError = validateResumableTask(source, batchRequest, clusterService.state().nodes());
+                if (validationError != null) {
+                    listener.onFailure(new MLValidationException(validationError));
+                    return;
+                }
+                claimTask(getResponse, ActionListener.wrap(r -> {
+                    listener.onResponse(new MLBatchPredictionResponse(taskId, MLTaskState.RUNNING.name()));
+                    Map<String, Object> checkpoint = (Map<String, Object>) source.get(CHECKPOINT_FIELD);
+                    startJob(batchRequest, createResumedTask(taskId, batchRequest, mlModel), checkpoint);
+                }, e -> {
+                    if (ExceptionsHelper.unwrapCause(e) instanceof VersionConflictEngineException) {
+                        String error = "Batch prediction task is being resumed by another request: " + taskId;
+                        listener.onFailure(new MLValidationException(error));
+                    } else {
+                        log.error("Failed to claim batch prediction task " + taskId, e);
+                        listener.onFailure(e);
+                    }
+                }));
+            }, e -> {
+                log.error("Failed to get batch prediction task " + taskId, e);
+                listener.onFailure(e);
+            }), () -> context.restore()));
+        }
+    }
+
+    /**
+     * Mark the task as running on this node, only if it wasn't updated since it was read, so only one of concurrent
+     * resume requests of the same task starts the job.
+     */
+    private void claimTask(GetResponse getResponse, ActionListener<UpdateResponse> listener) {
+        Map<String, Object> updatedFields = new HashMap<>();
+        updatedFields.put(STATE_FIELD, MLTaskState.RUNNING.name());
+        updatedFields.put(WORKER_NODE_FIELD, ImmutableList.of(clusterService.localNode().getId()));
+        updatedFields.put(LAST_UPDATE_TIME_FIELD, Instant.now().toEpochMilli());
+        UpdateRequest updateRequest = new UpdateRequest(ML_TASK_INDEX, getResponse.getId())
+            .setIfSeqNo(getResponse.getSeqNo())
+            .setIfPrimaryTerm(getResponse.getPrimaryTerm())
+            .doc(updatedFields);
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            client.update(updateRequest, ActionListener.runBefore(listener, () -> context.restore()));
+        }
+    }
+
+    private MLTask createResumedTask(String taskId, MLBatchPredictionRequest batchRequest, MLModel mlModel) {
+        Instant now = Instant.now();
+        return MLTask
+            .builder()
+            .taskId(taskId)
+            .modelId(batchRequest.getModelId())
+            .taskType(MLTaskType.BATCH_PREDICTION)
+            .functionName(mlModel.getAlgorithm())
+            .state(MLTaskState.CREATED)
+            .inputType(MLInputDataType.SEARCH_QUERY)
+            .outputIndex(batchRequest.getTargetIndex())
+            .workerNodes(ImmutableList.of(clusterService.localNode().getId()))
+            .createTime(now)
+            .lastUpdateTime(now)
+            .async(true)
+            .build();
+    }
+
+    /**
+     * Check a task can be resumed by a batch prediction request: the task must be a batch prediction task of the same
+     * model and indices which isn't completed, and not running on another node of the cluster. Tasks running on this
+     * node are in the task cache.
+     *
+     * @return validation error, null if the task can be resumed
+     */
+    @VisibleForTesting
+    @SuppressWarnings("unchecked")
+    static String validateResumableTask(Map<String, Object> source, MLBatchPredictionRequest batchRequest, DiscoveryNodes nodes) {
+        if (!MLTaskType.BATCH_PREDICTION.name().equals(source.get(TASK_TYPE_FIELD))) {
+            return "Task is not a batch prediction task";
+        }
+        if (!batchRequest.getModelId().equals(source.get(MODEL_ID_FIELD))) {
+            return "Task was created for another model";
+        }
+        Object state = source.get(STATE_FIELD);
+        if (MLTaskState.COMPLETED.name().equals(state)) {
+            return "Batch prediction task is already completed";
+        }
+        if (MLTaskState.CREATED.name().equals(state) || MLTaskState.RUNNING.name().equals(state)) {
+            // the task is only left running by a node which left the cluster
+            List<String> workerNodes = (List<String>) source.get(WORKER_NODE_FIELD);
+            if (workerNodes != null) {
+                for (String workerNode : workerNodes) {
+                    if (!workerNode.equals(nodes.getLocalNodeId()) && nodes.nodeExists(workerNode)) {
+                        return "Batch prediction task is still running on node " + workerNode;
+                    }
+                }
+            }
+        }
+        if (!batchRequest.getTargetIndex().equals(source.get(OUTPUT_INDEX_FIELD))) {
+            return "Task was created for target index " + source.get(OUTPUT_INDEX_FIELD);
+        }
+        Map<String, Object> checkpoint = (Map<String, Object>) source.get(CHECKPOINT_FIELD);
+        Object sourceIndex = checkpoint == null ? null : checkpoint.get(MLBatchPredictionJob.CHECKPOINT_SOURCE_INDEX_FIELD);
+        if (sourceIndex != null && !batchRequest.getSourceIndex().equals(sourceIndex)) {
+            return "Task was created for source index " + sourceIndex;
+        }
+        return null;
+    }
+
+    private void startJob(MLBatchPredictionRequest batchRequest, MLTask mlTask, Map<String, Object> checkpoint) {
+        int concurrency;
+        if (batchRequest.getConcurrency() != null) {
+            concurrency = batchRequest.getConcurrency();
+        } else {
+            String[] workerNodes = mlModelManager.getWorkerNodes(batchRequest.getModelId(), mlTask.getFunctionName());
+            concurrency = workerNodes == null || workerNodes.length == 0 ? 1 : workerNodes.length;
+        }
+        mlTaskManager.add(mlTask);
+        MLBatchPredictionJob job = new MLBatchPredictionJob(
+            client,
+            threadPool,
+            mlTaskManager,
+            batchRequest,
+            mlTask.getFunctionName(),
+            mlTask.getTaskId(),
+            concurrency,
+            checkpoint
+        );
+        try {
+            job.start();
+        } catch (Exception e) {
+            log.error("Failed to start batch prediction task " + mlTask.getTaskId(), e);
+            mlTaskManager
+                .updateMLTask(
+                    mlTask.getTaskId(),
+                    Map.of(STATE_FIELD, MLTaskState.FAILED, MLTask.ERROR_FIELD, String.valueOf(e.getMessage())),
+                    MLTaskManager.TASK_SEMAPHORE_TIMEOUT,
+                    true
+                );
+        }
+    }
+}
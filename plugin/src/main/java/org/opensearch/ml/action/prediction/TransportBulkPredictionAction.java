@@ -0,0 +1,348 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.prediction;
+
+import static org.opensearch.ml.plugin.MachineLearningPlugin.GENERAL_THREAD_POOL;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_BULK_PREDICT_MAX_CONCURRENCY_PER_NODE;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_BULK_PREDICT_MAX_INPUTS;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.action.ActionListenerResponseHandler;
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.client.Client;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.Randomness;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.controller.MLRateLimiter;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.transport.prediction.MLBulkPredictionAction;
+import org.opensearch.ml.common.transport.prediction.MLBulkPredictionRequest;
+import org.opensearch.ml.common.transport.prediction.MLBulkPredictionResponse;
+import org.opensearch.ml.common.transport.prediction.MLPredictionTaskAction;
+import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
+import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.ml.profile.MLPredictRequestStats;
+import org.opensearch.tasks.Task;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Runs the inputs of a bulk predict request on the worker nodes of the model. The coordinating node splits the inputs
+ * into one chunk per worker node and sends each chunk in one request, so inputs don't pay the dispatch and transport
+ * hop one by one. Each worker node runs the inputs of its chunk locally with bounded concurrency.
+ * Inputs throttled by the model or user rate limiter are retried with back off instead of failing right away.
+ */
+@Log4j2
+public class TransportBulkPredictionAction extends HandledTransportAction<ActionRequest, MLBulkPredictionResponse> {
+    static final TimeValue THROTTLE_RETRY_BACKOFF = TimeValue.timeValueMillis(100);
+    static final int MAX_THROTTLE_RETRIES = 100;
+    // predict latency assumed to derive the concurrency allowed by a rate limiter, until the model has latency stats
+    static final double DEFAULT_PREDICT_LATENCY_IN_MILLIS = 1000;
+
+    private final TransportService transportService;
+    private final Client client;
+    private final ThreadPool threadPool;
+    private final ClusterService clusterService;
+    private final MLModelManager mlModelManager;
+
+    private volatile int maxConcurrencyPerNode;
+    private volatile int maxInputs;
+
+    @Inject
+    public TransportBulkPredictionAction(
+        TransportService transportService,
+        ActionFilters actionFilters,
+        Client client,
+        ThreadPool threadPool,
+        ClusterService clusterService,
+        MLModelManager mlModelManager,
+        Settings settings
+    ) {
+        super(MLBulkPredictionAction.NAME, transportService, actionFilters, MLBulkPredictionRequest::new);
+        this.transportService = transportService;
+        this.client = client;
+        this.threadPool = threadPool;
+        this.clusterService = clusterService;
+        this.mlModelManager = mlModelManager;
+        this.maxConcurrencyPerNode = ML_COMMONS_BULK_PREDICT_MAX_CONCURRENCY_PER_NODE.get(settings);
+        this.maxInputs = ML_COMMONS_BULK_PREDICT_MAX_INPUTS.get(settings);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_BULK_PREDICT_MAX_CONCURRENCY_PER_NODE, it -> maxConcurrencyPerNode = it);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_BULK_PREDICT_MAX_INPUTS, it -> maxInputs = it);
+    }
+
+    @Override
+    protected void doExecute(Task task, ActionRequest request, ActionListener<MLBulkPredictionResponse> listener) {
+        MLBulkPredictionRequest bulkRequest = MLBulkPredictionRequest.fromActionRequest(request);
+        String modelId = bulkRequest.getModelId();
+        try {
+            if (bulkRequest.getMlInputs().size() > maxInputs) {
+                throw new IllegalArgumentException(
+                    "Bulk predict request has " + bulkRequest.getMlInputs().size() + " inputs, more than the limit of " + maxInputs
+                );
+            }
+            if (!bulkRequest.isDispatchTask()) {
+                // chunk sent by the coordinating node, predict its inputs on this node
+                int concurrency = bulkRequest.getMaxConcurrency() == null ? maxConcurrencyPerNode : bulkRequest.getMaxConcurrency();
+                log.debug("run bulk predict chunk of model {} locally, input count: {}", modelId, bulkRequest.getMlInputs().size());
+                new BulkPredictionContext(modelId, bulkRequest.getMlInputs(), false, listener)
+                    .start(Math.min(concurrency, bulkRequest.getMlInputs().size()));
+                return;
+            }
+            ActionListener<MLModel> modelListener = ActionListener.wrap(mlModel -> dispatch(bulkRequest, mlModel, listener), e -> {
+                log.error("Failed to get model " + modelId + " of bulk predict request", e);
+                listener.onFailure(e);
+            });
+            try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+                mlModelManager.getModel(modelId, ActionListener.runBefore(modelListener, context::restore));
+            }
+        } catch (Exception e) {
+            log.error("Failed to run bulk predict for model " + modelId, e);
+            listener.onFailure(e);
+        }
+    }
+
+    private void dispatch(MLBulkPredictionRequest bulkRequest, MLModel mlModel, ActionListener<MLBulkPredictionResponse> listener) {
+        String modelId = bulkRequest.getModelId();
+        List<MLInput> mlInputs = bulkRequest.getMlInputs();
+        String[] workerNodes = mlModelManager.getWorkerNodes(modelId, mlModel.getAlgorithm(), true);
+        if (workerNodes == null || workerNodes.length == 0) {
+            // The predict action reports models which aren't deployed, and picks eligible nodes for models which
+            // don't need to be deployed.
+            int concurrency = getConcurrency(bulkRequest, 1, mlModel.getRateLimiter());
+            log.debug("no worker node of model {}, predict {} inputs one by one", modelId, mlInputs.size());
+            new BulkPredictionContext(modelId, mlInputs, true, listener).start(concurrency);
+            return;
+        }
+        int concurrency = getConcurrency(bulkRequest, workerNodes.length, mlModel.getRateLimiter());
+        int chunkCount = Math.min(workerNodes.length, mlInputs.size());
+        int chunkConcurrency = (concurrency + chunkCount - 1) / chunkCount;
+        log
+            .debug(
+                "receive bulk predict request for model {}, input count: {}, chunk count: {}, concurrency: {}",
+                modelId,
+                mlInputs.size(),
+                chunkCount,
+                concurrency
+            );
+
+        AtomicReferenceArray<MLBulkPredictionResponse.Item> results = new AtomicReferenceArray<>(mlInputs.size());
+        AtomicInteger pendingChunks = new AtomicInteger(chunkCount);
+        long startTime = System.nanoTime();
+        Runnable onChunkDone = () -> {
+            if (pendingChunks.decrementAndGet() == 0) {
+                listener.onResponse(buildResponse(results, startTime));
+            }
+        };
+        // start from a random worker node, so requests with fewer inputs than worker nodes don't all go to the first one
+        int firstNode = randomNodeIndex(workerNodes.length);
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            int from = (int) ((long) mlInputs.size() * chunk / chunkCount);
+            int to = (int) ((long) mlInputs.size() * (chunk + 1) / chunkCount);
+            String nodeId = workerNodes[(firstNode + chunk) % workerNodes.length];
+            MLBulkPredictionRequest chunkRequest = new MLBulkPredictionRequest(
+                modelId,
+                new ArrayList<>(mlInputs.subList(from, to)),
+                chunkConcurrency
+            );
+            chunkRequest.setDispatchTask(false);
+            ActionListener<MLBulkPredictionResponse> chunkListener = ActionListener.wrap(response -> {
+                List<MLBulkPredictionResponse.Item> items = response.getItems();
+                for (int i = 0; i < items.size(); i++) {
+                    results.set(from + i, items.get(i));
+                }
+                onChunkDone.run();
+            }, e -> {
+                log.error("Failed to predict bulk predict chunk of model {} on node {}", modelId, nodeId, e);
+                MLBulkPredictionResponse.Item failure = new MLBulkPredictionResponse.Item(
+                    ExceptionsHelper.status(e),
+                    ExceptionsHelper.unwrapCause(e).getMessage()
+                );
+                for (int i = from; i < to; i++) {
+                    results.set(i, failure);
+                }
+                onChunkDone.run();
+            });
+            sendChunk(nodeId, chunkRequest, chunkListener);
+        }
+    }
+
+    private void sendChunk(String nodeId, MLBulkPredictionRequest chunkRequest, ActionListener<MLBulkPredictionResponse> listener) {
+        try {
+            DiscoveryNode node = clusterService.state().nodes().get(nodeId);
+            if (node == null) {
+                throw new IllegalStateException("Worker node " + nodeId + " left the cluster");
+            }
+            transportService
+                .sendRequest(
+                    node,
+                    MLBulkPredictionAction.NAME,
+                    chunkRequest,
+                    new ActionListenerResponseHandler<>(listener, MLBulkPredictionResponse::new)
+                );
+        } catch (Exception e) {
+            listener.onFailure(e);
+        }
+    }
+
+    @VisibleForTesting
+    int randomNodeIndex(int nodeCount) {
+        return nodeCount <= 1 ? 0 : Randomness.get().nextInt(nodeCount);
+    }
+
+    /**
+     * Get max in flight predict requests of a bulk predict request over all worker nodes. It's capped by the rate
+     * limiter of the model, as more concurrent requests than the model accepts would only be throttled and retried.
+     */
+    @VisibleForTesting
+    int getConcurrency(MLBulkPredictionRequest bulkRequest, int nodeCount, MLRateLimiter rateLimiter) {
+        int concurrency = nodeCount * maxConcurrencyPerNode;
+        Integer rateLimitedConcurrency = getRateLimitedConcurrency(bulkRequest.getModelId(), rateLimiter);
+        if (rateLimitedConcurrency != null) {
+            concurrency = Math.min(concurrency, rateLimitedConcurrency);
+        }
+        if (bulkRequest.getMaxConcurrency() != null) {
+            concurrency = Math.min(concurrency, bulkRequest.getMaxConcurrency());
+        }
+        return Math.max(1, Math.min(concurrency, bulkRequest.getMlInputs().size()));
+    }
+
+    /**
+     * Concurrency which keeps the request rate within the rate limiter, by Little's law: requests allowed per
+     * millisecond times the average predict latency in milliseconds.
+     *
+     * @return max in flight predict requests, null if the model has no valid rate limiter
+     */
+    private Integer getRateLimitedConcurrency(String modelId, MLRateLimiter rateLimiter) {
+        if (rateLimiter == null || !rateLimiter.isValid()) {
+            return null;
+        }
+        double requestsPerMillis = Double.parseDouble(rateLimiter.getLimit()) / rateLimiter.getUnit().toMillis(1);
+        MLPredictRequestStats stats = mlModelManager.getPredictRequestStats(modelId);
+        double latencyInMillis = stats == null || stats.getAverage() == null ? DEFAULT_PREDICT_LATENCY_IN_MILLIS : stats.getAverage();
+        return (int) Math.max(1, Math.min(Integer.MAX_VALUE, Math.ceil(requestsPerMillis * latencyInMillis)));
+    }
+
+    private static MLBulkPredictionResponse buildResponse(AtomicReferenceArray<MLBulkPredictionResponse.Item> results, long startTime) {
+        List<MLBulkPredictionResponse.Item> items = new ArrayList<>(results.length());
+        for (int i = 0; i < results.length(); i++) {
+            items.add(results.get(i));
+        }
+        long tookInMillis = (System.nanoTime() - startTime) / 1_000_000;
+        return MLBulkPredictionResponse.builder().items(items).tookInMillis(tookInMillis).build();
+    }
+
+    private class BulkPredictionContext {
+        private final String modelId;
+        private final List<MLInput> mlInputs;
+        // false to predict the inputs on this node
+        private final boolean dispatchTask;
+        private final ActionListener<MLBulkPredictionResponse> listener;
+        private final AtomicReferenceArray<MLBulkPredictionResponse.Item> results;
+        private final AtomicInteger nextInput;
+        private final AtomicInteger completed;
+        private final long startTime;
+
+        BulkPredictionContext(
+            String modelId,
+            List<MLInput> mlInputs,
+            boolean dispatchTask,
+            ActionListener<MLBulkPredictionResponse> listener
+        ) {
+            this.modelId = modelId;
+            this.mlInputs = mlInputs;
+            this.dispatchTask = dispatchTask;
+            this.listener = listener;
+            this.results = new AtomicReferenceArray<>(mlInputs.size());
+            this.nextInput = new AtomicInteger(0);
+            this.completed = new AtomicInteger(0);
+            this.startTime = System.nanoTime();
+        }
+
+        void start(int concurrency) {
+            for (int i = 0; i < concurrency; i++) {
+                runLane();
+            }
+        }
+
+        /**
+         * Predict inputs one after another until all inputs are taken. Inputs which complete on the calling
+         * thread are handled in the loop rather than by recursion, so a long run of fast failures can't overflow the stack.
+         */
+        private void runLane() {
+            while (true) {
+                int index = nextInput.getAndIncrement();
+                if (index >= mlInputs.size()) {
+                    return;
+                }
+                AtomicBoolean handedOff = new AtomicBoolean(false);
+                predict(index, 0, () -> {
+                    if (onItemDone() && !handedOff.compareAndSet(false, true)) {
+                        runLane();
+                    }
+                });
+                if (handedOff.compareAndSet(false, true)) {
+                    // Predict is still running, its completion will continue this lane.
+                    return;
+                }
+            }
+        }
+
+        private void predict(int index, int attempt, Runnable onDone) {
+            MLPredictionTaskRequest predictRequest = new MLPredictionTaskRequest(modelId, mlInputs.get(index));
+            predictRequest.setDispatchTask(dispatchTask);
+            try {
+                client.execute(MLPredictionTaskAction.INSTANCE, predictRequest, ActionListener.wrap(response -> {
+                    results.set(index, new MLBulkPredictionResponse.Item(response.getOutput()));
+                    onDone.run();
+                }, e -> {
+                    RestStatus status = ExceptionsHelper.status(e);
+                    if (status == RestStatus.TOO_MANY_REQUESTS && attempt < MAX_THROTTLE_RETRIES) {
+                        threadPool.schedule(() -> predict(index, attempt + 1, onDone), THROTTLE_RETRY_BACKOFF, GENERAL_THREAD_POOL);
+                        return;
+                    }
+                    log.debug("Failed to predict input {} of bulk predict request for model {}", index, modelId, e);
+                    results.set(index, new MLBulkPredictionResponse.Item(status, ExceptionsHelper.unwrapCause(e).getMessage()));
+                    onDone.run();
+                }));
+            } catch (Exception e) {
+                results.set(index, new MLBulkPredictionResponse.Item(ExceptionsHelper.status(e), e.getMessage()));
+                onDone.run();
+            }
+        }
+
+        /**
+         * @return true if there are inputs left to predict
+         */
+        private boolean onItemDone() {
+            if (completed.incrementAndGet() == mlInputs.size()) {
+                listener.onResponse(buildResponse(results, startTime));
+                return false;
+            }
+            return nextInput.get() < mlInputs.size();
+        }
+    }
+}
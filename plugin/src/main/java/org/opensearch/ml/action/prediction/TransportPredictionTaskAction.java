@@ -5,6 +5,13 @@
 
 package org.opensearch.ml.action.prediction;
 
+import static org.opensearch.ml.common.telemetry.MLTracer.MODEL_ID_ATTRIBUTE;
+import static org.opensearch.ml.common.telemetry.MLTracer.NODE_ID_ATTRIBUTE;
+import static org.opensearch.ml.common.telemetry.MLTracer.PREDICT_SPAN;
+
+import java.util.EnumMap;
+import java.util.Map;
+
 import org.opensearch.OpenSearchStatusException;
 import org.opensearch.action.ActionRequest;
 import org.opensearch.action.support.ActionFilters;
@@ -20,6 +27,9 @@ import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.exception.MLValidationException;
+import org.opensearch.ml.common.profile.MLPredictProfile;
+import org.opensearch.ml.common.profile.MLPredictStage;
+import org.opensearch.ml.common.telemetry.MLTracer;
 import org.opensearch.ml.common.transport.MLTaskResponse;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskAction;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
@@ -30,6 +40,8 @@ import org.opensearch.ml.task.MLPredictTaskRunner;
 import org.opensearch.ml.task.MLTaskRunner;
 import org.opensearch.ml.utils.RestActionUtils;
 import org.opensearch.tasks.Task;
+import org.opensearch.telemetry.tracing.Span;
+import org.opensearch.telemetry.tracing.SpanScope;
 import org.opensearch.transport.TransportService;
 
 import lombok.AccessLevel;
@@ -53,6 +65,8 @@ public class TransportPredictionTaskAction extends HandledTransportAction<Action
 
     ModelAccessControlHelper modelAccessControlHelper;
 
+    MLTracer mlTracer;
+
     @Inject
     public TransportPredictionTaskAction(
         TransportService transportService,
@@ -63,7 +77,8 @@ public class TransportPredictionTaskAction extends HandledTransportAction<Action
         Client client,
         NamedXContentRegistry xContentRegistry,
         MLModelManager mlModelManager,
-        ModelAccessControlHelper modelAccessControlHelper
+        ModelAccessControlHelper modelAccessControlHelper,
+        MLTracer mlTracer
     ) {
         super(MLPredictionTaskAction.NAME, transportService, actionFilters, MLPredictionTaskRequest::new);
         this.mlPredictTaskRunner = mlPredictTaskRunner;
@@ -74,6 +89,7 @@ public class TransportPredictionTaskAction extends HandledTransportAction<Action
         this.xContentRegistry = xContentRegistry;
         this.mlModelManager = mlModelManager;
         this.modelAccessControlHelper = modelAccessControlHelper;
+        this.mlTracer = mlTracer;
     }
 
     @Override
@@ -88,8 +104,11 @@ public class TransportPredictionTaskAction extends HandledTransportAction<Action
         }
         final User userInfo = user;
 
+        // started before stashing the thread context, so it's a child of the span of the REST request or of the caller
+        Span span = mlTracer.startSpan(PREDICT_SPAN, MODEL_ID_ATTRIBUTE, modelId, NODE_ID_ATTRIBUTE, clusterService.localNode().getId());
+        ActionListener<MLTaskResponse> tracedListener = mlTracer.endSpanOnCompletion(span, listener);
         try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
-            ActionListener<MLTaskResponse> wrappedListener = ActionListener.runBefore(listener, () -> context.restore());
+            ActionListener<MLTaskResponse> wrappedListener = ActionListener.runBefore(tracedListener, () -> context.restore());
             MLModel cachedMlModel = modelCacheHelper.getModelInfo(modelId);
             ActionListener<MLModel> modelActionListener = new ActionListener<>() {
                 @Override
@@ -130,10 +149,10 @@ public class TransportPredictionTaskAction extends HandledTransportAction<Action
                                                     )
                                                 );
                                         } else {
-                                            executePredict(mlPredictionTaskRequest, wrappedListener, modelId);
+                                            executePredict(mlPredictionTaskRequest, wrappedListener, modelId, span);
                                         }
                                     } else {
-                                        executePredict(mlPredictionTaskRequest, wrappedListener, modelId);
+                                        executePredict(mlPredictionTaskRequest, wrappedListener, modelId, span);
                                     }
                                 }
                             }
@@ -162,7 +181,8 @@ public class TransportPredictionTaskAction extends HandledTransportAction<Action
     private void executePredict(
         MLPredictionTaskRequest mlPredictionTaskRequest,
         ActionListener<MLTaskResponse> wrappedListener,
-        String modelId
+        String modelId,
+        Span span
     ) {
         String requestId = mlPredictionTaskRequest.getRequestID();
         log.debug("receive predict request " + requestId + " for model " + mlPredictionTaskRequest.getModelId());
@@ -173,18 +193,54 @@ public class TransportPredictionTaskAction extends HandledTransportAction<Action
         FunctionName functionName = modelCacheHelper
             .getOptionalFunctionName(modelId)
             .orElse(mlPredictionTaskRequest.getMlInput().getAlgorithm());
-        mlPredictTaskRunner
-            .run(
-                // This is by design to NOT use mlPredictionTaskRequest.getMlInput().getAlgorithm() here
-                functionName,
-                mlPredictionTaskRequest,
-                transportService,
-                ActionListener.runAfter(wrappedListener, () -> {
-                    long endTime = System.nanoTime();
-                    double durationInMs = (endTime - startTime) / 1e6;
-                    modelCacheHelper.addPredictRequestDuration(modelId, durationInMs);
-                    log.debug("completed predict request " + requestId + " for model " + modelId);
-                })
-            );
+        // The runner resets the dispatch flag, so check it before. Only the coordinating node completes the profile.
+        boolean dispatchTask = mlPredictionTaskRequest.isDispatchTask();
+        ActionListener<MLTaskResponse> profileListener = ActionListener.wrap(response -> {
+            if (dispatchTask) {
+                completeProfile(modelId, mlPredictionTaskRequest.isProfile(), response, System.nanoTime() - startTime);
+            }
+            wrappedListener.onResponse(response);
+        }, wrappedListener::onFailure);
+        // the thread context was restored after the model lookup, put the span back so the runner spans are its children
+        try (SpanScope ignored = mlTracer.withSpanInScope(span)) {
+            mlPredictTaskRunner
+                .run(
+                    // This is by design to NOT use mlPredictionTaskRequest.getMlInput().getAlgorithm() here
+                    functionName,
+                    mlPredictionTaskRequest,
+                    transportService,
+                    ActionListener.runAfter(profileListener, () -> {
+                        long endTime = System.nanoTime();
+                        double durationInMs = (endTime - startTime) / 1e6;
+                        modelCacheHelper.addPredictRequestDuration(modelId, durationInMs);
+                        log.debug("completed predict request " + requestId + " for model " + modelId);
+                    })
+                );
+        }
+    }
+
+    /**
+     * Add the dispatch time, which is the time of the request not spent on the worker node, to the profile of the worker
+     * node. The profile is dropped from the response unless the request asks for it.
+     */
+    private void completeProfile(String modelId, boolean profileRequested, MLTaskResponse response, long timeInNanos) {
+        MLPredictProfile profile = response.getProfile();
+        if (profile == null) {
+            // the worker node runs an older version
+            return;
+        }
+        long serializeNanos = profile.getStageNanos(MLPredictStage.SERIALIZE);
+        long dispatchNanos = Math.max(0, timeInNanos - profile.getTimeInNanos() - serializeNanos);
+        profile.add(MLPredictStage.DISPATCH, dispatchNanos);
+        profile.setTimeInNanos(timeInNanos);
+        Map<MLPredictStage, Long> stageNanos = new EnumMap<>(MLPredictStage.class);
+        stageNanos.put(MLPredictStage.DISPATCH, dispatchNanos);
+        if (serializeNanos > 0) {
+            stageNanos.put(MLPredictStage.SERIALIZE, serializeNanos);
+        }
+        modelCacheHelper.addPredictStageDurations(modelId, stageNanos);
+        if (!profileRequested) {
+            response.setProfile(null);
+        }
     }
 }
@@ -0,0 +1,21 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.profile;
+
+import org.opensearch.action.ActionType;
+import org.opensearch.ml.constant.CommonValue;
+
+public class MLCpuProfileAction extends ActionType<MLCpuProfileResponse> {
+    public static final String NAME = CommonValue.ACTION_PREFIX + "profile/cpu";
+    public static final MLCpuProfileAction INSTANCE = new MLCpuProfileAction();
+
+    /**
+     * Constructor
+     */
+    private MLCpuProfileAction() {
+        super(NAME, MLCpuProfileResponse::new);
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.profile;
+
+import java.io.IOException;
+
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+import lombok.Getter;
+
+/**
+ * Request to profile the CPU of the ML thread pools of the local node. Duration and interval are validated by the
+ * profiler against the current settings.
+ */
+@Getter
+public class MLCpuProfileRequest extends ActionRequest {
+    private final TimeValue duration;
+    private final TimeValue interval;
+
+    /**
+     * Constructor
+     *
+     * @param duration profiling duration
+     * @param interval sampling interval
+     */
+    public MLCpuProfileRequest(TimeValue duration, TimeValue interval) {
+        this.duration = duration;
+        this.interval = interval;
+    }
+
+    public MLCpuProfileRequest(StreamInput in) throws IOException {
+        super(in);
+        this.duration = in.readTimeValue();
+        this.interval = in.readTimeValue();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeTimeValue(duration);
+        out.writeTimeValue(interval);
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        return null;
+    }
+}
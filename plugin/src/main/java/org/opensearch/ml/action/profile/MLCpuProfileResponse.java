@@ -0,0 +1,63 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.profile;
+
+import java.io.IOException;
+
+import org.opensearch.core.action.ActionResponse;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.ml.profile.MLCpuProfile;
+
+import lombok.Getter;
+
+public class MLCpuProfileResponse extends ActionResponse implements ToXContentObject {
+    @Getter
+    private final MLCpuProfile profile;
+
+    /**
+     * Constructor
+     *
+     * @param profile CPU profile of the local node
+     */
+    public MLCpuProfileResponse(MLCpuProfile profile) {
+        this.profile = profile;
+    }
+
+    public MLCpuProfileResponse(StreamInput in) throws IOException {
+        super(in);
+        this.profile = MLCpuProfile
+            .builder()
+            .nodeId(in.readOptionalString())
+            .duration(in.readTimeValue())
+            .interval(in.readTimeValue())
+            .samples(in.readVLong())
+            .skippedSamples(in.readVLong())
+            .droppedStacks(in.readVLong())
+            .samplingTimeInNanos(in.readVLong())
+            .stacks(in.readMap(StreamInput::readString, StreamInput::readVLong))
+            .build();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeOptionalString(profile.getNodeId());
+        out.writeTimeValue(profile.getDuration());
+        out.writeTimeValue(profile.getInterval());
+        out.writeVLong(profile.getSamples());
+        out.writeVLong(profile.getSkippedSamples());
+        out.writeVLong(profile.getDroppedStacks());
+        out.writeVLong(profile.getSamplingTimeInNanos());
+        out.writeMap(profile.getStacks(), StreamOutput::writeString, StreamOutput::writeVLong);
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        return profile.toXContent(builder, params);
+    }
+}
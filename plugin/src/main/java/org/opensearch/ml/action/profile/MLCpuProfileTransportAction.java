@@ -0,0 +1,45 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.profile;
+
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.profile.MLCpuProfiler;
+import org.opensearch.tasks.Task;
+import org.opensearch.transport.TransportService;
+
+/**
+ * Profiles the CPU of the ML thread pools of the node the request is sent to. It's a transport action, so the security
+ * plugin authorizes profiling by its action name.
+ */
+public class MLCpuProfileTransportAction extends HandledTransportAction<MLCpuProfileRequest, MLCpuProfileResponse> {
+    private final MLCpuProfiler cpuProfiler;
+
+    /**
+     * Constructor
+     *
+     * @param transportService transport service
+     * @param actionFilters action filters
+     * @param cpuProfiler CPU profiler of the node
+     */
+    @Inject
+    public MLCpuProfileTransportAction(TransportService transportService, ActionFilters actionFilters, MLCpuProfiler cpuProfiler) {
+        super(MLCpuProfileAction.NAME, transportService, actionFilters, MLCpuProfileRequest::new);
+        this.cpuProfiler = cpuProfiler;
+    }
+
+    @Override
+    protected void doExecute(Task task, MLCpuProfileRequest request, ActionListener<MLCpuProfileResponse> listener) {
+        cpuProfiler
+            .profile(
+                request.getDuration(),
+                request.getInterval(),
+                ActionListener.wrap(profile -> listener.onResponse(new MLCpuProfileResponse(profile)), listener::onFailure)
+            );
+    }
+}
@@ -12,6 +12,7 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.time.Instant;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -67,6 +68,13 @@ public class TransportSyncUpOnNodeAction extends
 
     private final MLModelCacheHelper mlModelCacheHelper;
 
+    // Generation of the deployed models and deploy tasks reported by this node. It starts from current time so a restarted
+    // node never reuses a generation known by the sync up cron.
+    private long generation = System.currentTimeMillis();
+    private Set<String> lastDeployedModelIds;
+    private Set<String> lastRunningDeployModelIds;
+    private Set<String> lastRunningDeployModelTaskIds;
+
     @Inject
     public TransportSyncUpOnNodeAction(
         TransportService transportService,
@@ -136,7 +144,6 @@ public class TransportSyncUpOnNodeAction extends
         MLSyncUpInput syncUpInput = syncUpNodesRequest.getSyncUpInput();
         Map<String, String[]> addedWorkerNodes = syncUpInput.getAddedWorkerNodes();
         Map<String, String[]> removedWorkerNodes = syncUpInput.getRemovedWorkerNodes();
-        Map<String, Set<String>> modelRoutingTable = syncUpInput.getModelRoutingTable();
         Map<String, Set<String>> runningDeployModelTasks = syncUpInput.getRunningDeployModelTasks();
         // DeployToAllNodes will be created when model deployed on each worker nodes.
         // Only undeploy model and partial undeploy case will pass this deployToAllNodes map to update the cache deployToAllNodes value
@@ -159,25 +166,35 @@ public class TransportSyncUpOnNodeAction extends
             }
         }
 
+        if (syncUpInput.getModelGroupServingModels() != null) {
+            mlModelManager.syncServingModelIds(syncUpInput.getModelGroupServingModels());
+        }
+
         String[] deployedModelIds = null;
         String[] runningDeployModelTaskIds = null;
         String[] runningDeployModelIds = null;
+        long currentGeneration = -1;
+        boolean unchanged = false;
         if (syncUpInput.isGetDeployedModels()) {
+            // evicted models are still reported as deployed, so predict requests keep coming to this node and deploy them again
+            mlModelManager.evictIdleModels();
             deployedModelIds = mlModelManager.getLocalDeployedModels();
             List<String[]> localRunningDeployModel = mlTaskManager.getLocalRunningDeployModelTasks();
             runningDeployModelTaskIds = localRunningDeployModel.get(0);
             runningDeployModelIds = localRunningDeployModel.get(1);
-        }
-
-        if (syncUpInput.isClearRoutingTable()) {
-            mlModelManager.clearRoutingTable();
-        } else if (modelRoutingTable != null) {
-            for (Map.Entry<String, Set<String>> entry : modelRoutingTable.entrySet()) {
-                log.debug("latest routing table for model: {}:  {}", entry.getKey(), entry.getValue().toArray(new String[0]));
+            currentGeneration = updateGeneration(deployedModelIds, runningDeployModelIds, runningDeployModelTaskIds);
+            Map<String, Long> nodeGenerations = syncUpInput.getNodeGenerations();
+            Long knownGeneration = nodeGenerations == null ? null : nodeGenerations.get(clusterService.localNode().getId());
+            if (knownGeneration != null && knownGeneration == currentGeneration) {
+                unchanged = true;
+                deployedModelIds = null;
+                runningDeployModelIds = null;
+                runningDeployModelTaskIds = null;
             }
-            mlModelManager.syncModelWorkerNodes(modelRoutingTable);
         }
 
+        syncRoutingTable(syncUpInput);
+
         cleanUpLocalCache(runningDeployModelTasks);
         cleanUpLocalCacheFiles();
 
@@ -186,10 +203,81 @@ public class TransportSyncUpOnNodeAction extends
             "ok",
             deployedModelIds,
             runningDeployModelIds,
-            runningDeployModelTaskIds
+            runningDeployModelTaskIds,
+            currentGeneration,
+            unchanged,
+            mlModelCacheHelper.getRoutingTableId(),
+            mlModelCacheHelper.getRoutingTableVersion()
         );
     }
 
+    @VisibleForTesting
+    void syncRoutingTable(MLSyncUpInput syncUpInput) {
+        Map<String, Set<String>> modelRoutingTable = syncUpInput.getModelRoutingTable();
+        String routingTableId = syncUpInput.getRoutingTableId();
+        long routingTableVersion = syncUpInput.getRoutingTableVersion();
+        if (syncUpInput.isRoutingTableDelta()) {
+            synchronized (mlModelCacheHelper) {
+                // A delta only applies on top of the previous version, otherwise the node waits for the next full sync up.
+                if (!mlModelCacheHelper.canApplyRoutingTableDelta(routingTableId, routingTableVersion)) {
+                    log
+                        .debug(
+                            "skip routing table delta {}:{}, local version {}:{}",
+                            routingTableId,
+                            routingTableVersion,
+                            mlModelCacheHelper.getRoutingTableId(),
+                            mlModelCacheHelper.getRoutingTableVersion()
+                        );
+                    return;
+                }
+                if (modelRoutingTable != null) {
+                    for (Map.Entry<String, Set<String>> entry : modelRoutingTable.entrySet()) {
+                        log.debug("changed routing table for model: {}:  {}", entry.getKey(), entry.getValue().toArray(new String[0]));
+                    }
+                    mlModelManager.updateModelWorkerNodes(modelRoutingTable);
+                }
+                mlModelCacheHelper.setRoutingTableVersion(routingTableId, routingTableVersion);
+            }
+            return;
+        }
+        if (syncUpInput.isClearRoutingTable()) {
+            mlModelManager.clearRoutingTable();
+        } else if (modelRoutingTable != null) {
+            for (Map.Entry<String, Set<String>> entry : modelRoutingTable.entrySet()) {
+                log.debug("latest routing table for model: {}:  {}", entry.getKey(), entry.getValue().toArray(new String[0]));
+            }
+            mlModelManager.syncModelWorkerNodes(modelRoutingTable);
+        }
+        if (routingTableId != null) {
+            mlModelCacheHelper.setRoutingTableVersion(routingTableId, routingTableVersion);
+        }
+    }
+
+    /**
+     * Bump the generation if deployed models or deploy tasks on this node changed since last report.
+     *
+     * @return current generation
+     */
+    @VisibleForTesting
+    synchronized long updateGeneration(String[] deployedModelIds, String[] runningDeployModelIds, String[] runningDeployModelTaskIds) {
+        Set<String> deployed = toSet(deployedModelIds);
+        Set<String> deploying = toSet(runningDeployModelIds);
+        Set<String> tasks = toSet(runningDeployModelTaskIds);
+        if (!deployed.equals(lastDeployedModelIds)
+            || !deploying.equals(lastRunningDeployModelIds)
+            || !tasks.equals(lastRunningDeployModelTaskIds)) {
+            generation++;
+            lastDeployedModelIds = deployed;
+            lastRunningDeployModelIds = deploying;
+            lastRunningDeployModelTaskIds = tasks;
+        }
+        return generation;
+    }
+
+    private static Set<String> toSet(String[] ids) {
+        return ids == null ? Set.of() : new HashSet<>(Arrays.asList(ids));
+    }
+
     @VisibleForTesting
     void cleanUpLocalCache(Map<String, Set<String>> runningDeployModelTasks) {
         String[] allTaskIds = mlTaskManager.getAllTaskIds();
@@ -8,9 +8,9 @@ import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedTok
 import static org.opensearch.ml.common.CommonValue.ML_MODEL_INDEX;
 import static org.opensearch.ml.common.MLModel.ALGORITHM_FIELD;
 import static org.opensearch.ml.utils.MLExceptionUtils.logException;
+import static org.opensearch.ml.utils.MLNodeUtils.createModelChunkSource;
 import static org.opensearch.ml.utils.MLNodeUtils.createXContentParserFromRegistry;
 
-import java.util.Base64;
 import java.util.concurrent.Semaphore;
 
 import org.opensearch.action.get.GetRequest;
@@ -18,6 +18,7 @@ import org.opensearch.action.get.GetResponse;
 import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.support.WriteRequest;
 import org.opensearch.client.Client;
+import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.XContentType;
@@ -46,6 +47,7 @@ public class MLModelChunkUploader {
     private final MLIndicesHandler mlIndicesHandler;
     private final Client client;
     private final NamedXContentRegistry xContentRegistry;
+    private final ClusterService clusterService;
     ModelAccessControlHelper modelAccessControlHelper;
 
     @Inject
@@ -53,11 +55,13 @@ public class MLModelChunkUploader {
         MLIndicesHandler mlIndicesHandler,
         Client client,
         final NamedXContentRegistry xContentRegistry,
-        ModelAccessControlHelper modelAccessControlHelper
+        ModelAccessControlHelper modelAccessControlHelper,
+        ClusterService clusterService
     ) {
         this.mlIndicesHandler = mlIndicesHandler;
         this.client = client;
         this.xContentRegistry = xContentRegistry;
+        this.clusterService = clusterService;
         this.modelAccessControlHelper = modelAccessControlHelper;
     }
 
@@ -114,18 +118,10 @@ public class MLModelChunkUploader {
                                             .totalChunks(existingModel.getTotalChunks())
                                             .algorithm(existingModel.getAlgorithm())
                                             .chunkNumber(chunkNum)
-                                            .content(Base64.getEncoder().encodeToString(bytes))
                                             .build();
                                         IndexRequest indexRequest = new IndexRequest(ML_MODEL_INDEX);
                                         indexRequest.id(uploadModelChunkInput.getModelId() + "_" + uploadModelChunkInput.getChunkNumber());
-                                        indexRequest
-                                            .source(
-                                                mlModel
-                                                    .toXContent(
-                                                        XContentBuilder.builder(XContentType.JSON.xContent()),
-                                                        ToXContent.EMPTY_PARAMS
-                                                    )
-                                            );
+                                        indexRequest.source(createModelChunkSource(mlModel, bytes, clusterService));
                                         indexRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
                                         client.index(indexRequest, ActionListener.wrap(response -> {
                                             log
@@ -11,10 +11,14 @@ import static org.opensearch.ml.common.CommonValue.ML_MODEL_INDEX;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -55,8 +59,15 @@ import lombok.Data;
 import lombok.Setter;
 import lombok.extern.log4j.Log4j2;
 
+/**
+ * Redeploys models after nodes join the cluster, for example after a full cluster restart. Up to
+ * {@code plugins.ml_commons.model_auto_redeploy.concurrency} models are redeployed at the same time, models with more
+ * predict requests on this node go first. A model slot is freed when its deploy task is done or failed.
+ */
 @Log4j2
 public class MLModelAutoReDeployer {
+    // A redeploy without a done signal for this long, for example as the deploying node left, no longer holds a slot.
+    private static final long REDEPLOY_TIMEOUT_IN_MILLIS = TimeUnit.MINUTES.toMillis(30);
 
     private final ClusterService clusterService;
     private final Client client;
@@ -65,9 +76,12 @@ public class MLModelAutoReDeployer {
     private boolean onlyRunOnMlNode;
     private int autoDeployMaxRetryTimes;
     private boolean allowCustomDeploymentPlan;
+    private volatile int autoRedeployConcurrency;
 
     private final MLModelManager mlModelManager;
     private final Queue<ModelAutoRedeployArrangement> modelAutoRedeployArrangements = new ConcurrentLinkedQueue<>();
+    // model id -> start time of redeploys in flight
+    private final Map<String, Long> runningRedeploys = new ConcurrentHashMap<>();
 
     private final SearchRequestBuilderFactory searchRequestBuilderFactory;
 
@@ -91,6 +105,7 @@ public class MLModelAutoReDeployer {
         onlyRunOnMlNode = MLCommonsSettings.ML_COMMONS_ONLY_RUN_ON_ML_NODE.get(settings);
         autoDeployMaxRetryTimes = MLCommonsSettings.ML_COMMONS_MODEL_AUTO_REDEPLOY_LIFETIME_RETRY_TIMES.get(settings);
         allowCustomDeploymentPlan = MLCommonsSettings.ML_COMMONS_ALLOW_CUSTOM_DEPLOYMENT_PLAN.get(settings);
+        autoRedeployConcurrency = MLCommonsSettings.ML_COMMONS_MODEL_AUTO_REDEPLOY_CONCURRENCY.get(settings);
 
         clusterService
             .getClusterSettings()
@@ -110,6 +125,10 @@ public class MLModelAutoReDeployer {
         clusterService
             .getClusterSettings()
             .addSettingsUpdateConsumer(MLCommonsSettings.ML_COMMONS_ALLOW_CUSTOM_DEPLOYMENT_PLAN, it -> allowCustomDeploymentPlan = it);
+
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(MLCommonsSettings.ML_COMMONS_MODEL_AUTO_REDEPLOY_CONCURRENCY, it -> autoRedeployConcurrency = it);
     }
 
     private void undeployModelsOnDataNodes() {
@@ -146,24 +165,47 @@ public class MLModelAutoReDeployer {
         triggerAutoDeployModels(addedNodes);
     }
 
-    public void redeployAModel() {
+    /**
+     * Start redeploying queued models until the max number of concurrent redeploys is reached.
+     */
+    public synchronized void redeployAModel() {
         if (!enableAutoReDeployModel) {
             log.info("Model auto reload configuration is false, not performing auto reloading!");
             startCronjobAndClearListener();
             return;
         }
+        long now = System.currentTimeMillis();
+        runningRedeploys.entrySet().removeIf(entry -> now - entry.getValue() > REDEPLOY_TIMEOUT_IN_MILLIS);
         if (modelAutoRedeployArrangements.size() == 0) {
-            log.info("No models needs to be auto redeployed!");
-            startCronjobAndClearListener();
+            if (runningRedeploys.isEmpty()) {
+                log.info("No models needs to be auto redeployed!");
+                startCronjobAndClearListener();
+            }
             return;
         }
-        ModelAutoRedeployArrangement modelAutoRedeployArrangement = modelAutoRedeployArrangements.poll();
-        triggerModelRedeploy(modelAutoRedeployArrangement);
+        while (runningRedeploys.size() < autoRedeployConcurrency && !modelAutoRedeployArrangements.isEmpty()) {
+            ModelAutoRedeployArrangement modelAutoRedeployArrangement = modelAutoRedeployArrangements.poll();
+            triggerModelRedeploy(modelAutoRedeployArrangement);
+        }
+        if (runningRedeploys.isEmpty() && modelAutoRedeployArrangements.isEmpty()) {
+            startCronjobAndClearListener();
+        }
+    }
+
+    /**
+     * Free the slot of a model once its deploy task is done, and start redeploying the next models.
+     * @param modelId model id
+     */
+    public void onModelDeployDone(String modelId) {
+        if (runningRedeploys.remove(modelId) != null) {
+            redeployAModel();
+        }
     }
 
     private void triggerAutoDeployModels(List<String> addedNodes) {
         ActionListener<SearchResponse> listener = ActionListener.wrap(res -> {
             if (res != null && res.getHits() != null && res.getHits().getTotalHits() != null && res.getHits().getTotalHits().value > 0) {
+                // models with more traffic first, otherwise in the order of the search response
                 Arrays
                     .stream(res.getHits().getHits())
                     .filter(
@@ -173,6 +215,7 @@ public class MLModelAutoReDeployer {
                                 .ofNullable(x.getSourceAsMap().get(MLModel.AUTO_REDEPLOY_RETRY_TIMES_FIELD))
                                 .orElse(0) < autoDeployMaxRetryTimes
                     )
+                    .sorted(Comparator.comparingLong((SearchHit x) -> mlModelManager.getPredictRequestCount(x.getId())).reversed())
                     .forEach(x -> {
                         ModelAutoRedeployArrangement modelAutoRedeployArrangement = ModelAutoRedeployArrangement
                             .builder()
@@ -288,6 +331,7 @@ public class MLModelAutoReDeployer {
                 );
             return;
         }
+        runningRedeploys.put(modelId, System.currentTimeMillis());
 
         ActionListener<MLDeployModelResponse> listener = ActionListener.wrap(res -> {
             log.info("Triggered model auto redeploy, task id is: {}, task status is: {}", res.getTaskId(), res.getStatus());
@@ -299,7 +343,7 @@ public class MLModelAutoReDeployer {
                     e.getMessage(),
                     e
                 );
-            redeployAModel();
+            onModelDeployDone(modelId);
         });
 
         mlModelManager
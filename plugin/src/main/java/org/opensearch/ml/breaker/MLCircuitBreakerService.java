@@ -6,11 +6,14 @@
 package org.opensearch.ml.breaker;
 
 import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.ml.stats.metrics.MLMetricsRegistry;
 import org.opensearch.monitor.jvm.JvmService;
 import org.opensearch.monitor.os.OsService;
 
@@ -27,6 +30,7 @@ public class MLCircuitBreakerService {
     private final OsService osService;
     private final Settings settings;
     private final ClusterService clusterService;
+    private final MLMetricsRegistry mlMetrics;
 
     /**
      * Constructor.
@@ -35,12 +39,20 @@ public class MLCircuitBreakerService {
      * @param osService os info
      * @param settings settings
      * @param clusterService clusterService
+     * @param mlMetrics ML metrics registry, counts requests rejected by open breakers
      */
-    public MLCircuitBreakerService(JvmService jvmService, OsService osService, Settings settings, ClusterService clusterService) {
+    public MLCircuitBreakerService(
+        JvmService jvmService,
+        OsService osService,
+        Settings settings,
+        ClusterService clusterService,
+        MLMetricsRegistry mlMetrics
+    ) {
         this.jvmService = jvmService;
         this.osService = osService;
         this.settings = settings;
         this.clusterService = clusterService;
+        this.mlMetrics = mlMetrics;
     }
 
     public void registerBreaker(BreakerName name, CircuitBreaker breaker) {
@@ -86,13 +98,15 @@ public class MLCircuitBreakerService {
     }
 
     /**
+     * Callers reject their request if a breaker is open, so each call finding an open breaker counts as a rejection.
      *
      * @return any open circuit breaker; otherwise return null
      */
     public ThresholdCircuitBreaker checkOpenCB() {
-        for (CircuitBreaker breaker : breakers.values()) {
-            if (breaker.isOpen()) {
-                return (ThresholdCircuitBreaker) breaker;
+        for (Map.Entry<BreakerName, CircuitBreaker> entry : breakers.entrySet()) {
+            if (entry.getValue().isOpen()) {
+                mlMetrics.getCircuitBreakerRejections().labels(entry.getKey().name().toLowerCase(Locale.ROOT)).inc();
+                return (ThresholdCircuitBreaker) entry.getValue();
             }
         }
 
@@ -0,0 +1,243 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.cluster;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Versioned model routing table built by sync up cron from the reports of all nodes. Each node report carries a generation,
+ * the table keeps the last report of every node and updates the aggregated maps only with the difference of a new report,
+ * so models of unchanged nodes are not touched. Changed models are collected until they are drained by sync up cron,
+ * which broadcasts only those routing entries and refreshes only their state.
+ * <p>
+ * The table id is unique for every sync up cron instance, so nodes can tell a delta of another table (for example after
+ * cluster manager changed) and get the full table instead. This class is not thread safe, sync up cron guards the access.
+ */
+@Log4j2
+public class MLModelRoutingTable {
+    @Getter
+    private final String id;
+    @Getter
+    private long version;
+
+    // key is node id
+    private final Map<String, NodeReport> nodeReports = new HashMap<>();
+    // key is model id, value is set of worker node ids
+    private final Map<String, Set<String>> modelWorkerNodes = new HashMap<>();
+    // key is model id, value is set of node ids running deploy model task
+    private final Map<String, Set<String>> deployingModels = new HashMap<>();
+    // key is task id, value is set of worker node ids
+    private final Map<String, Set<String>> runningDeployModelTasks = new HashMap<>();
+
+    // models whose worker nodes changed since last drain
+    private final Set<String> changedRoutingModels = new HashSet<>();
+    // models whose worker nodes or deploying nodes changed since last drain
+    private final Set<String> changedStateModels = new HashSet<>();
+    private boolean nodesChanged;
+
+    public MLModelRoutingTable() {
+        this.id = UUID.randomUUID().toString();
+        this.version = 0;
+    }
+
+    /**
+     * Get the generation of the last report of each node.
+     *
+     * @return node id to generation
+     */
+    public Map<String, Long> getNodeGenerations() {
+        Map<String, Long> generations = new HashMap<>();
+        nodeReports.forEach((nodeId, report) -> {
+            if (report.generation >= 0) {
+                generations.put(nodeId, report.generation);
+            }
+        });
+        return generations;
+    }
+
+    /**
+     * Apply the report of a node. Models which are added to or removed from the node are marked as changed.
+     *
+     * @param nodeId node id
+     * @param generation generation of the report, negative if the node doesn't track generations
+     * @param deployedModelIds models deployed on the node
+     * @param runningDeployModelIds models being deployed on the node
+     * @param runningDeployModelTaskIds deploy model tasks running on the node
+     */
+    public void applyNodeReport(
+        String nodeId,
+        long generation,
+        String[] deployedModelIds,
+        String[] runningDeployModelIds,
+        String[] runningDeployModelTaskIds
+    ) {
+        NodeReport previous = nodeReports.get(nodeId);
+        NodeReport report = new NodeReport(generation, deployedModelIds, runningDeployModelIds, runningDeployModelTaskIds);
+        nodeReports.put(nodeId, report);
+        if (previous == null) {
+            nodesChanged = true;
+            previous = NodeReport.EMPTY;
+        }
+        diff(nodeId, previous.deployedModelIds, report.deployedModelIds, modelWorkerNodes, changedRoutingModels);
+        diff(nodeId, previous.runningDeployModelIds, report.runningDeployModelIds, deployingModels, null);
+        diff(nodeId, previous.runningDeployModelTaskIds, report.runningDeployModelTaskIds, runningDeployModelTasks, null);
+    }
+
+    /**
+     * Remove reports of nodes which didn't respond, their models are no longer routed to them.
+     *
+     * @param respondedNodeIds nodes which responded to the latest sync up
+     */
+    public void retainNodes(Set<String> respondedNodeIds) {
+        Iterator<Map.Entry<String, NodeReport>> iterator = nodeReports.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, NodeReport> entry = iterator.next();
+            if (respondedNodeIds.contains(entry.getKey())) {
+                continue;
+            }
+            String nodeId = entry.getKey();
+            NodeReport report = entry.getValue();
+            iterator.remove();
+            nodesChanged = true;
+            log.debug("remove sync up report of node {}", nodeId);
+            diff(nodeId, report.deployedModelIds, Set.of(), modelWorkerNodes, changedRoutingModels);
+            diff(nodeId, report.runningDeployModelIds, Set.of(), deployingModels, null);
+            diff(nodeId, report.runningDeployModelTaskIds, Set.of(), runningDeployModelTasks, null);
+        }
+    }
+
+    private void diff(
+        String nodeId,
+        Set<String> previousIds,
+        Set<String> currentIds,
+        Map<String, Set<String>> aggregated,
+        Set<String> changedRouting
+    ) {
+        for (String id : previousIds) {
+            if (!currentIds.contains(id)) {
+                Set<String> nodes = aggregated.get(id);
+                if (nodes != null) {
+                    nodes.remove(nodeId);
+                    if (nodes.isEmpty()) {
+                        aggregated.remove(id);
+                    }
+                }
+                markChanged(id, aggregated, changedRouting);
+            }
+        }
+        for (String id : currentIds) {
+            if (!previousIds.contains(id)) {
+                aggregated.computeIfAbsent(id, it -> new HashSet<>()).add(nodeId);
+                markChanged(id, aggregated, changedRouting);
+            }
+        }
+    }
+
+    private void markChanged(String id, Map<String, Set<String>> aggregated, Set<String> changedRouting) {
+        if (changedRouting != null) {
+            changedRouting.add(id);
+        }
+        if (aggregated != runningDeployModelTasks) {
+            changedStateModels.add(id);
+        }
+    }
+
+    /**
+     * Get routing entries of models changed since last drain and bump the version if any. Models not deployed on any node
+     * have an empty worker node set.
+     *
+     * @return changed model id to worker node ids
+     */
+    public Map<String, Set<String>> drainRoutingDelta() {
+        Map<String, Set<String>> delta = new HashMap<>();
+        for (String modelId : changedRoutingModels) {
+            delta.put(modelId, new HashSet<>(modelWorkerNodes.getOrDefault(modelId, Collections.emptySet())));
+        }
+        changedRoutingModels.clear();
+        if (!delta.isEmpty()) {
+            version++;
+        }
+        return delta;
+    }
+
+    /**
+     * Bump version for a full sync up of the routing table, pending routing changes are included in the full table.
+     */
+    public void nextFullVersion() {
+        changedRoutingModels.clear();
+        version++;
+    }
+
+    /**
+     * Get models whose worker nodes or deploying nodes changed since last drain.
+     *
+     * @return changed model ids
+     */
+    public Set<String> drainChangedStateModels() {
+        Set<String> changed = new HashSet<>(changedStateModels);
+        changedStateModels.clear();
+        return changed;
+    }
+
+    /**
+     * Check and reset if nodes joined or left since last call.
+     *
+     * @return true if nodes changed
+     */
+    public boolean drainNodesChanged() {
+        boolean changed = nodesChanged;
+        nodesChanged = false;
+        return changed;
+    }
+
+    public Map<String, Set<String>> getModelWorkerNodes() {
+        return copy(modelWorkerNodes);
+    }
+
+    public Map<String, Set<String>> getDeployingModels() {
+        return copy(deployingModels);
+    }
+
+    public Map<String, Set<String>> getRunningDeployModelTasks() {
+        return copy(runningDeployModelTasks);
+    }
+
+    private static Map<String, Set<String>> copy(Map<String, Set<String>> map) {
+        Map<String, Set<String>> copy = new HashMap<>();
+        map.forEach((key, value) -> copy.put(key, new HashSet<>(value)));
+        return copy;
+    }
+
+    private static class NodeReport {
+        static final NodeReport EMPTY = new NodeReport(-1, null, null, null);
+
+        final long generation;
+        final Set<String> deployedModelIds;
+        final Set<String> runningDeployModelIds;
+        final Set<String> runningDeployModelTaskIds;
+
+        NodeReport(long generation, String[] deployedModelIds, String[] runningDeployModelIds, String[] runningDeployModelTaskIds) {
+            this.generation = generation;
+            this.deployedModelIds = toSet(deployedModelIds);
+            this.runningDeployModelIds = toSet(runningDeployModelIds);
+            this.runningDeployModelTaskIds = toSet(runningDeployModelTaskIds);
+        }
+
+        private static Set<String> toSet(String[] ids) {
+            return ids == null ? Set.of() : new HashSet<>(Arrays.asList(ids));
+        }
+    }
+}
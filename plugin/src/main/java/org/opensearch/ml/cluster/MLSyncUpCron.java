@@ -33,6 +33,7 @@ import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.IdsQueryBuilder;
 import org.opensearch.index.query.TermsQueryBuilder;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
@@ -55,6 +56,8 @@ import lombok.extern.log4j.Log4j2;
 public class MLSyncUpCron implements Runnable {
 
     public static final int DEPLOY_MODEL_TASK_GRACE_TIME_IN_MS = 20_000;
+    // every this many runs, all nodes report everything and get the full routing table, and state of all models is refreshed
+    public static final int FULL_SYNC_UP_INTERVAL_IN_RUNS = 10;
     private Client client;
     private ClusterService clusterService;
     private DiscoveryNodeHelper nodeHelper;
@@ -63,6 +66,9 @@ public class MLSyncUpCron implements Runnable {
     private volatile Boolean mlConfigInited;
     @VisibleForTesting
     Semaphore updateModelStateSemaphore;
+    @VisibleForTesting
+    final MLModelRoutingTable routingTable = new MLModelRoutingTable();
+    private int runs;
 
     public MLSyncUpCron(
         Client client,
@@ -89,78 +95,131 @@ public class MLSyncUpCron implements Runnable {
         }
         log.debug("ML sync job starts");
         DiscoveryNode[] allNodes = nodeHelper.getAllNodes();
-        MLSyncUpInput gatherInfoInput = MLSyncUpInput.builder().getDeployedModels(true).build();
+        boolean fullSyncUp = runs++ % FULL_SYNC_UP_INTERVAL_IN_RUNS == 0;
+        // Nodes whose generation is known skip reporting unchanged models. A full sync up asks all nodes to report everything
+        // to repair any drift of the routing table.
+        MLSyncUpInput gatherInfoInput;
+        synchronized (this) {
+            gatherInfoInput = MLSyncUpInput
+                .builder()
+                .getDeployedModels(true)
+                .nodeGenerations(fullSyncUp ? null : routingTable.getNodeGenerations())
+                .runningDeployModelTasks(routingTable.getRunningDeployModelTasks())
+                .build();
+        }
         MLSyncUpNodesRequest gatherInfoRequest = new MLSyncUpNodesRequest(allNodes, gatherInfoInput);
 
         // gather running model/tasks on nodes
-        client.execute(MLSyncUpAction.INSTANCE, gatherInfoRequest, ActionListener.wrap(r -> {
-            List<MLSyncUpNodeResponse> responses = r.getNodes();
-            // key is model id, value is set of worker node ids
-            Map<String, Set<String>> modelWorkerNodes = new HashMap<>();
-            // key is task id, value is set of worker node ids
-            Map<String, Set<String>> runningDeployModelTasks = new HashMap<>();
-            // key is model id, value is set of worker node ids
-            Map<String, Set<String>> deployingModels = new HashMap<>();
-            for (MLSyncUpNodeResponse response : responses) {
-                String nodeId = response.getNode().getId();
-                String[] deployedModelIds = response.getDeployedModelIds();
-                if (deployedModelIds != null && deployedModelIds.length > 0) {
-                    for (String modelId : deployedModelIds) {
-                        Set<String> workerNodes = modelWorkerNodes.computeIfAbsent(modelId, it -> new HashSet<>());
-                        workerNodes.add(nodeId);
-                    }
-                }
-                String[] runningModelIds = response.getRunningDeployModelIds();
-                if (runningModelIds != null && runningModelIds.length > 0) {
-                    for (String modelId : runningModelIds) {
-                        Set<String> workerNodes = deployingModels.computeIfAbsent(modelId, it -> new HashSet<>());
-                        workerNodes.add(nodeId);
-                    }
-                }
+        client
+            .execute(
+                MLSyncUpAction.INSTANCE,
+                gatherInfoRequest,
+                ActionListener.wrap(r -> syncUp(allNodes, r.getNodes(), fullSyncUp), e -> {
+                    log.error("Failed to sync model routing", e);
+                })
+            );
+    }
 
-                String[] runningDeployModelTaskIds = response.getRunningDeployModelTaskIds();
-                if (runningDeployModelTaskIds != null && runningDeployModelTaskIds.length > 0) {
-                    for (String taskId : runningDeployModelTaskIds) {
-                        Set<String> workerNodes = runningDeployModelTasks.computeIfAbsent(taskId, it -> new HashSet<>());
-                        workerNodes.add(nodeId);
-                    }
+    private synchronized void syncUp(DiscoveryNode[] allNodes, List<MLSyncUpNodeResponse> responses, boolean fullSyncUp) {
+        Set<String> respondedNodeIds = new HashSet<>();
+        for (MLSyncUpNodeResponse response : responses) {
+            String nodeId = response.getNode().getId();
+            respondedNodeIds.add(nodeId);
+            if (response.isUnchanged()) {
+                continue;
+            }
+            routingTable
+                .applyNodeReport(
+                    nodeId,
+                    response.getGeneration(),
+                    response.getDeployedModelIds(),
+                    response.getRunningDeployModelIds(),
+                    response.getRunningDeployModelTaskIds()
+                );
+        }
+        routingTable.retainNodes(respondedNodeIds);
+        boolean nodesChanged = routingTable.drainNodesChanged();
+        Map<String, Set<String>> modelWorkerNodes = routingTable.getModelWorkerNodes();
+        Map<String, Set<String>> deployingModels = routingTable.getDeployingModels();
+        Map<String, Set<String>> runningDeployModelTasks = routingTable.getRunningDeployModelTasks();
+        for (Map.Entry<String, Set<String>> entry : runningDeployModelTasks.entrySet()) {
+            log.debug("will sync running task: {}: {}", entry.getKey(), entry.getValue().toArray(new String[0]));
+        }
+
+        if (fullSyncUp || nodesChanged) {
+            routingTable.nextFullVersion();
+            syncUpRoutingTable(allNodes, modelWorkerNodes, runningDeployModelTasks, false);
+        } else {
+            long baseVersion = routingTable.getVersion();
+            Map<String, Set<String>> routingDelta = routingTable.drainRoutingDelta();
+            // Nodes which missed a version (e.g. failed to apply the last sync up) get the full routing table.
+            List<DiscoveryNode> upToDateNodes = new ArrayList<>();
+            List<DiscoveryNode> staleNodes = new ArrayList<>();
+            for (MLSyncUpNodeResponse response : responses) {
+                if (routingTable.getId().equals(response.getRoutingTableId()) && response.getRoutingTableVersion() == baseVersion) {
+                    upToDateNodes.add(response.getNode());
+                } else {
+                    staleNodes.add(response.getNode());
                 }
             }
-            for (Map.Entry<String, Set<String>> entry : modelWorkerNodes.entrySet()) {
-                String modelId = entry.getKey();
-                log.debug("will sync model worker nodes for model: {}: {}", modelId, entry.getValue().toArray(new String[0]));
+            if (routingDelta.size() > 0 && upToDateNodes.size() > 0) {
+                syncUpRoutingTable(upToDateNodes.toArray(new DiscoveryNode[0]), routingDelta, runningDeployModelTasks, true);
             }
-            for (Map.Entry<String, Set<String>> entry : runningDeployModelTasks.entrySet()) {
-                log.debug("will sync running task: {}: {}", entry.getKey(), entry.getValue().toArray(new String[0]));
+            if (staleNodes.size() > 0) {
+                syncUpRoutingTable(staleNodes.toArray(new DiscoveryNode[0]), modelWorkerNodes, runningDeployModelTasks, false);
             }
-            MLSyncUpInput.MLSyncUpInputBuilder inputBuilder = MLSyncUpInput
-                .builder()
-                .syncRunningDeployModelTasks(true)
-                .runningDeployModelTasks(runningDeployModelTasks);
-            if (modelWorkerNodes.size() == 0) {
-                log.debug("No deployed model found. Will clear model routing on all nodes");
-                inputBuilder.clearRoutingTable(true);
-            } else {
-                inputBuilder.modelRoutingTable(modelWorkerNodes);
-            }
-            MLSyncUpInput syncUpInput = inputBuilder.build();
-            MLSyncUpNodesRequest syncUpRequest = new MLSyncUpNodesRequest(allNodes, syncUpInput);
-            // sync up running model/tasks on nodes
-            client
-                .execute(
-                    MLSyncUpAction.INSTANCE,
-                    syncUpRequest,
-                    ActionListener.wrap(re -> { log.debug("sync model routing job finished"); }, ex -> {
-                        log.error("Failed to sync model routing", ex);
-                    })
-                );
+        }
 
-            // refresh model status
-            mlIndicesHandler
-                .initModelIndexIfAbsent(ActionListener.wrap(res -> { refreshModelState(modelWorkerNodes, deployingModels); }, e -> {
-                    log.error("Failed to init model index", e);
-                }));
-        }, e -> { log.error("Failed to sync model routing", e); }));
+        // refresh model status, only for changed models unless it's a full sync up
+        Set<String> changedModelIds = routingTable.drainChangedStateModels();
+        Set<String> refreshModelIds = fullSyncUp || nodesChanged ? null : changedModelIds;
+        if (refreshModelIds != null && refreshModelIds.isEmpty()) {
+            log.debug("No model changed, skip refreshing model state");
+            return;
+        }
+        mlIndicesHandler
+            .initModelIndexIfAbsent(
+                ActionListener
+                    .wrap(
+                        res -> { refreshModelState(modelWorkerNodes, deployingModels, refreshModelIds); },
+                        e -> { log.error("Failed to init model index", e); }
+                    )
+            );
+    }
+
+    private void syncUpRoutingTable(
+        DiscoveryNode[] nodes,
+        Map<String, Set<String>> modelWorkerNodes,
+        Map<String, Set<String>> runningDeployModelTasks,
+        boolean delta
+    ) {
+        for (Map.Entry<String, Set<String>> entry : modelWorkerNodes.entrySet()) {
+            log.debug("will sync model worker nodes for model: {}: {}", entry.getKey(), entry.getValue().toArray(new String[0]));
+        }
+        MLSyncUpInput.MLSyncUpInputBuilder inputBuilder = MLSyncUpInput
+            .builder()
+            .syncRunningDeployModelTasks(true)
+            .runningDeployModelTasks(runningDeployModelTasks)
+            .routingTableId(routingTable.getId())
+            .routingTableVersion(routingTable.getVersion())
+            .routingTableDelta(delta);
+        if (modelWorkerNodes.size() == 0) {
+            log.debug("No deployed model found. Will clear model routing on all nodes");
+            inputBuilder.clearRoutingTable(true);
+        } else {
+            inputBuilder.modelRoutingTable(modelWorkerNodes);
+        }
+        MLSyncUpInput syncUpInput = inputBuilder.build();
+        MLSyncUpNodesRequest syncUpRequest = new MLSyncUpNodesRequest(nodes, syncUpInput);
+        // sync up running model/tasks on nodes
+        client
+            .execute(
+                MLSyncUpAction.INSTANCE,
+                syncUpRequest,
+                ActionListener.wrap(re -> { log.debug("sync model routing job finished"); }, ex -> {
+                    log.error("Failed to sync model routing", ex);
+                })
+            );
     }
 
     @VisibleForTesting
@@ -195,12 +254,27 @@ public class MLSyncUpCron implements Runnable {
 
     @VisibleForTesting
     void refreshModelState(Map<String, Set<String>> modelWorkerNodes, Map<String, Set<String>> deployingModels) {
+        refreshModelState(modelWorkerNodes, deployingModels, null);
+    }
+
+    /**
+     * Refresh state of models in model index.
+     *
+     * @param modelWorkerNodes worker nodes of deployed models
+     * @param deployingModels nodes running deploy task of models
+     * @param modelIds only refresh these models, null means all models
+     */
+    @VisibleForTesting
+    void refreshModelState(Map<String, Set<String>> modelWorkerNodes, Map<String, Set<String>> deployingModels, Set<String> modelIds) {
         if (!updateModelStateSemaphore.tryAcquire()) {
             return;
         }
         try {
             SearchRequest searchRequest = new SearchRequest(ML_MODEL_INDEX);
             BoolQueryBuilder queryBuilder = new BoolQueryBuilder();
+            if (modelIds != null) {
+                queryBuilder.filter(new IdsQueryBuilder().addIds(modelIds.toArray(new String[0])));
+            }
             queryBuilder
                 .filter(
                     new TermsQueryBuilder(
@@ -0,0 +1,108 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import org.opensearch.ml.common.exception.MLLimitExceededException;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Decides whether a local model fits into the native memory of this node before its chunks are read. The native memory
+ * is the physical memory outside the JVM heap. Deployed models use their estimated memory size, models being deployed
+ * reserve theirs until the deployment is done, so independent models can be deployed in parallel without together
+ * running the node out of memory.
+ *
+ * Estimates are used instead of the free memory reported by the OS, as page cache counts as used there and a data node
+ * would rarely look like it has room for a model. If the OS doesn't report the physical memory, every model is admitted.
+ */
+@Log4j2
+public class MLDeployMemoryAdmission {
+    // physical memory outside the JVM heap, negative if the OS doesn't report the physical memory
+    private final long nativeMemoryInBytes;
+    private final LongSupplier deployedModelsMemoryInBytes;
+    // model id -> estimated memory size of models being deployed
+    private final Map<String, Long> reservations = new HashMap<>();
+    private volatile int admissionPercent;
+    private long reservedInBytes;
+
+    /**
+     * Constructor
+     * @param totalPhysicalMemoryInBytes total physical memory of the node, 0 if the OS doesn't report it
+     * @param heapMaxInBytes max JVM heap size
+     * @param deployedModelsMemoryInBytes estimated memory size of all models deployed on this node
+     * @param admissionPercent percentage of the native memory models can use
+     */
+    public MLDeployMemoryAdmission(
+        long totalPhysicalMemoryInBytes,
+        long heapMaxInBytes,
+        LongSupplier deployedModelsMemoryInBytes,
+        int admissionPercent
+    ) {
+        this.nativeMemoryInBytes = totalPhysicalMemoryInBytes > 0 ? Math.max(0, totalPhysicalMemoryInBytes - heapMaxInBytes) : -1;
+        if (nativeMemoryInBytes < 0) {
+            log.warn("Physical memory of the node is unknown, skip memory admission of model deployments");
+        }
+        this.deployedModelsMemoryInBytes = deployedModelsMemoryInBytes;
+        this.admissionPercent = admissionPercent;
+    }
+
+    public void setAdmissionPercent(int admissionPercent) {
+        this.admissionPercent = admissionPercent;
+    }
+
+    /**
+     * Reserve memory for a model about to be deployed. A model is always admitted when no other model is deployed or
+     * being deployed, so the estimate can't keep a model off an empty node, or when the physical memory is unknown.
+     * @param modelId model id
+     * @param estimatedMemoryInBytes estimated memory size of the model
+     * @throws MLLimitExceededException if the model doesn't fit
+     */
+    public synchronized void reserve(String modelId, long estimatedMemoryInBytes) {
+        if (reservations.containsKey(modelId)) {
+            return;
+        }
+        long deployed = deployedModelsMemoryInBytes.getAsLong();
+        long budget = nativeMemoryInBytes / 100 * admissionPercent;
+        boolean nodeEmpty = deployed == 0 && reservations.isEmpty();
+        if (nativeMemoryInBytes >= 0 && !nodeEmpty && deployed + reservedInBytes + estimatedMemoryInBytes > budget) {
+            String error = String
+                .format(
+                    Locale.ROOT,
+                    "Not enough memory to deploy model %s, estimated size %d bytes, deployed models %d bytes, "
+                        + "models being deployed %d bytes, memory budget %d bytes",
+                    modelId,
+                    estimatedMemoryInBytes,
+                    deployed,
+                    reservedInBytes,
+                    budget
+                );
+            log.warn(error);
+            throw new MLLimitExceededException(error);
+        }
+        reservations.put(modelId, estimatedMemoryInBytes);
+        reservedInBytes += estimatedMemoryInBytes;
+    }
+
+    /**
+     * Release the reservation of a model when its deployment is done, successful or not.
+     * @param modelId model id
+     */
+    public synchronized void release(String modelId) {
+        Long reserved = reservations.remove(modelId);
+        if (reserved != null) {
+            reservedInBytes -= reserved;
+        }
+    }
+
+    public synchronized long getReservedInBytes() {
+        return reservedInBytes;
+    }
+}
@@ -0,0 +1,402 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import static org.opensearch.ml.engine.utils.FileUtils.deleteFileQuietly;
+import static org.opensearch.ml.engine.utils.FileUtils.sizeOfQuietly;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import org.opensearch.ml.breaker.CircuitBreaker;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Node local cache of verified model zip files, keyed by model content hash. A redeploy of an unchanged model, for
+ * example after a node restart or by auto redeploy, restores the model file from the cache instead of reading all
+ * chunks from the model index again.
+ *
+ * Entries are evicted in LRU order when the cache exceeds its size budget, and while the disk circuit breaker is open,
+ * so that the cache never blocks deploying a model. The access order survives restarts as the last modified time of
+ * the cached files.
+ *
+ * A cached model file is extracted once to a folder next to it, shared by all deployments of the same model content.
+ * The extracted folder is removed together with the cached file. The size of an entry is the size of the model zip file
+ * plus the size of its extracted folder, which is counted once the folder is extracted.
+ *
+ * The chunk offsets of the retrieval are kept next to a cached file, so a node restoring the model file from the cache
+ * can still serve its chunks to peer nodes deploying the same model.
+ */
+@Log4j2
+public class MLModelArtifactCache {
+    static final String ARTIFACT_FILE_EXTENSION = ".zip";
+    static final String CHUNK_OFFSETS_FILE_EXTENSION = ".chunks";
+    private static final String TEMP_FILE_EXTENSION = ".tmp";
+    private static final String DELETED_FOLDER_SUFFIX = ".deleted-";
+    private static final long MB = 1024 * 1024;
+    private static final Pattern CONTENT_HASH_PATTERN = Pattern.compile("^[0-9a-f]{64}$");
+
+    private final Path cacheRoot;
+    private final CircuitBreaker diskCircuitBreaker;
+    // model content hash -> size in bytes of the model file and its extracted folder, in access order
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private volatile boolean enabled;
+    private volatile long maxSizeInBytes;
+    private long sizeInBytes;
+    private boolean loaded;
+
+    /**
+     * Constructor
+     * @param cacheRoot folder of cached model files
+     * @param diskCircuitBreaker disk circuit breaker, can be null
+     * @param enabled whether to cache new model files
+     * @param maxSizeInMB size budget of the cache
+     */
+    public MLModelArtifactCache(Path cacheRoot, CircuitBreaker diskCircuitBreaker, boolean enabled, int maxSizeInMB) {
+        this.cacheRoot = cacheRoot;
+        this.diskCircuitBreaker = diskCircuitBreaker;
+        this.enabled = enabled;
+        this.maxSizeInBytes = maxSizeInMB * MB;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public synchronized void setMaxSizeInMB(int maxSizeInMB) {
+        this.maxSizeInBytes = maxSizeInMB * MB;
+        evict(0);
+    }
+
+    /**
+     * Restore the cached model file of the content hash to the target file. A hard link is used when possible, so the
+     * deploy flow can delete the target file as usual without touching the cache.
+     * @param modelContentHash model content hash
+     * @param target target model zip file
+     * @return true if the model file is restored from the cache
+     */
+    public synchronized boolean restore(String modelContentHash, File target) {
+        if (!enabled || !isValidContentHash(modelContentHash)) {
+            return false;
+        }
+        load();
+        if (entries.get(modelContentHash) == null) {
+            return false;
+        }
+        Path cachedFile = getArtifactPath(modelContentHash);
+        try {
+            deleteFileQuietly(target.toPath());
+            Files.createDirectories(target.toPath().toAbsolutePath().getParent());
+            linkOrCopy(cachedFile, target.toPath());
+            cachedFile.toFile().setLastModified(System.currentTimeMillis());
+            log.debug("Restored model file {} from artifact cache", target);
+            return true;
+        } catch (IOException e) {
+            log.warn("Failed to restore model file from artifact cache, will remove cached file " + cachedFile, e);
+            remove(modelContentHash);
+            deleteFileQuietly(target.toPath());
+            return false;
+        }
+    }
+
+    /**
+     * Add a verified model file to the cache. Nothing is cached if the file doesn't fit the size budget or the disk
+     * circuit breaker is open.
+     * @param modelContentHash model content hash
+     * @param modelZipFile verified model zip file
+     */
+    public void put(String modelContentHash, File modelZipFile) {
+        put(modelContentHash, modelZipFile, null);
+    }
+
+    /**
+     * Add a verified model file to the cache, with the chunk offsets of its retrieval.
+     * @param modelContentHash model content hash
+     * @param modelZipFile verified model zip file
+     * @param chunkOffsets offsets of the model chunks in the file followed by the file size, can be null
+     */
+    public synchronized void put(String modelContentHash, File modelZipFile, long[] chunkOffsets) {
+        if (!enabled || !isValidContentHash(modelContentHash)) {
+            return;
+        }
+        load();
+        if (entries.containsKey(modelContentHash)) {
+            if (!Files.exists(getChunkOffsetsPath(modelContentHash))) {
+                writeChunkOffsets(modelContentHash, chunkOffsets, getArtifactPath(modelContentHash).toFile().length());
+            }
+            return;
+        }
+        long size = modelZipFile.length();
+        if (size > maxSizeInBytes) {
+            log.debug("Model file {} is bigger than the artifact cache, skip caching", modelZipFile);
+            return;
+        }
+        evict(size);
+        if (isDiskCircuitBreakerOpen()) {
+            log.debug("Disk circuit breaker is open, skip caching model file {}", modelZipFile);
+            return;
+        }
+        Path cachedFile = getArtifactPath(modelContentHash);
+        Path tempFile = cacheRoot.resolve(modelContentHash + TEMP_FILE_EXTENSION);
+        try {
+            Files.createDirectories(cacheRoot);
+            deleteFileQuietly(tempFile);
+            linkOrCopy(modelZipFile.toPath(), tempFile);
+            Files.move(tempFile, cachedFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            entries.put(modelContentHash, size);
+            sizeInBytes += size;
+            log.debug("Added model file {} to artifact cache, cache size {} bytes", modelZipFile, sizeInBytes);
+        } catch (IOException e) {
+            log.warn("Failed to add model file to artifact cache " + modelZipFile, e);
+            deleteFileQuietly(tempFile);
+            return;
+        }
+        writeChunkOffsets(modelContentHash, chunkOffsets, size);
+    }
+
+    /**
+     * Chunk offsets of a cached model file, see {@link #put(String, File, long[])}.
+     * @param modelContentHash model content hash
+     * @return chunk offsets followed by the file size, or null if the file or its chunk offsets are not cached
+     */
+    public synchronized long[] getChunkOffsets(String modelContentHash) {
+        if (!enabled || !isValidContentHash(modelContentHash)) {
+            return null;
+        }
+        load();
+        Path chunkOffsetsFile = getChunkOffsetsPath(modelContentHash);
+        if (!entries.containsKey(modelContentHash) || !Files.exists(chunkOffsetsFile)) {
+            return null;
+        }
+        long size = getArtifactPath(modelContentHash).toFile().length();
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(chunkOffsetsFile));
+            if (buffer.remaining() < Long.BYTES || buffer.remaining() % Long.BYTES != 0) {
+                return null;
+            }
+            long[] chunkOffsets = new long[buffer.remaining() / Long.BYTES];
+            buffer.asLongBuffer().get(chunkOffsets);
+            return isValidChunkOffsets(chunkOffsets, size) ? chunkOffsets : null;
+        } catch (IOException e) {
+            log.debug("Failed to read chunk offsets of cached model file " + modelContentHash, e);
+            return null;
+        }
+    }
+
+    private void writeChunkOffsets(String modelContentHash, long[] chunkOffsets, long size) {
+        if (chunkOffsets == null || !isValidChunkOffsets(chunkOffsets, size)) {
+            return;
+        }
+        Path chunkOffsetsFile = getChunkOffsetsPath(modelContentHash);
+        Path tempFile = chunkOffsetsFile.resolveSibling(chunkOffsetsFile.getFileName() + TEMP_FILE_EXTENSION);
+        ByteBuffer buffer = ByteBuffer.allocate(chunkOffsets.length * Long.BYTES);
+        buffer.asLongBuffer().put(chunkOffsets);
+        try {
+            Files.write(tempFile, buffer.array());
+            Files.move(tempFile, chunkOffsetsFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.debug("Failed to write chunk offsets of cached model file " + modelContentHash, e);
+            deleteFileQuietly(tempFile);
+        }
+    }
+
+    private static boolean isValidChunkOffsets(long[] chunkOffsets, long size) {
+        if (chunkOffsets.length == 0 || chunkOffsets[0] != 0 || chunkOffsets[chunkOffsets.length - 1] != size) {
+            return false;
+        }
+        for (int i = 1; i < chunkOffsets.length; i++) {
+            if (chunkOffsets[i] < chunkOffsets[i - 1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Evict cached model files while the disk circuit breaker is open. Called before deploying a model, as the disk
+     * circuit breaker would otherwise reject the deployment.
+     */
+    public synchronized void releaseDiskSpace() {
+        load();
+        while (!entries.isEmpty() && isDiskCircuitBreakerOpen()) {
+            evictEldest();
+        }
+    }
+
+    public synchronized long getSizeInBytes() {
+        load();
+        return sizeInBytes;
+    }
+
+    public synchronized boolean contains(String modelContentHash) {
+        load();
+        return modelContentHash != null && entries.containsKey(modelContentHash);
+    }
+
+    /**
+     * Folder to extract the cached model file of the content hash to. It is shared by all deployments of the same model
+     * content on this node and removed when the cached file is evicted.
+     * @param modelContentHash model content hash
+     * @return extracted model folder, or null if the model file of the content hash is not cached
+     */
+    public synchronized Path getExtractedModelPath(String modelContentHash) {
+        if (!enabled || !isValidContentHash(modelContentHash)) {
+            return null;
+        }
+        load();
+        return entries.containsKey(modelContentHash) ? getExtractedPath(modelContentHash) : null;
+    }
+
+    /**
+     * Count the extracted folder of a cached model file in the size of its entry, and evict cached files if the cache
+     * exceeds its size budget. Called after deploying a model from the extracted folder, see
+     * {@link #getExtractedModelPath(String)}.
+     * @param modelContentHash model content hash
+     */
+    public synchronized void updateExtractedModelSize(String modelContentHash) {
+        if (!isValidContentHash(modelContentHash)) {
+            return;
+        }
+        load();
+        Long size = entries.get(modelContentHash);
+        if (size == null) {
+            return;
+        }
+        long newSize = getEntrySize(modelContentHash);
+        entries.put(modelContentHash, newSize);
+        sizeInBytes += newSize - size;
+        evict(0);
+    }
+
+    private long getEntrySize(String modelContentHash) {
+        return getArtifactPath(modelContentHash).toFile().length() + sizeOfQuietly(getExtractedPath(modelContentHash));
+    }
+
+    private void evict(long incomingSize) {
+        while (!entries.isEmpty() && (sizeInBytes + incomingSize > maxSizeInBytes || isDiskCircuitBreakerOpen())) {
+            evictEldest();
+        }
+    }
+
+    private void evictEldest() {
+        Iterator<Map.Entry<String, Long>> iterator = entries.entrySet().iterator();
+        Map.Entry<String, Long> eldest = iterator.next();
+        iterator.remove();
+        sizeInBytes -= eldest.getValue();
+        deleteFileQuietly(getArtifactPath(eldest.getKey()));
+        deleteFileQuietly(getChunkOffsetsPath(eldest.getKey()));
+        deleteExtractedModel(eldest.getKey());
+        log.debug("Evicted model file of content hash {} from artifact cache", eldest.getKey());
+    }
+
+    private void remove(String modelContentHash) {
+        Long size = entries.remove(modelContentHash);
+        if (size != null) {
+            sizeInBytes -= size;
+        }
+        deleteFileQuietly(getArtifactPath(modelContentHash));
+        deleteFileQuietly(getChunkOffsetsPath(modelContentHash));
+        deleteExtractedModel(modelContentHash);
+    }
+
+    /**
+     * Move the extracted folder out of the way before deleting it, so a deployment never finds a partially deleted
+     * folder. Files still open by deployed models stay readable until they are closed.
+     */
+    private void deleteExtractedModel(String modelContentHash) {
+        Path extractedPath = getExtractedPath(modelContentHash);
+        if (!Files.exists(extractedPath)) {
+            return;
+        }
+        Path deletedPath = cacheRoot.resolve(modelContentHash + DELETED_FOLDER_SUFFIX + UUID.randomUUID());
+        try {
+            Files.move(extractedPath, deletedPath, StandardCopyOption.ATOMIC_MOVE);
+            deleteFileQuietly(deletedPath);
+        } catch (IOException e) {
+            log.debug("Failed to move extracted model folder " + extractedPath + ", deleting it in place", e);
+            deleteFileQuietly(extractedPath);
+        }
+    }
+
+    /**
+     * Load existing cached files from disk on first use, ordered by last access time. Leftover temporary files of
+     * interrupted writes, and extracted folders and chunk offsets without a cached file, are deleted.
+     */
+    private void load() {
+        if (loaded) {
+            return;
+        }
+        loaded = true;
+        File[] files = cacheRoot.toFile().listFiles();
+        if (files == null) {
+            return;
+        }
+        Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+        for (File file : files) {
+            String name = file.getName();
+            String modelContentHash = name.substring(0, Math.max(0, name.length() - ARTIFACT_FILE_EXTENSION.length()));
+            if (file.isFile() && name.endsWith(ARTIFACT_FILE_EXTENSION) && isValidContentHash(modelContentHash)) {
+                long size = getEntrySize(modelContentHash);
+                entries.put(modelContentHash, size);
+                sizeInBytes += size;
+            }
+        }
+        for (File file : files) {
+            String name = file.getName();
+            String modelContentHash = name.substring(0, Math.max(0, name.length() - ARTIFACT_FILE_EXTENSION.length()));
+            boolean cachedFile = file.isFile() && name.endsWith(ARTIFACT_FILE_EXTENSION) && entries.containsKey(modelContentHash);
+            boolean extractedModel = file.isDirectory() && entries.containsKey(name);
+            boolean chunkOffsets = file.isFile()
+                && name.endsWith(CHUNK_OFFSETS_FILE_EXTENSION)
+                && entries.containsKey(name.substring(0, name.length() - CHUNK_OFFSETS_FILE_EXTENSION.length()));
+            if (!cachedFile && !extractedModel && !chunkOffsets) {
+                deleteFileQuietly(file.toPath());
+            }
+        }
+        evict(0);
+    }
+
+    // Model content hash is a hex encoded SHA-256, which also makes it safe to use as file name.
+    private static boolean isValidContentHash(String modelContentHash) {
+        return modelContentHash != null && CONTENT_HASH_PATTERN.matcher(modelContentHash).matches();
+    }
+
+    private boolean isDiskCircuitBreakerOpen() {
+        return diskCircuitBreaker != null && diskCircuitBreaker.isOpen();
+    }
+
+    private Path getArtifactPath(String modelContentHash) {
+        return cacheRoot.resolve(modelContentHash + ARTIFACT_FILE_EXTENSION);
+    }
+
+    private Path getChunkOffsetsPath(String modelContentHash) {
+        return cacheRoot.resolve(modelContentHash + CHUNK_OFFSETS_FILE_EXTENSION);
+    }
+
+    private Path getExtractedPath(String modelContentHash) {
+        return cacheRoot.resolve(modelContentHash);
+    }
+
+    private static void linkOrCopy(Path source, Path target) throws IOException {
+        try {
+            Files.createLink(target, source);
+        } catch (IOException | UnsupportedOperationException e) {
+            Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
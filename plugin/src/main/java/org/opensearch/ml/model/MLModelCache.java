@@ -5,24 +5,31 @@
 
 package org.opensearch.ml.model;
 
-import java.util.DoubleSummaryStatistics;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.stream.DoubleStream;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.opensearch.common.util.TokenBucket;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.exception.MLLimitExceededException;
 import org.opensearch.ml.common.model.MLModelState;
+import org.opensearch.ml.common.profile.MLPredictProfile;
+import org.opensearch.ml.common.profile.MLPredictStage;
 import org.opensearch.ml.engine.MLExecutable;
 import org.opensearch.ml.engine.Predictable;
+import org.opensearch.ml.profile.MLLatencyRecorder;
+import org.opensearch.ml.profile.MLModelResourceStats;
+import org.opensearch.ml.profile.MLModelResourceUsage;
 import org.opensearch.ml.profile.MLPredictRequestStats;
-
-import com.google.common.math.Quantiles;
+import org.opensearch.ml.stats.MLModelActionCounters;
 
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -41,10 +48,27 @@ public class MLModelCache {
     private final Set<String> targetWorkerNodes;
     private final Set<String> workerNodes;
     private MLModel modelInfo;
-    private final Queue<Double> modelInferenceDurationQueue;
-    private final Queue<Double> predictRequestDurationQueue;
+    private final MLLatencyRecorder modelInferenceLatencies;
+    private final MLLatencyRecorder predictRequestLatencies;
+    // latencies of each predict stage, the map is filled in constructor and never changes
+    private final Map<MLPredictStage, MLLatencyRecorder> predictStageLatencies;
+    private final MLModelResourceUsage resourceUsage = new MLModelResourceUsage();
+    // counter handles of predict stats, resolved once the model is deployed to skip stats map lookups per request
+    private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) MLModelActionCounters predictCounters;
     private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) Long memSizeEstimationCPU;
     private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) Long memSizeEstimationGPU;
+    // Predict requests running with the predictor of this cache. The predictor is closed only when none is left.
+    private final AtomicInteger inFlightRequests = new AtomicInteger();
+    private volatile boolean draining;
+    private final AtomicBoolean closed = new AtomicBoolean();
+    // Null to use the cluster default idle TTL
+    private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) Integer idleTtlInMinutes;
+    // Time of the last predict request, or of the deployment if there is none yet
+    private volatile long lastPredictTime = System.currentTimeMillis();
+    // The predictor of an evicted model is closed, but the model stays deployed in the routing table and is deployed
+    // again by the next predict request. Requests coming in meanwhile wait in the lazy deploy listeners.
+    private volatile boolean evicted;
+    private final List<ActionListener<String>> lazyDeployListeners = new ArrayList<>();
 
     // In rare case, this could be null, e.g. model info not synced up yet a predict request comes in.
     @Setter
@@ -53,8 +77,12 @@ public class MLModelCache {
     public MLModelCache() {
         targetWorkerNodes = ConcurrentHashMap.newKeySet();
         workerNodes = ConcurrentHashMap.newKeySet();
-        modelInferenceDurationQueue = new ConcurrentLinkedQueue<>();
-        predictRequestDurationQueue = new ConcurrentLinkedQueue<>();
+        modelInferenceLatencies = new MLLatencyRecorder();
+        predictRequestLatencies = new MLLatencyRecorder();
+        predictStageLatencies = new EnumMap<>(MLPredictStage.class);
+        for (MLPredictStage stage : MLPredictStage.values()) {
+            predictStageLatencies.put(stage, new MLLatencyRecorder());
+        }
     }
 
     public void setTargetWorkerNodes(List<String> targetWorkerNodes) {
@@ -148,76 +176,218 @@ public class MLModelCache {
         workerNodes.clear();
     }
 
+    /**
+     * Clear the cache when the model is removed. The predictor and executor are closed after in-flight predict requests
+     * are done, so undeploying a model doesn't fail requests which are already running on it.
+     */
     public void clear() {
+        draining = true;
         modelState = null;
         functionName = null;
         workerNodes.clear();
         modelInfo = null;
-        modelInferenceDurationQueue.clear();
-        predictRequestDurationQueue.clear();
+        modelInferenceLatencies.clear();
+        predictRequestLatencies.clear();
+        predictStageLatencies.values().forEach(MLLatencyRecorder::clear);
+        resourceUsage.clear();
+        predictCounters = null;
+        memSizeEstimationCPU = 0L;
+        memSizeEstimationGPU = 0L;
+        isModelEnabled = null;
+        rateLimiter = null;
+        userRateLimiterMap = null;
+        for (ActionListener<String> listener : drainLazyDeployListeners()) {
+            listener.onFailure(new IllegalArgumentException("Model is undeployed"));
+        }
+        if (inFlightRequests.get() == 0) {
+            close();
+        } else {
+            log.debug("Close model after {} in-flight predict requests are done", inFlightRequests.get());
+        }
+    }
+
+    /**
+     * Mark a predict request as running with the predictor of this cache.
+     * @return false if the cache is cleared, the request must not use the predictor then
+     */
+    public boolean acquire() {
+        lastPredictTime = System.currentTimeMillis();
+        inFlightRequests.incrementAndGet();
+        if (draining || evicted) {
+            release();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Mark a predict request acquired with {@link #acquire()} as done.
+     */
+    public void release() {
+        if (inFlightRequests.decrementAndGet() == 0 && draining) {
+            close();
+        }
+    }
+
+    public int getInFlightRequests() {
+        return inFlightRequests.get();
+    }
+
+    public long getLastPredictTime() {
+        return lastPredictTime;
+    }
+
+    public boolean isEvicted() {
+        return evicted;
+    }
+
+    /**
+     * Close the predictor if no predict request came in for the idle TTL. The model keeps its state and worker nodes,
+     * so predict requests are still routed to this node and deploy it again.
+     *
+     * @param now             current time in milliseconds
+     * @param idleTtlInMillis idle TTL in milliseconds
+     * @return true if the model is evicted
+     */
+    public synchronized boolean evictIfIdle(long now, long idleTtlInMillis) {
+        if (evicted || draining || predictor == null || now - lastPredictTime < idleTtlInMillis) {
+            return false;
+        }
+        // Requests acquiring the model from now on see it evicted, requests acquired before are seen here.
+        evicted = true;
+        if (inFlightRequests.get() > 0) {
+            evicted = false;
+            return false;
+        }
+        predictor.close();
+        predictor = null;
+        resourceUsage.setNativeMemoryBytes(null, false);
+        return true;
+    }
+
+    /**
+     * Wait for the evicted model to be deployed again.
+     *
+     * @param listener          listener to call when the model is deployed again
+     * @param maxQueuedRequests max number of waiting listeners
+     * @return true if the caller must deploy the model; false if the listener waits for a running deployment, or is
+     *         already called because the model is not evicted or too many requests are waiting
+     */
+    public boolean addLazyDeployListener(ActionListener<String> listener, int maxQueuedRequests) {
+        boolean waiting;
+        synchronized (this) {
+            waiting = evicted && !draining;
+            if (waiting && lazyDeployListeners.size() < maxQueuedRequests) {
+                lazyDeployListeners.add(listener);
+                return lazyDeployListeners.size() == 1;
+            }
+        }
+        if (waiting) {
+            listener.onFailure(new MLLimitExceededException("Too many requests waiting for the model to be deployed"));
+        } else {
+            listener.onResponse("successful");
+        }
+        return false;
+    }
+
+    /**
+     * Set the predictor of the evicted model which is deployed again.
+     *
+     * @param predictor new predictor
+     * @return false if the model is not evicted any more, the caller must close the predictor then
+     */
+    public synchronized boolean restoreEvictedPredictor(Predictable predictor) {
+        if (!evicted || draining) {
+            return false;
+        }
+        this.predictor = predictor;
+        lastPredictTime = System.currentTimeMillis();
+        evicted = false;
+        return true;
+    }
+
+    /**
+     * Remove listeners waiting for the lazy deployment, so a new request starts a new deployment.
+     *
+     * @return waiting listeners
+     */
+    public synchronized List<ActionListener<String>> drainLazyDeployListeners() {
+        List<ActionListener<String>> listeners = new ArrayList<>(lazyDeployListeners);
+        lazyDeployListeners.clear();
+        return listeners;
+    }
+
+    private void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
         if (predictor != null) {
             predictor.close();
         }
-        memSizeEstimationCPU = 0L;
-        memSizeEstimationGPU = 0L;
         if (executor != null) {
             executor.close();
         }
-        isModelEnabled = null;
-        rateLimiter = null;
-        userRateLimiterMap = null;
     }
 
     public void addModelInferenceDuration(double duration, long maxRequestCount) {
-        addInferenceDuration(duration, maxRequestCount, modelInferenceDurationQueue);
+        modelInferenceLatencies.record(duration, maxRequestCount);
     }
 
     public void addPredictRequestDuration(double duration, long maxRequestCount) {
-        addInferenceDuration(duration, maxRequestCount, predictRequestDurationQueue);
+        predictRequestLatencies.record(duration, maxRequestCount);
     }
 
-    private void addInferenceDuration(double duration, long maxRequestCount, Queue<Double> queue) {
-        resizeInferenceQueue(maxRequestCount, queue);
-        if (maxRequestCount > 0) {
-            queue.add(duration);
-        }
+    public void addPredictStageDuration(MLPredictStage stage, double duration, long maxRequestCount) {
+        predictStageLatencies.get(stage).record(duration, maxRequestCount);
+    }
+
+    public void addPredictResourceUsage(MLPredictProfile profile) {
+        resourceUsage.record(profile);
+    }
+
+    /**
+     * Set the native memory held by the predictor, measured while it was deployed.
+     *
+     * @param nativeMemoryBytes native memory in bytes
+     * @param approximate       true if other models were deployed at the same time
+     */
+    public void setNativeMemoryBytes(Long nativeMemoryBytes, boolean approximate) {
+        resourceUsage.setNativeMemoryBytes(nativeMemoryBytes, approximate);
+    }
+
+    public Long getNativeMemoryBytes() {
+        return resourceUsage.getNativeMemoryBytes();
+    }
+
+    public MLModelResourceStats getResourceStats() {
+        return resourceUsage.getStats();
     }
 
     public void resizeMonitoringQueue(long maxRequestCount) {
         log.debug("resize inference duration monitoring queue with size {}", maxRequestCount);
-        resizeInferenceQueue(maxRequestCount, predictRequestDurationQueue);
-        resizeInferenceQueue(maxRequestCount, modelInferenceDurationQueue);
+        predictRequestLatencies.resize(maxRequestCount);
+        modelInferenceLatencies.resize(maxRequestCount);
+        predictStageLatencies.values().forEach(it -> it.resize(maxRequestCount));
     }
 
-    private void resizeInferenceQueue(long maxRequestCount, Queue<Double> queue) {
-        if (maxRequestCount <= 0) {
-            queue.clear();
-        } else {
-            while (queue.size() >= maxRequestCount) {
-                queue.poll();
-            }
-        }
+    public MLPredictRequestStats getInferenceStats(boolean modelInference) {
+        return modelInference ? modelInferenceLatencies.getStats() : predictRequestLatencies.getStats();
     }
 
-    public MLPredictRequestStats getInferenceStats(boolean modelInference) {
-        Queue<Double> queue = modelInference ? modelInferenceDurationQueue : predictRequestDurationQueue;
-        if (queue.size() > 0) {
-            MLPredictRequestStats.MLPredictRequestStatsBuilder statsBuilder = MLPredictRequestStats.builder();
-            DoubleStream doubleStream = queue.stream().mapToDouble(v -> v);
-            DoubleSummaryStatistics doubleSummaryStatistics = doubleStream.summaryStatistics();
-            statsBuilder.count(doubleSummaryStatistics.getCount());
-            statsBuilder.max(doubleSummaryStatistics.getMax());
-            statsBuilder.min(doubleSummaryStatistics.getMin());
-            statsBuilder.average(doubleSummaryStatistics.getAverage());
-
-            Quantiles.Scale percentiles = Quantiles.percentiles();
-            statsBuilder.p50(percentiles.index(50).compute(queue));
-            statsBuilder.p90(percentiles.index(90).compute(queue));
-            statsBuilder.p99(percentiles.index(99).compute(queue));
-
-            return statsBuilder.build();
-        }
-        return null;
+    /**
+     * Get latency stats of predict stages which have latencies.
+     *
+     * @return stage name to stats in stage order; null if no stage latency is recorded
+     */
+    public Map<String, MLPredictRequestStats> getPredictStageStats() {
+        Map<String, MLPredictRequestStats> stageStats = new LinkedHashMap<>();
+        predictStageLatencies.forEach((stage, latencies) -> {
+            MLPredictRequestStats stats = latencies.getStats();
+            if (stats != null) {
+                stageStats.put(stage.getName(), stats);
+            }
+        });
+        return stageStats.isEmpty() ? null : stageStats;
     }
 
     public boolean isValidCache() {
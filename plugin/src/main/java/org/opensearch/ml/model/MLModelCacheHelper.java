@@ -7,35 +7,49 @@ package org.opensearch.ml.model;
 
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MONITORING_REQUEST_COUNT;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.TokenBucket;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.exception.MLLimitExceededException;
 import org.opensearch.ml.common.model.MLModelFormat;
 import org.opensearch.ml.common.model.MLModelState;
+import org.opensearch.ml.common.profile.MLPredictProfile;
+import org.opensearch.ml.common.profile.MLPredictStage;
 import org.opensearch.ml.engine.MLExecutable;
 import org.opensearch.ml.engine.Predictable;
 import org.opensearch.ml.profile.MLModelProfile;
+import org.opensearch.ml.profile.MLPredictRequestStats;
+import org.opensearch.ml.stats.MLModelActionCounters;
 
 import lombok.extern.log4j.Log4j2;
 
 @Log4j2
 public class MLModelCacheHelper {
     private final Map<String, MLModelCache> modelCaches;
+    // model group id -> id of the model serving predict requests to the model group
+    private final Map<String, String> servingModelIds;
     private volatile Long maxRequestCount;
+    // id and version of the routing table last synced from sync up cron
+    private String routingTableId;
+    private long routingTableVersion = -1;
 
     public MLModelCacheHelper(ClusterService clusterService, Settings settings) {
         this.modelCaches = new ConcurrentHashMap<>();
+        this.servingModelIds = new ConcurrentHashMap<>();
 
         maxRequestCount = ML_COMMONS_MONITORING_REQUEST_COUNT.get(settings);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_MONITORING_REQUEST_COUNT, it -> maxRequestCount = it);
@@ -198,7 +212,14 @@ public class MLModelCacheHelper {
         getExistingModelCache(modelId).setMemSizeEstimationGPU(memSize);
     }
 
-    private Long getMemSizeEstimation(MLModelFormat format, Long size) {
+    /**
+     * Estimate the memory size of a deployed model from its model file size.
+     *
+     * @param format model format like onnx
+     * @param size   model file size
+     * @return Long
+     */
+    public static Long getMemSizeEstimation(MLModelFormat format, Long size) {
         Double scale = 1.0;
         switch (format) {
             case ONNX:
@@ -267,7 +288,7 @@ public class MLModelCacheHelper {
     }
 
     /**
-     * Get deployed local models on node.
+     * Get deployed local models on node, evicted models are not counted.
      * 
      * @return array of model id
      */
@@ -277,13 +298,32 @@ public class MLModelCacheHelper {
             .stream()
             .filter(
                 entry -> (entry.getValue().getModelState() == MLModelState.DEPLOYED
-                    && entry.getValue().getFunctionName() != FunctionName.REMOTE)
+                    && entry.getValue().getFunctionName() != FunctionName.REMOTE
+                    && !entry.getValue().isEvicted())
             )
             .map(entry -> entry.getKey())
             .collect(Collectors.toList())
             .toArray(new String[0]);
     }
 
+    /**
+     * Get the total CPU memory estimation of models deployed on node.
+     *
+     * @return long
+     */
+    public long getDeployedModelsMemEstCPU() {
+        return modelCaches
+            .values()
+            .stream()
+            .filter(
+                modelCache -> modelCache.getModelState() == MLModelState.DEPLOYED
+                    && !modelCache.isEvicted()
+                    && modelCache.getMemSizeEstimationCPU() != null
+            )
+            .mapToLong(MLModelCache::getMemSizeEstimationCPU)
+            .sum();
+    }
+
     /**
      * Check if model is running on node.
      * 
@@ -333,6 +373,112 @@ public class MLModelCacheHelper {
         return modelCache.getPredictor();
     }
 
+    /**
+     * Mark a predict request as running on the model, so removing the model closes its predictor only after the request
+     * is done.
+     *
+     * @param modelId model id
+     * @return releasable to close when the request is done; null if the model is not in cache or is being removed
+     */
+    public Releasable acquireModel(String modelId) {
+        MLModelCache modelCache = modelCaches.get(modelId);
+        if (modelCache == null || !modelCache.acquire()) {
+            return null;
+        }
+        return modelCache::release;
+    }
+
+    /**
+     * Set the idle TTL of model.
+     *
+     * @param modelId          model id
+     * @param idleTtlInMinutes idle TTL in minutes, null to use the cluster default
+     */
+    public void setIdleTtlInMinutes(String modelId, Integer idleTtlInMinutes) {
+        MLModelCache modelCache = modelCaches.get(modelId);
+        if (modelCache != null) {
+            modelCache.setIdleTtlInMinutes(idleTtlInMinutes);
+        }
+    }
+
+    /**
+     * Check if model is evicted from memory of node for being idle.
+     *
+     * @param modelId model id
+     * @return true if model is evicted
+     */
+    public boolean isModelEvicted(String modelId) {
+        MLModelCache modelCache = modelCaches.get(modelId);
+        return modelCache != null && modelCache.isEvicted();
+    }
+
+    /**
+     * Evict local models which received no predict request for their idle TTL.
+     *
+     * @param now                    current time in milliseconds
+     * @param defaultIdleTtlInMillis idle TTL of models without their own, 0 to not evict them
+     * @return evicted model ids
+     */
+    public List<String> evictIdleModels(long now, long defaultIdleTtlInMillis) {
+        List<String> evictedModelIds = new ArrayList<>();
+        for (Map.Entry<String, MLModelCache> entry : modelCaches.entrySet()) {
+            MLModelCache modelCache = entry.getValue();
+            if (modelCache.getModelState() != MLModelState.DEPLOYED || modelCache.getFunctionName() == FunctionName.REMOTE) {
+                continue;
+            }
+            Integer idleTtlInMinutes = modelCache.getIdleTtlInMinutes();
+            long idleTtlInMillis = idleTtlInMinutes == null ? defaultIdleTtlInMillis : TimeUnit.MINUTES.toMillis(idleTtlInMinutes);
+            if (idleTtlInMillis > 0 && modelCache.evictIfIdle(now, idleTtlInMillis)) {
+                evictedModelIds.add(entry.getKey());
+            }
+        }
+        return evictedModelIds;
+    }
+
+    /**
+     * Wait for an evicted model to be deployed again.
+     *
+     * @param modelId           model id
+     * @param listener          listener to call when the model is deployed again
+     * @param maxQueuedRequests max number of waiting listeners
+     * @return true if the caller must deploy the model and then call {@link #completeLazyDeploy}
+     */
+    public boolean addLazyDeployListener(String modelId, ActionListener<String> listener, int maxQueuedRequests) {
+        MLModelCache modelCache = modelCaches.get(modelId);
+        if (modelCache == null) {
+            listener.onResponse("successful");
+            return false;
+        }
+        return modelCache.addLazyDeployListener(listener, maxQueuedRequests);
+    }
+
+    /**
+     * Set the predictor of an evicted model deployed again and notify the waiting listeners.
+     *
+     * @param modelId   model id
+     * @param predictor new predictor, null if the deployment failed
+     * @param e         deployment failure
+     */
+    public void completeLazyDeploy(String modelId, Predictable predictor, Exception e) {
+        MLModelCache modelCache = modelCaches.get(modelId);
+        boolean restored = modelCache != null && predictor != null && modelCache.restoreEvictedPredictor(predictor);
+        if (predictor != null && !restored) {
+            log.debug("model {} is not evicted any more, close the predictor deployed again", modelId);
+            predictor.close();
+        }
+        if (modelCache == null) {
+            // the listeners are notified when the model is undeployed
+            return;
+        }
+        for (ActionListener<String> listener : modelCache.drainLazyDeployListeners()) {
+            if (restored) {
+                listener.onResponse("successful");
+            } else {
+                listener.onFailure(e != null ? e : new IllegalArgumentException("Model not ready: " + modelId));
+            }
+        }
+    }
+
     /**
      * Set target worker nodes of model.
      * 
@@ -455,6 +601,52 @@ public class MLModelCacheHelper {
         });
     }
 
+    /**
+     * Update worker nodes of changed models only. Models not in the map keep their worker nodes.
+     *
+     * @param changedModelWorkerNodes worker nodes of changed models, empty set means the model is not deployed on any node
+     */
+    public void updateWorkerNodes(Map<String, Set<String>> changedModelWorkerNodes) {
+        log.debug("update worker nodes of {} models", changedModelWorkerNodes.size());
+        changedModelWorkerNodes.forEach((modelId, workerNodes) -> {
+            if (workerNodes == null || workerNodes.isEmpty()) {
+                clearWorkerNodes(modelId);
+            } else {
+                getOrCreateModelCache(modelId).syncWorkerNode(workerNodes);
+            }
+        });
+    }
+
+    /**
+     * Set the id and version of the routing table synced from sync up cron.
+     *
+     * @param routingTableId routing table id
+     * @param routingTableVersion routing table version
+     */
+    public synchronized void setRoutingTableVersion(String routingTableId, long routingTableVersion) {
+        this.routingTableId = routingTableId;
+        this.routingTableVersion = routingTableVersion;
+    }
+
+    public synchronized String getRoutingTableId() {
+        return routingTableId;
+    }
+
+    public synchronized long getRoutingTableVersion() {
+        return routingTableVersion;
+    }
+
+    /**
+     * Check if a routing table delta can be applied, which requires the previous version of the same routing table.
+     *
+     * @param routingTableId routing table id
+     * @param routingTableVersion routing table version after applying the delta
+     * @return true if the delta can be applied
+     */
+    public synchronized boolean canApplyRoutingTableDelta(String routingTableId, long routingTableVersion) {
+        return routingTableId != null && routingTableId.equals(this.routingTableId) && routingTableVersion == this.routingTableVersion + 1;
+    }
+
     /**
      * Clear worker nodes for all models.
      */
@@ -506,8 +698,13 @@ public class MLModelCacheHelper {
         }
         builder.modelInferenceStats(modelCache.getInferenceStats(true));
         builder.predictRequestStats(modelCache.getInferenceStats(false));
+        builder.predictStageStats(modelCache.getPredictStageStats());
+        builder.resourceStats(modelCache.getResourceStats());
         builder.memSizeEstimationCPU(modelCache.getMemSizeEstimationCPU());
         builder.memSizeEstimationGPU(modelCache.getMemSizeEstimationGPU());
+        if (modelCache.isEvicted()) {
+            builder.evicted(true);
+        }
         return builder.build();
     }
 
@@ -527,6 +724,73 @@ public class MLModelCacheHelper {
         modelCache.addPredictRequestDuration(duration, maxRequestCount);
     }
 
+    /**
+     * Add durations of predict stages.
+     *
+     * @param modelId model id
+     * @param stageNanos predict stage to time in nanoseconds
+     */
+    public void addPredictStageDurations(String modelId, Map<MLPredictStage, Long> stageNanos) {
+        MLModelCache modelCache = getOrCreateModelCache(modelId);
+        for (Map.Entry<MLPredictStage, Long> entry : stageNanos.entrySet()) {
+            modelCache.addPredictStageDuration(entry.getKey(), entry.getValue() / 1e6, maxRequestCount);
+        }
+    }
+
+    /**
+     * Add the resources used by a predict request, recorded in its profile.
+     *
+     * @param modelId model id
+     * @param profile profile of the predict request
+     */
+    public void addPredictResourceUsage(String modelId, MLPredictProfile profile) {
+        MLModelCache modelCache = modelCaches.get(modelId);
+        if (modelCache != null) {
+            modelCache.addPredictResourceUsage(profile);
+        }
+    }
+
+    /**
+     * Set the native memory held by the predictor of a model.
+     *
+     * @param modelId           model id
+     * @param nativeMemoryBytes native memory in bytes
+     * @param approximate       true if other models were deployed at the same time
+     */
+    public void setNativeMemoryBytes(String modelId, Long nativeMemoryBytes, boolean approximate) {
+        MLModelCache modelCache = modelCaches.get(modelId);
+        if (modelCache != null) {
+            modelCache.setNativeMemoryBytes(nativeMemoryBytes, approximate);
+        }
+    }
+
+    /**
+     * Set the predict counter handles of a model.
+     *
+     * @param modelId         model id
+     * @param predictCounters predict counters
+     */
+    public void setPredictCounters(String modelId, MLModelActionCounters predictCounters) {
+        MLModelCache modelCache = modelCaches.get(modelId);
+        if (modelCache != null) {
+            modelCache.setPredictCounters(predictCounters);
+        }
+    }
+
+    /**
+     * Get the predict counter handles of a model.
+     *
+     * @param modelId model id
+     * @return predict counters, null if the model is not deployed on this node
+     */
+    public MLModelActionCounters getPredictCounters(String modelId) {
+        MLModelCache modelCache = modelCaches.get(modelId);
+        if (modelCache == null) {
+            return null;
+        }
+        return modelCache.getPredictCounters();
+    }
+
     public void resizeMonitoringQueue(long monitoringReqCount) {
         for (Map.Entry<String, MLModelCache> entry : modelCaches.entrySet()) {
             entry.getValue().resizeMonitoringQueue(monitoringReqCount);
@@ -570,6 +834,17 @@ public class MLModelCacheHelper {
         }
     }
 
+    /**
+     * Get latency stats of the predict requests of a model received by this node.
+     *
+     * @param modelId model id
+     * @return latency stats, null if this node didn't receive a predict request of the model
+     */
+    public MLPredictRequestStats getPredictRequestStats(String modelId) {
+        MLModelCache modelCache = modelCaches.get(modelId);
+        return modelCache == null ? null : modelCache.getInferenceStats(false);
+    }
+
     public MLModel getModelInfo(String modelId) {
         MLModelCache mlModelCache = modelCaches.get(modelId);
         if (mlModelCache == null) {
@@ -578,6 +853,26 @@ public class MLModelCacheHelper {
         return mlModelCache.getCachedModelInfo();
     }
 
+    /**
+     * Set the model serving predict requests to a model group.
+     *
+     * @param modelGroupId model group id
+     * @param modelId      model id
+     */
+    public void setServingModelId(String modelGroupId, String modelId) {
+        servingModelIds.put(modelGroupId, modelId);
+    }
+
+    /**
+     * Get the model serving predict requests to a model group.
+     *
+     * @param modelGroupId model group id
+     * @return model id; null if unknown on this node
+     */
+    public String getServingModelId(String modelGroupId) {
+        return servingModelIds.get(modelGroupId);
+    }
+
     private MLModelCache getExistingModelCache(String modelId) {
         MLModelCache modelCache = modelCaches.get(modelId);
         if (modelCache == null) {
@@ -0,0 +1,147 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.common.exception.MLException;
+import org.opensearch.ml.engine.utils.ModelChunkSplitter;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Indexes the chunks of a model registered from URL while the model is still being downloaded. At most
+ * {@code concurrency} chunks are indexed at the same time, {@link #accept(int, byte[])} blocks the download thread
+ * until one of them is done, which also bounds the memory held by chunks.
+ *
+ * Chunks complete out of order, progress is reported as the number of leading chunks which are all indexed and their
+ * size in bytes, which is the point a download can resume from.
+ */
+@Log4j2
+public class MLModelChunkIndexer implements ModelChunkSplitter.ChunkConsumer {
+
+    @FunctionalInterface
+    public interface ChunkWriter {
+        void write(int chunkNumber, byte[] content, ActionListener<Void> listener);
+    }
+
+    @FunctionalInterface
+    public interface ProgressListener {
+        void onProgress(int indexedChunks, long indexedBytes);
+    }
+
+    private final String modelId;
+    private final int concurrency;
+    private final ChunkWriter chunkWriter;
+    private final ProgressListener progressListener;
+
+    // chunk number -> size of indexed chunks after the leading ones
+    private final Map<Integer, Integer> indexedChunkSizes = new HashMap<>();
+    private int leadingIndexedChunks;
+    private long leadingIndexedBytes;
+    private int inFlight;
+    private Exception failure;
+    private ActionListener<Void> finishListener;
+
+    /**
+     * Constructor
+     * @param modelId model id
+     * @param concurrency max number of chunks indexed at the same time
+     * @param chunkWriter indexes one chunk
+     * @param progressListener called when the leading indexed chunks grow, can be null
+     */
+    public MLModelChunkIndexer(String modelId, int concurrency, ChunkWriter chunkWriter, ProgressListener progressListener) {
+        this.modelId = modelId;
+        this.concurrency = Math.max(1, concurrency);
+        this.chunkWriter = chunkWriter;
+        this.progressListener = progressListener;
+    }
+
+    @Override
+    public void accept(int chunkNumber, byte[] content) throws InterruptedException {
+        synchronized (this) {
+            while (failure == null && inFlight >= concurrency) {
+                wait();
+            }
+            if (failure != null) {
+                throw new MLException("Failed to save model chunk", failure);
+            }
+            inFlight++;
+        }
+        try {
+            chunkWriter.write(chunkNumber, content, ActionListener.wrap(r -> onChunkDone(chunkNumber, content.length, null), e -> {
+                log.error("Failed to index chunk " + chunkNumber + " of model " + modelId, e);
+                onChunkDone(chunkNumber, content.length, e);
+            }));
+        } catch (RuntimeException e) {
+            onChunkDone(chunkNumber, content.length, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Wait for all chunks in flight. The listener fails if indexing any chunk failed.
+     * @param listener action listener
+     */
+    public void finish(ActionListener<Void> listener) {
+        synchronized (this) {
+            if (inFlight > 0) {
+                finishListener = listener;
+                return;
+            }
+        }
+        notifyFinished(listener);
+    }
+
+    private void onChunkDone(int chunkNumber, int size, Exception e) {
+        ActionListener<Void> listener = null;
+        boolean progressed = false;
+        int indexedChunks;
+        long indexedBytes;
+        synchronized (this) {
+            inFlight--;
+            if (e != null) {
+                if (failure == null) {
+                    failure = e;
+                }
+            } else {
+                indexedChunkSizes.put(chunkNumber, size);
+                while (indexedChunkSizes.containsKey(leadingIndexedChunks)) {
+                    leadingIndexedBytes += indexedChunkSizes.remove(leadingIndexedChunks);
+                    leadingIndexedChunks++;
+                    progressed = true;
+                }
+            }
+            indexedChunks = leadingIndexedChunks;
+            indexedBytes = leadingIndexedBytes;
+            if (inFlight == 0 && finishListener != null) {
+                listener = finishListener;
+                finishListener = null;
+            }
+            notifyAll();
+        }
+        if (progressed && progressListener != null) {
+            progressListener.onProgress(indexedChunks, indexedBytes);
+        }
+        if (listener != null) {
+            notifyFinished(listener);
+        }
+    }
+
+    private void notifyFinished(ActionListener<Void> listener) {
+        Exception e;
+        synchronized (this) {
+            e = failure;
+        }
+        if (e != null) {
+            listener.onFailure(e);
+        } else {
+            listener.onResponse(null);
+        }
+    }
+}
@@ -0,0 +1,392 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.common.exception.MLResourceNotFoundException;
+
+import com.google.common.hash.HashCode;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Retrieves all chunks of a model with bounded parallelism and writes them straight into the model zip file.
+ * Chunks are written at their offset with positional writes and hashed with SHA-256 as soon as all chunks
+ * before them are written, so there is no temporary chunk file and no merge pass. At most {@code concurrency}
+ * chunks are in flight or waiting for earlier chunks, which bounds the memory used.
+ *
+ * Chunks are written to a temporary file next to the model zip file, which is moved in place once the content hash
+ * is verified. An existing model zip file is replaced, never written to, as it may be a hard link to an artifact
+ * cache entry.
+ *
+ * Chunks which are written can be read by peer nodes deploying the same model with {@link #readChunk(int, ActionListener)},
+ * requests for chunks not written yet wait until they are. Written chunks stay readable after the retrieval completed,
+ * until {@link #release()} is called, even if the model file is deleted in the meantime. A model file restored from the
+ * artifact cache is served the same way with {@link #fromModelFile}, given the chunk offsets of its retrieval.
+ */
+@Log4j2
+public class MLModelChunkRetriever {
+    private static final String TEMP_FILE_EXTENSION = ".tmp";
+
+    private final String modelId;
+    private final int totalChunks;
+    private final int concurrency;
+    private final File modelZipFile;
+    private final Path tempFile;
+    private final Long modelContentSize;
+    private final String modelContentHash;
+    private final BiConsumer<Integer, ActionListener<byte[]>> chunkReader;
+    private final ActionListener<File> listener;
+
+    private final Map<Integer, byte[]> pendingChunks = new HashMap<>();
+    private final Map<Integer, List<ActionListener<byte[]>>> chunkWaiters = new HashMap<>();
+    private final long[] chunkOffsets;
+    private MessageDigest digest;
+    private RandomAccessFile file;
+    private FileChannel channel;
+    private FileChannel readChannel;
+    private Exception failure;
+    private long position;
+    private int nextToFetch;
+    private int nextToWrite;
+    private boolean done;
+
+    /**
+     * Constructor
+     * @param modelId model id
+     * @param totalChunks total chunks of the model
+     * @param concurrency max number of chunks retrieved at the same time
+     * @param modelZipFile file to write model content to
+     * @param modelContentSize model content size used to preallocate the file, can be null
+     * @param modelContentHash expected SHA-256 of model content, skip verification if null
+     * @param chunkReader reads the decoded content of a chunk by chunk number
+     * @param listener action listener
+     */
+    public MLModelChunkRetriever(
+        String modelId,
+        int totalChunks,
+        int concurrency,
+        File modelZipFile,
+        Long modelContentSize,
+        String modelContentHash,
+        BiConsumer<Integer, ActionListener<byte[]>> chunkReader,
+        ActionListener<File> listener
+    ) {
+        this.modelId = modelId;
+        this.totalChunks = totalChunks;
+        this.concurrency = Math.max(1, concurrency);
+        this.modelZipFile = modelZipFile;
+        this.tempFile = modelZipFile.toPath().resolveSibling(modelZipFile.getName() + TEMP_FILE_EXTENSION);
+        this.modelContentSize = modelContentSize;
+        this.modelContentHash = modelContentHash;
+        this.chunkReader = chunkReader;
+        this.listener = listener;
+        this.chunkOffsets = new long[Math.max(0, totalChunks) + 1];
+    }
+
+    /**
+     * Serve the chunks of a complete model file to peer nodes, without retrieving anything.
+     * @param modelId model id
+     * @param modelZipFile complete model file
+     * @param modelContentHash model content hash of the file
+     * @param chunkOffsets offsets of the chunks in the file, followed by the file size
+     * @return chunk retriever serving the chunks until released
+     * @throws IOException if the model file can't be opened
+     */
+    public static MLModelChunkRetriever fromModelFile(String modelId, File modelZipFile, String modelContentHash, long[] chunkOffsets)
+        throws IOException {
+        int totalChunks = chunkOffsets.length - 1;
+        MLModelChunkRetriever retriever = new MLModelChunkRetriever(
+            modelId,
+            totalChunks,
+            1,
+            modelZipFile,
+            null,
+            modelContentHash,
+            null,
+            null
+        );
+        synchronized (retriever) {
+            System.arraycopy(chunkOffsets, 0, retriever.chunkOffsets, 0, chunkOffsets.length);
+            retriever.position = chunkOffsets[totalChunks];
+            retriever.nextToFetch = totalChunks;
+            retriever.nextToWrite = totalChunks;
+            retriever.done = true;
+            retriever.readChannel = FileChannel.open(modelZipFile.toPath(), StandardOpenOption.READ);
+        }
+        return retriever;
+    }
+
+    public String getModelContentHash() {
+        return modelContentHash;
+    }
+
+    /**
+     * Offsets of the chunks in the model file, followed by the file size.
+     * @return chunk offsets, or null if the retrieval hasn't completed successfully
+     */
+    public synchronized long[] getChunkOffsets() {
+        if (!done || failure != null || nextToWrite != totalChunks) {
+            return null;
+        }
+        return chunkOffsets.clone();
+    }
+
+    public void start() {
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+            Files.createDirectories(modelZipFile.toPath().toAbsolutePath().getParent());
+            Files.deleteIfExists(tempFile);
+            file = new RandomAccessFile(tempFile.toFile(), "rw");
+            file.setLength(modelContentSize == null ? 0 : modelContentSize);
+            channel = file.getChannel();
+            readChannel = FileChannel.open(tempFile, StandardOpenOption.READ);
+        } catch (IOException | NoSuchAlgorithmException e) {
+            fail(e);
+            return;
+        }
+        if (totalChunks <= 0) {
+            Runnable completion;
+            synchronized (this) {
+                completion = complete();
+            }
+            completion.run();
+            return;
+        }
+        fetchMore();
+    }
+
+    private void fetchMore() {
+        while (true) {
+            int chunkNumber;
+            synchronized (this) {
+                if (done || nextToFetch >= totalChunks || nextToFetch >= nextToWrite + concurrency) {
+                    return;
+                }
+                chunkNumber = nextToFetch++;
+            }
+            fetch(chunkNumber);
+        }
+    }
+
+    private void fetch(int chunkNumber) {
+        try {
+            chunkReader.accept(chunkNumber, ActionListener.wrap(content -> onChunk(chunkNumber, content), e -> {
+                log.error("Failed to retrieve chunk " + chunkNumber + " of model " + modelId, e);
+                fail(new MLResourceNotFoundException("Fail to find model chunk " + chunkNumber + " of model " + modelId));
+            }));
+        } catch (Exception e) {
+            fail(e);
+        }
+    }
+
+    private void onChunk(int chunkNumber, byte[] content) {
+        List<Runnable> notifications = new ArrayList<>();
+        Runnable completion = null;
+        synchronized (this) {
+            if (done) {
+                return;
+            }
+            pendingChunks.put(chunkNumber, content);
+            try {
+                while (pendingChunks.containsKey(nextToWrite)) {
+                    byte[] chunk = pendingChunks.remove(nextToWrite);
+                    write(chunk);
+                    chunkOffsets[nextToWrite + 1] = position;
+                    List<ActionListener<byte[]>> waiters = chunkWaiters.remove(nextToWrite);
+                    if (waiters != null) {
+                        waiters.forEach(waiter -> notifications.add(() -> waiter.onResponse(chunk)));
+                    }
+                    nextToWrite++;
+                }
+            } catch (IOException e) {
+                fail(e);
+                return;
+            }
+            if (nextToWrite == totalChunks) {
+                completion = complete();
+            }
+        }
+        notifications.forEach(Runnable::run);
+        if (completion != null) {
+            completion.run();
+        } else {
+            fetchMore();
+        }
+    }
+
+    /**
+     * Read a chunk for a peer node. Waits until the chunk is written if it's not written yet.
+     * @param chunkNumber chunk number
+     * @param chunkListener action listener
+     */
+    public void readChunk(int chunkNumber, ActionListener<byte[]> chunkListener) {
+        long offset;
+        int length;
+        FileChannel source;
+        synchronized (this) {
+            if (chunkNumber < 0 || chunkNumber >= totalChunks) {
+                chunkListener.onFailure(new IllegalArgumentException("Invalid chunk number " + chunkNumber + " of model " + modelId));
+                return;
+            }
+            if (failure != null || readChannel == null) {
+                chunkListener.onFailure(new MLResourceNotFoundException("Model chunks of model " + modelId + " are not available"));
+                return;
+            }
+            if (chunkNumber >= nextToWrite) {
+                chunkWaiters.computeIfAbsent(chunkNumber, it -> new ArrayList<>()).add(chunkListener);
+                return;
+            }
+            offset = chunkOffsets[chunkNumber];
+            length = (int) (chunkOffsets[chunkNumber + 1] - offset);
+            source = readChannel;
+        }
+        try {
+            ByteBuffer buffer = ByteBuffer.allocate(length);
+            while (buffer.hasRemaining()) {
+                int read = source.read(buffer, offset + buffer.position());
+                if (read < 0) {
+                    throw new IOException("Unexpected end of model file " + modelZipFile);
+                }
+            }
+            chunkListener.onResponse(buffer.array());
+        } catch (Exception e) {
+            chunkListener.onFailure(e);
+        }
+    }
+
+    /**
+     * Stop serving chunks to peer nodes and release the model file.
+     */
+    public void release() {
+        List<ActionListener<byte[]>> waiters;
+        synchronized (this) {
+            waiters = drainChunkWaiters();
+            closeReadChannel();
+        }
+        MLResourceNotFoundException e = new MLResourceNotFoundException("Model chunks of model " + modelId + " are not available");
+        waiters.forEach(waiter -> waiter.onFailure(e));
+    }
+
+    private void write(byte[] content) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(content);
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+        digest.update(content);
+    }
+
+    /**
+     * Finish writing the model file, verify the model content hash and move the model file in place. Called with the
+     * lock held, the returned completion notifies the listener and must be run after the lock is released. The read
+     * channel keeps serving chunks to peer nodes after the move, as it's still open on the same file.
+     */
+    private Runnable complete() {
+        done = true;
+        try {
+            try {
+                channel.truncate(position);
+            } finally {
+                closeFile();
+            }
+        } catch (IOException e) {
+            log.error("Failed to write model file " + modelZipFile, e);
+            return completeWithFailure(e);
+        }
+        String hash = HashCode.fromBytes(digest.digest()).toString();
+        if (modelContentHash != null && !modelContentHash.equals(hash)) {
+            log.error("Model content hash can't match original hash value");
+            return completeWithFailure(new IllegalArgumentException("model content changed"));
+        }
+        log.debug("Model content matches original hash value, continue deploying");
+        try {
+            Files.move(tempFile, modelZipFile.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.error("Failed to move model file in place " + modelZipFile, e);
+            return completeWithFailure(e);
+        }
+        return () -> listener.onResponse(modelZipFile);
+    }
+
+    private Runnable completeWithFailure(Exception e) {
+        failure = e;
+        closeReadChannel();
+        deleteTempFile();
+        return () -> listener.onFailure(e);
+    }
+
+    private void fail(Exception e) {
+        List<ActionListener<byte[]>> waiters;
+        synchronized (this) {
+            if (done) {
+                return;
+            }
+            done = true;
+            failure = e;
+            pendingChunks.clear();
+            waiters = drainChunkWaiters();
+            try {
+                closeFile();
+            } catch (IOException ioException) {
+                log.warn("Failed to close model file " + modelZipFile, ioException);
+            }
+            closeReadChannel();
+            deleteTempFile();
+        }
+        waiters.forEach(waiter -> waiter.onFailure(e));
+        listener.onFailure(e);
+    }
+
+    private List<ActionListener<byte[]>> drainChunkWaiters() {
+        List<ActionListener<byte[]>> waiters = new ArrayList<>();
+        chunkWaiters.values().forEach(waiters::addAll);
+        chunkWaiters.clear();
+        return waiters;
+    }
+
+    private void closeReadChannel() {
+        if (readChannel != null) {
+            try {
+                readChannel.close();
+            } catch (IOException e) {
+                log.warn("Failed to close model file " + modelZipFile, e);
+            }
+            readChannel = null;
+        }
+    }
+
+    private void deleteTempFile() {
+        try {
+            Files.deleteIfExists(tempFile);
+        } catch (IOException e) {
+            log.warn("Failed to delete temporary model file " + tempFile, e);
+        }
+    }
+
+    private void closeFile() throws IOException {
+        if (file != null) {
+            file.close();
+            file = null;
+        }
+    }
+}
@@ -14,60 +14,83 @@ import static org.opensearch.ml.common.CommonValue.ML_MODEL_INDEX;
 import static org.opensearch.ml.common.CommonValue.NOT_FOUND;
 import static org.opensearch.ml.common.CommonValue.UNDEPLOYED;
 import static org.opensearch.ml.common.MLModel.ALGORITHM_FIELD;
+import static org.opensearch.ml.common.MLTask.CHECKPOINT_FIELD;
 import static org.opensearch.ml.common.MLTask.ERROR_FIELD;
 import static org.opensearch.ml.common.MLTask.FUNCTION_NAME_FIELD;
 import static org.opensearch.ml.common.MLTask.MODEL_ID_FIELD;
 import static org.opensearch.ml.common.MLTask.STATE_FIELD;
 import static org.opensearch.ml.common.MLTaskState.COMPLETED;
 import static org.opensearch.ml.common.MLTaskState.FAILED;
-import static org.opensearch.ml.engine.ModelHelper.CHUNK_FILES;
 import static org.opensearch.ml.engine.ModelHelper.CHUNK_SIZE;
 import static org.opensearch.ml.engine.ModelHelper.MODEL_FILE_HASH;
 import static org.opensearch.ml.engine.ModelHelper.MODEL_SIZE_IN_BYTES;
+import static org.opensearch.ml.engine.ModelHelper.TOTAL_CHUNKS;
 import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.CLIENT;
 import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.CLUSTER_SERVICE;
+import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.CONNECTOR_PRIVATE_IP_ENABLED;
 import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.RATE_LIMITER;
 import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.SCRIPT_SERVICE;
+import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.TRACER;
 import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.USER_RATE_LIMITER_MAP;
 import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.XCONTENT_REGISTRY;
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.ML_ENGINE;
+import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.MODEL_EXTRACTED_PATH;
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.MODEL_HELPER;
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.MODEL_ZIP_FILE;
-import static org.opensearch.ml.engine.utils.FileUtils.calculateFileHash;
 import static org.opensearch.ml.engine.utils.FileUtils.deleteFileQuietly;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.DEPLOY_THREAD_POOL;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.GENERAL_THREAD_POOL;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.REGISTER_THREAD_POOL;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_CONNECTOR_PRIVATE_IP_ENABLED;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_DEPLOY_CHUNK_FETCH_CONCURRENCY;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_DEPLOY_NATIVE_MEMORY_ADMISSION_PERCENT;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_DEPLOY_PEER_CHUNK_DISTRIBUTION_ENABLED;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_DEPLOY_PEER_FAN_OUT;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_LAZY_DEPLOY_MAX_QUEUED_REQUESTS;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_MODELS_PER_NODE;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_MODEL_STATS_PER_NODE;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_REGISTER_MODEL_TASKS_PER_NODE;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_ARTIFACT_CACHE_ENABLED;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_ARTIFACT_CACHE_MAX_SIZE_IN_MB;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_IDLE_TTL_IN_MINUTES;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_REGISTER_CHUNK_INDEX_CONCURRENCY;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_REGISTER_MAX_MODEL_SIZE_IN_MB;
 import static org.opensearch.ml.stats.ActionName.REGISTER;
 import static org.opensearch.ml.stats.MLActionLevelStat.ML_ACTION_REQUEST_COUNT;
 import static org.opensearch.ml.utils.MLExceptionUtils.logException;
 import static org.opensearch.ml.utils.MLNodeUtils.checkOpenCircuitBreaker;
+import static org.opensearch.ml.utils.MLNodeUtils.createModelChunkSource;
 import static org.opensearch.ml.utils.MLNodeUtils.createXContentParserFromRegistry;
 
 import java.io.File;
+import java.io.IOException;
 import java.nio.file.Path;
 import java.security.PrivilegedActionException;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Base64;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ConcurrentLinkedDeque;
-import java.util.concurrent.Semaphore;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.logging.log4j.util.Strings;
 import org.opensearch.OpenSearchStatusException;
+import org.opensearch.Version;
+import org.opensearch.action.ActionListenerResponseHandler;
 import org.opensearch.action.delete.DeleteRequest;
 import org.opensearch.action.get.GetRequest;
 import org.opensearch.action.index.IndexRequest;
@@ -78,11 +101,15 @@ import org.opensearch.action.support.WriteRequest;
 import org.opensearch.action.update.UpdateRequest;
 import org.opensearch.action.update.UpdateResponse;
 import org.opensearch.client.Client;
+import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.TokenBucket;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.XContentBuilder;
@@ -91,6 +118,7 @@ import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.index.query.TermQueryBuilder;
 import org.opensearch.index.reindex.DeleteByQueryAction;
 import org.opensearch.index.reindex.DeleteByQueryRequest;
+import org.opensearch.ml.breaker.BreakerName;
 import org.opensearch.ml.breaker.MLCircuitBreakerService;
 import org.opensearch.ml.cluster.DiscoveryNodeHelper;
 import org.opensearch.ml.common.CommonValue;
@@ -107,9 +135,15 @@ import org.opensearch.ml.common.exception.MLLimitExceededException;
 import org.opensearch.ml.common.exception.MLResourceNotFoundException;
 import org.opensearch.ml.common.exception.MLValidationException;
 import org.opensearch.ml.common.model.MLModelState;
+import org.opensearch.ml.common.profile.MLPredictProfile;
+import org.opensearch.ml.common.profile.MLPredictStage;
+import org.opensearch.ml.common.telemetry.MLTracer;
 import org.opensearch.ml.common.transport.deploy.MLDeployModelAction;
 import org.opensearch.ml.common.transport.deploy.MLDeployModelRequest;
 import org.opensearch.ml.common.transport.deploy.MLDeployModelResponse;
+import org.opensearch.ml.common.transport.deploy.MLModelChunkPeerAction;
+import org.opensearch.ml.common.transport.deploy.MLModelChunkPeerRequest;
+import org.opensearch.ml.common.transport.deploy.MLModelChunkPeerResponse;
 import org.opensearch.ml.common.transport.register.MLRegisterModelInput;
 import org.opensearch.ml.common.transport.register.MLRegisterModelResponse;
 import org.opensearch.ml.common.transport.upload_chunk.MLRegisterModelMetaInput;
@@ -118,22 +152,29 @@ import org.opensearch.ml.engine.MLExecutable;
 import org.opensearch.ml.engine.ModelHelper;
 import org.opensearch.ml.engine.Predictable;
 import org.opensearch.ml.engine.indices.MLIndicesHandler;
-import org.opensearch.ml.engine.utils.FileUtils;
 import org.opensearch.ml.profile.MLModelProfile;
+import org.opensearch.ml.profile.MLPredictRequestStats;
+import org.opensearch.ml.profile.MLResourceMeter;
 import org.opensearch.ml.stats.ActionName;
 import org.opensearch.ml.stats.MLActionLevelStat;
+import org.opensearch.ml.stats.MLActionStats;
+import org.opensearch.ml.stats.MLModelActionCounters;
 import org.opensearch.ml.stats.MLNodeLevelStat;
 import org.opensearch.ml.stats.MLStats;
+import org.opensearch.ml.stats.metrics.MLMetricsRegistry;
 import org.opensearch.ml.task.MLTaskManager;
 import org.opensearch.ml.utils.MLExceptionUtils;
 import org.opensearch.ml.utils.MLNodeUtils;
+import org.opensearch.monitor.jvm.JvmInfo;
+import org.opensearch.monitor.os.OsProbe;
 import org.opensearch.script.ScriptService;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
 import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportRequestOptions;
+import org.opensearch.transport.TransportService;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.io.Files;
 
 import lombok.extern.log4j.Log4j2;
 
@@ -145,7 +186,18 @@ import lombok.extern.log4j.Log4j2;
 public class MLModelManager {
 
     public static final int TIMEOUT_IN_MILLIS = 5000;
-    public static final long MODEL_FILE_SIZE_LIMIT = 4l * 1024 * 1024 * 1024;// 4GB
+    // Peer nodes before this version can't serve model chunks.
+    public static final Version MINIMAL_SUPPORTED_VERSION_FOR_PEER_CHUNK_DISTRIBUTION = Version.V_2_13_0;
+    // A peer request waits until the peer node has retrieved the chunk, so the timeout covers reading one chunk upstream.
+    private static final TimeValue PEER_CHUNK_TIMEOUT = TimeValue.timeValueMinutes(1);
+    // How long a node keeps serving chunks of a model after it retrieved all of them.
+    private static final TimeValue PEER_CHUNK_SOURCE_RETENTION = TimeValue.timeValueMinutes(5);
+    // Fields of the register task checkpoint.
+    public static final String INDEXED_CHUNKS_FIELD = "indexed_chunks";
+    public static final String INDEXED_BYTES_FIELD = "indexed_bytes";
+    // Sources of model chunks in the chunk fetch metrics.
+    private static final String CHUNK_SOURCE_INDEX = "index";
+    private static final String CHUNK_SOURCE_PEER = "peer";
 
     private final Client client;
     private final ClusterService clusterService;
@@ -156,15 +208,33 @@ public class MLModelManager {
 
     private final MLModelCacheHelper modelCacheHelper;
     private final MLStats mlStats;
+    private final MLMetricsRegistry mlMetrics;
+    private final MLTracer mlTracer;
     private final MLCircuitBreakerService mlCircuitBreakerService;
     private final MLIndicesHandler mlIndicesHandler;
     private final MLTaskManager mlTaskManager;
     private final MLEngine mlEngine;
     private final DiscoveryNodeHelper nodeHelper;
+    private final MLModelArtifactCache modelArtifactCache;
+    private final MLDeployMemoryAdmission deployMemoryAdmission;
+    // model id -> chunk retriever serving model chunks to peer nodes
+    private final Map<String, MLModelChunkRetriever> peerChunkSources = new ConcurrentHashMap<>();
 
     private volatile Integer maxModelPerNode;
     private volatile Integer maxRegisterTasksPerNode;
     private volatile Integer maxDeployTasksPerNode;
+    private volatile Integer registerChunkIndexConcurrency;
+    private volatile Integer registerMaxModelSizeInMb;
+    private volatile Integer chunkFetchConcurrency;
+    private volatile Boolean peerChunkDistributionEnabled;
+    private volatile Integer peerFanOut;
+    private volatile Integer modelIdleTtlInMinutes;
+    private volatile Integer lazyDeployMaxQueuedRequests;
+    // shared with the connector executors of deployed remote models, set on test clusters only
+    private final AtomicBoolean connectorPrivateIpEnabled;
+    // local model deployments, to tell if a native memory measurement overlaps other deployments
+    private final AtomicInteger localDeploysInFlight = new AtomicInteger();
+    private final AtomicLong localDeploysStarted = new AtomicLong();
 
     public static final ImmutableSet MODEL_DONE_STATES = ImmutableSet
         .of(
@@ -185,12 +255,14 @@ public class MLModelManager {
         ModelHelper modelHelper,
         Settings settings,
         MLStats mlStats,
+        MLMetricsRegistry mlMetrics,
         MLCircuitBreakerService mlCircuitBreakerService,
         MLIndicesHandler mlIndicesHandler,
         MLTaskManager mlTaskManager,
         MLModelCacheHelper modelCacheHelper,
         MLEngine mlEngine,
-        DiscoveryNodeHelper nodeHelper
+        DiscoveryNodeHelper nodeHelper,
+        MLTracer mlTracer
     ) {
         this.client = client;
         this.threadPool = threadPool;
@@ -200,11 +272,13 @@ public class MLModelManager {
         this.scriptService = scriptService;
         this.modelCacheHelper = modelCacheHelper;
         this.mlStats = mlStats;
+        this.mlMetrics = mlMetrics;
         this.mlCircuitBreakerService = mlCircuitBreakerService;
         this.mlIndicesHandler = mlIndicesHandler;
         this.mlTaskManager = mlTaskManager;
         this.mlEngine = mlEngine;
         this.nodeHelper = nodeHelper;
+        this.mlTracer = mlTracer;
 
         this.maxModelPerNode = ML_COMMONS_MAX_MODELS_PER_NODE.get(settings);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_MAX_MODELS_PER_NODE, it -> maxModelPerNode = it);
@@ -218,6 +292,67 @@ public class MLModelManager {
         clusterService
             .getClusterSettings()
             .addSettingsUpdateConsumer(ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE, it -> maxDeployTasksPerNode = it);
+
+        registerChunkIndexConcurrency = ML_COMMONS_REGISTER_CHUNK_INDEX_CONCURRENCY.get(settings);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_REGISTER_CHUNK_INDEX_CONCURRENCY, it -> registerChunkIndexConcurrency = it);
+
+        registerMaxModelSizeInMb = ML_COMMONS_REGISTER_MAX_MODEL_SIZE_IN_MB.get(settings);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_REGISTER_MAX_MODEL_SIZE_IN_MB, it -> registerMaxModelSizeInMb = it);
+
+        chunkFetchConcurrency = ML_COMMONS_DEPLOY_CHUNK_FETCH_CONCURRENCY.get(settings);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_DEPLOY_CHUNK_FETCH_CONCURRENCY, it -> chunkFetchConcurrency = it);
+
+        peerChunkDistributionEnabled = ML_COMMONS_DEPLOY_PEER_CHUNK_DISTRIBUTION_ENABLED.get(settings);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_DEPLOY_PEER_CHUNK_DISTRIBUTION_ENABLED, it -> peerChunkDistributionEnabled = it);
+
+        peerFanOut = ML_COMMONS_DEPLOY_PEER_FAN_OUT.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_DEPLOY_PEER_FAN_OUT, it -> peerFanOut = it);
+
+        modelIdleTtlInMinutes = ML_COMMONS_MODEL_IDLE_TTL_IN_MINUTES.get(settings);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_MODEL_IDLE_TTL_IN_MINUTES, it -> modelIdleTtlInMinutes = it);
+
+        lazyDeployMaxQueuedRequests = ML_COMMONS_LAZY_DEPLOY_MAX_QUEUED_REQUESTS.get(settings);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_LAZY_DEPLOY_MAX_QUEUED_REQUESTS, it -> lazyDeployMaxQueuedRequests = it);
+
+        connectorPrivateIpEnabled = new AtomicBoolean(ML_COMMONS_CONNECTOR_PRIVATE_IP_ENABLED.get(settings));
+
+        mlStats.setMaxModelStats(ML_COMMONS_MAX_MODEL_STATS_PER_NODE.get(settings));
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_MAX_MODEL_STATS_PER_NODE, mlStats::setMaxModelStats);
+
+        modelArtifactCache = new MLModelArtifactCache(
+            mlEngine.getModelArtifactCacheRootPath(),
+            mlCircuitBreakerService.getBreaker(BreakerName.DISK),
+            ML_COMMONS_MODEL_ARTIFACT_CACHE_ENABLED.get(settings),
+            ML_COMMONS_MODEL_ARTIFACT_CACHE_MAX_SIZE_IN_MB.get(settings)
+        );
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_MODEL_ARTIFACT_CACHE_ENABLED, modelArtifactCache::setEnabled);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_MODEL_ARTIFACT_CACHE_MAX_SIZE_IN_MB, modelArtifactCache::setMaxSizeInMB);
+
+        deployMemoryAdmission = new MLDeployMemoryAdmission(
+            OsProbe.getInstance().getTotalPhysicalMemorySize(),
+            JvmInfo.jvmInfo().getMem().getHeapMax().getBytes(),
+            modelCacheHelper::getDeployedModelsMemEstCPU,
+            ML_COMMONS_DEPLOY_NATIVE_MEMORY_ADMISSION_PERCENT.get(settings)
+        );
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_DEPLOY_NATIVE_MEMORY_ADMISSION_PERCENT, deployMemoryAdmission::setAdmissionPercent);
     }
 
     public void registerModelMeta(MLRegisterModelMetaInput mlRegisterModelMetaInput, ActionListener<String> listener) {
@@ -695,6 +830,38 @@ public class MLModelManager {
         String version,
         String modelId
     ) {
+        Instant now = Instant.now();
+        MLModelChunkIndexer.ChunkWriter chunkWriter = (chunkNum, bytes, chunkListener) -> {
+            try {
+                MLModel mlModel = MLModel
+                    .builder()
+                    .modelId(modelId)
+                    .name(modelName)
+                    .algorithm(functionName)
+                    .version(version)
+                    .modelFormat(registerModelInput.getModelFormat())
+                    .rateLimiter(registerModelInput.getRateLimiter())
+                    .chunkNumber(chunkNum)
+                    .createdTime(now)
+                    .lastUpdateTime(now)
+                    .isHidden(registerModelInput.getIsHidden())
+                    .build();
+                IndexRequest indexRequest = new IndexRequest(ML_MODEL_INDEX);
+                indexRequest.id(getModelChunkId(modelId, chunkNum));
+                indexRequest.source(createModelChunkSource(mlModel, bytes, clusterService));
+                indexRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
+                client.index(indexRequest, ActionListener.wrap(r -> chunkListener.onResponse(null), chunkListener::onFailure));
+            } catch (Exception e) {
+                chunkListener.onFailure(e);
+            }
+        };
+        MLModelChunkIndexer.ProgressListener progressListener = (indexedChunks, indexedBytes) -> {
+            // resume point of the register task, all chunks before it are indexed
+            Map<String, Object> checkpoint = Map.of(INDEXED_CHUNKS_FIELD, indexedChunks, INDEXED_BYTES_FIELD, indexedBytes);
+            mlTaskManager.updateMLTask(taskId, Map.of(CHECKPOINT_FIELD, checkpoint), TIMEOUT_IN_MILLIS, false);
+        };
+        MLModelChunkIndexer chunkIndexer = new MLModelChunkIndexer(modelId, registerChunkIndexConcurrency, chunkWriter, progressListener);
+        // chunks are indexed while the model is downloaded, exceeding the size limit fails the download and deletes them
         modelHelper
             .downloadAndSplit(
                 registerModelInput.getModelFormat(),
@@ -704,85 +871,35 @@ public class MLModelManager {
                 registerModelInput.getUrl(),
                 registerModelInput.getHashValue(),
                 functionName,
-                ActionListener.wrap(result -> {
+                registerMaxModelSizeInMb * 1024L * 1024L,
+                chunkIndexer,
+                ActionListener.wrap(result -> chunkIndexer.finish(ActionListener.wrap(r -> {
                     Long modelSizeInBytes = (Long) result.get(MODEL_SIZE_IN_BYTES);
-                    if (modelSizeInBytes >= MODEL_FILE_SIZE_LIMIT) {
-                        throw new MLException("Model file size exceeds the limit of 4GB: " + modelSizeInBytes);
-                    }
-                    List<String> chunkFiles = (List<String>) result.get(CHUNK_FILES);
+                    Integer totalChunks = (Integer) result.get(TOTAL_CHUNKS);
                     String hashValue = (String) result.get(MODEL_FILE_HASH);
-                    Semaphore semaphore = new Semaphore(1);
-                    AtomicInteger uploaded = new AtomicInteger(0);
-                    AtomicBoolean failedToUploadChunk = new AtomicBoolean(false);
-                    // upload chunks
-                    for (String name : chunkFiles) {
-                        semaphore.tryAcquire(10, TimeUnit.SECONDS);
-                        if (failedToUploadChunk.get()) {
-                            throw new MLException("Failed to save model chunk");
-                        }
-                        File file = new File(name);
-                        byte[] bytes = Files.toByteArray(file);
-                        int chunkNum = Integer.parseInt(file.getName());
-                        Instant now = Instant.now();
-                        MLModel mlModel = MLModel
-                            .builder()
-                            .modelId(modelId)
-                            .name(modelName)
-                            .algorithm(functionName)
-                            .version(version)
-                            .modelFormat(registerModelInput.getModelFormat())
-                            .rateLimiter(registerModelInput.getRateLimiter())
-                            .chunkNumber(chunkNum)
-                            .totalChunks(chunkFiles.size())
-                            .content(Base64.getEncoder().encodeToString(bytes))
-                            .createdTime(now)
-                            .lastUpdateTime(now)
-                            .isHidden(registerModelInput.getIsHidden())
-                            .build();
-                        IndexRequest indexRequest = new IndexRequest(ML_MODEL_INDEX);
-                        if (registerModelInput.getIsHidden() != null && registerModelInput.getIsHidden()) {
-                            indexRequest.id(modelName);
-                        }
-                        String chunkId = getModelChunkId(modelId, chunkNum);
-                        indexRequest.id(chunkId);
-                        indexRequest.source(mlModel.toXContent(XContentBuilder.builder(JSON.xContent()), EMPTY_PARAMS));
-                        indexRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
-                        client.index(indexRequest, ActionListener.wrap(r -> {
-                            uploaded.getAndIncrement();
-                            if (uploaded.get() == chunkFiles.size()) {
-                                updateModelRegisterStateAsDone(
-                                    registerModelInput,
-                                    taskId,
-                                    modelId,
-                                    modelSizeInBytes,
-                                    chunkFiles,
-                                    hashValue,
-                                    version
-                                );
-                            } else {
-                                deleteFileQuietly(file);
-                            }
-                            semaphore.release();
-                        }, e -> {
-                            log.error("Failed to index model chunk " + chunkId, e);
-                            failedToUploadChunk.set(true);
-                            handleException(functionName, taskId, e);
-                            deleteFileQuietly(file);
-                            // remove model doc as failed to upload model
-                            deleteModel(modelId, registerModelInput, version);
-                            semaphore.release();
-                            deleteFileQuietly(mlEngine.getRegisterModelPath(modelId));
-                        }));
-                    }
-                }, e -> {
-                    log.error("Failed to index chunk file", e);
-                    deleteFileQuietly(mlEngine.getRegisterModelPath(modelId));
-                    deleteModel(modelId, registerModelInput, version);
-                    handleException(functionName, taskId, e);
+                    updateModelRegisterStateAsDone(registerModelInput, taskId, modelId, modelSizeInBytes, totalChunks, hashValue, version);
+                }, e -> handleRegisterModelFailure(registerModelInput, taskId, functionName, version, modelId, e))), e -> {
+                    // wait for chunks in flight, so that deleting the model removes all of its chunks
+                    Runnable onFailure = () -> handleRegisterModelFailure(registerModelInput, taskId, functionName, version, modelId, e);
+                    chunkIndexer.finish(ActionListener.wrap(r -> onFailure.run(), indexException -> onFailure.run()));
                 })
             );
     }
 
+    private void handleRegisterModelFailure(
+        MLRegisterModelInput registerModelInput,
+        String taskId,
+        FunctionName functionName,
+        String version,
+        String modelId,
+        Exception e
+    ) {
+        log.error("Failed to index chunk file", e);
+        deleteFileQuietly(mlEngine.getRegisterModelPath(modelId));
+        deleteModel(modelId, registerModelInput, version);
+        handleException(functionName, taskId, e);
+    }
+
     private void registerPrebuiltModel(MLRegisterModelInput registerModelInput, MLTask mlTask, String modelVersion)
         throws PrivilegedActionException {
         String taskId = mlTask.getTaskId();
@@ -821,7 +938,7 @@ public class MLModelManager {
         String taskId,
         String modelId,
         Long modelSizeInBytes,
-        List<String> chunkFiles,
+        Integer totalChunks,
         String hashValue,
         String version
     ) {
@@ -834,7 +951,7 @@ public class MLModelManager {
                 MLModel.LAST_REGISTERED_TIME_FIELD,
                 Instant.now().toEpochMilli(),
                 MLModel.TOTAL_CHUNKS_FIELD,
-                chunkFiles.size(),
+                totalChunks,
                 MLModel.MODEL_CONTENT_HASH_VALUE_FIELD,
                 hashValue,
                 MLModel.MODEL_CONTENT_SIZE_IN_BYTES_FIELD,
@@ -936,6 +1053,29 @@ public class MLModelManager {
         boolean deployToAllNodes,
         MLTask mlTask,
         ActionListener<String> listener
+    ) {
+        deployModel(modelId, modelContentHash, functionName, deployToAllNodes, mlTask, null, listener);
+    }
+
+    /**
+     * Read model chunks from model index or from a peer node deploying the same model. Concat chunks into a whole
+     * model file, then load into memory.
+     *
+     * @param modelId          model id
+     * @param modelContentHash model content hash value
+     * @param functionName     function name
+     * @param mlTask           ML task
+     * @param transportService transport service to read model chunks from peer nodes, read from model index only if null
+     * @param listener         action listener
+     */
+    public void deployModel(
+        String modelId,
+        String modelContentHash,
+        FunctionName functionName,
+        boolean deployToAllNodes,
+        MLTask mlTask,
+        TransportService transportService,
+        ActionListener<String> listener
     ) {
         mlStats.createCounterStatIfAbsent(functionName, ActionName.DEPLOY, ML_ACTION_REQUEST_COUNT).increment();
         mlStats.getStat(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT).increment();
@@ -948,7 +1088,11 @@ public class MLModelManager {
                 modelCacheHelper.setDeployToAllNodes(modelId, deployToAllNodes);
                 modelCacheHelper.setTargetWorkerNodes(modelId, workerNodes);
             }
-            listener.onResponse("successful");
+            if (modelCacheHelper.isModelEvicted(modelId)) {
+                redeployEvictedModel(modelId, listener);
+            } else {
+                listener.onResponse("successful");
+            }
             return;
         }
         if (modelCacheHelper.getLocalDeployedModels().length >= maxModelPerNode) {
@@ -957,11 +1101,18 @@ public class MLModelManager {
         }
         int eligibleNodeCount = workerNodes.size();
         modelCacheHelper.initModelState(modelId, MLModelState.DEPLOYING, functionName, workerNodes, deployToAllNodes);
+        modelCacheHelper.setPredictCounters(modelId, new MLModelActionCounters(mlStats, modelId, ActionName.PREDICT));
+        long deployStartNanos = System.nanoTime();
+        ActionListener<String> timedListener = ActionListener.wrap(response -> {
+            mlMetrics.getDeployDuration().labels(modelId, functionName.name()).observe((System.nanoTime() - deployStartNanos) / 1e9);
+            listener.onResponse(response);
+        }, listener::onFailure);
         try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
-            ActionListener<String> wrappedListener = ActionListener.runBefore(listener, context::restore);
+            ActionListener<String> wrappedListener = ActionListener.runBefore(timedListener, context::restore);
             checkAndAddRunningTask(mlTask, maxDeployTasksPerNode);
             this.getModel(modelId, threadedActionListener(DEPLOY_THREAD_POOL, ActionListener.wrap(mlModel -> {
                 modelCacheHelper.setIsModelEnabled(modelId, mlModel.getIsEnabled());
+                modelCacheHelper.setIdleTtlInMinutes(modelId, mlModel.getIdleTtlInMinutes());
                 if (FunctionName.REMOTE == mlModel.getAlgorithm()
                     || (!FunctionName.isDLModel(mlModel.getAlgorithm()) && mlModel.getAlgorithm() != FunctionName.METRICS_CORRELATION)) {
                     // deploy remote model or model trained by built-in algorithm like kmeans
@@ -992,63 +1143,159 @@ public class MLModelManager {
 
                 setupRateLimiter(modelId, eligibleNodeCount, mlModel.getRateLimiter());
                 deployControllerWithDeployingModel(mlModel, eligibleNodeCount);
+                // free disk space used by cached model files before checking the disk circuit breaker
+                modelArtifactCache.releaseDiskSpace();
                 // check circuit breaker before deploying custom model chunks
                 checkOpenCircuitBreaker(mlCircuitBreakerService, mlStats);
-                retrieveModelChunks(mlModel, ActionListener.wrap(modelZipFile -> {// read model chunks
-                    String hash = calculateFileHash(modelZipFile);
-                    if (modelContentHash != null && !modelContentHash.equals(hash)) {
-                        log.error("Model content hash can't match original hash value");
-                        removeModel(modelId);
-                        wrappedListener.onFailure(new IllegalArgumentException("model content changed"));
-                        return;
-                    }
-                    log.debug("Model content matches original hash value, continue deploying");
-                    Map<String, Object> params = Map.of(MODEL_ZIP_FILE, modelZipFile, MODEL_HELPER, modelHelper, ML_ENGINE, mlEngine);
+                // reserve the estimated memory of the model until it is deployed, fails if the model doesn't fit
+                deployMemoryAdmission
+                    .reserve(modelId, MLModelCacheHelper.getMemSizeEstimation(mlModel.getModelFormat(), getModelContentSize(mlModel)));
+                ActionListener<String> admittedListener = ActionListener
+                    .runBefore(wrappedListener, () -> deployMemoryAdmission.release(modelId));
+                DiscoveryNode chunkPeer = getChunkPeer(workerNodes, modelContentHash, transportService);
+                // read model chunks
+                retrieveModelChunks(mlModel, modelContentHash, chunkPeer, transportService, ActionListener.wrap(modelZipFile -> {
+                    Map<String, Object> params = setUpDeployParameterMap(modelZipFile, modelContentHash);
                     if (FunctionName.METRICS_CORRELATION.equals(mlModel.getAlgorithm())) {
                         MLExecutable mlExecutable = mlEngine.deployExecute(mlModel, params);
                         try {
                             modelCacheHelper.setMLExecutor(modelId, mlExecutable);
                             mlStats.getStat(MLNodeLevelStat.ML_DEPLOYED_MODEL_COUNT).increment();
                             modelCacheHelper.setModelState(modelId, MLModelState.DEPLOYED);
-                            wrappedListener.onResponse("successful");
+                            admittedListener.onResponse("successful");
                         } catch (Exception e) {
                             log.error("Failed to add predictor to cache", e);
                             mlExecutable.close();
-                            wrappedListener.onFailure(e);
+                            admittedListener.onFailure(e);
                         }
                     } else {
-                        Predictable predictable = mlEngine.deploy(mlModel, params);
+                        Predictable predictable = deployLocalModel(mlModel, params);
                         try {
                             modelCacheHelper.setPredictor(modelId, predictable);
                             mlStats.getStat(MLNodeLevelStat.ML_DEPLOYED_MODEL_COUNT).increment();
                             modelCacheHelper.setModelState(modelId, MLModelState.DEPLOYED);
-                            Long modelContentSizeInBytes = mlModel.getModelContentSizeInBytes();
-                            long contentSize = modelContentSizeInBytes == null
-                                ? mlModel.getTotalChunks() * CHUNK_SIZE
-                                : modelContentSizeInBytes;
-                            modelCacheHelper.setMemSizeEstimation(modelId, mlModel.getModelFormat(), contentSize);
-                            wrappedListener.onResponse("successful");
+                            modelCacheHelper.setMemSizeEstimation(modelId, mlModel.getModelFormat(), getModelContentSize(mlModel));
+                            admittedListener.onResponse("successful");
                         } catch (Exception e) {
                             log.error("Failed to add predictor to cache", e);
                             predictable.close();
-                            wrappedListener.onFailure(e);
+                            admittedListener.onFailure(e);
                         }
                     }
                 }, e -> {
                     log.error("Failed to retrieve model " + modelId, e);
-                    handleDeployModelException(modelId, functionName, wrappedListener, e);
+                    handleDeployModelException(modelId, functionName, admittedListener, e);
                 }));
             }, e -> {
                 log.error("Failed to deploy model " + modelId, e);
                 handleDeployModelException(modelId, functionName, wrappedListener, e);
             })));
         } catch (Exception e) {
-            handleDeployModelException(modelId, functionName, listener, e);
+            handleDeployModelException(modelId, functionName, timedListener, e);
         } finally {
             mlStats.getStat(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT).decrement();
         }
     }
 
+    /**
+     * Deploy a local model and measure the native memory its predictor holds, as the growth of the memory of the process
+     * outside of the heap while the model loads. Models deploying at the same time on the node inflate each other, the
+     * measurement is marked approximate then.
+     */
+    private Predictable deployLocalModel(MLModel mlModel, Map<String, Object> params) {
+        long deploysStarted = localDeploysStarted.incrementAndGet();
+        boolean approximate = localDeploysInFlight.incrementAndGet() > 1;
+        long startBytes = MLResourceMeter.nonHeapResidentBytes();
+        Predictable predictable;
+        try {
+            predictable = mlEngine.deploy(mlModel, params);
+        } finally {
+            localDeploysInFlight.decrementAndGet();
+        }
+        if (params.containsKey(MODEL_EXTRACTED_PATH)) {
+            // the deployment extracted the cached model file, if it wasn't extracted yet
+            modelArtifactCache.updateExtractedModelSize(mlModel.getModelContentHash());
+        }
+        long endBytes = startBytes < 0 ? -1 : MLResourceMeter.nonHeapResidentBytes();
+        if (endBytes >= 0) {
+            // another deployment started while this one was running
+            approximate |= localDeploysStarted.get() != deploysStarted;
+            modelCacheHelper.setNativeMemoryBytes(mlModel.getModelId(), Math.max(0, endBytes - startBytes), approximate);
+        }
+        return predictable;
+    }
+
+    private Map<String, Object> setUpDeployParameterMap(File modelZipFile, String modelContentHash) {
+        Map<String, Object> params = new HashMap<>();
+        params.put(MODEL_ZIP_FILE, modelZipFile);
+        params.put(MODEL_HELPER, modelHelper);
+        params.put(ML_ENGINE, mlEngine);
+        Path extractedModelPath = modelArtifactCache.getExtractedModelPath(modelContentHash);
+        if (extractedModelPath != null) {
+            params.put(MODEL_EXTRACTED_PATH, extractedModelPath);
+        }
+        return params;
+    }
+
+    /**
+     * Check if model is evicted from memory of this node for being idle.
+     *
+     * @param modelId model id
+     * @return true if model is evicted
+     */
+    public boolean isModelEvicted(String modelId) {
+        return modelCacheHelper.isModelEvicted(modelId);
+    }
+
+    /**
+     * Evict local models which received no predict request for their idle TTL from memory of this node. Evicted models
+     * stay deployed in the routing table, the next predict request deploys them again with {@link #redeployEvictedModel}.
+     */
+    public void evictIdleModels() {
+        long defaultIdleTtlInMillis = TimeUnit.MINUTES.toMillis(modelIdleTtlInMinutes);
+        for (String modelId : modelCacheHelper.evictIdleModels(System.currentTimeMillis(), defaultIdleTtlInMillis)) {
+            log.info("Evicted model {} from memory after it was idle", modelId);
+        }
+    }
+
+    /**
+     * Deploy an evicted model again on this node, from the local artifact cache if the model file is cached. Predict
+     * requests coming in meanwhile wait for the same deployment.
+     *
+     * @param modelId  model id
+     * @param listener action listener, called when the model can serve predict requests again
+     */
+    public void redeployEvictedModel(String modelId, ActionListener<String> listener) {
+        if (!modelCacheHelper.addLazyDeployListener(modelId, listener, lazyDeployMaxQueuedRequests)) {
+            return;
+        }
+        log.info("Deploying evicted model {} again", modelId);
+        ActionListener<Predictable> deployListener = ActionListener
+            .wrap(predictable -> modelCacheHelper.completeLazyDeploy(modelId, predictable, null), e -> {
+                log.error("Failed to deploy evicted model " + modelId, e);
+                modelCacheHelper.completeLazyDeploy(modelId, null, e);
+            });
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            ActionListener<Predictable> wrappedListener = ActionListener.runBefore(deployListener, context::restore);
+            this.getModel(modelId, threadedActionListener(DEPLOY_THREAD_POOL, ActionListener.wrap(mlModel -> {
+                if (modelCacheHelper.getLocalDeployedModels().length >= maxModelPerNode) {
+                    throw new MLLimitExceededException("Exceed max local model per node limit");
+                }
+                checkOpenCircuitBreaker(mlCircuitBreakerService, mlStats);
+                deployMemoryAdmission
+                    .reserve(modelId, MLModelCacheHelper.getMemSizeEstimation(mlModel.getModelFormat(), getModelContentSize(mlModel)));
+                ActionListener<Predictable> admittedListener = ActionListener
+                    .runBefore(wrappedListener, () -> deployMemoryAdmission.release(modelId));
+                String modelContentHash = mlModel.getModelContentHash();
+                retrieveModelChunks(mlModel, modelContentHash, null, null, ActionListener.wrap(modelZipFile -> {
+                    admittedListener.onResponse(deployLocalModel(mlModel, setUpDeployParameterMap(modelZipFile, modelContentHash)));
+                }, admittedListener::onFailure));
+            }, wrappedListener::onFailure)));
+        } catch (Exception e) {
+            deployListener.onFailure(e);
+        }
+    }
+
     private void deployRemoteOrBuiltInModel(MLModel mlModel, Integer eligibleNodeCount, ActionListener<String> wrappedListener) {
         String modelId = mlModel.getModelId();
         setupRateLimiter(modelId, eligibleNodeCount, mlModel.getRateLimiter());
@@ -1086,6 +1333,8 @@ public class MLModelManager {
         params.put(CLIENT, client);
         params.put(XCONTENT_REGISTRY, xContentRegistry);
         params.put(CLUSTER_SERVICE, clusterService);
+        params.put(CONNECTOR_PRIVATE_IP_ENABLED, connectorPrivateIpEnabled);
+        params.put(TRACER, mlTracer);
 
         if (rateLimiter == null && userRateLimiterMap == null) {
             log.info("Setting up basic ML predictor parameters.");
@@ -1114,16 +1363,46 @@ public class MLModelManager {
             mlStats.createCounterStatIfAbsent(functionName, ActionName.DEPLOY, MLActionLevelStat.ML_ACTION_FAILURE_COUNT).increment();
             mlStats.getStat(MLNodeLevelStat.ML_FAILURE_COUNT).increment();
         }
+        deployMemoryAdmission.release(modelId);
         removeModel(modelId);
         listener.onFailure(e);
     }
 
+    /**
+     * Get the predict counter handles of a model deployed on this node.
+     *
+     * @param modelId model id
+     * @return predict counters, null if the model is not deployed on this node
+     */
+    public MLModelActionCounters getPredictCounters(String modelId) {
+        return modelCacheHelper.getPredictCounters(modelId);
+    }
+
+    /**
+     * Get the number of predict requests of a model received by this node since the model was deployed.
+     *
+     * @param modelId model id
+     * @return predict request count
+     */
+    public long getPredictRequestCount(String modelId) {
+        Map<ActionName, MLActionStats> modelStats = mlStats.getModelStats(modelId);
+        MLActionStats predictStats = modelStats == null ? null : modelStats.get(ActionName.PREDICT);
+        Object count = predictStats == null ? null : predictStats.getActionStat(ML_ACTION_REQUEST_COUNT);
+        return count instanceof Number ? ((Number) count).longValue() : 0;
+    }
+
+    private long getModelContentSize(MLModel mlModel) {
+        Long modelContentSizeInBytes = mlModel.getModelContentSizeInBytes();
+        return modelContentSizeInBytes == null ? (long) mlModel.getTotalChunks() * CHUNK_SIZE : modelContentSizeInBytes;
+    }
+
     public synchronized void updateModelCache(String modelId, ActionListener<String> listener) {
         try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
             ActionListener<String> wrappedListener = ActionListener.runBefore(listener, context::restore);
             getModel(modelId, ActionListener.wrap(mlModel -> {
                 int eligibleNodeCount = getWorkerNodes(modelId, mlModel.getAlgorithm()).length;
                 modelCacheHelper.setIsModelEnabled(modelId, mlModel.getIsEnabled());
+                modelCacheHelper.setIdleTtlInMinutes(modelId, mlModel.getIdleTtlInMinutes());
                 setupRateLimiter(modelId, eligibleNodeCount, mlModel.getRateLimiter());
                 if (mlModel.getAlgorithm() == FunctionName.REMOTE) {
                     if (mlModel.getConnector() != null) {
@@ -1462,6 +1741,60 @@ public class MLModelManager {
         }, listener::onFailure));
     }
 
+    /**
+     * Get the model serving predict requests to a model group. The model id is cached on this node, it's read from model
+     * group index again when the cached model is not deployed on any node.
+     *
+     * @param modelGroupId model group id
+     * @param listener     action listener
+     */
+    public void getServingModelId(String modelGroupId, ActionListener<String> listener) {
+        String servingModelId = modelCacheHelper.getServingModelId(modelGroupId);
+        String[] workerNodes = servingModelId == null ? null : modelCacheHelper.getWorkerNodes(servingModelId);
+        if (workerNodes != null && workerNodes.length > 0) {
+            listener.onResponse(servingModelId);
+            return;
+        }
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            GetRequest getRequest = new GetRequest(ML_MODEL_GROUP_INDEX).id(modelGroupId);
+            client.get(getRequest, ActionListener.runBefore(ActionListener.wrap(r -> {
+                if (r == null || !r.isExists()) {
+                    listener.onFailure(new MLResourceNotFoundException("Failed to find model group with ID: " + modelGroupId));
+                    return;
+                }
+                try (XContentParser parser = createXContentParserFromRegistry(xContentRegistry, r.getSourceAsBytesRef())) {
+                    ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
+                    String modelId = MLModelGroup.parse(parser).getServingModelId();
+                    if (modelId == null) {
+                        listener.onFailure(new MLResourceNotFoundException("No model version is serving in model group " + modelGroupId));
+                        return;
+                    }
+                    modelCacheHelper.setServingModelId(modelGroupId, modelId);
+                    listener.onResponse(modelId);
+                }
+            }, e -> {
+                if (e instanceof IndexNotFoundException) {
+                    listener.onFailure(new MLResourceNotFoundException("Failed to find model group with ID: " + modelGroupId));
+                } else {
+                    log.error("Failed to get model group " + modelGroupId, e);
+                    listener.onFailure(e);
+                }
+            }), context::restore));
+        } catch (Exception e) {
+            log.error("Failed to get serving model of model group " + modelGroupId, e);
+            listener.onFailure(e);
+        }
+    }
+
+    /**
+     * Sync the models serving predict requests to model groups.
+     *
+     * @param modelGroupServingModels model group id to serving model id
+     */
+    public void syncServingModelIds(Map<String, String> modelGroupServingModels) {
+        modelGroupServingModels.forEach(modelCacheHelper::setServingModelId);
+    }
+
     /**
      * Get model controller from model controller index.
      * 
@@ -1518,49 +1851,185 @@ public class MLModelManager {
     }
 
     /**
-     * Retreive a model's all chunks.
-     * 
-     * @param mlModelMeta model meta
-     * @param listener    action listener
+     * Retrieve a model's all chunks and verify the model content hash. The model file is restored from the
+     * local artifact cache if a verified file with the same content hash is cached.
+     *
+     * Chunks are read from the chunk peer if there is one, chunks the peer fails to serve are read from the model
+     * index. While retrieving, and for a while after, this node serves the chunks to its own peers. A model file
+     * restored from the artifact cache is served to peers too, if the cache kept the chunk offsets of the file.
+     *
+     * @param mlModelMeta      model meta
+     * @param modelContentHash expected model content hash, skip verification if null
+     * @param chunkPeer        peer node to read chunks from, can be null
+     * @param transportService transport service, can be null if chunk peer is null
+     * @param listener         action listener
      */
-    private void retrieveModelChunks(MLModel mlModelMeta, ActionListener<File> listener) throws InterruptedException {
+    private void retrieveModelChunks(
+        MLModel mlModelMeta,
+        String modelContentHash,
+        DiscoveryNode chunkPeer,
+        TransportService transportService,
+        ActionListener<File> listener
+    ) {
         String modelId = mlModelMeta.getModelId();
-        String modelName = mlModelMeta.getName();
-        Integer totalChunks = mlModelMeta.getTotalChunks();
-        GetRequest getRequest = new GetRequest();
-        getRequest.index(ML_MODEL_INDEX);
-        getRequest.id();
-        Semaphore semaphore = new Semaphore(1);
-        AtomicBoolean stopNow = new AtomicBoolean(false);
-        String modelZip = mlEngine.getDeployModelZipPath(modelId, modelName);
-        ConcurrentLinkedDeque<File> chunkFiles = new ConcurrentLinkedDeque();
-        AtomicInteger retrievedChunks = new AtomicInteger(0);
-        for (int i = 0; i < totalChunks; i++) {
-            semaphore.tryAcquire(10, TimeUnit.SECONDS);
-            if (stopNow.get()) {
-                throw new MLException("Failed to deploy model");
-            }
-            String modelChunkId = this.getModelChunkId(modelId, i);
-            int currentChunk = i;
-            this.getModel(modelChunkId, threadedActionListener(DEPLOY_THREAD_POOL, ActionListener.wrap(model -> {
-                Path chunkPath = mlEngine.getDeployModelChunkPath(modelId, currentChunk);
-                FileUtils.write(Base64.getDecoder().decode(model.getContent()), chunkPath.toString());
-                chunkFiles.add(new File(chunkPath.toUri()));
-                retrievedChunks.getAndIncrement();
-                if (retrievedChunks.get() == totalChunks) {
-                    File modelZipFile = new File(modelZip);
-                    FileUtils.mergeFiles(chunkFiles, modelZipFile);
-                    listener.onResponse(modelZipFile);
-                }
-                semaphore.release();
+        File modelZipFile = new File(mlEngine.getDeployModelZipPath(modelId, mlModelMeta.getName()));
+        if (modelArtifactCache.restore(modelContentHash, modelZipFile)) {
+            log.info("Restored model {} from local artifact cache, skip retrieving model chunks", modelId);
+            serveCachedModelChunks(mlModelMeta, modelContentHash, modelZipFile);
+            listener.onResponse(modelZipFile);
+            return;
+        }
+        BiConsumer<Integer, ActionListener<byte[]>> indexChunkReader = (chunkNumber, chunkListener) -> {
+            ActionListener<MLModel> chunkModelListener = ActionListener
+                .wrap(
+                    chunk -> chunkListener.onResponse(countChunkBytes(modelId, CHUNK_SOURCE_INDEX, chunk.getChunkContent())),
+                    chunkListener::onFailure
+                );
+            this.getModel(this.getModelChunkId(modelId, chunkNumber), threadedActionListener(DEPLOY_THREAD_POOL, chunkModelListener));
+        };
+        BiConsumer<Integer, ActionListener<byte[]>> chunkReader = indexChunkReader;
+        if (chunkPeer != null) {
+            log.info("Retrieve chunks of model {} from peer node {}", modelId, chunkPeer.getId());
+            chunkReader = (chunkNumber, chunkListener) -> {
+                ActionListener<MLModelChunkPeerResponse> peerListener = ActionListener
+                    .wrap(
+                        response -> chunkListener
+                            .onResponse(countChunkBytes(modelId, CHUNK_SOURCE_PEER, BytesReference.toBytes(response.getContent()))),
+                        e -> {
+                            log
+                                .debug(
+                                    "Failed to read chunk {} of model {} from peer node, read it from model index",
+                                    chunkNumber,
+                                    modelId
+                                );
+                            indexChunkReader.accept(chunkNumber, chunkListener);
+                        }
+                    );
+                transportService
+                    .sendRequest(
+                        chunkPeer,
+                        MLModelChunkPeerAction.NAME,
+                        new MLModelChunkPeerRequest(modelId, modelContentHash, chunkNumber),
+                        TransportRequestOptions.builder().withTimeout(PEER_CHUNK_TIMEOUT).build(),
+                        new ActionListenerResponseHandler<>(
+                            threadedActionListener(DEPLOY_THREAD_POOL, peerListener),
+                            MLModelChunkPeerResponse::new
+                        )
+                    );
+            };
+        }
+        AtomicReference<MLModelChunkRetriever> chunkRetrieverRef = new AtomicReference<>();
+        MLModelChunkRetriever chunkRetriever = new MLModelChunkRetriever(
+            modelId,
+            mlModelMeta.getTotalChunks(),
+            chunkFetchConcurrency,
+            modelZipFile,
+            mlModelMeta.getModelContentSizeInBytes(),
+            modelContentHash,
+            chunkReader,
+            ActionListener.wrap(file -> {
+                MLModelChunkRetriever retriever = chunkRetrieverRef.get();
+                threadPool
+                    .schedule(() -> releasePeerChunkSource(modelId, retriever), PEER_CHUNK_SOURCE_RETENTION, GENERAL_THREAD_POOL);
+                modelArtifactCache.put(modelContentHash, file, retriever.getChunkOffsets());
+                listener.onResponse(file);
             }, e -> {
-                stopNow.set(true);
-                semaphore.release();
-                log.error("Failed to retrieve model chunk " + modelChunkId, e);
-                if (retrievedChunks.get() == totalChunks - 1) {
-                    listener.onFailure(new MLResourceNotFoundException("Fail to find model chunk " + modelChunkId));
-                }
-            })));
+                releasePeerChunkSource(modelId, chunkRetrieverRef.get());
+                listener.onFailure(e);
+            })
+        );
+        chunkRetrieverRef.set(chunkRetriever);
+        if (peerChunkDistributionEnabled && modelContentHash != null) {
+            addPeerChunkSource(modelId, chunkRetriever);
+        }
+        chunkRetriever.start();
+    }
+
+    /**
+     * Serve the chunks of a model file restored from the artifact cache to peer nodes for a while, so peers reading
+     * chunks from this node don't fall back to the model index for every chunk.
+     */
+    private void serveCachedModelChunks(MLModel mlModelMeta, String modelContentHash, File modelZipFile) {
+        if (!peerChunkDistributionEnabled || modelContentHash == null) {
+            return;
+        }
+        String modelId = mlModelMeta.getModelId();
+        long[] chunkOffsets = modelArtifactCache.getChunkOffsets(modelContentHash);
+        if (chunkOffsets == null || mlModelMeta.getTotalChunks() == null || chunkOffsets.length != mlModelMeta.getTotalChunks() + 1) {
+            log.debug("Chunk offsets of model {} are not cached, can't serve its chunks to peer nodes", modelId);
+            return;
+        }
+        try {
+            MLModelChunkRetriever retriever = MLModelChunkRetriever.fromModelFile(modelId, modelZipFile, modelContentHash, chunkOffsets);
+            addPeerChunkSource(modelId, retriever);
+            threadPool.schedule(() -> releasePeerChunkSource(modelId, retriever), PEER_CHUNK_SOURCE_RETENTION, GENERAL_THREAD_POOL);
+        } catch (IOException e) {
+            log.debug("Failed to serve chunks of cached model " + modelId + " to peer nodes", e);
+        }
+    }
+
+    private void addPeerChunkSource(String modelId, MLModelChunkRetriever chunkRetriever) {
+        MLModelChunkRetriever previous = peerChunkSources.put(modelId, chunkRetriever);
+        if (previous != null) {
+            previous.release();
+        }
+    }
+
+    private byte[] countChunkBytes(String modelId, String source, byte[] content) {
+        if (content != null) {
+            mlMetrics.getChunkFetchBytes().labels(modelId, source).inc(content.length);
+        }
+        return content;
+    }
+
+    /**
+     * Pick the peer node to read model chunks from. Worker nodes of the deploy task form a tree ordered by node id
+     * with {@code peer_fan_out} children per node: the root reads chunks from the model index, every other node reads
+     * them from its parent while the parent is still retrieving them.
+     *
+     * @param workerNodes      worker nodes of the deploy task
+     * @param modelContentHash model content hash, chunks are never read from peers without it
+     * @param transportService transport service
+     * @return peer node, or null if chunks should be read from the model index
+     */
+    @VisibleForTesting
+    DiscoveryNode getChunkPeer(List<String> workerNodes, String modelContentHash, TransportService transportService) {
+        if (!peerChunkDistributionEnabled || transportService == null || modelContentHash == null || workerNodes == null) {
+            return null;
+        }
+        List<String> nodeIds = new ArrayList<>(new TreeSet<>(workerNodes));
+        int index = nodeIds.indexOf(clusterService.localNode().getId());
+        if (index <= 0) {
+            return null;
+        }
+        DiscoveryNode peer = clusterService.state().nodes().get(nodeIds.get((index - 1) / peerFanOut));
+        if (peer == null || peer.getVersion().before(MINIMAL_SUPPORTED_VERSION_FOR_PEER_CHUNK_DISTRIBUTION)) {
+            return null;
+        }
+        return peer;
+    }
+
+    /**
+     * Read a model chunk for a peer node deploying the same model. Fails if this node is not retrieving the model
+     * or retrieved it too long ago.
+     *
+     * @param modelId          model id
+     * @param modelContentHash model content hash
+     * @param chunkNumber      chunk number
+     * @param listener         action listener
+     */
+    public void readModelChunkForPeer(String modelId, String modelContentHash, int chunkNumber, ActionListener<byte[]> listener) {
+        MLModelChunkRetriever chunkRetriever = peerChunkSources.get(modelId);
+        if (chunkRetriever == null || !modelContentHash.equals(chunkRetriever.getModelContentHash())) {
+            listener.onFailure(new MLResourceNotFoundException("Chunks of model " + modelId + " are not available on this node"));
+            return;
+        }
+        chunkRetriever.readChunk(chunkNumber, listener);
+    }
+
+    private void releasePeerChunkSource(String modelId, MLModelChunkRetriever chunkRetriever) {
+        if (chunkRetriever != null && peerChunkSources.remove(modelId, chunkRetriever)) {
+            chunkRetriever.release();
         }
     }
 
@@ -1684,7 +2153,6 @@ public class MLModelManager {
                     mlStats
                         .createCounterStatIfAbsent(getModelFunctionName(modelId), ActionName.UNDEPLOY, ML_ACTION_REQUEST_COUNT)
                         .increment();
-                    mlStats.createModelCounterStatIfAbsent(modelId, ActionName.UNDEPLOY, ML_ACTION_REQUEST_COUNT).increment();
                 } else {
                     modelUndeployStatus.put(modelId, NOT_FOUND);
                 }
@@ -1696,7 +2164,6 @@ public class MLModelManager {
                 modelUndeployStatus.put(modelId, UNDEPLOYED);
                 mlStats.getStat(MLNodeLevelStat.ML_DEPLOYED_MODEL_COUNT).decrement();
                 mlStats.createCounterStatIfAbsent(getModelFunctionName(modelId), ActionName.UNDEPLOY, ML_ACTION_REQUEST_COUNT).increment();
-                mlStats.createModelCounterStatIfAbsent(modelId, ActionName.UNDEPLOY, ML_ACTION_REQUEST_COUNT).increment();
                 removeModel(modelId);
             }
         }
@@ -1706,6 +2173,9 @@ public class MLModelManager {
     private void removeModel(String modelId) {
         modelCacheHelper.removeModel(modelId);
         modelHelper.deleteFileCache(modelId);
+        // per model stats and metrics would otherwise grow with every model ever deployed on this node
+        mlStats.removeModelStats(modelId);
+        mlMetrics.removeModel(modelId);
     }
 
     /**
@@ -1761,6 +2231,16 @@ public class MLModelManager {
         return modelCacheHelper.getPredictor(modelId);
     }
 
+    /**
+     * Mark a predict request as running on the model, see {@link MLModelCacheHelper#acquireModel(String)}.
+     *
+     * @param modelId model id
+     * @return releasable to close when the request is done; null if the model is not deployed on this node
+     */
+    public Releasable acquireModel(String modelId) {
+        return modelCacheHelper.acquireModel(modelId);
+    }
+
     /**
      * Get all model ids in cache, both local model id and remote model in routing
      * table.
@@ -1789,6 +2269,15 @@ public class MLModelManager {
         modelCacheHelper.syncWorkerNodes(modelWorkerNodes);
     }
 
+    /**
+     * Update worker nodes of changed models in cache, other models are not touched.
+     *
+     * @param changedModelWorkerNodes worker nodes of changed models
+     */
+    public synchronized void updateModelWorkerNodes(Map<String, Set<String>> changedModelWorkerNodes) {
+        modelCacheHelper.updateWorkerNodes(changedModelWorkerNodes);
+    }
+
     /**
      * Clear all model worker nodes from cache.
      */
@@ -1809,6 +2298,26 @@ public class MLModelManager {
         return t;
     }
 
+    /**
+     * Add durations of predict stages to the latency stats of the model.
+     *
+     * @param modelId model id
+     * @param stageNanos predict stage to time in nanoseconds
+     */
+    public void addPredictStageDurations(String modelId, Map<MLPredictStage, Long> stageNanos) {
+        modelCacheHelper.addPredictStageDurations(modelId, stageNanos);
+    }
+
+    /**
+     * Add the resources used by a predict request to the resource accounting of the model.
+     *
+     * @param modelId model id
+     * @param profile profile of the predict request
+     */
+    public void addPredictResourceUsage(String modelId, MLPredictProfile profile) {
+        modelCacheHelper.addPredictResourceUsage(modelId, profile);
+    }
+
     public FunctionName getModelFunctionName(String modelId) {
         return modelCacheHelper.getFunctionName(modelId);
     }
@@ -1817,6 +2326,10 @@ public class MLModelManager {
         return modelCacheHelper.getOptionalFunctionName(modelId);
     }
 
+    public MLPredictRequestStats getPredictRequestStats(String modelId) {
+        return modelCacheHelper.getPredictRequestStats(modelId);
+    }
+
     public boolean isModelRunningOnNode(String modelId) {
         return modelCacheHelper.isModelRunningOnNode(modelId);
     }
@@ -14,6 +14,7 @@ import static org.opensearch.ml.common.CommonValue.ML_TASK_INDEX;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -55,19 +56,27 @@ import org.opensearch.ml.action.controller.UndeployControllerTransportAction;
 import org.opensearch.ml.action.controller.UpdateControllerTransportAction;
 import org.opensearch.ml.action.deploy.TransportDeployModelAction;
 import org.opensearch.ml.action.deploy.TransportDeployModelOnNodeAction;
+import org.opensearch.ml.action.deploy.TransportModelChunkPeerAction;
 import org.opensearch.ml.action.execute.TransportExecuteTaskAction;
 import org.opensearch.ml.action.forward.TransportForwardAction;
 import org.opensearch.ml.action.handler.MLSearchHandler;
+import org.opensearch.ml.action.metrics.MLMetricsAction;
+import org.opensearch.ml.action.metrics.MLMetricsTransportAction;
 import org.opensearch.ml.action.model_group.DeleteModelGroupTransportAction;
 import org.opensearch.ml.action.model_group.GetModelGroupTransportAction;
 import org.opensearch.ml.action.model_group.SearchModelGroupTransportAction;
 import org.opensearch.ml.action.model_group.TransportRegisterModelGroupAction;
+import org.opensearch.ml.action.model_group.TransportSwapModelAction;
 import org.opensearch.ml.action.model_group.TransportUpdateModelGroupAction;
 import org.opensearch.ml.action.models.DeleteModelTransportAction;
 import org.opensearch.ml.action.models.GetModelTransportAction;
 import org.opensearch.ml.action.models.SearchModelTransportAction;
 import org.opensearch.ml.action.models.UpdateModelTransportAction;
+import org.opensearch.ml.action.prediction.TransportBatchPredictionAction;
+import org.opensearch.ml.action.prediction.TransportBulkPredictionAction;
 import org.opensearch.ml.action.prediction.TransportPredictionTaskAction;
+import org.opensearch.ml.action.profile.MLCpuProfileAction;
+import org.opensearch.ml.action.profile.MLCpuProfileTransportAction;
 import org.opensearch.ml.action.profile.MLProfileAction;
 import org.opensearch.ml.action.profile.MLProfileTransportAction;
 import org.opensearch.ml.action.register.TransportRegisterModelAction;
@@ -107,6 +116,7 @@ import org.opensearch.ml.common.spi.MLCommonsExtension;
 import org.opensearch.ml.common.spi.memory.Memory;
 import org.opensearch.ml.common.spi.tools.Tool;
 import org.opensearch.ml.common.spi.tools.ToolAnnotation;
+import org.opensearch.ml.common.telemetry.MLTracer;
 import org.opensearch.ml.common.transport.agent.MLAgentDeleteAction;
 import org.opensearch.ml.common.transport.agent.MLAgentGetAction;
 import org.opensearch.ml.common.transport.agent.MLRegisterAgentAction;
@@ -125,6 +135,7 @@ import org.opensearch.ml.common.transport.controller.MLUndeployControllerAction;
 import org.opensearch.ml.common.transport.controller.MLUpdateControllerAction;
 import org.opensearch.ml.common.transport.deploy.MLDeployModelAction;
 import org.opensearch.ml.common.transport.deploy.MLDeployModelOnNodeAction;
+import org.opensearch.ml.common.transport.deploy.MLModelChunkPeerAction;
 import org.opensearch.ml.common.transport.execute.MLExecuteTaskAction;
 import org.opensearch.ml.common.transport.forward.MLForwardAction;
 import org.opensearch.ml.common.transport.model.MLModelDeleteAction;
@@ -134,8 +145,11 @@ import org.opensearch.ml.common.transport.model.MLUpdateModelAction;
 import org.opensearch.ml.common.transport.model_group.MLModelGroupDeleteAction;
 import org.opensearch.ml.common.transport.model_group.MLModelGroupGetAction;
 import org.opensearch.ml.common.transport.model_group.MLModelGroupSearchAction;
+import org.opensearch.ml.common.transport.model_group.MLModelGroupSwapAction;
 import org.opensearch.ml.common.transport.model_group.MLRegisterModelGroupAction;
 import org.opensearch.ml.common.transport.model_group.MLUpdateModelGroupAction;
+import org.opensearch.ml.common.transport.prediction.MLBatchPredictionAction;
+import org.opensearch.ml.common.transport.prediction.MLBulkPredictionAction;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskAction;
 import org.opensearch.ml.common.transport.register.MLRegisterModelAction;
 import org.opensearch.ml.common.transport.sync.MLSyncUpAction;
@@ -199,7 +213,12 @@ import org.opensearch.ml.memory.index.ConversationMetaIndex;
 import org.opensearch.ml.memory.index.OpenSearchConversationalMemoryHandler;
 import org.opensearch.ml.model.MLModelCacheHelper;
 import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.ml.profile.MLCpuProfiler;
+import org.opensearch.ml.profile.MLPredictSlowLog;
 import org.opensearch.ml.repackage.com.google.common.collect.ImmutableList;
+import org.opensearch.ml.rest.RestMLBatchPredictionAction;
+import org.opensearch.ml.rest.RestMLBulkPredictionAction;
+import org.opensearch.ml.rest.RestMLCpuProfileAction;
 import org.opensearch.ml.rest.RestMLCreateConnectorAction;
 import org.opensearch.ml.rest.RestMLCreateControllerAction;
 import org.opensearch.ml.rest.RestMLDeleteAgentAction;
@@ -219,6 +238,7 @@ import org.opensearch.ml.rest.RestMLGetModelGroupAction;
 import org.opensearch.ml.rest.RestMLGetTaskAction;
 import org.opensearch.ml.rest.RestMLGetToolAction;
 import org.opensearch.ml.rest.RestMLListToolsAction;
+import org.opensearch.ml.rest.RestMLMetricsAction;
 import org.opensearch.ml.rest.RestMLPredictionAction;
 import org.opensearch.ml.rest.RestMLProfileAction;
 import org.opensearch.ml.rest.RestMLRegisterAgentAction;
@@ -231,6 +251,7 @@ import org.opensearch.ml.rest.RestMLSearchModelAction;
 import org.opensearch.ml.rest.RestMLSearchModelGroupAction;
 import org.opensearch.ml.rest.RestMLSearchTaskAction;
 import org.opensearch.ml.rest.RestMLStatsAction;
+import org.opensearch.ml.rest.RestMLSwapModelGroupAction;
 import org.opensearch.ml.rest.RestMLTrainAndPredictAction;
 import org.opensearch.ml.rest.RestMLTrainingAction;
 import org.opensearch.ml.rest.RestMLUndeployModelAction;
@@ -257,12 +278,14 @@ import org.opensearch.ml.stats.MLClusterLevelStat;
 import org.opensearch.ml.stats.MLNodeLevelStat;
 import org.opensearch.ml.stats.MLStat;
 import org.opensearch.ml.stats.MLStats;
+import org.opensearch.ml.stats.metrics.MLMetricsRegistry;
 import org.opensearch.ml.stats.suppliers.CounterSupplier;
 import org.opensearch.ml.stats.suppliers.IndexStatusSupplier;
 import org.opensearch.ml.task.MLExecuteTaskRunner;
 import org.opensearch.ml.task.MLPredictTaskRunner;
 import org.opensearch.ml.task.MLTaskDispatcher;
 import org.opensearch.ml.task.MLTaskManager;
+import org.opensearch.ml.task.MLTaskUpdateBuffer;
 import org.opensearch.ml.task.MLTrainAndPredictTaskRunner;
 import org.opensearch.ml.task.MLTrainingTaskRunner;
 import org.opensearch.ml.tools.GetToolTransportAction;
@@ -275,6 +298,7 @@ import org.opensearch.plugins.ExtensiblePlugin;
 import org.opensearch.plugins.Plugin;
 import org.opensearch.plugins.SearchPipelinePlugin;
 import org.opensearch.plugins.SearchPlugin;
+import org.opensearch.plugins.TelemetryAwarePlugin;
 import org.opensearch.repositories.RepositoriesService;
 import org.opensearch.rest.RestController;
 import org.opensearch.rest.RestHandler;
@@ -286,6 +310,8 @@ import org.opensearch.searchpipelines.questionanswering.generative.GenerativeQAP
 import org.opensearch.searchpipelines.questionanswering.generative.GenerativeQARequestProcessor;
 import org.opensearch.searchpipelines.questionanswering.generative.GenerativeQAResponseProcessor;
 import org.opensearch.searchpipelines.questionanswering.generative.ext.GenerativeQAParamExtBuilder;
+import org.opensearch.telemetry.metrics.MetricsRegistry;
+import org.opensearch.telemetry.tracing.Tracer;
 import org.opensearch.threadpool.ExecutorBuilder;
 import org.opensearch.threadpool.FixedExecutorBuilder;
 import org.opensearch.threadpool.ThreadPool;
@@ -295,7 +321,13 @@ import com.google.common.annotations.VisibleForTesting;
 
 import lombok.SneakyThrows;
 
-public class MachineLearningPlugin extends Plugin implements ActionPlugin, SearchPlugin, SearchPipelinePlugin, ExtensiblePlugin {
+public class MachineLearningPlugin extends Plugin
+    implements
+        ActionPlugin,
+        SearchPlugin,
+        SearchPipelinePlugin,
+        ExtensiblePlugin,
+        TelemetryAwarePlugin {
     public static final String ML_THREAD_POOL_PREFIX = "thread_pool.ml_commons.";
     public static final String GENERAL_THREAD_POOL = "opensearch_ml_general";
     public static final String EXECUTE_THREAD_POOL = "opensearch_ml_execute";
@@ -303,9 +335,13 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
     public static final String PREDICT_THREAD_POOL = "opensearch_ml_predict";
     public static final String REGISTER_THREAD_POOL = "opensearch_ml_register";
     public static final String DEPLOY_THREAD_POOL = "opensearch_ml_deploy";
+    public static final String SLOW_LOG_THREAD_POOL = "opensearch_ml_slowlog";
     public static final String ML_BASE_URI = "/_plugins/_ml";
 
     private MLStats mlStats;
+    // created with the plugin, the telemetry registry may be bound before or after the other components are created
+    private final MLMetricsRegistry mlMetrics = new MLMetricsRegistry();
+    private final MLTracer mlTracer = new MLTracer();
     private MLModelCacheHelper modelCacheHelper;
     private MLTaskManager mlTaskManager;
     private MLModelManager mlModelManager;
@@ -313,6 +349,7 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
     private MLInputDatasetHandler mlInputDatasetHandler;
     private MLTrainingTaskRunner mlTrainingTaskRunner;
     private MLPredictTaskRunner mlPredictTaskRunner;
+    private MLCpuProfiler mlCpuProfiler;
     private MLTrainAndPredictTaskRunner mlTrainAndPredictTaskRunner;
     private MLExecuteTaskRunner mlExecuteTaskRunner;
     private IndexUtils indexUtils;
@@ -353,6 +390,9 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
                 new ActionHandler<>(MLStatsNodesAction.INSTANCE, MLStatsNodesTransportAction.class),
                 new ActionHandler<>(MLExecuteTaskAction.INSTANCE, TransportExecuteTaskAction.class),
                 new ActionHandler<>(MLPredictionTaskAction.INSTANCE, TransportPredictionTaskAction.class),
+                new ActionHandler<>(MLBulkPredictionAction.INSTANCE, TransportBulkPredictionAction.class),
+                new ActionHandler<>(MLBatchPredictionAction.INSTANCE, TransportBatchPredictionAction.class),
+                new ActionHandler<>(MLModelGroupSwapAction.INSTANCE, TransportSwapModelAction.class),
                 new ActionHandler<>(MLTrainingTaskAction.INSTANCE, TransportTrainingTaskAction.class),
                 new ActionHandler<>(MLTrainAndPredictionTaskAction.INSTANCE, TransportTrainAndPredictionTaskAction.class),
                 new ActionHandler<>(MLModelGetAction.INSTANCE, GetModelTransportAction.class),
@@ -362,9 +402,12 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
                 new ActionHandler<>(MLTaskDeleteAction.INSTANCE, DeleteTaskTransportAction.class),
                 new ActionHandler<>(MLTaskSearchAction.INSTANCE, SearchTaskTransportAction.class),
                 new ActionHandler<>(MLProfileAction.INSTANCE, MLProfileTransportAction.class),
+                new ActionHandler<>(MLCpuProfileAction.INSTANCE, MLCpuProfileTransportAction.class),
+                new ActionHandler<>(MLMetricsAction.INSTANCE, MLMetricsTransportAction.class),
                 new ActionHandler<>(MLRegisterModelAction.INSTANCE, TransportRegisterModelAction.class),
                 new ActionHandler<>(MLDeployModelAction.INSTANCE, TransportDeployModelAction.class),
                 new ActionHandler<>(MLDeployModelOnNodeAction.INSTANCE, TransportDeployModelOnNodeAction.class),
+                new ActionHandler<>(MLModelChunkPeerAction.INSTANCE, TransportModelChunkPeerAction.class),
                 new ActionHandler<>(MLUndeployModelAction.INSTANCE, TransportUndeployModelAction.class),
                 new ActionHandler<>(MLUndeployModelsAction.INSTANCE, TransportUndeployModelsAction.class),
                 new ActionHandler<>(MLRegisterModelMetaAction.INSTANCE, TransportRegisterModelMetaAction.class),
@@ -444,8 +487,13 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
 
         JvmService jvmService = new JvmService(environment.settings());
         OsService osService = new OsService(environment.settings());
-        MLCircuitBreakerService mlCircuitBreakerService = new MLCircuitBreakerService(jvmService, osService, settings, clusterService)
-            .init(dataPath);
+        MLCircuitBreakerService mlCircuitBreakerService = new MLCircuitBreakerService(
+            jvmService,
+            osService,
+            settings,
+            clusterService,
+            mlMetrics
+        ).init(dataPath);
 
         Map<Enum, MLStat<?>> stats = new ConcurrentHashMap<>();
         // cluster level stats
@@ -468,9 +516,22 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
         stats.put(MLNodeLevelStat.ML_DEPLOYED_MODEL_COUNT, new MLStat<>(false, new CounterSupplier()));
         stats.put(MLNodeLevelStat.ML_CIRCUIT_BREAKER_TRIGGER_COUNT, new MLStat<>(false, new CounterSupplier()));
         this.mlStats = new MLStats(stats);
+        mlMetrics.registerStats(mlStats);
+        mlMetrics
+            .registerThreadPools(
+                threadPool,
+                GENERAL_THREAD_POOL,
+                EXECUTE_THREAD_POOL,
+                TRAIN_THREAD_POOL,
+                PREDICT_THREAD_POOL,
+                REGISTER_THREAD_POOL,
+                DEPLOY_THREAD_POOL,
+                SLOW_LOG_THREAD_POOL
+            );
 
         mlIndicesHandler = new MLIndicesHandler(clusterService, client);
-        mlTaskManager = new MLTaskManager(client, threadPool, mlIndicesHandler);
+        MLTaskUpdateBuffer mlTaskUpdateBuffer = new MLTaskUpdateBuffer(client, threadPool, clusterService, settings);
+        mlTaskManager = new MLTaskManager(client, threadPool, mlIndicesHandler, mlTaskUpdateBuffer);
         modelHelper = new ModelHelper(mlEngine);
         mlModelManager = new MLModelManager(
             clusterService,
@@ -481,19 +542,27 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
             modelHelper,
             settings,
             mlStats,
+            mlMetrics,
             mlCircuitBreakerService,
             mlIndicesHandler,
             mlTaskManager,
             modelCacheHelper,
             mlEngine,
-            nodeHelper
+            nodeHelper,
+            mlTracer
         );
         mlInputDatasetHandler = new MLInputDatasetHandler(client);
         modelAccessControlHelper = new ModelAccessControlHelper(clusterService, settings);
         connectorAccessControlHelper = new ConnectorAccessControlHelper(clusterService, settings);
         mlFeatureEnabledSetting = new MLFeatureEnabledSetting(clusterService, settings);
 
-        mlModelChunkUploader = new MLModelChunkUploader(mlIndicesHandler, client, xContentRegistry, modelAccessControlHelper);
+        mlModelChunkUploader = new MLModelChunkUploader(
+            mlIndicesHandler,
+            client,
+            xContentRegistry,
+            modelAccessControlHelper,
+            clusterService
+        );
 
         MLTaskDispatcher mlTaskDispatcher = new MLTaskDispatcher(clusterService, client, settings, nodeHelper);
         mlTrainingTaskRunner = new MLTrainingTaskRunner(
@@ -515,14 +584,18 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
             client,
             mlTaskManager,
             mlStats,
+            mlMetrics,
             mlInputDatasetHandler,
             mlTaskDispatcher,
             mlCircuitBreakerService,
             xContentRegistry,
             mlModelManager,
             nodeHelper,
-            mlEngine
+            mlEngine,
+            new MLPredictSlowLog(settings, clusterService, threadPool, SLOW_LOG_THREAD_POOL),
+            mlTracer
         );
+        mlCpuProfiler = new MLCpuProfiler(settings, clusterService, threadPool);
         mlTrainAndPredictTaskRunner = new MLTrainAndPredictTaskRunner(
             threadPool,
             clusterService,
@@ -629,6 +702,9 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
                 nodeHelper,
                 modelCacheHelper,
                 mlStats,
+                mlMetrics,
+                mlTracer,
+                mlCpuProfiler,
                 mlTaskManager,
                 mlModelManager,
                 mlIndicesHandler,
@@ -652,6 +728,28 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
             );
     }
 
+    @Override
+    public Collection<Object> createComponents(
+        Client client,
+        ClusterService clusterService,
+        ThreadPool threadPool,
+        ResourceWatcherService resourceWatcherService,
+        ScriptService scriptService,
+        NamedXContentRegistry xContentRegistry,
+        Environment environment,
+        NodeEnvironment nodeEnvironment,
+        NamedWriteableRegistry namedWriteableRegistry,
+        IndexNameExpressionResolver indexNameExpressionResolver,
+        Supplier<RepositoriesService> repositoriesServiceSupplier,
+        Tracer tracer,
+        MetricsRegistry metricsRegistry
+    ) {
+        // components are created by the other createComponents, this one only records ML metrics and spans into telemetry
+        mlMetrics.bind(metricsRegistry);
+        mlTracer.bind(tracer, threadPool.getThreadContext());
+        return Collections.emptyList();
+    }
+
     @Override
     public List<RestHandler> getRestHandlers(
         Settings settings,
@@ -663,9 +761,19 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
         Supplier<DiscoveryNodes> nodesInCluster
     ) {
         RestMLStatsAction restMLStatsAction = new RestMLStatsAction(mlStats, clusterService, indexUtils, xContentRegistry);
+        RestMLMetricsAction restMLMetricsAction = new RestMLMetricsAction();
+        RestMLCpuProfileAction restMLCpuProfileAction = new RestMLCpuProfileAction();
         RestMLTrainingAction restMLTrainingAction = new RestMLTrainingAction();
         RestMLTrainAndPredictAction restMLTrainAndPredictAction = new RestMLTrainAndPredictAction();
         RestMLPredictionAction restMLPredictionAction = new RestMLPredictionAction(mlModelManager, mlFeatureEnabledSetting);
+        RestMLBulkPredictionAction restMLBulkPredictionAction = new RestMLBulkPredictionAction(
+            mlModelManager,
+            mlFeatureEnabledSetting,
+            clusterService,
+            settings
+        );
+        RestMLBatchPredictionAction restMLBatchPredictionAction = new RestMLBatchPredictionAction();
+        RestMLSwapModelGroupAction restMLSwapModelGroupAction = new RestMLSwapModelGroupAction();
         RestMLExecuteAction restMLExecuteAction = new RestMLExecuteAction(mlFeatureEnabledSetting);
         RestMLGetModelAction restMLGetModelAction = new RestMLGetModelAction();
         RestMLDeleteModelAction restMLDeleteModelAction = new RestMLDeleteModelAction();
@@ -720,8 +828,13 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
         return ImmutableList
             .of(
                 restMLStatsAction,
+                restMLMetricsAction,
+                restMLCpuProfileAction,
                 restMLTrainingAction,
                 restMLPredictionAction,
+                restMLBulkPredictionAction,
+                restMLBatchPredictionAction,
+                restMLSwapModelGroupAction,
                 restMLExecuteAction,
                 restMLTrainAndPredictAction,
                 restMLGetModelAction,
@@ -823,9 +936,26 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
             ML_THREAD_POOL_PREFIX + PREDICT_THREAD_POOL,
             false
         );
+        // writes the predict slow log, entries are dropped when the queue is full
+        FixedExecutorBuilder slowLogThreadPool = new FixedExecutorBuilder(
+            settings,
+            SLOW_LOG_THREAD_POOL,
+            1,
+            1000,
+            ML_THREAD_POOL_PREFIX + SLOW_LOG_THREAD_POOL,
+            false
+        );
 
         return ImmutableList
-            .of(generalThreadPool, registerModelThreadPool, deployModelThreadPool, executeThreadPool, trainThreadPool, predictThreadPool);
+            .of(
+                generalThreadPool,
+                registerModelThreadPool,
+                deployModelThreadPool,
+                executeThreadPool,
+                trainThreadPool,
+                predictThreadPool,
+                slowLogThreadPool
+            );
     }
 
     @Override
@@ -874,12 +1004,43 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
                 MLCommonsSettings.ML_COMMONS_MODEL_ACCESS_CONTROL_ENABLED,
                 MLCommonsSettings.ML_COMMONS_CONNECTOR_ACCESS_CONTROL_ENABLED,
                 MLCommonsSettings.ML_COMMONS_TRUSTED_CONNECTOR_ENDPOINTS_REGEX,
+                MLCommonsSettings.ML_COMMONS_CONNECTOR_PRIVATE_IP_ENABLED,
+                MLCommonsSettings.ML_COMMONS_MAX_MODEL_STATS_PER_NODE,
+                MLCommonsSettings.ML_COMMONS_PREDICT_SLOWLOG_THRESHOLD_WARN,
+                MLCommonsSettings.ML_COMMONS_PREDICT_SLOWLOG_THRESHOLD_INFO,
+                MLCommonsSettings.ML_COMMONS_PREDICT_SLOWLOG_THRESHOLD_DEBUG,
+                MLCommonsSettings.ML_COMMONS_PREDICT_SLOWLOG_STAGE_THRESHOLD_WARN,
+                MLCommonsSettings.ML_COMMONS_PREDICT_SLOWLOG_STAGE_THRESHOLD_INFO,
+                MLCommonsSettings.ML_COMMONS_PREDICT_SLOWLOG_STAGE_THRESHOLD_DEBUG,
+                MLCommonsSettings.ML_COMMONS_PREDICT_SLOWLOG_MODEL_THRESHOLD,
+                MLCommonsSettings.ML_COMMONS_PREDICT_SLOWLOG_SAMPLE_RATE,
+                MLCommonsSettings.ML_COMMONS_PREDICT_SLOWLOG_INPUT_MAX_CHARS,
+                MLCommonsSettings.ML_COMMONS_CPU_PROFILER_ENABLED,
+                MLCommonsSettings.ML_COMMONS_CPU_PROFILER_MAX_DURATION,
+                MLCommonsSettings.ML_COMMONS_CPU_PROFILER_OVERHEAD_BUDGET,
                 MLCommonsSettings.ML_COMMONS_REMOTE_MODEL_ELIGIBLE_NODE_ROLES,
                 MLCommonsSettings.ML_COMMONS_LOCAL_MODEL_ELIGIBLE_NODE_ROLES,
                 MLCommonsSettings.ML_COMMONS_REMOTE_INFERENCE_ENABLED,
                 MLCommonsSettings.ML_COMMONS_MEMORY_FEATURE_ENABLED,
                 MLCommonsSettings.ML_COMMONS_RAG_PIPELINE_FEATURE_ENABLED,
-                MLCommonsSettings.ML_COMMONS_AGENT_FRAMEWORK_ENABLED
+                MLCommonsSettings.ML_COMMONS_AGENT_FRAMEWORK_ENABLED,
+                MLCommonsSettings.ML_COMMONS_TASK_UPDATE_BUFFER_ENABLED,
+                MLCommonsSettings.ML_COMMONS_TASK_UPDATE_BUFFER_FLUSH_INTERVAL_IN_MILLIS,
+                MLCommonsSettings.ML_COMMONS_TASK_UPDATE_BUFFER_MAX_BATCH_SIZE,
+                MLCommonsSettings.ML_COMMONS_BULK_PREDICT_MAX_CONCURRENCY_PER_NODE,
+                MLCommonsSettings.ML_COMMONS_BULK_PREDICT_MAX_INPUTS,
+                MLCommonsSettings.ML_COMMONS_PREDICT_PREFER_LOCAL_WORKER,
+                MLCommonsSettings.ML_COMMONS_DEPLOY_CHUNK_FETCH_CONCURRENCY,
+                MLCommonsSettings.ML_COMMONS_MODEL_ARTIFACT_CACHE_ENABLED,
+                MLCommonsSettings.ML_COMMONS_MODEL_ARTIFACT_CACHE_MAX_SIZE_IN_MB,
+                MLCommonsSettings.ML_COMMONS_DEPLOY_PEER_CHUNK_DISTRIBUTION_ENABLED,
+                MLCommonsSettings.ML_COMMONS_DEPLOY_PEER_FAN_OUT,
+                MLCommonsSettings.ML_COMMONS_REGISTER_CHUNK_INDEX_CONCURRENCY,
+                MLCommonsSettings.ML_COMMONS_REGISTER_MAX_MODEL_SIZE_IN_MB,
+                MLCommonsSettings.ML_COMMONS_DEPLOY_NATIVE_MEMORY_ADMISSION_PERCENT,
+                MLCommonsSettings.ML_COMMONS_MODEL_IDLE_TTL_IN_MINUTES,
+                MLCommonsSettings.ML_COMMONS_LAZY_DEPLOY_MAX_QUEUED_REQUESTS,
+                MLCommonsSettings.ML_COMMONS_MODEL_AUTO_REDEPLOY_CONCURRENCY
             );
         return settings;
     }
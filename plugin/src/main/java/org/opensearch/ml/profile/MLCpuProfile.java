@@ -0,0 +1,86 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.profile;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Result of a CPU profiling session of the ML thread pools of a node. Stacks are folded, frames are separated by ";" from
+ * the thread pool and the model id down to the leaf method, the format read by flame graph tools.
+ */
+@Getter
+@Builder
+public class MLCpuProfile implements ToXContentObject {
+    public static final String NODE_FIELD = "node";
+    public static final String DURATION_IN_MILLIS_FIELD = "duration_in_millis";
+    public static final String INTERVAL_IN_MILLIS_FIELD = "interval_in_millis";
+    public static final String SAMPLES_FIELD = "samples";
+    public static final String SKIPPED_SAMPLES_FIELD = "skipped_samples";
+    public static final String DROPPED_STACKS_FIELD = "dropped_stacks";
+    public static final String SAMPLING_TIME_IN_NANOS_FIELD = "sampling_time_in_nanos";
+    public static final String STACKS_FIELD = "stacks";
+
+    private final String nodeId;
+    private final TimeValue duration;
+    private final TimeValue interval;
+    // samples taken, one sample covers every running ML thread
+    private final long samples;
+    // samples skipped to keep the sampling time within the overhead budget
+    private final long skippedSamples;
+    // thread stacks not counted because the max number of distinct stacks was reached
+    private final long droppedStacks;
+    private final long samplingTimeInNanos;
+    // folded stack to the number of times it was sampled
+    private final Map<String, Long> stacks;
+
+    /**
+     * Folded stacks, one "stack count" line per stack, most sampled first.
+     *
+     * @return folded stacks
+     */
+    public String toFoldedStacks() {
+        StringBuilder builder = new StringBuilder();
+        for (Map.Entry<String, Long> entry : sortedStacks()) {
+            builder.append(entry.getKey()).append(' ').append(entry.getValue()).append('\n');
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        builder.field(NODE_FIELD, nodeId);
+        builder.field(DURATION_IN_MILLIS_FIELD, duration.millis());
+        builder.field(INTERVAL_IN_MILLIS_FIELD, interval.millis());
+        builder.field(SAMPLES_FIELD, samples);
+        builder.field(SKIPPED_SAMPLES_FIELD, skippedSamples);
+        builder.field(DROPPED_STACKS_FIELD, droppedStacks);
+        builder.field(SAMPLING_TIME_IN_NANOS_FIELD, samplingTimeInNanos);
+        builder.startObject(STACKS_FIELD);
+        for (Map.Entry<String, Long> entry : sortedStacks()) {
+            builder.field(entry.getKey(), entry.getValue());
+        }
+        builder.endObject();
+        builder.endObject();
+        return builder;
+    }
+
+    private List<Map.Entry<String, Long>> sortedStacks() {
+        List<Map.Entry<String, Long>> entries = new ArrayList<>(stacks.entrySet());
+        entries.sort(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+        return entries;
+    }
+}
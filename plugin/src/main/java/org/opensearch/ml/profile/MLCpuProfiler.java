@@ -0,0 +1,302 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.profile;
+
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_CPU_PROFILER_ENABLED;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_CPU_PROFILER_MAX_DURATION;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_CPU_PROFILER_OVERHEAD_BUDGET;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Sampling CPU profiler of the ML thread pools, to find hotspots in translators, tokenizers, post-processing or scripts
+ * without attaching an external profiler to the node. A profiling session runs for a bounded duration, one at a time per
+ * node. Every interval it takes the stacks of the running threads of the "opensearch_ml_*" thread pools and counts them
+ * as folded stacks, rooted at the thread pool and the model the thread predicts for.
+ *
+ * Sampling stops the sampled threads at a safepoint, so the time spent sampling is bounded by the overhead budget: a
+ * sample is skipped while the sampling time is over the budget fraction of the elapsed profiling time.
+ */
+@Log4j2
+public class MLCpuProfiler {
+    public static final TimeValue DEFAULT_DURATION = TimeValue.timeValueSeconds(30);
+    public static final TimeValue DEFAULT_INTERVAL = TimeValue.timeValueMillis(50);
+    public static final TimeValue MIN_INTERVAL = TimeValue.timeValueMillis(10);
+    // root frame of the threads not running a model
+    static final String NO_MODEL = "no_model";
+    static final int MAX_STACK_DEPTH = 128;
+    // bounds the memory of a session, stacks sampled after that are dropped unless they are already counted
+    static final int MAX_STACKS = 10_000;
+    // threads of the ML thread pools are created on demand, the thread ids are looked up again after this time
+    private static final long THREAD_REFRESH_NANOS = TimeValue.timeValueSeconds(1).nanos();
+    private static final Pattern THREAD_POOL_PATTERN = Pattern.compile("\\[(opensearch_ml_[^\\]]+)\\]");
+    private static final Releasable NO_OP = () -> {};
+
+    // Model of the threads running a predict, set by the thread itself like a thread-local but keyed by the thread id,
+    // so the sampling thread can read it. Only set while a session runs.
+    private static final Map<Long, String> THREAD_MODELS = new ConcurrentHashMap<>();
+    private static volatile boolean attributing;
+
+    private final ClusterService clusterService;
+    private final ThreadPool threadPool;
+    private final ThreadMXBean threadMXBean;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile boolean enabled;
+    private volatile TimeValue maxDuration;
+    private volatile double overheadBudget;
+
+    /**
+     * Constructor
+     *
+     * @param settings       node settings
+     * @param clusterService cluster service
+     * @param threadPool     thread pool running the sampling
+     */
+    public MLCpuProfiler(Settings settings, ClusterService clusterService, ThreadPool threadPool) {
+        this(settings, clusterService, threadPool, ManagementFactory.getThreadMXBean());
+    }
+
+    @VisibleForTesting
+    MLCpuProfiler(Settings settings, ClusterService clusterService, ThreadPool threadPool, ThreadMXBean threadMXBean) {
+        this.clusterService = clusterService;
+        this.threadPool = threadPool;
+        this.threadMXBean = threadMXBean;
+        enabled = ML_COMMONS_CPU_PROFILER_ENABLED.get(settings);
+        maxDuration = ML_COMMONS_CPU_PROFILER_MAX_DURATION.get(settings);
+        overheadBudget = ML_COMMONS_CPU_PROFILER_OVERHEAD_BUDGET.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_CPU_PROFILER_ENABLED, it -> enabled = it);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_CPU_PROFILER_MAX_DURATION, it -> maxDuration = it);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_CPU_PROFILER_OVERHEAD_BUDGET, it -> overheadBudget = it);
+    }
+
+    /**
+     * Attribute the samples of the current thread to a model until the returned releasable is closed. Nested calls
+     * restore the model of the outer call. It's a no-op when no profiling session runs.
+     *
+     * @param modelId model id
+     * @return releasable ending the attribution
+     */
+    public static Releasable attributeToModel(String modelId) {
+        if (!attributing || modelId == null) {
+            return NO_OP;
+        }
+        long threadId = Thread.currentThread().getId();
+        String previous = THREAD_MODELS.put(threadId, modelId);
+        return () -> {
+            if (previous == null) {
+                THREAD_MODELS.remove(threadId);
+            } else {
+                THREAD_MODELS.put(threadId, previous);
+            }
+        };
+    }
+
+    /**
+     * Get the model the samples of a thread are attributed to.
+     *
+     * @param threadId thread id
+     * @return model id, null if the thread doesn't run a model
+     */
+    static String getModel(long threadId) {
+        return THREAD_MODELS.get(threadId);
+    }
+
+    /**
+     * Profile the ML thread pools of this node. The listener is called with the profile once the duration is over, or with
+     * the failure if the profiler is disabled, the parameters are invalid or another session is running.
+     *
+     * @param duration profiling duration
+     * @param interval sampling interval
+     * @param listener listener of the profile
+     */
+    public void profile(TimeValue duration, TimeValue interval, ActionListener<MLCpuProfile> listener) {
+        if (!enabled) {
+            listener
+                .onFailure(
+                    new IllegalStateException(
+                        "The CPU profiler is disabled, enable it with setting " + ML_COMMONS_CPU_PROFILER_ENABLED.getKey()
+                    )
+                );
+            return;
+        }
+        TimeValue maxDuration = this.maxDuration;
+        if (duration.compareTo(maxDuration) > 0) {
+            listener.onFailure(new IllegalArgumentException("Profiling duration can't be longer than " + maxDuration));
+            return;
+        }
+        if (interval.compareTo(MIN_INTERVAL) < 0 || interval.compareTo(duration) > 0) {
+            listener
+                .onFailure(new IllegalArgumentException("Sampling interval must be between " + MIN_INTERVAL + " and the duration"));
+            return;
+        }
+        if (!running.compareAndSet(false, true)) {
+            listener.onFailure(new OpenSearchStatusException("The CPU profiler is already running on this node", RestStatus.CONFLICT));
+            return;
+        }
+        try {
+            attributing = true;
+            Session session = new Session(duration, interval, overheadBudget);
+            Scheduler.Cancellable sampling = threadPool.scheduleWithFixedDelay(session::sample, interval, ThreadPool.Names.GENERIC);
+            threadPool.schedule(() -> {
+                sampling.cancel();
+                stop();
+                listener.onResponse(session.toProfile(clusterService.localNode().getId()));
+            }, duration, ThreadPool.Names.GENERIC);
+            log.info("Started CPU profiling of the ML thread pools for {}, sampling every {}", duration, interval);
+        } catch (Exception e) {
+            stop();
+            listener.onFailure(e);
+        }
+    }
+
+    private void stop() {
+        attributing = false;
+        running.set(false);
+    }
+
+    /**
+     * Get the ML thread pool of a thread from the thread name, like "opensearch[node_name][opensearch_ml_predict][T#1]".
+     *
+     * @param threadName thread name
+     * @return thread pool name, null if it's not a thread of an ML thread pool
+     */
+    static String getThreadPool(String threadName) {
+        Matcher matcher = THREAD_POOL_PATTERN.matcher(threadName);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    /**
+     * Fold a stack from the root frames down to the leaf frame.
+     *
+     * @param threadPool thread pool of the thread
+     * @param modelId    model of the thread, null if it doesn't run a model
+     * @param stack      stack trace, leaf frame first
+     * @return folded stack
+     */
+    static String foldStack(String threadPool, String modelId, StackTraceElement[] stack) {
+        StringBuilder builder = new StringBuilder(threadPool).append(';').append(modelId == null ? NO_MODEL : modelId);
+        for (int i = stack.length - 1; i >= 0; i--) {
+            builder.append(';').append(stack[i].getClassName()).append('.').append(stack[i].getMethodName());
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Samples of one profiling session. Samples are taken one at a time on the generic thread pool, the last one may
+     * still run when the session ends.
+     */
+    class Session {
+        private final TimeValue duration;
+        private final TimeValue interval;
+        private final double overheadBudget;
+        private final long startNanos = System.nanoTime();
+        private final Map<String, Long> stacks = new HashMap<>();
+        // thread id to thread pool of the threads of the ML thread pools
+        private Map<Long, String> threads = new HashMap<>();
+        private long threadsRefreshNanos;
+        private long samples;
+        private long skippedSamples;
+        private long droppedStacks;
+        private long samplingTimeInNanos;
+
+        Session(TimeValue duration, TimeValue interval, double overheadBudget) {
+            this.duration = duration;
+            this.interval = interval;
+            this.overheadBudget = overheadBudget;
+        }
+
+        synchronized void sample() {
+            long sampleStartNanos = System.nanoTime();
+            if (samplingTimeInNanos > overheadBudget * (sampleStartNanos - startNanos)) {
+                skippedSamples++;
+                return;
+            }
+            try {
+                AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
+                    if (threads.isEmpty() || sampleStartNanos - threadsRefreshNanos > THREAD_REFRESH_NANOS) {
+                        refreshThreads();
+                        threadsRefreshNanos = sampleStartNanos;
+                    }
+                    if (!threads.isEmpty()) {
+                        long[] threadIds = threads.keySet().stream().mapToLong(Long::longValue).toArray();
+                        addSample(threadMXBean.getThreadInfo(threadIds, MAX_STACK_DEPTH));
+                    }
+                    return null;
+                });
+                samples++;
+            } catch (Exception e) {
+                log.debug("Failed to sample the ML thread pools", e);
+            } finally {
+                samplingTimeInNanos += System.nanoTime() - sampleStartNanos;
+            }
+        }
+
+        private void refreshThreads() {
+            Map<Long, String> threads = new HashMap<>();
+            for (ThreadInfo threadInfo : threadMXBean.getThreadInfo(threadMXBean.getAllThreadIds(), 0)) {
+                String threadPool = threadInfo == null ? null : getThreadPool(threadInfo.getThreadName());
+                if (threadPool != null) {
+                    threads.put(threadInfo.getThreadId(), threadPool);
+                }
+            }
+            this.threads = threads;
+        }
+
+        private void addSample(ThreadInfo[] threadInfos) {
+            for (ThreadInfo threadInfo : threadInfos) {
+                // idle threads wait for tasks, only running threads use CPU
+                if (threadInfo == null || threadInfo.getThreadState() != Thread.State.RUNNABLE) {
+                    continue;
+                }
+                String threadPool = threads.get(threadInfo.getThreadId());
+                String stack = foldStack(threadPool, getModel(threadInfo.getThreadId()), threadInfo.getStackTrace());
+                if (stacks.size() >= MAX_STACKS && !stacks.containsKey(stack)) {
+                    droppedStacks++;
+                } else {
+                    stacks.merge(stack, 1L, Long::sum);
+                }
+            }
+        }
+
+        synchronized MLCpuProfile toProfile(String nodeId) {
+            return MLCpuProfile
+                .builder()
+                .nodeId(nodeId)
+                .duration(duration)
+                .interval(interval)
+                .samples(samples)
+                .skippedSamples(skippedSamples)
+                .droppedStacks(droppedStacks)
+                .samplingTimeInNanos(samplingTimeInNanos)
+                .stacks(new HashMap<>(stacks))
+                .build();
+        }
+    }
+}
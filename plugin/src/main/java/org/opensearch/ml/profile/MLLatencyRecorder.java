@@ -0,0 +1,212 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.profile;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lock-free recorder of the latest latencies of a model, kept in a ring buffer of primitives with their record time.
+ * Recording is O(1) and doesn't allocate; the ring buffer starts small and doubles until it holds the max number of
+ * monitored requests. Stats are computed from a snapshot of the buffer when they are queried, for all recorded latencies
+ * and for the latencies recorded in recent time windows.
+ * <p>
+ * Latencies recorded while the buffer grows or shrinks can be lost, and a snapshot taken while latencies are recorded can
+ * pair a latency with the time of the latency it overwrites. Both only affect a few samples of the stats.
+ */
+public class MLLatencyRecorder {
+    // time window name -> window length in milliseconds
+    public static final Map<String, Long> TIME_WINDOWS = timeWindows();
+    static final int INITIAL_CAPACITY = 64;
+
+    private final AtomicReference<Buffer> buffer = new AtomicReference<>();
+
+    private static Map<String, Long> timeWindows() {
+        Map<String, Long> windows = new LinkedHashMap<>();
+        windows.put("1m", TimeUnit.MINUTES.toMillis(1));
+        windows.put("5m", TimeUnit.MINUTES.toMillis(5));
+        return windows;
+    }
+
+    /**
+     * Record a latency.
+     *
+     * @param latency         latency in milliseconds
+     * @param maxRequestCount max number of latest latencies to keep, 0 to disable recording
+     */
+    public void record(double latency, long maxRequestCount) {
+        record(latency, maxRequestCount, System.currentTimeMillis());
+    }
+
+    void record(double latency, long maxRequestCount, long now) {
+        if (maxRequestCount <= 0) {
+            buffer.set(null);
+            return;
+        }
+        int maxCapacity = maxCapacity(maxRequestCount);
+        Buffer current = buffer.get();
+        if (current == null || current.capacity > maxCapacity || (current.capacity < maxCapacity && current.isFull())) {
+            int capacity = current == null ? Math.min(INITIAL_CAPACITY, maxCapacity) : Math.min(current.capacity * 2, maxCapacity);
+            current = resize(capacity);
+        }
+        current.add(latency, now);
+    }
+
+    /**
+     * Keep at most the given number of latest latencies.
+     *
+     * @param maxRequestCount max number of latest latencies to keep, 0 to clear all
+     */
+    public void resize(long maxRequestCount) {
+        if (maxRequestCount <= 0) {
+            buffer.set(null);
+            return;
+        }
+        Buffer current = buffer.get();
+        if (current != null && current.capacity > maxCapacity(maxRequestCount)) {
+            resize(maxCapacity(maxRequestCount));
+        }
+    }
+
+    public void clear() {
+        buffer.set(null);
+    }
+
+    private Buffer resize(int capacity) {
+        return buffer.updateAndGet(current -> current != null && current.capacity == capacity ? current : Buffer.copyOf(current, capacity));
+    }
+
+    private static int maxCapacity(long maxRequestCount) {
+        return (int) Math.min(maxRequestCount, Integer.MAX_VALUE - 8);
+    }
+
+    /**
+     * Get stats of recorded latencies, with stats of the time windows which have latencies.
+     *
+     * @return stats; null if no latency is recorded
+     */
+    public MLPredictRequestStats getStats() {
+        return getStats(System.currentTimeMillis());
+    }
+
+    MLPredictRequestStats getStats(long now) {
+        Buffer current = buffer.get();
+        if (current == null) {
+            return null;
+        }
+        int size = current.size();
+        double[] latencies = new double[size];
+        long[] timestamps = new long[size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            long timestamp = current.timestamps.get(i);
+            // slot taken by a latency which is not written yet
+            if (timestamp == 0) {
+                continue;
+            }
+            latencies[count] = Double.longBitsToDouble(current.latencies.get(i));
+            timestamps[count] = timestamp;
+            count++;
+        }
+        if (count == 0) {
+            return null;
+        }
+        Map<String, MLPredictRequestStats> windowStats = new LinkedHashMap<>();
+        for (Map.Entry<String, Long> window : TIME_WINDOWS.entrySet()) {
+            double[] windowLatencies = new double[count];
+            int windowCount = 0;
+            for (int i = 0; i < count; i++) {
+                if (now - timestamps[i] <= window.getValue()) {
+                    windowLatencies[windowCount++] = latencies[i];
+                }
+            }
+            if (windowCount > 0) {
+                windowStats.put(window.getKey(), stats(windowLatencies, windowCount).build());
+            }
+        }
+        return stats(latencies, count).windowStats(windowStats.isEmpty() ? null : windowStats).build();
+    }
+
+    private static MLPredictRequestStats.MLPredictRequestStatsBuilder stats(double[] latencies, int count) {
+        double[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        double sum = 0;
+        for (double latency : sorted) {
+            sum += latency;
+        }
+        return MLPredictRequestStats
+            .builder()
+            .count((long) count)
+            .min(sorted[0])
+            .max(sorted[count - 1])
+            .average(sum / count)
+            .p50(percentile(sorted, 50))
+            .p90(percentile(sorted, 90))
+            .p99(percentile(sorted, 99));
+    }
+
+    /**
+     * Percentile of sorted values, linearly interpolated between the closest ranks.
+     */
+    static double percentile(double[] sorted, int percentile) {
+        double position = percentile * (sorted.length - 1) / 100.0;
+        int lower = (int) Math.floor(position);
+        int upper = (int) Math.ceil(position);
+        return sorted[lower] + (position - lower) * (sorted[upper] - sorted[lower]);
+    }
+
+    private static class Buffer {
+        final int capacity;
+        final AtomicLong cursor = new AtomicLong();
+        // latencies are stored as raw long bits of double
+        final AtomicLongArray latencies;
+        final AtomicLongArray timestamps;
+
+        Buffer(int capacity) {
+            this.capacity = capacity;
+            this.latencies = new AtomicLongArray(capacity);
+            this.timestamps = new AtomicLongArray(capacity);
+        }
+
+        void add(double latency, long timestamp) {
+            int slot = (int) (cursor.getAndIncrement() % capacity);
+            latencies.set(slot, Double.doubleToRawLongBits(latency));
+            timestamps.set(slot, timestamp);
+        }
+
+        boolean isFull() {
+            return cursor.get() >= capacity;
+        }
+
+        int size() {
+            return (int) Math.min(cursor.get(), capacity);
+        }
+
+        /**
+         * Copy the latest latencies of a buffer into a new buffer.
+         */
+        static Buffer copyOf(Buffer source, int capacity) {
+            Buffer copy = new Buffer(capacity);
+            if (source == null) {
+                return copy;
+            }
+            long end = source.cursor.get();
+            long start = Math.max(0, end - Math.min(source.capacity, capacity));
+            for (long i = start; i < end; i++) {
+                int slot = (int) (i % source.capacity);
+                copy.latencies.set((int) (i - start), source.latencies.get(slot));
+                copy.timestamps.set((int) (i - start), source.timestamps.get(slot));
+            }
+            copy.cursor.set(end - start);
+            return copy;
+        }
+    }
+}
@@ -6,7 +6,9 @@
 package org.opensearch.ml.profile;
 
 import java.io.IOException;
+import java.util.Map;
 
+import org.opensearch.Version;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
@@ -21,6 +23,9 @@ import lombok.extern.log4j.Log4j2;
 @Getter
 @Log4j2
 public class MLModelProfile implements ToXContentFragment, Writeable {
+    public static final Version MINIMAL_SUPPORTED_VERSION_FOR_EVICTED = Version.V_2_13_0;
+    public static final Version MINIMAL_SUPPORTED_VERSION_FOR_PREDICT_STAGE_STATS = Version.V_2_13_0;
+    public static final Version MINIMAL_SUPPORTED_VERSION_FOR_RESOURCE_STATS = Version.V_2_13_0;
 
     private final MLModelState modelState;
     private final String predictor;
@@ -30,6 +35,12 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
     private final MLPredictRequestStats predictRequestStats;
     private final Long memSizeEstimationCPU;
     private final Long memSizeEstimationGPU;
+    // true if the model is evicted from memory for being idle, it's deployed again by the next predict request
+    private final Boolean evicted;
+    // predict stage name like queue -> latency stats of the stage
+    private final Map<String, MLPredictRequestStats> predictStageStats;
+    // measured resources used by the model on the node, unlike the memory size estimations
+    private final MLModelResourceStats resourceStats;
 
     @Builder
     public MLModelProfile(
@@ -40,7 +51,10 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
         MLPredictRequestStats modelInferenceStats,
         MLPredictRequestStats predictRequestStats,
         Long memSizeEstimationCPU,
-        Long memSizeEstimationGPU
+        Long memSizeEstimationGPU,
+        Boolean evicted,
+        Map<String, MLPredictRequestStats> predictStageStats,
+        MLModelResourceStats resourceStats
     ) {
         this.modelState = modelState;
         this.predictor = predictor;
@@ -50,6 +64,9 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
         this.predictRequestStats = predictRequestStats;
         this.memSizeEstimationCPU = memSizeEstimationCPU;
         this.memSizeEstimationGPU = memSizeEstimationGPU;
+        this.evicted = evicted;
+        this.predictStageStats = predictStageStats;
+        this.resourceStats = resourceStats;
     }
 
     @Override
@@ -79,6 +96,20 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
         if (memSizeEstimationGPU != null) {
             builder.field("memory_size_estimation_gpu", memSizeEstimationGPU);
         }
+        if (evicted != null) {
+            builder.field("evicted", evicted);
+        }
+        if (predictStageStats != null) {
+            builder.startObject("predict_stage_stats");
+            for (Map.Entry<String, MLPredictRequestStats> entry : predictStageStats.entrySet()) {
+                builder.field(entry.getKey());
+                entry.getValue().toXContent(builder, params);
+            }
+            builder.endObject();
+        }
+        if (resourceStats != null) {
+            builder.field("resource_stats", resourceStats);
+        }
         builder.endObject();
         return builder;
     }
@@ -104,6 +135,21 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
         }
         this.memSizeEstimationCPU = in.readOptionalLong();
         this.memSizeEstimationGPU = in.readOptionalLong();
+        if (in.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_EVICTED)) {
+            this.evicted = in.readOptionalBoolean();
+        } else {
+            this.evicted = null;
+        }
+        if (in.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_PREDICT_STAGE_STATS) && in.readBoolean()) {
+            this.predictStageStats = in.readOrderedMap(StreamInput::readString, MLPredictRequestStats::new);
+        } else {
+            this.predictStageStats = null;
+        }
+        if (in.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_RESOURCE_STATS) && in.readBoolean()) {
+            this.resourceStats = new MLModelResourceStats(in);
+        } else {
+            this.resourceStats = null;
+        }
     }
 
     @Override
@@ -131,5 +177,24 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
         }
         out.writeOptionalLong(memSizeEstimationCPU);
         out.writeOptionalLong(memSizeEstimationGPU);
+        if (out.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_EVICTED)) {
+            out.writeOptionalBoolean(evicted);
+        }
+        if (out.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_PREDICT_STAGE_STATS)) {
+            if (predictStageStats != null) {
+                out.writeBoolean(true);
+                out.writeMap(predictStageStats, StreamOutput::writeString, (o, stats) -> stats.writeTo(o));
+            } else {
+                out.writeBoolean(false);
+            }
+        }
+        if (out.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_RESOURCE_STATS)) {
+            if (resourceStats != null) {
+                out.writeBoolean(true);
+                resourceStats.writeTo(out);
+            } else {
+                out.writeBoolean(false);
+            }
+        }
     }
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.profile;
+
+import java.io.IOException;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Resources a model used on a node: totals over its predict requests since it was deployed, and the native memory its
+ * predictor holds. Averages per request are derived when rendered.
+ */
+@Getter
+public class MLModelResourceStats implements ToXContentFragment, Writeable {
+    private final long predictCount;
+    private final long cpuTimeInNanos;
+    private final long allocatedBytes;
+    private final long remoteBytesSent;
+    private final long remoteBytesReceived;
+    // null for remote models, and for local models if it can't be measured
+    private final Long nativeMemoryBytes;
+    // other models deployed on the node at the same time, their memory is counted in nativeMemoryBytes too
+    private final boolean nativeMemoryApproximate;
+
+    @Builder
+    public MLModelResourceStats(
+        long predictCount,
+        long cpuTimeInNanos,
+        long allocatedBytes,
+        long remoteBytesSent,
+        long remoteBytesReceived,
+        Long nativeMemoryBytes,
+        boolean nativeMemoryApproximate
+    ) {
+        this.predictCount = predictCount;
+        this.cpuTimeInNanos = cpuTimeInNanos;
+        this.allocatedBytes = allocatedBytes;
+        this.remoteBytesSent = remoteBytesSent;
+        this.remoteBytesReceived = remoteBytesReceived;
+        this.nativeMemoryBytes = nativeMemoryBytes;
+        this.nativeMemoryApproximate = nativeMemoryApproximate;
+    }
+
+    public MLModelResourceStats(StreamInput in) throws IOException {
+        this.predictCount = in.readVLong();
+        this.cpuTimeInNanos = in.readVLong();
+        this.allocatedBytes = in.readVLong();
+        this.remoteBytesSent = in.readVLong();
+        this.remoteBytesReceived = in.readVLong();
+        this.nativeMemoryBytes = in.readOptionalLong();
+        this.nativeMemoryApproximate = in.readBoolean();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVLong(predictCount);
+        out.writeVLong(cpuTimeInNanos);
+        out.writeVLong(allocatedBytes);
+        out.writeVLong(remoteBytesSent);
+        out.writeVLong(remoteBytesReceived);
+        out.writeOptionalLong(nativeMemoryBytes);
+        out.writeBoolean(nativeMemoryApproximate);
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        builder.field("predict_count", predictCount);
+        builder.field("cpu_time_in_nanos", cpuTimeInNanos);
+        builder.field("allocated_bytes", allocatedBytes);
+        if (predictCount > 0) {
+            builder.field("avg_cpu_time_in_nanos", cpuTimeInNanos / predictCount);
+            builder.field("avg_allocated_bytes", allocatedBytes / predictCount);
+        }
+        if (remoteBytesSent > 0 || remoteBytesReceived > 0) {
+            builder.field("remote_bytes_sent", remoteBytesSent);
+            builder.field("remote_bytes_received", remoteBytesReceived);
+        }
+        if (nativeMemoryBytes != null) {
+            builder.field("native_memory_bytes", nativeMemoryBytes);
+            if (nativeMemoryApproximate) {
+                builder.field("native_memory_approximate", true);
+            }
+        }
+        builder.endObject();
+        return builder;
+    }
+}
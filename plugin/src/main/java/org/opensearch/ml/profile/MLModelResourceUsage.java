@@ -0,0 +1,86 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.profile;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.opensearch.ml.common.profile.MLPredictProfile;
+
+/**
+ * Accumulates the resources used by the predict requests of a model on this node. Recording only adds to striped
+ * counters, so concurrent predict threads don't contend.
+ */
+public class MLModelResourceUsage {
+    private final LongAdder predictCount = new LongAdder();
+    private final LongAdder cpuTimeInNanos = new LongAdder();
+    private final LongAdder allocatedBytes = new LongAdder();
+    private final LongAdder remoteBytesSent = new LongAdder();
+    private final LongAdder remoteBytesReceived = new LongAdder();
+    // native memory held by the predictor, measured when it's deployed
+    private volatile Long nativeMemoryBytes;
+    private volatile boolean nativeMemoryApproximate;
+
+    /**
+     * Add the resources of a predict request.
+     *
+     * @param profile profile of the predict request
+     */
+    public void record(MLPredictProfile profile) {
+        predictCount.increment();
+        cpuTimeInNanos.add(profile.getCpuTimeInNanos());
+        allocatedBytes.add(profile.getAllocatedBytes());
+        remoteBytesSent.add(profile.getRemoteBytesSent());
+        remoteBytesReceived.add(profile.getRemoteBytesReceived());
+    }
+
+    /**
+     * Set the native memory held by the predictor.
+     *
+     * @param nativeMemoryBytes native memory in bytes, null if unknown
+     * @param approximate       true if other models were deployed at the same time, which inflates the measurement
+     */
+    public void setNativeMemoryBytes(Long nativeMemoryBytes, boolean approximate) {
+        this.nativeMemoryApproximate = approximate;
+        this.nativeMemoryBytes = nativeMemoryBytes;
+    }
+
+    public Long getNativeMemoryBytes() {
+        return nativeMemoryBytes;
+    }
+
+    public void clear() {
+        predictCount.reset();
+        cpuTimeInNanos.reset();
+        allocatedBytes.reset();
+        remoteBytesSent.reset();
+        remoteBytesReceived.reset();
+        nativeMemoryBytes = null;
+        nativeMemoryApproximate = false;
+    }
+
+    /**
+     * Get the resource stats.
+     *
+     * @return resource stats, null if no predict request was recorded and native memory is unknown
+     */
+    public MLModelResourceStats getStats() {
+        long count = predictCount.sum();
+        Long nativeMemory = nativeMemoryBytes;
+        if (count == 0 && nativeMemory == null) {
+            return null;
+        }
+        return MLModelResourceStats
+            .builder()
+            .predictCount(count)
+            .cpuTimeInNanos(cpuTimeInNanos.sum())
+            .allocatedBytes(allocatedBytes.sum())
+            .remoteBytesSent(remoteBytesSent.sum())
+            .remoteBytesReceived(remoteBytesReceived.sum())
+            .nativeMemoryBytes(nativeMemory)
+            .nativeMemoryApproximate(nativeMemory != null && nativeMemoryApproximate)
+            .build();
+    }
+}
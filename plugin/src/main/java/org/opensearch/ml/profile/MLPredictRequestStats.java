@@ -6,7 +6,9 @@
 package org.opensearch.ml.profile;
 
 import java.io.IOException;
+import java.util.Map;
 
+import org.opensearch.Version;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
@@ -20,6 +22,7 @@ import lombok.extern.log4j.Log4j2;
 @Getter
 @Log4j2
 public class MLPredictRequestStats implements ToXContentFragment, Writeable {
+    public static final Version MINIMAL_SUPPORTED_VERSION_FOR_WINDOW_STATS = Version.V_2_13_0;
 
     private final Long count;
     private final Double max;
@@ -28,9 +31,20 @@ public class MLPredictRequestStats implements ToXContentFragment, Writeable {
     private final Double p50;
     private final Double p90;
     private final Double p99;
+    // time window name like 1m -> stats of the requests in the time window
+    private final Map<String, MLPredictRequestStats> windowStats;
 
     @Builder
-    public MLPredictRequestStats(Long count, Double max, Double min, Double average, Double p50, Double p90, Double p99) {
+    public MLPredictRequestStats(
+        Long count,
+        Double max,
+        Double min,
+        Double average,
+        Double p50,
+        Double p90,
+        Double p99,
+        Map<String, MLPredictRequestStats> windowStats
+    ) {
         this.count = count;
         this.max = max;
         this.min = min;
@@ -38,6 +52,7 @@ public class MLPredictRequestStats implements ToXContentFragment, Writeable {
         this.p50 = p50;
         this.p90 = p90;
         this.p99 = p99;
+        this.windowStats = windowStats;
     }
 
     @Override
@@ -64,6 +79,14 @@ public class MLPredictRequestStats implements ToXContentFragment, Writeable {
         if (p99 != null) {
             builder.field("p99", p99);
         }
+        if (windowStats != null) {
+            builder.startObject("windows");
+            for (Map.Entry<String, MLPredictRequestStats> entry : windowStats.entrySet()) {
+                builder.field(entry.getKey());
+                entry.getValue().toXContent(builder, params);
+            }
+            builder.endObject();
+        }
         builder.endObject();
         return builder;
     }
@@ -76,6 +99,11 @@ public class MLPredictRequestStats implements ToXContentFragment, Writeable {
         this.p50 = in.readOptionalDouble();
         this.p90 = in.readOptionalDouble();
         this.p99 = in.readOptionalDouble();
+        if (in.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_WINDOW_STATS) && in.readBoolean()) {
+            this.windowStats = in.readOrderedMap(StreamInput::readString, MLPredictRequestStats::new);
+        } else {
+            this.windowStats = null;
+        }
     }
 
     @Override
@@ -87,5 +115,13 @@ public class MLPredictRequestStats implements ToXContentFragment, Writeable {
         out.writeOptionalDouble(p50);
         out.writeOptionalDouble(p90);
         out.writeOptionalDouble(p99);
+        if (out.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_WINDOW_STATS)) {
+            if (windowStats != null) {
+                out.writeBoolean(true);
+                out.writeMap(windowStats, StreamOutput::writeString, (o, stats) -> stats.writeTo(o));
+            } else {
+                out.writeBoolean(false);
+            }
+        }
     }
 }
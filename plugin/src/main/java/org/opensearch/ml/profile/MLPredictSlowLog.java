@@ -0,0 +1,341 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.profile;
+
+import static org.opensearch.core.xcontent.ToXContent.EMPTY_PARAMS;
+import static org.opensearch.ml.common.CommonValue.REMOTE_SERVICE_ERROR;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_SLOWLOG_INPUT_MAX_CHARS;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_SLOWLOG_MODEL_PREFIX;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_SLOWLOG_MODEL_THRESHOLD;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_SLOWLOG_SAMPLE_RATE;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_SLOWLOG_STAGE_THRESHOLD_DEBUG;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_SLOWLOG_STAGE_THRESHOLD_INFO;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_SLOWLOG_STAGE_THRESHOLD_WARN;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_SLOWLOG_THRESHOLD_DEBUG;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_SLOWLOG_THRESHOLD_INFO;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_SLOWLOG_THRESHOLD_KEYS;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_SLOWLOG_THRESHOLD_WARN;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.common.Strings;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.dataset.DataFrameInputDataset;
+import org.opensearch.ml.common.dataset.MLInputDataset;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
+import org.opensearch.ml.common.dataset.TextSimilarityInputDataSet;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.common.profile.MLPredictProfile;
+import org.opensearch.ml.common.profile.MLPredictStage;
+import org.opensearch.threadpool.ThreadPool;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Slow log of predict requests, like the search slow log. A request is logged at the most severe level whose threshold
+ * its total latency on the worker node or the latency of any of its stages reaches, thresholds can be set per model.
+ * Requests below the thresholds or not sampled cost only the threshold check. For the others the predict thread takes the
+ * few values the entry needs, so the queue never holds the input or output of a request, and the message is built and
+ * written on the slow log thread pool, dropped when its queue is full, so the slow log never blocks predict.
+ */
+@Log4j2
+public class MLPredictSlowLog {
+    // logger of the entries, "logger.plugins.ml_commons.predict.slowlog" sets its level and log4j config can route it
+    static final Logger SLOW_LOG = LogManager.getLogger("plugins.ml_commons.predict.slowlog");
+    private static final Level[] LEVELS = { Level.WARN, Level.INFO, Level.DEBUG };
+    // default thresholds, in the order of ML_COMMONS_PREDICT_SLOWLOG_THRESHOLD_KEYS
+    private static final List<Setting<TimeValue>> THRESHOLD_SETTINGS = List
+        .of(
+            ML_COMMONS_PREDICT_SLOWLOG_THRESHOLD_WARN,
+            ML_COMMONS_PREDICT_SLOWLOG_THRESHOLD_INFO,
+            ML_COMMONS_PREDICT_SLOWLOG_THRESHOLD_DEBUG,
+            ML_COMMONS_PREDICT_SLOWLOG_STAGE_THRESHOLD_WARN,
+            ML_COMMONS_PREDICT_SLOWLOG_STAGE_THRESHOLD_INFO,
+            ML_COMMONS_PREDICT_SLOWLOG_STAGE_THRESHOLD_DEBUG
+        );
+
+    private final ClusterService clusterService;
+    private final ThreadPool threadPool;
+    private final String executorName;
+    private volatile Thresholds defaultThresholds;
+    private volatile Map<String, Thresholds> modelThresholds;
+    private volatile double sampleRate;
+    private volatile int inputMaxChars;
+
+    /**
+     * Constructor
+     *
+     * @param settings       node settings
+     * @param clusterService cluster service
+     * @param threadPool     thread pool
+     * @param executorName   thread pool writing the entries
+     */
+    public MLPredictSlowLog(Settings settings, ClusterService clusterService, ThreadPool threadPool, String executorName) {
+        this.clusterService = clusterService;
+        this.threadPool = threadPool;
+        this.executorName = executorName;
+        setThresholds(settings);
+        sampleRate = ML_COMMONS_PREDICT_SLOWLOG_SAMPLE_RATE.get(settings);
+        inputMaxChars = ML_COMMONS_PREDICT_SLOWLOG_INPUT_MAX_CHARS.get(settings);
+
+        List<Setting<?>> thresholdSettings = new ArrayList<>(THRESHOLD_SETTINGS);
+        thresholdSettings.add(ML_COMMONS_PREDICT_SLOWLOG_MODEL_THRESHOLD);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(this::setThresholds, thresholdSettings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_PREDICT_SLOWLOG_SAMPLE_RATE, it -> sampleRate = it);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_PREDICT_SLOWLOG_INPUT_MAX_CHARS, it -> inputMaxChars = it);
+    }
+
+    /**
+     * Set the thresholds from settings, per model thresholds override the default ones one by one.
+     *
+     * @param settings settings with the slow log thresholds
+     */
+    void setThresholds(Settings settings) {
+        long[] defaults = new long[THRESHOLD_SETTINGS.size()];
+        for (int i = 0; i < defaults.length; i++) {
+            defaults[i] = THRESHOLD_SETTINGS.get(i).get(settings).nanos();
+        }
+        Map<String, long[]> models = new HashMap<>();
+        Settings modelSettings = settings.getByPrefix(ML_COMMONS_PREDICT_SLOWLOG_MODEL_PREFIX);
+        for (String key : modelSettings.keySet()) {
+            for (int i = 0; i < ML_COMMONS_PREDICT_SLOWLOG_THRESHOLD_KEYS.size(); i++) {
+                String thresholdKey = ML_COMMONS_PREDICT_SLOWLOG_THRESHOLD_KEYS.get(i);
+                if (key.endsWith("." + thresholdKey)) {
+                    String modelId = key.substring(0, key.length() - thresholdKey.length() - 1);
+                    String fullKey = ML_COMMONS_PREDICT_SLOWLOG_MODEL_PREFIX + key;
+                    long nanos = TimeValue.parseTimeValue(modelSettings.get(key), fullKey).nanos();
+                    models.computeIfAbsent(modelId, it -> Arrays.copyOf(defaults, defaults.length))[i] = nanos;
+                    break;
+                }
+            }
+        }
+        Map<String, Thresholds> thresholds = new HashMap<>();
+        models.forEach((modelId, nanos) -> thresholds.put(modelId, new Thresholds(nanos)));
+        this.defaultThresholds = new Thresholds(defaults);
+        this.modelThresholds = thresholds;
+    }
+
+    /**
+     * Get the level to log a predict request at.
+     *
+     * @param modelId model id
+     * @param profile profile of the request
+     * @return log level, null if no threshold is reached
+     */
+    Level getLevel(String modelId, MLPredictProfile profile) {
+        Thresholds thresholds = modelId == null ? null : modelThresholds.get(modelId);
+        if (thresholds == null) {
+            thresholds = defaultThresholds;
+        }
+        if (thresholds.isDisabled()) {
+            return null;
+        }
+        long maxStageNanos = 0;
+        for (long stageNanos : profile.getStages().values()) {
+            maxStageNanos = Math.max(maxStageNanos, stageNanos);
+        }
+        return thresholds.getLevel(profile.getTimeInNanos(), maxStageNanos);
+    }
+
+    /**
+     * Log a predict request if it reaches a threshold and is sampled. The entry is written asynchronously.
+     *
+     * @param entry finished predict request
+     */
+    public void log(MLPredictSlowLogEntry entry) {
+        Level level = getLevel(entry.getModelId(), entry.getProfile());
+        if (level == null || !SLOW_LOG.isEnabled(level)) {
+            return;
+        }
+        double sampleRate = this.sampleRate;
+        if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return;
+        }
+        LoggedRequest request = LoggedRequest.of(entry, inputMaxChars);
+        try {
+            threadPool.executor(executorName).execute(() -> SLOW_LOG.log(level, toMessage(request)));
+        } catch (RejectedExecutionException e) {
+            log.debug("Slow log queue is full, dropped slow predict request of model {}", entry.getModelId());
+        }
+    }
+
+    /**
+     * Build the log message of a request, in the format of the search slow log.
+     */
+    String toMessage(LoggedRequest entry) {
+        MLPredictProfile profile = entry.profile;
+        StringBuilder message = new StringBuilder();
+        message.append('[').append(entry.modelId).append("] ");
+        message.append("took[").append(TimeValue.timeValueNanos(profile.getTimeInNanos())).append("], ");
+        message.append("took_millis[").append(profile.getTimeInNanos() / 1_000_000).append("], ");
+        message.append("function_name[").append(entry.functionName).append("], ");
+        message.append("node[").append(clusterService.localNode().getId()).append("], ");
+        if (entry.dispatchPath != null) {
+            message.append("dispatch[").append(entry.dispatchPath.getName()).append("], ");
+        }
+        message.append("stage_millis[");
+        boolean first = true;
+        for (Map.Entry<MLPredictStage, Long> stage : profile.getStages().entrySet()) {
+            message.append(first ? "" : ", ").append(stage.getKey().getName()).append(':').append(stage.getValue() / 1_000_000);
+            first = false;
+        }
+        message.append("], ");
+        if (entry.docs >= 0) {
+            message.append("docs[").append(entry.docs).append("], ");
+        }
+        if (profile.getInputTokens() > 0) {
+            message.append("input_tokens[").append(profile.getInputTokens()).append("], ");
+        }
+        if (profile.getRemoteBytesSent() > 0 || profile.getRemoteBytesReceived() > 0) {
+            message.append("remote_bytes_sent[").append(profile.getRemoteBytesSent()).append("], ");
+            message.append("remote_bytes_received[").append(profile.getRemoteBytesReceived()).append("], ");
+        }
+        if (entry.statusCode != null) {
+            message.append("status_code[").append(entry.statusCode).append("], ");
+        }
+        if (entry.failure != null) {
+            message.append("failure[").append(entry.failure).append("], ");
+        }
+        if (entry.input != null) {
+            message.append("input[").append(entry.input).append("], ");
+        }
+        message.setLength(message.length() - 2);
+        return message.toString();
+    }
+
+    private static String inputToString(MLInput input) {
+        try {
+            XContentBuilder builder = XContentFactory.jsonBuilder();
+            input.toXContent(builder, EMPTY_PARAMS);
+            return builder.toString();
+        } catch (Exception e) {
+            return "failed to serialize input: " + e.getMessage();
+        }
+    }
+
+    private static int docCount(MLInputDataset dataset) {
+        if (dataset instanceof TextDocsInputDataSet && ((TextDocsInputDataSet) dataset).getDocs() != null) {
+            return ((TextDocsInputDataSet) dataset).getDocs().size();
+        }
+        if (dataset instanceof TextSimilarityInputDataSet && ((TextSimilarityInputDataSet) dataset).getTextDocs() != null) {
+            return ((TextSimilarityInputDataSet) dataset).getTextDocs().size();
+        }
+        if (dataset instanceof DataFrameInputDataset) {
+            return ((DataFrameInputDataset) dataset).getDataFrame().size();
+        }
+        return -1;
+    }
+
+    /**
+     * HTTP status code of the remote model: the status of a remote service error, or the last status in the output.
+     */
+    private static Integer statusCode(MLPredictSlowLogEntry entry) {
+        Exception failure = entry.getFailure();
+        if (failure instanceof OpenSearchStatusException
+            && failure.getMessage() != null
+            && failure.getMessage().startsWith(REMOTE_SERVICE_ERROR)) {
+            return ((OpenSearchStatusException) failure).status().getStatus();
+        }
+        if (!(entry.getOutput() instanceof ModelTensorOutput) || ((ModelTensorOutput) entry.getOutput()).getMlModelOutputs() == null) {
+            return null;
+        }
+        Integer statusCode = null;
+        for (ModelTensors tensors : ((ModelTensorOutput) entry.getOutput()).getMlModelOutputs()) {
+            if (tensors.getStatusCode() != null) {
+                statusCode = tensors.getStatusCode();
+            }
+        }
+        return statusCode;
+    }
+
+    /**
+     * Values of a logged request the message needs, taken on the predict thread.
+     */
+    static final class LoggedRequest {
+        private final String modelId;
+        private final FunctionName functionName;
+        private final MLPredictProfile profile;
+        private final MLPredictSlowLogEntry.DispatchPath dispatchPath;
+        // number of input documents, -1 if unknown
+        private final int docs;
+        private final Integer statusCode;
+        // simple class name of the failure
+        private final String failure;
+        // truncated input, null if input logging is disabled
+        private final String input;
+
+        private LoggedRequest(MLPredictSlowLogEntry entry, int docs, Integer statusCode, String input) {
+            this.modelId = entry.getModelId();
+            this.functionName = entry.getFunctionName();
+            this.profile = entry.getProfile();
+            this.dispatchPath = entry.getDispatchPath();
+            this.docs = docs;
+            this.statusCode = statusCode;
+            this.failure = entry.getFailure() == null ? null : entry.getFailure().getClass().getSimpleName();
+            this.input = input;
+        }
+
+        static LoggedRequest of(MLPredictSlowLogEntry entry, int inputMaxChars) {
+            MLInput input = entry.getInput();
+            int docs = input == null ? -1 : docCount(input.getInputDataset());
+            String inputString = inputMaxChars > 0 && input != null ? Strings.cleanTruncate(inputToString(input), inputMaxChars) : null;
+            return new LoggedRequest(entry, docs, statusCode(entry), inputString);
+        }
+
+        String getInput() {
+            return input;
+        }
+    }
+
+    /**
+     * Thresholds of the log levels, in nanoseconds, negative when disabled.
+     */
+    static final class Thresholds {
+        // total thresholds of the levels, then stage thresholds of the levels
+        private final long[] nanos;
+        private final boolean disabled;
+
+        Thresholds(long[] nanos) {
+            this.nanos = nanos;
+            this.disabled = Arrays.stream(nanos).allMatch(it -> it < 0);
+        }
+
+        boolean isDisabled() {
+            return disabled;
+        }
+
+        Level getLevel(long tookNanos, long maxStageNanos) {
+            for (int i = 0; i < LEVELS.length; i++) {
+                if (reached(nanos[i], tookNanos) || reached(nanos[i + LEVELS.length], maxStageNanos)) {
+                    return LEVELS[i];
+                }
+            }
+            return null;
+        }
+
+        private static boolean reached(long thresholdNanos, long nanos) {
+            return thresholdNanos >= 0 && nanos >= thresholdNanos;
+        }
+    }
+}
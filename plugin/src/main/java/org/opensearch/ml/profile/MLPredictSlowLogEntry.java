@@ -0,0 +1,48 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.profile;
+
+import java.util.Locale;
+
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.output.MLOutput;
+import org.opensearch.ml.common.profile.MLPredictProfile;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * A predict request finished on the worker node, checked against the slow log thresholds. The entry only keeps
+ * references and doesn't outlive the predict thread, the slow log queues the few values of logged requests it needs.
+ */
+@Getter
+@Builder
+public class MLPredictSlowLogEntry {
+    private final String modelId;
+    private final FunctionName functionName;
+    private final MLInput input;
+    private final MLPredictProfile profile;
+    private final DispatchPath dispatchPath;
+    // output of a successful request
+    private final MLOutput output;
+    // failure of a failed request
+    private final Exception failure;
+
+    /**
+     * How a predict request reached the node running it.
+     */
+    public enum DispatchPath {
+        // received from the coordinating node, or sent by a caller which doesn't dispatch
+        TRANSPORT,
+        // dispatched by this node to itself
+        LOCAL;
+
+        public String getName() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.profile;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.List;
+
+import lombok.experimental.UtilityClass;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Measures resources used by the current thread and the process, for the resource accounting of models. Every method
+ * returns -1 if the JVM or the OS can't measure the resource, callers skip recording then.
+ */
+@Log4j2
+@UtilityClass
+public class MLResourceMeter {
+    private static final Path PROC_SELF_STATUS = Path.of("/proc/self/status");
+    private static final String RESIDENT_MEMORY_PREFIX = "VmRSS:";
+
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+    private static final MemoryMXBean MEMORY_MX_BEAN = ManagementFactory.getMemoryMXBean();
+    private static final boolean CPU_TIME_SUPPORTED = isCpuTimeSupported();
+    private static final boolean ALLOCATED_BYTES_SUPPORTED = isAllocatedBytesSupported();
+
+    private static boolean isCpuTimeSupported() {
+        try {
+            return THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported() && THREAD_MX_BEAN.isThreadCpuTimeEnabled();
+        } catch (Exception e) {
+            log.debug("Thread CPU time is not supported", e);
+            return false;
+        }
+    }
+
+    private static boolean isAllocatedBytesSupported() {
+        try {
+            if (!(THREAD_MX_BEAN instanceof com.sun.management.ThreadMXBean)) {
+                return false;
+            }
+            com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) THREAD_MX_BEAN;
+            return threadMXBean.isThreadAllocatedMemorySupported() && threadMXBean.isThreadAllocatedMemoryEnabled();
+        } catch (Exception e) {
+            log.debug("Thread allocated memory is not supported", e);
+            return false;
+        }
+    }
+
+    /**
+     * CPU time of the current thread, user and system.
+     *
+     * @return CPU time in nanoseconds, -1 if not supported
+     */
+    public static long threadCpuTimeNanos() {
+        return CPU_TIME_SUPPORTED ? THREAD_MX_BEAN.getCurrentThreadCpuTime() : -1;
+    }
+
+    /**
+     * Heap bytes allocated by the current thread since it started.
+     *
+     * @return allocated bytes, -1 if not supported
+     */
+    public static long threadAllocatedBytes() {
+        if (!ALLOCATED_BYTES_SUPPORTED) {
+            return -1;
+        }
+        return ((com.sun.management.ThreadMXBean) THREAD_MX_BEAN).getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Memory of the process outside of the committed heap: resident memory minus committed heap. It covers the native
+     * memory of ML engines like PyTorch and ONNX Runtime, and also metaspace, thread stacks and direct buffers, so only
+     * its change while a model loads is meaningful.
+     *
+     * @return bytes, -1 if resident memory can't be read, which is the case outside of Linux
+     */
+    public static long nonHeapResidentBytes() {
+        long residentBytes = residentMemoryBytes();
+        if (residentBytes < 0) {
+            return -1;
+        }
+        return residentBytes - MEMORY_MX_BEAN.getHeapMemoryUsage().getCommitted();
+    }
+
+    static long residentMemoryBytes() {
+        return AccessController.doPrivileged((PrivilegedAction<Long>) () -> {
+            try {
+                List<String> lines = Files.readAllLines(PROC_SELF_STATUS, StandardCharsets.UTF_8);
+                return parseResidentMemory(lines);
+            } catch (IOException | SecurityException | UnsupportedOperationException e) {
+                log.debug("Failed to read resident memory of the process", e);
+                return -1L;
+            }
+        });
+    }
+
+    /**
+     * Parse resident memory from lines of /proc/self/status, like "VmRSS:  123456 kB".
+     */
+    static long parseResidentMemory(List<String> lines) {
+        for (String line : lines) {
+            if (line.startsWith(RESIDENT_MEMORY_PREFIX)) {
+                String[] parts = line.substring(RESIDENT_MEMORY_PREFIX.length()).trim().split("\\s+");
+                try {
+                    return Long.parseLong(parts[0]) * 1024;
+                } catch (NumberFormatException e) {
+                    return -1;
+                }
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.rest;
+
+import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.ML_BASE_URI;
+import static org.opensearch.ml.utils.RestActionUtils.PARAMETER_MODEL_ID;
+import static org.opensearch.ml.utils.RestActionUtils.getParameterId;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.ml.common.transport.prediction.MLBatchPredictionAction;
+import org.opensearch.ml.common.transport.prediction.MLBatchPredictionRequest;
+import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.action.RestToXContentListener;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Batch predict API. Starts an async task which runs the model over documents of an index and writes
+ * the model output back. Check the progress of the job with the get task API.
+ */
+public class RestMLBatchPredictionAction extends BaseRestHandler {
+    private static final String ML_BATCH_PREDICTION_ACTION = "ml_batch_prediction_action";
+
+    /**
+     * Constructor
+     */
+    public RestMLBatchPredictionAction() {}
+
+    @Override
+    public String getName() {
+        return ML_BATCH_PREDICTION_ACTION;
+    }
+
+    @Override
+    public List<Route> routes() {
+        return ImmutableList
+            .of(
+                new Route(
+                    RestRequest.Method.POST,
+                    String.format(Locale.ROOT, "%s/models/{%s}/_batch_predict", ML_BASE_URI, PARAMETER_MODEL_ID)
+                )
+            );
+    }
+
+    @Override
+    public RestChannelConsumer prepareRequest(RestRequest request, NodeClient client) throws IOException {
+        MLBatchPredictionRequest batchRequest = getRequest(request);
+        return channel -> client.execute(MLBatchPredictionAction.INSTANCE, batchRequest, new RestToXContentListener<>(channel));
+    }
+
+    /**
+     * Creates a MLBatchPredictionRequest from a RestRequest
+     *
+     * @param request RestRequest
+     * @return MLBatchPredictionRequest
+     */
+    @VisibleForTesting
+    MLBatchPredictionRequest getRequest(RestRequest request) throws IOException {
+        String modelId = getParameterId(request, PARAMETER_MODEL_ID);
+        XContentParser parser = request.contentParser();
+        ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
+        return MLBatchPredictionRequest.parse(parser, modelId);
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.rest;
+
+import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.ML_BASE_URI;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_BULK_PREDICT_MAX_INPUTS;
+import static org.opensearch.ml.utils.MLExceptionUtils.REMOTE_INFERENCE_DISABLED_ERR_MSG;
+import static org.opensearch.ml.utils.RestActionUtils.PARAMETER_MODEL_ID;
+import static org.opensearch.ml.utils.RestActionUtils.getParameterId;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.common.xcontent.LoggingDeprecationHandler;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.transport.prediction.MLBulkPredictionAction;
+import org.opensearch.ml.common.transport.prediction.MLBulkPredictionRequest;
+import org.opensearch.ml.common.transport.prediction.MLBulkPredictionResponse;
+import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.ml.settings.MLFeatureEnabledSetting;
+import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.BytesRestResponse;
+import org.opensearch.rest.RestChannel;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.RestResponse;
+import org.opensearch.rest.action.RestBuilderListener;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Bulk predict API. Request body is NDJSON, each line is one predict input with the same format as the
+ * predict API body. Response body is NDJSON too, one result line per input line in the same order.
+ * Requests with more inputs than plugins.ml_commons.bulk_predict.max_inputs are rejected.
+ */
+@Log4j2
+public class RestMLBulkPredictionAction extends BaseRestHandler {
+    private static final String ML_BULK_PREDICTION_ACTION = "ml_bulk_prediction_action";
+    public static final String PARAMETER_MAX_CONCURRENCY = "max_concurrency";
+    public static final String NDJSON_CONTENT_TYPE = "application/x-ndjson";
+    private static final byte LINE_SEPARATOR = '\n';
+
+    private MLModelManager modelManager;
+
+    private MLFeatureEnabledSetting mlFeatureEnabledSetting;
+
+    private volatile int maxInputs;
+
+    /**
+     * Constructor
+     */
+    public RestMLBulkPredictionAction(
+        MLModelManager modelManager,
+        MLFeatureEnabledSetting mlFeatureEnabledSetting,
+        ClusterService clusterService,
+        Settings settings
+    ) {
+        this.modelManager = modelManager;
+        this.mlFeatureEnabledSetting = mlFeatureEnabledSetting;
+        this.maxInputs = ML_COMMONS_BULK_PREDICT_MAX_INPUTS.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_BULK_PREDICT_MAX_INPUTS, it -> maxInputs = it);
+    }
+
+    @Override
+    public String getName() {
+        return ML_BULK_PREDICTION_ACTION;
+    }
+
+    @Override
+    public List<Route> routes() {
+        return ImmutableList
+            .of(
+                new Route(
+                    RestRequest.Method.POST,
+                    String.format(Locale.ROOT, "%s/models/{%s}/_bulk_predict", ML_BASE_URI, PARAMETER_MODEL_ID)
+                )
+            );
+    }
+
+    @Override
+    public boolean supportsContentStream() {
+        return true;
+    }
+
+    @Override
+    public RestChannelConsumer prepareRequest(RestRequest request, NodeClient client) throws IOException {
+        String modelId = getParameterId(request, PARAMETER_MODEL_ID);
+        Integer maxConcurrency = request.hasParam(PARAMETER_MAX_CONCURRENCY) ? request.paramAsInt(PARAMETER_MAX_CONCURRENCY, 1) : null;
+        BytesReference content = request.requiredContent();
+        Optional<FunctionName> functionName = modelManager.getOptionalModelFunctionName(modelId);
+
+        if (functionName.isPresent()) {
+            MLBulkPredictionRequest bulkRequest = getRequest(
+                modelId,
+                functionName.get().name(),
+                content,
+                maxConcurrency,
+                request.getXContentRegistry()
+            );
+            return channel -> client.execute(MLBulkPredictionAction.INSTANCE, bulkRequest, ndjsonListener(channel));
+        }
+
+        return channel -> {
+            ActionListener<MLModel> listener = ActionListener.wrap(mlModel -> {
+                String algoName = mlModel.getAlgorithm().name();
+                client
+                    .execute(
+                        MLBulkPredictionAction.INSTANCE,
+                        getRequest(modelId, algoName, content, maxConcurrency, request.getXContentRegistry()),
+                        ndjsonListener(channel)
+                    );
+            }, e -> {
+                log.error("Failed to get ML model", e);
+                try {
+                    channel.sendResponse(new BytesRestResponse(channel, RestStatus.NOT_FOUND, e));
+                } catch (IOException ex) {
+                    log.error("Failed to send error response", ex);
+                }
+            });
+            try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+                modelManager.getModel(modelId, ActionListener.runBefore(listener, () -> context.restore()));
+            }
+        };
+    }
+
+    /**
+     * Creates a MLBulkPredictionRequest from NDJSON content, each non-blank line is parsed as one MLInput.
+     *
+     * @param modelId model id
+     * @param algorithm model algorithm
+     * @param content NDJSON request content
+     * @param maxConcurrency max in flight predict requests, can be null
+     * @param xContentRegistry named xcontent registry to parse input parameters
+     * @return MLBulkPredictionRequest
+     */
+    @VisibleForTesting
+    MLBulkPredictionRequest getRequest(
+        String modelId,
+        String algorithm,
+        BytesReference content,
+        Integer maxConcurrency,
+        NamedXContentRegistry xContentRegistry
+    ) throws IOException {
+        if (FunctionName.REMOTE.name().equals(algorithm) && !mlFeatureEnabledSetting.isRemoteInferenceEnabled()) {
+            throw new IllegalStateException(REMOTE_INFERENCE_DISABLED_ERR_MSG);
+        }
+        List<MLInput> mlInputs = new ArrayList<>();
+        int length = content.length();
+        int from = 0;
+        // line number in the request body, blank lines included
+        int lineNumber = 0;
+        while (from < length) {
+            lineNumber++;
+            int next = content.indexOf(LINE_SEPARATOR, from);
+            if (next == -1) {
+                next = length;
+            }
+            BytesReference line = content.slice(from, next - from);
+            if (line.utf8ToString().trim().length() > 0) {
+                // stop parsing right away, rather than holding the inputs of a request which will be rejected
+                if (mlInputs.size() >= maxInputs) {
+                    throw new IllegalArgumentException("Bulk predict request can't have more than " + maxInputs + " inputs");
+                }
+                try (
+                    XContentParser parser = XContentType.JSON
+                        .xContent()
+                        .createParser(xContentRegistry, LoggingDeprecationHandler.INSTANCE, line.streamInput())
+                ) {
+                    ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
+                    mlInputs.add(MLInput.parse(parser, algorithm));
+                } catch (Exception e) {
+                    throw new IllegalArgumentException("Failed to parse bulk predict input at line " + lineNumber, e);
+                }
+            }
+            from = next + 1;
+        }
+        return new MLBulkPredictionRequest(modelId, mlInputs, maxConcurrency);
+    }
+
+    private RestBuilderListener<MLBulkPredictionResponse> ndjsonListener(RestChannel channel) {
+        return new RestBuilderListener<>(channel) {
+            @Override
+            public RestResponse buildResponse(MLBulkPredictionResponse response, XContentBuilder ignored) throws Exception {
+                return new BytesRestResponse(RestStatus.OK, NDJSON_CONTENT_TYPE, toNdjson(response));
+            }
+        };
+    }
+
+    /**
+     * Build the NDJSON response body. The body is buffered, as BytesRestResponse sends complete content only.
+     */
+    @VisibleForTesting
+    static BytesReference toNdjson(MLBulkPredictionResponse response) throws IOException {
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            for (MLBulkPredictionResponse.Item item : response.getItems()) {
+                try (XContentBuilder builder = XContentFactory.jsonBuilder()) {
+                    item.toXContent(builder, ToXContent.EMPTY_PARAMS);
+                    BytesReference.bytes(builder).writeTo(out);
+                }
+                out.writeByte(LINE_SEPARATOR);
+            }
+            return out.bytes();
+        }
+    }
+}
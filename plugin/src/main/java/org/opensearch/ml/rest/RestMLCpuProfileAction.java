@@ -0,0 +1,87 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.rest;
+
+import static org.opensearch.ml.plugin.MachineLearningPlugin.ML_BASE_URI;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.ml.action.profile.MLCpuProfileAction;
+import org.opensearch.ml.action.profile.MLCpuProfileRequest;
+import org.opensearch.ml.profile.MLCpuProfile;
+import org.opensearch.ml.profile.MLCpuProfiler;
+import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.BytesRestResponse;
+import org.opensearch.rest.RestChannel;
+import org.opensearch.rest.RestRequest;
+
+import com.google.common.collect.ImmutableList;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Profiles the CPU of the ML thread pools of the node serving the request, for example
+ * "GET _plugins/_ml/profile/_cpu?duration=30s". Stacks are returned as JSON, or as text for flame graph tools with
+ * "format=folded".
+ */
+@Log4j2
+public class RestMLCpuProfileAction extends BaseRestHandler {
+    private static final String ML_CPU_PROFILE_ACTION = "ml_cpu_profile_action";
+    private static final String PARAMETER_DURATION = "duration";
+    private static final String PARAMETER_INTERVAL = "interval";
+    private static final String PARAMETER_FORMAT = "format";
+    private static final String FOLDED_FORMAT = "folded";
+    private static final String FOLDED_CONTENT_TYPE = "text/plain; charset=UTF-8";
+
+    /**
+     * Constructor
+     */
+    public RestMLCpuProfileAction() {}
+
+    @Override
+    public String getName() {
+        return ML_CPU_PROFILE_ACTION;
+    }
+
+    @Override
+    public List<Route> routes() {
+        return ImmutableList.of(new Route(RestRequest.Method.GET, ML_BASE_URI + "/profile/_cpu"));
+    }
+
+    @Override
+    protected RestChannelConsumer prepareRequest(RestRequest request, NodeClient client) throws IOException {
+        TimeValue duration = request.paramAsTime(PARAMETER_DURATION, MLCpuProfiler.DEFAULT_DURATION);
+        TimeValue interval = request.paramAsTime(PARAMETER_INTERVAL, MLCpuProfiler.DEFAULT_INTERVAL);
+        boolean folded = FOLDED_FORMAT.equals(request.param(PARAMETER_FORMAT));
+
+        MLCpuProfileRequest profileRequest = new MLCpuProfileRequest(duration, interval);
+        return channel -> client.execute(MLCpuProfileAction.INSTANCE, profileRequest, ActionListener.wrap(response -> {
+            MLCpuProfile profile = response.getProfile();
+            if (folded) {
+                channel.sendResponse(new BytesRestResponse(RestStatus.OK, FOLDED_CONTENT_TYPE, profile.toFoldedStacks()));
+            } else {
+                XContentBuilder builder = profile.toXContent(channel.newBuilder(), ToXContent.EMPTY_PARAMS);
+                channel.sendResponse(new BytesRestResponse(RestStatus.OK, builder));
+            }
+        }, e -> sendFailure(channel, e)));
+    }
+
+    private void sendFailure(RestChannel channel, Exception e) {
+        log.error("Failed to profile the CPU of the ML thread pools", e);
+        try {
+            channel.sendResponse(new BytesRestResponse(channel, e));
+        } catch (IOException ioException) {
+            log.error("Failed to send the CPU profile failure", ioException);
+        }
+    }
+}
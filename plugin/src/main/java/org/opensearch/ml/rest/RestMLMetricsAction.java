@@ -0,0 +1,67 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.rest;
+
+import static org.opensearch.ml.plugin.MachineLearningPlugin.ML_BASE_URI;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.ml.action.metrics.MLMetricsAction;
+import org.opensearch.ml.action.metrics.MLMetricsRequest;
+import org.opensearch.ml.stats.metrics.MLOpenMetricsWriter;
+import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.BytesRestResponse;
+import org.opensearch.rest.RestChannel;
+import org.opensearch.rest.RestRequest;
+
+import com.google.common.collect.ImmutableList;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Exports the ML metrics of the node serving the request in OpenMetrics text format, for monitoring systems which scrape
+ * every node.
+ */
+@Log4j2
+public class RestMLMetricsAction extends BaseRestHandler {
+    private static final String ML_METRICS_ACTION = "ml_metrics_action";
+
+    /**
+     * Constructor
+     */
+    public RestMLMetricsAction() {}
+
+    @Override
+    public String getName() {
+        return ML_METRICS_ACTION;
+    }
+
+    @Override
+    public List<Route> routes() {
+        return ImmutableList.of(new Route(RestRequest.Method.GET, ML_BASE_URI + "/metrics"));
+    }
+
+    @Override
+    protected RestChannelConsumer prepareRequest(RestRequest request, NodeClient client) throws IOException {
+        return channel -> client.execute(MLMetricsAction.INSTANCE, new MLMetricsRequest(), ActionListener.wrap(response -> {
+            String openMetrics = response.getOpenMetrics();
+            channel.sendResponse(new BytesRestResponse(RestStatus.OK, MLOpenMetricsWriter.CONTENT_TYPE, openMetrics));
+        }, e -> sendFailure(channel, e)));
+    }
+
+    private void sendFailure(RestChannel channel, Exception e) {
+        log.error("Failed to export the ML metrics", e);
+        try {
+            channel.sendResponse(new BytesRestResponse(channel, e));
+        } catch (IOException ioException) {
+            log.error("Failed to send the ML metrics failure", ioException);
+        }
+    }
+}
@@ -9,13 +9,16 @@ import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedTok
 import static org.opensearch.ml.plugin.MachineLearningPlugin.ML_BASE_URI;
 import static org.opensearch.ml.utils.MLExceptionUtils.REMOTE_INFERENCE_DISABLED_ERR_MSG;
 import static org.opensearch.ml.utils.RestActionUtils.PARAMETER_ALGORITHM;
+import static org.opensearch.ml.utils.RestActionUtils.PARAMETER_MODEL_GROUP_ID;
 import static org.opensearch.ml.utils.RestActionUtils.PARAMETER_MODEL_ID;
+import static org.opensearch.ml.utils.RestActionUtils.PARAMETER_PROFILE;
 import static org.opensearch.ml.utils.RestActionUtils.getParameterId;
 
 import java.io.IOException;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
 
 import org.opensearch.client.node.NodeClient;
 import org.opensearch.common.util.concurrent.ThreadContext;
@@ -31,6 +34,7 @@ import org.opensearch.ml.model.MLModelManager;
 import org.opensearch.ml.settings.MLFeatureEnabledSetting;
 import org.opensearch.rest.BaseRestHandler;
 import org.opensearch.rest.BytesRestResponse;
+import org.opensearch.rest.RestChannel;
 import org.opensearch.rest.RestRequest;
 import org.opensearch.rest.action.RestToXContentListener;
 
@@ -68,12 +72,27 @@ public class RestMLPredictionAction extends BaseRestHandler {
                     RestRequest.Method.POST,
                     String.format(Locale.ROOT, "%s/_predict/{%s}/{%s}", ML_BASE_URI, PARAMETER_ALGORITHM, PARAMETER_MODEL_ID)
                 ),
-                new Route(RestRequest.Method.POST, String.format(Locale.ROOT, "%s/models/{%s}/_predict", ML_BASE_URI, PARAMETER_MODEL_ID))
+                new Route(RestRequest.Method.POST, String.format(Locale.ROOT, "%s/models/{%s}/_predict", ML_BASE_URI, PARAMETER_MODEL_ID)),
+                new Route(
+                    RestRequest.Method.POST,
+                    String.format(Locale.ROOT, "%s/model_groups/{%s}/_predict", ML_BASE_URI, PARAMETER_MODEL_GROUP_ID)
+                )
             );
     }
 
+    /**
+     * The profile parameter is read when the predict request is created, which can happen after the model is fetched.
+     */
+    @Override
+    protected Set<String> responseParams() {
+        return Set.of(PARAMETER_PROFILE);
+    }
+
     @Override
     public RestChannelConsumer prepareRequest(RestRequest request, NodeClient client) throws IOException {
+        if (request.hasParam(PARAMETER_MODEL_GROUP_ID)) {
+            return prepareModelGroupRequest(request, client);
+        }
         String algorithm = request.param(PARAMETER_ALGORITHM);
         String modelId = getParameterId(request, PARAMETER_MODEL_ID);
         Optional<FunctionName> functionName = modelManager.getOptionalModelFunctionName(modelId);
@@ -111,6 +130,47 @@ public class RestMLPredictionAction extends BaseRestHandler {
         };
     }
 
+    /**
+     * Predict with the model version serving the model group, which is switched by the model group swap API.
+     */
+    private RestChannelConsumer prepareModelGroupRequest(RestRequest request, NodeClient client) {
+        String modelGroupId = getParameterId(request, PARAMETER_MODEL_GROUP_ID);
+        return channel -> {
+            ActionListener<String> servingModelListener = ActionListener.wrap(modelId -> {
+                Optional<FunctionName> functionName = modelManager.getOptionalModelFunctionName(modelId);
+                if (functionName.isPresent()) {
+                    client
+                        .execute(
+                            MLPredictionTaskAction.INSTANCE,
+                            getRequest(modelId, functionName.get().name(), request),
+                            new RestToXContentListener<>(channel)
+                        );
+                    return;
+                }
+                try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+                    modelManager.getModel(modelId, ActionListener.runBefore(ActionListener.wrap(mlModel -> {
+                        client
+                            .execute(
+                                MLPredictionTaskAction.INSTANCE,
+                                getRequest(modelId, mlModel.getAlgorithm().name(), request),
+                                new RestToXContentListener<>(channel)
+                            );
+                    }, e -> sendErrorResponse(channel, e)), context::restore));
+                }
+            }, e -> sendErrorResponse(channel, e));
+            modelManager.getServingModelId(modelGroupId, servingModelListener);
+        };
+    }
+
+    private void sendErrorResponse(RestChannel channel, Exception e) {
+        log.error("Failed to predict with model group", e);
+        try {
+            channel.sendResponse(new BytesRestResponse(channel, e));
+        } catch (IOException ex) {
+            log.error("Failed to send error response", ex);
+        }
+    }
+
     /**
      * Creates a MLPredictionTaskRequest from a RestRequest
      *
@@ -125,7 +185,9 @@ public class RestMLPredictionAction extends BaseRestHandler {
         XContentParser parser = request.contentParser();
         ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
         MLInput mlInput = MLInput.parse(parser, algorithm);
-        return new MLPredictionTaskRequest(modelId, mlInput, null);
+        MLPredictionTaskRequest mlPredictionTaskRequest = new MLPredictionTaskRequest(modelId, mlInput, null);
+        mlPredictionTaskRequest.setProfile(request.paramAsBoolean(PARAMETER_PROFILE, false));
+        return mlPredictionTaskRequest;
     }
 
 }
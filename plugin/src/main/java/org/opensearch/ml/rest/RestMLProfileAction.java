@@ -163,7 +163,10 @@ public class RestMLProfileAction extends BaseRestHandler {
                     entry.getValue().getModelInferenceStats(),
                     entry.getValue().getPredictRequestStats(),
                     entry.getValue().getMemSizeEstimationCPU(),
-                    entry.getValue().getMemSizeEstimationGPU()
+                    entry.getValue().getMemSizeEstimationGPU(),
+                    entry.getValue().getEvicted(),
+                    entry.getValue().getPredictStageStats(),
+                    entry.getValue().getResourceStats()
                 );
                 mlProfileModelResponse.getMlModelProfileMap().putAll(ImmutableMap.of(nodeId, modelProfile));
             }
@@ -0,0 +1,75 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.rest;
+
+import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.ML_BASE_URI;
+import static org.opensearch.ml.utils.RestActionUtils.PARAMETER_MODEL_GROUP_ID;
+import static org.opensearch.ml.utils.RestActionUtils.getParameterId;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.ml.common.transport.model_group.MLModelGroupSwapAction;
+import org.opensearch.ml.common.transport.model_group.MLModelGroupSwapRequest;
+import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.action.RestToXContentListener;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Model group swap API. Starts an async task which moves predict traffic of a model group to another model version.
+ * Check the progress of the swap with the get task API.
+ */
+public class RestMLSwapModelGroupAction extends BaseRestHandler {
+    private static final String ML_SWAP_MODEL_GROUP_ACTION = "ml_swap_model_group_action";
+
+    /**
+     * Constructor
+     */
+    public RestMLSwapModelGroupAction() {}
+
+    @Override
+    public String getName() {
+        return ML_SWAP_MODEL_GROUP_ACTION;
+    }
+
+    @Override
+    public List<Route> routes() {
+        return ImmutableList
+            .of(
+                new Route(
+                    RestRequest.Method.POST,
+                    String.format(Locale.ROOT, "%s/model_groups/{%s}/_swap", ML_BASE_URI, PARAMETER_MODEL_GROUP_ID)
+                )
+            );
+    }
+
+    @Override
+    public RestChannelConsumer prepareRequest(RestRequest request, NodeClient client) throws IOException {
+        MLModelGroupSwapRequest swapRequest = getRequest(request);
+        return channel -> client.execute(MLModelGroupSwapAction.INSTANCE, swapRequest, new RestToXContentListener<>(channel));
+    }
+
+    /**
+     * Creates a MLModelGroupSwapRequest from a RestRequest
+     *
+     * @param request RestRequest
+     * @return MLModelGroupSwapRequest
+     */
+    @VisibleForTesting
+    MLModelGroupSwapRequest getRequest(RestRequest request) throws IOException {
+        String modelGroupId = getParameterId(request, PARAMETER_MODEL_GROUP_ID);
+        XContentParser parser = request.contentParser();
+        ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
+        return MLModelGroupSwapRequest.parse(parser, modelGroupId);
+    }
+}
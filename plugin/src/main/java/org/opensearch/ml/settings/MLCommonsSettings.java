@@ -9,6 +9,7 @@ import java.util.List;
 import java.util.function.Function;
 
 import org.opensearch.common.settings.Setting;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.ml.common.conversation.ConversationalIndexConstants;
 import org.opensearch.searchpipelines.questionanswering.generative.GenerativeQAProcessorConstants;
 
@@ -21,8 +22,26 @@ public final class MLCommonsSettings {
     public static final Setting<String> ML_COMMONS_TASK_DISPATCH_POLICY = Setting
         .simpleString("plugins.ml_commons.task_dispatch_policy", "round_robin", Setting.Property.NodeScope, Setting.Property.Dynamic);
 
+    // When the coordinating node is a worker node of the model, serve predict requests locally instead of dispatching them.
+    public static final Setting<Boolean> ML_COMMONS_PREDICT_PREFER_LOCAL_WORKER = Setting
+        .boolSetting("plugins.ml_commons.predict.prefer_local_worker", false, Setting.Property.NodeScope, Setting.Property.Dynamic);
+
     public static final Setting<Integer> ML_COMMONS_MAX_MODELS_PER_NODE = Setting
         .intSetting("plugins.ml_commons.max_model_on_node", 10, 0, 10000, Setting.Property.NodeScope, Setting.Property.Dynamic);
+    // Local models without predict request for this long are evicted from memory of a node, and deployed again on the next
+    // predict request. 0 disables eviction, models can override it with their idle_ttl_in_minutes.
+    public static final Setting<Integer> ML_COMMONS_MODEL_IDLE_TTL_IN_MINUTES = Setting
+        .intSetting("plugins.ml_commons.model_idle_ttl_in_minutes", 0, 0, Setting.Property.NodeScope, Setting.Property.Dynamic);
+    // Predict requests waiting for an evicted model to be deployed again, per model.
+    public static final Setting<Integer> ML_COMMONS_LAZY_DEPLOY_MAX_QUEUED_REQUESTS = Setting
+        .intSetting(
+            "plugins.ml_commons.lazy_deploy.max_queued_requests",
+            1000,
+            1,
+            100000,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
     public static final Setting<Integer> ML_COMMONS_MAX_REGISTER_MODEL_TASKS_PER_NODE = Setting
         .intSetting(
             "plugins.ml_commons.max_register_model_tasks_per_node",
@@ -32,10 +51,93 @@ public final class MLCommonsSettings {
             Setting.Property.NodeScope,
             Setting.Property.Dynamic
         );
+    // Chunks of a model registered from URL are indexed while the model is downloaded, at most this many at a time.
+    public static final Setting<Integer> ML_COMMONS_REGISTER_CHUNK_INDEX_CONCURRENCY = Setting
+        .intSetting("plugins.ml_commons.register.chunk_index_concurrency", 4, 1, 32, Setting.Property.NodeScope, Setting.Property.Dynamic);
+    // Registering a model from URL fails as soon as the downloaded content exceeds this size.
+    public static final Setting<Integer> ML_COMMONS_REGISTER_MAX_MODEL_SIZE_IN_MB = Setting
+        .intSetting(
+            "plugins.ml_commons.register.max_model_size_in_mb",
+            4096,
+            1,
+            Integer.MAX_VALUE,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+    public static final Setting<Integer> ML_COMMONS_DEPLOY_CHUNK_FETCH_CONCURRENCY = Setting
+        .intSetting("plugins.ml_commons.deploy.chunk_fetch_concurrency", 4, 1, 32, Setting.Property.NodeScope, Setting.Property.Dynamic);
+    // Nodes deploying the same model read chunks from each other in a tree with this fan-out, instead of all of them
+    // reading the model index.
+    public static final Setting<Boolean> ML_COMMONS_DEPLOY_PEER_CHUNK_DISTRIBUTION_ENABLED = Setting
+        .boolSetting(
+            "plugins.ml_commons.deploy.peer_chunk_distribution.enabled",
+            true,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+    public static final Setting<Integer> ML_COMMONS_DEPLOY_PEER_FAN_OUT = Setting
+        .intSetting("plugins.ml_commons.deploy.peer_fan_out", 2, 1, 16, Setting.Property.NodeScope, Setting.Property.Dynamic);
+    // Verified model zip files are kept on local disk keyed by model content hash, so redeploying an unchanged model skips
+    // reading its chunks from the model index.
+    public static final Setting<Boolean> ML_COMMONS_MODEL_ARTIFACT_CACHE_ENABLED = Setting
+        .boolSetting("plugins.ml_commons.model_artifact_cache.enabled", true, Setting.Property.NodeScope, Setting.Property.Dynamic);
+    public static final Setting<Integer> ML_COMMONS_MODEL_ARTIFACT_CACHE_MAX_SIZE_IN_MB = Setting
+        .intSetting(
+            "plugins.ml_commons.model_artifact_cache.max_size_in_mb",
+            10240,
+            0,
+            Integer.MAX_VALUE,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
     public static final Setting<Integer> ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE = Setting
         .intSetting("plugins.ml_commons.max_deploy_model_tasks_per_node", 10, 0, 10, Setting.Property.NodeScope, Setting.Property.Dynamic);
+    // Models on a node can use at most this percentage of the native memory, the total physical memory minus the max JVM
+    // heap, by their estimated memory size. Deployed models and models being deployed both count against it. Admission is
+    // skipped if the OS doesn't report the physical memory.
+    public static final Setting<Integer> ML_COMMONS_DEPLOY_NATIVE_MEMORY_ADMISSION_PERCENT = Setting
+        .intSetting(
+            "plugins.ml_commons.deploy.native_memory_admission_percent",
+            90,
+            1,
+            100,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
     public static final Setting<Integer> ML_COMMONS_MAX_ML_TASK_PER_NODE = Setting
         .intSetting("plugins.ml_commons.max_ml_task_per_node", 10, 0, 10000, Setting.Property.NodeScope, Setting.Property.Dynamic);
+    public static final Setting<Boolean> ML_COMMONS_TASK_UPDATE_BUFFER_ENABLED = Setting
+        .boolSetting("plugins.ml_commons.task_update_buffer.enabled", true, Setting.Property.NodeScope, Setting.Property.Dynamic);
+    public static final Setting<Integer> ML_COMMONS_TASK_UPDATE_BUFFER_FLUSH_INTERVAL_IN_MILLIS = Setting
+        .intSetting(
+            "plugins.ml_commons.task_update_buffer.flush_interval_in_millis",
+            200,
+            0,
+            60000,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+    public static final Setting<Integer> ML_COMMONS_TASK_UPDATE_BUFFER_MAX_BATCH_SIZE = Setting
+        .intSetting(
+            "plugins.ml_commons.task_update_buffer.max_batch_size",
+            500,
+            1,
+            10000,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+    public static final Setting<Integer> ML_COMMONS_BULK_PREDICT_MAX_CONCURRENCY_PER_NODE = Setting
+        .intSetting(
+            "plugins.ml_commons.bulk_predict.max_concurrency_per_node",
+            4,
+            1,
+            1000,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+    // Bulk predict requests with more inputs are rejected, all inputs and their results are held in memory
+    public static final Setting<Integer> ML_COMMONS_BULK_PREDICT_MAX_INPUTS = Setting
+        .intSetting("plugins.ml_commons.bulk_predict.max_inputs", 10000, 1, 1000000, Setting.Property.NodeScope, Setting.Property.Dynamic);
     public static final Setting<Boolean> ML_COMMONS_ONLY_RUN_ON_ML_NODE = Setting
         .boolSetting("plugins.ml_commons.only_run_on_ml_node", true, Setting.Property.NodeScope, Setting.Property.Dynamic);
 
@@ -53,6 +155,90 @@ public final class MLCommonsSettings {
 
     public static final Setting<Integer> ML_COMMONS_ML_TASK_TIMEOUT_IN_SECONDS = Setting
         .intSetting("plugins.ml_commons.ml_task_timeout_in_seconds", 600, 1, 86400, Setting.Property.NodeScope, Setting.Property.Dynamic);
+    // Max number of models with per-model stats on a node. Stats of models beyond it are not tracked until others are undeployed.
+    public static final Setting<Integer> ML_COMMONS_MAX_MODEL_STATS_PER_NODE = Setting
+        .intSetting("plugins.ml_commons.max_model_stats_per_node", 1000, 0, 100_000, Setting.Property.NodeScope, Setting.Property.Dynamic);
+
+    // Predict slow log. Requests are logged at the most severe level whose threshold the total latency on the worker node
+    // or the latency of any single predict stage reaches. -1 disables a threshold.
+    public static final String ML_COMMONS_PREDICT_SLOWLOG_PREFIX = "plugins.ml_commons.predict.slowlog.";
+    public static final String ML_COMMONS_PREDICT_SLOWLOG_MODEL_PREFIX = ML_COMMONS_PREDICT_SLOWLOG_PREFIX + "model.";
+    public static final List<String> ML_COMMONS_PREDICT_SLOWLOG_THRESHOLD_KEYS = List
+        .of("threshold.warn", "threshold.info", "threshold.debug", "stage_threshold.warn", "stage_threshold.info", "stage_threshold.debug");
+    public static final Setting<TimeValue> ML_COMMONS_PREDICT_SLOWLOG_THRESHOLD_WARN = slowLogThreshold("threshold.warn");
+    public static final Setting<TimeValue> ML_COMMONS_PREDICT_SLOWLOG_THRESHOLD_INFO = slowLogThreshold("threshold.info");
+    public static final Setting<TimeValue> ML_COMMONS_PREDICT_SLOWLOG_THRESHOLD_DEBUG = slowLogThreshold("threshold.debug");
+    public static final Setting<TimeValue> ML_COMMONS_PREDICT_SLOWLOG_STAGE_THRESHOLD_WARN = slowLogThreshold("stage_threshold.warn");
+    public static final Setting<TimeValue> ML_COMMONS_PREDICT_SLOWLOG_STAGE_THRESHOLD_INFO = slowLogThreshold("stage_threshold.info");
+    public static final Setting<TimeValue> ML_COMMONS_PREDICT_SLOWLOG_STAGE_THRESHOLD_DEBUG = slowLogThreshold("stage_threshold.debug");
+    // Thresholds of a model overriding the ones above, like plugins.ml_commons.predict.slowlog.model.<model_id>.threshold.warn
+    public static final Setting.AffixSetting<TimeValue> ML_COMMONS_PREDICT_SLOWLOG_MODEL_THRESHOLD = Setting
+        .prefixKeySetting(ML_COMMONS_PREDICT_SLOWLOG_MODEL_PREFIX, MLCommonsSettings::slowLogModelThreshold);
+    // Fraction of the requests over a threshold which are logged, to bound the volume of the slow log.
+    public static final Setting<Double> ML_COMMONS_PREDICT_SLOWLOG_SAMPLE_RATE = Setting
+        .doubleSetting(
+            ML_COMMONS_PREDICT_SLOWLOG_PREFIX + "sample_rate",
+            1.0,
+            0.0,
+            1.0,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+    // Max number of characters of the model input logged with a slow request. The input may hold sensitive data, 0 doesn't log it.
+    public static final Setting<Integer> ML_COMMONS_PREDICT_SLOWLOG_INPUT_MAX_CHARS = Setting
+        .intSetting(
+            ML_COMMONS_PREDICT_SLOWLOG_PREFIX + "input_max_chars",
+            0,
+            0,
+            100_000,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // CPU sampling profiler of the ML thread pools, disabled by default as it's meant for diagnosing a node on demand.
+    public static final Setting<Boolean> ML_COMMONS_CPU_PROFILER_ENABLED = Setting
+        .boolSetting("plugins.ml_commons.cpu_profiler.enabled", false, Setting.Property.NodeScope, Setting.Property.Dynamic);
+    public static final Setting<TimeValue> ML_COMMONS_CPU_PROFILER_MAX_DURATION = Setting
+        .timeSetting(
+            "plugins.ml_commons.cpu_profiler.max_duration",
+            TimeValue.timeValueSeconds(60),
+            TimeValue.timeValueSeconds(1),
+            TimeValue.timeValueMinutes(10),
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+    // Max fraction of the profiling time spent taking samples, samples are skipped while the sampler is over it.
+    public static final Setting<Double> ML_COMMONS_CPU_PROFILER_OVERHEAD_BUDGET = Setting
+        .doubleSetting(
+            "plugins.ml_commons.cpu_profiler.overhead_budget",
+            0.01,
+            0.001,
+            0.1,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    private static Setting<TimeValue> slowLogThreshold(String key) {
+        return slowLogThresholdOfKey(ML_COMMONS_PREDICT_SLOWLOG_PREFIX + key);
+    }
+
+    private static Setting<TimeValue> slowLogModelThreshold(String key) {
+        String modelKey = key.substring(ML_COMMONS_PREDICT_SLOWLOG_MODEL_PREFIX.length());
+        boolean valid = ML_COMMONS_PREDICT_SLOWLOG_THRESHOLD_KEYS
+            .stream()
+            .anyMatch(it -> modelKey.endsWith("." + it) && modelKey.length() > it.length() + 1);
+        if (!valid) {
+            throw new IllegalArgumentException(
+                "Unknown slow log setting [" + key + "], expected a model id and one of " + ML_COMMONS_PREDICT_SLOWLOG_THRESHOLD_KEYS
+            );
+        }
+        return slowLogThresholdOfKey(key);
+    }
+
+    private static Setting<TimeValue> slowLogThresholdOfKey(String key) {
+        return Setting.timeSetting(key, TimeValue.MINUS_ONE, TimeValue.MINUS_ONE, Setting.Property.NodeScope, Setting.Property.Dynamic);
+    }
+
     public static final Setting<Long> ML_COMMONS_MONITORING_REQUEST_COUNT = Setting
         .longSetting(
             "plugins.ml_commons.monitoring_request_count",
@@ -88,6 +274,10 @@ public final class MLCommonsSettings {
     public static final Setting<Integer> ML_COMMONS_MODEL_AUTO_REDEPLOY_LIFETIME_RETRY_TIMES = Setting
         .intSetting("plugins.ml_commons.model_auto_redeploy.lifetime_retry_times", 3, Setting.Property.NodeScope, Setting.Property.Dynamic);
 
+    // Max number of models redeployed at the same time by model auto redeploy.
+    public static final Setting<Integer> ML_COMMONS_MODEL_AUTO_REDEPLOY_CONCURRENCY = Setting
+        .intSetting("plugins.ml_commons.model_auto_redeploy.concurrency", 4, 1, 10, Setting.Property.NodeScope, Setting.Property.Dynamic);
+
     public static final Setting<Float> ML_COMMONS_MODEL_AUTO_REDEPLOY_SUCCESS_RATIO = Setting
         .floatSetting(
             "plugins.ml_commons.model_auto_redeploy_success_ratio",
@@ -135,6 +325,12 @@ public final class MLCommonsSettings {
             Setting.Property.Dynamic
         );
 
+    // Security sensitive: allows http connectors to call endpoints on private and loopback addresses, which turns off their
+    // SSRF protection. Only meant for test clusters calling a local stub model server, like the predict load test. It's a
+    // node setting, so it can't be enabled through the cluster settings API.
+    public static final Setting<Boolean> ML_COMMONS_CONNECTOR_PRIVATE_IP_ENABLED = Setting
+        .boolSetting("plugins.ml_commons.connector.private_ip_enabled", false, Setting.Property.NodeScope);
+
     /**
      * Per PM's suggestion, remote model should be able to run on data or ML node by default.
      * But we should also keep local model run on ML node by default. So we still keep
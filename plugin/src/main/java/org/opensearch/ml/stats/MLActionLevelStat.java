@@ -5,6 +5,10 @@
 
 package org.opensearch.ml.stats;
 
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * ML commons has 4 levels of stats: cluster, node, algorithm and action.
  * This enum represents action level stats.
@@ -13,7 +17,20 @@ package org.opensearch.ml.stats;
  */
 public enum MLActionLevelStat {
     ML_ACTION_REQUEST_COUNT,
-    ML_ACTION_FAILURE_COUNT;
+    ML_ACTION_FAILURE_COUNT,
+    // resources used by predict requests of a model on the node
+    ML_ACTION_CPU_TIME_IN_NANOS,
+    ML_ACTION_ALLOCATED_BYTES,
+    ML_ACTION_REMOTE_BYTES_SENT,
+    ML_ACTION_REMOTE_BYTES_RECEIVED;
+
+    /**
+     * Stats which nodes of older versions don't know.
+     */
+    public static final Set<MLActionLevelStat> RESOURCE_STATS = Collections
+        .unmodifiableSet(
+            EnumSet.of(ML_ACTION_CPU_TIME_IN_NANOS, ML_ACTION_ALLOCATED_BYTES, ML_ACTION_REMOTE_BYTES_SENT, ML_ACTION_REMOTE_BYTES_RECEIVED)
+        );
 
     public static MLActionLevelStat from(String value) {
         try {
@@ -6,9 +6,11 @@
 package org.opensearch.ml.stats;
 
 import java.io.IOException;
+import java.util.EnumMap;
 import java.util.Locale;
 import java.util.Map;
 
+import org.opensearch.Version;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
@@ -16,6 +18,7 @@ import org.opensearch.core.xcontent.ToXContentFragment;
 import org.opensearch.core.xcontent.XContentBuilder;
 
 public class MLActionStats implements ToXContentFragment, Writeable {
+    public static final Version MINIMAL_SUPPORTED_VERSION_FOR_RESOURCE_STATS = Version.V_2_13_0;
 
     /**
      * Action level stats.
@@ -36,7 +39,17 @@ public class MLActionStats implements ToXContentFragment, Writeable {
 
     @Override
     public void writeTo(StreamOutput out) throws IOException {
-        out.writeMap(actionStats, (stream, v) -> stream.writeEnum(v), StreamOutput::writeGenericValue);
+        Map<MLActionLevelStat, Object> stats = actionStats;
+        if (out.getVersion().before(MINIMAL_SUPPORTED_VERSION_FOR_RESOURCE_STATS)) {
+            // older nodes fail to read stats they don't know
+            stats = new EnumMap<>(MLActionLevelStat.class);
+            for (Map.Entry<MLActionLevelStat, Object> entry : actionStats.entrySet()) {
+                if (!MLActionLevelStat.RESOURCE_STATS.contains(entry.getKey())) {
+                    stats.put(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+        out.writeMap(stats, (stream, v) -> stream.writeEnum(v), StreamOutput::writeGenericValue);
     }
 
     @Override
@@ -0,0 +1,63 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.stats;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.opensearch.ml.common.FunctionName;
+
+import lombok.Getter;
+
+/**
+ * Counter handles of one algorithm and action, the algorithm level counterpart of {@link MLModelActionCounters}. Each
+ * counter is resolved from {@link MLStats} the first time it's recorded and then kept, so only recorded stats are reported.
+ */
+public class MLAlgoActionCounters {
+    private final MLStats mlStats;
+    @Getter
+    private final FunctionName algoName;
+    @Getter
+    private final ActionName action;
+    private final AtomicReferenceArray<MLStat<?>> counters = new AtomicReferenceArray<>(MLActionLevelStat.values().length);
+
+    /**
+     * Constructor
+     *
+     * @param mlStats ML stats
+     * @param algoName algorithm name
+     * @param action action of the counters
+     */
+    public MLAlgoActionCounters(MLStats mlStats, FunctionName algoName, ActionName action) {
+        this.mlStats = mlStats;
+        this.algoName = algoName;
+        this.action = action;
+    }
+
+    /**
+     * Get the counter of a stat, resolve it if it's the first use.
+     *
+     * @param stat stat name
+     * @return counter
+     */
+    public MLStat<?> get(MLActionLevelStat stat) {
+        MLStat<?> counter = counters.get(stat.ordinal());
+        if (counter == null) {
+            // concurrent first uses resolve the same stat from MLStats
+            counter = mlStats.createCounterStatIfAbsent(algoName, action, stat);
+            counters.set(stat.ordinal(), counter);
+        }
+        return counter;
+    }
+
+    /**
+     * Increment the counter of a stat by 1.
+     *
+     * @param stat stat name
+     */
+    public void increment(MLActionLevelStat stat) {
+        get(stat).increment();
+    }
+}
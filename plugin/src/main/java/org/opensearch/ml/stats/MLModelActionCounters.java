@@ -0,0 +1,75 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.stats;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import lombok.Getter;
+
+/**
+ * Counter handles of one model and action. Each counter is resolved from {@link MLStats} the first time it's recorded and
+ * then kept, so recording on hot paths like predict is a single counter increment instead of a walk over the stats maps.
+ * Counters are resolved lazily to only report stats which were recorded. Handles are kept in the model cache and dropped
+ * together with the model stats when the model is undeployed.
+ */
+public class MLModelActionCounters {
+    private final MLStats mlStats;
+    @Getter
+    private final String modelId;
+    @Getter
+    private final ActionName action;
+    private final AtomicReferenceArray<MLStat<?>> counters = new AtomicReferenceArray<>(MLActionLevelStat.values().length);
+
+    /**
+     * Constructor
+     *
+     * @param mlStats ML stats
+     * @param modelId model id
+     * @param action action of the counters
+     */
+    public MLModelActionCounters(MLStats mlStats, String modelId, ActionName action) {
+        this.mlStats = mlStats;
+        this.modelId = modelId;
+        this.action = action;
+    }
+
+    /**
+     * Get the counter of a stat, resolve it if it's the first use.
+     *
+     * @param stat stat name
+     * @return counter
+     */
+    public MLStat<?> get(MLActionLevelStat stat) {
+        MLStat<?> counter = counters.get(stat.ordinal());
+        if (counter == null) {
+            // concurrent first uses resolve the same stat from MLStats
+            counter = mlStats.createModelCounterStatIfAbsent(modelId, action, stat);
+            counters.set(stat.ordinal(), counter);
+        }
+        return counter;
+    }
+
+    /**
+     * Increment the counter of a stat by 1.
+     *
+     * @param stat stat name
+     */
+    public void increment(MLActionLevelStat stat) {
+        get(stat).increment();
+    }
+
+    /**
+     * Add a value to the counter of a stat, values which are not positive are skipped.
+     *
+     * @param stat stat name
+     * @param value value to add
+     */
+    public void add(MLActionLevelStat stat, long value) {
+        if (value > 0) {
+            get(stat).add(value);
+        }
+    }
+}
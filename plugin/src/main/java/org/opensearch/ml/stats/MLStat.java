@@ -61,6 +61,17 @@ public class MLStat<T> {
         }
     }
 
+    /**
+     * Add a delta to the supplier if it can be incremented
+     *
+     * @param delta value to add
+     */
+    public void add(long delta) {
+        if (supplier instanceof CounterSupplier) {
+            ((CounterSupplier) supplier).add(delta);
+        }
+    }
+
     /**
      * Decrease the supplier if it can be decreased.
      */
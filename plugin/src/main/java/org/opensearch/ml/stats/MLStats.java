@@ -8,21 +8,28 @@ package org.opensearch.ml.stats;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.stats.suppliers.CounterSupplier;
 
 import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
 
 /**
  * This class is the main entry-point for access to the stats that the ML plugin keeps track of.
  */
+@Log4j2
 public class MLStats {
     @Getter
     private Map<Enum, MLStat<?>> stats;
     private Map<FunctionName, Map<ActionName, Map<MLActionLevelStat, MLStat>>> algoStats;// {"kmeans":{"train":{"request_count":10}}}
     private Map<String, Map<ActionName, Map<MLActionLevelStat, MLStat>>> modelStats;// {"model_id":{"train":{"request_count":10}}}
+    // max number of models with stats, stats of further models go to a detached stat which is never reported
+    private volatile int maxModelStats = Integer.MAX_VALUE;
+    private final MLStat<?> untrackedModelStat = new MLStat<>(false, new CounterSupplier());
+    private final AtomicBoolean untrackedModelStatLogged = new AtomicBoolean(false);
 
     /**
      * Constructor
@@ -59,15 +66,74 @@ public class MLStats {
     }
 
     public MLStat<?> createCounterStatIfAbsent(FunctionName algoName, ActionName action, MLActionLevelStat stat) {
+        MLStat<?> existing = getActionStat(algoStats.get(algoName), action, stat);
+        if (existing != null) {
+            return existing;
+        }
         Map<ActionName, Map<MLActionLevelStat, MLStat>> actionStats = algoStats.computeIfAbsent(algoName, it -> new ConcurrentHashMap<>());
         Map<MLActionLevelStat, MLStat> algoActionStats = actionStats.computeIfAbsent(action, it -> new ConcurrentHashMap<>());
         return createAlgoStatIfAbsent(algoActionStats, stat, () -> new MLStat<>(false, new CounterSupplier()));
     }
 
+    /**
+     * Get counter stat of a model or create it if absent. Once the number of models with stats reaches the limit, stats of
+     * other models are not tracked and a detached stat is returned, so callers can always increment the result.
+     * Callers on hot paths should keep the result, see {@link MLModelActionCounters}.
+     *
+     * @param modelId model id
+     * @param action action name
+     * @param stat stat name
+     * @return existing MLStat, new MLStat, or a detached MLStat if the model is not tracked
+     */
     public MLStat<?> createModelCounterStatIfAbsent(String modelId, ActionName action, MLActionLevelStat stat) {
-        Map<ActionName, Map<MLActionLevelStat, MLStat>> actionStats = modelStats.computeIfAbsent(modelId, it -> new ConcurrentHashMap<>());
-        Map<MLActionLevelStat, MLStat> algoActionStats = actionStats.computeIfAbsent(action, it -> new ConcurrentHashMap<>());
-        return createAlgoStatIfAbsent(algoActionStats, stat, () -> new MLStat<>(false, new CounterSupplier()));
+        Map<ActionName, Map<MLActionLevelStat, MLStat>> actionStats = modelStats.get(modelId);
+        MLStat<?> existing = getActionStat(actionStats, action, stat);
+        if (existing != null) {
+            return existing;
+        }
+        if (actionStats == null) {
+            if (modelStats.size() >= maxModelStats) {
+                if (untrackedModelStatLogged.compareAndSet(false, true)) {
+                    log.warn("Stats are tracked for at most {} models on this node, model {} is not tracked", maxModelStats, modelId);
+                }
+                return untrackedModelStat;
+            }
+            actionStats = modelStats.computeIfAbsent(modelId, it -> new ConcurrentHashMap<>());
+        }
+        Map<MLActionLevelStat, MLStat> modelActionStats = actionStats.computeIfAbsent(action, it -> new ConcurrentHashMap<>());
+        return modelActionStats.computeIfAbsent(stat, it -> new MLStat<>(false, new CounterSupplier()));
+    }
+
+    private MLStat<?> getActionStat(
+        Map<ActionName, Map<MLActionLevelStat, MLStat>> actionStats,
+        ActionName action,
+        MLActionLevelStat stat
+    ) {
+        if (actionStats == null) {
+            return null;
+        }
+        Map<MLActionLevelStat, MLStat> statMap = actionStats.get(action);
+        return statMap == null ? null : statMap.get(stat);
+    }
+
+    /**
+     * Remove all stats of a model, for example when the model is undeployed from this node. Counter handles of the model
+     * which are still referenced keep counting but are not reported anymore.
+     *
+     * @param modelId model id
+     */
+    public void removeModelStats(String modelId) {
+        modelStats.remove(modelId);
+    }
+
+    /**
+     * Set the max number of models with stats on this node. Models which already have stats keep them.
+     *
+     * @param maxModelStats max number of models
+     */
+    public void setMaxModelStats(int maxModelStats) {
+        this.maxModelStats = maxModelStats;
+        untrackedModelStatLogged.set(false);
     }
 
     public synchronized MLStat<?> createAlgoStatIfAbsent(
@@ -0,0 +1,79 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.stats.metrics;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.opensearch.telemetry.metrics.Counter;
+import org.opensearch.telemetry.metrics.MetricsRegistry;
+
+/**
+ * Monotonic counter. The family name has no <code>_total</code> suffix, it's added to the exported samples.
+ */
+public class MLCounter extends MLMetric<MLCounter.Series> {
+    public static final String TYPE = "counter";
+
+    private volatile Counter instrument;
+
+    public MLCounter(String name, String help, String unit, String... labelNames) {
+        super(name, help, unit, labelNames);
+    }
+
+    /**
+     * Get or create the series of the given label values.
+     *
+     * @param labelValues label values, in the order of the label names
+     * @return series
+     */
+    public Series labels(String... labelValues) {
+        return getOrCreateSeries(labelValues, values -> new Series(this, values));
+    }
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    void bind(MetricsRegistry telemetry) {
+        instrument = telemetry.createCounter(getName(), getHelp(), getUnit());
+    }
+
+    @Override
+    void write(MLOpenMetricsWriter writer) {
+        writer.family(getName(), TYPE, getHelp());
+        for (Series series : getSeries()) {
+            writer.sample(getName() + "_total", getLabelNames(), series.getLabelValues(), series.get());
+        }
+    }
+
+    public static class Series extends MLMetric.Series {
+        private final MLCounter counter;
+        private final LongAdder value = new LongAdder();
+
+        Series(MLCounter counter, List<String> labelValues) {
+            super(counter.getLabelNames(), labelValues);
+            this.counter = counter;
+        }
+
+        public void inc() {
+            inc(1);
+        }
+
+        public void inc(long amount) {
+            value.add(amount);
+            Counter instrument = counter.instrument;
+            if (instrument != null) {
+                instrument.add(amount, getTags());
+            }
+        }
+
+        public long get() {
+            return value.sum();
+        }
+    }
+}
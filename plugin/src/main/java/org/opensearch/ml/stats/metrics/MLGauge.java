@@ -0,0 +1,109 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.stats.metrics;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+import java.util.function.DoubleSupplier;
+
+import org.opensearch.telemetry.metrics.MetricsRegistry;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Gauge whose series read their value from a supplier when they are exported or collected by telemetry.
+ */
+@Log4j2
+public class MLGauge extends MLMetric<MLGauge.Series> {
+    public static final String TYPE = "gauge";
+
+    private volatile MetricsRegistry telemetry;
+
+    public MLGauge(String name, String help, String unit, String... labelNames) {
+        super(name, help, unit, labelNames);
+    }
+
+    /**
+     * Register the series of the given label values, a series already registered keeps its supplier.
+     *
+     * @param supplier    supplier of the gauge value
+     * @param labelValues label values, in the order of the label names
+     * @return series
+     */
+    public Series register(DoubleSupplier supplier, String... labelValues) {
+        Series series = getOrCreateSeries(labelValues, values -> new Series(this, values, supplier));
+        MetricsRegistry telemetry = this.telemetry;
+        if (telemetry != null) {
+            series.bind(telemetry);
+        }
+        return series;
+    }
+
+    @Override
+    public Series remove(String... labelValues) {
+        Series series = super.remove(labelValues);
+        if (series != null) {
+            series.close();
+        }
+        return series;
+    }
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    void bind(MetricsRegistry telemetry) {
+        this.telemetry = telemetry;
+        for (Series series : getSeries()) {
+            series.bind(telemetry);
+        }
+    }
+
+    @Override
+    void write(MLOpenMetricsWriter writer) {
+        writer.family(getName(), TYPE, getHelp());
+        for (Series series : getSeries()) {
+            writer.sample(getName(), getLabelNames(), series.getLabelValues(), series.get());
+        }
+    }
+
+    public static class Series extends MLMetric.Series {
+        private final MLGauge gauge;
+        private final DoubleSupplier supplier;
+        private Closeable instrument;
+
+        Series(MLGauge gauge, List<String> labelValues, DoubleSupplier supplier) {
+            super(gauge.getLabelNames(), labelValues);
+            this.gauge = gauge;
+            this.supplier = supplier;
+        }
+
+        public double get() {
+            return supplier.getAsDouble();
+        }
+
+        private synchronized void bind(MetricsRegistry telemetry) {
+            if (instrument == null) {
+                instrument = telemetry.createGauge(gauge.getName(), gauge.getHelp(), gauge.getUnit(), this::get, getTags());
+            }
+        }
+
+        private synchronized void close() {
+            if (instrument == null) {
+                return;
+            }
+            try {
+                instrument.close();
+            } catch (IOException e) {
+                log.warn("Failed to close telemetry gauge " + gauge.getName(), e);
+            }
+            instrument = null;
+        }
+    }
+}
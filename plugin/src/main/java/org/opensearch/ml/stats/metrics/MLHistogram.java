@@ -0,0 +1,118 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.stats.metrics;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.opensearch.telemetry.metrics.Histogram;
+import org.opensearch.telemetry.metrics.MetricsRegistry;
+
+/**
+ * Histogram with fixed bucket upper bounds. Observing a value is O(log buckets) and doesn't allocate; buckets are counted
+ * separately and made cumulative when exported.
+ */
+public class MLHistogram extends MLMetric<MLHistogram.Series> {
+    public static final String TYPE = "histogram";
+
+    private final double[] buckets;
+    private volatile Histogram instrument;
+
+    /**
+     * Constructor.
+     *
+     * @param name       metric name
+     * @param help       metric description
+     * @param unit       unit of the observed values
+     * @param buckets    bucket upper bounds in increasing order, the +Inf bucket is implied
+     * @param labelNames label names
+     */
+    public MLHistogram(String name, String help, String unit, double[] buckets, String... labelNames) {
+        super(name, help, unit, labelNames);
+        for (int i = 1; i < buckets.length; i++) {
+            if (buckets[i] <= buckets[i - 1]) {
+                throw new IllegalArgumentException("Histogram buckets must be in increasing order: " + Arrays.toString(buckets));
+            }
+        }
+        this.buckets = buckets.clone();
+    }
+
+    /**
+     * Get or create the series of the given label values.
+     *
+     * @param labelValues label values, in the order of the label names
+     * @return series
+     */
+    public Series labels(String... labelValues) {
+        return getOrCreateSeries(labelValues, values -> new Series(this, values));
+    }
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    void bind(MetricsRegistry telemetry) {
+        instrument = telemetry.createHistogram(getName(), getHelp(), getUnit());
+    }
+
+    @Override
+    void write(MLOpenMetricsWriter writer) {
+        writer.family(getName(), TYPE, getHelp());
+        for (Series series : getSeries()) {
+            long cumulativeCount = 0;
+            for (int i = 0; i <= buckets.length; i++) {
+                cumulativeCount += series.bucketCounts[i].sum();
+                String upperBound = i < buckets.length ? MLOpenMetricsWriter.format(buckets[i]) : "+Inf";
+                writer.sample(getName() + "_bucket", getLabelNames(), series.getLabelValues(), "le", upperBound, cumulativeCount);
+            }
+            writer.sample(getName() + "_count", getLabelNames(), series.getLabelValues(), cumulativeCount);
+            writer.sample(getName() + "_sum", getLabelNames(), series.getLabelValues(), series.sum.sum());
+        }
+    }
+
+    public static class Series extends MLMetric.Series {
+        private final MLHistogram histogram;
+        // the last bucket counts values above the highest upper bound
+        private final LongAdder[] bucketCounts;
+        private final DoubleAdder sum = new DoubleAdder();
+
+        Series(MLHistogram histogram, List<String> labelValues) {
+            super(histogram.getLabelNames(), labelValues);
+            this.histogram = histogram;
+            this.bucketCounts = new LongAdder[histogram.buckets.length + 1];
+            for (int i = 0; i < bucketCounts.length; i++) {
+                bucketCounts[i] = new LongAdder();
+            }
+        }
+
+        public void observe(double value) {
+            int index = Arrays.binarySearch(histogram.buckets, value);
+            // bounds are inclusive, a value between two bounds goes to the bucket of the upper one
+            bucketCounts[index >= 0 ? index : -index - 1].increment();
+            sum.add(value);
+            Histogram instrument = histogram.instrument;
+            if (instrument != null) {
+                instrument.record(value, getTags());
+            }
+        }
+
+        public long getCount() {
+            long count = 0;
+            for (LongAdder bucketCount : bucketCounts) {
+                count += bucketCount.sum();
+            }
+            return count;
+        }
+
+        public double getSum() {
+            return sum.sum();
+        }
+    }
+}
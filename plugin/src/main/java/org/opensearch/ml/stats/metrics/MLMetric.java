@@ -0,0 +1,135 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.stats.metrics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.opensearch.telemetry.metrics.MetricsRegistry;
+import org.opensearch.telemetry.metrics.tags.Tags;
+
+import lombok.Getter;
+
+/**
+ * A metric family: a named metric with label names, and one series per distinct set of label values. Series are created
+ * on first use and cached, callers on hot paths keep the series they record into. Every family is exported in OpenMetrics
+ * text format, and also recorded into the OpenSearch telemetry framework once the registry is bound to it.
+ *
+ * @param <S> series type
+ */
+public abstract class MLMetric<S extends MLMetric.Series> {
+    @Getter
+    private final String name;
+    @Getter
+    private final String help;
+    // unit of the telemetry instrument
+    @Getter
+    private final String unit;
+    @Getter
+    private final List<String> labelNames;
+    private final Map<List<String>, S> series = new ConcurrentHashMap<>();
+
+    protected MLMetric(String name, String help, String unit, String... labelNames) {
+        this.name = name;
+        this.help = help;
+        this.unit = unit;
+        this.labelNames = List.of(labelNames);
+    }
+
+    /**
+     * OpenMetrics type of the family.
+     */
+    public abstract String getType();
+
+    /**
+     * Create the telemetry instruments of the family.
+     *
+     * @param telemetry telemetry metrics registry
+     */
+    abstract void bind(MetricsRegistry telemetry);
+
+    /**
+     * Write the family and all of its series.
+     *
+     * @param writer OpenMetrics writer
+     */
+    abstract void write(MLOpenMetricsWriter writer);
+
+    protected S getOrCreateSeries(String[] labelValues, Function<List<String>, S> factory) {
+        if (labelValues.length != labelNames.size()) {
+            throw new IllegalArgumentException(
+                "Metric " + name + " expects labels " + labelNames + ", got " + Arrays.toString(labelValues)
+            );
+        }
+        List<String> key = new ArrayList<>(labelValues.length);
+        for (String labelValue : labelValues) {
+            key.add(labelValue == null ? "" : labelValue);
+        }
+        S existing = series.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        return series.computeIfAbsent(Collections.unmodifiableList(key), factory);
+    }
+
+    /**
+     * Remove a series, for example the series of an undeployed model.
+     *
+     * @param labelValues label values of the series
+     * @return removed series, null if there is none
+     */
+    public S remove(String... labelValues) {
+        return series.remove(Arrays.asList(labelValues));
+    }
+
+    /**
+     * Remove every series with a label value, for example all series of an undeployed model.
+     *
+     * @param labelName  label name
+     * @param labelValue label value
+     */
+    public void removeAll(String labelName, String labelValue) {
+        int index = labelNames.indexOf(labelName);
+        if (index < 0) {
+            return;
+        }
+        for (List<String> labelValues : series.keySet()) {
+            if (labelValues.get(index).equals(labelValue)) {
+                remove(labelValues.toArray(new String[0]));
+            }
+        }
+    }
+
+    public Collection<S> getSeries() {
+        return series.values();
+    }
+
+    /**
+     * One series of a metric family, identified by its label values.
+     */
+    public abstract static class Series {
+        @Getter
+        private final List<String> labelValues;
+        // telemetry tags, built once for the series
+        @Getter
+        private final Tags tags;
+
+        protected Series(List<String> labelNames, List<String> labelValues) {
+            this.labelValues = labelValues;
+            Tags tags = Tags.create();
+            for (int i = 0; i < labelNames.size(); i++) {
+                tags.addTag(labelNames.get(i), labelValues.get(i));
+            }
+            this.tags = tags;
+        }
+    }
+}
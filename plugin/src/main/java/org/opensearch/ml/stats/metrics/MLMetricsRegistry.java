@@ -0,0 +1,240 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.stats.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.ToIntFunction;
+
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.stats.ActionName;
+import org.opensearch.ml.stats.MLActionLevelStat;
+import org.opensearch.ml.stats.MLActionStats;
+import org.opensearch.ml.stats.MLNodeLevelStat;
+import org.opensearch.ml.stats.MLStat;
+import org.opensearch.ml.stats.MLStats;
+import org.opensearch.telemetry.metrics.MetricsRegistry;
+import org.opensearch.threadpool.ThreadPool;
+
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Registry of the labeled metrics of this node: counters, gauges and histograms. It's exported in OpenMetrics text format
+ * by the metrics REST API, together with the counters of {@link MLStats}, and recorded into the OpenSearch telemetry
+ * framework once it is bound to the telemetry metrics registry of the node.
+ */
+@Log4j2
+public class MLMetricsRegistry {
+    public static final String MODEL_ID_LABEL = "model_id";
+    public static final String FUNCTION_NAME_LABEL = "function_name";
+    public static final String ACTION_LABEL = "action";
+    public static final String NODE_LABEL = "node";
+    public static final String THREAD_POOL_LABEL = "thread_pool";
+    public static final String STATUS_CODE_LABEL = "status_code";
+    public static final String BREAKER_LABEL = "breaker";
+    public static final String SOURCE_LABEL = "source";
+
+    public static final String SECONDS_UNIT = "s";
+    public static final String BYTES_UNIT = "bytes";
+    public static final String COUNT_UNIT = "1";
+
+    static final double[] PREDICT_LATENCY_BUCKETS = { 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10, 30, 60 };
+    static final double[] DEPLOY_DURATION_BUCKETS = { 1, 5, 10, 30, 60, 120, 300, 600, 1800, 3600 };
+
+    // node level stats of MLStats which only go up, the others are exported as gauges
+    private static final Set<MLNodeLevelStat> MONOTONIC_NODE_STATS = Set
+        .of(MLNodeLevelStat.ML_REQUEST_COUNT, MLNodeLevelStat.ML_FAILURE_COUNT, MLNodeLevelStat.ML_CIRCUIT_BREAKER_TRIGGER_COUNT);
+
+    // families are only added while the registry is constructed
+    private final List<MLMetric<?>> metrics = new ArrayList<>();
+    private volatile MLStats mlStats;
+
+    @Getter
+    private final MLHistogram predictLatency = register(
+        new MLHistogram(
+            "ml_predict_latency_seconds",
+            "Time of predict requests on the worker node, from the predict thread pool queue to the response.",
+            SECONDS_UNIT,
+            PREDICT_LATENCY_BUCKETS,
+            MODEL_ID_LABEL,
+            FUNCTION_NAME_LABEL
+        )
+    );
+    @Getter
+    private final MLHistogram deployDuration = register(
+        new MLHistogram(
+            "ml_model_deploy_duration_seconds",
+            "Time to deploy a model on this node.",
+            SECONDS_UNIT,
+            DEPLOY_DURATION_BUCKETS,
+            MODEL_ID_LABEL,
+            FUNCTION_NAME_LABEL
+        )
+    );
+    @Getter
+    private final MLCounter chunkFetchBytes = register(
+        new MLCounter(
+            "ml_model_chunk_fetch_bytes",
+            "Bytes of model chunks fetched to deploy models, by chunk source.",
+            BYTES_UNIT,
+            MODEL_ID_LABEL,
+            SOURCE_LABEL
+        )
+    );
+    @Getter
+    private final MLCounter remoteHttpResponses = register(
+        new MLCounter(
+            "ml_remote_http_responses",
+            "HTTP responses of remote models by status code.",
+            COUNT_UNIT,
+            MODEL_ID_LABEL,
+            STATUS_CODE_LABEL
+        )
+    );
+    @Getter
+    private final MLCounter circuitBreakerRejections = register(
+        new MLCounter("ml_circuit_breaker_rejections", "Requests rejected by an open ML circuit breaker.", COUNT_UNIT, BREAKER_LABEL)
+    );
+    @Getter
+    private final MLGauge threadPoolQueueSize = register(
+        new MLGauge("ml_thread_pool_queue_size", "Tasks waiting in the queue of an ML thread pool.", COUNT_UNIT, THREAD_POOL_LABEL)
+    );
+    @Getter
+    private final MLGauge threadPoolActiveThreads = register(
+        new MLGauge("ml_thread_pool_active_threads", "Threads running tasks in an ML thread pool.", COUNT_UNIT, THREAD_POOL_LABEL)
+    );
+
+    private <T extends MLMetric<?>> T register(T metric) {
+        metrics.add(metric);
+        return metric;
+    }
+
+    /**
+     * Export the counters of ML stats together with the metrics of the registry.
+     *
+     * @param mlStats ML stats
+     */
+    public void registerStats(MLStats mlStats) {
+        this.mlStats = mlStats;
+    }
+
+    /**
+     * Register the queue size and active threads gauges of thread pools.
+     *
+     * @param threadPool  thread pool service
+     * @param threadPools names of the thread pools
+     */
+    public void registerThreadPools(ThreadPool threadPool, String... threadPools) {
+        for (String name : threadPools) {
+            threadPoolQueueSize.register(() -> threadPoolValue(threadPool, name, executor -> executor.getQueue().size()), name);
+            threadPoolActiveThreads.register(() -> threadPoolValue(threadPool, name, ThreadPoolExecutor::getActiveCount), name);
+        }
+    }
+
+    private static double threadPoolValue(ThreadPool threadPool, String name, ToIntFunction<ThreadPoolExecutor> value) {
+        ExecutorService executor = threadPool.executor(name);
+        return executor instanceof ThreadPoolExecutor ? value.applyAsInt((ThreadPoolExecutor) executor) : 0;
+    }
+
+    /**
+     * Remove all series of a model, once it's undeployed from this node.
+     *
+     * @param modelId model id
+     */
+    public void removeModel(String modelId) {
+        for (MLMetric<?> metric : metrics) {
+            metric.removeAll(MODEL_ID_LABEL, modelId);
+        }
+    }
+
+    /**
+     * Record the metrics into the OpenSearch telemetry framework. Metrics recorded before binding are only exported in
+     * OpenMetrics format.
+     *
+     * @param telemetry telemetry metrics registry of the node
+     */
+    public void bind(MetricsRegistry telemetry) {
+        for (MLMetric<?> metric : metrics) {
+            metric.bind(telemetry);
+        }
+        log.info("Bound ML metrics to the telemetry metrics registry");
+    }
+
+    /**
+     * Export the metrics in OpenMetrics text format.
+     *
+     * @param nodeId id of the local node, added as the node label of every sample
+     * @return exposition text
+     */
+    public String toOpenMetrics(String nodeId) {
+        MLOpenMetricsWriter writer = new MLOpenMetricsWriter(Map.of(NODE_LABEL, nodeId));
+        for (MLMetric<?> metric : metrics) {
+            metric.write(writer);
+        }
+        MLStats stats = mlStats;
+        if (stats != null) {
+            writeStats(writer, stats);
+        }
+        return writer.finish();
+    }
+
+    private static void writeStats(MLOpenMetricsWriter writer, MLStats mlStats) {
+        List<Map.Entry<Enum, MLStat<?>>> nodeStats = new ArrayList<>(mlStats.getNodeStats().entrySet());
+        nodeStats.sort(Comparator.comparing(entry -> entry.getKey().name()));
+        for (Map.Entry<Enum, MLStat<?>> entry : nodeStats) {
+            Object value = entry.getValue().getValue();
+            if (!(value instanceof Number)) {
+                continue;
+            }
+            String name = entry.getKey().name().toLowerCase(Locale.ROOT);
+            boolean counter = MONOTONIC_NODE_STATS.contains(entry.getKey());
+            writer.family(name, counter ? MLCounter.TYPE : MLGauge.TYPE, "ML stat " + name + ".");
+            writer.sample(counter ? name + "_total" : name, List.of(), List.of(), ((Number) value).doubleValue());
+        }
+
+        List<String> algoLabels = List.of(FUNCTION_NAME_LABEL, ACTION_LABEL);
+        List<String> modelLabels = List.of(MODEL_ID_LABEL, ACTION_LABEL);
+        for (MLActionLevelStat stat : MLActionLevelStat.values()) {
+            String name = stat.name().toLowerCase(Locale.ROOT);
+            writer.family(name, MLCounter.TYPE, "ML action stat " + name + " by algorithm.");
+            for (FunctionName algorithm : mlStats.getAllAlgorithms()) {
+                writeActionStats(writer, name, stat, algoLabels, algorithm.name(), mlStats.getAlgorithmStats(algorithm));
+            }
+            String modelName = name.replaceFirst("^ml_", "ml_model_");
+            writer.family(modelName, MLCounter.TYPE, "ML action stat " + name + " by model.");
+            for (String modelId : mlStats.getAllModels()) {
+                writeActionStats(writer, modelName, stat, modelLabels, modelId, mlStats.getModelStats(modelId));
+            }
+        }
+    }
+
+    private static void writeActionStats(
+        MLOpenMetricsWriter writer,
+        String name,
+        MLActionLevelStat stat,
+        List<String> labelNames,
+        String firstLabel,
+        Map<ActionName, MLActionStats> actionStats
+    ) {
+        if (actionStats == null) {
+            return;
+        }
+        for (Map.Entry<ActionName, MLActionStats> entry : actionStats.entrySet()) {
+            Object value = entry.getValue().getActionStat(stat);
+            if (value instanceof Number) {
+                String action = entry.getKey().name().toLowerCase(Locale.ROOT);
+                writer.sample(name + "_total", labelNames, List.of(firstLabel, action), ((Number) value).longValue());
+            }
+        }
+    }
+}
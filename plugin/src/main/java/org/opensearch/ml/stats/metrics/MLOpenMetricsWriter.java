@@ -0,0 +1,104 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.stats.metrics;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes metric families in the OpenMetrics text exposition format. Constant labels, like the node id, are added to every
+ * sample.
+ */
+public class MLOpenMetricsWriter {
+    public static final String CONTENT_TYPE = "application/openmetrics-text; version=1.0.0; charset=utf-8";
+
+    private final StringBuilder out = new StringBuilder();
+    private final String constantLabels;
+
+    public MLOpenMetricsWriter(Map<String, String> constantLabels) {
+        StringBuilder labels = new StringBuilder();
+        for (Map.Entry<String, String> label : constantLabels.entrySet()) {
+            appendLabel(labels, label.getKey(), label.getValue());
+        }
+        this.constantLabels = labels.toString();
+    }
+
+    public void family(String name, String type, String help) {
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+        out.append("# HELP ").append(name).append(' ').append(escape(help)).append('\n');
+    }
+
+    public void sample(String name, List<String> labelNames, List<String> labelValues, long value) {
+        sample(name, labelNames, labelValues, null, null, Long.toString(value));
+    }
+
+    public void sample(String name, List<String> labelNames, List<String> labelValues, double value) {
+        sample(name, labelNames, labelValues, null, null, format(value));
+    }
+
+    public void sample(String name, List<String> labelNames, List<String> labelValues, String extraName, String extraValue, long value) {
+        sample(name, labelNames, labelValues, extraName, extraValue, Long.toString(value));
+    }
+
+    private void sample(String name, List<String> labelNames, List<String> labelValues, String extraName, String extraValue, String value) {
+        StringBuilder labels = new StringBuilder(constantLabels);
+        for (int i = 0; i < labelNames.size(); i++) {
+            appendLabel(labels, labelNames.get(i), labelValues.get(i));
+        }
+        if (extraName != null) {
+            appendLabel(labels, extraName, extraValue);
+        }
+        out.append(name);
+        if (labels.length() > 0) {
+            out.append('{').append(labels).append('}');
+        }
+        out.append(' ').append(value).append('\n');
+    }
+
+    /**
+     * Finish the exposition.
+     *
+     * @return exposition text
+     */
+    public String finish() {
+        out.append("# EOF\n");
+        return out.toString();
+    }
+
+    private static void appendLabel(StringBuilder labels, String name, String value) {
+        if (labels.length() > 0) {
+            labels.append(',');
+        }
+        labels.append(name).append("=\"").append(escape(value)).append('"');
+    }
+
+    static String format(double value) {
+        if (Double.isNaN(value)) {
+            return "NaN";
+        }
+        if (Double.isInfinite(value)) {
+            return value > 0 ? "+Inf" : "-Inf";
+        }
+        return Double.toString(value);
+    }
+
+    private static String escape(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\') {
+                escaped.append("\\\\");
+            } else if (c == '\n') {
+                escaped.append("\\n");
+            } else if (c == '"') {
+                escaped.append("\\\"");
+            } else {
+                escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+}
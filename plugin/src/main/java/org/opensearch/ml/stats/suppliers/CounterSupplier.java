@@ -33,6 +33,15 @@ public class CounterSupplier implements Supplier<Long> {
         counter.increment();
     }
 
+    /**
+     * Increments the value of the counter by a delta
+     *
+     * @param delta value to add
+     */
+    public void add(long delta) {
+        counter.add(delta);
+    }
+
     /**
      * Decrease the value of the counter by 1
      */
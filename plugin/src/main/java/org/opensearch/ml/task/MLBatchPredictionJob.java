@@ -0,0 +1,481 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.task;
+
+import static org.opensearch.ml.common.MLTask.CHECKPOINT_FIELD;
+import static org.opensearch.ml.common.MLTask.ERROR_FIELD;
+import static org.opensearch.ml.common.MLTask.PROGRESS_FIELD;
+import static org.opensearch.ml.common.MLTask.STATE_FIELD;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.GENERAL_THREAD_POOL;
+import static org.opensearch.ml.task.MLTaskManager.TASK_SEMAPHORE_TIMEOUT;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.search.CreatePitRequest;
+import org.opensearch.action.search.DeletePitRequest;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.update.UpdateRequest;
+import org.opensearch.client.Client;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.support.XContentMapValues;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLTaskState;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.common.transport.MLTaskResponse;
+import org.opensearch.ml.common.transport.prediction.MLBatchPredictionRequest;
+import org.opensearch.ml.common.transport.prediction.MLPredictionTaskAction;
+import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.builder.PointInTimeBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.sort.SortOrder;
+import org.opensearch.threadpool.ThreadPool;
+
+import com.google.common.collect.ImmutableMap;
+
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Batch prediction job which runs a deployed model over all documents of an index matching a query.
+ * Documents are read page by page with point in time and search_after sorted by _shard_doc. Each page is split
+ * into batches which are predicted concurrently through the predict action, so batches spread over all worker nodes
+ * of the model. Outputs are bulk written to the target index. After each page, progress, the point in time and the
+ * sort value of the last document are saved in the task document as checkpoint, so a failed job can be resumed with
+ * the same task id. _shard_doc values are only valid in their point in time, which a failed job keeps until it
+ * expires; a job resumed after that starts over from the first document.
+ */
+@Log4j2
+public class MLBatchPredictionJob {
+    public static final String CHECKPOINT_SEARCH_AFTER_FIELD = "search_after";
+    public static final String CHECKPOINT_PROCESSED_DOCS_FIELD = "processed_docs";
+    public static final String CHECKPOINT_FAILED_DOCS_FIELD = "failed_docs";
+    public static final String CHECKPOINT_TOTAL_DOCS_FIELD = "total_docs";
+    public static final String CHECKPOINT_PIT_ID_FIELD = "pit_id";
+    public static final String CHECKPOINT_SOURCE_INDEX_FIELD = "source_index";
+    // Function names of the models which take text docs as input and return one output per doc.
+    public static final Set<FunctionName> SUPPORTED_FUNCTION_NAMES = Collections
+        .unmodifiableSet(
+            EnumSet.of(FunctionName.TEXT_EMBEDDING, FunctionName.SPARSE_ENCODING, FunctionName.SPARSE_TOKENIZE, FunctionName.REMOTE)
+        );
+    static final TimeValue PIT_KEEP_ALIVE = TimeValue.timeValueMinutes(10);
+    static final String SHARD_DOC_FIELD = "_shard_doc";
+    // Default index.max_result_window, search requests can't fetch more hits.
+    static final int MAX_PAGE_SIZE = 10000;
+
+    private final Client client;
+    private final ThreadPool threadPool;
+    private final MLTaskManager mlTaskManager;
+    private final MLBatchPredictionRequest request;
+    private final FunctionName functionName;
+    @Getter
+    private final String taskId;
+    private final int concurrency;
+
+    @Getter
+    private String pitId;
+    // Point in time of the checkpoint, which may have expired.
+    private boolean resumedPit;
+    @Getter
+    private Long searchAfter;
+    @Getter
+    private long processedDocs;
+    @Getter
+    private long failedDocs;
+    private long totalDocs;
+    private long processedDocsInThisRun;
+    private long startTimeInNanos;
+    private volatile String lastError;
+
+    /**
+     * Constructor to create batch prediction job.
+     *
+     * @param client client
+     * @param threadPool thread pool
+     * @param mlTaskManager ML task manager, the task must be in task cache before starting the job
+     * @param request batch prediction request
+     * @param functionName function name of the model, one of {@link #SUPPORTED_FUNCTION_NAMES}
+     * @param taskId batch prediction task id
+     * @param concurrency number of batches predicted at the same time
+     * @param checkpoint checkpoint to resume from, null means start from the first document
+     */
+    public MLBatchPredictionJob(
+        Client client,
+        ThreadPool threadPool,
+        MLTaskManager mlTaskManager,
+        MLBatchPredictionRequest request,
+        FunctionName functionName,
+        String taskId,
+        int concurrency,
+        Map<String, Object> checkpoint
+    ) {
+        if (!SUPPORTED_FUNCTION_NAMES.contains(functionName)) {
+            throw new IllegalArgumentException("Batch prediction doesn't support " + functionName + " models");
+        }
+        this.client = client;
+        this.threadPool = threadPool;
+        this.mlTaskManager = mlTaskManager;
+        this.request = request;
+        this.functionName = functionName;
+        this.taskId = taskId;
+        this.concurrency = Math.max(1, concurrency);
+        if (checkpoint != null
+            && checkpoint.get(CHECKPOINT_PIT_ID_FIELD) instanceof String
+            && checkpoint.get(CHECKPOINT_SEARCH_AFTER_FIELD) instanceof Number) {
+            this.pitId = (String) checkpoint.get(CHECKPOINT_PIT_ID_FIELD);
+            this.resumedPit = true;
+            this.searchAfter = ((Number) checkpoint.get(CHECKPOINT_SEARCH_AFTER_FIELD)).longValue();
+            this.processedDocs = toLong(checkpoint.get(CHECKPOINT_PROCESSED_DOCS_FIELD));
+            this.failedDocs = toLong(checkpoint.get(CHECKPOINT_FAILED_DOCS_FIELD));
+            this.totalDocs = toLong(checkpoint.get(CHECKPOINT_TOTAL_DOCS_FIELD));
+        }
+    }
+
+    public void start() {
+        startTimeInNanos = System.nanoTime();
+        log.info("Start batch prediction task {} for model {}, resume from: {}", taskId, request.getModelId(), searchAfter);
+        mlTaskManager.updateTaskStateAsRunning(taskId, false);
+        mlTaskManager
+            .updateMLTask(
+                taskId,
+                ImmutableMap.of(STATE_FIELD, MLTaskState.RUNNING, CHECKPOINT_FIELD, getCheckpoint()),
+                TASK_SEMAPHORE_TIMEOUT,
+                false
+            );
+        if (resumedPit) {
+            nextPage();
+        } else {
+            openPit();
+        }
+    }
+
+    private void openPit() {
+        SearchSourceBuilder countSource = new SearchSourceBuilder().query(getQuery()).size(0).trackTotalHits(true);
+        client.search(new SearchRequest(request.getSourceIndex()).source(countSource), ActionListener.wrap(countResponse -> {
+            totalDocs = countResponse.getHits().getTotalHits() == null ? 0 : countResponse.getHits().getTotalHits().value;
+            CreatePitRequest createPitRequest = new CreatePitRequest(PIT_KEEP_ALIVE, false, request.getSourceIndex());
+            client.createPit(createPitRequest, ActionListener.wrap(pitResponse -> {
+                pitId = pitResponse.getId();
+                nextPage();
+            }, this::fail));
+        }, this::fail));
+    }
+
+    private void nextPage() {
+        SearchSourceBuilder source = new SearchSourceBuilder()
+            .query(getQuery())
+            .size(getPageSize())
+            .sort(SHARD_DOC_FIELD, SortOrder.ASC)
+            .fetchSource(new String[] { request.getInputField() }, null)
+            .pointInTimeBuilder(new PointInTimeBuilder(pitId).setKeepAlive(PIT_KEEP_ALIVE));
+        if (searchAfter != null) {
+            source.searchAfter(new Object[] { searchAfter });
+        }
+        client.search(new SearchRequest().source(source), ActionListener.wrap(response -> {
+            resumedPit = false;
+            SearchHit[] hits = response.getHits().getHits();
+            if (hits == null || hits.length == 0) {
+                complete();
+            } else {
+                processPage(hits);
+            }
+        }, e -> {
+            if (resumedPit && ExceptionsHelper.status(e) == RestStatus.NOT_FOUND) {
+                log.info("Point in time of batch prediction task {} expired, start over from the first document", taskId);
+                restart();
+            } else {
+                fail(e);
+            }
+        }));
+    }
+
+    private void restart() {
+        resumedPit = false;
+        pitId = null;
+        searchAfter = null;
+        processedDocs = 0;
+        failedDocs = 0;
+        openPit();
+    }
+
+    /**
+     * Hits fetched per search, one batch for each concurrent predict request, capped at the default max result window.
+     */
+    int getPageSize() {
+        return (int) Math.min((long) request.getBatchSize() * concurrency, MAX_PAGE_SIZE);
+    }
+
+    private void processPage(SearchHit[] hits) {
+        BulkRequest bulkRequest = new BulkRequest();
+        List<List<SearchHit>> batches = new ArrayList<>();
+        List<SearchHit> batch = new ArrayList<>();
+        int skippedDocs = 0;
+        for (SearchHit hit : hits) {
+            if (getInputText(hit) == null) {
+                skippedDocs++;
+                continue;
+            }
+            batch.add(hit);
+            if (batch.size() == request.getBatchSize()) {
+                batches.add(batch);
+                batch = new ArrayList<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+        Long pageLastSortValue = ((Number) hits[hits.length - 1].getSortValues()[0]).longValue();
+        AtomicInteger failedInPage = new AtomicInteger(skippedDocs);
+        if (skippedDocs > 0) {
+            lastError = "Input field " + request.getInputField() + " is missing or not a string";
+        }
+        if (batches.isEmpty()) {
+            onPageDone(hits.length, failedInPage.get(), pageLastSortValue);
+            return;
+        }
+
+        AtomicInteger pendingBatches = new AtomicInteger(batches.size());
+        Runnable onBatchDone = () -> {
+            if (pendingBatches.decrementAndGet() == 0) {
+                writeOutputs(bulkRequest, hits.length, failedInPage, pageLastSortValue);
+            }
+        };
+        for (List<SearchHit> hitBatch : batches) {
+            predictBatch(hitBatch, bulkRequest, failedInPage, onBatchDone);
+        }
+    }
+
+    private void predictBatch(List<SearchHit> hits, BulkRequest bulkRequest, AtomicInteger failedInPage, Runnable onDone) {
+        List<String> docs = new ArrayList<>(hits.size());
+        for (SearchHit hit : hits) {
+            docs.add(getInputText(hit));
+        }
+        MLInput mlInput = MLInput.builder().algorithm(functionName).inputDataset(TextDocsInputDataSet.builder().docs(docs).build()).build();
+        ActionListener<MLTaskResponse> listener = ActionListener.wrap(r -> {
+            List<ModelTensors> outputs = r.getOutput() instanceof ModelTensorOutput
+                ? ((ModelTensorOutput) r.getOutput()).getMlModelOutputs()
+                : null;
+            List<Object> outputValues = getOutputValues(outputs, hits.size());
+            if (outputValues == null) {
+                failedInPage.addAndGet(hits.size());
+                lastError = "Model returned " + (outputs == null ? 0 : outputs.size()) + " outputs for " + hits.size() + " docs";
+            } else {
+                synchronized (bulkRequest) {
+                    for (int i = 0; i < hits.size(); i++) {
+                        bulkRequest.add(createUpdateRequest(hits.get(i).getId(), outputValues.get(i)));
+                    }
+                }
+            }
+            onDone.run();
+        }, e -> {
+            log.debug("Failed to predict batch of task {}", taskId, e);
+            failedInPage.addAndGet(hits.size());
+            lastError = e.getMessage();
+            onDone.run();
+        });
+        try {
+            client.execute(MLPredictionTaskAction.INSTANCE, new MLPredictionTaskRequest(request.getModelId(), mlInput), listener);
+        } catch (Exception e) {
+            failedInPage.addAndGet(hits.size());
+            lastError = e.getMessage();
+            onDone.run();
+        }
+    }
+
+    private UpdateRequest createUpdateRequest(String docId, Object outputValue) {
+        Map<String, Object> doc = new HashMap<>();
+        doc.put(request.getOutputField(), outputValue);
+        return new UpdateRequest(request.getTargetIndex(), docId).doc(doc).docAsUpsert(true);
+    }
+
+    private void writeOutputs(BulkRequest bulkRequest, int pageSize, AtomicInteger failedInPage, Long pageLastSortValue) {
+        if (bulkRequest.numberOfActions() == 0) {
+            onPageDone(pageSize, failedInPage.get(), pageLastSortValue);
+            return;
+        }
+        client.bulk(bulkRequest, ActionListener.wrap(bulkResponse -> {
+            if (bulkResponse.hasFailures()) {
+                for (BulkItemResponse item : bulkResponse.getItems()) {
+                    if (item.isFailed()) {
+                        failedInPage.incrementAndGet();
+                        lastError = item.getFailureMessage();
+                    }
+                }
+            }
+            onPageDone(pageSize, failedInPage.get(), pageLastSortValue);
+        }, this::fail));
+    }
+
+    private void onPageDone(int pageSize, int failedInPage, Long pageLastSortValue) {
+        processedDocs += pageSize;
+        processedDocsInThisRun += pageSize;
+        failedDocs += failedInPage;
+        searchAfter = pageLastSortValue;
+        mlTaskManager
+            .updateMLTask(
+                taskId,
+                ImmutableMap.of(PROGRESS_FIELD, getProgress(), CHECKPOINT_FIELD, getCheckpoint()),
+                TASK_SEMAPHORE_TIMEOUT,
+                false
+            );
+
+        long delayInMillis = getThrottleDelayInMillis();
+        if (delayInMillis > 0) {
+            threadPool.schedule(this::nextPage, TimeValue.timeValueMillis(delayInMillis), GENERAL_THREAD_POOL);
+        } else {
+            threadPool.executor(GENERAL_THREAD_POOL).execute(this::nextPage);
+        }
+    }
+
+    long getThrottleDelayInMillis() {
+        if (request.getMaxDocsPerSecond() == null) {
+            return 0;
+        }
+        long expectedMillis = processedDocsInThisRun * 1000 / request.getMaxDocsPerSecond();
+        long elapsedMillis = (System.nanoTime() - startTimeInNanos) / 1_000_000;
+        return expectedMillis - elapsedMillis;
+    }
+
+    private void complete() {
+        deletePit();
+        Map<String, Object> updatedFields = new HashMap<>();
+        updatedFields.put(PROGRESS_FIELD, 1.0f);
+        updatedFields.put(CHECKPOINT_FIELD, getCheckpoint());
+        if (failedDocs > 0) {
+            updatedFields.put(STATE_FIELD, MLTaskState.COMPLETED_WITH_ERROR);
+            updatedFields.put(ERROR_FIELD, failedDocs + " docs failed, last error: " + lastError);
+        } else {
+            updatedFields.put(STATE_FIELD, MLTaskState.COMPLETED);
+        }
+        log.info("Batch prediction task {} finished, processed docs: {}, failed docs: {}", taskId, processedDocs, failedDocs);
+        mlTaskManager.updateMLTask(taskId, updatedFields, TASK_SEMAPHORE_TIMEOUT, true);
+    }
+
+    private void fail(Exception e) {
+        log.error("Batch prediction task " + taskId + " failed", e);
+        // keep the point in time, so the task can be resumed from the checkpoint until it expires
+        Map<String, Object> updatedFields = new HashMap<>();
+        updatedFields.put(STATE_FIELD, MLTaskState.FAILED);
+        updatedFields.put(ERROR_FIELD, e.getMessage() == null ? e.getClass().getName() : e.getMessage());
+        updatedFields.put(CHECKPOINT_FIELD, getCheckpoint());
+        mlTaskManager.updateMLTask(taskId, updatedFields, TASK_SEMAPHORE_TIMEOUT, true);
+    }
+
+    private void deletePit() {
+        if (pitId == null) {
+            return;
+        }
+        client.deletePits(new DeletePitRequest(pitId), ActionListener.wrap(r -> log.debug("Deleted PIT of task {}", taskId), e -> {
+            log.warn("Failed to delete PIT of batch prediction task " + taskId, e);
+        }));
+        pitId = null;
+    }
+
+    private Map<String, Object> getCheckpoint() {
+        Map<String, Object> checkpoint = new HashMap<>();
+        checkpoint.put(CHECKPOINT_SOURCE_INDEX_FIELD, request.getSourceIndex());
+        if (pitId != null) {
+            checkpoint.put(CHECKPOINT_PIT_ID_FIELD, pitId);
+        }
+        if (searchAfter != null) {
+            checkpoint.put(CHECKPOINT_SEARCH_AFTER_FIELD, searchAfter);
+        }
+        checkpoint.put(CHECKPOINT_PROCESSED_DOCS_FIELD, processedDocs);
+        checkpoint.put(CHECKPOINT_FAILED_DOCS_FIELD, failedDocs);
+        checkpoint.put(CHECKPOINT_TOTAL_DOCS_FIELD, totalDocs);
+        return checkpoint;
+    }
+
+    private float getProgress() {
+        if (totalDocs <= 0) {
+            return 0f;
+        }
+        return Math.min(1f, (float) processedDocs / totalDocs);
+    }
+
+    private QueryBuilder getQuery() {
+        return request.getQuery() == null ? QueryBuilders.matchAllQuery() : request.getQuery();
+    }
+
+    private String getInputText(SearchHit hit) {
+        Map<String, Object> source = hit.getSourceAsMap();
+        if (source == null) {
+            return null;
+        }
+        Object value = XContentMapValues.extractValue(request.getInputField(), source);
+        return value instanceof String ? (String) value : null;
+    }
+
+    /**
+     * Get the output value of every doc of a batch. Local models return one output per doc. Remote models usually return
+     * one output per call to the remote service, with one tensor per doc of the call, so tensors are flattened then.
+     *
+     * @param outputs  model outputs
+     * @param docCount number of docs of the batch
+     * @return output values in the order of the docs, null if the outputs don't match the docs
+     */
+    static List<Object> getOutputValues(List<ModelTensors> outputs, int docCount) {
+        if (outputs == null) {
+            return null;
+        }
+        List<Object> values = new ArrayList<>(docCount);
+        if (outputs.size() == docCount) {
+            for (ModelTensors modelTensors : outputs) {
+                values.add(getOutputValue(modelTensors));
+            }
+            return values;
+        }
+        for (ModelTensors modelTensors : outputs) {
+            if (modelTensors == null || modelTensors.getMlModelTensors() == null) {
+                return null;
+            }
+            for (ModelTensor tensor : modelTensors.getMlModelTensors()) {
+                values.add(getTensorValue(tensor));
+            }
+        }
+        return values.size() == docCount ? values : null;
+    }
+
+    static Object getOutputValue(ModelTensors modelTensors) {
+        if (modelTensors == null || modelTensors.getMlModelTensors() == null || modelTensors.getMlModelTensors().isEmpty()) {
+            return null;
+        }
+        return getTensorValue(modelTensors.getMlModelTensors().get(0));
+    }
+
+    private static Object getTensorValue(ModelTensor tensor) {
+        if (tensor.getData() != null) {
+            return Arrays.asList(tensor.getData());
+        }
+        if (tensor.getDataAsMap() != null) {
+            return tensor.getDataAsMap();
+        }
+        return tensor.getResult();
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : 0;
+    }
+}
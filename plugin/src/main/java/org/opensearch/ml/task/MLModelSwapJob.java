@@ -0,0 +1,460 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.task;
+
+import static org.opensearch.ml.common.CommonValue.ML_MODEL_GROUP_INDEX;
+import static org.opensearch.ml.common.MLTask.CHECKPOINT_FIELD;
+import static org.opensearch.ml.common.MLTask.ERROR_FIELD;
+import static org.opensearch.ml.common.MLTask.PROGRESS_FIELD;
+import static org.opensearch.ml.common.MLTask.STATE_FIELD;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.GENERAL_THREAD_POOL;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.action.ActionListenerResponseHandler;
+import org.opensearch.action.update.UpdateRequest;
+import org.opensearch.client.Client;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.index.engine.VersionConflictEngineException;
+import org.opensearch.ml.cluster.DiscoveryNodeHelper;
+import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.MLModelGroup;
+import org.opensearch.ml.common.MLTaskState;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.model.MLModelState;
+import org.opensearch.ml.common.transport.MLTaskResponse;
+import org.opensearch.ml.common.transport.deploy.MLDeployModelAction;
+import org.opensearch.ml.common.transport.deploy.MLDeployModelRequest;
+import org.opensearch.ml.common.transport.model_group.MLModelGroupSwapRequest;
+import org.opensearch.ml.common.transport.prediction.MLPredictionTaskAction;
+import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
+import org.opensearch.ml.common.transport.sync.MLSyncUpAction;
+import org.opensearch.ml.common.transport.sync.MLSyncUpInput;
+import org.opensearch.ml.common.transport.sync.MLSyncUpNodesRequest;
+import org.opensearch.ml.common.transport.undeploy.MLUndeployModelsAction;
+import org.opensearch.ml.common.transport.undeploy.MLUndeployModelsRequest;
+import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Model swap job which moves predict traffic of a model group from the serving model version to a new one without
+ * downtime. The job runs in phases:
+ * <ol>
+ *     <li>DEPLOYING: deploy the new version next to the serving one, skipped if it's already deployed.</li>
+ *     <li>WARMING_UP: predict the warm up docs on every worker node of the new version, so the first user requests
+ *     don't pay for lazy initialization and JIT compilation.</li>
+ *     <li>SWITCHING: write the new serving model id to the model group and sync it to all nodes. The write only
+ *     succeeds if the model group wasn't updated since the swap read it, so of concurrent swaps of the same model
+ *     group only the first one to switch wins, and the others fail.</li>
+ *     <li>DRAINING: undeploy the previous version. Worker nodes close the predictor only after in-flight requests
+ *     are done.</li>
+ * </ol>
+ * Progress and warm up latencies are saved in the task document as checkpoint. The task is updated in index directly
+ * and not kept in task cache, as deploying a big model may take longer than the task timeout of sync up.
+ */
+@Log4j2
+public class MLModelSwapJob {
+    public static final String CHECKPOINT_PHASE_FIELD = "phase";
+    public static final String CHECKPOINT_PREVIOUS_MODEL_ID_FIELD = "previous_model_id";
+    public static final String CHECKPOINT_DEPLOY_TASK_ID_FIELD = "deploy_task_id";
+    public static final String CHECKPOINT_WARM_UP_REQUESTS_FIELD = "warm_up_requests";
+    public static final String CHECKPOINT_WARM_UP_ROUND_LATENCY_FIELD = "warm_up_round_latency_ms";
+    public static final String CHECKPOINT_WARM_UP_MAX_LATENCY_FIELD = "warm_up_max_latency_ms";
+
+    static final TimeValue DEPLOY_CHECK_INTERVAL = TimeValue.timeValueSeconds(1);
+    static final TimeValue DEPLOY_TIMEOUT = TimeValue.timeValueMinutes(30);
+    // Requests resolved to the previous version right before the switch may still be on their way to worker nodes.
+    static final TimeValue DRAIN_DELAY = TimeValue.timeValueSeconds(5);
+
+    public enum Phase {
+        DEPLOYING,
+        WARMING_UP,
+        SWITCHING,
+        DRAINING
+    }
+
+    private final Client client;
+    private final ThreadPool threadPool;
+    private final ClusterService clusterService;
+    private final TransportService transportService;
+    private final MLTaskManager mlTaskManager;
+    private final MLModelManager mlModelManager;
+    private final DiscoveryNodeHelper nodeHelper;
+    private final MLModelGroupSwapRequest request;
+    private final MLModel mlModel;
+    @Getter
+    private final String previousModelId;
+    private final long modelGroupSeqNo;
+    private final long modelGroupPrimaryTerm;
+    @Getter
+    private final String taskId;
+    // Called once the job completes or fails.
+    private final Runnable onDone;
+
+    private final Map<String, Object> checkpoint = new HashMap<>();
+    private final List<Long> warmUpRoundLatencies = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger warmUpRequests = new AtomicInteger();
+    private boolean deployedBySwap;
+    private long deployStartTimeInMillis;
+    private float lastDeployProgress;
+
+    /**
+     * Constructor to create model swap job.
+     *
+     * @param client client
+     * @param threadPool thread pool
+     * @param clusterService cluster service
+     * @param transportService transport service to send warm up requests to worker nodes
+     * @param mlTaskManager ML task manager
+     * @param mlModelManager ML model manager
+     * @param nodeHelper node helper
+     * @param request model swap request
+     * @param mlModel the model version to serve
+     * @param previousModelId the model version serving now, null if the model group has no serving model yet
+     * @param modelGroupSeqNo sequence number of the model group document the previous model id was read from
+     * @param modelGroupPrimaryTerm primary term of the model group document the previous model id was read from
+     * @param taskId model swap task id
+     * @param onDone called once the job completes or fails
+     */
+    public MLModelSwapJob(
+        Client client,
+        ThreadPool threadPool,
+        ClusterService clusterService,
+        TransportService transportService,
+        MLTaskManager mlTaskManager,
+        MLModelManager mlModelManager,
+        DiscoveryNodeHelper nodeHelper,
+        MLModelGroupSwapRequest request,
+        MLModel mlModel,
+        String previousModelId,
+        long modelGroupSeqNo,
+        long modelGroupPrimaryTerm,
+        String taskId,
+        Runnable onDone
+    ) {
+        this.client = client;
+        this.threadPool = threadPool;
+        this.clusterService = clusterService;
+        this.transportService = transportService;
+        this.mlTaskManager = mlTaskManager;
+        this.mlModelManager = mlModelManager;
+        this.nodeHelper = nodeHelper;
+        this.request = request;
+        this.mlModel = mlModel;
+        this.previousModelId = previousModelId;
+        this.modelGroupSeqNo = modelGroupSeqNo;
+        this.modelGroupPrimaryTerm = modelGroupPrimaryTerm;
+        this.taskId = taskId;
+        this.onDone = onDone;
+        if (previousModelId != null) {
+            checkpoint.put(CHECKPOINT_PREVIOUS_MODEL_ID_FIELD, previousModelId);
+        }
+    }
+
+    public void start() {
+        log
+            .info(
+                "Start swapping model group {} from model {} to {}, task: {}",
+                request.getModelGroupId(),
+                previousModelId,
+                modelId(),
+                taskId
+            );
+        String[] workerNodes = mlModelManager.getWorkerNodes(modelId(), mlModel.getAlgorithm());
+        if (isDeployed(mlModel.getModelState()) && workerNodes != null && workerNodes.length > 0) {
+            updateTask(Phase.WARMING_UP, 0.5f, Map.of(STATE_FIELD, MLTaskState.RUNNING), this::warmUp);
+            return;
+        }
+        updateTask(Phase.DEPLOYING, 0f, Map.of(STATE_FIELD, MLTaskState.RUNNING), this::deploy);
+    }
+
+    private void deploy() {
+        deployStartTimeInMillis = System.currentTimeMillis();
+        MLDeployModelRequest deployRequest = new MLDeployModelRequest(modelId(), null, false, true);
+        client.execute(MLDeployModelAction.INSTANCE, deployRequest, ActionListener.wrap(response -> {
+            deployedBySwap = true;
+            checkpoint.put(CHECKPOINT_DEPLOY_TASK_ID_FIELD, response.getTaskId());
+            scheduleDeployCheck();
+        }, e -> fail("Failed to deploy model " + modelId(), e)));
+    }
+
+    private void scheduleDeployCheck() {
+        threadPool.schedule(this::checkDeployment, DEPLOY_CHECK_INTERVAL, GENERAL_THREAD_POOL);
+    }
+
+    private void checkDeployment() {
+        if (System.currentTimeMillis() - deployStartTimeInMillis > DEPLOY_TIMEOUT.millis()) {
+            fail("Timed out deploying model " + modelId(), null);
+            return;
+        }
+        String[] includes = new String[] {
+            MLModel.ALGORITHM_FIELD,
+            MLModel.MODEL_STATE_FIELD,
+            MLModel.PLANNING_WORKER_NODE_COUNT_FIELD,
+            MLModel.CURRENT_WORKER_NODE_COUNT_FIELD };
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            mlModelManager.getModel(modelId(), includes, null, ActionListener.runBefore(ActionListener.wrap(model -> {
+                MLModelState state = model.getModelState();
+                String[] workerNodes = mlModelManager.getWorkerNodes(modelId(), mlModel.getAlgorithm());
+                if (state == MLModelState.DEPLOY_FAILED) {
+                    fail("Failed to deploy model " + modelId(), null);
+                } else if (isDeployed(state) && workerNodes != null && workerNodes.length > 0) {
+                    updateTask(Phase.WARMING_UP, 0.5f, Map.of(), this::warmUp);
+                } else {
+                    float progress = deployProgress(model.getCurrentWorkerNodeCount(), model.getPlanningWorkerNodeCount());
+                    if (progress > lastDeployProgress) {
+                        lastDeployProgress = progress;
+                        updateTask(Phase.DEPLOYING, progress, Map.of(), this::scheduleDeployCheck);
+                    } else {
+                        scheduleDeployCheck();
+                    }
+                }
+            }, e -> fail("Failed to check deployment of model " + modelId(), e)), context::restore));
+        }
+    }
+
+    private void warmUp() {
+        List<List<String>> batches = batches(request.getWarmUpDocs(), request.getWarmUpBatchSize());
+        String[] workerNodes = mlModelManager.getWorkerNodes(modelId(), mlModel.getAlgorithm());
+        if (batches.isEmpty() || workerNodes == null || workerNodes.length == 0) {
+            updateTask(Phase.SWITCHING, 0.9f, Map.of(), this::switchServingModel);
+            return;
+        }
+        AtomicInteger pendingNodes = new AtomicInteger(workerNodes.length);
+        AtomicReference<Exception> error = new AtomicReference<>();
+        for (String nodeId : workerNodes) {
+            DiscoveryNode node = clusterService.state().nodes().get(nodeId);
+            if (node == null) {
+                onNodeWarmedUp(pendingNodes, error, null);
+                continue;
+            }
+            warmUpNode(node, batches, 0, 0, System.nanoTime(), ActionListener.wrap(r -> onNodeWarmedUp(pendingNodes, error, null), e -> {
+                log.error("Failed to warm up model " + modelId() + " on node " + nodeId, e);
+                onNodeWarmedUp(pendingNodes, error, e);
+            }));
+        }
+    }
+
+    private void onNodeWarmedUp(AtomicInteger pendingNodes, AtomicReference<Exception> error, Exception e) {
+        if (e != null) {
+            error.compareAndSet(null, e);
+        }
+        if (pendingNodes.decrementAndGet() > 0) {
+            return;
+        }
+        long maxLatency = 0;
+        synchronized (warmUpRoundLatencies) {
+            for (Long latency : warmUpRoundLatencies) {
+                maxLatency = Math.max(maxLatency, latency);
+            }
+            checkpoint.put(CHECKPOINT_WARM_UP_ROUND_LATENCY_FIELD, new ArrayList<>(warmUpRoundLatencies));
+        }
+        checkpoint.put(CHECKPOINT_WARM_UP_REQUESTS_FIELD, warmUpRequests.get());
+        checkpoint.put(CHECKPOINT_WARM_UP_MAX_LATENCY_FIELD, maxLatency);
+        if (error.get() != null) {
+            fail("Failed to warm up model " + modelId(), error.get());
+        } else {
+            updateTask(Phase.SWITCHING, 0.9f, Map.of(), this::switchServingModel);
+        }
+    }
+
+    /**
+     * Predict the batches one by one on a worker node, round after round. Batches are sent to the node directly with
+     * dispatch disabled, so they run on that node instead of being dispatched to another worker node.
+     */
+    private void warmUpNode(
+        DiscoveryNode node,
+        List<List<String>> batches,
+        int round,
+        int batchIndex,
+        long roundStartTimeInNanos,
+        ActionListener<Void> listener
+    ) {
+        if (batchIndex == batches.size()) {
+            warmUpRoundLatencies.add((System.nanoTime() - roundStartTimeInNanos) / 1_000_000);
+            if (round + 1 == request.getWarmUpRounds()) {
+                listener.onResponse(null);
+            } else {
+                warmUpNode(node, batches, round + 1, 0, System.nanoTime(), listener);
+            }
+            return;
+        }
+        MLInput mlInput = MLInput
+            .builder()
+            .algorithm(mlModel.getAlgorithm())
+            .inputDataset(TextDocsInputDataSet.builder().docs(batches.get(batchIndex)).build())
+            .build();
+        MLPredictionTaskRequest predictRequest = new MLPredictionTaskRequest(modelId(), mlInput, false, null);
+        ActionListener<MLTaskResponse> predictListener = ActionListener.wrap(r -> {
+            warmUpRequests.incrementAndGet();
+            threadPool
+                .executor(GENERAL_THREAD_POOL)
+                .execute(() -> warmUpNode(node, batches, round, batchIndex + 1, roundStartTimeInNanos, listener));
+        }, listener::onFailure);
+        transportService
+            .sendRequest(
+                node,
+                MLPredictionTaskAction.NAME,
+                predictRequest,
+                new ActionListenerResponseHandler<>(predictListener, MLTaskResponse::new)
+            );
+    }
+
+    private void switchServingModel() {
+        UpdateRequest updateRequest = new UpdateRequest(ML_MODEL_GROUP_INDEX, request.getModelGroupId())
+            .setIfSeqNo(modelGroupSeqNo)
+            .setIfPrimaryTerm(modelGroupPrimaryTerm)
+            .doc(
+                Map
+                    .of(
+                        MLModelGroup.SERVING_MODEL_ID_FIELD,
+                        modelId(),
+                        MLModelGroup.LAST_UPDATED_TIME_FIELD,
+                        Instant.now().toEpochMilli()
+                    )
+            );
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            client.update(updateRequest, ActionListener.runBefore(ActionListener.wrap(r -> {
+                log.info("Model group {} is serving model {}", request.getModelGroupId(), modelId());
+                MLSyncUpInput syncUpInput = MLSyncUpInput
+                    .builder()
+                    .modelGroupServingModels(Map.of(request.getModelGroupId(), modelId()))
+                    .build();
+                MLSyncUpNodesRequest syncUpRequest = new MLSyncUpNodesRequest(nodeHelper.getAllNodes(), syncUpInput);
+                client.execute(MLSyncUpAction.INSTANCE, syncUpRequest, ActionListener.wrap(syncUpResponse -> {
+                    updateTask(Phase.DRAINING, 0.95f, Map.of(), this::drain);
+                }, e -> {
+                    // Nodes missing the sync up read the serving model from model group index once the previous version
+                    // is undeployed, so it's still safe to drain.
+                    log.error("Failed to sync serving model of model group " + request.getModelGroupId(), e);
+                    updateTask(Phase.DRAINING, 0.95f, Map.of(), this::drain);
+                }));
+            }, e -> {
+                if (ExceptionsHelper.unwrapCause(e) instanceof VersionConflictEngineException) {
+                    // Another swap may have switched to the same model version, keep it deployed.
+                    fail("Model group " + request.getModelGroupId() + " was updated by another swap or update request", null, false);
+                } else {
+                    fail("Failed to update serving model of model group " + request.getModelGroupId(), e);
+                }
+            }), context::restore));
+        }
+    }
+
+    private void drain() {
+        if (previousModelId == null || previousModelId.equals(modelId())) {
+            complete(MLTaskState.COMPLETED, null);
+            return;
+        }
+        threadPool.schedule(() -> {
+            MLUndeployModelsRequest undeployRequest = new MLUndeployModelsRequest(new String[] { previousModelId }, null);
+            client.execute(MLUndeployModelsAction.INSTANCE, undeployRequest, ActionListener.wrap(r -> {
+                log.info("Undeployed previous model {} of model group {}", previousModelId, request.getModelGroupId());
+                complete(MLTaskState.COMPLETED, null);
+            }, e -> {
+                log.error("Failed to undeploy previous model " + previousModelId, e);
+                complete(MLTaskState.COMPLETED_WITH_ERROR, "Failed to undeploy previous model " + previousModelId + ": " + e.getMessage());
+            }));
+        }, DRAIN_DELAY, GENERAL_THREAD_POOL);
+    }
+
+    private void complete(MLTaskState state, String error) {
+        Map<String, Object> fields = new HashMap<>();
+        fields.put(STATE_FIELD, state);
+        fields.put(PROGRESS_FIELD, 1.0f);
+        fields.put(CHECKPOINT_FIELD, new HashMap<>(checkpoint));
+        if (error != null) {
+            fields.put(ERROR_FIELD, error);
+        }
+        log.info("Model swap task {} of model group {} is done with state {}", taskId, request.getModelGroupId(), state);
+        mlTaskManager.updateMLTaskDirectly(taskId, fields);
+        onDone.run();
+    }
+
+    private void fail(String message, Exception e) {
+        fail(message, e, true);
+    }
+
+    /**
+     * Fail the task.
+     *
+     * @param rollback true to undeploy the new model version if the swap deployed it
+     */
+    private void fail(String message, Exception e, boolean rollback) {
+        log.error(message, e);
+        String error = e == null ? message : message + ": " + e.getMessage();
+        Map<String, Object> fields = new HashMap<>();
+        fields.put(STATE_FIELD, MLTaskState.FAILED);
+        fields.put(ERROR_FIELD, error);
+        fields.put(CHECKPOINT_FIELD, new HashMap<>(checkpoint));
+        mlTaskManager.updateMLTaskDirectly(taskId, fields);
+        onDone.run();
+        if (rollback && deployedBySwap) {
+            // The model group keeps serving the previous version, release the resources of the new one.
+            MLUndeployModelsRequest undeployRequest = new MLUndeployModelsRequest(new String[] { modelId() }, null);
+            client
+                .execute(
+                    MLUndeployModelsAction.INSTANCE,
+                    undeployRequest,
+                    ActionListener.wrap(r -> {}, ex -> log.error("Failed to undeploy model " + modelId(), ex))
+                );
+        }
+    }
+
+    /**
+     * Update task in index and then run the next step. Updates are chained, so a late update never overwrites a newer
+     * one. A failed update is only logged, as task document is just for tracking.
+     */
+    private void updateTask(Phase phase, float progress, Map<String, Object> extraFields, Runnable next) {
+        checkpoint.put(CHECKPOINT_PHASE_FIELD, phase.name());
+        Map<String, Object> fields = new HashMap<>(extraFields);
+        fields.put(PROGRESS_FIELD, progress);
+        fields.put(CHECKPOINT_FIELD, new HashMap<>(checkpoint));
+        mlTaskManager.updateMLTaskDirectly(taskId, fields, ActionListener.wrap(r -> next.run(), e -> {
+            log.error("Failed to update model swap task " + taskId, e);
+            next.run();
+        }));
+    }
+
+    private String modelId() {
+        return request.getModelId();
+    }
+
+    static boolean isDeployed(MLModelState state) {
+        return state == MLModelState.DEPLOYED || state == MLModelState.PARTIALLY_DEPLOYED;
+    }
+
+    static float deployProgress(Integer currentWorkerNodeCount, Integer planningWorkerNodeCount) {
+        if (currentWorkerNodeCount == null || planningWorkerNodeCount == null || planningWorkerNodeCount <= 0) {
+            return 0f;
+        }
+        return 0.5f * Math.min(currentWorkerNodeCount, planningWorkerNodeCount) / planningWorkerNodeCount;
+    }
+
+    static List<List<String>> batches(List<String> docs, int batchSize) {
+        List<List<String>> batches = new ArrayList<>();
+        for (int i = 0; i < docs.size(); i += batchSize) {
+            batches.add(docs.subList(i, Math.min(docs.size(), i + batchSize)));
+        }
+        return batches;
+    }
+}
@@ -7,15 +7,28 @@ package org.opensearch.ml.task;
 
 import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
 import static org.opensearch.ml.common.CommonValue.ML_MODEL_INDEX;
+import static org.opensearch.ml.common.CommonValue.REMOTE_SERVICE_ERROR;
 import static org.opensearch.ml.common.MLModel.ALGORITHM_FIELD;
+import static org.opensearch.ml.common.telemetry.MLTracer.DISPATCH_PATH_ATTRIBUTE;
+import static org.opensearch.ml.common.telemetry.MLTracer.DISPATCH_SPAN;
+import static org.opensearch.ml.common.telemetry.MLTracer.FUNCTION_NAME_ATTRIBUTE;
+import static org.opensearch.ml.common.telemetry.MLTracer.MODEL_ID_ATTRIBUTE;
+import static org.opensearch.ml.common.telemetry.MLTracer.NODE_ID_ATTRIBUTE;
+import static org.opensearch.ml.common.telemetry.MLTracer.TARGET_NODE_ID_ATTRIBUTE;
+import static org.opensearch.ml.common.telemetry.MLTracer.TASK_SPAN;
+import static org.opensearch.ml.common.telemetry.MLTracer.TRANSPORT_SPAN;
 import static org.opensearch.ml.permission.AccessController.checkUserPermissions;
 import static org.opensearch.ml.permission.AccessController.getUserContext;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.PREDICT_THREAD_POOL;
 
 import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import org.opensearch.OpenSearchException;
+import org.opensearch.OpenSearchStatusException;
 import org.opensearch.ResourceNotFoundException;
 import org.opensearch.action.ActionListenerResponseHandler;
 import org.opensearch.action.get.GetRequest;
@@ -24,6 +37,8 @@ import org.opensearch.action.support.ThreadedActionListener;
 import org.opensearch.client.Client;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.LoggingDeprecationHandler;
 import org.opensearch.common.xcontent.XContentType;
@@ -43,6 +58,12 @@ import org.opensearch.ml.common.dataset.MLInputDataset;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.output.MLOutput;
 import org.opensearch.ml.common.output.MLPredictionOutput;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.common.profile.MLPredictProfile;
+import org.opensearch.ml.common.profile.MLPredictStage;
+import org.opensearch.ml.common.profile.MLPredictStageTimer;
+import org.opensearch.ml.common.telemetry.MLTracer;
 import org.opensearch.ml.common.transport.MLTaskResponse;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskAction;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
@@ -50,10 +71,20 @@ import org.opensearch.ml.engine.MLEngine;
 import org.opensearch.ml.engine.Predictable;
 import org.opensearch.ml.engine.indices.MLInputDatasetHandler;
 import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.ml.profile.MLCpuProfiler;
+import org.opensearch.ml.profile.MLPredictSlowLog;
+import org.opensearch.ml.profile.MLPredictSlowLogEntry;
+import org.opensearch.ml.profile.MLPredictSlowLogEntry.DispatchPath;
+import org.opensearch.ml.profile.MLResourceMeter;
 import org.opensearch.ml.stats.ActionName;
 import org.opensearch.ml.stats.MLActionLevelStat;
+import org.opensearch.ml.stats.MLAlgoActionCounters;
+import org.opensearch.ml.stats.MLModelActionCounters;
 import org.opensearch.ml.stats.MLNodeLevelStat;
 import org.opensearch.ml.stats.MLStats;
+import org.opensearch.ml.stats.metrics.MLMetricsRegistry;
+import org.opensearch.telemetry.tracing.Span;
+import org.opensearch.telemetry.tracing.SpanScope;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.TransportResponseHandler;
 import org.opensearch.transport.TransportService;
@@ -75,6 +106,11 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
     private final MLModelManager mlModelManager;
     private final DiscoveryNodeHelper nodeHelper;
     private final MLEngine mlEngine;
+    private final MLMetricsRegistry mlMetrics;
+    private final MLPredictSlowLog slowLog;
+    private final MLTracer mlTracer;
+    // predict counters of each algorithm, resolved once instead of per request
+    private final Map<FunctionName, MLAlgoActionCounters> algoPredictCounters = new EnumMap<>(FunctionName.class);
 
     public MLPredictTaskRunner(
         ThreadPool threadPool,
@@ -82,13 +118,16 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
         Client client,
         MLTaskManager mlTaskManager,
         MLStats mlStats,
+        MLMetricsRegistry mlMetrics,
         MLInputDatasetHandler mlInputDatasetHandler,
         MLTaskDispatcher mlTaskDispatcher,
         MLCircuitBreakerService mlCircuitBreakerService,
         NamedXContentRegistry xContentRegistry,
         MLModelManager mlModelManager,
         DiscoveryNodeHelper nodeHelper,
-        MLEngine mlEngine
+        MLEngine mlEngine,
+        MLPredictSlowLog slowLog,
+        MLTracer mlTracer
     ) {
         super(mlTaskManager, mlStats, nodeHelper, mlTaskDispatcher, mlCircuitBreakerService, clusterService);
         this.threadPool = threadPool;
@@ -99,6 +138,12 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
         this.mlModelManager = mlModelManager;
         this.nodeHelper = nodeHelper;
         this.mlEngine = mlEngine;
+        this.mlMetrics = mlMetrics;
+        this.slowLog = slowLog;
+        this.mlTracer = mlTracer;
+        for (FunctionName functionName : FunctionName.values()) {
+            algoPredictCounters.put(functionName, new MLAlgoActionCounters(mlStats, functionName, ActionName.PREDICT));
+        }
     }
 
     @Override
@@ -124,11 +169,11 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
                 if (clusterService.localNode().getId().equals(node.getId())) {
                     log.debug("Execute ML predict request {} locally on node {}", request.getRequestID(), node.getId());
                     request.setDispatchTask(false);
-                    executeTask(request, listener);
+                    executeTask(request, listener, DispatchPath.LOCAL);
                 } else {
                     log.debug("Execute ML predict request {} remotely on node {}", request.getRequestID(), node.getId());
                     request.setDispatchTask(false);
-                    transportService.sendRequest(node, getTransportActionName(), request, getResponseHandler(listener));
+                    sendRequest(transportService, node, request, listener);
                 }
             }, e -> { listener.onFailure(e); });
             String[] workerNodes = mlModelManager.getWorkerNodes(modelId, functionName, true);
@@ -145,13 +190,33 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
                     workerNodes = nodeHelper.getEligibleNodeIds(functionName);
                 }
             }
-            mlTaskDispatcher.dispatchPredictTask(workerNodes, actionListener);
+            Span dispatchSpan = mlTracer
+                .startSpan(DISPATCH_SPAN, MODEL_ID_ATTRIBUTE, modelId, FUNCTION_NAME_ATTRIBUTE, functionName.name());
+            mlTaskDispatcher.dispatchPredictTask(workerNodes, mlTracer.endSpanOnCompletion(dispatchSpan, actionListener));
         } catch (Exception e) {
             log.error("Failed to predict model " + modelId, e);
             listener.onFailure(e);
         }
     }
 
+    /**
+     * Send a predict request to a worker node. The transport span is the current span while the request is sent, so the
+     * spans of the worker node are its children.
+     */
+    private void sendRequest(
+        TransportService transportService,
+        DiscoveryNode node,
+        MLPredictionTaskRequest request,
+        ActionListener<MLTaskResponse> listener
+    ) {
+        Span transportSpan = mlTracer
+            .startClientSpan(TRANSPORT_SPAN, MODEL_ID_ATTRIBUTE, request.getModelId(), TARGET_NODE_ID_ATTRIBUTE, node.getId());
+        ActionListener<MLTaskResponse> tracedListener = mlTracer.endSpanOnCompletion(transportSpan, listener);
+        try (SpanScope ignored = mlTracer.withSpanInScope(transportSpan)) {
+            transportService.sendRequest(node, getTransportActionName(), request, getResponseHandler(tracedListener));
+        }
+    }
+
     /**
      * Start prediction task
      * @param request MLPredictionTaskRequest
@@ -159,9 +224,49 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
      */
     @Override
     protected void executeTask(MLPredictionTaskRequest request, ActionListener<MLTaskResponse> listener) {
+        executeTask(request, listener, DispatchPath.TRANSPORT);
+    }
+
+    private void executeTask(MLPredictionTaskRequest request, ActionListener<MLTaskResponse> listener, DispatchPath dispatchPath) {
+        String modelId = request.getModelId();
+        if (modelId != null && mlModelManager.isModelEvicted(modelId)) {
+            // The model was evicted from this node for being idle, run the request once it's deployed again.
+            mlModelManager
+                .redeployEvictedModel(
+                    modelId,
+                    ActionListener.wrap(r -> executeTask(request, listener, dispatchPath), listener::onFailure)
+                );
+            return;
+        }
+        Span taskSpan = mlTracer
+            .startSpan(
+                TASK_SPAN,
+                MODEL_ID_ATTRIBUTE,
+                modelId,
+                NODE_ID_ATTRIBUTE,
+                clusterService.localNode().getId(),
+                DISPATCH_PATH_ATTRIBUTE,
+                dispatchPath.getName()
+            );
+        // the task span is the parent of the spans of the predict thread and the connectors
+        try (SpanScope ignored = mlTracer.withSpanInScope(taskSpan)) {
+            executeTask(request, mlTracer.endSpanOnCompletion(taskSpan, listener), dispatchPath, modelId);
+        } catch (Exception e) {
+            taskSpan.setError(e);
+            taskSpan.endSpan();
+            throw e;
+        }
+    }
+
+    private void executeTask(
+        MLPredictionTaskRequest request,
+        ActionListener<MLTaskResponse> listener,
+        DispatchPath dispatchPath,
+        String modelId
+    ) {
+        long startNanos = System.nanoTime();
         MLInputDataType inputDataType = request.getMlInput().getInputDataset().getInputDataType();
         Instant now = Instant.now();
-        String modelId = request.getModelId();
         MLTask mlTask = MLTask
             .builder()
             .taskId(UUID.randomUUID().toString())
@@ -180,7 +285,7 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
             case SEARCH_QUERY:
                 ActionListener<MLInputDataset> dataFrameActionListener = ActionListener.wrap(dataSet -> {
                     MLInput newInput = mlInput.toBuilder().inputDataset(dataSet).build();
-                    predict(modelId, mlTask, newInput, listener);
+                    predict(modelId, mlTask, newInput, startNanos, dispatchPath, listener);
                 }, e -> {
                     log.error("Failed to generate DataFrame from search query", e);
                     handleAsyncMLTaskFailure(mlTask, e);
@@ -191,48 +296,97 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
             case DATA_FRAME:
             case TEXT_DOCS:
             default:
-                threadPool.executor(PREDICT_THREAD_POOL).execute(() -> { predict(modelId, mlTask, mlInput, listener); });
+                threadPool
+                    .executor(PREDICT_THREAD_POOL)
+                    .execute(() -> { predict(modelId, mlTask, mlInput, startNanos, dispatchPath, listener); });
                 break;
         }
     }
 
-    private void predict(String modelId, MLTask mlTask, MLInput mlInput, ActionListener<MLTaskResponse> listener) {
+    private void predict(
+        String modelId,
+        MLTask mlTask,
+        MLInput mlInput,
+        long startNanos,
+        DispatchPath dispatchPath,
+        ActionListener<MLTaskResponse> listener
+    ) {
         ActionListener<MLTaskResponse> internalListener = wrappedCleanupListener(listener, mlTask.getTaskId());
+        // The profile is always filled for the stage stats of the model, the coordinating node drops it from the response
+        // unless the request asks for it. Queue time includes parsing the search query of search query input.
+        MLPredictProfile profile = new MLPredictProfile();
+        profile.add(MLPredictStage.QUEUE, System.nanoTime() - startNanos);
         // track ML task count and add ML task into cache
         mlStats.getStat(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT).increment();
         mlStats.getStat(MLNodeLevelStat.ML_REQUEST_COUNT).increment();
-        mlStats
-            .createCounterStatIfAbsent(mlTask.getFunctionName(), ActionName.PREDICT, MLActionLevelStat.ML_ACTION_REQUEST_COUNT)
-            .increment();
+        algoPredictCounters.get(mlTask.getFunctionName()).increment(MLActionLevelStat.ML_ACTION_REQUEST_COUNT);
         if (modelId != null) {
-            mlStats.createModelCounterStatIfAbsent(modelId, ActionName.PREDICT, MLActionLevelStat.ML_ACTION_REQUEST_COUNT).increment();
+            addPredictCounter(mlModelManager.getPredictCounters(modelId), modelId, MLActionLevelStat.ML_ACTION_REQUEST_COUNT, 1);
         }
         mlTask.setState(MLTaskState.RUNNING);
         mlTaskManager.add(mlTask);
+        runPredict(modelId, mlTask, mlInput, startNanos, dispatchPath, profile, internalListener, true);
+    }
 
+    private void runPredict(
+        String modelId,
+        MLTask mlTask,
+        MLInput mlInput,
+        long startNanos,
+        DispatchPath dispatchPath,
+        MLPredictProfile profile,
+        ActionListener<MLTaskResponse> internalListener,
+        boolean retryIfEvicted
+    ) {
         FunctionName algorithm = mlInput.getAlgorithm();
+        boolean localModel = algorithm != FunctionName.REMOTE;
         // run predict
         if (modelId != null) {
             Predictable predictor = mlModelManager.getPredictor(modelId);
             if (predictor != null) {
+                // Undeploying the model closes the predictor only after in-flight requests are released.
+                Releasable inFlightRequest = mlModelManager.acquireModel(modelId);
                 try {
-                    if (!predictor.isModelReady()) {
+                    if (inFlightRequest == null || !predictor.isModelReady()) {
+                        if (retryIfEvicted && mlModelManager.isModelEvicted(modelId)) {
+                            runPredictAfterRedeploy(modelId, mlTask, mlInput, startNanos, dispatchPath, profile, internalListener);
+                            return;
+                        }
                         throw new IllegalArgumentException("Model not ready: " + modelId);
                     }
-                    MLOutput output = mlModelManager.trackPredictDuration(modelId, () -> predictor.predict(mlInput));
+                    MLOutput output = mlModelManager
+                        .trackPredictDuration(
+                            modelId,
+                            () -> profiledPredict(profile, modelId, localModel, () -> predictor.predict(mlInput))
+                        );
                     if (output instanceof MLPredictionOutput) {
                         ((MLPredictionOutput) output).setStatus(MLTaskState.COMPLETED.name());
                     }
 
                     // Once prediction complete, reduce ML_EXECUTING_TASK_COUNT and update task state
                     handleAsyncMLTaskComplete(mlTask);
-                    MLTaskResponse response = MLTaskResponse.builder().output(output).build();
+                    profile.setTimeInNanos(System.nanoTime() - startNanos);
+                    mlModelManager.addPredictStageDurations(modelId, profile.getStages());
+                    recordPredictResources(modelId, profile);
+                    recordPredictMetrics(modelId, mlTask.getFunctionName(), output, profile.getTimeInNanos());
+                    logSlowPredict(modelId, mlTask, mlInput, profile, dispatchPath, output, null);
+                    MLTaskResponse response = MLTaskResponse.builder().output(output).profile(profile).build();
                     internalListener.onResponse(response);
                     return;
                 } catch (Exception e) {
+                    // failed requests use resources too
+                    recordPredictResources(modelId, profile);
+                    recordRemoteServiceError(modelId, e);
+                    profile.setTimeInNanos(System.nanoTime() - startNanos);
+                    logSlowPredict(modelId, mlTask, mlInput, profile, dispatchPath, null, e);
                     handlePredictFailure(mlTask, internalListener, e, false, modelId);
                     return;
+                } finally {
+                    Releasables.close(inFlightRequest);
                 }
+            } else if (retryIfEvicted && mlModelManager.isModelEvicted(modelId)) {
+                runPredictAfterRedeploy(modelId, mlTask, mlInput, startNanos, dispatchPath, profile, internalListener);
+                return;
             } else if (algorithm == FunctionName.TEXT_EMBEDDING || algorithm == FunctionName.REMOTE) {
                 throw new IllegalArgumentException("Model not ready to be used: " + modelId);
             }
@@ -268,14 +422,17 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
                         if (mlTaskManager.contains(mlTask.getTaskId())) {
                             mlTaskManager.updateTaskStateAsRunning(mlTask.getTaskId(), mlTask.isAsync());
                         }
-                        MLOutput output = mlEngine.predict(mlInput, mlModel);
+                        MLOutput output = profiledPredict(profile, modelId, localModel, () -> mlEngine.predict(mlInput, mlModel));
                         if (output instanceof MLPredictionOutput) {
                             ((MLPredictionOutput) output).setStatus(MLTaskState.COMPLETED.name());
                         }
 
                         // Once prediction complete, reduce ML_EXECUTING_TASK_COUNT and update task state
                         handleAsyncMLTaskComplete(mlTask);
-                        MLTaskResponse response = MLTaskResponse.builder().output(output).build();
+                        profile.setTimeInNanos(System.nanoTime() - startNanos);
+                        recordPredictMetrics(modelId, mlTask.getFunctionName(), output, profile.getTimeInNanos());
+                        logSlowPredict(modelId, mlTask, mlInput, profile, dispatchPath, output, null);
+                        MLTaskResponse response = MLTaskResponse.builder().output(output).profile(profile).build();
                         internalListener.onResponse(response);
                     } catch (Exception e) {
                         log.error("Failed to predict model " + modelId, e);
@@ -299,6 +456,142 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
         }
     }
 
+    /**
+     * Run predict again once the model is deployed again. The model was evicted from this node for being idle after
+     * executeTask checked it, and before the request acquired it. Retried once, a second eviction fails the request.
+     */
+    private void runPredictAfterRedeploy(
+        String modelId,
+        MLTask mlTask,
+        MLInput mlInput,
+        long startNanos,
+        DispatchPath dispatchPath,
+        MLPredictProfile profile,
+        ActionListener<MLTaskResponse> internalListener
+    ) {
+        log.debug("Model {} was evicted before predict request {} acquired it, deploy it again", modelId, mlTask.getTaskId());
+        mlModelManager.redeployEvictedModel(modelId, ActionListener.wrap(r -> threadPool.executor(PREDICT_THREAD_POOL).execute(() -> {
+            try {
+                runPredict(modelId, mlTask, mlInput, startNanos, dispatchPath, profile, internalListener, false);
+            } catch (Exception e) {
+                handlePredictFailure(mlTask, internalListener, e, false, modelId);
+            }
+        }), e -> handlePredictFailure(mlTask, internalListener, e, false, modelId)));
+    }
+
+    /**
+     * Run predict with the profile attached to the current thread, so connectors and translators can time their stages.
+     * For local models, the predict time not taken by those stages is the forward pass. The CPU time and heap allocated
+     * by the thread during the call are added to the profile too; native memory allocated by ML engines is not on the
+     * heap, it's measured once when the model is deployed. CPU profiling attributes the samples of the thread to the model.
+     */
+    static MLOutput profiledPredict(MLPredictProfile profile, String modelId, boolean localModel, Supplier<MLOutput> predict) {
+        long stageNanos = sumStageNanos(profile);
+        long startCpuNanos = MLResourceMeter.threadCpuTimeNanos();
+        long startAllocatedBytes = MLResourceMeter.threadAllocatedBytes();
+        long startNanos = System.nanoTime();
+        MLPredictStageTimer.attach(profile);
+        Releasable cpuProfiling = MLCpuProfiler.attributeToModel(modelId);
+        try {
+            return predict.get();
+        } finally {
+            cpuProfiling.close();
+            MLPredictStageTimer.detach();
+            if (localModel) {
+                profile.add(MLPredictStage.FORWARD, System.nanoTime() - startNanos - (sumStageNanos(profile) - stageNanos));
+            }
+            if (startCpuNanos >= 0) {
+                profile.setCpuTimeInNanos(profile.getCpuTimeInNanos() + MLResourceMeter.threadCpuTimeNanos() - startCpuNanos);
+            }
+            if (startAllocatedBytes >= 0) {
+                profile.setAllocatedBytes(profile.getAllocatedBytes() + MLResourceMeter.threadAllocatedBytes() - startAllocatedBytes);
+            }
+        }
+    }
+
+    /**
+     * Add the resources used by a predict request to the resource accounting of the model, and to its stats.
+     */
+    private void recordPredictResources(String modelId, MLPredictProfile profile) {
+        if (!profile.hasResources()) {
+            return;
+        }
+        mlModelManager.addPredictResourceUsage(modelId, profile);
+        MLModelActionCounters counters = mlModelManager.getPredictCounters(modelId);
+        addPredictCounter(counters, modelId, MLActionLevelStat.ML_ACTION_CPU_TIME_IN_NANOS, profile.getCpuTimeInNanos());
+        addPredictCounter(counters, modelId, MLActionLevelStat.ML_ACTION_ALLOCATED_BYTES, profile.getAllocatedBytes());
+        addPredictCounter(counters, modelId, MLActionLevelStat.ML_ACTION_REMOTE_BYTES_SENT, profile.getRemoteBytesSent());
+        addPredictCounter(counters, modelId, MLActionLevelStat.ML_ACTION_REMOTE_BYTES_RECEIVED, profile.getRemoteBytesReceived());
+    }
+
+    /**
+     * Add a value to a predict counter of a model. Uses the handles kept in the model cache if the model is deployed on
+     * this node, otherwise only resolves the one counter. Values which are not positive are skipped.
+     */
+    private void addPredictCounter(MLModelActionCounters counters, String modelId, MLActionLevelStat stat, long value) {
+        if (value <= 0) {
+            return;
+        }
+        if (counters != null) {
+            counters.add(stat, value);
+        } else {
+            mlStats.createModelCounterStatIfAbsent(modelId, ActionName.PREDICT, stat).add(value);
+        }
+    }
+
+    private void logSlowPredict(
+        String modelId,
+        MLTask mlTask,
+        MLInput mlInput,
+        MLPredictProfile profile,
+        DispatchPath dispatchPath,
+        MLOutput output,
+        Exception failure
+    ) {
+        slowLog
+            .log(
+                MLPredictSlowLogEntry
+                    .builder()
+                    .modelId(modelId)
+                    .functionName(mlTask.getFunctionName())
+                    .input(mlInput)
+                    .profile(profile)
+                    .dispatchPath(dispatchPath)
+                    .output(output)
+                    .failure(failure)
+                    .build()
+            );
+    }
+
+    /**
+     * Record the latency of a predict request, and the HTTP status codes of the remote model responses in its output.
+     */
+    private void recordPredictMetrics(String modelId, FunctionName functionName, MLOutput output, long timeInNanos) {
+        mlMetrics.getPredictLatency().labels(modelId, String.valueOf(functionName)).observe(timeInNanos / 1e9);
+        if (!(output instanceof ModelTensorOutput) || ((ModelTensorOutput) output).getMlModelOutputs() == null) {
+            return;
+        }
+        for (ModelTensors tensors : ((ModelTensorOutput) output).getMlModelOutputs()) {
+            if (tensors.getStatusCode() != null) {
+                mlMetrics.getRemoteHttpResponses().labels(modelId, String.valueOf(tensors.getStatusCode())).inc();
+            }
+        }
+    }
+
+    /**
+     * Record the HTTP status code of a remote model error response. Connectors fail with the status of the response.
+     */
+    private void recordRemoteServiceError(String modelId, Exception e) {
+        if (e instanceof OpenSearchStatusException && e.getMessage() != null && e.getMessage().startsWith(REMOTE_SERVICE_ERROR)) {
+            String statusCode = String.valueOf(((OpenSearchStatusException) e).status().getStatus());
+            mlMetrics.getRemoteHttpResponses().labels(modelId, statusCode).inc();
+        }
+    }
+
+    private static long sumStageNanos(MLPredictProfile profile) {
+        return profile.getStages().values().stream().mapToLong(Long::longValue).sum();
+    }
+
     private <T> ThreadedActionListener<T> threadedActionListener(ActionListener<T> listener) {
         return new ThreadedActionListener<>(log, threadPool, PREDICT_THREAD_POOL, listener, false);
     }
@@ -311,10 +604,10 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
         String modelId
     ) {
         if (trackFailure) {
-            mlStats
-                .createCounterStatIfAbsent(mlTask.getFunctionName(), ActionName.PREDICT, MLActionLevelStat.ML_ACTION_FAILURE_COUNT)
-                .increment();
-            mlStats.createModelCounterStatIfAbsent(modelId, ActionName.PREDICT, MLActionLevelStat.ML_ACTION_FAILURE_COUNT);
+            algoPredictCounters.get(mlTask.getFunctionName()).increment(MLActionLevelStat.ML_ACTION_FAILURE_COUNT);
+            if (modelId != null) {
+                addPredictCounter(mlModelManager.getPredictCounters(modelId), modelId, MLActionLevelStat.ML_ACTION_FAILURE_COUNT, 1);
+            }
             mlStats.getStat(MLNodeLevelStat.ML_FAILURE_COUNT).increment();
         }
         handleAsyncMLTaskFailure(mlTask, e);
@@ -6,6 +6,7 @@
 package org.opensearch.ml.task;
 
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_ML_TASK_PER_NODE;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_PREFER_LOCAL_WORKER;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_TASK_DISPATCH_POLICY;
 
 import java.util.List;
@@ -46,6 +47,7 @@ public class MLTaskDispatcher {
     private AtomicInteger nextNode;
     private volatile Integer maxMLBatchTaskPerNode;
     private volatile String dispatchPolicy;
+    private volatile boolean preferLocalWorker;
     private DiscoveryNodeHelper nodeHelper;
 
     public MLTaskDispatcher(ClusterService clusterService, Client client, Settings settings, DiscoveryNodeHelper nodeHelper) {
@@ -57,6 +59,8 @@ public class MLTaskDispatcher {
         this.dispatchPolicy = ML_COMMONS_TASK_DISPATCH_POLICY.get(settings);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_TASK_DISPATCH_POLICY, it -> dispatchPolicy = it);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_MAX_ML_TASK_PER_NODE, it -> maxMLBatchTaskPerNode = it);
+        this.preferLocalWorker = ML_COMMONS_PREDICT_PREFER_LOCAL_WORKER.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_PREDICT_PREFER_LOCAL_WORKER, it -> preferLocalWorker = it);
     }
 
     /**
@@ -78,6 +82,10 @@ public class MLTaskDispatcher {
         if (nodeIds == null || nodeIds.length == 0) {
             throw new IllegalArgumentException("no eligible node to run predict request");
         }
+        if (preferLocalWorker && isLocalNode(nodeIds)) {
+            actionListener.onResponse(clusterService.localNode());
+            return;
+        }
         if (ROUND_ROBIN.equals(dispatchPolicy)) {
             dispatchTaskWithRoundRobin(
                 nodeIds,
@@ -90,6 +98,21 @@ public class MLTaskDispatcher {
         }
     }
 
+    /**
+     * Check if local node is one of the given nodes.
+     * @param nodeIds node ids
+     * @return true if local node is in the node ids
+     */
+    public boolean isLocalNode(String[] nodeIds) {
+        String localNodeId = clusterService.localNode().getId();
+        for (String nodeId : nodeIds) {
+            if (localNodeId.equals(nodeId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private <T> void dispatchTaskWithRoundRobin(T[] nodes, ActionListener<T> listener) {
         int currentNode = nextNode.getAndIncrement();
         if (currentNode > nodes.length - 1) {
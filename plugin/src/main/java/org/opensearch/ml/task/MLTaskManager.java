@@ -61,6 +61,7 @@ public class MLTaskManager {
     private final ThreadPool threadPool;
     private final MLIndicesHandler mlIndicesHandler;
     private final Map<MLTaskType, AtomicInteger> runningTasksCount;
+    private final MLTaskUpdateBuffer taskUpdateBuffer;
 
     public static final ImmutableSet TASK_DONE_STATES = ImmutableSet
         .of(MLTaskState.COMPLETED, MLTaskState.COMPLETED_WITH_ERROR, MLTaskState.FAILED, MLTaskState.CANCELLED);
@@ -72,9 +73,21 @@ public class MLTaskManager {
      * @param mlIndicesHandler ML indices handler
      */
     public MLTaskManager(Client client, ThreadPool threadPool, MLIndicesHandler mlIndicesHandler) {
+        this(client, threadPool, mlIndicesHandler, null);
+    }
+
+    /**
+     * Constructor to create ML task manager which buffers task index updates.
+     *
+     * @param client client
+     * @param mlIndicesHandler ML indices handler
+     * @param taskUpdateBuffer write-behind buffer for task index updates, null means update task index directly
+     */
+    public MLTaskManager(Client client, ThreadPool threadPool, MLIndicesHandler mlIndicesHandler, MLTaskUpdateBuffer taskUpdateBuffer) {
         this.client = client;
         this.threadPool = threadPool;
         this.mlIndicesHandler = mlIndicesHandler;
+        this.taskUpdateBuffer = taskUpdateBuffer;
         taskCaches = new ConcurrentHashMap<>();
         runningTasksCount = new ConcurrentHashMap<>();
     }
@@ -290,6 +303,28 @@ public class MLTaskManager {
         ActionListener<UpdateResponse> listener,
         long timeoutInMillis,
         boolean removeFromCache
+    ) {
+        boolean refresh = updatedFields != null && TASK_DONE_STATES.contains(updatedFields.get(STATE_FIELD));
+        updateMLTask(taskId, updatedFields, listener, timeoutInMillis, removeFromCache, refresh);
+    }
+
+    /**
+     * Update ML task. If task update buffer is enabled, the update is merged with other pending updates of the
+     * same task and written to task index with next bulk flush.
+     * @param taskId task id
+     * @param updatedFields updated field and values
+     * @param listener action listener
+     * @param timeoutInMillis time out waiting for updating task semaphore, zero or negative means don't wait at all
+     * @param removeFromCache remove ML task from cache
+     * @param refresh refresh task index after update, set to true if caller needs to search the update right away
+     */
+    public void updateMLTask(
+        String taskId,
+        Map<String, Object> updatedFields,
+        ActionListener<UpdateResponse> listener,
+        long timeoutInMillis,
+        boolean removeFromCache,
+        boolean refresh
     ) {
         MLTaskCache taskCache = taskCaches.get(taskId);
         if (removeFromCache) {
@@ -299,6 +334,15 @@ public class MLTaskManager {
             listener.onFailure(new MLResourceNotFoundException("Can't find task in cache: " + taskId));
             return;
         }
+        if (taskUpdateBuffer != null && taskUpdateBuffer.isEnabled()) {
+            if (updatedFields == null || updatedFields.size() == 0) {
+                listener.onFailure(new IllegalArgumentException("Updated fields is null or empty"));
+                return;
+            }
+            // Buffered updates of the same task are coalesced and flushed in order, the task semaphore is held while flushing.
+            taskUpdateBuffer.add(taskId, updatedFields, listener, refresh, taskCache.getUpdateTaskIndexSemaphore(), timeoutInMillis);
+            return;
+        }
         threadPool.executor(GENERAL_THREAD_POOL).execute(() -> {
             Semaphore semaphore = taskCache.getUpdateTaskIndexSemaphore();
             try {
@@ -347,12 +391,26 @@ public class MLTaskManager {
         }));
     }
 
+    /**
+     * Update ML task which may not be in the cache of this node. The task index is refreshed after the update. If task
+     * update buffer is set, the update goes through it even when it's disabled, so a pending buffered update of the
+     * task is merged into this one instead of being flushed after it.
+     * @param taskId task id
+     * @param updatedFields updated field and values
+     * @param listener action listener
+     */
     public void updateMLTaskDirectly(String taskId, Map<String, Object> updatedFields, ActionListener<UpdateResponse> listener) {
         try {
             if (updatedFields == null || updatedFields.size() == 0) {
                 listener.onFailure(new IllegalArgumentException("Updated fields is null or empty"));
                 return;
             }
+            if (taskUpdateBuffer != null) {
+                MLTaskCache taskCache = taskCaches.get(taskId);
+                Semaphore semaphore = taskCache == null ? null : taskCache.getUpdateTaskIndexSemaphore();
+                taskUpdateBuffer.add(taskId, updatedFields, listener, true, semaphore, TASK_SEMAPHORE_TIMEOUT);
+                return;
+            }
             UpdateRequest updateRequest = new UpdateRequest(ML_TASK_INDEX, taskId);
             Map<String, Object> updatedContent = new HashMap<>();
             updatedContent.putAll(updatedFields);
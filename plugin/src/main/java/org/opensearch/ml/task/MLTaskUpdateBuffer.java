@@ -0,0 +1,301 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.task;
+
+import static org.opensearch.ml.common.CommonValue.ML_TASK_INDEX;
+import static org.opensearch.ml.common.MLTask.LAST_UPDATE_TIME_FIELD;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.GENERAL_THREAD_POOL;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_TASK_UPDATE_BUFFER_ENABLED;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_TASK_UPDATE_BUFFER_FLUSH_INTERVAL_IN_MILLIS;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_TASK_UPDATE_BUFFER_MAX_BATCH_SIZE;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.support.WriteRequest;
+import org.opensearch.action.update.UpdateRequest;
+import org.opensearch.action.update.UpdateResponse;
+import org.opensearch.client.Client;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.common.exception.MLException;
+import org.opensearch.threadpool.ThreadPool;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Write-behind buffer for ML task index updates.
+ * Updates to the same task are merged in memory and flushed together as one bulk request on a short interval.
+ * The index is only refreshed when a pending update asked for read-your-writes.
+ * At most one bulk request is in flight at a time, so updates of the same task are applied in order.
+ * A task update is only flushed while holding the update semaphore of the task, like the unbuffered updates of
+ * {@link MLTaskManager}, so it's never applied concurrently with one of them.
+ */
+@Log4j2
+public class MLTaskUpdateBuffer {
+    private static final long MIN_RETRY_INTERVAL_IN_MILLIS = 10;
+
+    private final Client client;
+    private final ThreadPool threadPool;
+    private final Map<String, PendingTaskUpdate> pendingUpdates;
+    private final AtomicBoolean flushScheduled;
+    private final AtomicBoolean flushing;
+
+    private volatile boolean enabled;
+    private volatile int flushIntervalInMillis;
+    private volatile int maxBatchSize;
+
+    public MLTaskUpdateBuffer(Client client, ThreadPool threadPool, ClusterService clusterService, Settings settings) {
+        this.client = client;
+        this.threadPool = threadPool;
+        this.pendingUpdates = new LinkedHashMap<>();
+        this.flushScheduled = new AtomicBoolean(false);
+        this.flushing = new AtomicBoolean(false);
+        this.enabled = ML_COMMONS_TASK_UPDATE_BUFFER_ENABLED.get(settings);
+        this.flushIntervalInMillis = ML_COMMONS_TASK_UPDATE_BUFFER_FLUSH_INTERVAL_IN_MILLIS.get(settings);
+        this.maxBatchSize = ML_COMMONS_TASK_UPDATE_BUFFER_MAX_BATCH_SIZE.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_TASK_UPDATE_BUFFER_ENABLED, it -> {
+            enabled = it;
+            if (!it) {
+                flush();
+            }
+        });
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_TASK_UPDATE_BUFFER_FLUSH_INTERVAL_IN_MILLIS, it -> flushIntervalInMillis = it);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_TASK_UPDATE_BUFFER_MAX_BATCH_SIZE, it -> maxBatchSize = it);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Add task update to buffer. Fields of pending updates of the same task are merged, later value wins.
+     * @param taskId task id
+     * @param updatedFields updated field and values
+     * @param listener action listener, notified once the bulk request containing this update finishes
+     * @param refresh refresh ML task index after flushing this update, flushes the buffer right away
+     */
+    public void add(String taskId, Map<String, Object> updatedFields, ActionListener<UpdateResponse> listener, boolean refresh) {
+        add(taskId, updatedFields, listener, refresh, null, 0);
+    }
+
+    /**
+     * Add task update to buffer. Fields of pending updates of the same task are merged, later value wins.
+     * @param taskId task id
+     * @param updatedFields updated field and values
+     * @param listener action listener, notified once the bulk request containing this update finishes
+     * @param refresh refresh ML task index after flushing this update, flushes the buffer right away
+     * @param semaphore update semaphore of the task, acquired while the update is flushed, null means no semaphore
+     * @param timeoutInMillis time out waiting for the semaphore, zero or negative means don't wait at all
+     */
+    public void add(
+        String taskId,
+        Map<String, Object> updatedFields,
+        ActionListener<UpdateResponse> listener,
+        boolean refresh,
+        Semaphore semaphore,
+        long timeoutInMillis
+    ) {
+        boolean flushNow;
+        synchronized (this) {
+            PendingTaskUpdate pendingUpdate = pendingUpdates.computeIfAbsent(taskId, it -> new PendingTaskUpdate());
+            pendingUpdate.merge(updatedFields, listener, refresh, semaphore, timeoutInMillis);
+            flushNow = refresh || flushIntervalInMillis <= 0 || pendingUpdates.size() >= maxBatchSize;
+        }
+        if (flushNow) {
+            flush();
+        } else {
+            scheduleFlush();
+        }
+    }
+
+    /**
+     * Get count of tasks which have pending updates.
+     * @return pending task count
+     */
+    public synchronized int getPendingTaskCount() {
+        return pendingUpdates.size();
+    }
+
+    private void scheduleFlush() {
+        if (flushScheduled.compareAndSet(false, true)) {
+            // updates waiting for a task semaphore are retried on the next flush, so never retry in a tight loop
+            long delay = Math.max(flushIntervalInMillis, MIN_RETRY_INTERVAL_IN_MILLIS);
+            threadPool.schedule(this::flush, TimeValue.timeValueMillis(delay), GENERAL_THREAD_POOL);
+        }
+    }
+
+    /**
+     * Flush all pending task updates as one bulk request. If another bulk request is in flight, pending
+     * updates will be flushed once that one finishes. Updates of tasks whose semaphore is held by another update stay
+     * pending until the semaphore is released, or fail once they waited for longer than their timeout.
+     */
+    public void flush() {
+        // Clear the scheduled flag first, so an in flight flush can schedule the next round when it finishes.
+        flushScheduled.set(false);
+        if (!flushing.compareAndSet(false, true)) {
+            return;
+        }
+        Map<String, PendingTaskUpdate> batch = new LinkedHashMap<>();
+        List<PendingTaskUpdate> timedOut = new ArrayList<>();
+        boolean refresh = false;
+        boolean waiting;
+        synchronized (this) {
+            long now = System.nanoTime();
+            Iterator<Map.Entry<String, PendingTaskUpdate>> iterator = pendingUpdates.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<String, PendingTaskUpdate> entry = iterator.next();
+                PendingTaskUpdate pendingUpdate = entry.getValue();
+                if (pendingUpdate.semaphore == null || pendingUpdate.semaphore.tryAcquire()) {
+                    batch.put(entry.getKey(), pendingUpdate);
+                    refresh = refresh || pendingUpdate.refresh;
+                    iterator.remove();
+                } else if (now - pendingUpdate.deadlineNanos >= 0) {
+                    timedOut.add(pendingUpdate);
+                    iterator.remove();
+                }
+            }
+            waiting = !pendingUpdates.isEmpty();
+        }
+        timedOut.forEach(update -> update.onFailure(new MLException("Other updating request not finished yet")));
+        if (batch.isEmpty()) {
+            flushing.set(false);
+            if (waiting) {
+                scheduleFlush();
+            }
+            return;
+        }
+
+        BulkRequest bulkRequest = new BulkRequest();
+        List<PendingTaskUpdate> updates = new ArrayList<>();
+        long now = Instant.now().toEpochMilli();
+        for (Map.Entry<String, PendingTaskUpdate> entry : batch.entrySet()) {
+            Map<String, Object> updatedContent = new LinkedHashMap<>(entry.getValue().updatedFields);
+            updatedContent.put(LAST_UPDATE_TIME_FIELD, now);
+            UpdateRequest updateRequest = new UpdateRequest(ML_TASK_INDEX, entry.getKey()).doc(updatedContent).retryOnConflict(3);
+            bulkRequest.add(updateRequest);
+            updates.add(entry.getValue());
+        }
+        bulkRequest.setRefreshPolicy(refresh ? WriteRequest.RefreshPolicy.IMMEDIATE : WriteRequest.RefreshPolicy.NONE);
+        log.debug("Flush {} ML task updates, refresh: {}", updates.size(), refresh);
+
+        Runnable onDone = () -> {
+            batch.values().forEach(PendingTaskUpdate::releaseSemaphore);
+            onFlushDone();
+        };
+        ActionListener<BulkResponse> listener = ActionListener.wrap(response -> {
+            BulkItemResponse[] items = response.getItems();
+            for (int i = 0; i < items.length; i++) {
+                BulkItemResponse item = items[i];
+                if (item.isFailed()) {
+                    log.error("Failed to update ML task {}", item.getId(), item.getFailure().getCause());
+                    updates.get(i).onFailure(item.getFailure().getCause());
+                } else {
+                    updates.get(i).onResponse(item.getResponse());
+                }
+            }
+        }, e -> {
+            log.error("Failed to flush ML task updates", e);
+            updates.forEach(update -> update.onFailure(e));
+        });
+
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            client.bulk(bulkRequest, ActionListener.runAfter(ActionListener.runBefore(listener, () -> context.restore()), onDone::run));
+        } catch (Exception e) {
+            log.error("Failed to flush ML task updates", e);
+            updates.forEach(update -> update.onFailure(e));
+            onDone.run();
+        }
+    }
+
+    private void onFlushDone() {
+        flushing.set(false);
+        boolean flushNow;
+        synchronized (this) {
+            if (pendingUpdates.isEmpty()) {
+                return;
+            }
+            boolean refreshRequested = pendingUpdates.values().stream().anyMatch(it -> it.refresh);
+            flushNow = refreshRequested || !enabled || pendingUpdates.size() >= maxBatchSize;
+        }
+        if (flushNow) {
+            threadPool.executor(GENERAL_THREAD_POOL).execute(this::flush);
+        } else {
+            scheduleFlush();
+        }
+    }
+
+    private static class PendingTaskUpdate {
+        private final Map<String, Object> updatedFields = new LinkedHashMap<>();
+        private final List<ActionListener<UpdateResponse>> listeners = new ArrayList<>();
+        private boolean refresh;
+        private Semaphore semaphore;
+        private long deadlineNanos = Long.MAX_VALUE;
+
+        private void merge(
+            Map<String, Object> fields,
+            ActionListener<UpdateResponse> listener,
+            boolean refresh,
+            Semaphore semaphore,
+            long timeoutInMillis
+        ) {
+            updatedFields.putAll(fields);
+            if (listener != null) {
+                listeners.add(listener);
+            }
+            this.refresh = this.refresh || refresh;
+            if (semaphore != null) {
+                this.semaphore = semaphore;
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(0, timeoutInMillis));
+                // the earliest deadline wins, so no caller waits for longer than it asked for
+                if (deadlineNanos == Long.MAX_VALUE || deadline - deadlineNanos < 0) {
+                    deadlineNanos = deadline;
+                }
+            }
+        }
+
+        private void releaseSemaphore() {
+            if (semaphore != null) {
+                semaphore.release();
+            }
+        }
+
+        private void onResponse(UpdateResponse response) {
+            for (ActionListener<UpdateResponse> listener : listeners) {
+                try {
+                    listener.onResponse(response);
+                } catch (Exception e) {
+                    log.error("Failed to notify ML task update listener", e);
+                }
+            }
+        }
+
+        private void onFailure(Exception e) {
+            for (ActionListener<UpdateResponse> listener : listeners) {
+                try {
+                    listener.onFailure(e);
+                } catch (Exception ex) {
+                    log.error("Failed to notify ML task update listener", ex);
+                }
+            }
+        }
+    }
+}
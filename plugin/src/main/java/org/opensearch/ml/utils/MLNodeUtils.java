@@ -9,18 +9,25 @@ import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedTok
 import static org.opensearch.ml.plugin.MachineLearningPlugin.ML_ROLE_NAME;
 
 import java.io.IOException;
+import java.util.Base64;
 import java.util.Set;
 import java.util.function.Function;
 
 import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.xcontent.LoggingDeprecationHandler;
 import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.MediaType;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.ml.breaker.MLCircuitBreakerService;
 import org.opensearch.ml.breaker.ThresholdCircuitBreaker;
+import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.exception.MLLimitExceededException;
 import org.opensearch.ml.stats.MLNodeLevelStat;
 import org.opensearch.ml.stats.MLStats;
@@ -35,7 +42,39 @@ public class MLNodeUtils {
 
     public static XContentParser createXContentParserFromRegistry(NamedXContentRegistry xContentRegistry, BytesReference bytesReference)
         throws IOException {
-        return XContentHelper.createParser(xContentRegistry, LoggingDeprecationHandler.INSTANCE, bytesReference, XContentType.JSON);
+        // model chunks are stored with a SMILE source, all other documents are JSON
+        MediaType mediaType = MediaTypeRegistry.xContentType(bytesReference);
+        return XContentHelper
+            .createParser(
+                xContentRegistry,
+                LoggingDeprecationHandler.INSTANCE,
+                bytesReference,
+                mediaType == null ? XContentType.JSON : mediaType
+            );
+    }
+
+    /**
+     * Build the index source of a model chunk. Once all nodes can read it, the chunk content is stored as raw binary in
+     * a SMILE source. Otherwise it's stored base64 encoded in a JSON source, which is a third bigger and has to be decoded
+     * again on every deploy.
+     * @param chunk model chunk without content
+     * @param content chunk content
+     * @param clusterService cluster service
+     * @return index source of the model chunk
+     */
+    public static XContentBuilder createModelChunkSource(MLModel chunk, byte[] content, ClusterService clusterService) throws IOException {
+        if (clusterService.state().nodes().getMinNodeVersion().onOrAfter(MLModel.MINIMAL_SUPPORTED_VERSION_FOR_BINARY_CHUNK_CONTENT)) {
+            return chunk
+                .toBuilder()
+                .binaryContent(content)
+                .build()
+                .toXContent(XContentBuilder.builder(XContentType.SMILE.xContent()), ToXContent.EMPTY_PARAMS);
+        }
+        return chunk
+            .toBuilder()
+            .content(Base64.getEncoder().encodeToString(content))
+            .build()
+            .toXContent(XContentBuilder.builder(XContentType.JSON.xContent()), ToXContent.EMPTY_PARAMS);
     }
 
     public static void parseArrayField(XContentParser parser, Set<String> set) throws IOException {
@@ -0,0 +1,69 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.metrics;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+
+import org.junit.Before;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearch.Version;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.stats.metrics.MLMetricsRegistry;
+import org.opensearch.tasks.Task;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.transport.TransportService;
+
+public class MLMetricsTransportActionTests extends OpenSearchTestCase {
+    @Mock
+    private TransportService transportService;
+    @Mock
+    private ActionFilters actionFilters;
+    @Mock
+    private ClusterService clusterService;
+    @Mock
+    private Task task;
+    @Mock
+    private ActionListener<MLMetricsResponse> actionListener;
+
+    private MLMetricsRegistry mlMetrics;
+    private MLMetricsTransportAction transportAction;
+
+    @Before
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        when(clusterService.localNode()).thenReturn(new DiscoveryNode("node1", buildNewFakeTransportAddress(), Version.CURRENT));
+        mlMetrics = new MLMetricsRegistry();
+        transportAction = new MLMetricsTransportAction(transportService, actionFilters, mlMetrics, clusterService);
+    }
+
+    public void testDoExecute() {
+        mlMetrics.getPredictLatency().labels("model1", "REMOTE").observe(0.2);
+
+        transportAction.doExecute(task, new MLMetricsRequest(), actionListener);
+
+        ArgumentCaptor<MLMetricsResponse> argumentCaptor = ArgumentCaptor.forClass(MLMetricsResponse.class);
+        verify(actionListener).onResponse(argumentCaptor.capture());
+        String content = argumentCaptor.getValue().getOpenMetrics();
+        assertTrue(content.contains("ml_predict_latency_seconds_count{node=\"node1\",model_id=\"model1\",function_name=\"REMOTE\"} 1\n"));
+        assertTrue(content.endsWith("# EOF\n"));
+    }
+
+    public void testResponseSerialization() throws IOException {
+        BytesStreamOutput output = new BytesStreamOutput();
+        new MLMetricsResponse("# EOF\n").writeTo(output);
+
+        assertEquals("# EOF\n", new MLMetricsResponse(output.bytes().streamInput()).getOpenMetrics());
+    }
+}
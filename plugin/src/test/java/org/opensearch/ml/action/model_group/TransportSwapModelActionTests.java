@@ -0,0 +1,258 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.model_group;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.ml.common.CommonValue.ML_MODEL_GROUP_INDEX;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.Before;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.Version;
+import org.opensearch.action.get.GetResponse;
+import org.opensearch.action.index.IndexResponse;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.client.Client;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.index.get.GetResult;
+import org.opensearch.ml.cluster.DiscoveryNodeHelper;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.MLModelGroup;
+import org.opensearch.ml.common.MLTask;
+import org.opensearch.ml.common.MLTaskType;
+import org.opensearch.ml.common.exception.MLResourceNotFoundException;
+import org.opensearch.ml.common.exception.MLValidationException;
+import org.opensearch.ml.common.model.MLModelState;
+import org.opensearch.ml.common.transport.model_group.MLModelGroupSwapRequest;
+import org.opensearch.ml.common.transport.model_group.MLModelGroupSwapResponse;
+import org.opensearch.ml.helper.ModelAccessControlHelper;
+import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.ml.task.MLTaskManager;
+import org.opensearch.tasks.Task;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+public class TransportSwapModelActionTests extends OpenSearchTestCase {
+    private static final String MODEL_GROUP_ID = "model_group_id";
+    private static final String MODEL_ID = "new_model";
+    private static final String SERVING_MODEL_ID = "old_model";
+
+    @Mock
+    private TransportService transportService;
+    @Mock
+    private ActionFilters actionFilters;
+    @Mock
+    private Client client;
+    @Mock
+    private ThreadPool threadPool;
+    @Mock
+    private ClusterService clusterService;
+    @Mock
+    private MLTaskManager mlTaskManager;
+    @Mock
+    private MLModelManager mlModelManager;
+    @Mock
+    private DiscoveryNodeHelper nodeHelper;
+    @Mock
+    private ModelAccessControlHelper modelAccessControlHelper;
+    @Mock
+    private Task task;
+    @Mock
+    private ActionListener<MLModelGroupSwapResponse> actionListener;
+
+    private TransportSwapModelAction transportSwapModelAction;
+    private MLModelGroupSwapRequest request;
+    private MLModel mlModel;
+
+    @Before
+    public void setup() throws IOException {
+        MockitoAnnotations.openMocks(this);
+        transportSwapModelAction = new TransportSwapModelAction(
+            transportService,
+            actionFilters,
+            client,
+            threadPool,
+            clusterService,
+            mlTaskManager,
+            mlModelManager,
+            nodeHelper,
+            modelAccessControlHelper
+        );
+        request = MLModelGroupSwapRequest.builder().modelGroupId(MODEL_GROUP_ID).modelId(MODEL_ID).build();
+        mlModel = MLModel
+            .builder()
+            .modelId(MODEL_ID)
+            .modelGroupId(MODEL_GROUP_ID)
+            .algorithm(FunctionName.TEXT_EMBEDDING)
+            .modelState(MLModelState.REGISTERED)
+            .build();
+
+        when(client.threadPool()).thenReturn(threadPool);
+        when(threadPool.getThreadContext()).thenReturn(new ThreadContext(Settings.EMPTY));
+        when(clusterService.localNode()).thenReturn(new DiscoveryNode("node1", buildNewFakeTransportAddress(), Version.CURRENT));
+
+        doAnswer(invocation -> {
+            ActionListener<Boolean> listener = invocation.getArgument(3);
+            listener.onResponse(true);
+            return null;
+        }).when(modelAccessControlHelper).validateModelGroupAccess(any(), eq(MODEL_GROUP_ID), any(), any());
+        mockModelGroup(SERVING_MODEL_ID);
+        doAnswer(invocation -> {
+            ActionListener<MLModel> listener = invocation.getArgument(1);
+            listener.onResponse(mlModel);
+            return null;
+        }).when(mlModelManager).getModel(eq(MODEL_ID), any(ActionListener.class));
+        doAnswer(invocation -> {
+            ActionListener<IndexResponse> listener = invocation.getArgument(1);
+            IndexResponse indexResponse = mock(IndexResponse.class);
+            when(indexResponse.getId()).thenReturn("task_id");
+            listener.onResponse(indexResponse);
+            return null;
+        }).when(mlTaskManager).createMLTask(any(), any());
+    }
+
+    public void testDoExecute() {
+        transportSwapModelAction.doExecute(task, request, actionListener);
+
+        ArgumentCaptor<MLModelGroupSwapResponse> responseCaptor = ArgumentCaptor.forClass(MLModelGroupSwapResponse.class);
+        verify(actionListener).onResponse(responseCaptor.capture());
+        assertEquals("task_id", responseCaptor.getValue().getTaskId());
+        assertEquals("CREATED", responseCaptor.getValue().getStatus());
+        ArgumentCaptor<MLTask> taskCaptor = ArgumentCaptor.forClass(MLTask.class);
+        verify(mlTaskManager).createMLTask(taskCaptor.capture(), any());
+        assertEquals(MLTaskType.SWAP_MODEL, taskCaptor.getValue().getTaskType());
+        assertEquals(List.of("node1"), taskCaptor.getValue().getWorkerNodes());
+        // the job started deploying the new model
+        verify(mlTaskManager).updateMLTaskDirectly(eq("task_id"), any(), any());
+    }
+
+    public void testDoExecute_SwapInProgress() {
+        // the first swap keeps the model group, as its task update never returns
+        transportSwapModelAction.doExecute(task, request, actionListener);
+        verify(actionListener).onResponse(any());
+
+        transportSwapModelAction.doExecute(task, request, actionListener);
+
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(actionListener).onFailure(argumentCaptor.capture());
+        assertTrue(argumentCaptor.getValue() instanceof MLValidationException);
+        assertEquals("Model group model_group_id has a model swap in progress", argumentCaptor.getValue().getMessage());
+        verify(mlTaskManager, times(1)).createMLTask(any(), any());
+    }
+
+    public void testDoExecute_SwapDone_AllowNextSwap() {
+        doAnswer(invocation -> {
+            ActionListener<?> listener = invocation.getArgument(2);
+            listener.onFailure(new RuntimeException("index error"));
+            return null;
+        }).when(mlTaskManager).updateMLTaskDirectly(eq("task_id"), any(), any());
+        doAnswer(invocation -> {
+            ActionListener<?> listener = invocation.getArgument(2);
+            listener.onFailure(new RuntimeException("deploy error"));
+            return null;
+        }).when(client).execute(any(), any(), any());
+
+        // the first swap fails to deploy the model and releases the model group
+        transportSwapModelAction.doExecute(task, request, actionListener);
+        transportSwapModelAction.doExecute(task, request, actionListener);
+
+        verify(actionListener, times(2)).onResponse(any());
+        verify(actionListener, never()).onFailure(any());
+    }
+
+    public void testDoExecute_NoAccess() {
+        doAnswer(invocation -> {
+            ActionListener<Boolean> listener = invocation.getArgument(3);
+            listener.onResponse(false);
+            return null;
+        }).when(modelAccessControlHelper).validateModelGroupAccess(any(), eq(MODEL_GROUP_ID), any(), any());
+
+        transportSwapModelAction.doExecute(task, request, actionListener);
+
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(actionListener).onFailure(argumentCaptor.capture());
+        assertEquals(RestStatus.FORBIDDEN, ((OpenSearchStatusException) argumentCaptor.getValue()).status());
+        verify(client, never()).get(any(), any());
+    }
+
+    public void testDoExecute_ModelGroupNotFound_ReleaseModelGroup() {
+        doAnswer(invocation -> {
+            ActionListener<GetResponse> listener = invocation.getArgument(1);
+            listener.onResponse(null);
+            return null;
+        }).when(client).get(any(), any());
+
+        transportSwapModelAction.doExecute(task, request, actionListener);
+        transportSwapModelAction.doExecute(task, request, actionListener);
+
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(actionListener, times(2)).onFailure(argumentCaptor.capture());
+        for (Exception e : argumentCaptor.getAllValues()) {
+            assertTrue(e instanceof MLResourceNotFoundException);
+        }
+    }
+
+    public void testDoExecute_AlreadyServing() throws IOException {
+        mockModelGroup(MODEL_ID);
+
+        transportSwapModelAction.doExecute(task, request, actionListener);
+
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(actionListener).onFailure(argumentCaptor.capture());
+        assertEquals("Model new_model is already serving model group model_group_id", argumentCaptor.getValue().getMessage());
+        verify(mlTaskManager, never()).createMLTask(any(), any());
+    }
+
+    public void testDoExecute_ModelNotInModelGroup() {
+        mlModel = mlModel.toBuilder().modelGroupId("other_model_group_id").build();
+
+        transportSwapModelAction.doExecute(task, request, actionListener);
+
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(actionListener).onFailure(argumentCaptor.capture());
+        assertEquals("Model new_model doesn't belong to model group model_group_id", argumentCaptor.getValue().getMessage());
+        verify(mlTaskManager, never()).createMLTask(any(), any());
+    }
+
+    private void mockModelGroup(String servingModelId) throws IOException {
+        MLModelGroup mlModelGroup = MLModelGroup
+            .builder()
+            .modelGroupId(MODEL_GROUP_ID)
+            .name("test_model_group")
+            .servingModelId(servingModelId)
+            .build();
+        BytesReference source = BytesReference.bytes(mlModelGroup.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS));
+        GetResult getResult = new GetResult(ML_MODEL_GROUP_INDEX, MODEL_GROUP_ID, 5L, 2L, 1L, true, source, null, null);
+        GetResponse getResponse = new GetResponse(getResult);
+        doAnswer(invocation -> {
+            ActionListener<GetResponse> listener = invocation.getArgument(1);
+            listener.onResponse(getResponse);
+            return null;
+        }).when(client).get(any(), any());
+    }
+}
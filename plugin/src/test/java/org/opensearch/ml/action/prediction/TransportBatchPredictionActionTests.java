@@ -0,0 +1,303 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.prediction;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.ml.common.CommonValue.ML_TASK_INDEX;
+import static org.opensearch.ml.common.MLTask.CHECKPOINT_FIELD;
+import static org.opensearch.ml.common.MLTask.MODEL_ID_FIELD;
+import static org.opensearch.ml.common.MLTask.OUTPUT_INDEX_FIELD;
+import static org.opensearch.ml.common.MLTask.STATE_FIELD;
+import static org.opensearch.ml.common.MLTask.TASK_TYPE_FIELD;
+import static org.opensearch.ml.common.MLTask.WORKER_NODE_FIELD;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearch.Version;
+import org.opensearch.action.get.GetResponse;
+import org.opensearch.action.index.IndexResponse;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.update.UpdateRequest;
+import org.opensearch.action.update.UpdateResponse;
+import org.opensearch.client.Client;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.engine.VersionConflictEngineException;
+import org.opensearch.index.get.GetResult;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.MLTask;
+import org.opensearch.ml.common.MLTaskState;
+import org.opensearch.ml.common.MLTaskType;
+import org.opensearch.ml.common.exception.MLValidationException;
+import org.opensearch.ml.common.transport.prediction.MLBatchPredictionRequest;
+import org.opensearch.ml.common.transport.prediction.MLBatchPredictionResponse;
+import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.ml.task.MLBatchPredictionJob;
+import org.opensearch.ml.task.MLTaskManager;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+public class TransportBatchPredictionActionTests extends OpenSearchTestCase {
+    private static final String MODEL_ID = "test_model";
+    private static final String TASK_ID = "task_id";
+
+    @Mock
+    private TransportService transportService;
+    @Mock
+    private ActionFilters actionFilters;
+    @Mock
+    private Client client;
+    @Mock
+    private ThreadPool threadPool;
+    @Mock
+    private ClusterService clusterService;
+    @Mock
+    private MLTaskManager mlTaskManager;
+    @Mock
+    private MLModelManager mlModelManager;
+    @Mock
+    private ActionListener<MLBatchPredictionResponse> actionListener;
+
+    private TransportBatchPredictionAction action;
+    private MLModel mlModel;
+    private MLBatchPredictionRequest request;
+    private DiscoveryNodes nodes;
+
+    @Before
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        when(client.threadPool()).thenReturn(threadPool);
+        when(threadPool.getThreadContext()).thenReturn(new ThreadContext(Settings.EMPTY));
+
+        DiscoveryNode localNode = new DiscoveryNode("node1", buildNewFakeTransportAddress(), Version.CURRENT);
+        nodes = DiscoveryNodes
+            .builder()
+            .add(localNode)
+            .add(new DiscoveryNode("node2", buildNewFakeTransportAddress(), Version.CURRENT))
+            .localNodeId("node1")
+            .build();
+        when(clusterService.localNode()).thenReturn(localNode);
+        when(clusterService.state()).thenReturn(ClusterState.builder(new ClusterName("test")).nodes(nodes).build());
+
+        mlModel = MLModel.builder().modelId(MODEL_ID).algorithm(FunctionName.TEXT_EMBEDDING).build();
+        doAnswer(invocation -> {
+            ActionListener<MLModel> listener = invocation.getArgument(1);
+            listener.onResponse(mlModel);
+            return null;
+        }).when(mlModelManager).getModel(eq(MODEL_ID), any());
+
+        request = MLBatchPredictionRequest
+            .builder()
+            .modelId(MODEL_ID)
+            .sourceIndex("source")
+            .inputField("text")
+            .outputField("embedding")
+            .concurrency(1)
+            .build();
+        action = new TransportBatchPredictionAction(
+            transportService,
+            actionFilters,
+            client,
+            threadPool,
+            clusterService,
+            mlTaskManager,
+            mlModelManager
+        );
+    }
+
+    public void testDoExecute_UnsupportedModel() {
+        mlModel = MLModel.builder().modelId(MODEL_ID).algorithm(FunctionName.KMEANS).build();
+
+        action.doExecute(null, request, actionListener);
+
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(actionListener).onFailure(argumentCaptor.capture());
+        assertTrue(argumentCaptor.getValue() instanceof MLValidationException);
+        assertTrue(argumentCaptor.getValue().getMessage().startsWith("Batch prediction doesn't support KMEANS models"));
+        verify(mlTaskManager, never()).createMLTask(any(), any());
+    }
+
+    public void testDoExecute_CreateTask() {
+        IndexResponse indexResponse = mock(IndexResponse.class);
+        when(indexResponse.getId()).thenReturn(TASK_ID);
+        doAnswer(invocation -> {
+            ActionListener<IndexResponse> listener = invocation.getArgument(1);
+            listener.onResponse(indexResponse);
+            return null;
+        }).when(mlTaskManager).createMLTask(any(), any());
+
+        action.doExecute(null, request, actionListener);
+
+        ArgumentCaptor<MLBatchPredictionResponse> responseCaptor = ArgumentCaptor.forClass(MLBatchPredictionResponse.class);
+        verify(actionListener).onResponse(responseCaptor.capture());
+        assertEquals(TASK_ID, responseCaptor.getValue().getTaskId());
+        assertEquals(MLTaskState.CREATED.name(), responseCaptor.getValue().getStatus());
+        ArgumentCaptor<MLTask> taskCaptor = ArgumentCaptor.forClass(MLTask.class);
+        verify(mlTaskManager).add(taskCaptor.capture());
+        assertEquals(TASK_ID, taskCaptor.getValue().getTaskId());
+        assertEquals("source", taskCaptor.getValue().getOutputIndex());
+        // the job has started, it counts the documents to predict
+        verify(client).search(any(), any());
+    }
+
+    public void testDoExecute_Resume() throws IOException {
+        mockGetTask(taskSource(MLTaskState.FAILED, "node2"));
+        doAnswer(invocation -> {
+            ActionListener<UpdateResponse> listener = invocation.getArgument(1);
+            listener.onResponse(mock(UpdateResponse.class));
+            return null;
+        }).when(client).update(any(), any());
+
+        action.doExecute(null, request.toBuilder().resumeTaskId(TASK_ID).build(), actionListener);
+
+        ArgumentCaptor<UpdateRequest> updateCaptor = ArgumentCaptor.forClass(UpdateRequest.class);
+        verify(client).update(updateCaptor.capture(), any());
+        assertEquals(ML_TASK_INDEX, updateCaptor.getValue().index());
+        assertEquals(3L, updateCaptor.getValue().ifSeqNo());
+        assertEquals(1L, updateCaptor.getValue().ifPrimaryTerm());
+        Map<String, Object> claimedFields = updateCaptor.getValue().doc().sourceAsMap();
+        assertEquals(MLTaskState.RUNNING.name(), claimedFields.get(STATE_FIELD));
+        assertEquals(List.of("node1"), claimedFields.get(WORKER_NODE_FIELD));
+
+        ArgumentCaptor<MLBatchPredictionResponse> responseCaptor = ArgumentCaptor.forClass(MLBatchPredictionResponse.class);
+        verify(actionListener).onResponse(responseCaptor.capture());
+        assertEquals(TASK_ID, responseCaptor.getValue().getTaskId());
+        assertEquals(MLTaskState.RUNNING.name(), responseCaptor.getValue().getStatus());
+        verify(mlTaskManager).add(any(MLTask.class));
+    }
+
+    public void testDoExecute_Resume_RunningOnAnotherNode() throws IOException {
+        mockGetTask(taskSource(MLTaskState.RUNNING, "node2"));
+
+        action.doExecute(null, request.toBuilder().resumeTaskId(TASK_ID).build(), actionListener);
+
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(actionListener).onFailure(argumentCaptor.capture());
+        assertEquals("Batch prediction task is still running on node node2", argumentCaptor.getValue().getMessage());
+        verify(client, never()).update(any(), any());
+        verify(mlTaskManager, never()).add(any(MLTask.class));
+    }
+
+    public void testDoExecute_Resume_ConcurrentResume() throws IOException {
+        mockGetTask(taskSource(MLTaskState.FAILED, "node2"));
+        doAnswer(invocation -> {
+            ActionListener<UpdateResponse> listener = invocation.getArgument(1);
+            listener.onFailure(new VersionConflictEngineException(new ShardId(ML_TASK_INDEX, "uuid", 0), TASK_ID, "conflict"));
+            return null;
+        }).when(client).update(any(), any());
+
+        action.doExecute(null, request.toBuilder().resumeTaskId(TASK_ID).build(), actionListener);
+
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(actionListener).onFailure(argumentCaptor.capture());
+        assertTrue(argumentCaptor.getValue() instanceof MLValidationException);
+        assertEquals("Batch prediction task is being resumed by another request: task_id", argumentCaptor.getValue().getMessage());
+        verify(mlTaskManager, never()).add(any(MLTask.class));
+    }
+
+    public void testDoExecute_Resume_RunningOnThisNode() {
+        when(mlTaskManager.contains(TASK_ID)).thenReturn(true);
+
+        action.doExecute(null, request.toBuilder().resumeTaskId(TASK_ID).build(), actionListener);
+
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(actionListener).onFailure(argumentCaptor.capture());
+        assertEquals("Batch prediction task is still running on this node: task_id", argumentCaptor.getValue().getMessage());
+        verify(client, never()).get(any(), any());
+    }
+
+    public void testValidateResumableTask() {
+        assertNull(TransportBatchPredictionAction.validateResumableTask(taskSource(MLTaskState.FAILED, "node2"), request, nodes));
+        // the worker node left the cluster
+        assertNull(TransportBatchPredictionAction.validateResumableTask(taskSource(MLTaskState.RUNNING, "node3"), request, nodes));
+        // the local node, which doesn't run the task
+        assertNull(TransportBatchPredictionAction.validateResumableTask(taskSource(MLTaskState.RUNNING, "node1"), request, nodes));
+        assertEquals(
+            "Batch prediction task is already completed",
+            TransportBatchPredictionAction.validateResumableTask(taskSource(MLTaskState.COMPLETED, "node2"), request, nodes)
+        );
+        assertEquals(
+            "Task was created for another model",
+            TransportBatchPredictionAction
+                .validateResumableTask(taskSource(MLTaskState.FAILED, "node2"), request.toBuilder().modelId("other").build(), nodes)
+        );
+    }
+
+    public void testValidateResumableTask_OtherIndices() {
+        Map<String, Object> source = taskSource(MLTaskState.FAILED, "node2");
+        assertEquals(
+            "Task was created for target index source",
+            TransportBatchPredictionAction.validateResumableTask(source, request.toBuilder().targetIndex("target").build(), nodes)
+        );
+        MLBatchPredictionRequest otherSourceRequest = request.toBuilder().sourceIndex("other").targetIndex("source").build();
+        assertEquals(
+            "Task was created for source index source",
+            TransportBatchPredictionAction.validateResumableTask(source, otherSourceRequest, nodes)
+        );
+        source.put(TASK_TYPE_FIELD, MLTaskType.PREDICTION.name());
+        assertEquals("Task is not a batch prediction task", TransportBatchPredictionAction.validateResumableTask(source, request, nodes));
+    }
+
+    private Map<String, Object> taskSource(MLTaskState state, String workerNode) {
+        Map<String, Object> source = new HashMap<>();
+        source.put(TASK_TYPE_FIELD, MLTaskType.BATCH_PREDICTION.name());
+        source.put(MODEL_ID_FIELD, MODEL_ID);
+        source.put(STATE_FIELD, state.name());
+        source.put(WORKER_NODE_FIELD, ImmutableList.of(workerNode));
+        source.put(OUTPUT_INDEX_FIELD, "source");
+        source
+            .put(
+                CHECKPOINT_FIELD,
+                ImmutableMap
+                    .of(
+                        MLBatchPredictionJob.CHECKPOINT_SOURCE_INDEX_FIELD,
+                        "source",
+                        MLBatchPredictionJob.CHECKPOINT_PIT_ID_FIELD,
+                        "pit_id",
+                        MLBatchPredictionJob.CHECKPOINT_SEARCH_AFTER_FIELD,
+                        10
+                    )
+            );
+        return source;
+    }
+
+    private void mockGetTask(Map<String, Object> source) throws IOException {
+        BytesReference bytesReference = BytesReference.bytes(XContentFactory.jsonBuilder().map(source));
+        GetResponse getResponse = new GetResponse(new GetResult(ML_TASK_INDEX, TASK_ID, 3L, 1L, 1L, true, bytesReference, null, null));
+        doAnswer(invocation -> {
+            ActionListener<GetResponse> listener = invocation.getArgument(1);
+            listener.onResponse(getResponse);
+            return null;
+        }).when(client).get(any(), any());
+    }
+}
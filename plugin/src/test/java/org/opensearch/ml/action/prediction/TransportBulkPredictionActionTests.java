@@ -0,0 +1,269 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.prediction;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_BULK_PREDICT_MAX_CONCURRENCY_PER_NODE;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_BULK_PREDICT_MAX_INPUTS;
+import static org.opensearch.ml.utils.TestHelper.clusterSetting;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearch.Version;
+import org.opensearch.action.ActionListenerResponseHandler;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.client.Client;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.controller.MLRateLimiter;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.transport.MLTaskResponse;
+import org.opensearch.ml.common.transport.prediction.MLBulkPredictionAction;
+import org.opensearch.ml.common.transport.prediction.MLBulkPredictionRequest;
+import org.opensearch.ml.common.transport.prediction.MLBulkPredictionResponse;
+import org.opensearch.ml.common.transport.prediction.MLPredictionTaskAction;
+import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
+import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.ml.profile.MLPredictRequestStats;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.NodeDisconnectedException;
+import org.opensearch.transport.TransportService;
+
+public class TransportBulkPredictionActionTests extends OpenSearchTestCase {
+    private static final String MODEL_ID = "test_model";
+
+    @Mock
+    private TransportService transportService;
+    @Mock
+    private ActionFilters actionFilters;
+    @Mock
+    private Client client;
+    @Mock
+    private ThreadPool threadPool;
+    @Mock
+    private ClusterService clusterService;
+    @Mock
+    private MLModelManager mlModelManager;
+    @Mock
+    private ActionListener<MLBulkPredictionResponse> actionListener;
+
+    private TransportBulkPredictionAction action;
+    private MLModel mlModel;
+
+    @Before
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        Settings settings = Settings
+            .builder()
+            .put(ML_COMMONS_BULK_PREDICT_MAX_CONCURRENCY_PER_NODE.getKey(), 4)
+            .put(ML_COMMONS_BULK_PREDICT_MAX_INPUTS.getKey(), 10)
+            .build();
+        ClusterSettings clusterSettings = clusterSetting(
+            settings,
+            ML_COMMONS_BULK_PREDICT_MAX_CONCURRENCY_PER_NODE,
+            ML_COMMONS_BULK_PREDICT_MAX_INPUTS
+        );
+        when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
+        when(client.threadPool()).thenReturn(threadPool);
+        when(threadPool.getThreadContext()).thenReturn(new ThreadContext(settings));
+
+        DiscoveryNodes nodes = DiscoveryNodes
+            .builder()
+            .add(new DiscoveryNode("node1", buildNewFakeTransportAddress(), Version.CURRENT))
+            .add(new DiscoveryNode("node2", buildNewFakeTransportAddress(), Version.CURRENT))
+            .build();
+        when(clusterService.state()).thenReturn(ClusterState.builder(new ClusterName("test")).nodes(nodes).build());
+
+        mlModel = MLModel.builder().modelId(MODEL_ID).algorithm(FunctionName.TEXT_EMBEDDING).build();
+        doAnswer(invocation -> {
+            ActionListener<MLModel> listener = invocation.getArgument(1);
+            listener.onResponse(mlModel);
+            return null;
+        }).when(mlModelManager).getModel(eq(MODEL_ID), any());
+        when(mlModelManager.getWorkerNodes(eq(MODEL_ID), eq(FunctionName.TEXT_EMBEDDING), eq(true)))
+            .thenReturn(new String[] { "node1", "node2" });
+
+        action = spy(
+            new TransportBulkPredictionAction(transportService, actionFilters, client, threadPool, clusterService, mlModelManager, settings)
+        );
+        doReturn(0).when(action).randomNodeIndex(anyInt());
+    }
+
+    public void testDoExecute_SendOneChunkPerNode() {
+        doAnswer(invocation -> {
+            MLBulkPredictionRequest chunk = invocation.getArgument(2);
+            ActionListenerResponseHandler<MLBulkPredictionResponse> handler = invocation.getArgument(3);
+            List<MLBulkPredictionResponse.Item> items = new ArrayList<>();
+            for (int i = 0; i < chunk.getMlInputs().size(); i++) {
+                items.add(new MLBulkPredictionResponse.Item(ModelTensorOutput.builder().mlModelOutputs(Collections.emptyList()).build()));
+            }
+            handler.handleResponse(new MLBulkPredictionResponse(items, 1));
+            return null;
+        }).when(transportService).sendRequest(any(), eq(MLBulkPredictionAction.NAME), any(), any());
+
+        action.doExecute(null, bulkRequest(5, null), actionListener);
+
+        ArgumentCaptor<DiscoveryNode> nodeCaptor = ArgumentCaptor.forClass(DiscoveryNode.class);
+        ArgumentCaptor<MLBulkPredictionRequest> chunkCaptor = ArgumentCaptor.forClass(MLBulkPredictionRequest.class);
+        verify(transportService, times(2)).sendRequest(nodeCaptor.capture(), eq(MLBulkPredictionAction.NAME), chunkCaptor.capture(), any());
+        assertEquals("node1", nodeCaptor.getAllValues().get(0).getId());
+        assertEquals("node2", nodeCaptor.getAllValues().get(1).getId());
+        assertEquals(2, chunkCaptor.getAllValues().get(0).getMlInputs().size());
+        assertEquals(3, chunkCaptor.getAllValues().get(1).getMlInputs().size());
+        for (MLBulkPredictionRequest chunk : chunkCaptor.getAllValues()) {
+            assertFalse(chunk.isDispatchTask());
+            assertEquals(3, chunk.getMaxConcurrency().intValue());
+        }
+        verify(client, never()).execute(any(), any(), any());
+
+        ArgumentCaptor<MLBulkPredictionResponse> responseCaptor = ArgumentCaptor.forClass(MLBulkPredictionResponse.class);
+        verify(actionListener).onResponse(responseCaptor.capture());
+        assertEquals(5, responseCaptor.getValue().getItems().size());
+        assertFalse(responseCaptor.getValue().hasFailures());
+    }
+
+    public void testDoExecute_ChunkFailure() {
+        doAnswer(invocation -> {
+            DiscoveryNode node = invocation.getArgument(0);
+            MLBulkPredictionRequest chunk = invocation.getArgument(2);
+            ActionListenerResponseHandler<MLBulkPredictionResponse> handler = invocation.getArgument(3);
+            if ("node2".equals(node.getId())) {
+                handler.handleException(new NodeDisconnectedException(node, MLBulkPredictionAction.NAME));
+                return null;
+            }
+            List<MLBulkPredictionResponse.Item> items = new ArrayList<>();
+            for (int i = 0; i < chunk.getMlInputs().size(); i++) {
+                items.add(new MLBulkPredictionResponse.Item(ModelTensorOutput.builder().mlModelOutputs(Collections.emptyList()).build()));
+            }
+            handler.handleResponse(new MLBulkPredictionResponse(items, 1));
+            return null;
+        }).when(transportService).sendRequest(any(), eq(MLBulkPredictionAction.NAME), any(), any());
+
+        action.doExecute(null, bulkRequest(4, null), actionListener);
+
+        ArgumentCaptor<MLBulkPredictionResponse> responseCaptor = ArgumentCaptor.forClass(MLBulkPredictionResponse.class);
+        verify(actionListener).onResponse(responseCaptor.capture());
+        List<MLBulkPredictionResponse.Item> items = responseCaptor.getValue().getItems();
+        assertEquals(4, items.size());
+        assertFalse(items.get(0).isFailed());
+        assertFalse(items.get(1).isFailed());
+        assertTrue(items.get(2).isFailed());
+        assertTrue(items.get(3).isFailed());
+    }
+
+    public void testDoExecute_TooManyInputs() {
+        action.doExecute(null, bulkRequest(11, null), actionListener);
+
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(actionListener).onFailure(argumentCaptor.capture());
+        assertTrue(argumentCaptor.getValue() instanceof IllegalArgumentException);
+        assertEquals("Bulk predict request has 11 inputs, more than the limit of 10", argumentCaptor.getValue().getMessage());
+        verify(mlModelManager, never()).getModel(any(), any());
+    }
+
+    public void testDoExecute_Chunk_PredictLocally() {
+        doAnswer(invocation -> {
+            ActionListener<MLTaskResponse> listener = invocation.getArgument(2);
+            listener.onResponse(new MLTaskResponse(ModelTensorOutput.builder().mlModelOutputs(Collections.emptyList()).build()));
+            return null;
+        }).when(client).execute(eq(MLPredictionTaskAction.INSTANCE), any(), any());
+        MLBulkPredictionRequest chunk = bulkRequest(3, 2);
+        chunk.setDispatchTask(false);
+
+        action.doExecute(null, chunk, actionListener);
+
+        ArgumentCaptor<MLPredictionTaskRequest> requestCaptor = ArgumentCaptor.forClass(MLPredictionTaskRequest.class);
+        verify(client, times(3)).execute(eq(MLPredictionTaskAction.INSTANCE), requestCaptor.capture(), any());
+        for (MLPredictionTaskRequest request : requestCaptor.getAllValues()) {
+            assertFalse(request.isDispatchTask());
+        }
+        verify(mlModelManager, never()).getModel(any(), any());
+        verify(transportService, never()).sendRequest(any(), any(), any(), any());
+        ArgumentCaptor<MLBulkPredictionResponse> responseCaptor = ArgumentCaptor.forClass(MLBulkPredictionResponse.class);
+        verify(actionListener).onResponse(responseCaptor.capture());
+        assertEquals(3, responseCaptor.getValue().getItems().size());
+    }
+
+    public void testDoExecute_NoWorkerNode_PredictOneByOne() {
+        when(mlModelManager.getWorkerNodes(eq(MODEL_ID), eq(FunctionName.TEXT_EMBEDDING), eq(true))).thenReturn(null);
+        doAnswer(invocation -> {
+            ActionListener<MLTaskResponse> listener = invocation.getArgument(2);
+            listener.onFailure(new IllegalArgumentException("model not deployed"));
+            return null;
+        }).when(client).execute(eq(MLPredictionTaskAction.INSTANCE), any(), any());
+
+        action.doExecute(null, bulkRequest(2, null), actionListener);
+
+        ArgumentCaptor<MLPredictionTaskRequest> requestCaptor = ArgumentCaptor.forClass(MLPredictionTaskRequest.class);
+        verify(client, times(2)).execute(eq(MLPredictionTaskAction.INSTANCE), requestCaptor.capture(), any());
+        assertTrue(requestCaptor.getValue().isDispatchTask());
+        ArgumentCaptor<MLBulkPredictionResponse> responseCaptor = ArgumentCaptor.forClass(MLBulkPredictionResponse.class);
+        verify(actionListener).onResponse(responseCaptor.capture());
+        assertEquals(RestStatus.BAD_REQUEST, responseCaptor.getValue().getItems().get(0).getStatus());
+    }
+
+    public void testGetConcurrency() {
+        // 2 nodes * 4 per node
+        assertEquals(8, action.getConcurrency(bulkRequest(10, null), 2, null));
+        assertEquals(5, action.getConcurrency(bulkRequest(10, 5), 2, null));
+        assertEquals(3, action.getConcurrency(bulkRequest(3, null), 2, null));
+        assertEquals(8, action.getConcurrency(bulkRequest(10, null), 2, new MLRateLimiter(null, null)));
+    }
+
+    public void testGetConcurrency_RateLimited() {
+        // 2 requests per second with the default latency of 1 second
+        MLRateLimiter rateLimiter = MLRateLimiter.builder().limit("2").unit(TimeUnit.SECONDS).build();
+        assertEquals(2, action.getConcurrency(bulkRequest(10, null), 2, rateLimiter));
+
+        // 2 requests per second with an average latency of 2.5 seconds
+        when(mlModelManager.getPredictRequestStats(MODEL_ID)).thenReturn(MLPredictRequestStats.builder().average(2500.0).build());
+        assertEquals(5, action.getConcurrency(bulkRequest(10, null), 2, rateLimiter));
+
+        // fast model, the rate limiter allows more than the node setting
+        when(mlModelManager.getPredictRequestStats(MODEL_ID)).thenReturn(MLPredictRequestStats.builder().average(1.0).build());
+        MLRateLimiter highLimit = MLRateLimiter.builder().limit("100000").unit(TimeUnit.SECONDS).build();
+        assertEquals(8, action.getConcurrency(bulkRequest(10, null), 2, highLimit));
+    }
+
+    private MLBulkPredictionRequest bulkRequest(int inputCount, Integer maxConcurrency) {
+        MLInput mlInput = MLInput
+            .builder()
+            .algorithm(FunctionName.TEXT_EMBEDDING)
+            .inputDataset(TextDocsInputDataSet.builder().docs(Arrays.asList("doc")).build())
+            .build();
+        return new MLBulkPredictionRequest(MODEL_ID, new ArrayList<>(Collections.nCopies(inputCount, mlInput)), maxConcurrency);
+    }
+}
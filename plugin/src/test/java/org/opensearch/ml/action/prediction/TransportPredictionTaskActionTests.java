@@ -0,0 +1,168 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.prediction;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.Before;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearch.Version;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.client.Client;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.exception.MLValidationException;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.telemetry.MLTracer;
+import org.opensearch.ml.common.transport.MLTaskResponse;
+import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
+import org.opensearch.ml.helper.ModelAccessControlHelper;
+import org.opensearch.ml.model.MLModelCacheHelper;
+import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.ml.task.MLPredictTaskRunner;
+import org.opensearch.tasks.Task;
+import org.opensearch.telemetry.tracing.Span;
+import org.opensearch.telemetry.tracing.SpanCreationContext;
+import org.opensearch.telemetry.tracing.SpanScope;
+import org.opensearch.telemetry.tracing.Tracer;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+public class TransportPredictionTaskActionTests extends OpenSearchTestCase {
+    private static final String MODEL_ID = "test_model";
+
+    @Mock
+    private TransportService transportService;
+    @Mock
+    private ActionFilters actionFilters;
+    @Mock
+    private MLModelCacheHelper modelCacheHelper;
+    @Mock
+    private MLPredictTaskRunner mlPredictTaskRunner;
+    @Mock
+    private ClusterService clusterService;
+    @Mock
+    private Client client;
+    @Mock
+    private ThreadPool threadPool;
+    @Mock
+    private MLModelManager mlModelManager;
+    @Mock
+    private ModelAccessControlHelper modelAccessControlHelper;
+    @Mock
+    private Tracer tracer;
+    @Mock
+    private Span span;
+    @Mock
+    private Task task;
+    @Mock
+    private ActionListener<MLTaskResponse> actionListener;
+
+    private TransportPredictionTaskAction transportPredictionTaskAction;
+    private MLPredictionTaskRequest request;
+
+    @Before
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        ThreadContext threadContext = new ThreadContext(Settings.EMPTY);
+        when(client.threadPool()).thenReturn(threadPool);
+        when(threadPool.getThreadContext()).thenReturn(threadContext);
+        when(clusterService.localNode()).thenReturn(new DiscoveryNode("node1", buildNewFakeTransportAddress(), Version.CURRENT));
+        when(tracer.startSpan(any(SpanCreationContext.class))).thenReturn(span);
+        when(tracer.withSpanInScope(span)).thenReturn(mock(SpanScope.class));
+        MLTracer mlTracer = new MLTracer();
+        mlTracer.bind(tracer, threadContext);
+
+        transportPredictionTaskAction = new TransportPredictionTaskAction(
+            transportService,
+            actionFilters,
+            modelCacheHelper,
+            mlPredictTaskRunner,
+            clusterService,
+            client,
+            xContentRegistry(),
+            mlModelManager,
+            modelAccessControlHelper,
+            mlTracer
+        );
+        MLInput mlInput = MLInput.builder().algorithm(FunctionName.KMEANS).build();
+        request = MLPredictionTaskRequest.builder().modelId(MODEL_ID).mlInput(mlInput).build();
+
+        MLModel mlModel = MLModel.builder().modelId(MODEL_ID).modelGroupId("model_group_id").algorithm(FunctionName.KMEANS).build();
+        when(modelCacheHelper.getModelInfo(MODEL_ID)).thenReturn(mlModel);
+        mockAccess(true);
+    }
+
+    public void testDoExecute_Span() {
+        MLTaskResponse response = MLTaskResponse.builder().build();
+        doAnswer(invocation -> {
+            ActionListener<MLTaskResponse> listener = invocation.getArgument(3);
+            listener.onResponse(response);
+            return null;
+        }).when(mlPredictTaskRunner).run(eq(FunctionName.KMEANS), eq(request), eq(transportService), any());
+
+        transportPredictionTaskAction.doExecute(task, request, actionListener);
+
+        verify(actionListener).onResponse(response);
+        ArgumentCaptor<SpanCreationContext> contextCaptor = ArgumentCaptor.forClass(SpanCreationContext.class);
+        verify(tracer).startSpan(contextCaptor.capture());
+        assertEquals(MLTracer.PREDICT_SPAN, contextCaptor.getValue().getSpanName());
+        // the runner is called with the predict span in scope
+        verify(tracer).withSpanInScope(span);
+        verify(span).endSpan();
+        verify(span, never()).setError(any());
+    }
+
+    public void testDoExecute_Span_PredictFailure() {
+        RuntimeException exception = new RuntimeException("predict failed");
+        doAnswer(invocation -> {
+            ActionListener<MLTaskResponse> listener = invocation.getArgument(3);
+            listener.onFailure(exception);
+            return null;
+        }).when(mlPredictTaskRunner).run(eq(FunctionName.KMEANS), eq(request), eq(transportService), any());
+
+        transportPredictionTaskAction.doExecute(task, request, actionListener);
+
+        verify(actionListener).onFailure(exception);
+        verify(span).setError(exception);
+        verify(span).endSpan();
+    }
+
+    public void testDoExecute_Span_NoAccess() {
+        mockAccess(false);
+
+        transportPredictionTaskAction.doExecute(task, request, actionListener);
+
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(actionListener).onFailure(argumentCaptor.capture());
+        assertTrue(argumentCaptor.getValue() instanceof MLValidationException);
+        verify(span).setError(argumentCaptor.getValue());
+        verify(span).endSpan();
+        verify(mlPredictTaskRunner, never()).run(any(), any(), any(), any());
+    }
+
+    private void mockAccess(boolean access) {
+        doAnswer(invocation -> {
+            ActionListener<Boolean> listener = invocation.getArgument(3);
+            listener.onResponse(access);
+            return null;
+        }).when(modelAccessControlHelper).validateModelGroupAccess(any(), eq("model_group_id"), any(), any());
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.profile;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.junit.Before;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.profile.MLCpuProfile;
+import org.opensearch.ml.profile.MLCpuProfiler;
+import org.opensearch.tasks.Task;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.transport.TransportService;
+
+public class MLCpuProfileTransportActionTests extends OpenSearchTestCase {
+    @Mock
+    private TransportService transportService;
+    @Mock
+    private ActionFilters actionFilters;
+    @Mock
+    private MLCpuProfiler cpuProfiler;
+    @Mock
+    private Task task;
+    @Mock
+    private ActionListener<MLCpuProfileResponse> actionListener;
+
+    private MLCpuProfileTransportAction transportAction;
+    private MLCpuProfile profile;
+
+    @Before
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        transportAction = new MLCpuProfileTransportAction(transportService, actionFilters, cpuProfiler);
+        profile = MLCpuProfile
+            .builder()
+            .nodeId("node1")
+            .duration(TimeValue.timeValueSeconds(30))
+            .interval(TimeValue.timeValueMillis(50))
+            .samples(600)
+            .skippedSamples(2)
+            .droppedStacks(1)
+            .samplingTimeInNanos(1000)
+            .stacks(Map.of("opensearch_ml_predict;model1;java.lang.Thread.run", 3L))
+            .build();
+    }
+
+    public void testDoExecute() {
+        doAnswer(invocation -> {
+            ActionListener<MLCpuProfile> listener = invocation.getArgument(2);
+            listener.onResponse(profile);
+            return null;
+        }).when(cpuProfiler).profile(any(), any(), any());
+
+        MLCpuProfileRequest request = new MLCpuProfileRequest(TimeValue.timeValueSeconds(10), TimeValue.timeValueMillis(20));
+        transportAction.doExecute(task, request, actionListener);
+
+        verify(cpuProfiler).profile(eq(TimeValue.timeValueSeconds(10)), eq(TimeValue.timeValueMillis(20)), any());
+        ArgumentCaptor<MLCpuProfileResponse> argumentCaptor = ArgumentCaptor.forClass(MLCpuProfileResponse.class);
+        verify(actionListener).onResponse(argumentCaptor.capture());
+        assertSame(profile, argumentCaptor.getValue().getProfile());
+    }
+
+    public void testDoExecute_Failure() {
+        IllegalArgumentException exception = new IllegalArgumentException("Profiling duration can't be longer than 1m");
+        doAnswer(invocation -> {
+            ActionListener<MLCpuProfile> listener = invocation.getArgument(2);
+            listener.onFailure(exception);
+            return null;
+        }).when(cpuProfiler).profile(any(), any(), any());
+
+        MLCpuProfileRequest request = new MLCpuProfileRequest(TimeValue.timeValueMinutes(10), MLCpuProfiler.DEFAULT_INTERVAL);
+        transportAction.doExecute(task, request, actionListener);
+
+        verify(actionListener).onFailure(exception);
+    }
+
+    public void testRequestSerialization() throws IOException {
+        MLCpuProfileRequest request = new MLCpuProfileRequest(TimeValue.timeValueSeconds(10), TimeValue.timeValueMillis(20));
+        BytesStreamOutput output = new BytesStreamOutput();
+        request.writeTo(output);
+
+        MLCpuProfileRequest parsedRequest = new MLCpuProfileRequest(output.bytes().streamInput());
+        assertEquals(TimeValue.timeValueSeconds(10), parsedRequest.getDuration());
+        assertEquals(TimeValue.timeValueMillis(20), parsedRequest.getInterval());
+    }
+
+    public void testResponseSerialization() throws IOException {
+        BytesStreamOutput output = new BytesStreamOutput();
+        new MLCpuProfileResponse(profile).writeTo(output);
+
+        MLCpuProfile parsedProfile = new MLCpuProfileResponse(output.bytes().streamInput()).getProfile();
+        assertEquals("node1", parsedProfile.getNodeId());
+        assertEquals(TimeValue.timeValueSeconds(30), parsedProfile.getDuration());
+        assertEquals(TimeValue.timeValueMillis(50), parsedProfile.getInterval());
+        assertEquals(600, parsedProfile.getSamples());
+        assertEquals(2, parsedProfile.getSkippedSamples());
+        assertEquals(1, parsedProfile.getDroppedStacks());
+        assertEquals(1000, parsedProfile.getSamplingTimeInNanos());
+        assertEquals(profile.getStacks(), parsedProfile.getStacks());
+    }
+}
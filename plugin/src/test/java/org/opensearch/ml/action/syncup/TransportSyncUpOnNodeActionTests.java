@@ -327,6 +327,57 @@ public class TransportSyncUpOnNodeActionTests extends OpenSearchTestCase {
         verify(mlModelManager, never()).updateModel(eq(modelId), argumentCaptor.capture());
     }
 
+    public void testUpdateGeneration() {
+        long generation = action.updateGeneration(new String[] { "model1" }, null, null);
+        assertEquals(generation, action.updateGeneration(new String[] { "model1" }, new String[] {}, null));
+        long newGeneration = action.updateGeneration(new String[] { "model1", "model2" }, null, null);
+        assertEquals(generation + 1, newGeneration);
+        assertEquals(newGeneration + 1, action.updateGeneration(new String[] { "model1", "model2" }, null, new String[] { "task1" }));
+    }
+
+    public void testSyncRoutingTable_Delta() {
+        Map<String, Set<String>> changedRoutingTable = Map.of("modelId1", Set.of("nodeId1"));
+        MLSyncUpInput syncUpInput = MLSyncUpInput
+            .builder()
+            .modelRoutingTable(changedRoutingTable)
+            .routingTableId("table1")
+            .routingTableVersion(2L)
+            .routingTableDelta(true)
+            .build();
+        when(mlModelCacheHelper.canApplyRoutingTableDelta("table1", 2L)).thenReturn(true);
+        action.syncRoutingTable(syncUpInput);
+        verify(mlModelManager, times(1)).updateModelWorkerNodes(changedRoutingTable);
+        verify(mlModelManager, never()).syncModelWorkerNodes(any());
+        verify(mlModelCacheHelper, times(1)).setRoutingTableVersion("table1", 2L);
+    }
+
+    public void testSyncRoutingTable_DeltaOnStaleVersion() {
+        MLSyncUpInput syncUpInput = MLSyncUpInput
+            .builder()
+            .modelRoutingTable(Map.of("modelId1", Set.of("nodeId1")))
+            .routingTableId("table1")
+            .routingTableVersion(2L)
+            .routingTableDelta(true)
+            .build();
+        when(mlModelCacheHelper.canApplyRoutingTableDelta("table1", 2L)).thenReturn(false);
+        action.syncRoutingTable(syncUpInput);
+        verify(mlModelManager, never()).updateModelWorkerNodes(any());
+        verify(mlModelCacheHelper, never()).setRoutingTableVersion(anyString(), anyLong());
+    }
+
+    public void testSyncRoutingTable_Full() {
+        Map<String, Set<String>> routingTable = Map.of("modelId1", Set.of("nodeId1"));
+        MLSyncUpInput syncUpInput = MLSyncUpInput
+            .builder()
+            .modelRoutingTable(routingTable)
+            .routingTableId("table1")
+            .routingTableVersion(5L)
+            .build();
+        action.syncRoutingTable(syncUpInput);
+        verify(mlModelManager, times(1)).syncModelWorkerNodes(routingTable);
+        verify(mlModelCacheHelper, times(1)).setRoutingTableVersion("table1", 5L);
+    }
+
     private MLSyncUpInput prepareRequest() {
         Map<String, String[]> addedWorkerNodes = new HashMap<>();
         addedWorkerNodes.put("modelId1", new String[] { "nodeId1", "nodeId2", "nodeId3" });
@@ -16,10 +16,12 @@ import java.io.IOException;
 import java.net.InetAddress;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import org.apache.lucene.search.TotalHits;
 import org.junit.Before;
@@ -39,6 +41,7 @@ import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.transport.TransportAddress;
 import org.opensearch.core.xcontent.ToXContent;
@@ -609,6 +612,59 @@ public class MLModelAutoReDeployerTests extends OpenSearchTestCase {
         mlModelAutoReDeployer.redeployAModel();
     }
 
+    public void test_redeployAModel_concurrency_limitsRunningRedeploys() throws Exception {
+        List<MLDeployModelRequest> deployRequests = new ArrayList<>();
+        mockDeployModel(deployRequests, null);
+        ActionListener<Boolean> cronJobListener = mock(ActionListener.class);
+        mlModelAutoReDeployer = createAutoReDeployer(2, Map.of());
+        mlModelAutoReDeployer.setStartCronJobListener(cronJobListener);
+        mockSearchModels("model1", "model2", "model3");
+
+        mlModelAutoReDeployer.buildAutoReloadArrangement(addedNodes, clusterManagerNodeId);
+        assertEquals(List.of("model1", "model2"), deployModelIds(deployRequests));
+
+        // a done signal of a model not being redeployed doesn't free a slot
+        mlModelAutoReDeployer.onModelDeployDone("unknown_model");
+        assertEquals(2, deployRequests.size());
+
+        mlModelAutoReDeployer.onModelDeployDone("model2");
+        assertEquals(List.of("model1", "model2", "model3"), deployModelIds(deployRequests));
+        mlModelAutoReDeployer.onModelDeployDone("model1");
+        verify(cronJobListener, never()).onResponse(any());
+        mlModelAutoReDeployer.onModelDeployDone("model3");
+        verify(cronJobListener, times(1)).onResponse(true);
+    }
+
+    public void test_redeployAModel_orderByPredictRequestCount() throws Exception {
+        List<MLDeployModelRequest> deployRequests = new ArrayList<>();
+        mockDeployModel(deployRequests, null);
+        mlModelAutoReDeployer = createAutoReDeployer(1, Map.of("model1", 1L, "model2", 10L, "model3", 5L));
+        mockSearchModels("model1", "model2", "model3");
+
+        mlModelAutoReDeployer.buildAutoReloadArrangement(addedNodes, clusterManagerNodeId);
+        assertEquals(List.of("model2"), deployModelIds(deployRequests));
+        mlModelAutoReDeployer.onModelDeployDone("model2");
+        mlModelAutoReDeployer.onModelDeployDone("model3");
+
+        assertEquals(List.of("model2", "model3", "model1"), deployModelIds(deployRequests));
+    }
+
+    public void test_redeployAModel_deployFailure_freesSlot() throws Exception {
+        List<MLDeployModelRequest> deployRequests = new ArrayList<>();
+        mockDeployModel(deployRequests, new RuntimeException("deploy error"));
+        ActionListener<Boolean> cronJobListener = mock(ActionListener.class);
+        mlModelAutoReDeployer = createAutoReDeployer(1, Map.of());
+        mlModelAutoReDeployer.setStartCronJobListener(cronJobListener);
+        mockSearchModels("model1", "model2");
+
+        mlModelAutoReDeployer.buildAutoReloadArrangement(addedNodes, clusterManagerNodeId);
+
+        // every failed deploy starts the next one, and the cron job starts once all are done
+        assertEquals(List.of("model1", "model2"), deployModelIds(deployRequests));
+        verify(mlModelManager, times(2)).updateModel(anyString(), any());
+        verify(cronJobListener, times(1)).onResponse(true);
+    }
+
     private SearchResponse buildDeployToAllNodesTrueSearchResponse(String file) throws Exception {
         MLModel mlModel = buildModelWithJsonFile(file);
         return createResponseWithModel(mlModel);
@@ -629,6 +685,56 @@ public class MLModelAutoReDeployerTests extends OpenSearchTestCase {
         return MLModel.parse(TestHelper.parser(modelContent), null);
     }
 
+    private MLModelAutoReDeployer createAutoReDeployer(int concurrency, Map<String, Long> predictRequestCounts) {
+        Settings settings = Settings
+            .builder()
+            .put(ML_COMMONS_ONLY_RUN_ON_ML_NODE.getKey(), true)
+            .put(ML_COMMONS_MODEL_AUTO_REDEPLOY_LIFETIME_RETRY_TIMES.getKey(), 3)
+            .put(ML_COMMONS_MODEL_AUTO_REDEPLOY_ENABLE.getKey(), true)
+            .put(ML_COMMONS_ALLOW_CUSTOM_DEPLOYMENT_PLAN.getKey(), false)
+            .put(ML_COMMONS_MODEL_AUTO_REDEPLOY_CONCURRENCY.getKey(), concurrency)
+            .build();
+        ClusterService clusterService = mock(ClusterService.class);
+        when(clusterService.localNode()).thenReturn(localNode);
+        when(clusterService.getClusterSettings()).thenReturn(getClusterSettings(settings));
+        when(mlModelManager.getPredictRequestCount(anyString()))
+            .thenAnswer(invocation -> predictRequestCounts.getOrDefault(invocation.getArgument(0), 0L));
+        return new MLModelAutoReDeployer(clusterService, client, settings, mlModelManager, searchRequestBuilderFactory);
+    }
+
+    private void mockSearchModels(String... modelIds) {
+        SearchHit[] hits = new SearchHit[modelIds.length];
+        for (int i = 0; i < modelIds.length; i++) {
+            hits[i] = new SearchHit(i, modelIds[i], Collections.emptyMap(), Collections.emptyMap())
+                .sourceRef(new BytesArray("{\"auto_redeploy_retry_times\":0,\"deploy_to_all_nodes\":true}"));
+        }
+        SearchResponse searchResponse = mock(SearchResponse.class);
+        when(searchResponse.getHits())
+            .thenReturn(new SearchHits(hits, new TotalHits(modelIds.length, TotalHits.Relation.EQUAL_TO), Float.NaN));
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> listener = invocation.getArgument(0);
+            listener.onResponse(searchResponse);
+            return null;
+        }).when(searchRequestBuilder).execute(isA(ActionListener.class));
+    }
+
+    private void mockDeployModel(List<MLDeployModelRequest> deployRequests, Exception failure) {
+        doAnswer(invocation -> {
+            deployRequests.add(invocation.getArgument(1));
+            ActionListener<MLDeployModelResponse> actionListener = invocation.getArgument(2);
+            if (failure == null) {
+                actionListener.onResponse(mock(MLDeployModelResponse.class));
+            } else {
+                actionListener.onFailure(failure);
+            }
+            return null;
+        }).when(client).execute(any(MLDeployModelAction.class), any(MLDeployModelRequest.class), any(ActionListener.class));
+    }
+
+    private List<String> deployModelIds(List<MLDeployModelRequest> deployRequests) {
+        return deployRequests.stream().map(MLDeployModelRequest::getModelId).collect(Collectors.toList());
+    }
+
     private void mockClusterDataNodes(ClusterService clusterService) {
         ClusterState clusterState = mock(ClusterState.class);
         DiscoveryNodes discoveryNodes = mock(DiscoveryNodes.class);
@@ -645,7 +751,8 @@ public class MLModelAutoReDeployerTests extends OpenSearchTestCase {
             ML_COMMONS_MODEL_AUTO_REDEPLOY_ENABLE,
             ML_COMMONS_MODEL_AUTO_REDEPLOY_LIFETIME_RETRY_TIMES,
             ML_COMMONS_ALLOW_CUSTOM_DEPLOYMENT_PLAN,
-            ML_COMMONS_ONLY_RUN_ON_ML_NODE
+            ML_COMMONS_ONLY_RUN_ON_ML_NODE,
+            ML_COMMONS_MODEL_AUTO_REDEPLOY_CONCURRENCY
         );
     }
 
@@ -19,9 +19,11 @@ import org.junit.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.ml.stats.metrics.MLMetricsRegistry;
 import org.opensearch.monitor.jvm.JvmService;
 import org.opensearch.monitor.jvm.JvmStats;
 import org.opensearch.monitor.os.OsService;
@@ -46,6 +48,9 @@ public class MLCircuitBreakerServiceTests {
     @Mock
     OsService osService;
 
+    @Spy
+    MLMetricsRegistry mlMetrics = new MLMetricsRegistry();
+
     @Before
     public void setup() {
         MockitoAnnotations.openMocks(this);
@@ -106,7 +111,7 @@ public class MLCircuitBreakerServiceTests {
             new HashSet<>(Arrays.asList(ML_COMMONS_NATIVE_MEM_THRESHOLD, ML_COMMONS_JVM_HEAP_MEM_THRESHOLD))
         );
         when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
-        mlCircuitBreakerService = new MLCircuitBreakerService(jvmService, osService, settings, clusterService);
+        mlCircuitBreakerService = new MLCircuitBreakerService(jvmService, osService, settings, clusterService, mlMetrics);
         Assert.assertNotNull(mlCircuitBreakerService.init(Path.of("/")));
     }
 
@@ -121,6 +126,10 @@ public class MLCircuitBreakerServiceTests {
 
         when(mem.getHeapUsedPercent()).thenReturn((short) 90);
         Assert.assertEquals("Memory Circuit Breaker", mlCircuitBreakerService.checkOpenCB().getName());
+        Assert.assertEquals(1, mlMetrics.getCircuitBreakerRejections().labels("memory").get());
+        // every request checking the open breaker is rejected
+        Assert.assertNotNull(mlCircuitBreakerService.checkOpenCB());
+        Assert.assertEquals(2, mlMetrics.getCircuitBreakerRejections().labels("memory").get());
     }
 
 }
@@ -0,0 +1,67 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.cluster;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class MLModelRoutingTableTests extends OpenSearchTestCase {
+    private MLModelRoutingTable routingTable;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        routingTable = new MLModelRoutingTable();
+        routingTable.applyNodeReport("node1", 1, new String[] { "model1", "model2" }, null, null);
+        routingTable.applyNodeReport("node2", 1, new String[] { "model1" }, new String[] { "model3" }, new String[] { "task1" });
+    }
+
+    public void testApplyNodeReport() {
+        assertEquals(Map.of("model1", Set.of("node1", "node2"), "model2", Set.of("node1")), routingTable.getModelWorkerNodes());
+        assertEquals(Map.of("model3", Set.of("node2")), routingTable.getDeployingModels());
+        assertEquals(Map.of("task1", Set.of("node2")), routingTable.getRunningDeployModelTasks());
+        assertEquals(Map.of("node1", 1L, "node2", 1L), routingTable.getNodeGenerations());
+        assertTrue(routingTable.drainNodesChanged());
+        assertFalse(routingTable.drainNodesChanged());
+        assertEquals(Set.of("model1", "model2", "model3"), routingTable.drainChangedStateModels());
+    }
+
+    public void testDrainRoutingDelta() {
+        routingTable.nextFullVersion();
+        routingTable.drainChangedStateModels();
+        long version = routingTable.getVersion();
+
+        routingTable.applyNodeReport("node1", 2, new String[] { "model1", "model2" }, null, null);
+        assertTrue(routingTable.drainRoutingDelta().isEmpty());
+        assertEquals(version, routingTable.getVersion());
+
+        routingTable.applyNodeReport("node2", 2, new String[] { "model3" }, null, null);
+        Map<String, Set<String>> delta = routingTable.drainRoutingDelta();
+        assertEquals(Map.of("model1", Set.of("node1"), "model3", Set.of("node2")), delta);
+        assertEquals(version + 1, routingTable.getVersion());
+        assertEquals(Set.of("model1", "model3"), routingTable.drainChangedStateModels());
+        assertTrue(routingTable.drainRoutingDelta().isEmpty());
+    }
+
+    public void testRetainNodes() {
+        routingTable.drainNodesChanged();
+        routingTable.drainRoutingDelta();
+        routingTable.retainNodes(Set.of("node1"));
+        assertTrue(routingTable.drainNodesChanged());
+        assertEquals(Map.of("model1", Set.of("node1"), "model2", Set.of("node1")), routingTable.getModelWorkerNodes());
+        assertTrue(routingTable.getDeployingModels().isEmpty());
+        assertTrue(routingTable.getRunningDeployModelTasks().isEmpty());
+        assertEquals(Map.of("model1", Set.of("node1")), routingTable.drainRoutingDelta());
+        assertEquals(Map.of("node1", 1L), routingTable.getNodeGenerations());
+    }
+
+    public void testGetNodeGenerations_UntrackedNode() {
+        routingTable.applyNodeReport("node3", -1, new String[] { "model1" }, null, null);
+        assertFalse(routingTable.getNodeGenerations().containsKey("node3"));
+    }
+}
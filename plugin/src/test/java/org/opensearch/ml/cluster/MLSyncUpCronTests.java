@@ -219,6 +219,33 @@ public class MLSyncUpCronTests extends OpenSearchTestCase {
         verify(client, times(2)).execute(eq(MLSyncUpAction.INSTANCE), any(), any());
     }
 
+    public void testRun_NoChangeSkipsRoutingSyncUp() {
+        when(nodeHelper.getAllNodes()).thenReturn(new DiscoveryNode[] { mlNode1 });
+        doAnswer(invocation -> {
+            ActionListener<MLSyncUpNodesResponse> listener = invocation.getArgument(2);
+            MLSyncUpNodeResponse nodeResponse = new MLSyncUpNodeResponse(
+                mlNode1,
+                "ok",
+                new String[] { "model1" },
+                null,
+                null,
+                1L,
+                false,
+                syncUpCron.routingTable.getId(),
+                syncUpCron.routingTable.getVersion()
+            );
+            listener.onResponse(new MLSyncUpNodesResponse(ClusterName.DEFAULT, Arrays.asList(nodeResponse), Arrays.asList()));
+            return null;
+        }).when(client).execute(eq(MLSyncUpAction.INSTANCE), any(), any());
+
+        syncUpCron.run();
+        verify(client, times(2)).execute(eq(MLSyncUpAction.INSTANCE), any(), any());
+        assertEquals(Map.of(mlNode1Id, 1L), syncUpCron.routingTable.getNodeGenerations());
+
+        syncUpCron.run();
+        verify(client, times(3)).execute(eq(MLSyncUpAction.INSTANCE), any(), any());
+    }
+
     public void testRun_Failure() {
         DiscoveryNode[] allNodes = new DiscoveryNode[] {};
         when(nodeHelper.getAllNodes()).thenReturn(allNodes);
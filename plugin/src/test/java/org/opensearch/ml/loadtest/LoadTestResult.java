@@ -0,0 +1,119 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Result of one load test scenario. Latencies are measured from the time a request was scheduled to be sent, so a
+ * cluster which can't keep up with the target rate shows up in the latencies and not only in the throughput.
+ */
+@Builder
+@Getter
+public class LoadTestResult {
+    private final String scenario;
+    private final double targetQps;
+    private final long durationMillis;
+    // measured requests, warmup requests excluded
+    private final long sent;
+    private final long succeeded;
+    // requests rejected with 429, e.g. by a full ML thread pool queue or a throttled model
+    private final long rejected;
+    // other error responses, failed and timed out requests
+    private final long failed;
+    private final double throughput;
+    private final double p50Millis;
+    private final double p99Millis;
+    private final double p999Millis;
+    private final double maxMillis;
+    // accumulated over all nodes of the cluster during the measurement
+    private final long gcCount;
+    private final long gcTimeMillis;
+    private final Map<String, Long> threadPoolRejections;
+
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("scenario", scenario);
+        map.put("target_qps", targetQps);
+        map.put("duration_ms", durationMillis);
+        map.put("sent", sent);
+        map.put("succeeded", succeeded);
+        map.put("rejected", rejected);
+        map.put("failed", failed);
+        map.put("throughput", throughput);
+        map.put("p50_ms", p50Millis);
+        map.put("p99_ms", p99Millis);
+        map.put("p999_ms", p999Millis);
+        map.put("max_ms", maxMillis);
+        map.put("gc_count", gcCount);
+        map.put("gc_time_ms", gcTimeMillis);
+        map.put("thread_pool_rejections", threadPoolRejections);
+        return map;
+    }
+
+    /**
+     * Format results as a table, one row per scenario.
+     *
+     * @param results results
+     * @return table
+     */
+    public static String toTable(List<LoadTestResult> results) {
+        String format = "%-12s %8s %8s %8s %8s %8s %10s %10s %10s %10s %10s %8s %12s%n";
+        StringBuilder table = new StringBuilder();
+        table
+            .append(
+                String
+                    .format(
+                        Locale.ROOT,
+                        format,
+                        "scenario",
+                        "target",
+                        "sent",
+                        "ok",
+                        "429",
+                        "failed",
+                        "qps",
+                        "p50 ms",
+                        "p99 ms",
+                        "p999 ms",
+                        "max ms",
+                        "gc ms",
+                        "tp rejected"
+                    )
+            );
+        for (LoadTestResult result : results) {
+            long threadPoolRejected = result.threadPoolRejections.values().stream().mapToLong(Long::longValue).sum();
+            table
+                .append(
+                    String
+                        .format(
+                            Locale.ROOT,
+                            format,
+                            result.scenario,
+                            String.format(Locale.ROOT, "%.0f", result.targetQps),
+                            result.sent,
+                            result.succeeded,
+                            result.rejected,
+                            result.failed,
+                            String.format(Locale.ROOT, "%.1f", result.throughput),
+                            String.format(Locale.ROOT, "%.1f", result.p50Millis),
+                            String.format(Locale.ROOT, "%.1f", result.p99Millis),
+                            String.format(Locale.ROOT, "%.1f", result.p999Millis),
+                            String.format(Locale.ROOT, "%.1f", result.maxMillis),
+                            result.gcTimeMillis,
+                            threadPoolRejected
+                        )
+                );
+        }
+        return table.toString();
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+import org.opensearch.client.Request;
+import org.opensearch.client.Response;
+import org.opensearch.client.ResponseException;
+import org.opensearch.client.ResponseListener;
+import org.opensearch.client.RestClient;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Sends requests at a fixed rate regardless of how fast they are answered. A closed loop of clients waiting for their
+ * previous response slows down with the cluster and hides queueing, an open loop keeps the arrival rate of production
+ * traffic, so saturation shows up as growing latencies and rejections.
+ */
+@Log4j2
+public class OpenLoopLoadGenerator {
+    private final RestClient client;
+    private final long drainTimeoutMillis;
+
+    /**
+     * @param client             REST client, with a connection pool large enough for the in flight requests
+     * @param drainTimeoutMillis time to wait for the in flight requests once all requests are sent, the requests
+     *                           still in flight after it count as failed
+     */
+    public OpenLoopLoadGenerator(RestClient client, long drainTimeoutMillis) {
+        this.client = client;
+        this.drainTimeoutMillis = drainTimeoutMillis;
+    }
+
+    /**
+     * Run a scenario.
+     *
+     * @param scenario       scenario name
+     * @param targetQps      request rate
+     * @param warmupMillis   time to send requests before measuring, e.g. for lazy initialization and JIT
+     * @param durationMillis time to measure
+     * @param requests       request supplier, called from the sending thread
+     * @return latency and outcome of the measured requests, without the cluster stats
+     */
+    public LoadTestResult.LoadTestResultBuilder run(
+        String scenario,
+        double targetQps,
+        long warmupMillis,
+        long durationMillis,
+        Supplier<Request> requests
+    ) throws InterruptedException {
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / targetQps);
+        long warmupNanos = TimeUnit.MILLISECONDS.toNanos(warmupMillis);
+        long totalNanos = warmupNanos + TimeUnit.MILLISECONDS.toNanos(durationMillis);
+        Recorder recorder = new Recorder((int) (durationMillis * targetQps / 1000) + 1);
+        AtomicInteger inFlight = new AtomicInteger();
+
+        log.info("Running load test scenario {} at {} qps for {} ms after {} ms warmup", scenario, targetQps, durationMillis, warmupMillis);
+        long start = System.nanoTime();
+        for (long i = 0;; i++) {
+            long scheduled = start + i * intervalNanos;
+            if (scheduled - start >= totalNanos) {
+                break;
+            }
+            long wait = scheduled - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            boolean measured = scheduled - start >= warmupNanos;
+            if (measured) {
+                recorder.sent.increment();
+            }
+            inFlight.incrementAndGet();
+            client.performRequestAsync(requests.get(), new ResponseListener() {
+                @Override
+                public void onSuccess(Response response) {
+                    if (measured) {
+                        recorder.record(scheduled, response.getStatusLine().getStatusCode());
+                    }
+                    inFlight.decrementAndGet();
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    if (measured) {
+                        if (e instanceof ResponseException) {
+                            recorder.record(scheduled, ((ResponseException) e).getResponse().getStatusLine().getStatusCode());
+                        } else {
+                            log.debug("Load test request failed", e);
+                            recorder.failed.increment();
+                        }
+                    }
+                    inFlight.decrementAndGet();
+                }
+            });
+        }
+
+        long drainDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(drainTimeoutMillis);
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            Thread.sleep(10);
+        }
+        long timedOut = inFlight.get();
+        if (timedOut > 0) {
+            log.warn("{} load test requests of scenario {} still in flight after {} ms", timedOut, scenario, drainTimeoutMillis);
+        }
+
+        long[] latencies = recorder.latencies();
+        return LoadTestResult
+            .builder()
+            .scenario(scenario)
+            .targetQps(targetQps)
+            .durationMillis(durationMillis)
+            .sent(recorder.sent.sum())
+            .succeeded(recorder.succeeded.sum())
+            .rejected(recorder.rejected.sum())
+            .failed(recorder.failed.sum() + timedOut)
+            .throughput(recorder.succeeded.sum() * 1000.0 / durationMillis)
+            .p50Millis(percentile(latencies, 0.5))
+            .p99Millis(percentile(latencies, 0.99))
+            .p999Millis(percentile(latencies, 0.999))
+            .maxMillis(latencies.length == 0 ? 0 : latencies[latencies.length - 1] / 1e6);
+    }
+
+    static double percentile(long[] sortedNanos, double quantile) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(0, Math.min(index, sortedNanos.length - 1))] / 1e6;
+    }
+
+    /**
+     * Outcomes and latencies of the measured requests. Latencies of the responses arriving after the capacity is
+     * reached, which only happens if the rate was not kept, are dropped.
+     */
+    private static class Recorder {
+        private final long[] latencies;
+        private final AtomicInteger count = new AtomicInteger();
+        private final LongAdder sent = new LongAdder();
+        private final LongAdder succeeded = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+
+        Recorder(int capacity) {
+            this.latencies = new long[capacity];
+        }
+
+        void record(long scheduledNanos, int status) {
+            long latency = System.nanoTime() - scheduledNanos;
+            if (status >= 200 && status < 300) {
+                succeeded.increment();
+            } else if (status == 429) {
+                rejected.increment();
+            } else {
+                failed.increment();
+            }
+            int index = count.getAndIncrement();
+            if (index < latencies.length) {
+                latencies[index] = latency;
+            }
+        }
+
+        long[] latencies() {
+            long[] sorted = Arrays.copyOf(latencies, Math.min(count.get(), latencies.length));
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+}
@@ -0,0 +1,337 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.HttpHost;
+import org.junit.After;
+import org.junit.Before;
+import org.opensearch.client.Request;
+import org.opensearch.client.RestClient;
+import org.opensearch.ml.common.MLTaskState;
+import org.opensearch.ml.rest.MLCommonsRestTestCase;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+/**
+ * Predict load test: deploys a text embedding model per scenario and sends open loop traffic to the predict API.
+ * Remote scenarios call the stub model server, which mimics the embedding APIs of the providers, and the local
+ * scenario deploys a tiny ONNX embedding model served by the stub model server. It's run by the loadTest task, which
+ * forwards the tests.loadtest.* system properties and writes the report into build/reports/loadtest.
+ */
+public class PredictLoadIT extends MLCommonsRestTestCase {
+    private static final String ONNX_MODEL_FILE = "tiny_onnx_embedding.zip";
+    private static final int ONNX_MODEL_DIMENSIONS = 16;
+    private static final String OPENAI = "openai";
+    private static final String COHERE = "cohere";
+    private static final String BEDROCK = "bedrock";
+    private static final String ONNX = "onnx";
+
+    private static final List<String> SCENARIOS = List
+        .of(System.getProperty("tests.loadtest.scenarios", "openai,cohere,bedrock,onnx").split(","));
+    private static final double QPS = Double.parseDouble(System.getProperty("tests.loadtest.qps", "20"));
+    private static final long DURATION_MILLIS = Long.parseLong(System.getProperty("tests.loadtest.duration_seconds", "30")) * 1000;
+    private static final long WARMUP_MILLIS = Long.parseLong(System.getProperty("tests.loadtest.warmup_seconds", "10")) * 1000;
+    private static final int DOCS = Integer.parseInt(System.getProperty("tests.loadtest.docs", "1"));
+    private static final int MAX_CONNECTIONS = Integer.parseInt(System.getProperty("tests.loadtest.max_connections", "256"));
+    private static final String REPORT_DIR = System.getProperty("tests.loadtest.report_dir");
+
+    private final Gson reportGson = new GsonBuilder().setPrettyPrinting().create();
+    private StubModelServer stubServer;
+    private RestClient loadClient;
+    private byte[] onnxModel;
+
+    @Before
+    public void setupLoadTest() throws IOException {
+        try (InputStream model = getClass().getResourceAsStream(ONNX_MODEL_FILE)) {
+            onnxModel = model.readAllBytes();
+        }
+        StubModelServer.Behavior behavior = StubModelServer.Behavior
+            .builder()
+            .latencyMillis(Long.parseLong(System.getProperty("tests.loadtest.stub.latency_ms", "50")))
+            .jitterMillis(Long.parseLong(System.getProperty("tests.loadtest.stub.jitter_ms", "20")))
+            .errorRate(Double.parseDouble(System.getProperty("tests.loadtest.stub.error_rate", "0")))
+            .errorStatus(Integer.parseInt(System.getProperty("tests.loadtest.stub.error_status", "500")))
+            .dimensions(Integer.parseInt(System.getProperty("tests.loadtest.stub.dimensions", "768")))
+            .build();
+        stubServer = new StubModelServer(behavior, Map.of(ONNX_MODEL_FILE, onnxModel), MAX_CONNECTIONS);
+
+        Map<String, Object> settings = new HashMap<>();
+        settings.put("plugins.ml_commons.trusted_connector_endpoints_regex", List.of("^http://127\\.0\\.0\\.1:[0-9]+/.*$"));
+        Request request = new Request("PUT", "/_cluster/settings");
+        request.setJsonEntity(gson.toJson(Map.of("persistent", settings)));
+        assertEquals(200, client().performRequest(request).getStatusLine().getStatusCode());
+
+        loadClient = RestClient
+            .builder(getClusterHosts().toArray(new HttpHost[0]))
+            .setHttpClientConfigCallback(
+                builder -> builder
+                    .setConnectionManager(
+                        PoolingAsyncClientConnectionManagerBuilder
+                            .create()
+                            .setMaxConnPerRoute(MAX_CONNECTIONS)
+                            .setMaxConnTotal(MAX_CONNECTIONS)
+                            .build()
+                    )
+            )
+            .build();
+    }
+
+    @After
+    public void tearDownLoadTest() throws IOException {
+        if (loadClient != null) {
+            loadClient.close();
+        }
+        if (stubServer != null) {
+            stubServer.close();
+        }
+    }
+
+    public void testPredictLoad() throws Exception {
+        OpenLoopLoadGenerator generator = new OpenLoopLoadGenerator(loadClient, 60_000);
+        List<LoadTestResult> results = new ArrayList<>();
+        for (String scenario : SCENARIOS) {
+            String modelId = deployScenarioModel(scenario.trim().toLowerCase(Locale.ROOT));
+            try {
+                Map<String, Object> statsBefore = nodeStats();
+                LoadTestResult.LoadTestResultBuilder result = generator
+                    .run(scenario, QPS, WARMUP_MILLIS, DURATION_MILLIS, predictRequests(modelId));
+                Map<String, Object> statsAfter = nodeStats();
+                results.add(withClusterStats(result, statsBefore, statsAfter).build());
+            } finally {
+                undeployModel(modelId);
+            }
+        }
+
+        logger.info("Predict load test results, {} docs per request\n{}", DOCS, LoadTestResult.toTable(results));
+        writeReport(results);
+        for (LoadTestResult result : results) {
+            assertTrue("No request was measured in scenario " + result.getScenario(), result.getSent() > 0);
+        }
+    }
+
+    private String deployScenarioModel(String scenario) throws Exception {
+        String modelGroupId = (String) post(
+            "/_plugins/_ml/model_groups/_register",
+            Map.of("name", "loadtest_" + scenario + "_" + randomAlphaOfLength(6).toLowerCase(Locale.ROOT))
+        ).get("model_group_id");
+
+        Map<String, Object> registerInput = new LinkedHashMap<>();
+        registerInput.put("name", "loadtest " + scenario + " embedding");
+        registerInput.put("version", "1.0.0");
+        registerInput.put("model_group_id", modelGroupId);
+        if (ONNX.equals(scenario)) {
+            registerInput.put("function_name", "TEXT_EMBEDDING");
+            registerInput.put("model_format", "ONNX");
+            registerInput.put("model_content_hash_value", sha256(onnxModel));
+            registerInput
+                .put(
+                    "model_config",
+                    Map
+                        .of(
+                            "model_type",
+                            "tiny",
+                            "embedding_dimension",
+                            ONNX_MODEL_DIMENSIONS,
+                            "framework_type",
+                            "sentence_transformers"
+                        )
+                );
+            registerInput.put("url", stubServer.getEndpoint() + StubModelServer.MODELS_PATH + ONNX_MODEL_FILE);
+        } else {
+            String connectorId = (String) post("/_plugins/_ml/connectors/_create", connector(scenario)).get("connector_id");
+            registerInput.put("function_name", "remote");
+            registerInput.put("connector_id", connectorId);
+        }
+        String taskId = (String) post("/_plugins/_ml/models/_register", registerInput).get("task_id");
+        waitForTask(taskId, MLTaskState.COMPLETED);
+        String[] modelId = new String[1];
+        getTask(client(), taskId, task -> modelId[0] = (String) task.get("model_id"));
+
+        taskId = deployModel(modelId[0]);
+        waitForTask(taskId, MLTaskState.COMPLETED);
+        return modelId[0];
+    }
+
+    private Map<String, Object> connector(String scenario) {
+        String endpoint = stubServer.getEndpoint();
+        Map<String, Object> connector = new LinkedHashMap<>();
+        connector.put("name", "loadtest " + scenario + " connector");
+        connector.put("version", 1);
+        Map<String, Object> action = new LinkedHashMap<>();
+        action.put("action_type", "predict");
+        action.put("method", "POST");
+        switch (scenario) {
+            case OPENAI:
+                connector.put("protocol", "http");
+                connector.put("parameters", Map.of("model", "text-embedding-ada-002"));
+                connector.put("credential", Map.of("openAI_key", "stub"));
+                action.put("url", endpoint + StubModelServer.OPENAI_EMBEDDINGS_PATH);
+                action.put("headers", Map.of("Authorization", "Bearer ${credential.openAI_key}"));
+                action.put("request_body", "{ \"input\": ${parameters.input}, \"model\": \"${parameters.model}\" }");
+                action.put("pre_process_function", "connector.pre_process.openai.embedding");
+                action.put("post_process_function", "connector.post_process.openai.embedding");
+                break;
+            case COHERE:
+                connector.put("protocol", "http");
+                connector.put("credential", Map.of("cohere_key", "stub"));
+                action.put("url", endpoint + StubModelServer.COHERE_EMBED_PATH);
+                action.put("headers", Map.of("Authorization", "Bearer ${credential.cohere_key}"));
+                action.put("request_body", "{ \"texts\": ${parameters.texts}, \"truncate\": \"END\" }");
+                action.put("pre_process_function", "connector.pre_process.cohere.embedding");
+                action.put("post_process_function", "connector.post_process.cohere.embedding");
+                break;
+            case BEDROCK:
+                connector.put("protocol", "aws_sigv4");
+                connector.put("parameters", Map.of("region", "us-east-1", "service_name", "bedrock"));
+                connector.put("credential", Map.of("access_key", "stub", "secret_key", "stub"));
+                action.put("url", endpoint + StubModelServer.BEDROCK_INVOKE_PATH);
+                action.put("headers", Map.of("content-type", "application/json"));
+                action.put("request_body", "{ \"inputText\": \"${parameters.inputText}\" }");
+                action.put("pre_process_function", "connector.pre_process.bedrock.embedding");
+                action.put("post_process_function", "connector.post_process.bedrock.embedding");
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown load test scenario " + scenario);
+        }
+        connector.put("actions", List.of(action));
+        return connector;
+    }
+
+    /**
+     * Predict requests of the scenario, cycling through a fixed set of bodies so the sending thread stays cheap.
+     */
+    private Supplier<Request> predictRequests(String modelId) {
+        Random random = new Random(42);
+        List<String> bodies = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            List<String> docs = new ArrayList<>(DOCS);
+            for (int j = 0; j < DOCS; j++) {
+                docs.add(String.format(Locale.ROOT, "the quick brown fox %d jumps over the lazy dog %d", random.nextInt(), j));
+            }
+            bodies.add(gson.toJson(Map.of("text_docs", docs)));
+        }
+        String endpoint = "/_plugins/_ml/_predict/text_embedding/" + modelId;
+        AtomicInteger next = new AtomicInteger();
+        return () -> {
+            Request request = new Request("POST", endpoint);
+            request.setJsonEntity(bodies.get(Math.floorMod(next.getAndIncrement(), bodies.size())));
+            return request;
+        };
+    }
+
+    private Map<String, Object> nodeStats() throws IOException {
+        return entityAsMap(client().performRequest(new Request("GET", "/_nodes/stats/jvm,thread_pool")));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static LoadTestResult.LoadTestResultBuilder withClusterStats(
+        LoadTestResult.LoadTestResultBuilder result,
+        Map<String, Object> before,
+        Map<String, Object> after
+    ) {
+        long gcCount = 0;
+        long gcTimeMillis = 0;
+        Map<String, Long> threadPoolRejections = new LinkedHashMap<>();
+        Map<String, Object> nodesBefore = (Map<String, Object>) before.get("nodes");
+        Map<String, Object> nodesAfter = (Map<String, Object>) after.get("nodes");
+        for (Map.Entry<String, Object> node : nodesAfter.entrySet()) {
+            Map<String, Object> nodeBefore = (Map<String, Object>) nodesBefore.getOrDefault(node.getKey(), Map.of());
+            Map<String, Object> nodeAfter = (Map<String, Object>) node.getValue();
+            Map<String, Object> collectors = (Map<String, Object>) path(nodeAfter, "jvm", "gc", "collectors");
+            for (String collector : collectors.keySet()) {
+                gcCount += delta(nodeBefore, nodeAfter, "jvm", "gc", "collectors", collector, "collection_count");
+                gcTimeMillis += delta(nodeBefore, nodeAfter, "jvm", "gc", "collectors", collector, "collection_time_in_millis");
+            }
+            Map<String, Object> threadPools = (Map<String, Object>) nodeAfter.get("thread_pool");
+            for (String threadPool : threadPools.keySet()) {
+                if (threadPool.startsWith("opensearch_ml")) {
+                    threadPoolRejections.merge(threadPool, delta(nodeBefore, nodeAfter, "thread_pool", threadPool, "rejected"), Long::sum);
+                }
+            }
+        }
+        return result.gcCount(gcCount).gcTimeMillis(gcTimeMillis).threadPoolRejections(threadPoolRejections);
+    }
+
+    private static long delta(Map<String, Object> before, Map<String, Object> after, String... path) {
+        Object previous = path(before, path);
+        Object current = path(after, path);
+        return (current == null ? 0 : ((Number) current).longValue()) - (previous == null ? 0 : ((Number) previous).longValue());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object path(Map<String, Object> map, String... path) {
+        Object value = map;
+        for (String key : path) {
+            if (!(value instanceof Map)) {
+                return null;
+            }
+            value = ((Map<String, Object>) value).get(key);
+        }
+        return value;
+    }
+
+    private void writeReport(List<LoadTestResult> results) throws IOException {
+        if (REPORT_DIR == null) {
+            return;
+        }
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("qps", QPS);
+        config.put("duration_ms", DURATION_MILLIS);
+        config.put("warmup_ms", WARMUP_MILLIS);
+        config.put("docs", DOCS);
+        config.put("stub_latency_ms", stubServer.getBehavior().getLatencyMillis());
+        config.put("stub_jitter_ms", stubServer.getBehavior().getJitterMillis());
+        config.put("stub_error_rate", stubServer.getBehavior().getErrorRate());
+        config.put("stub_dimensions", stubServer.getBehavior().getDimensions());
+        List<Map<String, Object>> scenarios = new ArrayList<>();
+        results.forEach(result -> scenarios.add(result.toMap()));
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("commit", System.getProperty("tests.loadtest.commit", "unknown"));
+        report.put("timestamp", System.currentTimeMillis());
+        report.put("config", config);
+        report.put("results", scenarios);
+
+        Path dir = Path.of(REPORT_DIR);
+        Files.createDirectories(dir);
+        Path file = dir.resolve("predict-" + report.get("commit") + "-" + report.get("timestamp") + ".json");
+        Files.write(file, reportGson.toJson(report).getBytes(StandardCharsets.UTF_8));
+        logger.info("Wrote predict load test report to {}", file);
+    }
+
+    private Map<String, Object> post(String endpoint, Map<String, Object> body) throws IOException {
+        Request request = new Request("POST", endpoint);
+        request.setJsonEntity(gson.toJson(body));
+        return entityAsMap(client().performRequest(request));
+    }
+
+    private static String sha256(byte[] content) throws NoSuchAlgorithmException {
+        byte[] hash = MessageDigest.getInstance("SHA-256").digest(content);
+        StringBuilder hex = new StringBuilder();
+        for (byte b : hash) {
+            hex.append(String.format(Locale.ROOT, "%02x", b));
+        }
+        return hex.toString();
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.loadtest;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.google.gson.Gson;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Embedded HTTP server which mimics the embedding APIs of OpenAI, Cohere and Bedrock, with a configurable latency and
+ * error rate, and serves model files to register local models from. It binds to the loopback address on a free port.
+ */
+@Log4j2
+public class StubModelServer implements Closeable {
+    public static final String OPENAI_EMBEDDINGS_PATH = "/v1/embeddings";
+    public static final String COHERE_EMBED_PATH = "/v1/embed";
+    public static final String BEDROCK_INVOKE_PATH = "/model/amazon.titan-embed-text-v1/invoke";
+    public static final String MODELS_PATH = "/models/";
+
+    private final Gson gson = new Gson();
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Map<String, byte[]> modelFiles;
+    @Getter
+    private final LongAdder requests = new LongAdder();
+    @Getter
+    private final LongAdder errors = new LongAdder();
+    @Setter
+    @Getter
+    private volatile Behavior behavior;
+
+    /**
+     * Behavior of the embedding APIs.
+     */
+    @Builder
+    @Getter
+    public static class Behavior {
+        @Builder.Default
+        private final long latencyMillis = 50;
+        // uniform jitter added to the latency
+        @Builder.Default
+        private final long jitterMillis = 0;
+        // ratio of requests answered with the error status
+        @Builder.Default
+        private final double errorRate = 0;
+        @Builder.Default
+        private final int errorStatus = 500;
+        @Builder.Default
+        private final int dimensions = 768;
+    }
+
+    /**
+     * Start the server.
+     *
+     * @param behavior   behavior of the embedding APIs
+     * @param modelFiles model files served under {@link #MODELS_PATH} by file name
+     * @param threads    threads serving requests, they sleep for the latency so it bounds the concurrency of the stub
+     * @throws IOException if the server can't bind
+     */
+    public StubModelServer(Behavior behavior, Map<String, byte[]> modelFiles, int threads) throws IOException {
+        this.behavior = behavior;
+        this.modelFiles = modelFiles;
+        this.executor = Executors.newFixedThreadPool(threads);
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1024);
+        server.createContext(OPENAI_EMBEDDINGS_PATH, embeddingHandler(this::openAIResponse));
+        server.createContext(COHERE_EMBED_PATH, embeddingHandler(this::cohereResponse));
+        server.createContext(BEDROCK_INVOKE_PATH, embeddingHandler(this::bedrockResponse));
+        server.createContext(MODELS_PATH, this::handleModelFile);
+        server.setExecutor(executor);
+        server.start();
+        log.info("Started stub model server on {}", getEndpoint());
+    }
+
+    /**
+     * Base URL of the server, with the literal loopback address since connectors resolve host names themselves.
+     */
+    public String getEndpoint() {
+        return "http://" + server.getAddress().getAddress().getHostAddress() + ":" + server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private HttpHandler embeddingHandler(ResponseBuilder responseBuilder) {
+        return exchange -> {
+            try {
+                requests.increment();
+                Map<?, ?> request = gson.fromJson(readBody(exchange), Map.class);
+                Behavior current = behavior;
+                long latency = current.getLatencyMillis();
+                if (current.getJitterMillis() > 0) {
+                    latency += ThreadLocalRandom.current().nextLong(current.getJitterMillis() + 1);
+                }
+                if (latency > 0) {
+                    TimeUnit.MILLISECONDS.sleep(latency);
+                }
+                if (current.getErrorRate() > 0 && ThreadLocalRandom.current().nextDouble() < current.getErrorRate()) {
+                    errors.increment();
+                    send(exchange, current.getErrorStatus(), "{\"error\":{\"message\":\"stub model server error\"}}");
+                    return;
+                }
+                send(exchange, 200, gson.toJson(responseBuilder.build(request, current.getDimensions())));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                log.error("Stub model server failed to answer " + exchange.getRequestURI(), e);
+                send(exchange, 400, "{\"error\":{\"message\":\"bad request\"}}");
+            } finally {
+                exchange.close();
+            }
+        };
+    }
+
+    private void handleModelFile(HttpExchange exchange) throws IOException {
+        try {
+            String fileName = exchange.getRequestURI().getPath().substring(MODELS_PATH.length());
+            byte[] content = modelFiles.get(fileName);
+            if (content == null) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/zip");
+            exchange.sendResponseHeaders(200, content.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(content);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ResponseBuilder {
+        Map<String, Object> build(Map<?, ?> request, int dimensions);
+    }
+
+    private Map<String, Object> openAIResponse(Map<?, ?> request, int dimensions) {
+        List<Map<String, Object>> data = new ArrayList<>();
+        List<?> input = (List<?>) request.get("input");
+        for (int i = 0; i < input.size(); i++) {
+            data.add(Map.of("object", "embedding", "index", i, "embedding", embedding(dimensions)));
+        }
+        return Map
+            .of(
+                "object",
+                "list",
+                "data",
+                data,
+                "model",
+                "text-embedding-ada-002",
+                "usage",
+                Map.of("prompt_tokens", input.size(), "total_tokens", input.size())
+            );
+    }
+
+    private Map<String, Object> cohereResponse(Map<?, ?> request, int dimensions) {
+        List<?> texts = (List<?>) request.get("texts");
+        List<List<Float>> embeddings = new ArrayList<>(texts.size());
+        for (int i = 0; i < texts.size(); i++) {
+            embeddings.add(embedding(dimensions));
+        }
+        return Map.of("id", "stub", "texts", texts, "embeddings", embeddings, "meta", Map.of("api_version", Map.of("version", "1")));
+    }
+
+    private Map<String, Object> bedrockResponse(Map<?, ?> request, int dimensions) {
+        String inputText = (String) request.get("inputText");
+        return Map.of("embedding", embedding(dimensions), "inputTextTokenCount", inputText.split(" ").length);
+    }
+
+    private static List<Float> embedding(int dimensions) {
+        List<Float> embedding = new ArrayList<>(dimensions);
+        for (int i = 0; i < dimensions; i++) {
+            embedding.add(ThreadLocalRandom.current().nextFloat() - 0.5f);
+        }
+        return embedding;
+    }
+
+    private static String readBody(HttpExchange exchange) throws IOException {
+        try (InputStream body = exchange.getRequestBody()) {
+            return new String(body.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, String body) {
+        try {
+            byte[] content = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, content.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(content);
+            }
+        } catch (IOException e) {
+            log.debug("Failed to send stub model server response", e);
+        }
+    }
+}
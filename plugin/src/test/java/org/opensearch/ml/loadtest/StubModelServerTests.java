@@ -0,0 +1,98 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+import com.google.gson.Gson;
+
+public class StubModelServerTests extends OpenSearchTestCase {
+    private final Gson gson = new Gson();
+    private StubModelServer server;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        StubModelServer.Behavior behavior = StubModelServer.Behavior.builder().latencyMillis(0).dimensions(4).build();
+        server = new StubModelServer(behavior, Map.of("model.zip", new byte[] { 1, 2, 3 }), 2);
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        server.close();
+        super.tearDown();
+    }
+
+    public void testOpenAIEmbeddings() throws IOException {
+        Map<?, ?> response = post(StubModelServer.OPENAI_EMBEDDINGS_PATH, "{\"input\":[\"a\",\"b\"],\"model\":\"m\"}", 200);
+        List<?> data = (List<?>) response.get("data");
+        assertEquals(2, data.size());
+        assertEquals(4, ((List<?>) ((Map<?, ?>) data.get(0)).get("embedding")).size());
+    }
+
+    public void testCohereEmbeddings() throws IOException {
+        Map<?, ?> response = post(StubModelServer.COHERE_EMBED_PATH, "{\"texts\":[\"a\",\"b\",\"c\"]}", 200);
+        List<?> embeddings = (List<?>) response.get("embeddings");
+        assertEquals(3, embeddings.size());
+        assertEquals(4, ((List<?>) embeddings.get(0)).size());
+    }
+
+    public void testBedrockEmbedding() throws IOException {
+        Map<?, ?> response = post(StubModelServer.BEDROCK_INVOKE_PATH, "{\"inputText\":\"hello world\"}", 200);
+        assertEquals(4, ((List<?>) response.get("embedding")).size());
+        assertEquals(1, server.getRequests().sum());
+    }
+
+    public void testErrorRate() throws IOException {
+        server.setBehavior(StubModelServer.Behavior.builder().latencyMillis(0).errorRate(1).errorStatus(429).build());
+        post(StubModelServer.BEDROCK_INVOKE_PATH, "{\"inputText\":\"hello\"}", 429);
+        assertEquals(1, server.getErrors().sum());
+    }
+
+    public void testModelFile() throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(server.getEndpoint() + StubModelServer.MODELS_PATH + "model.zip")
+            .openConnection();
+        assertEquals(200, connection.getResponseCode());
+        try (InputStream body = connection.getInputStream()) {
+            assertArrayEquals(new byte[] { 1, 2, 3 }, body.readAllBytes());
+        }
+        connection = (HttpURLConnection) new URL(server.getEndpoint() + StubModelServer.MODELS_PATH + "missing.zip").openConnection();
+        assertEquals(404, connection.getResponseCode());
+    }
+
+    public void testPercentile() {
+        long[] sorted = new long[100];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = (i + 1) * 1_000_000L;
+        }
+        assertEquals(50, OpenLoopLoadGenerator.percentile(sorted, 0.5), 0);
+        assertEquals(99, OpenLoopLoadGenerator.percentile(sorted, 0.99), 0);
+        assertEquals(100, OpenLoopLoadGenerator.percentile(sorted, 1), 0);
+        assertEquals(0, OpenLoopLoadGenerator.percentile(new long[0], 0.5), 0);
+    }
+
+    private Map<?, ?> post(String path, String body, int expectedStatus) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(server.getEndpoint() + path).openConnection();
+        connection.setRequestMethod("POST");
+        connection.setDoOutput(true);
+        try (OutputStream out = connection.getOutputStream()) {
+            out.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+        assertEquals(expectedStatus, connection.getResponseCode());
+        try (InputStream in = expectedStatus == 200 ? connection.getInputStream() : connection.getErrorStream()) {
+            return gson.fromJson(new String(in.readAllBytes(), StandardCharsets.UTF_8), Map.class);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.opensearch.ml.common.exception.MLLimitExceededException;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class MLDeployMemoryAdmissionTests extends OpenSearchTestCase {
+    private AtomicLong deployed;
+    private MLDeployMemoryAdmission admission;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        deployed = new AtomicLong();
+        admission = new MLDeployMemoryAdmission(1500, 500, deployed::get, 90);
+    }
+
+    public void testReserve_WithinBudget() {
+        admission.reserve("model1", 400);
+        admission.reserve("model2", 400);
+        assertEquals(800, admission.getReservedInBytes());
+    }
+
+    public void testReserve_OverBudget() {
+        deployed.set(500);
+        admission.reserve("model1", 300);
+        MLLimitExceededException e = expectThrows(MLLimitExceededException.class, () -> admission.reserve("model2", 200));
+        assertTrue(e.getMessage().contains("Not enough memory to deploy model model2"));
+        assertEquals(300, admission.getReservedInBytes());
+    }
+
+    public void testReserve_AlwaysAdmitOnEmptyNode() {
+        admission.reserve("model1", 5000);
+        assertEquals(5000, admission.getReservedInBytes());
+        expectThrows(MLLimitExceededException.class, () -> admission.reserve("model2", 1));
+    }
+
+    public void testReserve_Idempotent() {
+        admission.reserve("model1", 400);
+        admission.reserve("model1", 400);
+        assertEquals(400, admission.getReservedInBytes());
+    }
+
+    public void testRelease() {
+        admission.reserve("model1", 800);
+        expectThrows(MLLimitExceededException.class, () -> admission.reserve("model2", 200));
+        admission.release("model1");
+        admission.release("model1");
+        assertEquals(0, admission.getReservedInBytes());
+        admission.reserve("model2", 200);
+        assertEquals(200, admission.getReservedInBytes());
+    }
+
+    public void testReserve_UnknownPhysicalMemory() {
+        admission = new MLDeployMemoryAdmission(0, 500, deployed::get, 90);
+        deployed.set(5000);
+        admission.reserve("model1", 5000);
+        admission.reserve("model2", 5000);
+        assertEquals(10000, admission.getReservedInBytes());
+    }
+
+    public void testReserve_NoNativeMemory() {
+        admission = new MLDeployMemoryAdmission(500, 1000, deployed::get, 90);
+        admission.reserve("model1", 1);
+        expectThrows(MLLimitExceededException.class, () -> admission.reserve("model2", 1));
+    }
+
+    public void testSetAdmissionPercent() {
+        deployed.set(100);
+        expectThrows(MLLimitExceededException.class, () -> admission.reserve("model1", 850));
+        admission.setAdmissionPercent(100);
+        admission.reserve("model1", 850);
+        assertEquals(850, admission.getReservedInBytes());
+    }
+}
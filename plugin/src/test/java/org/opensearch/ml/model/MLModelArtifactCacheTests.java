@@ -0,0 +1,194 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.opensearch.ml.breaker.CircuitBreaker;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class MLModelArtifactCacheTests extends OpenSearchTestCase {
+
+    private static final String HASH_1 = "1111111111111111111111111111111111111111111111111111111111111111";
+    private static final String HASH_2 = "2222222222222222222222222222222222222222222222222222222222222222";
+
+    private Path cacheRoot;
+    private Path workDir;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        Path tempDir = createTempDir();
+        cacheRoot = tempDir.resolve("artifacts");
+        workDir = tempDir.resolve("deploy");
+        Files.createDirectories(workDir);
+    }
+
+    public void testPutAndRestore() throws Exception {
+        MLModelArtifactCache cache = new MLModelArtifactCache(cacheRoot, null, true, 1);
+        File modelZipFile = createFile("model.zip", 100);
+        cache.put(HASH_1, modelZipFile);
+        Files.delete(modelZipFile.toPath());
+
+        File target = workDir.resolve("restored").resolve("model.zip").toFile();
+        assertTrue(cache.restore(HASH_1, target));
+        assertEquals(100, target.length());
+        assertFalse(cache.restore(HASH_2, target));
+    }
+
+    public void testRestore_Disabled() throws Exception {
+        MLModelArtifactCache cache = new MLModelArtifactCache(cacheRoot, null, true, 1);
+        cache.put(HASH_1, createFile("model.zip", 100));
+        cache.setEnabled(false);
+        assertFalse(cache.restore(HASH_1, workDir.resolve("target.zip").toFile()));
+    }
+
+    public void testPut_InvalidHash() throws Exception {
+        MLModelArtifactCache cache = new MLModelArtifactCache(cacheRoot, null, true, 1);
+        cache.put("../model", createFile("model.zip", 100));
+        assertEquals(0, cache.getSizeInBytes());
+    }
+
+    public void testPut_EvictLeastRecentlyUsed() throws Exception {
+        MLModelArtifactCache cache = new MLModelArtifactCache(cacheRoot, null, true, 1);
+        cache.put(HASH_1, createFile("model1.zip", 600 * 1024));
+        cache.put(HASH_2, createFile("model2.zip", 600 * 1024));
+
+        assertFalse(cache.contains(HASH_1));
+        assertTrue(cache.contains(HASH_2));
+        assertEquals(600 * 1024, cache.getSizeInBytes());
+    }
+
+    public void testPut_TooBig() throws Exception {
+        MLModelArtifactCache cache = new MLModelArtifactCache(cacheRoot, null, true, 1);
+        cache.put(HASH_1, createFile("model.zip", 2 * 1024 * 1024));
+        assertFalse(cache.contains(HASH_1));
+    }
+
+    public void testReleaseDiskSpace() throws Exception {
+        CircuitBreaker diskCircuitBreaker = mock(CircuitBreaker.class);
+        when(diskCircuitBreaker.isOpen()).thenReturn(false);
+        MLModelArtifactCache cache = new MLModelArtifactCache(cacheRoot, diskCircuitBreaker, true, 1);
+        cache.put(HASH_1, createFile("model.zip", 100));
+        assertTrue(cache.contains(HASH_1));
+
+        when(diskCircuitBreaker.isOpen()).thenReturn(true);
+        cache.releaseDiskSpace();
+        assertFalse(cache.contains(HASH_1));
+        assertFalse(Files.exists(cacheRoot.resolve(HASH_1 + MLModelArtifactCache.ARTIFACT_FILE_EXTENSION)));
+
+        cache.put(HASH_2, createFile("model2.zip", 100));
+        assertFalse(cache.contains(HASH_2));
+    }
+
+    public void testLoadFromDisk() throws Exception {
+        MLModelArtifactCache cache = new MLModelArtifactCache(cacheRoot, null, true, 1);
+        cache.put(HASH_1, createFile("model.zip", 100));
+        Files.write(cacheRoot.resolve(HASH_2 + ".tmp"), new byte[10]);
+
+        MLModelArtifactCache reloaded = new MLModelArtifactCache(cacheRoot, null, true, 1);
+        assertTrue(reloaded.contains(HASH_1));
+        assertEquals(100, reloaded.getSizeInBytes());
+        assertFalse(Files.exists(cacheRoot.resolve(HASH_2 + ".tmp")));
+    }
+
+    public void testChunkOffsets() throws Exception {
+        MLModelArtifactCache cache = new MLModelArtifactCache(cacheRoot, null, true, 1);
+        cache.put(HASH_1, createFile("model1.zip", 100), new long[] { 0, 60, 100 });
+        cache.put(HASH_2, createFile("model2.zip", 100));
+        assertArrayEquals(new long[] { 0, 60, 100 }, cache.getChunkOffsets(HASH_1));
+        assertNull(cache.getChunkOffsets(HASH_2));
+
+        // offsets not matching the cached file are ignored
+        cache.put(HASH_2, createFile("model2.zip", 100), new long[] { 0, 60 });
+        assertNull(cache.getChunkOffsets(HASH_2));
+        cache.put(HASH_2, createFile("model2.zip", 100), new long[] { 0, 40, 100 });
+        assertArrayEquals(new long[] { 0, 40, 100 }, cache.getChunkOffsets(HASH_2));
+
+        MLModelArtifactCache reloaded = new MLModelArtifactCache(cacheRoot, null, true, 1);
+        assertArrayEquals(new long[] { 0, 60, 100 }, reloaded.getChunkOffsets(HASH_1));
+    }
+
+    public void testChunkOffsets_RemovedWithCachedFile() throws Exception {
+        MLModelArtifactCache cache = new MLModelArtifactCache(cacheRoot, null, true, 1);
+        cache.put(HASH_1, createFile("model1.zip", 600 * 1024), new long[] { 0, 600 * 1024 });
+        cache.put(HASH_2, createFile("model2.zip", 600 * 1024));
+        assertNull(cache.getChunkOffsets(HASH_1));
+        assertFalse(Files.exists(cacheRoot.resolve(HASH_1 + MLModelArtifactCache.CHUNK_OFFSETS_FILE_EXTENSION)));
+    }
+
+    public void testExtractedModelPath() throws Exception {
+        MLModelArtifactCache cache = new MLModelArtifactCache(cacheRoot, null, true, 1);
+        assertNull(cache.getExtractedModelPath(HASH_1));
+        cache.put(HASH_1, createFile("model1.zip", 600 * 1024));
+        Path extractedPath = cache.getExtractedModelPath(HASH_1);
+        assertEquals(cacheRoot.resolve(HASH_1), extractedPath);
+        Files.createDirectories(extractedPath);
+        Files.write(extractedPath.resolve("model.pt"), new byte[10]);
+
+        MLModelArtifactCache reloaded = new MLModelArtifactCache(cacheRoot, null, true, 1);
+        assertEquals(extractedPath, reloaded.getExtractedModelPath(HASH_1));
+        assertTrue(Files.exists(extractedPath.resolve("model.pt")));
+
+        reloaded.put(HASH_2, createFile("model2.zip", 600 * 1024));
+        assertNull(reloaded.getExtractedModelPath(HASH_1));
+        assertFalse(Files.exists(extractedPath));
+        try (Stream<Path> files = Files.list(cacheRoot)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    public void testUpdateExtractedModelSize() throws Exception {
+        MLModelArtifactCache cache = new MLModelArtifactCache(cacheRoot, null, true, 1);
+        cache.put(HASH_1, createFile("model.zip", 100));
+        Path extractedPath = cache.getExtractedModelPath(HASH_1);
+        Files.createDirectories(extractedPath);
+        Files.write(extractedPath.resolve("model.pt"), new byte[300]);
+        assertEquals(100, cache.getSizeInBytes());
+
+        cache.updateExtractedModelSize(HASH_1);
+        assertEquals(400, cache.getSizeInBytes());
+        cache.updateExtractedModelSize(HASH_2);
+        assertEquals(400, cache.getSizeInBytes());
+
+        MLModelArtifactCache reloaded = new MLModelArtifactCache(cacheRoot, null, true, 1);
+        assertEquals(400, reloaded.getSizeInBytes());
+    }
+
+    public void testUpdateExtractedModelSize_EvictLeastRecentlyUsed() throws Exception {
+        MLModelArtifactCache cache = new MLModelArtifactCache(cacheRoot, null, true, 1);
+        cache.put(HASH_1, createFile("model1.zip", 300 * 1024));
+        cache.put(HASH_2, createFile("model2.zip", 300 * 1024));
+        Path extractedPath = cache.getExtractedModelPath(HASH_2);
+        Files.createDirectories(extractedPath);
+        Files.write(extractedPath.resolve("model.pt"), new byte[500 * 1024]);
+
+        // the model files fit the size budget, but not with the extracted folder
+        cache.updateExtractedModelSize(HASH_2);
+        assertFalse(cache.contains(HASH_1));
+        assertTrue(cache.contains(HASH_2));
+        assertEquals(800 * 1024, cache.getSizeInBytes());
+    }
+
+    public void testLoadFromDisk_DeleteExtractedModelWithoutCachedFile() throws Exception {
+        Files.createDirectories(cacheRoot.resolve(HASH_1));
+        MLModelArtifactCache cache = new MLModelArtifactCache(cacheRoot, null, true, 1);
+        assertNull(cache.getExtractedModelPath(HASH_1));
+        assertFalse(Files.exists(cacheRoot.resolve(HASH_1)));
+    }
+
+    private File createFile(String name, int size) throws Exception {
+        Path path = workDir.resolve(name);
+        Files.write(path, new byte[size]);
+        return path.toFile();
+    }
+}
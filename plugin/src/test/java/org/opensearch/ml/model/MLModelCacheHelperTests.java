@@ -5,6 +5,7 @@
 
 package org.opensearch.ml.model;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
@@ -14,6 +15,7 @@ import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MONITORING
 import static org.opensearch.ml.utils.TestHelper.clusterSetting;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -25,17 +27,22 @@ import org.junit.rules.ExpectedException;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.TokenBucket;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.exception.MLLimitExceededException;
 import org.opensearch.ml.common.model.MLModelFormat;
 import org.opensearch.ml.common.model.MLModelState;
+import org.opensearch.ml.common.profile.MLPredictProfile;
+import org.opensearch.ml.common.profile.MLPredictStage;
 import org.opensearch.ml.engine.MLExecutable;
 import org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel;
 import org.opensearch.ml.profile.MLModelProfile;
+import org.opensearch.ml.profile.MLModelResourceStats;
 import org.opensearch.ml.profile.MLPredictRequestStats;
 import org.opensearch.test.OpenSearchTestCase;
 
@@ -362,6 +369,50 @@ public class MLModelCacheHelperTests extends OpenSearchTestCase {
         assertEquals(maxMonitoringRequests, predictStats.getCount().longValue());
     }
 
+    public void testGetModelProfile_PredictStageStats() {
+        cacheHelper.initModelState(modelId, MLModelState.DEPLOYING, FunctionName.TEXT_EMBEDDING, targetWorkerNodes, true);
+        cacheHelper.setModelState(modelId, MLModelState.DEPLOYED);
+        assertNull(cacheHelper.getModelProfile(modelId).getPredictStageStats());
+
+        Map<MLPredictStage, Long> stageNanos = new EnumMap<>(MLPredictStage.class);
+        stageNanos.put(MLPredictStage.QUEUE, 1_000_000L);
+        stageNanos.put(MLPredictStage.FORWARD, 5_000_000L);
+        cacheHelper.addPredictStageDurations(modelId, stageNanos);
+        stageNanos.put(MLPredictStage.FORWARD, 7_000_000L);
+        cacheHelper.addPredictStageDurations(modelId, stageNanos);
+
+        Map<String, MLPredictRequestStats> stageStats = cacheHelper.getModelProfile(modelId).getPredictStageStats();
+        assertEquals(List.of("queue", "forward"), new ArrayList<>(stageStats.keySet()));
+        assertEquals(2, stageStats.get("queue").getCount().longValue());
+        assertEquals(1, stageStats.get("queue").getMax(), 1e-5);
+        assertEquals(6, stageStats.get("forward").getAverage(), 1e-5);
+    }
+
+    public void testGetModelProfile_ResourceStats() {
+        cacheHelper.initModelState(modelId, MLModelState.DEPLOYING, FunctionName.TEXT_EMBEDDING, targetWorkerNodes, true);
+        cacheHelper.setModelState(modelId, MLModelState.DEPLOYED);
+        assertNull(cacheHelper.getModelProfile(modelId).getResourceStats());
+
+        cacheHelper.setNativeMemoryBytes(modelId, 1000L, false);
+        for (int i = 1; i <= 2; i++) {
+            MLPredictProfile profile = new MLPredictProfile();
+            profile.setCpuTimeInNanos(100 * i);
+            profile.setAllocatedBytes(10 * i);
+            profile.addRemoteBytes(1, 2);
+            cacheHelper.addPredictResourceUsage(modelId, profile);
+        }
+        // no-op for models which are not in the cache
+        cacheHelper.addPredictResourceUsage("unknown", new MLPredictProfile());
+
+        MLModelResourceStats resourceStats = cacheHelper.getModelProfile(modelId).getResourceStats();
+        assertEquals(2, resourceStats.getPredictCount());
+        assertEquals(300, resourceStats.getCpuTimeInNanos());
+        assertEquals(30, resourceStats.getAllocatedBytes());
+        assertEquals(2, resourceStats.getRemoteBytesSent());
+        assertEquals(4, resourceStats.getRemoteBytesReceived());
+        assertEquals(1000L, resourceStats.getNativeMemoryBytes().longValue());
+    }
+
     public void testGetModelProfile_Deploying() {
         cacheHelper.initModelState(modelId, MLModelState.DEPLOYING, FunctionName.TEXT_EMBEDDING, targetWorkerNodes, true);
         MLModelProfile modelProfile = cacheHelper.getModelProfile(modelId);
@@ -396,4 +447,136 @@ public class MLModelCacheHelperTests extends OpenSearchTestCase {
         assertEquals("mockId", cacheHelper.getModelInfo(modelId).getModelId());
     }
 
+    public void testRemoveModel_CloseAfterInFlightRequests() {
+        cacheHelper.initModelState(modelId, MLModelState.DEPLOYED, FunctionName.TEXT_EMBEDDING, targetWorkerNodes, true);
+        cacheHelper.setPredictor(modelId, predictor);
+        Releasable request1 = cacheHelper.acquireModel(modelId);
+        Releasable request2 = cacheHelper.acquireModel(modelId);
+        assertNotNull(request1);
+        assertNotNull(request2);
+
+        cacheHelper.removeModel(modelId);
+        assertNull(cacheHelper.acquireModel(modelId));
+        verify(predictor, times(0)).close();
+        request1.close();
+        verify(predictor, times(0)).close();
+        request2.close();
+        verify(predictor, times(1)).close();
+    }
+
+    public void testRemoveModel_NoInFlightRequest() {
+        cacheHelper.initModelState(modelId, MLModelState.DEPLOYED, FunctionName.TEXT_EMBEDDING, targetWorkerNodes, true);
+        cacheHelper.setPredictor(modelId, predictor);
+        cacheHelper.acquireModel(modelId).close();
+        cacheHelper.removeModel(modelId);
+        verify(predictor, times(1)).close();
+    }
+
+    public void testEvictIdleModels() {
+        cacheHelper.initModelState(modelId, MLModelState.DEPLOYED, FunctionName.TEXT_EMBEDDING, targetWorkerNodes, true);
+        cacheHelper.setPredictor(modelId, predictor);
+        cacheHelper.setMemSizeEstimation(modelId, MLModelFormat.ONNX, 1000L);
+        long now = System.currentTimeMillis();
+
+        assertTrue(cacheHelper.evictIdleModels(now + 60_000, 0).isEmpty());
+        assertTrue(cacheHelper.evictIdleModels(now - 60_000, 60_000).isEmpty());
+        assertEquals(List.of(modelId), cacheHelper.evictIdleModels(now + 60_000, 60_000));
+        verify(predictor, times(1)).close();
+        assertTrue(cacheHelper.isModelEvicted(modelId));
+        assertTrue(cacheHelper.isModelDeployed(modelId));
+        assertNull(cacheHelper.getPredictor(modelId));
+        assertNull(cacheHelper.acquireModel(modelId));
+        assertArrayEquals(new String[] { modelId }, cacheHelper.getDeployedModels());
+        assertEquals(0, cacheHelper.getLocalDeployedModels().length);
+        assertEquals(0, cacheHelper.getDeployedModelsMemEstCPU());
+        assertTrue(cacheHelper.getModelProfile(modelId).getEvicted());
+    }
+
+    public void testEvictIdleModels_ModelIdleTtl() {
+        cacheHelper.initModelState(modelId, MLModelState.DEPLOYED, FunctionName.TEXT_EMBEDDING, targetWorkerNodes, true);
+        cacheHelper.setPredictor(modelId, predictor);
+        long now = System.currentTimeMillis();
+
+        cacheHelper.setIdleTtlInMinutes(modelId, 0);
+        assertTrue(cacheHelper.evictIdleModels(now + 600_000, 60_000).isEmpty());
+        cacheHelper.setIdleTtlInMinutes(modelId, 5);
+        assertTrue(cacheHelper.evictIdleModels(now + 60_000, 0).isEmpty());
+        assertEquals(List.of(modelId), cacheHelper.evictIdleModels(now + 600_000, 0));
+    }
+
+    public void testEvictIdleModels_SkipRemoteAndInFlightModels() {
+        cacheHelper.initModelState(modelId, MLModelState.DEPLOYED, FunctionName.REMOTE, targetWorkerNodes, true);
+        cacheHelper.setPredictor(modelId, predictor);
+        cacheHelper.initModelState("model_id2", MLModelState.DEPLOYED, FunctionName.TEXT_EMBEDDING, targetWorkerNodes, true);
+        cacheHelper.setPredictor("model_id2", predictor);
+        Releasable request = cacheHelper.acquireModel("model_id2");
+        long now = System.currentTimeMillis();
+
+        assertTrue(cacheHelper.evictIdleModels(now + 600_000, 60_000).isEmpty());
+        request.close();
+        assertEquals(List.of("model_id2"), cacheHelper.evictIdleModels(now + 600_000, 60_000));
+        verify(predictor, times(1)).close();
+    }
+
+    public void testLazyDeploy() {
+        cacheHelper.initModelState(modelId, MLModelState.DEPLOYED, FunctionName.TEXT_EMBEDDING, targetWorkerNodes, true);
+        cacheHelper.setPredictor(modelId, predictor);
+        cacheHelper.evictIdleModels(System.currentTimeMillis() + 600_000, 60_000);
+        ActionListener<String> listener1 = mock(ActionListener.class);
+        ActionListener<String> listener2 = mock(ActionListener.class);
+
+        assertTrue(cacheHelper.addLazyDeployListener(modelId, listener1, 10));
+        assertFalse(cacheHelper.addLazyDeployListener(modelId, listener2, 10));
+        verify(listener1, times(0)).onResponse(any());
+
+        TextEmbeddingDenseModel newPredictor = spy(new TextEmbeddingDenseModel());
+        cacheHelper.completeLazyDeploy(modelId, newPredictor, null);
+        verify(listener1).onResponse("successful");
+        verify(listener2).onResponse("successful");
+        assertFalse(cacheHelper.isModelEvicted(modelId));
+        assertEquals(newPredictor, cacheHelper.getPredictor(modelId));
+        verify(newPredictor, times(0)).close();
+
+        ActionListener<String> listener3 = mock(ActionListener.class);
+        assertFalse(cacheHelper.addLazyDeployListener(modelId, listener3, 10));
+        verify(listener3).onResponse("successful");
+    }
+
+    public void testLazyDeploy_Failure() {
+        cacheHelper.initModelState(modelId, MLModelState.DEPLOYED, FunctionName.TEXT_EMBEDDING, targetWorkerNodes, true);
+        cacheHelper.setPredictor(modelId, predictor);
+        cacheHelper.evictIdleModels(System.currentTimeMillis() + 600_000, 60_000);
+        ActionListener<String> listener1 = mock(ActionListener.class);
+        ActionListener<String> listener2 = mock(ActionListener.class);
+
+        assertTrue(cacheHelper.addLazyDeployListener(modelId, listener1, 1));
+        assertFalse(cacheHelper.addLazyDeployListener(modelId, listener2, 1));
+        verify(listener2).onFailure(any(MLLimitExceededException.class));
+
+        RuntimeException e = new RuntimeException("test");
+        cacheHelper.completeLazyDeploy(modelId, null, e);
+        verify(listener1).onFailure(e);
+        assertTrue(cacheHelper.isModelEvicted(modelId));
+        assertTrue(cacheHelper.addLazyDeployListener(modelId, listener2, 1));
+    }
+
+    public void testLazyDeploy_ModelUndeployed() {
+        cacheHelper.initModelState(modelId, MLModelState.DEPLOYED, FunctionName.TEXT_EMBEDDING, targetWorkerNodes, true);
+        cacheHelper.setPredictor(modelId, predictor);
+        cacheHelper.evictIdleModels(System.currentTimeMillis() + 600_000, 60_000);
+        ActionListener<String> listener = mock(ActionListener.class);
+        assertTrue(cacheHelper.addLazyDeployListener(modelId, listener, 10));
+
+        cacheHelper.removeModel(modelId);
+        verify(listener).onFailure(any(IllegalArgumentException.class));
+        TextEmbeddingDenseModel newPredictor = spy(new TextEmbeddingDenseModel());
+        cacheHelper.completeLazyDeploy(modelId, newPredictor, null);
+        verify(newPredictor, times(1)).close();
+    }
+
+    public void testServingModelId() {
+        assertNull(cacheHelper.getServingModelId("model_group_id1"));
+        cacheHelper.setServingModelId("model_group_id1", modelId);
+        assertEquals(modelId, cacheHelper.getServingModelId("model_group_id1"));
+    }
 }
@@ -0,0 +1,95 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.common.exception.MLException;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class MLModelChunkIndexerTests extends OpenSearchTestCase {
+
+    public void testAccept_ProgressOfLeadingChunks() throws Exception {
+        List<ActionListener<Void>> pending = new ArrayList<>();
+        List<long[]> progress = new ArrayList<>();
+        MLModelChunkIndexer indexer = new MLModelChunkIndexer(
+            "test_model",
+            3,
+            (chunkNumber, content, listener) -> pending.add(listener),
+            (indexedChunks, indexedBytes) -> progress.add(new long[] { indexedChunks, indexedBytes })
+        );
+        indexer.accept(0, new byte[10]);
+        indexer.accept(1, new byte[10]);
+        indexer.accept(2, new byte[5]);
+
+        pending.get(1).onResponse(null);
+        assertTrue(progress.isEmpty());
+        pending.get(0).onResponse(null);
+        assertEquals(1, progress.size());
+        assertArrayEquals(new long[] { 2, 20 }, progress.get(0));
+
+        AtomicBoolean finished = new AtomicBoolean();
+        indexer.finish(ActionListener.wrap(r -> finished.set(true), e -> fail(e.getMessage())));
+        assertFalse(finished.get());
+        pending.get(2).onResponse(null);
+        assertTrue(finished.get());
+        assertArrayEquals(new long[] { 3, 25 }, progress.get(1));
+    }
+
+    public void testAccept_BlockWhileConcurrencyReached() throws Exception {
+        List<ActionListener<Void>> pending = new ArrayList<>();
+        MLModelChunkIndexer indexer = new MLModelChunkIndexer("test_model", 1, (chunkNumber, content, listener) -> {
+            synchronized (pending) {
+                pending.add(listener);
+            }
+        }, null);
+        indexer.accept(0, new byte[10]);
+
+        CountDownLatch accepted = new CountDownLatch(1);
+        Thread thread = new Thread(() -> {
+            try {
+                indexer.accept(1, new byte[10]);
+                accepted.countDown();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        thread.start();
+        assertFalse(accepted.await(100, TimeUnit.MILLISECONDS));
+        synchronized (pending) {
+            pending.get(0).onResponse(null);
+        }
+        assertTrue(accepted.await(10, TimeUnit.SECONDS));
+        thread.join();
+    }
+
+    public void testAccept_FailAfterChunkFailure() throws Exception {
+        List<ActionListener<Void>> pending = new ArrayList<>();
+        MLModelChunkIndexer indexer = new MLModelChunkIndexer(
+            "test_model",
+            2,
+            (chunkNumber, content, listener) -> pending.add(listener),
+            null
+        );
+        indexer.accept(0, new byte[10]);
+        indexer.accept(1, new byte[10]);
+        pending.get(0).onFailure(new RuntimeException("index failure"));
+
+        expectThrows(MLException.class, () -> indexer.accept(2, new byte[10]));
+
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        indexer.finish(ActionListener.wrap(r -> fail("should fail"), failure::set));
+        assertNull(failure.get());
+        pending.get(1).onResponse(null);
+        assertEquals("index failure", failure.get().getMessage());
+    }
+}
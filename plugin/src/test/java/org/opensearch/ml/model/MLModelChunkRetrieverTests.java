@@ -0,0 +1,292 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.common.exception.MLResourceNotFoundException;
+import org.opensearch.test.OpenSearchTestCase;
+
+import com.google.common.hash.HashCode;
+
+public class MLModelChunkRetrieverTests extends OpenSearchTestCase {
+
+    private final byte[][] chunks = new byte[][] { "first-chunk".getBytes(), "2nd".getBytes(), "the-last-chunk".getBytes() };
+
+    public void testRetrieve_ChunksCompletedOutOfOrder() throws Exception {
+        File modelZipFile = createTempDir().resolve("model").resolve("model.zip").toFile();
+        List<Integer> requested = new ArrayList<>();
+        List<ActionListener<byte[]>> pending = new ArrayList<>();
+        AtomicReference<File> result = new AtomicReference<>();
+
+        MLModelChunkRetriever retriever = new MLModelChunkRetriever(
+            "test_model",
+            chunks.length,
+            chunks.length,
+            modelZipFile,
+            (long) totalLength(),
+            hash(),
+            (chunkNumber, listener) -> {
+                requested.add(chunkNumber);
+                pending.add(listener);
+            },
+            ActionListener.wrap(result::set, e -> fail(e.getMessage()))
+        );
+        retriever.start();
+        assertEquals(List.of(0, 1, 2), requested);
+
+        pending.get(2).onResponse(chunks[2]);
+        pending.get(0).onResponse(chunks[0]);
+        assertNull(result.get());
+        pending.get(1).onResponse(chunks[1]);
+
+        assertEquals(modelZipFile, result.get());
+        assertArrayEquals(concat(), Files.readAllBytes(modelZipFile.toPath()));
+        retriever.release();
+    }
+
+    public void testRetrieve_BoundedConcurrency() {
+        File modelZipFile = createTempDir().resolve("model.zip").toFile();
+        List<Integer> requested = new ArrayList<>();
+        List<ActionListener<byte[]>> pending = new ArrayList<>();
+
+        MLModelChunkRetriever retriever = new MLModelChunkRetriever(
+            "test_model",
+            chunks.length,
+            1,
+            modelZipFile,
+            null,
+            null,
+            (chunkNumber, listener) -> {
+                requested.add(chunkNumber);
+                pending.add(listener);
+            },
+            ActionListener.wrap(file -> {}, e -> fail(e.getMessage()))
+        );
+        retriever.start();
+        assertEquals(Collections.singletonList(0), requested);
+        pending.get(0).onResponse(chunks[0]);
+        assertEquals(List.of(0, 1), requested);
+        pending.get(1).onResponse(chunks[1]);
+        pending.get(2).onResponse(chunks[2]);
+        assertEquals(List.of(0, 1, 2), requested);
+        retriever.release();
+    }
+
+    public void testRetrieve_ReplaceLinkedModelFile() throws Exception {
+        Path dir = createTempDir();
+        Path cachedFile = dir.resolve("cached.zip");
+        Files.write(cachedFile, "cached-content".getBytes());
+        File modelZipFile = dir.resolve("model.zip").toFile();
+        Files.createLink(modelZipFile.toPath(), cachedFile);
+        AtomicReference<File> result = new AtomicReference<>();
+
+        MLModelChunkRetriever retriever = new MLModelChunkRetriever(
+            "test_model",
+            chunks.length,
+            2,
+            modelZipFile,
+            (long) totalLength(),
+            hash(),
+            (chunkNumber, listener) -> listener.onResponse(chunks[chunkNumber]),
+            ActionListener.wrap(result::set, e -> fail(e.getMessage()))
+        );
+        retriever.start();
+
+        assertEquals(modelZipFile, result.get());
+        assertArrayEquals(concat(), Files.readAllBytes(modelZipFile.toPath()));
+        // the file the model file was linked to is untouched
+        assertArrayEquals("cached-content".getBytes(), Files.readAllBytes(cachedFile));
+        assertFalse(Files.exists(dir.resolve("model.zip.tmp")));
+        retriever.release();
+    }
+
+    public void testRetrieve_HashMismatch_KeepModelFile() throws Exception {
+        Path dir = createTempDir();
+        File modelZipFile = dir.resolve("model.zip").toFile();
+        Files.write(modelZipFile.toPath(), "previous-content".getBytes());
+        AtomicReference<Exception> failure = new AtomicReference<>();
+
+        MLModelChunkRetriever retriever = new MLModelChunkRetriever(
+            "test_model",
+            chunks.length,
+            2,
+            modelZipFile,
+            null,
+            "wrong_hash",
+            (chunkNumber, listener) -> listener.onResponse(chunks[chunkNumber]),
+            ActionListener.wrap(file -> fail("should fail"), failure::set)
+        );
+        retriever.start();
+
+        assertTrue(failure.get() instanceof IllegalArgumentException);
+        assertArrayEquals("previous-content".getBytes(), Files.readAllBytes(modelZipFile.toPath()));
+        assertFalse(Files.exists(dir.resolve("model.zip.tmp")));
+    }
+
+    public void testRetrieve_HashMismatch() {
+        File modelZipFile = createTempDir().resolve("model.zip").toFile();
+        AtomicReference<Exception> failure = new AtomicReference<>();
+
+        MLModelChunkRetriever retriever = new MLModelChunkRetriever(
+            "test_model",
+            chunks.length,
+            2,
+            modelZipFile,
+            null,
+            "wrong_hash",
+            (chunkNumber, listener) -> listener.onResponse(chunks[chunkNumber]),
+            ActionListener.wrap(file -> fail("should fail"), failure::set)
+        );
+        retriever.start();
+        assertTrue(failure.get() instanceof IllegalArgumentException);
+        assertEquals("model content changed", failure.get().getMessage());
+    }
+
+    public void testRetrieve_ChunkFailure() {
+        File modelZipFile = createTempDir().resolve("model.zip").toFile();
+        AtomicInteger failures = new AtomicInteger();
+        AtomicReference<Exception> failure = new AtomicReference<>();
+
+        MLModelChunkRetriever retriever = new MLModelChunkRetriever(
+            "test_model",
+            chunks.length,
+            chunks.length,
+            modelZipFile,
+            null,
+            null,
+            (chunkNumber, listener) -> listener.onFailure(new RuntimeException("not found")),
+            ActionListener.wrap(file -> fail("should fail"), e -> {
+                failures.incrementAndGet();
+                failure.set(e);
+            })
+        );
+        retriever.start();
+        assertEquals(1, failures.get());
+        assertTrue(failure.get() instanceof MLResourceNotFoundException);
+        assertEquals("Fail to find model chunk 0 of model test_model", failure.get().getMessage());
+    }
+
+    public void testReadChunk_ForPeer() throws Exception {
+        File modelZipFile = createTempDir().resolve("model.zip").toFile();
+        List<ActionListener<byte[]>> pending = new ArrayList<>();
+        MLModelChunkRetriever retriever = new MLModelChunkRetriever(
+            "test_model",
+            chunks.length,
+            1,
+            modelZipFile,
+            null,
+            hash(),
+            (chunkNumber, listener) -> pending.add(listener),
+            ActionListener.wrap(file -> {}, e -> fail(e.getMessage()))
+        );
+        retriever.start();
+
+        AtomicReference<byte[]> waitingChunk = new AtomicReference<>();
+        retriever.readChunk(1, ActionListener.wrap(waitingChunk::set, e -> fail(e.getMessage())));
+        pending.get(0).onResponse(chunks[0]);
+        assertNull(waitingChunk.get());
+        pending.get(1).onResponse(chunks[1]);
+        assertArrayEquals(chunks[1], waitingChunk.get());
+
+        pending.get(2).onResponse(chunks[2]);
+        // chunks stay readable after the retrieval completed, even if the model file is deleted
+        Files.delete(modelZipFile.toPath());
+        AtomicReference<byte[]> writtenChunk = new AtomicReference<>();
+        retriever.readChunk(2, ActionListener.wrap(writtenChunk::set, e -> fail(e.getMessage())));
+        assertArrayEquals(chunks[2], writtenChunk.get());
+
+        retriever.release();
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        retriever.readChunk(0, ActionListener.wrap(chunk -> fail("should fail"), failure::set));
+        assertTrue(failure.get() instanceof MLResourceNotFoundException);
+    }
+
+    public void testReadChunk_FromModelFile() throws Exception {
+        File modelZipFile = createTempDir().resolve("model.zip").toFile();
+        MLModelChunkRetriever retriever = new MLModelChunkRetriever(
+            "test_model",
+            chunks.length,
+            2,
+            modelZipFile,
+            null,
+            hash(),
+            (chunkNumber, listener) -> listener.onResponse(chunks[chunkNumber]),
+            ActionListener.wrap(file -> {}, e -> fail(e.getMessage()))
+        );
+        assertNull(retriever.getChunkOffsets());
+        retriever.start();
+        long[] chunkOffsets = retriever.getChunkOffsets();
+        assertArrayEquals(new long[] { 0, 11, 14, totalLength() }, chunkOffsets);
+        retriever.release();
+
+        // a restored model file serves the same chunks as its retrieval
+        MLModelChunkRetriever restored = MLModelChunkRetriever.fromModelFile("test_model", modelZipFile, hash(), chunkOffsets);
+        for (int i = 0; i < chunks.length; i++) {
+            AtomicReference<byte[]> chunk = new AtomicReference<>();
+            restored.readChunk(i, ActionListener.wrap(chunk::set, e -> fail(e.getMessage())));
+            assertArrayEquals(chunks[i], chunk.get());
+        }
+        restored.release();
+    }
+
+    public void testReadChunk_FailWaitersOnFailure() {
+        File modelZipFile = createTempDir().resolve("model.zip").toFile();
+        List<ActionListener<byte[]>> pending = new ArrayList<>();
+        MLModelChunkRetriever retriever = new MLModelChunkRetriever(
+            "test_model",
+            chunks.length,
+            1,
+            modelZipFile,
+            null,
+            null,
+            (chunkNumber, listener) -> pending.add(listener),
+            ActionListener.wrap(file -> fail("should fail"), e -> {})
+        );
+        retriever.start();
+
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        retriever.readChunk(1, ActionListener.wrap(chunk -> fail("should fail"), failure::set));
+        assertNull(failure.get());
+        pending.get(0).onFailure(new RuntimeException("not found"));
+        assertTrue(failure.get() instanceof MLResourceNotFoundException);
+
+        AtomicReference<Exception> invalidChunk = new AtomicReference<>();
+        retriever.readChunk(chunks.length, ActionListener.wrap(chunk -> fail("should fail"), invalidChunk::set));
+        assertTrue(invalidChunk.get() instanceof IllegalArgumentException);
+    }
+
+    private int totalLength() {
+        int length = 0;
+        for (byte[] chunk : chunks) {
+            length += chunk.length;
+        }
+        return length;
+    }
+
+    private byte[] concat() {
+        byte[] bytes = new byte[totalLength()];
+        int offset = 0;
+        for (byte[] chunk : chunks) {
+            System.arraycopy(chunk, 0, bytes, offset, chunk.length);
+            offset += chunk.length;
+        }
+        return bytes;
+    }
+
+    private String hash() throws Exception {
+        return HashCode.fromBytes(MessageDigest.getInstance("SHA-256").digest(concat())).toString();
+    }
+}
@@ -14,6 +14,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -22,16 +23,28 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.ml.common.MLTask.FUNCTION_NAME_FIELD;
-import static org.opensearch.ml.engine.ModelHelper.CHUNK_FILES;
 import static org.opensearch.ml.engine.ModelHelper.MODEL_FILE_HASH;
 import static org.opensearch.ml.engine.ModelHelper.MODEL_SIZE_IN_BYTES;
+import static org.opensearch.ml.engine.ModelHelper.TOTAL_CHUNKS;
 import static org.opensearch.ml.model.MLModelManager.TIMEOUT_IN_MILLIS;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.DEPLOY_THREAD_POOL;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.REGISTER_THREAD_POOL;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_CONNECTOR_PRIVATE_IP_ENABLED;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_DEPLOY_CHUNK_FETCH_CONCURRENCY;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_DEPLOY_NATIVE_MEMORY_ADMISSION_PERCENT;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_DEPLOY_PEER_CHUNK_DISTRIBUTION_ENABLED;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_DEPLOY_PEER_FAN_OUT;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_LAZY_DEPLOY_MAX_QUEUED_REQUESTS;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_MODELS_PER_NODE;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_MODEL_STATS_PER_NODE;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_REGISTER_MODEL_TASKS_PER_NODE;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_ARTIFACT_CACHE_ENABLED;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_ARTIFACT_CACHE_MAX_SIZE_IN_MB;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_IDLE_TTL_IN_MINUTES;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MONITORING_REQUEST_COUNT;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_REGISTER_CHUNK_INDEX_CONCURRENCY;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_REGISTER_MAX_MODEL_SIZE_IN_MB;
 import static org.opensearch.ml.utils.MockHelper.mock_MLIndicesHandler_initModelIndex;
 import static org.opensearch.ml.utils.MockHelper.mock_MLIndicesHandler_initModelIndex_failure;
 import static org.opensearch.ml.utils.MockHelper.mock_client_ThreadContext;
@@ -50,9 +63,10 @@ import static org.opensearch.ml.utils.TestHelper.copyFile;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.security.PrivilegedActionException;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collections;
 import java.util.HashMap;
@@ -81,6 +95,7 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.index.reindex.DeleteByQueryAction;
 import org.opensearch.ml.breaker.MLCircuitBreakerService;
 import org.opensearch.ml.breaker.ThresholdCircuitBreaker;
 import org.opensearch.ml.cluster.DiscoveryNodeHelper;
@@ -96,22 +111,27 @@ import org.opensearch.ml.common.model.MLModelConfig;
 import org.opensearch.ml.common.model.MLModelFormat;
 import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.common.model.TextEmbeddingModelConfig;
+import org.opensearch.ml.common.telemetry.MLTracer;
 import org.opensearch.ml.common.transport.deploy.MLDeployModelAction;
 import org.opensearch.ml.common.transport.register.MLRegisterModelInput;
 import org.opensearch.ml.common.transport.register.MLRegisterModelResponse;
 import org.opensearch.ml.common.transport.upload_chunk.MLRegisterModelMetaInput;
 import org.opensearch.ml.engine.MLEngine;
 import org.opensearch.ml.engine.ModelHelper;
+import org.opensearch.ml.engine.Predictable;
 import org.opensearch.ml.engine.encryptor.Encryptor;
 import org.opensearch.ml.engine.encryptor.EncryptorImpl;
 import org.opensearch.ml.engine.indices.MLIndicesHandler;
+import org.opensearch.ml.engine.utils.ModelChunkSplitter;
 import org.opensearch.ml.stats.ActionName;
 import org.opensearch.ml.stats.MLActionLevelStat;
 import org.opensearch.ml.stats.MLNodeLevelStat;
 import org.opensearch.ml.stats.MLStat;
 import org.opensearch.ml.stats.MLStats;
+import org.opensearch.ml.stats.metrics.MLMetricsRegistry;
 import org.opensearch.ml.stats.suppliers.CounterSupplier;
 import org.opensearch.ml.task.MLTaskManager;
+import org.opensearch.ml.utils.TestHelper;
 import org.opensearch.script.ScriptService;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.threadpool.ThreadPool;
@@ -191,9 +211,22 @@ public class MLModelManagerTests extends OpenSearchTestCase {
             ML_COMMONS_MAX_MODELS_PER_NODE,
             ML_COMMONS_MAX_REGISTER_MODEL_TASKS_PER_NODE,
             ML_COMMONS_MONITORING_REQUEST_COUNT,
-            ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE
+            ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE,
+            ML_COMMONS_DEPLOY_CHUNK_FETCH_CONCURRENCY,
+            ML_COMMONS_MODEL_ARTIFACT_CACHE_ENABLED,
+            ML_COMMONS_MODEL_ARTIFACT_CACHE_MAX_SIZE_IN_MB,
+            ML_COMMONS_DEPLOY_PEER_CHUNK_DISTRIBUTION_ENABLED,
+            ML_COMMONS_DEPLOY_PEER_FAN_OUT,
+            ML_COMMONS_REGISTER_CHUNK_INDEX_CONCURRENCY,
+            ML_COMMONS_REGISTER_MAX_MODEL_SIZE_IN_MB,
+            ML_COMMONS_DEPLOY_NATIVE_MEMORY_ADMISSION_PERCENT,
+            ML_COMMONS_MODEL_IDLE_TTL_IN_MINUTES,
+            ML_COMMONS_LAZY_DEPLOY_MAX_QUEUED_REQUESTS,
+            ML_COMMONS_CONNECTOR_PRIVATE_IP_ENABLED,
+            ML_COMMONS_MAX_MODEL_STATS_PER_NODE
         );
         clusterService = spy(new ClusterService(settings, clusterSettings, null));
+        doReturn(TestHelper.setupTestClusterState()).when(clusterService).state();
         xContentRegistry = NamedXContentRegistry.EMPTY;
 
         modelName = "model_name1";
@@ -259,12 +292,14 @@ public class MLModelManagerTests extends OpenSearchTestCase {
                 modelHelper,
                 settings,
                 mlStats,
+                new MLMetricsRegistry(),
                 mlCircuitBreakerService,
                 mlIndicesHandler,
                 mlTaskManager,
                 modelCacheHelper,
                 mlEngine,
-                nodeHelper
+                nodeHelper,
+                new MLTracer()
             )
         );
 
@@ -334,7 +369,7 @@ public class MLModelManagerTests extends OpenSearchTestCase {
 
         modelManager.registerMLModel(registerModelInput, mlTask);
         verify(mlTaskManager).updateMLTask(anyString(), anyMap(), anyLong(), anyBoolean());
-        verify(modelHelper, never()).downloadAndSplit(any(), any(), any(), any(), any(), any(), any(), any());
+        verify(modelHelper, never()).downloadAndSplit(any(), any(), any(), any(), any(), any(), any(), anyLong(), any(), any());
         verify(client, never()).index(any(), any());
     }
 
@@ -349,7 +384,7 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         modelManager.registerMLModel(registerModelInput, mlTask);
         verify(mlIndicesHandler).initModelIndexIfAbsent(any());
         verify(client).index(any(), any());
-        verify(modelHelper, never()).downloadAndSplit(any(), any(), any(), any(), any(), any(), any(), any());
+        verify(modelHelper, never()).downloadAndSplit(any(), any(), any(), any(), any(), any(), any(), anyLong(), any(), any());
     }
 
     @Ignore
@@ -365,7 +400,7 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         modelManager.registerMLModel(registerModelInput, mlTask);
         verify(mlIndicesHandler).initModelIndexIfAbsent(any());
         verify(client, times(2)).index(any(), any());
-        verify(modelHelper).downloadAndSplit(any(), any(), any(), any(), any(), any(), any(), any());
+        verify(modelHelper).downloadAndSplit(any(), any(), any(), any(), any(), any(), any(), anyLong(), any(), any());
     }
 
     public void testRegisterMLModel_DownloadModelFileFailure() {
@@ -379,7 +414,8 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         modelManager.registerMLModel(registerModelInput, mlTask);
         verify(mlIndicesHandler).initModelIndexIfAbsent(any());
         verify(client).index(any(), any());
-        verify(modelHelper).downloadAndSplit(eq(modelFormat), eq(modelId), eq(modelName), eq(version), eq(url), any(), any(), any());
+        verify(modelHelper)
+            .downloadAndSplit(eq(modelFormat), eq(modelId), eq(modelName), eq(version), eq(url), any(), any(), anyLong(), any(), any());
     }
 
     public void testRegisterMLModel_RegisterPreBuildModel() throws PrivilegedActionException, IOException {
@@ -401,16 +437,7 @@ public class MLModelManagerTests extends OpenSearchTestCase {
             indexResponseActionListener.onResponse(indexResponse);
             return null;
         }).when(client).index(any(), any());
-        String[] newChunks = createTempChunkFiles();
-        doAnswer(invocation -> {
-            ActionListener<Map<String, Object>> listener = invocation.getArgument(7);
-            Map<String, Object> result = new HashMap<>();
-            result.put(MODEL_SIZE_IN_BYTES, modelContentSize);
-            result.put(CHUNK_FILES, Arrays.asList(newChunks[0], newChunks[1]));
-            result.put(MODEL_FILE_HASH, randomAlphaOfLength(10));
-            listener.onResponse(result);
-            return null;
-        }).when(modelHelper).downloadAndSplit(any(), any(), any(), any(), any(), any(), any(), any());
+        setUpMock_DownloadModelFile(createTempChunkFiles(), modelContentSize);
         MLTask pretrainedTask = MLTask
             .builder()
             .taskId("pretrained")
@@ -485,7 +512,8 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         modelManager.registerMLModel(registerModelInput, mlTask);
         verify(mlIndicesHandler).initModelIndexIfAbsent(any());
         verify(client, times(3)).index(any(), any());
-        verify(modelHelper).downloadAndSplit(eq(modelFormat), eq(modelId), eq(modelName), eq(version), eq(url), any(), any(), any());
+        verify(modelHelper)
+            .downloadAndSplit(eq(modelFormat), eq(modelId), eq(modelName), eq(version), eq(url), any(), any(), anyLong(), any(), any());
     }
 
     @Ignore
@@ -503,7 +531,8 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         modelManager.registerMLModel(mlRegisterModelInput, mlTask);
         verify(mlIndicesHandler).initModelIndexIfAbsent(any());
         verify(client, times(3)).index(any(), any());
-        verify(modelHelper).downloadAndSplit(eq(modelFormat), eq(modelId), eq(modelName), eq(version), eq(url), any(), any(), any());
+        verify(modelHelper)
+            .downloadAndSplit(eq(modelFormat), eq(modelId), eq(modelName), eq(version), eq(url), any(), any(), anyLong(), any(), any());
         verify(client).execute(eq(MLDeployModelAction.INSTANCE), any(), any());
     }
 
@@ -522,7 +551,8 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         modelManager.registerMLModel(mlRegisterModelInput, mlTask);
         verify(mlIndicesHandler).initModelIndexIfAbsent(any());
         verify(client, times(3)).index(any(), any());
-        verify(modelHelper).downloadAndSplit(eq(modelFormat), eq(modelId), eq(modelName), eq(version), eq(url), any(), any(), any());
+        verify(modelHelper)
+            .downloadAndSplit(eq(modelFormat), eq(modelId), eq(modelName), eq(version), eq(url), any(), any(), anyLong(), any(), any());
         verify(client, never()).execute(eq(MLDeployModelAction.INSTANCE), any(), any());
     }
 
@@ -532,13 +562,22 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         when(threadPool.executor(REGISTER_THREAD_POOL)).thenReturn(taskExecutorService);
         mock_MLIndicesHandler_initModelIndex(mlIndicesHandler, true);
         mock_client_index(client, modelId);
+        Settings maxModelSize = Settings.builder().put(ML_COMMONS_REGISTER_MAX_MODEL_SIZE_IN_MB.getKey(), 1).build();
+        clusterService.getClusterSettings().applySettings(maxModelSize);
         String[] newChunks = createTempChunkFiles();
-        setUpMock_DownloadModelFile(newChunks, 10 * 1024 * 1024 * 1024L);
+        setUpMock_DownloadModelFileExceedLimit(newChunks);
+        registerModelInput.setDoesVersionCreateModelGroup(true);
 
         modelManager.registerMLModel(registerModelInput, mlTask);
         verify(mlIndicesHandler).initModelIndexIfAbsent(any());
-        verify(client, times(1)).index(any(), any());
-        verify(modelHelper).downloadAndSplit(eq(modelFormat), eq(modelId), eq(modelName), eq(version), eq(url), any(), any(), any());
+        verify(modelHelper)
+            .downloadAndSplit(eq(modelFormat), eq(modelId), eq(modelName), eq(version), eq(url), any(), any(), eq(1048576L), any(), any());
+        // model meta doc and the chunk indexed before the limit was exceeded
+        verify(client, times(2)).index(any(), any());
+        // the model, its model group and its indexed chunks are deleted, the model isn't marked as registered
+        verify(client, times(2)).delete(any());
+        verify(client).execute(eq(DeleteByQueryAction.INSTANCE), any());
+        verify(client, never()).update(any(), any());
     }
 
     public void testRegisterModel_ClientFailedToGetThreadPool() {
@@ -775,6 +814,127 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         assertEquals("successful", response.getValue());
     }
 
+    public void testDeployModel_ModelAlreadyDeployed_Evicted() {
+        when(modelCacheHelper.isModelDeployed(modelId)).thenReturn(true);
+        when(modelCacheHelper.isModelEvicted(modelId)).thenReturn(true);
+        doNothing().when(modelManager).redeployEvictedModel(eq(modelId), any());
+        ActionListener<String> listener = mock(ActionListener.class);
+        modelManager.deployModel(modelId, modelContentHashValue, FunctionName.TEXT_EMBEDDING, true, mlTask, listener);
+        verify(modelManager).redeployEvictedModel(modelId, listener);
+        verify(listener, never()).onResponse(any());
+        verify(modelManager, never()).getModel(any(), any());
+    }
+
+    public void testRedeployEvictedModel_QueuedListeners() {
+        MLModelCacheHelper cacheHelper = new MLModelCacheHelper(clusterService, settings);
+        MLModelManager manager = modelManagerWithEvictedModel(cacheHelper);
+        RuntimeException exception = new RuntimeException("get model failure");
+        List<ActionListener<MLModel>> getModelListeners = new ArrayList<>();
+        doAnswer(invocation -> {
+            getModelListeners.add(invocation.getArgument(1));
+            return null;
+        }).when(manager).getModel(eq(modelId), any());
+        ActionListener<String> listener1 = mock(ActionListener.class);
+        ActionListener<String> listener2 = mock(ActionListener.class);
+
+        manager.redeployEvictedModel(modelId, listener1);
+        manager.redeployEvictedModel(modelId, listener2);
+        // the second request waits for the deployment started by the first one
+        assertEquals(1, getModelListeners.size());
+        verify(listener1, never()).onFailure(any());
+        verify(listener2, never()).onFailure(any());
+
+        getModelListeners.get(0).onFailure(exception);
+        verify(listener1).onFailure(exception);
+        verify(listener2).onFailure(exception);
+        assertTrue(cacheHelper.isModelEvicted(modelId));
+
+        // a new request deploys the model again
+        ActionListener<String> listener3 = mock(ActionListener.class);
+        manager.redeployEvictedModel(modelId, listener3);
+        assertEquals(2, getModelListeners.size());
+    }
+
+    public void testRedeployEvictedModel_ExceedMaxQueuedRequests() {
+        MLModelCacheHelper cacheHelper = new MLModelCacheHelper(clusterService, settings);
+        MLModelManager manager = modelManagerWithEvictedModel(cacheHelper);
+        Settings maxQueuedRequests = Settings.builder().put(ML_COMMONS_LAZY_DEPLOY_MAX_QUEUED_REQUESTS.getKey(), 1).build();
+        clusterService.getClusterSettings().applySettings(maxQueuedRequests);
+        doNothing().when(manager).getModel(eq(modelId), any());
+        ActionListener<String> listener1 = mock(ActionListener.class);
+        ActionListener<String> listener2 = mock(ActionListener.class);
+
+        manager.redeployEvictedModel(modelId, listener1);
+        manager.redeployEvictedModel(modelId, listener2);
+        ArgumentCaptor<Exception> failure = ArgumentCaptor.forClass(Exception.class);
+        verify(listener2).onFailure(failure.capture());
+        assertTrue(failure.getValue() instanceof MLLimitExceededException);
+        assertEquals("Too many requests waiting for the model to be deployed", failure.getValue().getMessage());
+        verify(listener1, never()).onFailure(any());
+        verify(manager, times(1)).getModel(eq(modelId), any());
+    }
+
+    public void testRedeployEvictedModel_ExceedMaxLocalModels() {
+        MLModelCacheHelper cacheHelper = new MLModelCacheHelper(clusterService, settings);
+        MLModelManager manager = modelManagerWithEvictedModel(cacheHelper);
+        for (int i = 0; i < 10; i++) {
+            cacheHelper.initModelState("model" + i, MLModelState.DEPLOYED, FunctionName.TEXT_EMBEDDING, List.of("node1"), true);
+        }
+        doAnswer(invocation -> {
+            ActionListener<MLModel> listener = invocation.getArgument(1);
+            listener.onResponse(model);
+            return null;
+        }).when(manager).getModel(eq(modelId), any());
+        ActionListener<String> listener = mock(ActionListener.class);
+
+        manager.redeployEvictedModel(modelId, listener);
+        ArgumentCaptor<Exception> failure = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(failure.capture());
+        assertTrue(failure.getValue() instanceof MLLimitExceededException);
+        assertEquals("Exceed max local model per node limit", failure.getValue().getMessage());
+        // the model stays evicted, so the next request tries to deploy it again
+        assertTrue(cacheHelper.isModelEvicted(modelId));
+    }
+
+    public void testRedeployEvictedModel_NotEvicted() {
+        MLModelCacheHelper cacheHelper = new MLModelCacheHelper(clusterService, settings);
+        MLModelManager manager = modelManagerWithEvictedModel(cacheHelper);
+        cacheHelper.completeLazyDeploy(modelId, mock(Predictable.class), null);
+        ActionListener<String> listener = mock(ActionListener.class);
+
+        manager.redeployEvictedModel(modelId, listener);
+        verify(listener).onResponse("successful");
+        verify(manager, never()).getModel(any(), any());
+    }
+
+    private MLModelManager modelManagerWithEvictedModel(MLModelCacheHelper cacheHelper) {
+        cacheHelper.initModelState(modelId, MLModelState.DEPLOYED, FunctionName.TEXT_EMBEDDING, List.of("node1"), true);
+        cacheHelper.setPredictor(modelId, mock(Predictable.class));
+        assertEquals(List.of(modelId), cacheHelper.evictIdleModels(System.currentTimeMillis() + 600_000, 60_000));
+        mock_threadpool(threadPool, taskExecutorService);
+        mock_client_ThreadContext(client, threadPool, threadContext);
+        return spy(
+            new MLModelManager(
+                clusterService,
+                scriptService,
+                client,
+                threadPool,
+                xContentRegistry,
+                modelHelper,
+                settings,
+                mlStats,
+                new MLMetricsRegistry(),
+                mlCircuitBreakerService,
+                mlIndicesHandler,
+                mlTaskManager,
+                cacheHelper,
+                mlEngine,
+                nodeHelper,
+                new MLTracer()
+            )
+        );
+    }
+
     public void testDeployModel_ExceedMaxDeployedModel() {
         when(modelCacheHelper.isModelDeployed(modelId)).thenReturn(false);
         String[] models = new String[100];
@@ -849,6 +1009,16 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         assertEquals("undeployed", undeployModelStatus.get(modelId));
     }
 
+    public void testUndeployModel_RemoveModelStats() {
+        when(modelCacheHelper.isModelDeployed(modelId)).thenReturn(true);
+        when(modelCacheHelper.getFunctionName(modelId)).thenReturn(FunctionName.TEXT_EMBEDDING);
+        mlStats.createModelCounterStatIfAbsent(modelId, ActionName.PREDICT, MLActionLevelStat.ML_ACTION_REQUEST_COUNT).increment();
+        Map<String, String> undeployModelStatus = modelManager.undeployModel(new String[] { modelId });
+        assertEquals("undeployed", undeployModelStatus.get(modelId));
+        verify(mlStats).removeModelStats(modelId);
+        assertNull(mlStats.getModelStats(modelId));
+    }
+
     public void testUpdateModel_NullUpdatedFields() {
         ActionListener<UpdateResponse> listener = mock(ActionListener.class);
         modelManager.updateModel(modelId, null, listener);
@@ -1052,22 +1222,38 @@ public class MLModelManagerTests extends OpenSearchTestCase {
 
     private void setUpMock_DownloadModelFileFailure() {
         doAnswer(invocation -> {
-            ActionListener<Map<String, Object>> listener = invocation.getArgument(6);
+            ActionListener<Map<String, Object>> listener = invocation.getArgument(9);
             listener.onFailure(new RuntimeException("downloadAndSplit failure"));
             return null;
-        }).when(modelHelper).downloadAndSplit(any(), any(), any(), any(), any(), any(), any(), any());
+        }).when(modelHelper).downloadAndSplit(any(), any(), any(), any(), any(), any(), any(), anyLong(), any(), any());
+    }
+
+    private void setUpMock_DownloadModelFileExceedLimit(String[] chunks) {
+        doAnswer(invocation -> {
+            ModelChunkSplitter.ChunkConsumer chunkConsumer = invocation.getArgument(8);
+            ActionListener<Map<String, Object>> listener = invocation.getArgument(9);
+            // the download exceeds the size limit while the second chunk arrives
+            chunkConsumer.accept(0, Files.readAllBytes(Path.of(chunks[0])));
+            long maxModelSizeInBytes = invocation.getArgument(7);
+            listener.onFailure(new IllegalArgumentException("Model file size exceeds the limit of " + maxModelSizeInBytes + " bytes"));
+            return null;
+        }).when(modelHelper).downloadAndSplit(any(), any(), any(), any(), any(), any(), any(), anyLong(), any(), any());
     }
 
     private void setUpMock_DownloadModelFile(String[] chunks, Long modelContentSize) {
         doAnswer(invocation -> {
-            ActionListener<Map<String, Object>> listener = invocation.getArgument(6);
+            ModelChunkSplitter.ChunkConsumer chunkConsumer = invocation.getArgument(8);
+            ActionListener<Map<String, Object>> listener = invocation.getArgument(9);
+            for (int i = 0; i < chunks.length; i++) {
+                chunkConsumer.accept(i, Files.readAllBytes(Path.of(chunks[i])));
+            }
             Map<String, Object> result = new HashMap<>();
             result.put(MODEL_SIZE_IN_BYTES, modelContentSize);
-            result.put(CHUNK_FILES, Arrays.asList(chunks[0], chunks[1]));
+            result.put(TOTAL_CHUNKS, chunks.length);
             result.put(MODEL_FILE_HASH, randomAlphaOfLength(10));
             listener.onResponse(result);
             return null;
-        }).when(modelHelper).downloadAndSplit(any(), any(), any(), any(), any(), any(), any(), any());
+        }).when(modelHelper).downloadAndSplit(any(), any(), any(), any(), any(), any(), any(), anyLong(), any(), any());
     }
 
     @Mock
@@ -0,0 +1,142 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.profile;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_CPU_PROFILER_ENABLED;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_CPU_PROFILER_MAX_DURATION;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_CPU_PROFILER_OVERHEAD_BUDGET;
+import static org.opensearch.ml.utils.TestHelper.clusterSetting;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.Version;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+
+public class MLCpuProfilerTests extends OpenSearchTestCase {
+    private ClusterSettings clusterSettings;
+    private ThreadPool threadPool;
+    private MLCpuProfiler profiler;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        Settings settings = Settings
+            .builder()
+            .put(ML_COMMONS_CPU_PROFILER_ENABLED.getKey(), true)
+            .put(ML_COMMONS_CPU_PROFILER_MAX_DURATION.getKey(), "5s")
+            .put(ML_COMMONS_CPU_PROFILER_OVERHEAD_BUDGET.getKey(), 0.1)
+            .build();
+        clusterSettings = clusterSetting(
+            settings,
+            ML_COMMONS_CPU_PROFILER_ENABLED,
+            ML_COMMONS_CPU_PROFILER_MAX_DURATION,
+            ML_COMMONS_CPU_PROFILER_OVERHEAD_BUDGET
+        );
+        ClusterService clusterService = mock(ClusterService.class);
+        when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
+        when(clusterService.localNode()).thenReturn(new DiscoveryNode("node1", buildNewFakeTransportAddress(), Version.CURRENT));
+        threadPool = new TestThreadPool(this.getClass().getSimpleName() + "ThreadPool");
+        profiler = new MLCpuProfiler(settings, clusterService, threadPool);
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        super.tearDown();
+        ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS);
+    }
+
+    public void testAttributeToModel_NotProfiling() {
+        try (Releasable ignored = MLCpuProfiler.attributeToModel("model1")) {
+            assertNull(MLCpuProfiler.getModel(Thread.currentThread().getId()));
+        }
+    }
+
+    public void testGetThreadPool() {
+        assertEquals("opensearch_ml_predict", MLCpuProfiler.getThreadPool("opensearch[node1][opensearch_ml_predict][T#3]"));
+        assertNull(MLCpuProfiler.getThreadPool("opensearch[node1][search][T#3]"));
+    }
+
+    public void testFoldStack() {
+        StackTraceElement[] stack = {
+            new StackTraceElement("org.example.Translator", "tokenize", "Translator.java", 20),
+            new StackTraceElement("java.lang.Thread", "run", "Thread.java", 10) };
+        assertEquals(
+            "opensearch_ml_predict;model1;java.lang.Thread.run;org.example.Translator.tokenize",
+            MLCpuProfiler.foldStack("opensearch_ml_predict", "model1", stack)
+        );
+        assertEquals("opensearch_ml_predict;no_model", MLCpuProfiler.foldStack("opensearch_ml_predict", null, new StackTraceElement[0]));
+    }
+
+    public void testProfile_Disabled() {
+        clusterSettings.applySettings(Settings.builder().put(ML_COMMONS_CPU_PROFILER_ENABLED.getKey(), false).build());
+        PlainActionFuture<MLCpuProfile> future = PlainActionFuture.newFuture();
+        profiler.profile(TimeValue.timeValueSeconds(1), MLCpuProfiler.DEFAULT_INTERVAL, future);
+        expectThrows(IllegalStateException.class, future::actionGet);
+    }
+
+    public void testProfile_WrongParameters() {
+        PlainActionFuture<MLCpuProfile> future = PlainActionFuture.newFuture();
+        profiler.profile(TimeValue.timeValueSeconds(10), MLCpuProfiler.DEFAULT_INTERVAL, future);
+        expectThrows(IllegalArgumentException.class, future::actionGet);
+
+        future = PlainActionFuture.newFuture();
+        profiler.profile(TimeValue.timeValueSeconds(1), TimeValue.timeValueMillis(1), future);
+        expectThrows(IllegalArgumentException.class, future::actionGet);
+    }
+
+    public void testProfile() throws Exception {
+        PlainActionFuture<MLCpuProfile> future = PlainActionFuture.newFuture();
+        profiler.profile(TimeValue.timeValueMillis(500), TimeValue.timeValueMillis(10), future);
+
+        // one session at a time
+        PlainActionFuture<MLCpuProfile> concurrent = PlainActionFuture.newFuture();
+        profiler.profile(TimeValue.timeValueMillis(500), TimeValue.timeValueMillis(10), concurrent);
+        OpenSearchStatusException e = expectThrows(OpenSearchStatusException.class, concurrent::actionGet);
+        assertEquals(RestStatus.CONFLICT, e.status());
+
+        AtomicBoolean done = new AtomicBoolean();
+        Thread predictThread = new Thread(() -> {
+            try (Releasable ignored = MLCpuProfiler.attributeToModel("model1")) {
+                double value = 0;
+                while (!done.get()) {
+                    value += Math.sqrt(value + 1);
+                }
+            }
+        }, "opensearch[node1][opensearch_ml_predict][T#1]");
+        predictThread.start();
+        MLCpuProfile profile;
+        try {
+            profile = future.actionGet();
+        } finally {
+            done.set(true);
+            predictThread.join();
+        }
+
+        assertEquals("node1", profile.getNodeId());
+        assertTrue(profile.getSamples() > 0);
+        assertTrue(profile.getSamplingTimeInNanos() > 0);
+        assertTrue(profile.getStacks().keySet().stream().anyMatch(it -> it.startsWith("opensearch_ml_predict;model1;")));
+        assertTrue(profile.toFoldedStacks().contains("opensearch_ml_predict;model1;"));
+        // the attribution ends with the session
+        try (Releasable ignored = MLCpuProfiler.attributeToModel("model1")) {
+            assertNull(MLCpuProfiler.getModel(Thread.currentThread().getId()));
+        }
+    }
+}
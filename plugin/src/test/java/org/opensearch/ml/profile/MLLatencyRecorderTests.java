@@ -0,0 +1,135 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.profile;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class MLLatencyRecorderTests extends OpenSearchTestCase {
+    private MLLatencyRecorder recorder;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        recorder = new MLLatencyRecorder();
+    }
+
+    public void testGetStats_NoLatency() {
+        assertNull(recorder.getStats());
+    }
+
+    public void testGetStats() {
+        for (int i = 1; i <= 100; i++) {
+            recorder.record(i, 100);
+        }
+        MLPredictRequestStats stats = recorder.getStats();
+        assertEquals(100, stats.getCount().longValue());
+        assertEquals(1, stats.getMin(), 1e-5);
+        assertEquals(100, stats.getMax(), 1e-5);
+        assertEquals(50.5, stats.getAverage(), 1e-5);
+        assertEquals(50.5, stats.getP50(), 1e-5);
+        assertEquals(90.1, stats.getP90(), 1e-5);
+        assertEquals(99.01, stats.getP99(), 1e-5);
+        assertEquals(100, stats.getWindowStats().get("1m").getCount().longValue());
+        assertEquals(100, stats.getWindowStats().get("5m").getCount().longValue());
+    }
+
+    public void testRecord_KeepLatestLatencies() {
+        for (int i = 1; i <= 20; i++) {
+            recorder.record(i, 10);
+        }
+        MLPredictRequestStats stats = recorder.getStats();
+        assertEquals(10, stats.getCount().longValue());
+        assertEquals(11, stats.getMin(), 1e-5);
+        assertEquals(20, stats.getMax(), 1e-5);
+    }
+
+    public void testRecord_GrowBuffer() {
+        int count = MLLatencyRecorder.INITIAL_CAPACITY * 3 + 1;
+        for (int i = 1; i <= count; i++) {
+            recorder.record(i, 1000);
+        }
+        MLPredictRequestStats stats = recorder.getStats();
+        assertEquals(count, stats.getCount().longValue());
+        assertEquals(1, stats.getMin(), 1e-5);
+        assertEquals(count, stats.getMax(), 1e-5);
+    }
+
+    public void testRecord_Disabled() {
+        recorder.record(1, 10);
+        recorder.record(2, 0);
+        assertNull(recorder.getStats());
+    }
+
+    public void testResize() {
+        for (int i = 1; i <= 10; i++) {
+            recorder.record(i, 10);
+        }
+        recorder.resize(20);
+        assertEquals(10, recorder.getStats().getCount().longValue());
+        recorder.resize(4);
+        MLPredictRequestStats stats = recorder.getStats();
+        assertEquals(4, stats.getCount().longValue());
+        assertEquals(7, stats.getMin(), 1e-5);
+        recorder.record(11, 4);
+        assertEquals(8, recorder.getStats().getMin(), 1e-5);
+        recorder.resize(0);
+        assertNull(recorder.getStats());
+    }
+
+    public void testGetStats_TimeWindows() {
+        long now = System.currentTimeMillis();
+        recorder.record(10, 100, now - TimeUnit.MINUTES.toMillis(10));
+        recorder.record(20, 100, now - TimeUnit.MINUTES.toMillis(4));
+        recorder.record(30, 100, now - TimeUnit.SECONDS.toMillis(30));
+        MLPredictRequestStats stats = recorder.getStats(now);
+        assertEquals(3, stats.getCount().longValue());
+        assertEquals(1, stats.getWindowStats().get("1m").getCount().longValue());
+        assertEquals(30, stats.getWindowStats().get("1m").getAverage(), 1e-5);
+        assertEquals(2, stats.getWindowStats().get("5m").getCount().longValue());
+        assertEquals(25, stats.getWindowStats().get("5m").getAverage(), 1e-5);
+
+        MLPredictRequestStats oldStats = recorder.getStats(now + TimeUnit.MINUTES.toMillis(20));
+        assertEquals(3, oldStats.getCount().longValue());
+        assertNull(oldStats.getWindowStats());
+    }
+
+    public void testPercentile() {
+        assertEquals(5, MLLatencyRecorder.percentile(new double[] { 5 }, 99), 1e-5);
+        assertEquals(1.5, MLLatencyRecorder.percentile(new double[] { 1, 2 }, 50), 1e-5);
+    }
+
+    public void testStatsSerialization() throws IOException {
+        for (int i = 1; i <= 10; i++) {
+            recorder.record(i, 100);
+        }
+        MLPredictRequestStats stats = recorder.getStats();
+        BytesStreamOutput output = new BytesStreamOutput();
+        stats.writeTo(output);
+        StreamInput input = output.bytes().streamInput();
+        MLPredictRequestStats parsedStats = new MLPredictRequestStats(input);
+        assertEquals(stats.getCount(), parsedStats.getCount());
+        assertEquals(stats.getP99(), parsedStats.getP99());
+        assertEquals(stats.getWindowStats().keySet(), parsedStats.getWindowStats().keySet());
+        assertEquals(10, parsedStats.getWindowStats().get("5m").getCount().longValue());
+
+        XContentBuilder builder = XContentFactory.jsonBuilder();
+        builder.startObject();
+        builder.field("stats");
+        parsedStats.toXContent(builder, ToXContent.EMPTY_PARAMS);
+        builder.endObject();
+        String content = builder.toString();
+        assertTrue(content.contains("\"windows\":{\"1m\":{\"count\":10,"));
+        assertTrue(content.contains("\"5m\":{\"count\":10,"));
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.profile;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.ml.common.CommonValue.REMOTE_SERVICE_ERROR;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_SLOWLOG_INPUT_MAX_CHARS;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_SLOWLOG_MODEL_THRESHOLD;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_SLOWLOG_SAMPLE_RATE;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_SLOWLOG_STAGE_THRESHOLD_DEBUG;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_SLOWLOG_STAGE_THRESHOLD_INFO;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_SLOWLOG_STAGE_THRESHOLD_WARN;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_SLOWLOG_THRESHOLD_DEBUG;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_SLOWLOG_THRESHOLD_INFO;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_SLOWLOG_THRESHOLD_WARN;
+import static org.opensearch.ml.utils.TestHelper.clusterSetting;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.apache.logging.log4j.Level;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.Version;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.profile.MLPredictProfile;
+import org.opensearch.ml.common.profile.MLPredictStage;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+
+public class MLPredictSlowLogTests extends OpenSearchTestCase {
+    private static final long MILLIS = 1_000_000;
+
+    private ClusterSettings clusterSettings;
+    private ClusterService clusterService;
+    private ThreadPool threadPool;
+    private ExecutorService executor;
+    private MLPredictSlowLog slowLog;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        Settings settings = Settings
+            .builder()
+            .put(ML_COMMONS_PREDICT_SLOWLOG_THRESHOLD_WARN.getKey(), "1s")
+            .put(ML_COMMONS_PREDICT_SLOWLOG_THRESHOLD_INFO.getKey(), "500ms")
+            .put(ML_COMMONS_PREDICT_SLOWLOG_STAGE_THRESHOLD_WARN.getKey(), "300ms")
+            .put(ML_COMMONS_PREDICT_SLOWLOG_MODEL_THRESHOLD.getKey() + "model1.threshold.warn", "10s")
+            .build();
+        clusterSettings = clusterSetting(
+            settings,
+            ML_COMMONS_PREDICT_SLOWLOG_THRESHOLD_WARN,
+            ML_COMMONS_PREDICT_SLOWLOG_THRESHOLD_INFO,
+            ML_COMMONS_PREDICT_SLOWLOG_THRESHOLD_DEBUG,
+            ML_COMMONS_PREDICT_SLOWLOG_STAGE_THRESHOLD_WARN,
+            ML_COMMONS_PREDICT_SLOWLOG_STAGE_THRESHOLD_INFO,
+            ML_COMMONS_PREDICT_SLOWLOG_STAGE_THRESHOLD_DEBUG,
+            ML_COMMONS_PREDICT_SLOWLOG_MODEL_THRESHOLD,
+            ML_COMMONS_PREDICT_SLOWLOG_SAMPLE_RATE,
+            ML_COMMONS_PREDICT_SLOWLOG_INPUT_MAX_CHARS
+        );
+        clusterService = mock(ClusterService.class);
+        when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
+        when(clusterService.localNode()).thenReturn(new DiscoveryNode("node1", buildNewFakeTransportAddress(), Version.CURRENT));
+        threadPool = mock(ThreadPool.class);
+        executor = mock(ExecutorService.class);
+        when(threadPool.executor("slowlog")).thenReturn(executor);
+        slowLog = new MLPredictSlowLog(settings, clusterService, threadPool, "slowlog");
+    }
+
+    public void testGetLevel() {
+        assertNull(slowLog.getLevel("model2", profile(400, 100)));
+        assertEquals(Level.INFO, slowLog.getLevel("model2", profile(600, 100)));
+        assertEquals(Level.WARN, slowLog.getLevel("model2", profile(1000, 100)));
+        // a slow stage is enough
+        assertEquals(Level.WARN, slowLog.getLevel("model2", profile(400, 300)));
+    }
+
+    public void testGetLevel_ModelThresholds() {
+        // model1 overrides the total warn threshold, the other thresholds are the default ones
+        assertEquals(Level.INFO, slowLog.getLevel("model1", profile(2000, 100)));
+        assertEquals(Level.WARN, slowLog.getLevel("model1", profile(10_000, 100)));
+        assertEquals(Level.WARN, slowLog.getLevel("model1", profile(400, 300)));
+    }
+
+    public void testUpdateThresholds() {
+        clusterSettings
+            .applySettings(
+                Settings
+                    .builder()
+                    .put(ML_COMMONS_PREDICT_SLOWLOG_THRESHOLD_DEBUG.getKey(), "0ms")
+                    .put(ML_COMMONS_PREDICT_SLOWLOG_MODEL_THRESHOLD.getKey() + "model3.stage_threshold.info", "50ms")
+                    .build()
+            );
+        assertEquals(Level.INFO, slowLog.getLevel("model1", profile(2000, 100)));
+        assertEquals(Level.DEBUG, slowLog.getLevel("model2", profile(0, 0)));
+        assertEquals(Level.INFO, slowLog.getLevel("model3", profile(10, 60)));
+    }
+
+    public void testUpdateThresholds_WrongModelKey() {
+        Settings settings = Settings.builder().put(ML_COMMONS_PREDICT_SLOWLOG_MODEL_THRESHOLD.getKey() + "model3.wrong", "50ms").build();
+        expectThrows(IllegalArgumentException.class, () -> clusterSettings.validate(settings, true));
+    }
+
+    public void testLog() {
+        MLPredictSlowLogEntry entry = MLPredictSlowLogEntry.builder().modelId("model2").profile(profile(2000, 100)).build();
+        slowLog.log(entry);
+        verify(executor).execute(any(Runnable.class));
+    }
+
+    public void testLog_Fast() {
+        slowLog.log(MLPredictSlowLogEntry.builder().modelId("model2").profile(profile(10, 1)).build());
+        verify(executor, never()).execute(any(Runnable.class));
+    }
+
+    public void testLog_NotSampled() {
+        clusterSettings.applySettings(Settings.builder().put(ML_COMMONS_PREDICT_SLOWLOG_SAMPLE_RATE.getKey(), 0.0).build());
+        slowLog.log(MLPredictSlowLogEntry.builder().modelId("model2").profile(profile(2000, 100)).build());
+        verify(executor, never()).execute(any(Runnable.class));
+    }
+
+    public void testLog_QueueFull() {
+        doThrow(new RejectedExecutionException("queue full")).when(executor).execute(any(Runnable.class));
+        slowLog.log(MLPredictSlowLogEntry.builder().modelId("model2").profile(profile(2000, 100)).build());
+        verify(executor).execute(any(Runnable.class));
+    }
+
+    public void testToMessage() {
+        MLPredictProfile profile = profile(1500, 200);
+        profile.addInputTokens(42);
+        profile.addRemoteBytes(100, 2000);
+        MLInput input = MLInput
+            .builder()
+            .algorithm(FunctionName.TEXT_EMBEDDING)
+            .inputDataset(TextDocsInputDataSet.builder().docs(List.of("first document", "second document")).build())
+            .build();
+        MLPredictSlowLogEntry entry = MLPredictSlowLogEntry
+            .builder()
+            .modelId("model1")
+            .functionName(FunctionName.TEXT_EMBEDDING)
+            .input(input)
+            .profile(profile)
+            .dispatchPath(MLPredictSlowLogEntry.DispatchPath.TRANSPORT)
+            .failure(new OpenSearchStatusException(REMOTE_SERVICE_ERROR + "throttled", RestStatus.TOO_MANY_REQUESTS))
+            .build();
+
+        String message = slowLog.toMessage(MLPredictSlowLog.LoggedRequest.of(entry, 0));
+        assertEquals(
+            "[model1] took[1.5s], took_millis[1500], function_name[TEXT_EMBEDDING], node[node1], dispatch[transport], "
+                + "stage_millis[queue:200], docs[2], input_tokens[42], remote_bytes_sent[100], remote_bytes_received[2000], "
+                + "status_code[429], failure[OpenSearchStatusException]",
+            message
+        );
+
+        message = slowLog.toMessage(MLPredictSlowLog.LoggedRequest.of(entry, 20));
+        assertTrue(message.endsWith(", input[{\"algorithm\":\"TEXT_E]"));
+    }
+
+    public void testLoggedRequest_Input() {
+        MLInput input = MLInput
+            .builder()
+            .algorithm(FunctionName.TEXT_EMBEDDING)
+            .inputDataset(TextDocsInputDataSet.builder().docs(List.of("first document")).build())
+            .build();
+        MLPredictSlowLogEntry entry = MLPredictSlowLogEntry.builder().modelId("model1").input(input).profile(profile(1500, 200)).build();
+
+        // the input is only kept truncated, and not at all when input logging is disabled
+        assertNull(MLPredictSlowLog.LoggedRequest.of(entry, 0).getInput());
+        assertEquals("{\"algorithm\":\"TEXT_E", MLPredictSlowLog.LoggedRequest.of(entry, 20).getInput());
+    }
+
+    private static MLPredictProfile profile(long tookMillis, long queueMillis) {
+        MLPredictProfile profile = new MLPredictProfile();
+        profile.setTimeInNanos(tookMillis * MILLIS);
+        profile.add(MLPredictStage.QUEUE, queueMillis * MILLIS);
+        return profile;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.profile;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.ml.common.profile.MLPredictProfile;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class MLResourceMeterTests extends OpenSearchTestCase {
+
+    public void testParseResidentMemory() {
+        assertEquals(123456L * 1024, MLResourceMeter.parseResidentMemory(List.of("VmPeak:  999999 kB", "VmRSS:\t  123456 kB")));
+        assertEquals(-1, MLResourceMeter.parseResidentMemory(List.of("VmPeak:  999999 kB")));
+        assertEquals(-1, MLResourceMeter.parseResidentMemory(List.of("VmRSS: unknown")));
+    }
+
+    public void testThreadCpuTime() {
+        long cpuTime = MLResourceMeter.threadCpuTimeNanos();
+        assertTrue(cpuTime == -1 || cpuTime > 0);
+    }
+
+    public void testModelResourceUsage() throws IOException {
+        MLModelResourceUsage usage = new MLModelResourceUsage();
+        assertNull(usage.getStats());
+
+        MLPredictProfile profile = new MLPredictProfile();
+        profile.setCpuTimeInNanos(3000);
+        profile.setAllocatedBytes(300);
+        usage.record(profile);
+        usage.record(profile);
+        usage.record(profile);
+        MLModelResourceStats stats = usage.getStats();
+        assertEquals(3, stats.getPredictCount());
+        assertEquals(9000, stats.getCpuTimeInNanos());
+        assertNull(stats.getNativeMemoryBytes());
+
+        XContentBuilder builder = XContentFactory.jsonBuilder();
+        stats.toXContent(builder, ToXContent.EMPTY_PARAMS);
+        assertEquals(
+            "{\"predict_count\":3,\"cpu_time_in_nanos\":9000,\"allocated_bytes\":900,"
+                + "\"avg_cpu_time_in_nanos\":3000,\"avg_allocated_bytes\":300}",
+            builder.toString()
+        );
+
+        usage.setNativeMemoryBytes(1024L, false);
+        BytesStreamOutput output = new BytesStreamOutput();
+        usage.getStats().writeTo(output);
+        MLModelResourceStats parsedStats = new MLModelResourceStats(output.bytes().streamInput());
+        assertEquals(3, parsedStats.getPredictCount());
+        assertEquals(900, parsedStats.getAllocatedBytes());
+        assertEquals(1024L, parsedStats.getNativeMemoryBytes().longValue());
+        assertFalse(parsedStats.isNativeMemoryApproximate());
+        builder = XContentFactory.jsonBuilder();
+        parsedStats.toXContent(builder, ToXContent.EMPTY_PARAMS);
+        assertFalse(builder.toString().contains("native_memory_approximate"));
+
+        // measured while other models were deployed
+        usage.setNativeMemoryBytes(1024L, true);
+        output = new BytesStreamOutput();
+        usage.getStats().writeTo(output);
+        parsedStats = new MLModelResourceStats(output.bytes().streamInput());
+        assertTrue(parsedStats.isNativeMemoryApproximate());
+        builder = XContentFactory.jsonBuilder();
+        parsedStats.toXContent(builder, ToXContent.EMPTY_PARAMS);
+        assertTrue(builder.toString().contains("\"native_memory_bytes\":1024,\"native_memory_approximate\":true"));
+
+        usage.clear();
+        assertNull(usage.getStats());
+    }
+}
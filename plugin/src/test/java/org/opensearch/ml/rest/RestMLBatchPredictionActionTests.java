@@ -0,0 +1,111 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.rest;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.opensearch.ml.utils.RestActionUtils.PARAMETER_MODEL_ID;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.index.query.TermQueryBuilder;
+import org.opensearch.ml.common.transport.prediction.MLBatchPredictionAction;
+import org.opensearch.ml.common.transport.prediction.MLBatchPredictionRequest;
+import org.opensearch.ml.utils.TestHelper;
+import org.opensearch.rest.RestChannel;
+import org.opensearch.rest.RestHandler;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.rest.FakeRestRequest;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+
+public class RestMLBatchPredictionActionTests extends OpenSearchTestCase {
+    private RestMLBatchPredictionAction restMLBatchPredictionAction;
+
+    NodeClient client;
+    private ThreadPool threadPool;
+
+    @Mock
+    RestChannel channel;
+
+    @Before
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        restMLBatchPredictionAction = new RestMLBatchPredictionAction();
+        threadPool = new TestThreadPool(this.getClass().getSimpleName() + "ThreadPool");
+        client = spy(new NodeClient(Settings.EMPTY, threadPool));
+        doAnswer(invocation -> null).when(client).execute(eq(MLBatchPredictionAction.INSTANCE), any(), any());
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        super.tearDown();
+        threadPool.shutdown();
+        client.close();
+    }
+
+    public void testGetName() {
+        assertEquals("ml_batch_prediction_action", restMLBatchPredictionAction.getName());
+    }
+
+    public void testRoutes() {
+        List<RestHandler.Route> routes = restMLBatchPredictionAction.routes();
+        assertNotNull(routes);
+        assertFalse(routes.isEmpty());
+        RestHandler.Route route = routes.get(0);
+        assertEquals(RestRequest.Method.POST, route.getMethod());
+        assertEquals("/_plugins/_ml/models/{model_id}/_batch_predict", route.getPath());
+    }
+
+    public void testGetRequest() throws Exception {
+        MLBatchPredictionRequest request = restMLBatchPredictionAction.getRequest(getRestRequest());
+        assertEquals("test_model", request.getModelId());
+        assertEquals("source", request.getSourceIndex());
+        assertEquals("target", request.getTargetIndex());
+        assertEquals("text", request.getInputField());
+        assertEquals("embedding", request.getOutputField());
+        assertEquals(16, request.getBatchSize());
+        assertEquals(2, request.getConcurrency().intValue());
+        assertEquals(100, request.getMaxDocsPerSecond().intValue());
+        assertEquals("task_id", request.getResumeTaskId());
+        assertTrue(request.getQuery() instanceof TermQueryBuilder);
+    }
+
+    public void testPrepareRequest() throws Exception {
+        restMLBatchPredictionAction.handleRequest(getRestRequest(), channel, client);
+        ArgumentCaptor<MLBatchPredictionRequest> argumentCaptor = ArgumentCaptor.forClass(MLBatchPredictionRequest.class);
+        verify(client, times(1)).execute(eq(MLBatchPredictionAction.INSTANCE), argumentCaptor.capture(), any());
+        assertEquals("test_model", argumentCaptor.getValue().getModelId());
+        assertEquals("source", argumentCaptor.getValue().getSourceIndex());
+    }
+
+    private RestRequest getRestRequest() {
+        Map<String, String> params = new HashMap<>();
+        params.put(PARAMETER_MODEL_ID, "test_model");
+        String content = "{\"source_index\":\"source\",\"query\":{\"term\":{\"category\":\"book\"}},\"input_field\":\"text\","
+            + "\"target_index\":\"target\",\"output_field\":\"embedding\",\"batch_size\":16,\"concurrency\":2,"
+            + "\"max_docs_per_second\":100,\"resume_task_id\":\"task_id\"}";
+        return new FakeRestRequest.Builder(TestHelper.xContentRegistry())
+            .withParams(params)
+            .withContent(new BytesArray(content), XContentType.JSON)
+            .build();
+    }
+}
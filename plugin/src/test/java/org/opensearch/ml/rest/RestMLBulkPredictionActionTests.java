@@ -0,0 +1,158 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.rest;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_BULK_PREDICT_MAX_INPUTS;
+import static org.opensearch.ml.utils.MLExceptionUtils.REMOTE_INFERENCE_DISABLED_ERR_MSG;
+import static org.opensearch.ml.utils.TestHelper.clusterSetting;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.rules.ExpectedException;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.common.transport.prediction.MLBulkPredictionRequest;
+import org.opensearch.ml.common.transport.prediction.MLBulkPredictionResponse;
+import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.ml.settings.MLFeatureEnabledSetting;
+import org.opensearch.rest.RestHandler;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class RestMLBulkPredictionActionTests extends OpenSearchTestCase {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private RestMLBulkPredictionAction restMLBulkPredictionAction;
+
+    @Mock
+    MLModelManager modelManager;
+    @Mock
+    MLFeatureEnabledSetting mlFeatureEnabledSetting;
+    @Mock
+    ClusterService clusterService;
+    Settings settings;
+
+    @Before
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        when(modelManager.getOptionalModelFunctionName(anyString())).thenReturn(Optional.empty());
+        when(mlFeatureEnabledSetting.isRemoteInferenceEnabled()).thenReturn(true);
+        settings = Settings.builder().put(ML_COMMONS_BULK_PREDICT_MAX_INPUTS.getKey(), 2).build();
+        when(clusterService.getClusterSettings()).thenReturn(clusterSetting(settings, ML_COMMONS_BULK_PREDICT_MAX_INPUTS));
+        restMLBulkPredictionAction = new RestMLBulkPredictionAction(modelManager, mlFeatureEnabledSetting, clusterService, settings);
+    }
+
+    public void testConstructor() {
+        RestMLBulkPredictionAction action = new RestMLBulkPredictionAction(modelManager, mlFeatureEnabledSetting, clusterService, settings);
+        assertNotNull(action);
+    }
+
+    public void testGetName() {
+        assertEquals("ml_bulk_prediction_action", restMLBulkPredictionAction.getName());
+    }
+
+    public void testRoutes() {
+        List<RestHandler.Route> routes = restMLBulkPredictionAction.routes();
+        assertNotNull(routes);
+        assertFalse(routes.isEmpty());
+        RestHandler.Route route = routes.get(0);
+        assertEquals(RestRequest.Method.POST, route.getMethod());
+        assertEquals("/_plugins/_ml/models/{model_id}/_bulk_predict", route.getPath());
+    }
+
+    public void testGetRequest() throws Exception {
+        String content = "{\"text_docs\":[\"doc1\"]}\n\n{\"text_docs\":[\"doc2\",\"doc3\"]}\n";
+        MLBulkPredictionRequest request = restMLBulkPredictionAction
+            .getRequest("modelId", FunctionName.TEXT_EMBEDDING.name(), new BytesArray(content), 4, NamedXContentRegistry.EMPTY);
+        assertEquals("modelId", request.getModelId());
+        assertEquals(4, request.getMaxConcurrency().intValue());
+        assertEquals(2, request.getMlInputs().size());
+        assertEquals(Arrays.asList("doc1"), ((TextDocsInputDataSet) request.getMlInputs().get(0).getInputDataset()).getDocs());
+        assertEquals(Arrays.asList("doc2", "doc3"), ((TextDocsInputDataSet) request.getMlInputs().get(1).getInputDataset()).getDocs());
+    }
+
+    public void testGetRequest_NoTrailingNewLine() throws Exception {
+        String content = "{\"text_docs\":[\"doc1\"]}";
+        MLBulkPredictionRequest request = restMLBulkPredictionAction
+            .getRequest("modelId", FunctionName.TEXT_EMBEDDING.name(), new BytesArray(content), null, NamedXContentRegistry.EMPTY);
+        assertEquals(1, request.getMlInputs().size());
+        assertNull(request.getMaxConcurrency());
+    }
+
+    public void testGetRequest_InvalidLine() throws Exception {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Failed to parse bulk predict input at line 2");
+        String content = "{\"text_docs\":[\"doc1\"]}\n[\"doc2\"]\n";
+        restMLBulkPredictionAction
+            .getRequest("modelId", FunctionName.TEXT_EMBEDDING.name(), new BytesArray(content), null, NamedXContentRegistry.EMPTY);
+    }
+
+    public void testGetRequest_InvalidLine_AfterBlankLines() throws Exception {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Failed to parse bulk predict input at line 4");
+        String content = "{\"text_docs\":[\"doc1\"]}\n\n  \n[\"doc2\"]\n";
+        restMLBulkPredictionAction
+            .getRequest("modelId", FunctionName.TEXT_EMBEDDING.name(), new BytesArray(content), null, NamedXContentRegistry.EMPTY);
+    }
+
+    public void testGetRequest_TooManyInputs() throws Exception {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Bulk predict request can't have more than 2 inputs");
+        String content = "{\"text_docs\":[\"doc1\"]}\n{\"text_docs\":[\"doc2\"]}\n{\"text_docs\":[\"doc3\"]}\n";
+        restMLBulkPredictionAction
+            .getRequest("modelId", FunctionName.TEXT_EMBEDDING.name(), new BytesArray(content), null, NamedXContentRegistry.EMPTY);
+    }
+
+    public void testGetRequest_RemoteInferenceDisabled() throws Exception {
+        thrown.expect(IllegalStateException.class);
+        thrown.expectMessage(REMOTE_INFERENCE_DISABLED_ERR_MSG);
+        when(mlFeatureEnabledSetting.isRemoteInferenceEnabled()).thenReturn(false);
+        restMLBulkPredictionAction
+            .getRequest("modelId", FunctionName.REMOTE.name(), new BytesArray("{}"), null, NamedXContentRegistry.EMPTY);
+    }
+
+    public void testToNdjson() throws Exception {
+        ModelTensor tensor = ModelTensor.builder().name("response").result("result").build();
+        ModelTensorOutput output = ModelTensorOutput
+            .builder()
+            .mlModelOutputs(Arrays.asList(ModelTensors.builder().mlModelTensors(Arrays.asList(tensor)).build()))
+            .build();
+        MLBulkPredictionResponse response = MLBulkPredictionResponse
+            .builder()
+            .items(
+                Arrays
+                    .asList(
+                        new MLBulkPredictionResponse.Item(output),
+                        new MLBulkPredictionResponse.Item(RestStatus.INTERNAL_SERVER_ERROR, "failed")
+                    )
+            )
+            .tookInMillis(1)
+            .build();
+        String ndjson = RestMLBulkPredictionAction.toNdjson(response).utf8ToString();
+        assertEquals(
+            "{\"status\":200,\"output\":{\"inference_results\":[{\"output\":[{\"name\":\"response\",\"result\":\"result\"}]}]}}\n"
+                + "{\"status\":500,\"error\":\"failed\"}\n",
+            ndjson
+        );
+    }
+}
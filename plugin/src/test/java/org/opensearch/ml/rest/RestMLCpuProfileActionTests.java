@@ -0,0 +1,158 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.rest;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.ml.action.profile.MLCpuProfileAction;
+import org.opensearch.ml.action.profile.MLCpuProfileRequest;
+import org.opensearch.ml.action.profile.MLCpuProfileResponse;
+import org.opensearch.ml.profile.MLCpuProfile;
+import org.opensearch.ml.profile.MLCpuProfiler;
+import org.opensearch.rest.BytesRestResponse;
+import org.opensearch.rest.RestChannel;
+import org.opensearch.rest.RestHandler;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.rest.FakeRestRequest;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+
+public class RestMLCpuProfileActionTests extends OpenSearchTestCase {
+    private RestMLCpuProfileAction restAction;
+    private ThreadPool threadPool;
+    private NodeClient client;
+
+    @Mock
+    RestChannel channel;
+
+    @Before
+    public void setup() throws Exception {
+        MockitoAnnotations.openMocks(this);
+        restAction = new RestMLCpuProfileAction();
+        threadPool = new TestThreadPool(this.getClass().getSimpleName() + "ThreadPool");
+        client = spy(new NodeClient(Settings.EMPTY, threadPool));
+        when(channel.newBuilder()).thenReturn(XContentFactory.jsonBuilder());
+        when(channel.newErrorBuilder()).thenReturn(XContentFactory.jsonBuilder());
+        MLCpuProfile profile = MLCpuProfile
+            .builder()
+            .nodeId("node1")
+            .duration(TimeValue.timeValueSeconds(30))
+            .interval(TimeValue.timeValueMillis(50))
+            .samples(600)
+            .skippedSamples(2)
+            .samplingTimeInNanos(1000)
+            .stacks(Map.of("opensearch_ml_predict;model1;java.lang.Thread.run", 3L, "opensearch_ml_predict;no_model", 1L))
+            .build();
+        doAnswer(invocation -> {
+            ActionListener<MLCpuProfileResponse> listener = invocation.getArgument(2);
+            listener.onResponse(new MLCpuProfileResponse(profile));
+            return null;
+        }).when(client).execute(eq(MLCpuProfileAction.INSTANCE), any(), any());
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        super.tearDown();
+        threadPool.shutdown();
+        client.close();
+    }
+
+    public void testGetName() {
+        assertEquals("ml_cpu_profile_action", restAction.getName());
+    }
+
+    public void testRoutes() {
+        List<RestHandler.Route> routes = restAction.routes();
+        assertEquals(1, routes.size());
+        assertEquals(RestRequest.Method.GET, routes.get(0).getMethod());
+        assertEquals("/_plugins/_ml/profile/_cpu", routes.get(0).getPath());
+    }
+
+    public void testPrepareRequest() throws Exception {
+        RestRequest request = new FakeRestRequest.Builder(xContentRegistry())
+            .withPath("/_plugins/_ml/profile/_cpu")
+            .withParams(new HashMap<>(Map.of("duration", "10s")))
+            .build();
+        restAction.handleRequest(request, channel, client);
+
+        MLCpuProfileRequest profileRequest = captureRequest();
+        assertEquals(TimeValue.timeValueSeconds(10), profileRequest.getDuration());
+        assertEquals(MLCpuProfiler.DEFAULT_INTERVAL, profileRequest.getInterval());
+        BytesRestResponse response = captureResponse();
+        assertEquals(RestStatus.OK, response.status());
+        String content = response.content().utf8ToString();
+        assertTrue(content.contains("\"node\":\"node1\""));
+        assertTrue(content.contains("\"skipped_samples\":2"));
+        assertTrue(content.contains("\"stacks\":{\"opensearch_ml_predict;model1;java.lang.Thread.run\":3"));
+    }
+
+    public void testPrepareRequest_Folded() throws Exception {
+        RestRequest request = new FakeRestRequest.Builder(xContentRegistry())
+            .withPath("/_plugins/_ml/profile/_cpu")
+            .withParams(new HashMap<>(Map.of("interval", "20ms", "format", "folded")))
+            .build();
+        restAction.handleRequest(request, channel, client);
+
+        MLCpuProfileRequest profileRequest = captureRequest();
+        assertEquals(MLCpuProfiler.DEFAULT_DURATION, profileRequest.getDuration());
+        assertEquals(TimeValue.timeValueMillis(20), profileRequest.getInterval());
+        BytesRestResponse response = captureResponse();
+        assertEquals(RestStatus.OK, response.status());
+        assertEquals(
+            "opensearch_ml_predict;model1;java.lang.Thread.run 3\nopensearch_ml_predict;no_model 1\n",
+            response.content().utf8ToString()
+        );
+    }
+
+    public void testPrepareRequest_Failure() throws Exception {
+        doAnswer(invocation -> {
+            ActionListener<MLCpuProfileResponse> listener = invocation.getArgument(2);
+            listener.onFailure(new IllegalArgumentException("Profiling duration can't be longer than 1m"));
+            return null;
+        }).when(client).execute(eq(MLCpuProfileAction.INSTANCE), any(), any());
+        RestRequest request = new FakeRestRequest.Builder(xContentRegistry())
+            .withPath("/_plugins/_ml/profile/_cpu")
+            .withParams(new HashMap<>(Map.of("duration", "10m")))
+            .build();
+        when(channel.request()).thenReturn(request);
+        restAction.handleRequest(request, channel, client);
+
+        assertEquals(RestStatus.BAD_REQUEST, captureResponse().status());
+    }
+
+    private MLCpuProfileRequest captureRequest() {
+        ArgumentCaptor<MLCpuProfileRequest> argumentCaptor = ArgumentCaptor.forClass(MLCpuProfileRequest.class);
+        verify(client, times(1)).execute(eq(MLCpuProfileAction.INSTANCE), argumentCaptor.capture(), any());
+        return argumentCaptor.getValue();
+    }
+
+    private BytesRestResponse captureResponse() {
+        ArgumentCaptor<BytesRestResponse> argumentCaptor = ArgumentCaptor.forClass(BytesRestResponse.class);
+        verify(channel, times(1)).sendResponse(argumentCaptor.capture());
+        return argumentCaptor.getValue();
+    }
+}
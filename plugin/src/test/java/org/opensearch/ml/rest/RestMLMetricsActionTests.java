@@ -0,0 +1,108 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.rest;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.ml.action.metrics.MLMetricsAction;
+import org.opensearch.ml.action.metrics.MLMetricsResponse;
+import org.opensearch.ml.stats.metrics.MLOpenMetricsWriter;
+import org.opensearch.rest.BytesRestResponse;
+import org.opensearch.rest.RestChannel;
+import org.opensearch.rest.RestHandler;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.rest.FakeRestRequest;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+
+public class RestMLMetricsActionTests extends OpenSearchTestCase {
+    private static final String OPEN_METRICS = "ml_predict_latency_seconds_count{node=\"node1\"} 1\n# EOF\n";
+
+    private RestMLMetricsAction restAction;
+    private ThreadPool threadPool;
+    private NodeClient client;
+
+    @Mock
+    RestChannel channel;
+
+    @Before
+    public void setup() throws Exception {
+        MockitoAnnotations.openMocks(this);
+        restAction = new RestMLMetricsAction();
+        threadPool = new TestThreadPool(this.getClass().getSimpleName() + "ThreadPool");
+        client = spy(new NodeClient(Settings.EMPTY, threadPool));
+        when(channel.newErrorBuilder()).thenReturn(XContentFactory.jsonBuilder());
+        doAnswer(invocation -> {
+            ActionListener<MLMetricsResponse> listener = invocation.getArgument(2);
+            listener.onResponse(new MLMetricsResponse(OPEN_METRICS));
+            return null;
+        }).when(client).execute(eq(MLMetricsAction.INSTANCE), any(), any());
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        super.tearDown();
+        threadPool.shutdown();
+        client.close();
+    }
+
+    public void testGetName() {
+        assertEquals("ml_metrics_action", restAction.getName());
+    }
+
+    public void testRoutes() {
+        List<RestHandler.Route> routes = restAction.routes();
+        assertEquals(1, routes.size());
+        assertEquals(RestRequest.Method.GET, routes.get(0).getMethod());
+        assertEquals("/_plugins/_ml/metrics", routes.get(0).getPath());
+    }
+
+    public void testPrepareRequest() throws Exception {
+        RestRequest request = new FakeRestRequest.Builder(xContentRegistry()).withPath("/_plugins/_ml/metrics").build();
+        restAction.handleRequest(request, channel, client);
+
+        ArgumentCaptor<BytesRestResponse> argumentCaptor = ArgumentCaptor.forClass(BytesRestResponse.class);
+        verify(channel, times(1)).sendResponse(argumentCaptor.capture());
+        BytesRestResponse response = argumentCaptor.getValue();
+        assertEquals(RestStatus.OK, response.status());
+        assertEquals(MLOpenMetricsWriter.CONTENT_TYPE, response.contentType());
+        assertEquals(OPEN_METRICS, response.content().utf8ToString());
+        verify(client, times(1)).execute(eq(MLMetricsAction.INSTANCE), any(), any());
+    }
+
+    public void testPrepareRequest_Failure() throws Exception {
+        doAnswer(invocation -> {
+            ActionListener<MLMetricsResponse> listener = invocation.getArgument(2);
+            listener.onFailure(new RuntimeException("metrics error"));
+            return null;
+        }).when(client).execute(eq(MLMetricsAction.INSTANCE), any(), any());
+        RestRequest request = new FakeRestRequest.Builder(xContentRegistry()).withPath("/_plugins/_ml/metrics").build();
+        when(channel.request()).thenReturn(request);
+        restAction.handleRequest(request, channel, client);
+
+        ArgumentCaptor<BytesRestResponse> argumentCaptor = ArgumentCaptor.forClass(BytesRestResponse.class);
+        verify(channel, times(1)).sendResponse(argumentCaptor.capture());
+        assertEquals(RestStatus.INTERNAL_SERVER_ERROR, argumentCaptor.getValue().status());
+    }
+}
@@ -9,6 +9,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.opensearch.ml.utils.MLExceptionUtils.REMOTE_INFERENCE_DISABLED_ERR_MSG;
+import static org.opensearch.ml.utils.RestActionUtils.PARAMETER_MODEL_GROUP_ID;
 import static org.opensearch.ml.utils.RestActionUtils.PARAMETER_MODEL_ID;
 import static org.opensearch.ml.utils.TestHelper.getKMeansRestRequest;
 import static org.opensearch.ml.utils.TestHelper.verifyParsedKMeansMLInput;
@@ -24,10 +25,12 @@ import org.junit.rules.ExpectedException;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.opensearch.OpenSearchStatusException;
 import org.opensearch.client.node.NodeClient;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.Strings;
+import org.opensearch.core.rest.RestStatus;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.input.MLInput;
@@ -43,6 +46,7 @@ import org.opensearch.rest.RestHandler;
 import org.opensearch.rest.RestRequest;
 import org.opensearch.rest.action.RestToXContentListener;
 import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.rest.FakeRestChannel;
 import org.opensearch.threadpool.TestThreadPool;
 import org.opensearch.threadpool.ThreadPool;
 
@@ -113,6 +117,15 @@ public class RestMLPredictionActionTests extends OpenSearchTestCase {
         verifyParsedKMeansMLInput(mlInput);
     }
 
+    public void testGetRequest_Profile() throws IOException {
+        RestRequest request = getRestRequest_PredictModel();
+        assertFalse(restMLPredictionAction.getRequest("modelId", FunctionName.KMEANS.name(), request).isProfile());
+
+        request.params().put("profile", "true");
+        MLPredictionTaskRequest mlPredictionTaskRequest = restMLPredictionAction.getRequest("modelId", FunctionName.KMEANS.name(), request);
+        assertTrue(mlPredictionTaskRequest.isProfile());
+    }
+
     public void testGetRequest_RemoteInferenceDisabled() throws IOException {
         thrown.expect(IllegalStateException.class);
         thrown.expectMessage(REMOTE_INFERENCE_DISABLED_ERR_MSG);
@@ -131,6 +144,57 @@ public class RestMLPredictionActionTests extends OpenSearchTestCase {
         verifyParsedKMeansMLInput(mlInput);
     }
 
+    public void testPrepareRequest_ModelGroup() throws Exception {
+        doAnswer(invocation -> {
+            ActionListener<String> listener = invocation.getArgument(1);
+            listener.onResponse("serving_model_id");
+            return null;
+        }).when(modelManager).getServingModelId(eq("model_group_id"), any());
+        when(modelManager.getOptionalModelFunctionName("serving_model_id")).thenReturn(Optional.of(FunctionName.KMEANS));
+
+        RestRequest request = getKMeansRestRequest();
+        request.params().clear();
+        request.params().put(PARAMETER_MODEL_GROUP_ID, "model_group_id");
+        restMLPredictionAction.handleRequest(request, channel, client);
+        ArgumentCaptor<MLPredictionTaskRequest> argumentCaptor = ArgumentCaptor.forClass(MLPredictionTaskRequest.class);
+        verify(client, times(1)).execute(eq(MLPredictionTaskAction.INSTANCE), argumentCaptor.capture(), any());
+        assertEquals("serving_model_id", argumentCaptor.getValue().getModelId());
+        verifyParsedKMeansMLInput(argumentCaptor.getValue().getMlInput());
+    }
+
+    public void testPrepareRequest_ModelGroup_ErrorStatus() throws Exception {
+        doAnswer(invocation -> {
+            ActionListener<String> listener = invocation.getArgument(1);
+            listener.onFailure(new OpenSearchStatusException("Request is throttled", RestStatus.TOO_MANY_REQUESTS));
+            return null;
+        }).when(modelManager).getServingModelId(eq("model_group_id"), any());
+
+        RestRequest request = getKMeansRestRequest();
+        request.params().clear();
+        request.params().put(PARAMETER_MODEL_GROUP_ID, "model_group_id");
+        FakeRestChannel fakeChannel = new FakeRestChannel(request, false, 1);
+        restMLPredictionAction.handleRequest(request, fakeChannel, client);
+        assertEquals(RestStatus.TOO_MANY_REQUESTS, fakeChannel.capturedResponse().status());
+        verify(client, never()).execute(eq(MLPredictionTaskAction.INSTANCE), any(), any());
+    }
+
+    public void testPrepareRequest_GetModelFailure_NotFound() throws Exception {
+        doAnswer(invocation -> {
+            ActionListener<MLModel> listener = invocation.getArgument(1);
+            listener.onFailure(new OpenSearchStatusException("Request is throttled", RestStatus.TOO_MANY_REQUESTS));
+            return null;
+        }).when(modelManager).getModel(eq("model_id"), any());
+
+        RestRequest request = getKMeansRestRequest();
+        request.params().clear();
+        request.params().put(PARAMETER_MODEL_ID, "model_id");
+        FakeRestChannel fakeChannel = new FakeRestChannel(request, false, 1);
+        restMLPredictionAction.handleRequest(request, fakeChannel, client);
+        // the model id path keeps reporting failures to get the model as NOT_FOUND
+        assertEquals(RestStatus.NOT_FOUND, fakeChannel.capturedResponse().status());
+        verify(client, never()).execute(eq(MLPredictionTaskAction.INSTANCE), any(), any());
+    }
+
     @Ignore
     public void testPrepareRequest_EmptyAlgorithm() throws Exception {
         MLModel model = MLModel.builder().algorithm(FunctionName.BATCH_RCF).build();
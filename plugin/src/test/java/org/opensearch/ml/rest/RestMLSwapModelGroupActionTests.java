@@ -0,0 +1,103 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.rest;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.opensearch.ml.utils.RestActionUtils.PARAMETER_MODEL_GROUP_ID;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.ml.common.transport.model_group.MLModelGroupSwapAction;
+import org.opensearch.ml.common.transport.model_group.MLModelGroupSwapRequest;
+import org.opensearch.ml.utils.TestHelper;
+import org.opensearch.rest.RestChannel;
+import org.opensearch.rest.RestHandler;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.rest.FakeRestRequest;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+
+public class RestMLSwapModelGroupActionTests extends OpenSearchTestCase {
+    private RestMLSwapModelGroupAction restMLSwapModelGroupAction;
+
+    NodeClient client;
+    private ThreadPool threadPool;
+
+    @Mock
+    RestChannel channel;
+
+    @Before
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        restMLSwapModelGroupAction = new RestMLSwapModelGroupAction();
+        threadPool = new TestThreadPool(this.getClass().getSimpleName() + "ThreadPool");
+        client = spy(new NodeClient(Settings.EMPTY, threadPool));
+        doAnswer(invocation -> null).when(client).execute(eq(MLModelGroupSwapAction.INSTANCE), any(), any());
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        super.tearDown();
+        threadPool.shutdown();
+        client.close();
+    }
+
+    public void testGetName() {
+        assertEquals("ml_swap_model_group_action", restMLSwapModelGroupAction.getName());
+    }
+
+    public void testRoutes() {
+        List<RestHandler.Route> routes = restMLSwapModelGroupAction.routes();
+        assertNotNull(routes);
+        assertFalse(routes.isEmpty());
+        RestHandler.Route route = routes.get(0);
+        assertEquals(RestRequest.Method.POST, route.getMethod());
+        assertEquals("/_plugins/_ml/model_groups/{model_group_id}/_swap", route.getPath());
+    }
+
+    public void testGetRequest() throws Exception {
+        MLModelGroupSwapRequest request = restMLSwapModelGroupAction.getRequest(getRestRequest());
+        assertEquals("test_model_group", request.getModelGroupId());
+        assertEquals("test_model", request.getModelId());
+        assertEquals(List.of("a", "b"), request.getWarmUpDocs());
+        assertEquals(16, request.getWarmUpBatchSize());
+        assertEquals(3, request.getWarmUpRounds());
+    }
+
+    public void testPrepareRequest() throws Exception {
+        restMLSwapModelGroupAction.handleRequest(getRestRequest(), channel, client);
+        ArgumentCaptor<MLModelGroupSwapRequest> argumentCaptor = ArgumentCaptor.forClass(MLModelGroupSwapRequest.class);
+        verify(client, times(1)).execute(eq(MLModelGroupSwapAction.INSTANCE), argumentCaptor.capture(), any());
+        assertEquals("test_model_group", argumentCaptor.getValue().getModelGroupId());
+        assertEquals("test_model", argumentCaptor.getValue().getModelId());
+    }
+
+    private RestRequest getRestRequest() {
+        Map<String, String> params = new HashMap<>();
+        params.put(PARAMETER_MODEL_GROUP_ID, "test_model_group");
+        String content = "{\"model_id\":\"test_model\",\"warm_up_docs\":[\"a\",\"b\"],\"warm_up_batch_size\":16,\"warm_up_rounds\":3}";
+        return new FakeRestRequest.Builder(TestHelper.xContentRegistry())
+            .withParams(params)
+            .withContent(new BytesArray(content), XContentType.JSON)
+            .build();
+    }
+}
@@ -6,17 +6,22 @@
 package org.opensearch.ml.stats;
 
 import static org.opensearch.core.xcontent.ToXContent.EMPTY_PARAMS;
+import static org.opensearch.ml.stats.MLActionLevelStat.ML_ACTION_CPU_TIME_IN_NANOS;
 import static org.opensearch.ml.stats.MLActionLevelStat.ML_ACTION_FAILURE_COUNT;
+import static org.opensearch.ml.stats.MLActionLevelStat.ML_ACTION_REMOTE_BYTES_SENT;
 import static org.opensearch.ml.stats.MLActionLevelStat.ML_ACTION_REQUEST_COUNT;
 
 import java.io.IOException;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 
 import org.junit.Before;
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.ml.utils.TestHelper;
 import org.opensearch.test.OpenSearchTestCase;
@@ -46,6 +51,48 @@ public class MLActionStatsTests extends OpenSearchTestCase {
         assertEquals(failureCount, parsedMLActionStats.getActionStat(ML_ACTION_FAILURE_COUNT));
     }
 
+    public void testSerializationDeserialization_ResourceStats() throws IOException {
+        Map<MLActionLevelStat, Object> stats = new EnumMap<>(MLActionLevelStat.class);
+        stats.put(ML_ACTION_REQUEST_COUNT, requestCount);
+        stats.put(ML_ACTION_CPU_TIME_IN_NANOS, 3000L);
+        stats.put(ML_ACTION_REMOTE_BYTES_SENT, 100L);
+        MLActionStats actionStats = new MLActionStats(stats);
+
+        BytesStreamOutput output = new BytesStreamOutput();
+        output.setVersion(Version.CURRENT);
+        actionStats.writeTo(output);
+        StreamInput input = output.bytes().streamInput();
+        input.setVersion(Version.CURRENT);
+        MLActionStats parsedActionStats = new MLActionStats(input);
+        assertEquals(3, parsedActionStats.getActionStatSize());
+        assertEquals(3000L, parsedActionStats.getActionStat(ML_ACTION_CPU_TIME_IN_NANOS));
+        assertEquals(100L, parsedActionStats.getActionStat(ML_ACTION_REMOTE_BYTES_SENT));
+    }
+
+    public void testSerializationDeserialization_ResourceStats_OldVersion() throws IOException {
+        Map<MLActionLevelStat, Object> stats = new EnumMap<>(MLActionLevelStat.class);
+        stats.put(ML_ACTION_REQUEST_COUNT, requestCount);
+        stats.put(ML_ACTION_FAILURE_COUNT, failureCount);
+        stats.put(ML_ACTION_CPU_TIME_IN_NANOS, 3000L);
+        stats.put(ML_ACTION_REMOTE_BYTES_SENT, 100L);
+        MLActionStats actionStats = new MLActionStats(stats);
+
+        // nodes before 2.13 don't know the resource stats
+        BytesStreamOutput output = new BytesStreamOutput();
+        output.setVersion(Version.V_2_12_0);
+        actionStats.writeTo(output);
+        StreamInput input = output.bytes().streamInput();
+        input.setVersion(Version.V_2_12_0);
+        MLActionStats parsedActionStats = new MLActionStats(input);
+        assertEquals(2, parsedActionStats.getActionStatSize());
+        assertEquals(requestCount, parsedActionStats.getActionStat(ML_ACTION_REQUEST_COUNT));
+        assertEquals(failureCount, parsedActionStats.getActionStat(ML_ACTION_FAILURE_COUNT));
+        assertNull(parsedActionStats.getActionStat(ML_ACTION_CPU_TIME_IN_NANOS));
+        assertNull(parsedActionStats.getActionStat(ML_ACTION_REMOTE_BYTES_SENT));
+        // the stats to write are not changed
+        assertEquals(4, actionStats.getActionStatSize());
+    }
+
     public void testToXContent() throws IOException {
         XContentBuilder builder = XContentBuilder.builder(XContentType.JSON.xContent());
         builder.startObject();
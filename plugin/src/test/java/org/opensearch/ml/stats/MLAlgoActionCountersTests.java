@@ -0,0 +1,41 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.stats;
+
+import static org.opensearch.ml.stats.MLActionLevelStat.ML_ACTION_FAILURE_COUNT;
+import static org.opensearch.ml.stats.MLActionLevelStat.ML_ACTION_REQUEST_COUNT;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class MLAlgoActionCountersTests extends OpenSearchTestCase {
+    private MLStats mlStats;
+    private MLAlgoActionCounters counters;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        mlStats = new MLStats(new HashMap<>());
+        counters = new MLAlgoActionCounters(mlStats, FunctionName.TEXT_EMBEDDING, ActionName.PREDICT);
+    }
+
+    public void testIncrement() {
+        // stats of an algorithm are created on the first use, not with the handles
+        assertNull(mlStats.getAlgorithmStats(FunctionName.TEXT_EMBEDDING));
+        counters.increment(ML_ACTION_REQUEST_COUNT);
+        counters.increment(ML_ACTION_REQUEST_COUNT);
+        MLStat<?> stat = mlStats.createCounterStatIfAbsent(FunctionName.TEXT_EMBEDDING, ActionName.PREDICT, ML_ACTION_REQUEST_COUNT);
+        assertSame(stat, counters.get(ML_ACTION_REQUEST_COUNT));
+
+        Map<ActionName, MLActionStats> algoStats = mlStats.getAlgorithmStats(FunctionName.TEXT_EMBEDDING);
+        assertEquals(2L, algoStats.get(ActionName.PREDICT).getActionStat(ML_ACTION_REQUEST_COUNT));
+        // stats which were never recorded are not reported
+        assertNull(algoStats.get(ActionName.PREDICT).getActionStat(ML_ACTION_FAILURE_COUNT));
+    }
+}
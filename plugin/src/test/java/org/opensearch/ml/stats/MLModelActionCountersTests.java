@@ -0,0 +1,53 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.stats;
+
+import static org.opensearch.ml.stats.MLActionLevelStat.ML_ACTION_CPU_TIME_IN_NANOS;
+import static org.opensearch.ml.stats.MLActionLevelStat.ML_ACTION_FAILURE_COUNT;
+import static org.opensearch.ml.stats.MLActionLevelStat.ML_ACTION_REQUEST_COUNT;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class MLModelActionCountersTests extends OpenSearchTestCase {
+    private MLStats mlStats;
+    private MLModelActionCounters counters;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        mlStats = new MLStats(new HashMap<>());
+        counters = new MLModelActionCounters(mlStats, "model_id", ActionName.PREDICT);
+    }
+
+    public void testIncrement() {
+        counters.increment(ML_ACTION_REQUEST_COUNT);
+        counters.increment(ML_ACTION_REQUEST_COUNT);
+        MLStat<?> stat = mlStats.createModelCounterStatIfAbsent("model_id", ActionName.PREDICT, ML_ACTION_REQUEST_COUNT);
+        assertSame(stat, counters.get(ML_ACTION_REQUEST_COUNT));
+
+        Map<ActionName, MLActionStats> modelStats = mlStats.getModelStats("model_id");
+        assertEquals(2L, modelStats.get(ActionName.PREDICT).getActionStat(ML_ACTION_REQUEST_COUNT));
+        // stats which were never recorded are not reported
+        assertNull(modelStats.get(ActionName.PREDICT).getActionStat(ML_ACTION_FAILURE_COUNT));
+    }
+
+    public void testAdd() {
+        counters.add(ML_ACTION_CPU_TIME_IN_NANOS, 100);
+        counters.add(ML_ACTION_CPU_TIME_IN_NANOS, 0);
+        counters.add(ML_ACTION_CPU_TIME_IN_NANOS, -1);
+        assertEquals(100L, counters.get(ML_ACTION_CPU_TIME_IN_NANOS).getValue());
+    }
+
+    public void testRemoveModelStats() {
+        counters.increment(ML_ACTION_REQUEST_COUNT);
+        mlStats.removeModelStats("model_id");
+        counters.increment(ML_ACTION_REQUEST_COUNT);
+        assertNull(mlStats.getModelStats("model_id"));
+    }
+}
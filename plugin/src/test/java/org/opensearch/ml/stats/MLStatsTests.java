@@ -163,4 +163,34 @@ public class MLStatsTests extends OpenSearchTestCase {
         String[] allModels = stats.getAllModels();
         assertArrayEquals(new String[] { modelID }, allModels);
     }
+
+    public void testCreateModelCounterStatIfAbsent_SameStat() {
+        MLStat<?> stat = mlStats.createModelCounterStatIfAbsent(modelID, ActionName.PREDICT, ML_ACTION_REQUEST_COUNT);
+        assertSame(stat, mlStats.createModelCounterStatIfAbsent(modelID, ActionName.PREDICT, ML_ACTION_REQUEST_COUNT));
+        assertNotSame(stat, mlStats.createModelCounterStatIfAbsent(modelID, ActionName.PREDICT, MLActionLevelStat.ML_ACTION_FAILURE_COUNT));
+    }
+
+    public void testCreateModelCounterStatIfAbsent_MaxModelStats() {
+        mlStats.setMaxModelStats(1);
+        mlStats.createModelCounterStatIfAbsent(modelID, ActionName.PREDICT, ML_ACTION_REQUEST_COUNT).increment();
+        MLStat<?> untracked = mlStats.createModelCounterStatIfAbsent("model_id2", ActionName.PREDICT, ML_ACTION_REQUEST_COUNT);
+        untracked.increment();
+        assertArrayEquals(new String[] { modelID }, mlStats.getAllModels());
+        assertNull(mlStats.getModelStats("model_id2"));
+
+        // models which already have stats keep them
+        mlStats.createModelCounterStatIfAbsent(modelID, ActionName.DEPLOY, ML_ACTION_REQUEST_COUNT).increment();
+        assertEquals(1L, mlStats.getModelStats(modelID).get(ActionName.DEPLOY).getActionStat(ML_ACTION_REQUEST_COUNT));
+
+        mlStats.removeModelStats(modelID);
+        mlStats.createModelCounterStatIfAbsent("model_id2", ActionName.PREDICT, ML_ACTION_REQUEST_COUNT).increment();
+        assertEquals(1L, mlStats.getModelStats("model_id2").get(ActionName.PREDICT).getActionStat(ML_ACTION_REQUEST_COUNT));
+    }
+
+    public void testRemoveModelStats() {
+        mlStats.createModelCounterStatIfAbsent(modelID, ActionName.PREDICT, ML_ACTION_REQUEST_COUNT).increment();
+        mlStats.removeModelStats(modelID);
+        assertNull(mlStats.getModelStats(modelID));
+        assertEquals(0, mlStats.getAllModels().length);
+    }
 }
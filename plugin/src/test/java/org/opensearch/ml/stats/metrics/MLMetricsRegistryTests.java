@@ -0,0 +1,154 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.stats.metrics;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.Closeable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.stats.ActionName;
+import org.opensearch.ml.stats.MLActionLevelStat;
+import org.opensearch.ml.stats.MLNodeLevelStat;
+import org.opensearch.ml.stats.MLStat;
+import org.opensearch.ml.stats.MLStats;
+import org.opensearch.ml.stats.suppliers.CounterSupplier;
+import org.opensearch.telemetry.metrics.Counter;
+import org.opensearch.telemetry.metrics.Histogram;
+import org.opensearch.telemetry.metrics.MetricsRegistry;
+import org.opensearch.telemetry.metrics.tags.Tags;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class MLMetricsRegistryTests extends OpenSearchTestCase {
+    private MLMetricsRegistry mlMetrics;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        mlMetrics = new MLMetricsRegistry();
+    }
+
+    public void testCounter() {
+        MLCounter.Series series = mlMetrics.getRemoteHttpResponses().labels("model1", "200");
+        series.inc();
+        series.inc(2);
+        assertSame(series, mlMetrics.getRemoteHttpResponses().labels("model1", "200"));
+        assertEquals(3, series.get());
+
+        String content = mlMetrics.toOpenMetrics("node1");
+        assertTrue(content.contains("# TYPE ml_remote_http_responses counter\n"));
+        assertTrue(content.contains("ml_remote_http_responses_total{node=\"node1\",model_id=\"model1\",status_code=\"200\"} 3\n"));
+    }
+
+    public void testHistogram() {
+        MLHistogram.Series series = mlMetrics.getPredictLatency().labels("model1", FunctionName.TEXT_EMBEDDING.name());
+        series.observe(0.003);
+        series.observe(0.01);
+        series.observe(0.2);
+        series.observe(100);
+        assertEquals(4, series.getCount());
+        assertEquals(100.213, series.getSum(), 1e-9);
+
+        String content = mlMetrics.toOpenMetrics("node1");
+        String labels = "node=\"node1\",model_id=\"model1\",function_name=\"TEXT_EMBEDDING\"";
+        assertTrue(content.contains("# TYPE ml_predict_latency_seconds histogram\n"));
+        assertTrue(content.contains("ml_predict_latency_seconds_bucket{" + labels + ",le=\"0.005\"} 1\n"));
+        // bounds are inclusive
+        assertTrue(content.contains("ml_predict_latency_seconds_bucket{" + labels + ",le=\"0.01\"} 2\n"));
+        assertTrue(content.contains("ml_predict_latency_seconds_bucket{" + labels + ",le=\"0.25\"} 3\n"));
+        assertTrue(content.contains("ml_predict_latency_seconds_bucket{" + labels + ",le=\"60.0\"} 3\n"));
+        assertTrue(content.contains("ml_predict_latency_seconds_bucket{" + labels + ",le=\"+Inf\"} 4\n"));
+        assertTrue(content.contains("ml_predict_latency_seconds_count{" + labels + "} 4\n"));
+    }
+
+    public void testHistogram_WrongBuckets() {
+        expectThrows(IllegalArgumentException.class, () -> new MLHistogram("test", "test", "s", new double[] { 1, 1 }));
+    }
+
+    public void testGauge() {
+        mlMetrics.getThreadPoolQueueSize().register(() -> 5, "opensearch_ml_predict");
+        String content = mlMetrics.toOpenMetrics("node1");
+        assertTrue(content.contains("# TYPE ml_thread_pool_queue_size gauge\n"));
+        assertTrue(content.contains("ml_thread_pool_queue_size{node=\"node1\",thread_pool=\"opensearch_ml_predict\"} 5.0\n"));
+
+        mlMetrics.getThreadPoolQueueSize().remove("opensearch_ml_predict");
+        assertFalse(mlMetrics.toOpenMetrics("node1").contains("thread_pool=\"opensearch_ml_predict\""));
+    }
+
+    public void testRemoveModel() {
+        mlMetrics.getRemoteHttpResponses().labels("model1", "200").inc();
+        mlMetrics.getRemoteHttpResponses().labels("model1", "500").inc();
+        mlMetrics.getRemoteHttpResponses().labels("model2", "200").inc();
+        mlMetrics.getPredictLatency().labels("model1", "REMOTE").observe(0.1);
+
+        mlMetrics.removeModel("model1");
+        String content = mlMetrics.toOpenMetrics("node1");
+        assertFalse(content.contains("model_id=\"model1\""));
+        assertTrue(content.contains("ml_remote_http_responses_total{node=\"node1\",model_id=\"model2\",status_code=\"200\"} 1\n"));
+    }
+
+    public void testLabels_WrongCount() {
+        IllegalArgumentException e = expectThrows(IllegalArgumentException.class, () -> mlMetrics.getCircuitBreakerRejections().labels());
+        assertTrue(e.getMessage().contains("ml_circuit_breaker_rejections"));
+    }
+
+    public void testLabels_Escaped() {
+        mlMetrics.getCircuitBreakerRejections().labels("a\"b\\c\nd").inc();
+        String content = mlMetrics.toOpenMetrics("node1");
+        assertTrue(content.contains("breaker=\"a\\\"b\\\\c\\nd\""));
+    }
+
+    public void testToOpenMetrics_Stats() {
+        Map<Enum, MLStat<?>> stats = new ConcurrentHashMap<>();
+        stats.put(MLNodeLevelStat.ML_REQUEST_COUNT, new MLStat<>(false, new CounterSupplier()));
+        stats.put(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT, new MLStat<>(false, new CounterSupplier()));
+        MLStats mlStats = new MLStats(stats);
+        mlStats.getStat(MLNodeLevelStat.ML_REQUEST_COUNT).increment();
+        mlStats.createCounterStatIfAbsent(FunctionName.KMEANS, ActionName.TRAIN, MLActionLevelStat.ML_ACTION_REQUEST_COUNT).increment();
+        mlStats.createModelCounterStatIfAbsent("model1", ActionName.PREDICT, MLActionLevelStat.ML_ACTION_FAILURE_COUNT).increment();
+        mlMetrics.registerStats(mlStats);
+
+        String content = mlMetrics.toOpenMetrics("node1");
+        assertTrue(content.contains("# TYPE ml_request_count counter\n"));
+        assertTrue(content.contains("ml_request_count_total{node=\"node1\"} 1.0\n"));
+        assertTrue(content.contains("# TYPE ml_executing_task_count gauge\n"));
+        assertTrue(content.contains("ml_executing_task_count{node=\"node1\"} 0.0\n"));
+        assertTrue(content.contains("ml_action_request_count_total{node=\"node1\",function_name=\"KMEANS\",action=\"train\"} 1\n"));
+        assertTrue(content.contains("ml_model_action_failure_count_total{node=\"node1\",model_id=\"model1\",action=\"predict\"} 1\n"));
+        assertTrue(content.endsWith("# EOF\n"));
+    }
+
+    public void testBind() throws Exception {
+        MetricsRegistry telemetry = mock(MetricsRegistry.class);
+        Counter counter = mock(Counter.class);
+        Histogram histogram = mock(Histogram.class);
+        Closeable gauge = mock(Closeable.class);
+        when(telemetry.createCounter(anyString(), anyString(), anyString())).thenReturn(counter);
+        when(telemetry.createHistogram(anyString(), anyString(), anyString())).thenReturn(histogram);
+        when(telemetry.createGauge(anyString(), anyString(), anyString(), any(), any(Tags.class))).thenReturn(gauge);
+        mlMetrics.getThreadPoolQueueSize().register(() -> 1, "opensearch_ml_predict");
+
+        mlMetrics.bind(telemetry);
+        verify(telemetry).createGauge(eq("ml_thread_pool_queue_size"), anyString(), eq("1"), any(), any(Tags.class));
+
+        MLCounter.Series series = mlMetrics.getCircuitBreakerRejections().labels("memory");
+        series.inc();
+        verify(counter).add(1, series.getTags());
+        MLHistogram.Series latency = mlMetrics.getPredictLatency().labels("model1", "REMOTE");
+        latency.observe(0.5);
+        verify(histogram).record(0.5, latency.getTags());
+
+        mlMetrics.getThreadPoolQueueSize().remove("opensearch_ml_predict");
+        verify(gauge).close();
+    }
+}
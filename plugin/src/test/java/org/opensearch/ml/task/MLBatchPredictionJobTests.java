@@ -0,0 +1,384 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.task;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.ml.common.MLTask.CHECKPOINT_FIELD;
+import static org.opensearch.ml.common.MLTask.STATE_FIELD;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+
+import org.apache.lucene.search.TotalHits;
+import org.junit.Before;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.search.CreatePitRequest;
+import org.opensearch.action.search.CreatePitResponse;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.update.UpdateRequest;
+import org.opensearch.client.Client;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLTaskState;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.common.transport.MLTaskResponse;
+import org.opensearch.ml.common.transport.prediction.MLBatchPredictionRequest;
+import org.opensearch.ml.common.transport.prediction.MLPredictionTaskAction;
+import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.sort.FieldSortBuilder;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+
+import com.google.common.collect.ImmutableMap;
+
+public class MLBatchPredictionJobTests extends OpenSearchTestCase {
+    private static final String TASK_ID = "task_id";
+
+    @Mock
+    private Client client;
+    @Mock
+    private ThreadPool threadPool;
+    @Mock
+    private ExecutorService executorService;
+    @Mock
+    private MLTaskManager mlTaskManager;
+
+    private MLBatchPredictionRequest request;
+    // responses of the searches after the count search, in order
+    private Deque<Object> pageResponses;
+    private List<SearchRequest> pageRequests;
+
+    @Before
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        request = MLBatchPredictionRequest
+            .builder()
+            .modelId("test_model")
+            .sourceIndex("source")
+            .inputField("text")
+            .outputField("embedding")
+            .batchSize(2)
+            .build();
+        pageResponses = new ArrayDeque<>();
+        pageRequests = new ArrayList<>();
+
+        when(threadPool.executor(anyString())).thenReturn(executorService);
+        doAnswer(invocation -> {
+            Runnable runnable = invocation.getArgument(0);
+            runnable.run();
+            return null;
+        }).when(executorService).execute(any(Runnable.class));
+
+        doAnswer(invocation -> {
+            SearchRequest searchRequest = invocation.getArgument(0);
+            ActionListener<SearchResponse> listener = invocation.getArgument(1);
+            if (searchRequest.source().pointInTimeBuilder() == null) {
+                // count request
+                listener.onResponse(searchResponse(new SearchHit[0], 3));
+                return null;
+            }
+            pageRequests.add(searchRequest);
+            Object response = pageResponses.poll();
+            if (response instanceof Exception) {
+                listener.onFailure((Exception) response);
+            } else {
+                listener.onResponse(response == null ? searchResponse(new SearchHit[0], 3) : (SearchResponse) response);
+            }
+            return null;
+        }).when(client).search(any(SearchRequest.class), any());
+
+        CreatePitResponse createPitResponse = mock(CreatePitResponse.class);
+        when(createPitResponse.getId()).thenReturn("new_pit");
+        doAnswer(invocation -> {
+            ActionListener<CreatePitResponse> listener = invocation.getArgument(1);
+            listener.onResponse(createPitResponse);
+            return null;
+        }).when(client).createPit(any(), any());
+
+        doAnswer(invocation -> {
+            MLPredictionTaskRequest predictRequest = invocation.getArgument(1);
+            ActionListener<MLTaskResponse> listener = invocation.getArgument(2);
+            int docCount = ((TextDocsInputDataSet) predictRequest.getMlInput().getInputDataset()).getDocs().size();
+            List<ModelTensors> outputs = new ArrayList<>();
+            for (int i = 0; i < docCount; i++) {
+                ModelTensor tensor = ModelTensor.builder().name("sentence_embedding").data(new Number[] { 1.0f }).build();
+                outputs.add(ModelTensors.builder().mlModelTensors(Collections.singletonList(tensor)).build());
+            }
+            listener.onResponse(new MLTaskResponse(ModelTensorOutput.builder().mlModelOutputs(outputs).build()));
+            return null;
+        }).when(client).execute(eq(MLPredictionTaskAction.INSTANCE), any(), any());
+
+        doAnswer(invocation -> {
+            ActionListener<BulkResponse> listener = invocation.getArgument(1);
+            BulkResponse bulkResponse = mock(BulkResponse.class);
+            when(bulkResponse.hasFailures()).thenReturn(false);
+            listener.onResponse(bulkResponse);
+            return null;
+        }).when(client).bulk(any(), any());
+    }
+
+    public void testGetOutputValue_Data() {
+        ModelTensor tensor = ModelTensor.builder().name("sentence_embedding").data(new Number[] { 1.0f, 2.0f }).build();
+        ModelTensors modelTensors = ModelTensors.builder().mlModelTensors(Collections.singletonList(tensor)).build();
+        assertEquals(Arrays.asList(1.0f, 2.0f), MLBatchPredictionJob.getOutputValue(modelTensors));
+    }
+
+    public void testGetOutputValue_DataAsMap() {
+        Map<String, Object> dataAsMap = ImmutableMap.of("token", 0.5);
+        ModelTensor tensor = ModelTensor.builder().name("output").dataAsMap(dataAsMap).build();
+        ModelTensors modelTensors = ModelTensors.builder().mlModelTensors(Collections.singletonList(tensor)).build();
+        assertEquals(dataAsMap, MLBatchPredictionJob.getOutputValue(modelTensors));
+    }
+
+    public void testGetOutputValue_Empty() {
+        assertNull(MLBatchPredictionJob.getOutputValue(null));
+        assertNull(MLBatchPredictionJob.getOutputValue(ModelTensors.builder().mlModelTensors(List.of()).build()));
+    }
+
+    public void testGetOutputValues_OutputPerDoc() {
+        List<ModelTensors> outputs = List.of(modelTensors(1.0f), modelTensors(2.0f));
+        assertEquals(List.of(List.of(1.0f), List.of(2.0f)), MLBatchPredictionJob.getOutputValues(outputs, 2));
+        assertNull(MLBatchPredictionJob.getOutputValues(outputs, 3));
+        assertNull(MLBatchPredictionJob.getOutputValues(null, 2));
+    }
+
+    public void testGetOutputValues_TensorPerDoc() {
+        // remote models return one output per call with one tensor per doc
+        List<ModelTensors> outputs = List.of(modelTensors(1.0f, 2.0f), modelTensors(3.0f));
+        assertEquals(List.of(List.of(1.0f), List.of(2.0f), List.of(3.0f)), MLBatchPredictionJob.getOutputValues(outputs, 3));
+        assertNull(MLBatchPredictionJob.getOutputValues(outputs, 4));
+    }
+
+    public void testStart_RemoteModel() {
+        pageResponses.add(searchResponse(new SearchHit[] { hit("doc1", 5L), hit("doc2", 7L) }, 2));
+        doAnswer(invocation -> {
+            ActionListener<MLTaskResponse> listener = invocation.getArgument(2);
+            ModelTensorOutput output = ModelTensorOutput.builder().mlModelOutputs(List.of(modelTensors(1.0f, 2.0f))).build();
+            listener.onResponse(new MLTaskResponse(output));
+            return null;
+        }).when(client).execute(eq(MLPredictionTaskAction.INSTANCE), any(), any());
+
+        MLBatchPredictionJob job = new MLBatchPredictionJob(
+            client,
+            threadPool,
+            mlTaskManager,
+            request,
+            FunctionName.REMOTE,
+            TASK_ID,
+            1,
+            null
+        );
+        job.start();
+
+        ArgumentCaptor<BulkRequest> bulkCaptor = ArgumentCaptor.forClass(BulkRequest.class);
+        verify(client).bulk(bulkCaptor.capture(), any());
+        assertEquals(2, bulkCaptor.getValue().numberOfActions());
+        UpdateRequest secondDoc = (UpdateRequest) bulkCaptor.getValue().requests().get(1);
+        assertEquals("doc2", secondDoc.id());
+        assertEquals("[2.0]", secondDoc.doc().sourceAsMap().get("embedding").toString());
+        assertEquals(2, job.getProcessedDocs());
+        assertEquals(0, job.getFailedDocs());
+    }
+
+    public void testGetThrottleDelayInMillis_NoThrottle() {
+        MLBatchPredictionJob job = createJob(2, ImmutableMap.of(MLBatchPredictionJob.CHECKPOINT_SEARCH_AFTER_FIELD, 10L));
+        assertEquals(0, job.getThrottleDelayInMillis());
+    }
+
+    public void testGetPageSize() {
+        assertEquals(6, createJob(3, null).getPageSize());
+        MLBatchPredictionRequest largeBatchRequest = request.toBuilder().batchSize(MLBatchPredictionRequest.MAX_BATCH_SIZE).build();
+        MLBatchPredictionJob job = new MLBatchPredictionJob(
+            client,
+            threadPool,
+            mlTaskManager,
+            largeBatchRequest,
+            FunctionName.TEXT_EMBEDDING,
+            TASK_ID,
+            100,
+            null
+        );
+        assertEquals(MLBatchPredictionJob.MAX_PAGE_SIZE, job.getPageSize());
+    }
+
+    public void testConstructor_UnsupportedFunctionName() {
+        IllegalArgumentException e = expectThrows(
+            IllegalArgumentException.class,
+            () -> new MLBatchPredictionJob(client, threadPool, mlTaskManager, request, FunctionName.KMEANS, TASK_ID, 1, null)
+        );
+        assertEquals("Batch prediction doesn't support KMEANS models", e.getMessage());
+    }
+
+    public void testStart_PageWithShardDocAndCheckpoint() {
+        pageResponses.add(searchResponse(new SearchHit[] { hit("doc1", 5L), hit("doc2", 7L), hit("doc3", 9L) }, 3));
+
+        MLBatchPredictionJob job = createJob(2, null);
+        job.start();
+
+        verify(client).createPit(any(CreatePitRequest.class), any());
+        assertEquals(2, pageRequests.size());
+        SearchRequest firstPage = pageRequests.get(0);
+        assertEquals("new_pit", firstPage.source().pointInTimeBuilder().getId());
+        assertEquals(4, firstPage.source().size());
+        assertEquals(MLBatchPredictionJob.SHARD_DOC_FIELD, ((FieldSortBuilder) firstPage.source().sorts().get(0)).getFieldName());
+        assertNull(firstPage.source().searchAfter());
+        assertArrayEquals(new Object[] { 9L }, pageRequests.get(1).source().searchAfter());
+
+        ArgumentCaptor<MLPredictionTaskRequest> predictCaptor = ArgumentCaptor.forClass(MLPredictionTaskRequest.class);
+        verify(client, times(2)).execute(eq(MLPredictionTaskAction.INSTANCE), predictCaptor.capture(), any());
+        assertEquals(FunctionName.TEXT_EMBEDDING, predictCaptor.getValue().getMlInput().getAlgorithm());
+        ArgumentCaptor<BulkRequest> bulkCaptor = ArgumentCaptor.forClass(BulkRequest.class);
+        verify(client).bulk(bulkCaptor.capture(), any());
+        assertEquals(3, bulkCaptor.getValue().numberOfActions());
+        assertEquals("source", ((UpdateRequest) bulkCaptor.getValue().requests().get(0)).index());
+
+        Map<String, Object> checkpoint = (Map<String, Object>) lastUpdate(false).get(CHECKPOINT_FIELD);
+        assertEquals("new_pit", checkpoint.get(MLBatchPredictionJob.CHECKPOINT_PIT_ID_FIELD));
+        assertEquals(9L, checkpoint.get(MLBatchPredictionJob.CHECKPOINT_SEARCH_AFTER_FIELD));
+        assertEquals(3L, checkpoint.get(MLBatchPredictionJob.CHECKPOINT_PROCESSED_DOCS_FIELD));
+        assertEquals("source", checkpoint.get(MLBatchPredictionJob.CHECKPOINT_SOURCE_INDEX_FIELD));
+
+        assertEquals(MLTaskState.COMPLETED, lastUpdate(true).get(STATE_FIELD));
+        verify(client).deletePits(any(), any());
+        assertEquals(3, job.getProcessedDocs());
+        assertEquals(0, job.getFailedDocs());
+    }
+
+    public void testStart_ResumeFromCheckpoint() {
+        pageResponses.add(searchResponse(new SearchHit[] { hit("doc3", 9L) }, 3));
+        Map<String, Object> checkpoint = ImmutableMap
+            .of(
+                MLBatchPredictionJob.CHECKPOINT_PIT_ID_FIELD,
+                "old_pit",
+                MLBatchPredictionJob.CHECKPOINT_SEARCH_AFTER_FIELD,
+                7,
+                MLBatchPredictionJob.CHECKPOINT_PROCESSED_DOCS_FIELD,
+                2,
+                MLBatchPredictionJob.CHECKPOINT_FAILED_DOCS_FIELD,
+                1,
+                MLBatchPredictionJob.CHECKPOINT_TOTAL_DOCS_FIELD,
+                3
+            );
+
+        MLBatchPredictionJob job = createJob(1, checkpoint);
+        job.start();
+
+        verify(client, never()).createPit(any(), any());
+        assertEquals("old_pit", pageRequests.get(0).source().pointInTimeBuilder().getId());
+        assertArrayEquals(new Object[] { 7L }, pageRequests.get(0).source().searchAfter());
+        assertEquals(3, job.getProcessedDocs());
+        assertEquals(1, job.getFailedDocs());
+        assertEquals(MLTaskState.COMPLETED_WITH_ERROR, lastUpdate(true).get(STATE_FIELD));
+    }
+
+    public void testStart_ResumeExpiredPit() {
+        pageResponses.add(new OpenSearchStatusException("No search context found", RestStatus.NOT_FOUND));
+        pageResponses.add(searchResponse(new SearchHit[] { hit("doc1", 1L) }, 3));
+        Map<String, Object> checkpoint = ImmutableMap
+            .of(
+                MLBatchPredictionJob.CHECKPOINT_PIT_ID_FIELD,
+                "old_pit",
+                MLBatchPredictionJob.CHECKPOINT_SEARCH_AFTER_FIELD,
+                7L,
+                MLBatchPredictionJob.CHECKPOINT_PROCESSED_DOCS_FIELD,
+                2L
+            );
+
+        MLBatchPredictionJob job = createJob(1, checkpoint);
+        job.start();
+
+        verify(client).createPit(any(), any());
+        assertEquals(3, pageRequests.size());
+        assertEquals("new_pit", pageRequests.get(1).source().pointInTimeBuilder().getId());
+        assertNull(pageRequests.get(1).source().searchAfter());
+        assertEquals(1, job.getProcessedDocs());
+        assertEquals(MLTaskState.COMPLETED, lastUpdate(true).get(STATE_FIELD));
+    }
+
+    public void testStart_FailureKeepsPit() {
+        pageResponses.add(searchResponse(new SearchHit[] { hit("doc1", 1L) }, 3));
+        pageResponses.add(new OpenSearchStatusException("search failed", RestStatus.INTERNAL_SERVER_ERROR));
+
+        MLBatchPredictionJob job = createJob(1, null);
+        job.start();
+
+        Map<String, Object> failure = lastUpdate(true);
+        assertEquals(MLTaskState.FAILED, failure.get(STATE_FIELD));
+        Map<String, Object> checkpoint = (Map<String, Object>) failure.get(CHECKPOINT_FIELD);
+        assertEquals("new_pit", checkpoint.get(MLBatchPredictionJob.CHECKPOINT_PIT_ID_FIELD));
+        assertEquals(1L, checkpoint.get(MLBatchPredictionJob.CHECKPOINT_SEARCH_AFTER_FIELD));
+        verify(client, never()).deletePits(any(), any());
+    }
+
+    private MLBatchPredictionJob createJob(int concurrency, Map<String, Object> checkpoint) {
+        return new MLBatchPredictionJob(
+            client,
+            threadPool,
+            mlTaskManager,
+            request,
+            FunctionName.TEXT_EMBEDDING,
+            TASK_ID,
+            concurrency,
+            checkpoint
+        );
+    }
+
+    private ModelTensors modelTensors(Float... values) {
+        List<ModelTensor> tensors = new ArrayList<>();
+        for (Float value : values) {
+            tensors.add(ModelTensor.builder().name("sentence_embedding").data(new Number[] { value }).build());
+        }
+        return ModelTensors.builder().mlModelTensors(tensors).build();
+    }
+
+    private Map<String, Object> lastUpdate(boolean refresh) {
+        ArgumentCaptor<Map<String, Object>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(mlTaskManager, atLeastOnce()).updateMLTask(eq(TASK_ID), captor.capture(), anyLong(), eq(refresh));
+        return captor.getValue();
+    }
+
+    private SearchHit hit(String id, long shardDoc) {
+        SearchHit hit = new SearchHit(0, id, null, null).sourceRef(new BytesArray("{\"text\":\"" + id + "\"}"));
+        hit.sortValues(new Object[] { shardDoc }, new DocValueFormat[] { DocValueFormat.RAW });
+        return hit;
+    }
+
+    private SearchResponse searchResponse(SearchHit[] hits, long totalHits) {
+        SearchResponse searchResponse = mock(SearchResponse.class);
+        when(searchResponse.getHits()).thenReturn(new SearchHits(hits, new TotalHits(totalHits, TotalHits.Relation.EQUAL_TO), 1.0f));
+        return searchResponse;
+    }
+}
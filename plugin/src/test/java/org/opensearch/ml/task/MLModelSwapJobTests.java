@@ -0,0 +1,313 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.task;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.ml.common.CommonValue.ML_MODEL_GROUP_INDEX;
+import static org.opensearch.ml.common.MLTask.CHECKPOINT_FIELD;
+import static org.opensearch.ml.common.MLTask.ERROR_FIELD;
+import static org.opensearch.ml.common.MLTask.STATE_FIELD;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearch.Version;
+import org.opensearch.action.ActionListenerResponseHandler;
+import org.opensearch.action.update.UpdateRequest;
+import org.opensearch.action.update.UpdateResponse;
+import org.opensearch.client.Client;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.engine.VersionConflictEngineException;
+import org.opensearch.ml.cluster.DiscoveryNodeHelper;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.MLTaskState;
+import org.opensearch.ml.common.model.MLModelState;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.transport.MLTaskResponse;
+import org.opensearch.ml.common.transport.deploy.MLDeployModelAction;
+import org.opensearch.ml.common.transport.deploy.MLDeployModelResponse;
+import org.opensearch.ml.common.transport.model_group.MLModelGroupSwapRequest;
+import org.opensearch.ml.common.transport.prediction.MLPredictionTaskAction;
+import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
+import org.opensearch.ml.common.transport.sync.MLSyncUpAction;
+import org.opensearch.ml.common.transport.sync.MLSyncUpNodesResponse;
+import org.opensearch.ml.common.transport.undeploy.MLUndeployModelsAction;
+import org.opensearch.ml.common.transport.undeploy.MLUndeployModelsRequest;
+import org.opensearch.ml.common.transport.undeploy.MLUndeployModelsResponse;
+import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.NodeDisconnectedException;
+import org.opensearch.transport.TransportService;
+
+public class MLModelSwapJobTests extends OpenSearchTestCase {
+    private static final String TASK_ID = "task_id";
+    private static final String MODEL_GROUP_ID = "model_group_id";
+    private static final String MODEL_ID = "new_model";
+    private static final String PREVIOUS_MODEL_ID = "old_model";
+
+    @Mock
+    private Client client;
+    @Mock
+    private ThreadPool threadPool;
+    @Mock
+    private ExecutorService executorService;
+    @Mock
+    private ClusterService clusterService;
+    @Mock
+    private TransportService transportService;
+    @Mock
+    private MLTaskManager mlTaskManager;
+    @Mock
+    private MLModelManager mlModelManager;
+    @Mock
+    private DiscoveryNodeHelper nodeHelper;
+
+    private MLModelGroupSwapRequest request;
+    private AtomicInteger doneCount;
+    private List<String> phases;
+    private MLModelState deployedState;
+
+    @Before
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        request = MLModelGroupSwapRequest
+            .builder()
+            .modelGroupId(MODEL_GROUP_ID)
+            .modelId(MODEL_ID)
+            .warmUpDocs(List.of("a", "b", "c"))
+            .warmUpBatchSize(2)
+            .warmUpRounds(2)
+            .build();
+        doneCount = new AtomicInteger();
+        phases = new ArrayList<>();
+        deployedState = MLModelState.DEPLOYED;
+
+        when(client.threadPool()).thenReturn(threadPool);
+        when(threadPool.getThreadContext()).thenReturn(new ThreadContext(Settings.EMPTY));
+        when(threadPool.executor(anyString())).thenReturn(executorService);
+        doAnswer(invocation -> {
+            Runnable runnable = invocation.getArgument(0);
+            runnable.run();
+            return null;
+        }).when(executorService).execute(any(Runnable.class));
+        doAnswer(invocation -> {
+            Runnable runnable = invocation.getArgument(0);
+            runnable.run();
+            return null;
+        }).when(threadPool).schedule(any(Runnable.class), any(), anyString());
+
+        DiscoveryNodes nodes = DiscoveryNodes
+            .builder()
+            .add(new DiscoveryNode("node1", buildNewFakeTransportAddress(), Version.CURRENT))
+            .build();
+        when(clusterService.state()).thenReturn(ClusterState.builder(new ClusterName("test")).nodes(nodes).build());
+        when(nodeHelper.getAllNodes()).thenReturn(new DiscoveryNode[0]);
+        when(mlModelManager.getWorkerNodes(MODEL_ID, FunctionName.TEXT_EMBEDDING)).thenReturn(new String[] { "node1" });
+
+        doAnswer(invocation -> {
+            Map<String, Object> fields = invocation.getArgument(1);
+            phases.add((String) ((Map<String, Object>) fields.get(CHECKPOINT_FIELD)).get(MLModelSwapJob.CHECKPOINT_PHASE_FIELD));
+            ActionListener<UpdateResponse> listener = invocation.getArgument(2);
+            listener.onResponse(null);
+            return null;
+        }).when(mlTaskManager).updateMLTaskDirectly(eq(TASK_ID), any(), any());
+
+        doAnswer(invocation -> {
+            ActionListenerResponseHandler<MLTaskResponse> handler = invocation.getArgument(3);
+            handler.handleResponse(new MLTaskResponse(ModelTensorOutput.builder().mlModelOutputs(List.of()).build()));
+            return null;
+        }).when(transportService).sendRequest(any(), eq(MLPredictionTaskAction.NAME), any(), any());
+
+        doAnswer(invocation -> {
+            ActionListener<UpdateResponse> listener = invocation.getArgument(1);
+            listener.onResponse(mock(UpdateResponse.class));
+            return null;
+        }).when(client).update(any(), any());
+
+        doAnswer(invocation -> {
+            ActionListener<MLDeployModelResponse> listener = invocation.getArgument(2);
+            listener.onResponse(new MLDeployModelResponse("deploy_task_id", null, MLTaskState.CREATED.name()));
+            return null;
+        }).when(client).execute(eq(MLDeployModelAction.INSTANCE), any(), any());
+        doAnswer(invocation -> {
+            ActionListener<MLSyncUpNodesResponse> listener = invocation.getArgument(2);
+            listener.onResponse(mock(MLSyncUpNodesResponse.class));
+            return null;
+        }).when(client).execute(eq(MLSyncUpAction.INSTANCE), any(), any());
+        doAnswer(invocation -> {
+            ActionListener<MLUndeployModelsResponse> listener = invocation.getArgument(2);
+            listener.onResponse(mock(MLUndeployModelsResponse.class));
+            return null;
+        }).when(client).execute(eq(MLUndeployModelsAction.INSTANCE), any(), any());
+
+        doAnswer(invocation -> {
+            ActionListener<MLModel> listener = invocation.getArgument(3);
+            listener.onResponse(MLModel.builder().algorithm(FunctionName.TEXT_EMBEDDING).modelState(deployedState).build());
+            return null;
+        }).when(mlModelManager).getModel(eq(MODEL_ID), any(String[].class), any(), any());
+    }
+
+    public void testStart_DeployedModel() {
+        createJob(MLModelState.DEPLOYED).start();
+
+        assertEquals(List.of("WARMING_UP", "SWITCHING", "DRAINING"), phases);
+        verify(client, never()).execute(eq(MLDeployModelAction.INSTANCE), any(), any());
+        // 2 batches in each of 2 rounds, predicted on the worker node without dispatching
+        ArgumentCaptor<MLPredictionTaskRequest> predictCaptor = ArgumentCaptor.forClass(MLPredictionTaskRequest.class);
+        verify(transportService, times(4)).sendRequest(any(), eq(MLPredictionTaskAction.NAME), predictCaptor.capture(), any());
+        assertFalse(predictCaptor.getValue().isDispatchTask());
+
+        ArgumentCaptor<UpdateRequest> updateCaptor = ArgumentCaptor.forClass(UpdateRequest.class);
+        verify(client).update(updateCaptor.capture(), any());
+        assertEquals(ML_MODEL_GROUP_INDEX, updateCaptor.getValue().index());
+        assertEquals(5L, updateCaptor.getValue().ifSeqNo());
+        assertEquals(2L, updateCaptor.getValue().ifPrimaryTerm());
+        verify(client).execute(eq(MLSyncUpAction.INSTANCE), any(), any());
+
+        ArgumentCaptor<MLUndeployModelsRequest> undeployCaptor = ArgumentCaptor.forClass(MLUndeployModelsRequest.class);
+        verify(client).execute(eq(MLUndeployModelsAction.INSTANCE), undeployCaptor.capture(), any());
+        assertArrayEquals(new String[] { PREVIOUS_MODEL_ID }, undeployCaptor.getValue().getModelIds());
+        assertEquals(MLTaskState.COMPLETED, lastTaskUpdate().get(STATE_FIELD));
+        Map<String, Object> checkpoint = (Map<String, Object>) lastTaskUpdate().get(CHECKPOINT_FIELD);
+        assertEquals(4, checkpoint.get(MLModelSwapJob.CHECKPOINT_WARM_UP_REQUESTS_FIELD));
+        assertEquals(PREVIOUS_MODEL_ID, checkpoint.get(MLModelSwapJob.CHECKPOINT_PREVIOUS_MODEL_ID_FIELD));
+        assertEquals(1, doneCount.get());
+    }
+
+    public void testStart_DeployModel() {
+        createJob(MLModelState.REGISTERED).start();
+
+        assertEquals(List.of("DEPLOYING", "WARMING_UP", "SWITCHING", "DRAINING"), phases);
+        verify(client).execute(eq(MLDeployModelAction.INSTANCE), any(), any());
+        Map<String, Object> checkpoint = (Map<String, Object>) lastTaskUpdate().get(CHECKPOINT_FIELD);
+        assertEquals("deploy_task_id", checkpoint.get(MLModelSwapJob.CHECKPOINT_DEPLOY_TASK_ID_FIELD));
+        assertEquals(MLTaskState.COMPLETED, lastTaskUpdate().get(STATE_FIELD));
+        assertEquals(1, doneCount.get());
+    }
+
+    public void testStart_DeployFailed_UndeployNewModel() {
+        deployedState = MLModelState.DEPLOY_FAILED;
+
+        createJob(MLModelState.REGISTERED).start();
+
+        assertEquals(List.of("DEPLOYING"), phases);
+        assertEquals(MLTaskState.FAILED, lastTaskUpdate().get(STATE_FIELD));
+        verify(client, never()).update(any(), any());
+        ArgumentCaptor<MLUndeployModelsRequest> undeployCaptor = ArgumentCaptor.forClass(MLUndeployModelsRequest.class);
+        verify(client).execute(eq(MLUndeployModelsAction.INSTANCE), undeployCaptor.capture(), any());
+        assertArrayEquals(new String[] { MODEL_ID }, undeployCaptor.getValue().getModelIds());
+        assertEquals(1, doneCount.get());
+    }
+
+    public void testStart_WarmUpFailed_KeepPreviousModel() {
+        doAnswer(invocation -> {
+            DiscoveryNode node = invocation.getArgument(0);
+            ActionListenerResponseHandler<MLTaskResponse> handler = invocation.getArgument(3);
+            handler.handleException(new NodeDisconnectedException(node, MLPredictionTaskAction.NAME));
+            return null;
+        }).when(transportService).sendRequest(any(), eq(MLPredictionTaskAction.NAME), any(), any());
+
+        createJob(MLModelState.DEPLOYED).start();
+
+        assertEquals(List.of("WARMING_UP"), phases);
+        assertEquals(MLTaskState.FAILED, lastTaskUpdate().get(STATE_FIELD));
+        verify(client, never()).update(any(), any());
+        // the model was deployed before the swap, keep it
+        verify(client, never()).execute(eq(MLUndeployModelsAction.INSTANCE), any(), any());
+        assertEquals(1, doneCount.get());
+    }
+
+    public void testStart_ConcurrentSwap_FailWithoutRollback() {
+        doAnswer(invocation -> {
+            ActionListener<UpdateResponse> listener = invocation.getArgument(1);
+            ShardId shardId = new ShardId(ML_MODEL_GROUP_INDEX, "uuid", 0);
+            listener.onFailure(new VersionConflictEngineException(shardId, MODEL_GROUP_ID, "conflict"));
+            return null;
+        }).when(client).update(any(), any());
+
+        createJob(MLModelState.REGISTERED).start();
+
+        assertEquals(List.of("DEPLOYING", "WARMING_UP", "SWITCHING"), phases);
+        Map<String, Object> failure = lastTaskUpdate();
+        assertEquals(MLTaskState.FAILED, failure.get(STATE_FIELD));
+        assertEquals("Model group model_group_id was updated by another swap or update request", failure.get(ERROR_FIELD));
+        verify(client, never()).execute(eq(MLSyncUpAction.INSTANCE), any(), any());
+        // another swap may serve the new model now
+        verify(client, never()).execute(eq(MLUndeployModelsAction.INSTANCE), any(), any());
+        assertEquals(1, doneCount.get());
+    }
+
+    public void testBatches() {
+        List<List<String>> batches = MLModelSwapJob.batches(List.of("a", "b", "c", "d", "e"), 2);
+        assertEquals(List.of(List.of("a", "b"), List.of("c", "d"), List.of("e")), batches);
+        assertTrue(MLModelSwapJob.batches(List.of(), 2).isEmpty());
+    }
+
+    public void testDeployProgress() {
+        assertEquals(0f, MLModelSwapJob.deployProgress(null, 2), 0.0001);
+        assertEquals(0f, MLModelSwapJob.deployProgress(1, 0), 0.0001);
+        assertEquals(0.25f, MLModelSwapJob.deployProgress(1, 2), 0.0001);
+        assertEquals(0.5f, MLModelSwapJob.deployProgress(3, 2), 0.0001);
+    }
+
+    public void testIsDeployed() {
+        assertTrue(MLModelSwapJob.isDeployed(MLModelState.DEPLOYED));
+        assertTrue(MLModelSwapJob.isDeployed(MLModelState.PARTIALLY_DEPLOYED));
+        assertFalse(MLModelSwapJob.isDeployed(MLModelState.DEPLOYING));
+        assertFalse(MLModelSwapJob.isDeployed(null));
+    }
+
+    private MLModelSwapJob createJob(MLModelState modelState) {
+        MLModel mlModel = MLModel.builder().modelId(MODEL_ID).algorithm(FunctionName.TEXT_EMBEDDING).modelState(modelState).build();
+        return new MLModelSwapJob(
+            client,
+            threadPool,
+            clusterService,
+            transportService,
+            mlTaskManager,
+            mlModelManager,
+            nodeHelper,
+            request,
+            mlModel,
+            PREVIOUS_MODEL_ID,
+            5L,
+            2L,
+            TASK_ID,
+            doneCount::incrementAndGet
+        );
+    }
+
+    private Map<String, Object> lastTaskUpdate() {
+        ArgumentCaptor<Map<String, Object>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(mlTaskManager).updateMLTaskDirectly(eq(TASK_ID), captor.capture());
+        return captor.getValue();
+    }
+}
@@ -9,12 +9,17 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 import static org.mockito.Mockito.spy;
+import static org.opensearch.ml.common.CommonValue.REMOTE_SERVICE_ERROR;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.PREDICT_THREAD_POOL;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -22,6 +27,7 @@ import org.junit.rules.ExpectedException;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.opensearch.OpenSearchStatusException;
 import org.opensearch.Version;
 import org.opensearch.action.get.GetResponse;
 import org.opensearch.client.Client;
@@ -34,6 +40,7 @@ import org.opensearch.commons.ConfigConstants;
 import org.opensearch.commons.authuser.User;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.index.get.GetResult;
@@ -49,22 +56,44 @@ import org.opensearch.ml.common.dataset.MLInputDataset;
 import org.opensearch.ml.common.dataset.SearchQueryInputDataset;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.input.parameter.rcf.BatchRCFParams;
+import org.opensearch.ml.common.output.MLOutput;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.common.profile.MLPredictProfile;
+import org.opensearch.ml.common.profile.MLPredictStage;
+import org.opensearch.ml.common.profile.MLPredictStageTimer;
+import org.opensearch.ml.common.telemetry.MLTracer;
 import org.opensearch.ml.common.transport.MLTaskResponse;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskAction;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
 import org.opensearch.ml.engine.MLEngine;
+import org.opensearch.ml.engine.Predictable;
 import org.opensearch.ml.engine.encryptor.Encryptor;
 import org.opensearch.ml.engine.encryptor.EncryptorImpl;
 import org.opensearch.ml.engine.indices.MLInputDatasetHandler;
 import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.ml.profile.MLPredictSlowLog;
+import org.opensearch.ml.profile.MLPredictSlowLogEntry;
+import org.opensearch.ml.profile.MLResourceMeter;
+import org.opensearch.ml.stats.ActionName;
+import org.opensearch.ml.stats.MLActionLevelStat;
+import org.opensearch.ml.stats.MLActionStats;
 import org.opensearch.ml.stats.MLNodeLevelStat;
 import org.opensearch.ml.stats.MLStat;
 import org.opensearch.ml.stats.MLStats;
+import org.opensearch.ml.stats.metrics.MLHistogram;
+import org.opensearch.ml.stats.metrics.MLMetricsRegistry;
 import org.opensearch.ml.stats.suppliers.CounterSupplier;
 import org.opensearch.ml.utils.TestData;
 import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.telemetry.tracing.Span;
+import org.opensearch.telemetry.tracing.SpanCreationContext;
+import org.opensearch.telemetry.tracing.SpanScope;
+import org.opensearch.telemetry.tracing.Tracer;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportException;
+import org.opensearch.transport.TransportResponseHandler;
 import org.opensearch.transport.TransportService;
 
 import com.google.common.collect.ImmutableList;
@@ -105,6 +134,9 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
     @Mock
     ActionListener<MLTaskResponse> listener;
 
+    @Mock
+    MLPredictSlowLog slowLog;
+
     @Rule
     public ExpectedException exceptionRule = ExpectedException.none();
 
@@ -123,6 +155,9 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
     MLInput mlInputWithDataFrame;
     MLEngine mlEngine;
     Encryptor encryptor;
+    MLMetricsRegistry mlMetrics;
+    MLTracer mlTracer;
+    Tracer tracer;
 
     @Before
     public void setup() throws IOException {
@@ -146,7 +181,9 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
         stats.put(MLNodeLevelStat.ML_FAILURE_COUNT, new MLStat<>(false, new CounterSupplier()));
         stats.put(MLNodeLevelStat.ML_DEPLOYED_MODEL_COUNT, new MLStat<>(false, new CounterSupplier()));
         this.mlStats = new MLStats(stats);
+        mlMetrics = new MLMetricsRegistry();
         mlInputDatasetHandler = spy(new MLInputDatasetHandler(client));
+        mlTracer = new MLTracer();
         taskRunner = spy(
             new MLPredictTaskRunner(
                 threadPool,
@@ -154,13 +191,16 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
                 client,
                 mlTaskManager,
                 mlStats,
+                mlMetrics,
                 mlInputDatasetHandler,
                 mlTaskDispatcher,
                 mlCircuitBreakerService,
                 xContentRegistry(),
                 mlModelManager,
                 nodeHelper,
-                mlEngine
+                mlEngine,
+                slowLog,
+                mlTracer
             )
         );
 
@@ -219,6 +259,22 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
         verify(mlTaskManager).remove(anyString());
     }
 
+    public void testExecuteTask_DispatchedFromPredictThread() throws InterruptedException {
+        setupMocks(true, false, false, false);
+        when(mlTaskDispatcher.isLocalNode(any())).thenReturn(true);
+
+        // a caller on the predict thread pool of a worker node is still dispatched and queued on the pool
+        Thread predictThread = new Thread(
+            () -> taskRunner.dispatchTask(FunctionName.BATCH_RCF, requestWithDataFrame, transportService, listener),
+            "opensearch[node][" + PREDICT_THREAD_POOL + "][T#1]"
+        );
+        predictThread.start();
+        predictThread.join();
+        verify(mlTaskDispatcher).dispatchPredictTask(any(), any());
+        verify(executorService).execute(any(Runnable.class));
+        verify(mlTaskManager).add(any(MLTask.class));
+    }
+
     public void testExecuteTask_OnLocalNode_RemoteModel() {
         setupMocks(true, false, false, false);
 
@@ -231,6 +287,228 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
         verify(client, never()).get(any(), any());
     }
 
+    public void testExecuteTask_OnLocalNode_EvictedModel() {
+        setupMocks(true, false, false, false);
+        when(mlModelManager.isModelEvicted("111")).thenReturn(true, false);
+        doAnswer(invocation -> {
+            ActionListener<String> redeployListener = invocation.getArgument(1);
+            redeployListener.onResponse("successful");
+            return null;
+        }).when(mlModelManager).redeployEvictedModel(eq("111"), any());
+
+        taskRunner.dispatchTask(FunctionName.BATCH_RCF, requestWithDataFrame, transportService, listener);
+        verify(mlModelManager).redeployEvictedModel(eq("111"), any());
+        verify(mlTaskManager).add(any(MLTask.class));
+        verify(client).get(any(), any());
+    }
+
+    public void testExecuteTask_OnLocalNode_EvictedModel_RedeployFail() {
+        setupMocks(true, false, false, false);
+        when(mlModelManager.isModelEvicted("111")).thenReturn(true);
+        doAnswer(invocation -> {
+            ActionListener<String> redeployListener = invocation.getArgument(1);
+            redeployListener.onFailure(new RuntimeException("redeploy failed"));
+            return null;
+        }).when(mlModelManager).redeployEvictedModel(eq("111"), any());
+
+        taskRunner.dispatchTask(FunctionName.BATCH_RCF, requestWithDataFrame, transportService, listener);
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(argumentCaptor.capture());
+        assertEquals("redeploy failed", argumentCaptor.getValue().getMessage());
+        verify(mlTaskManager, never()).add(any(MLTask.class));
+    }
+
+    public void testExecuteTask_OnLocalNode_EvictedBeforeAcquire() {
+        setupMocks(true, false, false, false);
+        Predictable predictor = mock(Predictable.class);
+        when(predictor.isModelReady()).thenReturn(true);
+        when(predictor.predict(any(MLInput.class))).thenReturn(ModelTensorOutput.builder().mlModelOutputs(ImmutableList.of()).build());
+        mockDeployedModel(predictor);
+        // the model is evicted after executeTask checked it, acquiring it fails until it's deployed again
+        when(mlModelManager.isModelEvicted("111")).thenReturn(false, true);
+        when(mlModelManager.acquireModel("111")).thenReturn(null, () -> {});
+        doAnswer(invocation -> {
+            ActionListener<String> redeployListener = invocation.getArgument(1);
+            redeployListener.onResponse("successful");
+            return null;
+        }).when(mlModelManager).redeployEvictedModel(eq("111"), any());
+
+        taskRunner.dispatchTask(FunctionName.BATCH_RCF, requestWithDataFrame, transportService, listener);
+        verify(mlModelManager).redeployEvictedModel(eq("111"), any());
+        verify(mlModelManager, times(2)).acquireModel("111");
+        verify(mlTaskManager).add(any(MLTask.class));
+        verify(listener).onResponse(any(MLTaskResponse.class));
+        verify(listener, never()).onFailure(any());
+    }
+
+    public void testExecuteTask_OnLocalNode_EvictedBeforeAcquire_RetriedOnce() {
+        setupMocks(true, false, false, false);
+        Predictable predictor = mock(Predictable.class);
+        when(predictor.isModelReady()).thenReturn(true);
+        mockDeployedModel(predictor);
+        when(mlModelManager.isModelEvicted("111")).thenReturn(false, true);
+        when(mlModelManager.acquireModel("111")).thenReturn(null);
+        doAnswer(invocation -> {
+            ActionListener<String> redeployListener = invocation.getArgument(1);
+            redeployListener.onResponse("successful");
+            return null;
+        }).when(mlModelManager).redeployEvictedModel(eq("111"), any());
+
+        taskRunner.dispatchTask(FunctionName.BATCH_RCF, requestWithDataFrame, transportService, listener);
+        verify(mlModelManager).redeployEvictedModel(eq("111"), any());
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(argumentCaptor.capture());
+        assertEquals("Model not ready: 111", argumentCaptor.getValue().getMessage());
+    }
+
+    public void testExecuteTask_OnLocalNode_DeployedModel_Profile() {
+        setupMocks(true, false, false, false);
+        Predictable predictor = mock(Predictable.class);
+        when(predictor.isModelReady()).thenReturn(true);
+        when(predictor.predict(any(MLInput.class))).thenReturn(ModelTensorOutput.builder().mlModelOutputs(ImmutableList.of()).build());
+        mockDeployedModel(predictor);
+
+        taskRunner.dispatchTask(FunctionName.BATCH_RCF, requestWithDataFrame, transportService, listener);
+        ArgumentCaptor<MLTaskResponse> argumentCaptor = ArgumentCaptor.forClass(MLTaskResponse.class);
+        verify(listener).onResponse(argumentCaptor.capture());
+        MLPredictProfile profile = argumentCaptor.getValue().getProfile();
+        assertNotNull(profile);
+        assertTrue(profile.getStages().containsKey(MLPredictStage.QUEUE));
+        assertTrue(profile.getStages().containsKey(MLPredictStage.FORWARD));
+        assertTrue(profile.getTimeInNanos() > 0);
+        verify(mlModelManager).addPredictStageDurations(eq("111"), any());
+        verify(client, never()).get(any(), any());
+    }
+
+    public void testExecuteTask_OnLocalNode_DeployedModel_Metrics() {
+        setupMocks(true, false, false, false);
+        Predictable predictor = mock(Predictable.class);
+        when(predictor.isModelReady()).thenReturn(true);
+        ModelTensors tensors = ModelTensors.builder().mlModelTensors(ImmutableList.of()).build();
+        tensors.setStatusCode(200);
+        ModelTensorOutput output = ModelTensorOutput.builder().mlModelOutputs(ImmutableList.of(tensors)).build();
+        when(predictor.predict(any(MLInput.class))).thenReturn(output);
+        mockDeployedModel(predictor);
+
+        taskRunner.dispatchTask(FunctionName.BATCH_RCF, requestWithDataFrame, transportService, listener);
+        verify(listener).onResponse(any(MLTaskResponse.class));
+        assertEquals(1, mlMetrics.getPredictLatency().getSeries().size());
+        MLHistogram.Series latency = mlMetrics.getPredictLatency().getSeries().iterator().next();
+        assertEquals("111", latency.getLabelValues().get(0));
+        assertEquals(1, latency.getCount());
+        assertEquals(1, mlMetrics.getRemoteHttpResponses().labels("111", "200").get());
+    }
+
+    public void testExecuteTask_OnLocalNode_DeployedModel_PredictCounters() {
+        setupMocks(true, false, false, false);
+        Predictable predictor = mock(Predictable.class);
+        when(predictor.isModelReady()).thenReturn(true);
+        when(predictor.predict(any(MLInput.class))).thenReturn(ModelTensorOutput.builder().mlModelOutputs(ImmutableList.of()).build());
+        mockDeployedModel(predictor);
+
+        taskRunner.dispatchTask(FunctionName.BATCH_RCF, requestWithDataFrame, transportService, listener);
+        taskRunner.dispatchTask(FunctionName.BATCH_RCF, requestWithDataFrame, transportService, listener);
+        MLActionStats algoStats = mlStats.getAlgorithmStats(FunctionName.BATCH_RCF).get(ActionName.PREDICT);
+        assertEquals(2L, algoStats.getActionStat(MLActionLevelStat.ML_ACTION_REQUEST_COUNT));
+        assertNull(algoStats.getActionStat(MLActionLevelStat.ML_ACTION_FAILURE_COUNT));
+        // the model has no counter handles in the model cache, only the recorded model stats are created
+        MLActionStats modelStats = mlStats.getModelStats("111").get(ActionName.PREDICT);
+        assertEquals(2L, modelStats.getActionStat(MLActionLevelStat.ML_ACTION_REQUEST_COUNT));
+        assertNull(modelStats.getActionStat(MLActionLevelStat.ML_ACTION_FAILURE_COUNT));
+    }
+
+    public void testExecuteTask_OnLocalNode_DeployedModel_RemoteServiceError() {
+        setupMocks(true, false, false, false);
+        Predictable predictor = mock(Predictable.class);
+        when(predictor.isModelReady()).thenReturn(true);
+        when(predictor.predict(any(MLInput.class)))
+            .thenThrow(new OpenSearchStatusException(REMOTE_SERVICE_ERROR + "rate limited", RestStatus.TOO_MANY_REQUESTS));
+        mockDeployedModel(predictor);
+
+        taskRunner.dispatchTask(FunctionName.BATCH_RCF, requestWithDataFrame, transportService, listener);
+        verify(listener).onFailure(any(OpenSearchStatusException.class));
+        assertEquals(1, mlMetrics.getRemoteHttpResponses().labels("111", "429").get());
+        assertTrue(mlMetrics.getPredictLatency().getSeries().isEmpty());
+        ArgumentCaptor<MLPredictSlowLogEntry> entryCaptor = ArgumentCaptor.forClass(MLPredictSlowLogEntry.class);
+        verify(slowLog).log(entryCaptor.capture());
+        assertTrue(entryCaptor.getValue().getFailure() instanceof OpenSearchStatusException);
+        assertTrue(entryCaptor.getValue().getProfile().getTimeInNanos() > 0);
+    }
+
+    public void testExecuteTask_OnLocalNode_DeployedModel_SlowLog() {
+        setupMocks(true, false, false, false);
+        Predictable predictor = mock(Predictable.class);
+        when(predictor.isModelReady()).thenReturn(true);
+        ModelTensorOutput output = ModelTensorOutput.builder().mlModelOutputs(ImmutableList.of()).build();
+        when(predictor.predict(any(MLInput.class))).thenReturn(output);
+        mockDeployedModel(predictor);
+
+        taskRunner.dispatchTask(FunctionName.BATCH_RCF, requestWithDataFrame, transportService, listener);
+        ArgumentCaptor<MLPredictSlowLogEntry> entryCaptor = ArgumentCaptor.forClass(MLPredictSlowLogEntry.class);
+        verify(slowLog).log(entryCaptor.capture());
+        MLPredictSlowLogEntry entry = entryCaptor.getValue();
+        assertEquals("111", entry.getModelId());
+        assertEquals(MLPredictSlowLogEntry.DispatchPath.LOCAL, entry.getDispatchPath());
+        assertSame(output, entry.getOutput());
+        assertNull(entry.getFailure());
+    }
+
+    private void mockDeployedModel(Predictable predictor) {
+        when(mlModelManager.getPredictor("111")).thenReturn(predictor);
+        when(mlModelManager.acquireModel("111")).thenReturn(() -> {});
+        when(mlModelManager.trackPredictDuration(eq("111"), any())).thenAnswer(invocation -> {
+            Supplier<?> supplier = invocation.getArgument(1);
+            return supplier.get();
+        });
+    }
+
+    public void testProfiledPredict() {
+        MLPredictProfile profile = new MLPredictProfile();
+        MLOutput expected = ModelTensorOutput.builder().mlModelOutputs(ImmutableList.of()).build();
+        MLOutput output = MLPredictTaskRunner.profiledPredict(profile, "111", true, () -> {
+            long startNanos = MLPredictStageTimer.start();
+            assertTrue(startNanos > 0);
+            MLPredictStageTimer.stop(MLPredictStage.TOKENIZE, startNanos);
+            return expected;
+        });
+        assertSame(expected, output);
+        assertTrue(profile.getStages().containsKey(MLPredictStage.TOKENIZE));
+        assertTrue(profile.getStages().containsKey(MLPredictStage.FORWARD));
+        // the profile is detached from the thread after predict
+        assertEquals(0, MLPredictStageTimer.start());
+    }
+
+    public void testProfiledPredict_Resources() {
+        MLPredictProfile profile = new MLPredictProfile();
+        long[][] allocated = new long[1][];
+        MLPredictTaskRunner.profiledPredict(profile, "111", false, () -> {
+            MLPredictStageTimer.addRemoteBytes(10, 20);
+            allocated[0] = new long[1 << 16];
+            return null;
+        });
+        assertEquals(1 << 16, allocated[0].length);
+        assertEquals(10, profile.getRemoteBytesSent());
+        assertEquals(20, profile.getRemoteBytesReceived());
+        if (MLResourceMeter.threadAllocatedBytes() >= 0) {
+            assertTrue(profile.getAllocatedBytes() >= 8 << 16);
+        }
+        if (MLResourceMeter.threadCpuTimeNanos() >= 0) {
+            assertTrue(profile.getCpuTimeInNanos() >= 0);
+        }
+        assertTrue(profile.hasResources());
+    }
+
+    public void testProfiledPredict_RemoteModel() {
+        MLPredictProfile profile = new MLPredictProfile();
+        expectThrows(IllegalArgumentException.class, () -> MLPredictTaskRunner.profiledPredict(profile, "111", false, () -> {
+            MLPredictStageTimer.stop(MLPredictStage.REMOTE_HTTP, MLPredictStageTimer.start());
+            throw new IllegalArgumentException("remote model error");
+        }));
+        assertTrue(profile.getStages().containsKey(MLPredictStage.REMOTE_HTTP));
+        assertFalse(profile.getStages().containsKey(MLPredictStage.FORWARD));
+        assertEquals(0, MLPredictStageTimer.start());
+    }
+
     public void testExecuteTask_OnLocalNode_QueryInput() {
         setupMocks(true, false, false, false);
 
@@ -269,6 +547,45 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
         verify(transportService).sendRequest(eq(remoteNode), eq(MLPredictionTaskAction.NAME), eq(requestWithDataFrame), any());
     }
 
+    public void testExecuteTask_OnLocalNode_Spans() {
+        Map<String, Span> spans = bindTracer();
+        setupMocks(true, false, false, false);
+        Predictable predictor = mock(Predictable.class);
+        when(predictor.isModelReady()).thenReturn(true);
+        when(predictor.predict(any(MLInput.class))).thenReturn(ModelTensorOutput.builder().mlModelOutputs(ImmutableList.of()).build());
+        mockDeployedModel(predictor);
+
+        taskRunner.dispatchTask(FunctionName.BATCH_RCF, requestWithDataFrame, transportService, listener);
+        verify(listener).onResponse(any());
+        assertEquals(Set.of(MLTracer.DISPATCH_SPAN, MLTracer.TASK_SPAN), spans.keySet());
+        verify(spans.get(MLTracer.DISPATCH_SPAN)).endSpan();
+        // the task span is the parent of the spans of the predict thread
+        verify(tracer).withSpanInScope(spans.get(MLTracer.TASK_SPAN));
+        verify(spans.get(MLTracer.TASK_SPAN)).endSpan();
+        verify(spans.get(MLTracer.TASK_SPAN), never()).setError(any());
+    }
+
+    public void testExecuteTask_OnRemoteNode_Spans() {
+        Map<String, Span> spans = bindTracer();
+        setupMocks(false, false, false, false);
+        TransportException exception = new TransportException("node disconnected");
+        doAnswer(invocation -> {
+            TransportResponseHandler<MLTaskResponse> handler = invocation.getArgument(3);
+            handler.handleException(exception);
+            return null;
+        }).when(transportService).sendRequest(eq(remoteNode), eq(MLPredictionTaskAction.NAME), eq(requestWithDataFrame), any());
+
+        taskRunner.dispatchTask(FunctionName.BATCH_RCF, requestWithDataFrame, transportService, listener);
+        verify(listener).onFailure(any());
+        assertEquals(Set.of(MLTracer.DISPATCH_SPAN, MLTracer.TRANSPORT_SPAN), spans.keySet());
+        verify(spans.get(MLTracer.DISPATCH_SPAN)).endSpan();
+        // the request is sent with the transport span in scope, so the spans of the worker node are its children
+        Span transportSpan = spans.get(MLTracer.TRANSPORT_SPAN);
+        verify(tracer).withSpanInScope(transportSpan);
+        verify(transportSpan).setError(any());
+        verify(transportSpan).endSpan();
+    }
+
     public void testExecuteTask_OnLocalNode_GetModelFail() {
         setupMocks(true, false, true, false);
 
@@ -308,6 +625,25 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
         assertEquals("No model found, please check the modelId.", argumentCaptor.getValue().getMessage());
     }
 
+    /**
+     * Bind the tracer of the runner to a mock telemetry tracer.
+     *
+     * @return spans started by the runner, by name
+     */
+    private Map<String, Span> bindTracer() {
+        Map<String, Span> spans = new HashMap<>();
+        tracer = mock(Tracer.class);
+        when(tracer.startSpan(any(SpanCreationContext.class))).thenAnswer(invocation -> {
+            SpanCreationContext context = invocation.getArgument(0);
+            Span span = mock(Span.class);
+            spans.put(context.getSpanName(), span);
+            return span;
+        });
+        when(tracer.withSpanInScope(any())).thenReturn(mock(SpanScope.class));
+        mlTracer.bind(tracer, threadContext);
+        return spans;
+    }
+
     private void setupMocks(boolean runOnLocalNode, boolean failedToParseQueryInput, boolean failedToGetModel, boolean nullGetResponse) {
         doAnswer(invocation -> {
             ActionListener<DiscoveryNode> actionListener = invocation.getArgument(1);
@@ -15,22 +15,34 @@ import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_TASK_UPDATE_BUFFER_ENABLED;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_TASK_UPDATE_BUFFER_FLUSH_INTERVAL_IN_MILLIS;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_TASK_UPDATE_BUFFER_MAX_BATCH_SIZE;
+import static org.opensearch.ml.utils.TestHelper.clusterSetting;
 
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
 
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.rules.ExpectedException;
 import org.mockito.ArgumentCaptor;
+import org.opensearch.action.DocWriteRequest;
 import org.opensearch.action.DocWriteResponse;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.support.WriteRequest;
 import org.opensearch.action.update.UpdateRequest;
 import org.opensearch.action.update.UpdateResponse;
 import org.opensearch.client.Client;
+import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.core.action.ActionListener;
@@ -329,4 +341,102 @@ public class MLTaskManagerTests extends OpenSearchTestCase {
         mlTaskManager.addNodeError(task.getTaskId(), node2, error);
         assertTrue(mlTaskCache.allNodeFailed());
     }
+
+    public void testUpdateMLTask_Buffered() {
+        MLTaskManager bufferedTaskManager = new MLTaskManager(client, threadPool, mlIndicesHandler, createTaskUpdateBuffer());
+        MLTask asyncMlTask = mlTask.toBuilder().async(true).build();
+        bufferedTaskManager.add(asyncMlTask);
+        mockBulkSuccess();
+
+        ActionListener<UpdateResponse> bufferedListener = mock(ActionListener.class);
+        bufferedTaskManager.updateMLTask(asyncMlTask.getTaskId(), ImmutableMap.of(MLTask.ERROR_FIELD, "error"), bufferedListener, 0, false);
+        verify(client, never()).update(any(), any());
+        verify(client, never()).bulk(any(), any());
+
+        // the direct update is merged with the pending buffered update, so the stale update is never flushed after it
+        ActionListener<UpdateResponse> directListener = mock(ActionListener.class);
+        bufferedTaskManager
+            .updateMLTaskDirectly(asyncMlTask.getTaskId(), ImmutableMap.of(MLTask.STATE_FIELD, MLTaskState.COMPLETED), directListener);
+        verify(client, never()).update(any(), any());
+        ArgumentCaptor<BulkRequest> captor = ArgumentCaptor.forClass(BulkRequest.class);
+        verify(client, times(1)).bulk(captor.capture(), any());
+        assertEquals(1, captor.getValue().numberOfActions());
+        assertEquals(WriteRequest.RefreshPolicy.IMMEDIATE, captor.getValue().getRefreshPolicy());
+        Map<String, Object> doc = ((UpdateRequest) captor.getValue().requests().get(0)).doc().sourceAsMap();
+        assertEquals("error", doc.get(MLTask.ERROR_FIELD));
+        assertEquals(MLTaskState.COMPLETED.name(), doc.get(MLTask.STATE_FIELD));
+        verify(bufferedListener, times(1)).onResponse(any());
+        verify(directListener, times(1)).onResponse(any());
+        assertEquals(1, bufferedTaskManager.getMLTaskCache(asyncMlTask.getTaskId()).getUpdateTaskIndexSemaphore().availablePermits());
+    }
+
+    public void testUpdateMLTask_BufferedWaitsForSemaphore() {
+        MLTaskUpdateBuffer taskUpdateBuffer = createTaskUpdateBuffer();
+        MLTaskManager bufferedTaskManager = new MLTaskManager(client, threadPool, mlIndicesHandler, taskUpdateBuffer);
+        MLTask asyncMlTask = mlTask.toBuilder().async(true).build();
+        bufferedTaskManager.add(asyncMlTask);
+        mockBulkSuccess();
+        Semaphore semaphore = bufferedTaskManager.getMLTaskCache(asyncMlTask.getTaskId()).getUpdateTaskIndexSemaphore();
+        assertTrue(semaphore.tryAcquire());
+
+        ActionListener<UpdateResponse> listener = mock(ActionListener.class);
+        bufferedTaskManager
+            .updateMLTask(asyncMlTask.getTaskId(), ImmutableMap.of(MLTask.ERROR_FIELD, "error"), listener, 60_000, false, true);
+        verify(client, never()).bulk(any(), any());
+        assertEquals(1, taskUpdateBuffer.getPendingTaskCount());
+        verify(threadPool, times(1)).schedule(any(Runnable.class), any(), anyString());
+
+        semaphore.release();
+        taskUpdateBuffer.flush();
+        verify(client, times(1)).bulk(any(), any());
+        verify(listener, times(1)).onResponse(any());
+        assertEquals(1, semaphore.availablePermits());
+    }
+
+    public void testUpdateMLTask_BufferedSemaphoreTimeout() {
+        MLTaskUpdateBuffer taskUpdateBuffer = createTaskUpdateBuffer();
+        MLTaskManager bufferedTaskManager = new MLTaskManager(client, threadPool, mlIndicesHandler, taskUpdateBuffer);
+        MLTask asyncMlTask = mlTask.toBuilder().async(true).build();
+        bufferedTaskManager.add(asyncMlTask);
+        assertTrue(bufferedTaskManager.getMLTaskCache(asyncMlTask.getTaskId()).getUpdateTaskIndexSemaphore().tryAcquire());
+
+        ActionListener<UpdateResponse> listener = mock(ActionListener.class);
+        bufferedTaskManager.updateMLTask(asyncMlTask.getTaskId(), ImmutableMap.of(MLTask.ERROR_FIELD, "error"), listener, 0, false, true);
+        verify(client, never()).bulk(any(), any());
+        ArgumentCaptor<Exception> captor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener, times(1)).onFailure(captor.capture());
+        assertEquals("Other updating request not finished yet", captor.getValue().getMessage());
+        assertEquals(0, taskUpdateBuffer.getPendingTaskCount());
+    }
+
+    private MLTaskUpdateBuffer createTaskUpdateBuffer() {
+        Settings settings = Settings.builder().put(ML_COMMONS_TASK_UPDATE_BUFFER_ENABLED.getKey(), true).build();
+        ClusterService clusterService = mock(ClusterService.class);
+        when(clusterService.getClusterSettings())
+            .thenReturn(
+                clusterSetting(
+                    settings,
+                    ML_COMMONS_TASK_UPDATE_BUFFER_ENABLED,
+                    ML_COMMONS_TASK_UPDATE_BUFFER_FLUSH_INTERVAL_IN_MILLIS,
+                    ML_COMMONS_TASK_UPDATE_BUFFER_MAX_BATCH_SIZE
+                )
+            );
+        return new MLTaskUpdateBuffer(client, threadPool, clusterService, settings);
+    }
+
+    private void mockBulkSuccess() {
+        doAnswer(invocation -> {
+            BulkRequest bulkRequest = invocation.getArgument(0);
+            ActionListener<BulkResponse> listener = invocation.getArgument(1);
+            BulkItemResponse[] items = new BulkItemResponse[bulkRequest.numberOfActions()];
+            ShardId shardId = new ShardId(new Index(".plugins-ml-task", "uuid"), 0);
+            for (int i = 0; i < items.length; i++) {
+                String id = bulkRequest.requests().get(i).id();
+                UpdateResponse updateResponse = new UpdateResponse(shardId, id, 1, 1, 1, DocWriteResponse.Result.UPDATED);
+                items[i] = new BulkItemResponse(i, DocWriteRequest.OpType.UPDATE, updateResponse);
+            }
+            listener.onResponse(new BulkResponse(items, 1));
+            return null;
+        }).when(client).bulk(any(), any());
+    }
 }
@@ -0,0 +1,193 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.task;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_TASK_UPDATE_BUFFER_ENABLED;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_TASK_UPDATE_BUFFER_FLUSH_INTERVAL_IN_MILLIS;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_TASK_UPDATE_BUFFER_MAX_BATCH_SIZE;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+
+import org.junit.Before;
+import org.mockito.ArgumentCaptor;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.DocWriteResponse;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.support.WriteRequest;
+import org.opensearch.action.update.UpdateRequest;
+import org.opensearch.action.update.UpdateResponse;
+import org.opensearch.client.Client;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.index.Index;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.ml.common.MLTask;
+import org.opensearch.ml.common.MLTaskState;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+
+import com.google.common.collect.ImmutableMap;
+
+public class MLTaskUpdateBufferTests extends OpenSearchTestCase {
+    Client client;
+    ThreadPool threadPool;
+    ClusterService clusterService;
+    ExecutorService executorService;
+    MLTaskUpdateBuffer taskUpdateBuffer;
+
+    @Before
+    public void setup() {
+        client = mock(Client.class);
+        threadPool = mock(ThreadPool.class);
+        clusterService = mock(ClusterService.class);
+        executorService = mock(ExecutorService.class);
+        Settings settings = Settings.builder().put(ML_COMMONS_TASK_UPDATE_BUFFER_MAX_BATCH_SIZE.getKey(), 3).build();
+        ClusterSettings clusterSettings = new ClusterSettings(
+            settings,
+            new HashSet<>(
+                Arrays
+                    .asList(
+                        ML_COMMONS_TASK_UPDATE_BUFFER_ENABLED,
+                        ML_COMMONS_TASK_UPDATE_BUFFER_FLUSH_INTERVAL_IN_MILLIS,
+                        ML_COMMONS_TASK_UPDATE_BUFFER_MAX_BATCH_SIZE
+                    )
+            )
+        );
+        when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
+        when(client.threadPool()).thenReturn(threadPool);
+        when(threadPool.getThreadContext()).thenReturn(new ThreadContext(settings));
+        when(threadPool.executor(anyString())).thenReturn(executorService);
+        doAnswer(invocation -> {
+            Runnable runnable = invocation.getArgument(0);
+            runnable.run();
+            return null;
+        }).when(executorService).execute(any(Runnable.class));
+        taskUpdateBuffer = new MLTaskUpdateBuffer(client, threadPool, clusterService, settings);
+    }
+
+    public void testAdd_CoalesceUpdatesOfSameTask() {
+        mockBulkSuccess();
+        ActionListener<UpdateResponse> listener1 = mock(ActionListener.class);
+        ActionListener<UpdateResponse> listener2 = mock(ActionListener.class);
+        taskUpdateBuffer.add("task1", ImmutableMap.of(MLTask.STATE_FIELD, MLTaskState.RUNNING), listener1, false);
+        taskUpdateBuffer.add("task1", ImmutableMap.of(MLTask.ERROR_FIELD, "error"), listener2, false);
+        assertEquals(1, taskUpdateBuffer.getPendingTaskCount());
+        verify(client, never()).bulk(any(), any());
+        verify(threadPool, times(1)).schedule(any(Runnable.class), any(), anyString());
+
+        taskUpdateBuffer.flush();
+        ArgumentCaptor<BulkRequest> captor = ArgumentCaptor.forClass(BulkRequest.class);
+        verify(client, times(1)).bulk(captor.capture(), any());
+        BulkRequest bulkRequest = captor.getValue();
+        assertEquals(1, bulkRequest.numberOfActions());
+        assertEquals(WriteRequest.RefreshPolicy.NONE, bulkRequest.getRefreshPolicy());
+        Map<String, Object> doc = ((UpdateRequest) bulkRequest.requests().get(0)).doc().sourceAsMap();
+        assertEquals(MLTaskState.RUNNING.name(), doc.get(MLTask.STATE_FIELD));
+        assertEquals("error", doc.get(MLTask.ERROR_FIELD));
+        assertTrue(doc.containsKey(MLTask.LAST_UPDATE_TIME_FIELD));
+        verify(listener1, times(1)).onResponse(any());
+        verify(listener2, times(1)).onResponse(any());
+        assertEquals(0, taskUpdateBuffer.getPendingTaskCount());
+    }
+
+    public void testAdd_RefreshFlushesImmediately() {
+        mockBulkSuccess();
+        ActionListener<UpdateResponse> listener = mock(ActionListener.class);
+        taskUpdateBuffer.add("task1", ImmutableMap.of(MLTask.PROGRESS_FIELD, 0.5f), null, false);
+        taskUpdateBuffer.add("task2", ImmutableMap.of(MLTask.STATE_FIELD, MLTaskState.COMPLETED), listener, true);
+
+        ArgumentCaptor<BulkRequest> captor = ArgumentCaptor.forClass(BulkRequest.class);
+        verify(client, times(1)).bulk(captor.capture(), any());
+        assertEquals(2, captor.getValue().numberOfActions());
+        assertEquals(WriteRequest.RefreshPolicy.IMMEDIATE, captor.getValue().getRefreshPolicy());
+        verify(listener, times(1)).onResponse(any());
+    }
+
+    public void testAdd_MaxBatchSizeFlushesImmediately() {
+        mockBulkSuccess();
+        taskUpdateBuffer.add("task1", ImmutableMap.of(MLTask.ERROR_FIELD, "error"), null, false);
+        taskUpdateBuffer.add("task2", ImmutableMap.of(MLTask.ERROR_FIELD, "error"), null, false);
+        verify(client, never()).bulk(any(), any());
+        taskUpdateBuffer.add("task3", ImmutableMap.of(MLTask.ERROR_FIELD, "error"), null, false);
+        verify(client, times(1)).bulk(any(), any());
+    }
+
+    public void testFlush_ItemFailure() {
+        doAnswer(invocation -> {
+            BulkRequest bulkRequest = invocation.getArgument(0);
+            ActionListener<BulkResponse> listener = invocation.getArgument(1);
+            BulkItemResponse[] items = new BulkItemResponse[bulkRequest.numberOfActions()];
+            for (int i = 0; i < items.length; i++) {
+                String id = bulkRequest.requests().get(i).id();
+                items[i] = new BulkItemResponse(
+                    i,
+                    DocWriteRequest.OpType.UPDATE,
+                    new BulkItemResponse.Failure(".plugins-ml-task", id, new RuntimeException("update failed"))
+                );
+            }
+            listener.onResponse(new BulkResponse(items, 1));
+            return null;
+        }).when(client).bulk(any(), any());
+
+        ActionListener<UpdateResponse> listener = mock(ActionListener.class);
+        taskUpdateBuffer.add("task1", ImmutableMap.of(MLTask.ERROR_FIELD, "error"), listener, true);
+        ArgumentCaptor<Exception> captor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener, times(1)).onFailure(captor.capture());
+        assertEquals("update failed", captor.getValue().getMessage());
+    }
+
+    public void testFlush_BulkFailure() {
+        doAnswer(invocation -> {
+            ActionListener<BulkResponse> listener = invocation.getArgument(1);
+            listener.onFailure(new RuntimeException("bulk failed"));
+            return null;
+        }).when(client).bulk(any(), any());
+
+        ActionListener<UpdateResponse> listener1 = mock(ActionListener.class);
+        ActionListener<UpdateResponse> listener2 = mock(ActionListener.class);
+        taskUpdateBuffer.add("task1", ImmutableMap.of(MLTask.ERROR_FIELD, "error"), listener1, false);
+        taskUpdateBuffer.add("task2", ImmutableMap.of(MLTask.ERROR_FIELD, "error"), listener2, true);
+        verify(listener1, times(1)).onFailure(any());
+        verify(listener2, times(1)).onFailure(any());
+    }
+
+    public void testFlush_Empty() {
+        taskUpdateBuffer.flush();
+        verify(client, never()).bulk(any(), any());
+    }
+
+    private void mockBulkSuccess() {
+        doAnswer(invocation -> {
+            BulkRequest bulkRequest = invocation.getArgument(0);
+            ActionListener<BulkResponse> listener = invocation.getArgument(1);
+            BulkItemResponse[] items = new BulkItemResponse[bulkRequest.numberOfActions()];
+            ShardId shardId = new ShardId(new Index(".plugins-ml-task", "uuid"), 0);
+            for (int i = 0; i < items.length; i++) {
+                String id = bulkRequest.requests().get(i).id();
+                UpdateResponse updateResponse = new UpdateResponse(shardId, id, 1, 1, 1, DocWriteResponse.Result.UPDATED);
+                items[i] = new BulkItemResponse(i, DocWriteRequest.OpType.UPDATE, updateResponse);
+            }
+            listener.onResponse(new BulkResponse(items, 1));
+            return null;
+        }).when(client).bulk(any(), any());
+    }
+}
@@ -6,6 +6,8 @@
 package org.opensearch.ml.utils;
 
 import static java.util.Collections.emptyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 import static org.opensearch.ml.utils.TestHelper.ML_ROLE;
 
 import java.io.IOException;
@@ -16,12 +18,15 @@ import org.junit.Assert;
 import org.opensearch.Version;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.node.DiscoveryNodeRole;
+import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.MLTask;
 import org.opensearch.test.OpenSearchTestCase;
 
@@ -49,4 +54,18 @@ public class MLNodeUtilsTests extends OpenSearchTestCase {
         MLTask parsedMLTask = MLTask.parse(xContentParser);
         assertEquals(mlTask, parsedMLTask);
     }
+
+    public void testCreateModelChunkSource() throws IOException {
+        ClusterService clusterService = mock(ClusterService.class);
+        when(clusterService.state()).thenReturn(TestHelper.setupTestClusterState());
+        MLModel chunk = MLModel.builder().modelId("modelId").algorithm(FunctionName.TEXT_EMBEDDING).chunkNumber(0).totalChunks(1).build();
+        byte[] content = new byte[] { 1, 2, 3, 4 };
+        BytesReference source = BytesReference.bytes(MLNodeUtils.createModelChunkSource(chunk, content, clusterService));
+
+        XContentParser parser = MLNodeUtils.createXContentParserFromRegistry(NamedXContentRegistry.EMPTY, source);
+        parser.nextToken();
+        MLModel parsedChunk = MLModel.parse(parser, FunctionName.TEXT_EMBEDDING.name());
+        assertNull(parsedChunk.getContent());
+        assertArrayEquals(content, parsedChunk.getChunkContent());
+    }
 }
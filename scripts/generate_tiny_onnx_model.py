@@ -0,0 +1,134 @@
+#!/usr/bin/env python3
+#
+# Copyright OpenSearch Contributors
+# SPDX-License-Identifier: Apache-2.0
+#
+# Generates the tiny ONNX text embedding model used by the predict load tests. The model looks up a random embedding of
+# every token of a small word level vocabulary and masks padding, so it exercises the tokenizer, the ONNX runtime and
+# the pooling of the ONNX text embedding translator at a negligible compute cost. The ONNX protobuf is encoded by hand
+# so the script only needs the python standard library.
+#
+#   python3 scripts/generate_tiny_onnx_model.py plugin/src/test/resources/org/opensearch/ml/loadtest/tiny_onnx_embedding.zip
+
+import hashlib
+import json
+import random
+import struct
+import sys
+import zipfile
+
+DIMENSIONS = 16
+WORDS = (
+    "the quick brown fox jumps over lazy dog a an and or of to in on at for with by from is are was were be been "
+    "this that it as not but what all any can will one two three doc text model search index query vector embedding "
+    "open source machine learning data node cluster"
+).split()
+VOCAB = ["[PAD]", "[UNK]"] + WORDS
+
+# protobuf wire format
+
+
+def varint(value):
+    out = bytearray()
+    while True:
+        bits = value & 0x7F
+        value >>= 7
+        if value:
+            out.append(bits | 0x80)
+        else:
+            out.append(bits)
+            return bytes(out)
+
+
+def field_varint(number, value):
+    return varint(number << 3) + varint(value)
+
+
+def field_bytes(number, value):
+    if isinstance(value, str):
+        value = value.encode("utf-8")
+    return varint((number << 3) | 2) + varint(len(value)) + value
+
+
+# onnx messages
+
+FLOAT = 1
+INT64 = 7
+ATTRIBUTE_INT = 2
+
+
+def tensor(name, data_type, dims, raw):
+    message = b"".join(field_varint(1, d) for d in dims)
+    return message + field_varint(2, data_type) + field_bytes(8, name) + field_bytes(9, raw)
+
+
+def dimension(value):
+    return field_varint(1, value) if isinstance(value, int) else field_bytes(2, value)
+
+
+def value_info(name, elem_type, dims):
+    shape = b"".join(field_bytes(1, dimension(d)) for d in dims)
+    tensor_type = field_varint(1, elem_type) + field_bytes(2, shape)
+    return field_bytes(1, name) + field_bytes(2, field_bytes(1, tensor_type))
+
+
+def node(op_type, inputs, outputs, name, attributes=b""):
+    message = b"".join(field_bytes(1, i) for i in inputs) + b"".join(field_bytes(2, o) for o in outputs)
+    return message + field_bytes(3, name) + field_bytes(4, op_type) + attributes
+
+
+def int_attribute(name, value):
+    return field_bytes(5, field_bytes(1, name) + field_varint(3, value) + field_varint(20, ATTRIBUTE_INT))
+
+
+def model():
+    rng = random.Random(42)
+    weights = [rng.uniform(-1, 1) for _ in range(len(VOCAB) * DIMENSIONS)]
+    graph = b"".join(
+        [
+            field_bytes(1, node("Gather", ["embeddings", "input_ids"], ["token_embeddings"], "gather")),
+            field_bytes(1, node("Cast", ["attention_mask"], ["mask_float"], "cast", int_attribute("to", FLOAT))),
+            field_bytes(1, node("Unsqueeze", ["mask_float", "unsqueeze_axes"], ["mask"], "unsqueeze")),
+            field_bytes(1, node("Mul", ["token_embeddings", "mask"], ["last_hidden_state"], "mul")),
+            field_bytes(2, "tiny_embedding"),
+            field_bytes(5, tensor("embeddings", FLOAT, [len(VOCAB), DIMENSIONS], struct.pack("<%df" % len(weights), *weights))),
+            field_bytes(5, tensor("unsqueeze_axes", INT64, [1], struct.pack("<q", 2))),
+            field_bytes(11, value_info("input_ids", INT64, ["batch", "sequence"])),
+            field_bytes(11, value_info("attention_mask", INT64, ["batch", "sequence"])),
+            field_bytes(12, value_info("last_hidden_state", FLOAT, ["batch", "sequence", DIMENSIONS])),
+        ]
+    )
+    opset = field_bytes(1, "") + field_varint(2, 13)
+    return field_varint(1, 7) + field_bytes(2, "opensearch-ml-loadtest") + field_bytes(7, graph) + field_bytes(8, opset)
+
+
+def tokenizer():
+    special = lambda i, token: {
+        "id": i, "content": token, "single_word": False, "lstrip": False, "rstrip": False, "normalized": False, "special": True
+    }
+    return {
+        "version": "1.0",
+        "truncation": {"direction": "Right", "max_length": 128, "strategy": "LongestFirst", "stride": 0},
+        "padding": None,
+        "added_tokens": [special(0, "[PAD]"), special(1, "[UNK]")],
+        "normalizer": {"type": "Lowercase"},
+        "pre_tokenizer": {"type": "Whitespace"},
+        "post_processor": None,
+        "decoder": None,
+        "model": {"type": "WordLevel", "vocab": {token: i for i, token in enumerate(VOCAB)}, "unk_token": "[UNK]"},
+    }
+
+
+def main(path):
+    with zipfile.ZipFile(path, "w", zipfile.ZIP_DEFLATED) as archive:
+        for name, content in (("tiny_embedding.onnx", model()), ("tokenizer.json", json.dumps(tokenizer(), indent=2))):
+            info = zipfile.ZipInfo(name, date_time=(2024, 1, 1, 0, 0, 0))
+            info.compress_type = zipfile.ZIP_DEFLATED
+            archive.writestr(info, content)
+    with open(path, "rb") as f:
+        content = f.read()
+    print("%s size=%d sha256=%s" % (path, len(content), hashlib.sha256(content).hexdigest()))
+
+
+if __name__ == "__main__":
+    main(sys.argv[1])